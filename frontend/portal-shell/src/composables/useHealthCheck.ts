@@ -1,8 +1,9 @@
 // portal-shell/src/composables/useHealthCheck.ts
-// Health check polling composable
+// Health check composable — subscribes to the gateway's SSE stream, falls back to polling
 
 import { ref, onMounted, onUnmounted, computed } from 'vue';
 import { useServiceStatusStore } from '../store/serviceStatus';
+import type { ServiceHealthResponse } from '../store/serviceStatus';
 
 export interface UseHealthCheckOptions {
   autoStart?: boolean;
@@ -14,6 +15,7 @@ export function useHealthCheck(options: UseHealthCheckOptions = {}) {
 
   const store = useServiceStatusStore();
   const intervalId = ref<number | null>(null);
+  let eventSource: EventSource | null = null;
   const isLoading = ref(false);
 
   // Computed from store
@@ -34,12 +36,10 @@ export function useHealthCheck(options: UseHealthCheckOptions = {}) {
     }
   }
 
-  // Start polling
-  function startPolling() {
+  // Start polling (interval fallback when SSE is unavailable)
+  function startIntervalPolling() {
     if (intervalId.value !== null) return;
 
-    store.startPolling();
-
     // Initial check
     refresh();
 
@@ -51,9 +51,47 @@ export function useHealthCheck(options: UseHealthCheckOptions = {}) {
     }, pollInterval);
   }
 
-  // Stop polling
+  // Subscribe to gateway snapshots; the gateway pushes only when a service changes
+  function startStream(): boolean {
+    if (typeof EventSource === 'undefined') return false;
+
+    const baseUrl = import.meta.env.VITE_API_BASE_URL || '';
+    eventSource = new EventSource(`${baseUrl}/api/health/services/stream`);
+    eventSource.addEventListener('health', (event) => {
+      store.applySnapshot(JSON.parse((event as MessageEvent).data) as ServiceHealthResponse);
+    });
+    eventSource.onerror = () => {
+      // On disconnect, close the stream and fall back to polling
+      closeStream();
+      if (store.isPolling) {
+        startIntervalPolling();
+      }
+    };
+    return true;
+  }
+
+  function closeStream() {
+    if (eventSource !== null) {
+      eventSource.close();
+      eventSource = null;
+    }
+  }
+
+  // Start receiving updates
+  function startPolling() {
+    if (intervalId.value !== null || eventSource !== null) return;
+
+    store.startPolling();
+
+    if (!startStream()) {
+      startIntervalPolling();
+    }
+  }
+
+  // Stop receiving updates
   function stopPolling() {
     store.stopPolling();
+    closeStream();
 
     if (intervalId.value !== null) {
       clearInterval(intervalId.value);
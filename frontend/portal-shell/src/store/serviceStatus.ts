@@ -1,5 +1,5 @@
 // portal-shell/src/store/serviceStatus.ts
-// Service health status store — fetches from /api/health/services
+// Service health status store — streams /api/health/services/stream (SSE), falls back to polling /api/health/services
 
 import { defineStore } from 'pinia';
 
@@ -24,6 +24,21 @@ export interface ServiceHealth {
   pods?: PodInfo[];
 }
 
+export interface ServiceHealthResponse {
+  overallStatus: ServiceStatus;
+  timestamp: string;
+  services: Array<{
+    name: string;
+    displayName: string;
+    status: ServiceStatus;
+    responseTime?: number;
+    replicas?: number | null;
+    readyReplicas?: number | null;
+    pods?: PodInfo[] | null;
+    checkedAt?: string | null;
+  }>;
+}
+
 export interface ServiceStatusState {
   services: Record<string, ServiceHealth>;
   isPolling: boolean;
@@ -84,24 +99,7 @@ export const useServiceStatusStore = defineStore('serviceStatus', {
           return;
         }
 
-        const data = await response.json();
-        const now = new Date();
-
-        const updatedServices: Record<string, ServiceHealth> = {};
-        for (const svc of data.services ?? []) {
-          updatedServices[svc.name] = {
-            name: svc.name,
-            displayName: svc.displayName,
-            status: (svc.status as ServiceStatus) ?? 'unknown',
-            responseTime: svc.responseTime,
-            lastChecked: now,
-            replicas: svc.replicas ?? undefined,
-            readyReplicas: svc.readyReplicas ?? undefined,
-            pods: svc.pods ?? undefined,
-          };
-        }
-
-        this.services = updatedServices;
+        this.applySnapshot(await response.json());
       } catch (error) {
         const msg = error instanceof Error
           ? (error.name === 'AbortError' ? 'Timeout' : error.message)
@@ -112,6 +110,28 @@ export const useServiceStatusStore = defineStore('serviceStatus', {
       this.lastGlobalCheck = new Date();
     },
 
+    // Apply a gateway snapshot; lastChecked is when the gateway last checked that service
+    applySnapshot(data: ServiceHealthResponse): void {
+      const now = new Date();
+
+      const updatedServices: Record<string, ServiceHealth> = {};
+      for (const svc of data.services ?? []) {
+        updatedServices[svc.name] = {
+          name: svc.name,
+          displayName: svc.displayName,
+          status: (svc.status as ServiceStatus) ?? 'unknown',
+          responseTime: svc.responseTime,
+          lastChecked: svc.checkedAt ? new Date(svc.checkedAt) : now,
+          replicas: svc.replicas ?? undefined,
+          readyReplicas: svc.readyReplicas ?? undefined,
+          pods: svc.pods ?? undefined,
+        };
+      }
+
+      this.services = updatedServices;
+      this.lastGlobalCheck = now;
+    },
+
     markAllDown(errorMessage: string) {
       const now = new Date();
       for (const key of Object.keys(this.services)) {
@@ -5,6 +5,7 @@ import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -488,4 +489,92 @@ class CouponConcurrencyTest extends IntegrationTestBase {
                 .isGreaterThan(0)
                 .withFailMessage("No successful issues - service may be down");
     }
+
+    @Test
+    @Order(7)
+    @DisplayName("7. Persistence throughput: accepted vs persisted issues per second")
+    void testIssuePersistenceThroughput() throws InterruptedException {
+        Assumptions.assumeTrue(testUserTokens.size() >= CONCURRENT_USERS,
+                "Not enough test users: " + testUserTokens.size());
+
+        waitForCircuitBreakerRecovery();
+
+        // Quantity covers every user, so each accepted issue must eventually be persisted
+        Response createResponse = givenAuthenticatedAdmin()
+                .body(buildCouponRequest(
+                        "Throughput Test Coupon - " + generateTestId(),
+                        "THROUGHPUT" + System.currentTimeMillis(),
+                        "FIXED",
+                        1000,
+                        CONCURRENT_USERS))
+                .when()
+                .post("/api/v1/shopping/admin/coupons");
+
+        Assumptions.assumeTrue(
+                createResponse.statusCode() == 200 || createResponse.statusCode() == 201,
+                "Coupon creation failed (status=" + createResponse.statusCode() + ")");
+        Long couponId = createResponse.jsonPath().getLong("data.id");
+
+        Map<String, String> pendingRequests = new ConcurrentHashMap<>();
+        AtomicInteger acceptedCount = new AtomicInteger(0);
+        CountDownLatch readyLatch = new CountDownLatch(CONCURRENT_USERS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(CONCURRENT_USERS);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_USERS);
+
+        for (int i = 0; i < CONCURRENT_USERS; i++) {
+            final String token = testUserTokens.get(i);
+            executor.submit(() -> {
+                try {
+                    readyLatch.countDown();
+                    startLatch.await();
+
+                    Response response = givenWithToken(token)
+                            .when()
+                            .post("/api/v1/shopping/coupons/" + couponId + "/issue");
+
+                    if (response.statusCode() == 200 || response.statusCode() == 201) {
+                        acceptedCount.incrementAndGet();
+                        // SYNC mode answers COMPLETED; only PENDING requests need polling
+                        if ("PENDING".equals(response.jsonPath().getString("data.persistenceStatus"))) {
+                            pendingRequests.put(response.jsonPath().getString("data.requestId"), token);
+                        }
+                    }
+                } catch (Exception ignored) {
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        readyLatch.await(30, TimeUnit.SECONDS);
+        long startTime = System.currentTimeMillis();
+        startLatch.countDown();
+        doneLatch.await(60, TimeUnit.SECONDS);
+        long acceptMillis = Math.max(System.currentTimeMillis() - startTime, 1);
+        executor.shutdown();
+
+        Assumptions.assumeTrue(acceptedCount.get() > 0,
+                "All requests throttled - gateway rate limiter/circuit breaker active");
+
+        int persistedAsync = awaitPurchasesPersisted(pendingRequests, Duration.ofSeconds(60));
+        long persistMillis = Math.max(System.currentTimeMillis() - startTime, 1);
+        int persisted = acceptedCount.get() - pendingRequests.size() + persistedAsync;
+
+        log.info("Coupon throughput - accepted {} in {}ms ({}/sec), persisted {} in {}ms ({}/sec), async={}",
+                acceptedCount.get(), acceptMillis, acceptedCount.get() * 1000L / acceptMillis,
+                persisted, persistMillis, persisted * 1000L / persistMillis, !pendingRequests.isEmpty());
+
+        assertThat(persisted)
+                .isEqualTo(acceptedCount.get())
+                .withFailMessage("Expected %d persisted issues, but got %d", acceptedCount.get(), persisted);
+
+        // Issued quantity reflects persisted rows
+        Response detail = givenAuthenticatedAdmin()
+                .when()
+                .get("/api/v1/shopping/admin/coupons/" + couponId);
+        if (detail.statusCode() == 200) {
+            assertThat(detail.jsonPath().getInt("data.issuedQuantity")).isEqualTo(persisted);
+        }
+    }
 }
@@ -0,0 +1,233 @@
+package com.portal.universe.integration.concurrency;
+
+import com.redis.testcontainers.RedisContainer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.*;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Queue Admission Benchmark
+ *
+ * Measures admitted users/sec of the waiting-queue admission step against a real Redis:
+ * - Legacy path: SCARD + ZCARD + ZPOPMIN + one SADD per admitted token (N+3 round trips per tick)
+ * - Scripted path: shopping-service queue_admit.lua (1 round trip per tick, including expired slot eviction)
+ *
+ * The script is loaded from the shopping-service sources so the benchmark always runs the shipped version.
+ * Sizes can be overridden with -Dqueue.benchmark.waiting / -Dqueue.benchmark.batch.
+ */
+@Slf4j
+@DisplayName("Queue Admission Benchmark")
+@Tag("concurrency")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class QueueAdmissionBenchmarkTest {
+
+    private static final int WAITING_USERS = Integer.getInteger("queue.benchmark.waiting", 100_000);
+    private static final int BATCH_SIZE = Integer.getInteger("queue.benchmark.batch", 20_000);
+    private static final String SCRIPT_PATH = System.getProperty("queue.benchmark.script",
+            "../services/shopping-service/src/main/resources/scripts/queue_admit.lua");
+
+    private static final String WAITING_KEY = "queue:waiting:TIMEDEAL:999";
+    private static final String ENTERED_KEY = "queue:entered:TIMEDEAL:999";
+    private static final long ENTERED_TTL_MILLIS = 600_000L;
+    private static final int EVICT_LIMIT = 10_000;
+
+    private final RedisContainer redis = new RedisContainer(DockerImageName.parse("redis:7.2-alpine"));
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    @SuppressWarnings("rawtypes")
+    private DefaultRedisScript<List> admitScript;
+
+    @BeforeAll
+    void setUp() {
+        Assumptions.assumeTrue(Files.exists(Path.of(SCRIPT_PATH)), "Admission script not found: " + SCRIPT_PATH);
+
+        redis.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getFirstMappedPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        admitScript = new DefaultRedisScript<>();
+        admitScript.setScriptSource(new ResourceScriptSource(new FileSystemResource(SCRIPT_PATH)));
+        admitScript.setResultType(List.class);
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        redis.stop();
+    }
+
+    @BeforeEach
+    void seedQueue() {
+        redisTemplate.delete(List.of(WAITING_KEY, ENTERED_KEY));
+
+        Set<ZSetOperations.TypedTuple<String>> chunk = new HashSet<>();
+        for (int i = 0; i < WAITING_USERS; i++) {
+            chunk.add(new DefaultTypedTuple<>(UUID.randomUUID().toString(), (double) i));
+            if (chunk.size() == 10_000) {
+                redisTemplate.opsForZSet().add(WAITING_KEY, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            redisTemplate.opsForZSet().add(WAITING_KEY, chunk);
+        }
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. Legacy per-token admission (baseline)")
+    void testLegacyAdmission() {
+        long roundTrips = 0;
+        int admitted = 0;
+
+        long start = System.nanoTime();
+        while (true) {
+            Long enteredCount = redisTemplate.opsForSet().size(ENTERED_KEY);
+            Long queueSize = redisTemplate.opsForZSet().zCard(WAITING_KEY);
+            roundTrips += 2;
+            if (queueSize == null || queueSize == 0) {
+                break;
+            }
+
+            int toProcess = Math.min(WAITING_USERS - (enteredCount == null ? 0 : enteredCount.intValue()), BATCH_SIZE);
+            Set<ZSetOperations.TypedTuple<String>> popped = redisTemplate.opsForZSet().popMin(WAITING_KEY, toProcess);
+            roundTrips++;
+            if (popped == null || popped.isEmpty()) {
+                break;
+            }
+            for (ZSetOperations.TypedTuple<String> tuple : popped) {
+                redisTemplate.opsForSet().add(ENTERED_KEY, tuple.getValue());
+                roundTrips++;
+                admitted++;
+            }
+        }
+        long elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+
+        log.info("Legacy admission - admitted: {}, elapsed: {}ms, {} users/sec, {} Redis round trips",
+                admitted, elapsedMillis, admitted * 1000L / elapsedMillis, roundTrips);
+
+        assertThat(admitted).isEqualTo(WAITING_USERS);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. Lua scripted batch admission")
+    void testScriptedAdmission() {
+        long roundTrips = 0;
+        int admitted = 0;
+        int ticks = 0;
+
+        long start = System.nanoTime();
+        while (true) {
+            List<String> result = admit(WAITING_USERS, System.currentTimeMillis());
+            roundTrips++;
+            int admittedThisTick = admittedCount(result);
+            if (admittedThisTick == 0) {
+                break;
+            }
+            admitted += admittedThisTick;
+            ticks++;
+        }
+        long elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+
+        log.info("Scripted admission - admitted: {}, ticks: {}, elapsed: {}ms, {} users/sec, {} Redis round trips",
+                admitted, ticks, elapsedMillis, admitted * 1000L / elapsedMillis, roundTrips);
+
+        assertThat(admitted).isEqualTo(WAITING_USERS);
+        assertThat(redisTemplate.opsForZSet().zCard(ENTERED_KEY)).isEqualTo((long) WAITING_USERS);
+        // Round trips depend only on the number of ticks, not on the number of admitted users
+        assertThat(roundTrips).isEqualTo(ticks + 1L);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. Scripted admission never exceeds capacity")
+    void testScriptedAdmissionRespectsCapacity() {
+        int capacity = BATCH_SIZE / 2;
+        long now = System.currentTimeMillis();
+
+        List<String> first = admit(capacity, now);
+        List<String> second = admit(capacity, now);
+
+        assertThat(admittedCount(first)).isEqualTo(capacity);
+        assertThat(second).containsExactly("0");
+        assertThat(redisTemplate.opsForZSet().zCard(WAITING_KEY)).isEqualTo((long) WAITING_USERS - capacity);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. Expired entered slots are recycled on the next tick")
+    void testScriptedAdmissionRecyclesExpiredSlots() {
+        int capacity = BATCH_SIZE / 2;
+        long now = System.currentTimeMillis();
+
+        admit(capacity, now);
+        // Past the entered TTL every slot is evicted and refilled from the waiting queue in the same call
+        List<String> recycled = admit(capacity, now + ENTERED_TTL_MILLIS + 1);
+
+        assertThat(Integer.parseInt(recycled.get(0))).isEqualTo(capacity);
+        assertThat(admittedCount(recycled)).isEqualTo(capacity);
+        assertThat(redisTemplate.opsForZSet().zCard(ENTERED_KEY)).isEqualTo((long) capacity);
+        assertThat(redisTemplate.opsForZSet().zCard(WAITING_KEY)).isEqualTo((long) WAITING_USERS - capacity * 2);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("5. Legacy entered Set is migrated instead of failing with WRONGTYPE")
+    void testScriptedAdmissionMigratesLegacyEnteredSet() {
+        int capacity = BATCH_SIZE / 2;
+        long now = System.currentTimeMillis();
+        String[] legacyTokens = new String[capacity];
+        for (int i = 0; i < capacity; i++) {
+            legacyTokens[i] = UUID.randomUUID().toString();
+        }
+        redisTemplate.opsForSet().add(ENTERED_KEY, legacyTokens);
+
+        // Legacy entered users keep their slots, so nobody is admitted until they expire
+        List<String> first = admit(capacity, now);
+        assertThat(first).containsExactly("0");
+        assertThat(redisTemplate.type(ENTERED_KEY).code()).isEqualTo("zset");
+        assertThat(redisTemplate.opsForZSet().zCard(ENTERED_KEY)).isEqualTo((long) capacity);
+
+        List<String> recycled = admit(capacity, now + ENTERED_TTL_MILLIS + 1);
+        assertThat(Integer.parseInt(recycled.get(0))).isEqualTo(capacity);
+        assertThat(admittedCount(recycled)).isEqualTo(capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> admit(int capacity, long now) {
+        return redisTemplate.execute(admitScript, List.of(WAITING_KEY, ENTERED_KEY),
+                String.valueOf(capacity), String.valueOf(BATCH_SIZE),
+                String.valueOf(now), String.valueOf(now + ENTERED_TTL_MILLIS), String.valueOf(EVICT_LIMIT));
+    }
+
+    /**
+     * Script result: [expiredCount, expired tokens..., token, score, token, score, ...]
+     */
+    private static int admittedCount(List<String> result) {
+        if (result == null || result.isEmpty()) {
+            return 0;
+        }
+        return (result.size() - 1 - Integer.parseInt(result.get(0))) / 2;
+    }
+}
@@ -5,6 +5,7 @@ import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -566,4 +567,84 @@ class TimeDealConcurrencyTest extends IntegrationTestBase {
                 .withFailMessage("Expected exactly %d successful purchases, but got %d",
                         STRESS_STOCK, successCount.get());
     }
+
+    @Test
+    @Order(7)
+    @DisplayName("7. Persistence throughput: accepted vs persisted purchases per second")
+    void testPurchasePersistenceThroughput() throws InterruptedException {
+        Assumptions.assumeTrue(testProductId != null, "No product available");
+        Assumptions.assumeTrue(testUserTokens.size() >= CONCURRENT_USERS,
+                "Not enough test users: " + testUserTokens.size());
+
+        // Stock covers every user, so each accepted purchase must eventually be persisted
+        LocalDateTime now = LocalDateTime.now();
+        Response createResponse = givenAuthenticatedAdmin()
+                .body(buildTimeDealRequest("Throughput Test TimeDeal - " + generateTestId(),
+                        testProductId, 3000, CONCURRENT_USERS, 1, now, now.plusHours(1)))
+                .when()
+                .post("/api/v1/shopping/admin/time-deals");
+
+        List<Map<String, Object>> products = createResponse.jsonPath().getList("data.products");
+        Assumptions.assumeTrue(products != null && !products.isEmpty(), "No time-deal product created");
+
+        Map<String, Object> purchaseRequest = new HashMap<>();
+        purchaseRequest.put("timeDealProductId", Long.valueOf(products.get(0).get("id").toString()));
+        purchaseRequest.put("quantity", 1);
+
+        Map<String, String> pendingRequests = new ConcurrentHashMap<>();
+        AtomicInteger acceptedCount = new AtomicInteger(0);
+        CountDownLatch readyLatch = new CountDownLatch(CONCURRENT_USERS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(CONCURRENT_USERS);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_USERS);
+
+        for (int i = 0; i < CONCURRENT_USERS; i++) {
+            final String token = testUserTokens.get(i);
+            executor.submit(() -> {
+                try {
+                    readyLatch.countDown();
+                    startLatch.await();
+
+                    Response response = givenWithToken(token)
+                            .body(purchaseRequest)
+                            .when()
+                            .post("/api/v1/shopping/time-deals/purchase");
+
+                    if (response.statusCode() == 200 || response.statusCode() == 201) {
+                        acceptedCount.incrementAndGet();
+                        // SYNC mode answers COMPLETED; only PENDING requests need polling
+                        if ("PENDING".equals(response.jsonPath().getString("data.persistenceStatus"))) {
+                            pendingRequests.put(response.jsonPath().getString("data.requestId"), token);
+                        }
+                    }
+                } catch (Exception ignored) {
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        readyLatch.await(30, TimeUnit.SECONDS);
+        long startTime = System.currentTimeMillis();
+        startLatch.countDown();
+        doneLatch.await(120, TimeUnit.SECONDS);
+        long acceptMillis = Math.max(System.currentTimeMillis() - startTime, 1);
+        executor.shutdown();
+
+        Assumptions.assumeTrue(acceptedCount.get() > 0,
+                "All purchases throttled - gateway rate limiter/circuit breaker active");
+
+        int persistedAsync = awaitPurchasesPersisted(pendingRequests, Duration.ofSeconds(60));
+        long persistMillis = Math.max(System.currentTimeMillis() - startTime, 1);
+        int persisted = acceptedCount.get() - pendingRequests.size() + persistedAsync;
+
+        log.info("TimeDeal throughput - accepted {} in {}ms ({}/sec), persisted {} in {}ms ({}/sec), async={}",
+                acceptedCount.get(), acceptMillis, acceptedCount.get() * 1000L / acceptMillis,
+                persisted, persistMillis, persisted * 1000L / persistMillis, !pendingRequests.isEmpty());
+
+        // Every accepted purchase is eventually persisted
+        assertThat(persisted)
+                .isEqualTo(acceptedCount.get())
+                .withFailMessage("Expected %d persisted purchases, but got %d", acceptedCount.get(), persisted);
+    }
 }
@@ -321,6 +321,50 @@ public abstract class IntegrationTestBase {
         return false;
     }
 
+    /**
+     * Poll the purchase status API until every request reaches a final state (COMPLETED or FAILED).
+     * Used when shopping-service runs with shopping.purchase.persistence.mode=ASYNC.
+     *
+     * @param tokensByRequestId requestId -> token of the user who made the request
+     * @return number of requests confirmed as COMPLETED
+     */
+    protected int awaitPurchasesPersisted(Map<String, String> tokensByRequestId, Duration timeout) {
+        Map<String, String> pending = new HashMap<>(tokensByRequestId);
+        int completed = 0;
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+
+        while (!pending.isEmpty() && System.currentTimeMillis() < deadline) {
+            Iterator<Map.Entry<String, String>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, String> entry = iterator.next();
+                Response response = givenWithToken(entry.getValue())
+                        .when()
+                        .get("/api/v1/shopping/purchases/" + entry.getKey());
+                if (response.statusCode() != 200) {
+                    continue;
+                }
+                String status = response.jsonPath().getString("data.status");
+                if ("COMPLETED".equals(status)) {
+                    completed++;
+                    iterator.remove();
+                } else if ("FAILED".equals(status)) {
+                    log.warn("Purchase request {} failed: {}", entry.getKey(),
+                            response.jsonPath().getString("data.reason"));
+                    iterator.remove();
+                }
+            }
+            if (!pending.isEmpty()) {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        return completed;
+    }
+
     // =======================================
     // Test Data Helpers
     // =======================================
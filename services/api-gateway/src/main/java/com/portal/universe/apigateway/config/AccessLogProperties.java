@@ -0,0 +1,52 @@
+package com.portal.universe.apigateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 접근 로그 설정을 관리하는 Properties 클래스입니다.
+ * application.yml의 gateway.access-log 섹션과 매핑됩니다.
+ *
+ * <p>요청 처리 스레드는 고정 스키마의 이벤트를 미리 할당된 ring buffer에 기록만 하고,
+ * 별도 스레드가 버퍼를 비우며 로그를 씁니다.</p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "gateway.access-log")
+public class AccessLogProperties {
+
+    /**
+     * 접근 로그 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * ring buffer 크기 (2의 거듭제곱으로 올림). 가득 차면 새 이벤트는 버려집니다.
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * 기본 샘플링 비율 (0.0 ~ 1.0)
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * Route ID별 샘플링 비율. 없으면 sampleRate를 사용합니다.
+     */
+    private Map<String, Double> routeSampleRates = new HashMap<>();
+
+    /**
+     * 느린 요청 기준. 이 시간 이상 걸린 요청은 샘플링과 무관하게 전체 헤더와 함께 기록합니다.
+     */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    /**
+     * 버퍼가 비어 있을 때 기록 스레드가 대기하는 시간
+     */
+    private Duration drainInterval = Duration.ofMillis(50);
+}
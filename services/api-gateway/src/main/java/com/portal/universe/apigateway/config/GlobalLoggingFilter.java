@@ -1,66 +1,96 @@
 package com.portal.universe.apigateway.config;
 
-import lombok.extern.slf4j.Slf4j;
+import com.portal.universe.apigateway.logging.AccessLogWriter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
-import java.net.InetSocketAddress;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * 요청마다 접근 로그 이벤트 하나를 {@link AccessLogWriter}에 기록합니다.
+ *
+ * <p>경로는 Route predicate가 매칭한 패턴을 우선 사용해 경로 변수별로 로그가 흩어지지 않게 합니다.
+ * 헤더는 느린 요청일 때만 마스킹해 복사합니다.</p>
+ */
 @Component
-@Slf4j
+@RequiredArgsConstructor
 @Order(Ordered.HIGHEST_PRECEDENCE + 2)
 public class GlobalLoggingFilter implements GlobalFilter {
 
     private static final Set<String> SENSITIVE_HEADERS = Set.of("authorization", "cookie");
+    private static final XForwardedRemoteAddressResolver REMOTE_ADDRESS_RESOLVER =
+            XForwardedRemoteAddressResolver.maxTrustedIndex(1);
+    /**
+     * 클라이언트가 응답 전에 연결을 끊은 경우의 상태 코드 (nginx 관례)
+     */
+    private static final int CLIENT_CLOSED_REQUEST = 499;
+
+    private final AccessLogWriter accessLogWriter;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        ServerHttpRequest request = exchange.getRequest();
-        long startTime = System.currentTimeMillis();
+        if (!accessLogWriter.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        long startNanos = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> record(exchange, signal, System.nanoTime() - startNanos));
+    }
 
-        String requestPath = request.getPath().value();
-        String method = request.getMethod().name();
-        String clientIp = getClientIp(request, exchange);
+    private void record(ServerWebExchange exchange, SignalType signal, long durationNanos) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : null;
+        int status = statusOf(exchange, signal);
+        if (!accessLogWriter.shouldRecord(routeId, status, durationNanos)) {
+            return;
+        }
 
-        log.info("API_REQUEST - Method: {}, Path: {}, IP: {}, Headers: {}",
-                method, requestPath, clientIp, maskSensitiveHeaders(request.getHeaders().toSingleValueMap()));
+        ServerHttpRequest request = exchange.getRequest();
+        HttpHeaders headers = request.getHeaders();
+        String matchedPath = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_PREDICATE_MATCHED_PATH_ATTR);
 
-        return chain.filter(exchange).then(
-                Mono.fromRunnable(() -> {
-                    ServerHttpResponse response = exchange.getResponse();
-                    long duration = System.currentTimeMillis() - startTime;
+        accessLogWriter.record(
+                request.getMethod().name(),
+                matchedPath != null ? matchedPath : request.getPath().value(),
+                status,
+                durationNanos,
+                REMOTE_ADDRESS_RESOLVER.resolve(exchange),
+                routeId,
+                headers.getFirst("X-User-Id"),
+                accessLogWriter.isSlow(durationNanos) ? maskSensitiveHeaders(headers) : null);
+    }
 
-                    log.info("API_RESPONSE - Path: {}, Status: {}, Duration: {}ms",
-                            requestPath, response.getStatusCode(), duration);
-                })
-        );
+    private static int statusOf(ServerWebExchange exchange, SignalType signal) {
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        if (statusCode != null) {
+            return statusCode.value();
+        }
+        return switch (signal) {
+            case CANCEL -> CLIENT_CLOSED_REQUEST;
+            case ON_ERROR -> 500;
+            default -> 200;
+        };
     }
 
-    private Map<String, String> maskSensitiveHeaders(Map<String, String> headers) {
-        Map<String, String> masked = new LinkedHashMap<>(headers);
+    private static Map<String, String> maskSensitiveHeaders(HttpHeaders headers) {
+        Map<String, String> masked = new LinkedHashMap<>(headers.toSingleValueMap());
         masked.replaceAll((key, value) ->
                 SENSITIVE_HEADERS.contains(key.toLowerCase()) ? "***" : value);
         return masked;
     }
-
-    private String getClientIp(ServerHttpRequest request, ServerWebExchange exchange) {
-        XForwardedRemoteAddressResolver resolver = XForwardedRemoteAddressResolver.maxTrustedIndex(1);
-        InetSocketAddress remoteAddress = resolver.resolve(exchange);
-
-        if (remoteAddress != null && remoteAddress.getAddress() != null) {
-            return remoteAddress.getAddress().getHostAddress();
-        }
-        return "Unknown";
-    }
-}
\ No newline at end of file
+}
@@ -5,6 +5,7 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Map;
 
@@ -35,6 +36,35 @@ public class JwtProperties {
      */
     private Map<String, KeyConfig> keys;
 
+    /**
+     * 검증된 토큰 캐시 설정 (Gateway 전용)
+     */
+    private ClaimsCache claimsCache = new ClaimsCache();
+
+    /**
+     * 서명 검증을 마친 토큰의 하위 서비스 헤더 값을 보관하는 캐시 설정입니다.
+     * 같은 토큰이 반복해서 들어오면 서명 검증과 claims 파싱을 생략합니다.
+     */
+    @Getter
+    @Setter
+    public static class ClaimsCache {
+
+        /**
+         * 캐시 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 캐시에 보관할 최대 토큰 수
+         */
+        private long maxSize = 10_000;
+
+        /**
+         * 토큰이 만료되기 전이라도 이 시간이 지나면 다시 검증합니다.
+         */
+        private Duration maxTtl = Duration.ofMinutes(5);
+    }
+
     /**
      * 개별 JWT 서명 키 설정을 담는 내부 클래스입니다.
      */
@@ -0,0 +1,49 @@
+package com.portal.universe.apigateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Rate Limiter 구현 방식을 관리하는 Properties 클래스입니다.
+ * application.yml의 gateway.rate-limit 섹션과 매핑됩니다.
+ *
+ * <p>HYBRID는 Redis 전역 Token Bucket에서 토큰을 묶음으로 빌려와 인스턴스 로컬에서 소비하고,
+ * REDIS는 기존처럼 요청마다 RedisRateLimiter Lua 스크립트를 실행합니다.</p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    public enum Mode {
+        HYBRID, REDIS
+    }
+
+    /**
+     * Rate Limiter 구현 방식
+     */
+    private Mode mode = Mode.HYBRID;
+
+    /**
+     * 한 번에 빌려올 토큰 수 = burstCapacity × leaseRatio (최소 1)
+     */
+    private double leaseRatio = 0.1;
+
+    /**
+     * 한 번에 빌려올 최대 토큰 수
+     */
+    private int maxLeaseSize = 50;
+
+    /**
+     * 사용하지 않은 lease 토큰을 Redis에 돌려주는 주기
+     */
+    private Duration reconcileInterval = Duration.ofSeconds(1);
+
+    /**
+     * 이 시간 동안 요청이 없는 키는 남은 토큰을 돌려주고 로컬에서 제거합니다.
+     */
+    private Duration idleTimeout = Duration.ofSeconds(2);
+}
@@ -1,8 +1,11 @@
 package com.portal.universe.apigateway.config;
 
+import com.portal.universe.apigateway.ratelimit.HybridRateLimiter;
+import com.portal.universe.apigateway.ratelimit.RateLimitLeaseStore;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
 import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,7 +17,9 @@ import java.util.Arrays;
 
 /**
  * Redis 기반 Rate Limiting 설정을 담당하는 클래스입니다.
- * Spring Cloud Gateway의 RedisRateLimiter를 사용하여 다양한 전략의 속도 제한을 구현합니다.
+ * gateway.rate-limit.mode에 따라 HybridRateLimiter(로컬 lease + Redis 전역 bucket, 기본값) 또는
+ * Spring Cloud Gateway의 RedisRateLimiter(요청마다 Redis Lua 실행)를 사용합니다.
+ * Bean 이름은 라우트 설정(#{@strictRedisRateLimiter} 등)과의 호환을 위해 유지합니다.
  *
  * Rate Limiting 전략:
  * - IP 기반: 클라이언트 IP 주소로 제한
@@ -31,8 +36,15 @@ import java.util.Arrays;
 public class RateLimiterConfig {
 
     private final boolean isRelaxedRateLimiting;
-
-    public RateLimiterConfig(Environment environment) {
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimitLeaseStore leaseStore;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimiterConfig(Environment environment, RateLimitProperties rateLimitProperties,
+                             RateLimitLeaseStore leaseStore, MeterRegistry meterRegistry) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.leaseStore = leaseStore;
+        this.meterRegistry = meterRegistry;
         var profiles = Arrays.asList(environment.getActiveProfiles());
         // docker, local 프로파일에서는 개발/테스트를 위해 완화된 Rate Limiting 적용
         this.isRelaxedRateLimiting = profiles.contains("docker") || profiles.contains("local");
@@ -103,7 +115,7 @@ public class RateLimiterConfig {
     }
 
     /**
-     * 기본 RedisRateLimiter Bean
+     * 기본 Rate Limiter Bean
      * 일반 API 요청에 대한 기본값 설정
      *
      * replenishRate: 10 req/sec (지속 속도)
@@ -111,10 +123,10 @@ public class RateLimiterConfig {
      */
     @Bean
     @Primary
-    public RedisRateLimiter defaultRedisRateLimiter() {
+    public RateLimiter<?> defaultRedisRateLimiter() {
         return isRelaxedRateLimiting
-            ? new RedisRateLimiter(50, 200, 1)
-            : new RedisRateLimiter(10, 20, 1);
+            ? createRateLimiter("default", 50, 200)
+            : createRateLimiter("default", 10, 20);
     }
 
     /**
@@ -126,10 +138,10 @@ public class RateLimiterConfig {
      * Docker: 20 req/sec, burst 50
      */
     @Bean
-    public RedisRateLimiter strictRedisRateLimiter() {
+    public RateLimiter<?> strictRedisRateLimiter() {
         return isRelaxedRateLimiting
-            ? new RedisRateLimiter(20, 50, 1)
-            : new RedisRateLimiter(1, 5, 1);
+            ? createRateLimiter("strict", 20, 50)
+            : createRateLimiter("strict", 1, 5);
     }
 
     /**
@@ -140,10 +152,10 @@ public class RateLimiterConfig {
      * Docker: 20 req/sec, burst 50
      */
     @Bean
-    public RedisRateLimiter signupRedisRateLimiter() {
+    public RateLimiter<?> signupRedisRateLimiter() {
         return isRelaxedRateLimiting
-            ? new RedisRateLimiter(20, 50, 1)
-            : new RedisRateLimiter(1, 3, 1);
+            ? createRateLimiter("signup", 20, 50)
+            : createRateLimiter("signup", 1, 3);
     }
 
     /**
@@ -154,10 +166,10 @@ public class RateLimiterConfig {
      * Docker: 50 req/sec, burst 500
      */
     @Bean
-    public RedisRateLimiter authenticatedRedisRateLimiter() {
+    public RateLimiter<?> authenticatedRedisRateLimiter() {
         return isRelaxedRateLimiting
-            ? new RedisRateLimiter(50, 500, 1)
-            : new RedisRateLimiter(2, 100, 1);
+            ? createRateLimiter("authenticated", 50, 500)
+            : createRateLimiter("authenticated", 2, 100);
     }
 
     /**
@@ -168,9 +180,18 @@ public class RateLimiterConfig {
      * Docker: 50 req/sec, burst 200
      */
     @Bean
-    public RedisRateLimiter unauthenticatedRedisRateLimiter() {
+    public RateLimiter<?> unauthenticatedRedisRateLimiter() {
         return isRelaxedRateLimiting
-            ? new RedisRateLimiter(50, 200, 1)
-            : new RedisRateLimiter(1, 30, 1);
+            ? createRateLimiter("unauthenticated", 50, 200)
+            : createRateLimiter("unauthenticated", 1, 30);
+    }
+
+    private RateLimiter<?> createRateLimiter(String name, int replenishRate, int burstCapacity) {
+        if (rateLimitProperties.getMode() == RateLimitProperties.Mode.REDIS) {
+            return new RedisRateLimiter(replenishRate, burstCapacity, 1);
+        }
+        long leaseSize = Math.max(1, Math.min(rateLimitProperties.getMaxLeaseSize(),
+                Math.round(burstCapacity * rateLimitProperties.getLeaseRatio())));
+        return new HybridRateLimiter(name, replenishRate, burstCapacity, 1, leaseSize, leaseStore, meterRegistry);
     }
 }
@@ -0,0 +1,40 @@
+package com.portal.universe.apigateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 토큰 블랙리스트 로컬 복제본 설정을 관리하는 Properties 클래스입니다.
+ * application.yml의 gateway.token-blacklist 섹션과 매핑됩니다.
+ *
+ * <p>Gateway는 Auth Service가 발행하는 블랙리스트 이벤트를 구독해 Bloom filter로 복제하고,
+ * Bloom filter가 양성인 토큰만 Redis에서 확인합니다.</p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "gateway.token-blacklist")
+public class TokenBlacklistProperties {
+
+    /**
+     * 로컬 복제본 사용 여부. false이면 모든 요청에서 Redis를 조회합니다.
+     */
+    private boolean mirrorEnabled = true;
+
+    /**
+     * Bloom filter 예상 항목 수 (동시에 유효한 블랙리스트 토큰 수)
+     */
+    private int expectedInsertions = 100_000;
+
+    /**
+     * Bloom filter 목표 오탐률 (오탐 시 Redis 조회로 확인)
+     */
+    private double falsePositiveRate = 0.001;
+
+    /**
+     * Bloom filter 재구성 주기. 만료된 토큰을 filter에서 제거합니다.
+     */
+    private Duration resyncInterval = Duration.ofMinutes(10);
+}
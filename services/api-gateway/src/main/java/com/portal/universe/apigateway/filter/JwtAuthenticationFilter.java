@@ -6,7 +6,6 @@ import com.portal.universe.apigateway.exception.GatewayErrorCode;
 import com.portal.universe.apigateway.exception.GatewayErrorResponse;
 import com.portal.universe.apigateway.service.TokenBlacklistChecker;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -21,20 +20,20 @@ import reactor.core.publisher.Mono;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import javax.crypto.SecretKey;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * JWT 토큰을 검증하는 WebFlux 필터입니다.
  * Auth Service와 동일한 HMAC secret key로 토큰 서명을 검증하며,
  * 키 교체(Key Rotation)를 지원합니다.
  *
- * <p>JWT 헤더의 kid(Key ID)를 확인하여 적절한 키로 서명을 검증합니다.</p>
+ * <p>JWT 헤더의 kid(Key ID)를 확인하여 적절한 키로 서명을 검증합니다.
+ * kid별 키와 파서는 {@link JwtKeyRegistry}가 미리 만들어 두고, 검증된 토큰의 헤더 값은
+ * {@link VerifiedTokenCache}에 토큰 만료 시점까지 보관합니다. 블랙리스트는 캐시와 무관하게 매 요청 확인합니다.</p>
  * <p>Role Hierarchy를 resolve하여 X-User-Effective-Roles 헤더를 추가합니다.</p>
  */
 @Slf4j
@@ -42,64 +41,18 @@ public class JwtAuthenticationFilter implements WebFilter {
 
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private final JwtProperties jwtProperties;
     private final TokenBlacklistChecker tokenBlacklistChecker;
     private final String[] skipJwtParsingPrefixes;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JwtKeyRegistry keyRegistry;
+    private final VerifiedTokenCache tokenCache;
 
     public JwtAuthenticationFilter(JwtProperties jwtProperties, PublicPathProperties publicPathProperties,
                                    TokenBlacklistChecker tokenBlacklistChecker) {
-        this.jwtProperties = jwtProperties;
         this.tokenBlacklistChecker = tokenBlacklistChecker;
         this.skipJwtParsingPrefixes = publicPathProperties.getSkipJwtParsing().toArray(String[]::new);
-    }
-
-    /**
-     * 특정 키 ID에 해당하는 서명용 키를 생성합니다.
-     */
-    private SecretKey getSigningKeyById(String keyId) {
-        if (keyId == null || keyId.isBlank()) {
-            throw new JwtException("Key ID cannot be null or empty");
-        }
-
-        JwtProperties.KeyConfig keyConfig = jwtProperties.getKeys().get(keyId);
-        if (keyConfig == null) {
-            throw new JwtException("JWT key not found for ID: " + keyId);
-        }
-
-        if (keyConfig.isExpired()) {
-            log.warn("JWT key is expired: {}", keyId);
-            throw new JwtException("JWT key is expired: " + keyId);
-        }
-
-        return getSigningKey(keyConfig.getSecretKey());
-    }
-
-    private SecretKey getSigningKey(String secretKey) {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
-    private String extractKeyId(String token) {
-        try {
-            String[] parts = token.split("\\.");
-            if (parts.length < 2) {
-                throw new MalformedJwtException("Invalid JWT token structure");
-            }
-
-            String header = new String(java.util.Base64.getUrlDecoder().decode(parts[0]));
-            var headerNode = objectMapper.readTree(header);
-            var kidNode = headerNode.get("kid");
-            if (kidNode != null && !kidNode.isNull()) {
-                return kidNode.asText();
-            }
-
-            log.warn("JWT token does not contain kid header, using current key");
-            return jwtProperties.getCurrentKeyId();
-        } catch (Exception e) {
-            log.error("Failed to extract kid from JWT token, using current key", e);
-            return jwtProperties.getCurrentKeyId();
-        }
+        this.keyRegistry = new JwtKeyRegistry(jwtProperties);
+        this.tokenCache = new VerifiedTokenCache(jwtProperties.getClaimsCache());
     }
 
     @Override
@@ -133,10 +86,10 @@ public class JwtAuthenticationFilter implements WebFilter {
 
         String token = authHeader.substring(BEARER_PREFIX.length());
 
-        // JWT 서명 검증
-        final Claims claims;
+        // JWT 서명 검증 (검증된 토큰은 캐시에서 재사용)
+        final VerifiedToken verified;
         try {
-            claims = validateToken(token);
+            verified = validateToken(token);
         } catch (ExpiredJwtException e) {
             log.warn("JWT token expired: {}", e.getMessage());
             return GatewayErrorResponse.write(sanitizedExchange, GatewayErrorCode.TOKEN_EXPIRED);
@@ -153,40 +106,21 @@ public class JwtAuthenticationFilter implements WebFilter {
                         return GatewayErrorResponse.write(sanitizedExchange, GatewayErrorCode.TOKEN_REVOKED);
                     }
 
-                    String userId = claims.getSubject();
-                    String nickname = claims.get("nickname", String.class);
-                    String username = claims.get("username", String.class);
-
-                    // JWT roles 파싱
-                    List<String> rolesList = parseRoles(claims);
-                    String rolesHeader = String.join(",", rolesList);
-
-                    // JWT memberships 파싱 (enriched JSON passthrough)
-                    String membershipsHeader = parseMemberships(claims);
-
-                    // JWT effectiveRoles claim 사용 (없으면 direct roles fallback)
-                    List<String> effectiveRoles = parseEffectiveRoles(claims, rolesList);
-                    String effectiveRolesHeader = String.join(",", effectiveRoles);
-
                     log.debug("JWT validated for user: {}, roles: {}, effectiveRoles: {}, memberships: {}",
-                            userId, rolesList, effectiveRoles, membershipsHeader);
-
-                    // effective roles 기반 Authority 생성
-                    List<SimpleGrantedAuthority> authorities = effectiveRoles.stream()
-                            .map(SimpleGrantedAuthority::new)
-                            .collect(Collectors.toList());
+                            verified.userId(), verified.rolesHeader(), verified.effectiveRolesHeader(),
+                            verified.membershipsHeader());
 
                     UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userId, null, authorities);
+                            new UsernamePasswordAuthenticationToken(verified.userId(), null, verified.authorities());
 
                     // 하위 서비스로 전달할 헤더 설정
                     ServerHttpRequest mutatedRequest = sanitizedRequest.mutate()
-                            .header("X-User-Id", userId)
-                            .header("X-User-Roles", rolesHeader)
-                            .header("X-User-Effective-Roles", effectiveRolesHeader)
-                            .header("X-User-Memberships", membershipsHeader)
-                            .header("X-User-Nickname", nickname != null ? URLEncoder.encode(nickname, StandardCharsets.UTF_8) : "")
-                            .header("X-User-Name", username != null ? URLEncoder.encode(username, StandardCharsets.UTF_8) : "")
+                            .header("X-User-Id", verified.userId())
+                            .header("X-User-Roles", verified.rolesHeader())
+                            .header("X-User-Effective-Roles", verified.effectiveRolesHeader())
+                            .header("X-User-Memberships", verified.membershipsHeader())
+                            .header("X-User-Nickname", verified.nicknameHeader())
+                            .header("X-User-Name", verified.usernameHeader())
                             .build();
 
                     ServerWebExchange mutatedExchange = sanitizedExchange.mutate()
@@ -198,17 +132,53 @@ public class JwtAuthenticationFilter implements WebFilter {
                 });
     }
 
-    private Claims validateToken(String token) {
-        String keyId = extractKeyId(token);
-        log.debug("Validating token with key ID: {}", keyId);
+    /**
+     * 토큰을 검증하고 하위 서비스 헤더 값을 만듭니다.
+     * 캐시에 있고 서명 키가 아직 유효하면 서명 검증과 claims 파싱을 생략합니다.
+     */
+    private VerifiedToken validateToken(String token) {
+        VerifiedToken cached = tokenCache.get(token);
+        if (cached != null) {
+            if (keyRegistry.isUsable(cached.keyId())) {
+                return cached;
+            }
+            // 키가 만료되었거나 교체로 제거된 경우 다시 검증해 오류를 반환
+            tokenCache.invalidate(token);
+        }
 
-        SecretKey signingKey = getSigningKeyById(keyId);
+        Jws<Claims> jws = keyRegistry.parser().parseSignedClaims(token);
+        VerifiedToken verified = toVerifiedToken(jws.getPayload(), keyRegistry.keyIdOf(jws.getHeader()));
+        tokenCache.put(token, verified);
+        return verified;
+    }
 
-        return Jwts.parser()
-                .verifyWith(signingKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private VerifiedToken toVerifiedToken(Claims claims, String keyId) {
+        String nickname = claims.get("nickname", String.class);
+        String username = claims.get("username", String.class);
+
+        // JWT roles 파싱
+        List<String> rolesList = parseRoles(claims);
+
+        // JWT effectiveRoles claim 사용 (없으면 direct roles fallback)
+        List<String> effectiveRoles = parseEffectiveRoles(claims, rolesList);
+
+        // effective roles 기반 Authority 생성
+        List<SimpleGrantedAuthority> authorities = effectiveRoles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+
+        return new VerifiedToken(
+                claims.getSubject(),
+                keyId,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                String.join(",", rolesList),
+                String.join(",", effectiveRoles),
+                // JWT memberships 파싱 (enriched JSON passthrough)
+                parseMemberships(claims),
+                nickname != null ? URLEncoder.encode(nickname, StandardCharsets.UTF_8) : "",
+                username != null ? URLEncoder.encode(username, StandardCharsets.UTF_8) : "",
+                authorities
+        );
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,122 @@
+package com.portal.universe.apigateway.filter;
+
+import com.portal.universe.apigateway.config.JwtProperties;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * kid(Key ID)별 서명 키와 JWT 파서를 미리 만들어 두는 레지스트리입니다.
+ *
+ * <p>{@link JwtProperties}가 다시 바인딩되면 keys 맵이 새 인스턴스로 바뀌므로,
+ * 맵 참조나 currentKeyId가 바뀐 경우에만 키와 파서를 다시 만듭니다.
+ * 파서는 토큰 헤더의 kid로 미리 만든 키를 찾는 {@link Locator}를 사용하므로 헤더를 따로 디코딩하지 않습니다.</p>
+ */
+@Slf4j
+class JwtKeyRegistry {
+
+    private final JwtProperties jwtProperties;
+    private volatile Snapshot snapshot;
+
+    JwtKeyRegistry(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+    }
+
+    JwtParser parser() {
+        return current().parser();
+    }
+
+    /**
+     * 서명 검증에 사용된 키 ID를 반환합니다. kid가 없는 토큰은 현재 키로 검증됩니다.
+     */
+    String keyIdOf(JwsHeader header) {
+        String keyId = header.getKeyId();
+        return keyId != null ? keyId : current().currentKeyId();
+    }
+
+    /**
+     * 키가 아직 설정에 있고 만료되지 않았는지 확인합니다.
+     */
+    boolean isUsable(String keyId) {
+        SigningKey signingKey = current().keys().get(keyId);
+        return signingKey != null && !signingKey.isExpired();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null
+                || current.source() != jwtProperties.getKeys()
+                || !Objects.equals(current.currentKeyId(), jwtProperties.getCurrentKeyId())) {
+            current = build();
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private Snapshot build() {
+        Map<String, JwtProperties.KeyConfig> source = jwtProperties.getKeys();
+        String currentKeyId = jwtProperties.getCurrentKeyId();
+
+        Map<String, SigningKey> keys = new HashMap<>();
+        if (source != null) {
+            source.forEach((keyId, keyConfig) -> keys.put(keyId, new SigningKey(
+                    Keys.hmacShaKeyFor(keyConfig.getSecretKey().getBytes(StandardCharsets.UTF_8)),
+                    keyConfig.getExpiresAt())));
+        }
+
+        Locator<Key> keyLocator = header -> {
+            String keyId = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+            if (keyId == null) {
+                log.warn("JWT token does not contain kid header, using current key");
+                keyId = currentKeyId;
+            }
+            log.debug("Validating token with key ID: {}", keyId);
+            return resolve(keys, keyId);
+        };
+
+        log.info("JWT signing keys loaded: keyIds={}, currentKeyId={}", keys.keySet(), currentKeyId);
+        return new Snapshot(source, currentKeyId, keys, Jwts.parser().keyLocator(keyLocator).build());
+    }
+
+    private static SecretKey resolve(Map<String, SigningKey> keys, String keyId) {
+        if (keyId == null || keyId.isBlank()) {
+            throw new JwtException("Key ID cannot be null or empty");
+        }
+
+        SigningKey signingKey = keys.get(keyId);
+        if (signingKey == null) {
+            throw new JwtException("JWT key not found for ID: " + keyId);
+        }
+
+        if (signingKey.isExpired()) {
+            log.warn("JWT key is expired: {}", keyId);
+            throw new JwtException("JWT key is expired: " + keyId);
+        }
+
+        return signingKey.key();
+    }
+
+    private record SigningKey(SecretKey key, LocalDateTime expiresAt) {
+
+        boolean isExpired() {
+            return expiresAt != null && LocalDateTime.now().isAfter(expiresAt);
+        }
+    }
+
+    private record Snapshot(Map<String, JwtProperties.KeyConfig> source, String currentKeyId,
+                            Map<String, SigningKey> keys, JwtParser parser) {
+    }
+}
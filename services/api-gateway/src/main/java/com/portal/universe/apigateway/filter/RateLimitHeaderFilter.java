@@ -29,7 +29,7 @@ import java.util.Map;
  *    - Retry-After 헤더 추가 (초 단위)
  *    - ApiResponse 형식의 통일된 에러 응답
  *
- * RedisRateLimiter는 기본적으로 다음 헤더를 추가합니다:
+ * RedisRateLimiter와 HybridRateLimiter는 기본적으로 다음 헤더를 추가합니다:
  * - X-RateLimit-Remaining
  * - X-RateLimit-Replenish-Rate
  * - X-RateLimit-Burst-Capacity
@@ -0,0 +1,26 @@
+package com.portal.universe.apigateway.filter;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명 검증을 마친 토큰에서 뽑아낸 값입니다.
+ * 하위 서비스로 전달할 X-User-* 헤더 값을 이미 인코딩된 형태로 보관하므로 캐시 hit 시 그대로 사용합니다.
+ *
+ * @param keyId     서명에 사용된 키 ID (캐시 hit 시 키가 아직 유효한지 확인)
+ * @param expiresAt 토큰 만료 시점 (없으면 null)
+ */
+record VerifiedToken(
+        String userId,
+        String keyId,
+        Instant expiresAt,
+        String rolesHeader,
+        String effectiveRolesHeader,
+        String membershipsHeader,
+        String nicknameHeader,
+        String usernameHeader,
+        List<SimpleGrantedAuthority> authorities
+) {
+}
@@ -0,0 +1,85 @@
+package com.portal.universe.apigateway.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.portal.universe.apigateway.config.JwtProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 검증된 토큰을 토큰 해시로 보관하는 크기 제한 캐시입니다.
+ *
+ * <p>원본 토큰 대신 SHA-256 해시를 키로 사용해 메모리에 토큰을 남기지 않습니다.
+ * 항목은 토큰 만료 시점과 maxTtl 중 빠른 시점에 만료되므로, 만료된 토큰은 캐시에서 찾을 수 없고
+ * 다시 파싱되어 TOKEN_EXPIRED로 처리됩니다.</p>
+ */
+class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> cache;
+
+    VerifiedTokenCache(JwtProperties.ClaimsCache properties) {
+        long maxTtlNanos = properties.getMaxTtl().toNanos();
+        this.cache = properties.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(properties.getMaxSize())
+                        .expireAfter(new TokenExpiry(maxTtlNanos))
+                        .build()
+                : null;
+    }
+
+    VerifiedToken get(String token) {
+        return cache == null ? null : cache.getIfPresent(hash(token));
+    }
+
+    void put(String token, VerifiedToken verified) {
+        if (cache != null) {
+            cache.put(hash(token), verified);
+        }
+    }
+
+    void invalidate(String token) {
+        if (cache != null) {
+            cache.invalidate(hash(token));
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 토큰 만료 시점까지만 보관합니다 (최대 maxTtl).
+     */
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            if (value.expiresAt() == null) {
+                return maxTtlNanos;
+            }
+            long untilExpiry = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+            return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -8,7 +8,11 @@ import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,25 +21,50 @@ import org.springframework.boot.actuate.health.Status;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.core.scheduler.Schedulers;
 import reactor.netty.http.client.HttpClient;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * 각 서비스의 health와 K8s 배포 상태를 모아 하나의 응답으로 제공합니다.
+ *
+ * <p>백그라운드에서 설정된 주기(+jitter)로 서비스를 확인해 마지막 스냅샷을 메모리에 보관하고,
+ * 요청은 스냅샷으로 응답합니다. 서비스별 확인 시각은 {@link ServiceHealthInfo#checkedAt()}에 담깁니다.
+ * 상태가 바뀐 서비스가 있으면 {@link #healthUpdates()} 구독자에게 새 스냅샷을 보냅니다.
+ * K8s 정보는 서비스별로 조회하지 않고 갱신 한 번에 Deployment/Pod 목록을 한 번씩만 조회합니다.</p>
+ */
 @Slf4j
 @Service
 public class ServiceHealthAggregator {
 
     private static final Duration HEALTH_CHECK_TIMEOUT = Duration.ofSeconds(3);
+    private static final Duration KUBERNETES_TIMEOUT = Duration.ofSeconds(2);
 
     private final HealthCheckProperties properties;
     private final WebClient webClient;
     private final KubernetesClient kubernetesClient;
     private final HealthEndpoint healthEndpoint;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ServiceHealthInfo> snapshot = new ConcurrentHashMap<>();
+    private final Sinks.Many<ServiceHealthResponse> updates = Sinks.many().multicast().directBestEffort();
+    private final AtomicReference<Mono<ServiceHealthResponse>> inFlightRefresh = new AtomicReference<>();
+    private volatile boolean initialized;
+    private Disposable refresher;
 
     @Value("${spring.application.name:api-gateway}")
     private String applicationName;
@@ -46,7 +75,8 @@ public class ServiceHealthAggregator {
     public ServiceHealthAggregator(
             HealthCheckProperties properties,
             @Autowired(required = false) KubernetesClient kubernetesClient,
-            HealthEndpoint healthEndpoint
+            HealthEndpoint healthEndpoint,
+            MeterRegistry meterRegistry
     ) {
         this.properties = properties;
         HttpClient httpClient = HttpClient.create()
@@ -57,15 +87,102 @@ public class ServiceHealthAggregator {
                 .build();
         this.kubernetesClient = kubernetesClient;
         this.healthEndpoint = healthEndpoint;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.getRefresh().isEnabled()) {
+            return;
+        }
+        refresher = Mono.defer(this::refresh)
+                .onErrorResume(e -> {
+                    log.warn("Service health refresh failed: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then(Mono.defer(() -> Mono.delay(nextRefreshDelay())))
+                .repeat()
+                .subscribe();
     }
 
+    @PreDestroy
+    void stop() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+        updates.tryEmitComplete();
+    }
+
+    /**
+     * 마지막 스냅샷을 반환합니다. 아직 한 번도 확인하지 않았거나 백그라운드 갱신이 꺼져 있으면 직접 확인합니다.
+     */
     public Mono<ServiceHealthResponse> aggregateHealth() {
+        if (initialized && properties.getRefresh().isEnabled()) {
+            return Mono.just(currentSnapshot());
+        }
+        return refresh();
+    }
+
+    /**
+     * 현재 스냅샷과, 이후 상태가 바뀔 때마다의 새 스냅샷을 흘려보냅니다.
+     */
+    public Flux<ServiceHealthResponse> healthUpdates() {
+        return updates.asFlux().startWith(aggregateHealth());
+    }
+
+    /**
+     * 모든 서비스를 한 번 확인해 스냅샷을 갱신합니다. 이미 진행 중인 갱신이 있으면 그 결과를 공유합니다.
+     */
+    public Mono<ServiceHealthResponse> refresh() {
+        return Mono.defer(() -> {
+            Mono<ServiceHealthResponse> round = pollAll()
+                    .doFinally(signal -> inFlightRefresh.set(null))
+                    .cache();
+            Mono<ServiceHealthResponse> existing = inFlightRefresh.compareAndExchange(null, round);
+            return existing != null ? existing : round;
+        });
+    }
+
+    private Mono<ServiceHealthResponse> pollAll() {
         List<HealthCheckProperties.ServiceConfig> configs = properties.getServices();
 
-        return Flux.fromIterable(configs)
-                .flatMap(this::checkService)
-                .collectList()
-                .map(ServiceHealthResponse::of);
+        return loadKubernetesState()
+                .flatMapMany(kubernetesState -> Flux.fromIterable(configs)
+                        .flatMap(config -> checkService(config)
+                                .map(info -> enrichWithKubernetesInfo(info, config, kubernetesState))))
+                .doOnNext(this::update)
+                .then(Mono.fromSupplier(() -> {
+                    initialized = true;
+                    return currentSnapshot();
+                }));
+    }
+
+    private synchronized void update(ServiceHealthInfo info) {
+        ServiceHealthInfo previous = snapshot.put(info.name(), info);
+        if (initialized && hasChanged(previous, info)) {
+            updates.tryEmitNext(currentSnapshot());
+        }
+    }
+
+    private static boolean hasChanged(ServiceHealthInfo previous, ServiceHealthInfo current) {
+        return previous == null
+                || !Objects.equals(previous.status(), current.status())
+                || !Objects.equals(previous.replicas(), current.replicas())
+                || !Objects.equals(previous.readyReplicas(), current.readyReplicas())
+                || !Objects.equals(previous.pods(), current.pods());
+    }
+
+    private ServiceHealthResponse currentSnapshot() {
+        return ServiceHealthResponse.of(properties.getServices().stream()
+                .map(config -> snapshot.get(config.getName()))
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    private Duration nextRefreshDelay() {
+        HealthCheckProperties.Refresh refresh = properties.getRefresh();
+        double factor = 1 + refresh.getJitter() * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+        return Duration.ofMillis(Math.max(1, (long) (refresh.getInterval().toMillis() * factor)));
     }
 
     private Mono<ServiceHealthInfo> checkService(HealthCheckProperties.ServiceConfig config) {
@@ -91,7 +208,7 @@ public class ServiceHealthAggregator {
                     log.warn("Health check failed for {} ({}): {}", config.getName(), healthUrl, error.getMessage());
                     return Mono.just(ServiceHealthInfo.of(config.getName(), config.getDisplayName(), "down", responseTime));
                 })
-                .flatMap(info -> enrichWithKubernetesInfoAsync(info, config));
+                .doOnNext(this::recordLatency);
     }
 
     private Mono<ServiceHealthInfo> checkSelf(HealthCheckProperties.ServiceConfig config) {
@@ -111,7 +228,17 @@ public class ServiceHealthAggregator {
                 return ServiceHealthInfo.of(config.getName(), config.getDisplayName(), "down", responseTime);
             }
         }).subscribeOn(Schedulers.boundedElastic())
-                .flatMap(info -> enrichWithKubernetesInfoAsync(info, config));
+                .doOnNext(this::recordLatency);
+    }
+
+    private void recordLatency(ServiceHealthInfo info) {
+        Timer.builder("gateway.health.check.latency")
+                .description("서비스 health check 응답 시간")
+                .tag("service", info.name())
+                .tag("status", info.status())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(info.responseTime(), TimeUnit.MILLISECONDS);
     }
 
     @SuppressWarnings("unchecked")
@@ -140,51 +267,59 @@ public class ServiceHealthAggregator {
         return "unknown";
     }
 
-    private Mono<ServiceHealthInfo> enrichWithKubernetesInfoAsync(ServiceHealthInfo info, HealthCheckProperties.ServiceConfig config) {
-        if (kubernetesClient == null || config.getK8sDeploymentName() == null) {
-            return Mono.just(info);
+    /**
+     * namespace의 Deployment와 Pod 목록을 한 번씩 조회합니다. 실패하면 K8s 정보 없이 진행합니다.
+     */
+    private Mono<KubernetesState> loadKubernetesState() {
+        if (kubernetesClient == null) {
+            return Mono.just(KubernetesState.EMPTY);
         }
-        return Mono.fromCallable(() -> enrichWithKubernetesInfo(info, config))
+        return Mono.fromCallable(() -> {
+                    Map<String, Deployment> deployments = kubernetesClient.apps().deployments()
+                            .inNamespace(namespace)
+                            .list()
+                            .getItems().stream()
+                            .collect(Collectors.toMap(d -> d.getMetadata().getName(), Function.identity(),
+                                    (first, second) -> first));
+                    Map<String, List<Pod>> podsByApp = kubernetesClient.pods()
+                            .inNamespace(namespace)
+                            .withLabel("app")
+                            .list()
+                            .getItems().stream()
+                            .collect(Collectors.groupingBy(pod -> pod.getMetadata().getLabels().get("app")));
+                    return new KubernetesState(deployments, podsByApp);
+                })
                 .subscribeOn(Schedulers.boundedElastic())
-                .timeout(Duration.ofSeconds(2))
-                .onErrorReturn(info);
+                .timeout(KUBERNETES_TIMEOUT)
+                .onErrorResume(e -> {
+                    log.warn("Failed to get K8s info for namespace {}: {}", namespace, e.getMessage());
+                    return Mono.just(KubernetesState.EMPTY);
+                });
     }
 
-    private ServiceHealthInfo enrichWithKubernetesInfo(ServiceHealthInfo info, HealthCheckProperties.ServiceConfig config) {
-        if (kubernetesClient == null || config.getK8sDeploymentName() == null) {
+    private ServiceHealthInfo enrichWithKubernetesInfo(ServiceHealthInfo info,
+                                                       HealthCheckProperties.ServiceConfig config,
+                                                       KubernetesState kubernetesState) {
+        if (config.getK8sDeploymentName() == null) {
             return info;
         }
 
-        try {
-            Deployment deployment = kubernetesClient.apps().deployments()
-                    .inNamespace(namespace)
-                    .withName(config.getK8sDeploymentName())
-                    .get();
-
-            if (deployment == null || deployment.getStatus() == null) {
-                return info;
-            }
-
-            int replicas = deployment.getStatus().getReplicas() != null
-                    ? deployment.getStatus().getReplicas() : 0;
-            int readyReplicas = deployment.getStatus().getReadyReplicas() != null
-                    ? deployment.getStatus().getReadyReplicas() : 0;
+        Deployment deployment = kubernetesState.deployments().get(config.getK8sDeploymentName());
+        if (deployment == null || deployment.getStatus() == null) {
+            return info;
+        }
 
-            List<Pod> pods = kubernetesClient.pods()
-                    .inNamespace(namespace)
-                    .withLabel("app", config.getK8sDeploymentName())
-                    .list()
-                    .getItems();
+        int replicas = deployment.getStatus().getReplicas() != null
+                ? deployment.getStatus().getReplicas() : 0;
+        int readyReplicas = deployment.getStatus().getReadyReplicas() != null
+                ? deployment.getStatus().getReadyReplicas() : 0;
 
-            List<PodInfo> podInfos = pods.stream()
-                    .map(this::toPodInfo)
-                    .toList();
+        List<PodInfo> podInfos = kubernetesState.podsByApp()
+                .getOrDefault(config.getK8sDeploymentName(), List.of()).stream()
+                .map(this::toPodInfo)
+                .toList();
 
-            return info.withKubernetesInfo(replicas, readyReplicas, podInfos);
-        } catch (Exception e) {
-            log.warn("Failed to get K8s info for {}: {}", config.getK8sDeploymentName(), e.getMessage());
-            return info;
-        }
+        return info.withKubernetesInfo(replicas, readyReplicas, podInfos);
     }
 
     private PodInfo toPodInfo(Pod pod) {
@@ -200,4 +335,11 @@ public class ServiceHealthAggregator {
 
         return new PodInfo(name, phase, ready, restarts);
     }
+
+    /**
+     * 갱신 한 번에 조회한 K8s 상태
+     */
+    private record KubernetesState(Map<String, Deployment> deployments, Map<String, List<Pod>> podsByApp) {
+        static final KubernetesState EMPTY = new KubernetesState(Map.of(), Map.of());
+    }
 }
@@ -1,10 +1,14 @@
 package com.portal.universe.apigateway.health;
 
+import com.portal.universe.apigateway.health.config.HealthCheckProperties;
 import com.portal.universe.apigateway.health.dto.ServiceHealthResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @RestController
@@ -12,10 +16,26 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class ServiceHealthController {
 
+    private static final String HEALTH_EVENT = "health";
+
     private final ServiceHealthAggregator healthAggregator;
+    private final HealthCheckProperties properties;
 
     @GetMapping("/services")
     public Mono<ServiceHealthResponse> getServicesHealth() {
         return healthAggregator.aggregateHealth();
     }
+
+    /**
+     * 현재 상태를 먼저 보내고, 이후 상태가 바뀔 때마다 새 스냅샷을 SSE로 보냅니다.
+     * 프록시가 유휴 연결을 끊지 않도록 주기적으로 heartbeat 주석을 보냅니다.
+     */
+    @GetMapping(value = "/services/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ServiceHealthResponse>> streamServicesHealth() {
+        Flux<ServerSentEvent<ServiceHealthResponse>> snapshots = healthAggregator.healthUpdates()
+                .map(response -> ServerSentEvent.builder(response).event(HEALTH_EVENT).build());
+        Flux<ServerSentEvent<ServiceHealthResponse>> heartbeats = Flux.interval(properties.getRefresh().getHeartbeat())
+                .map(tick -> ServerSentEvent.<ServiceHealthResponse>builder().comment("heartbeat").build());
+        return Flux.merge(snapshots, heartbeats);
+    }
 }
@@ -4,6 +4,7 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,6 +15,8 @@ public class HealthCheckProperties {
 
     private List<ServiceConfig> services = new ArrayList<>();
 
+    private Refresh refresh = new Refresh();
+
     @Data
     public static class ServiceConfig {
         private String name;
@@ -22,4 +25,24 @@ public class HealthCheckProperties {
         private String healthPath = "/actuator/health";
         private String k8sDeploymentName;
     }
+
+    /**
+     * 백그라운드 갱신 설정. 요청은 마지막 스냅샷으로 응답합니다.
+     */
+    @Data
+    public static class Refresh {
+        /**
+         * false이면 백그라운드 갱신 없이 요청마다 서비스를 직접 확인합니다.
+         */
+        private boolean enabled = true;
+        private Duration interval = Duration.ofSeconds(10);
+        /**
+         * 갱신 주기에 더하는 무작위 편차 비율 (여러 Gateway 인스턴스의 동시 호출 방지)
+         */
+        private double jitter = 0.2;
+        /**
+         * SSE 연결 유지를 위한 heartbeat 주기
+         */
+        private Duration heartbeat = Duration.ofSeconds(15);
+    }
 }
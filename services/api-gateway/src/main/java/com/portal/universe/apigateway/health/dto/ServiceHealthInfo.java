@@ -1,7 +1,11 @@
 package com.portal.universe.apigateway.health.dto;
 
+import java.time.Instant;
 import java.util.List;
 
+/**
+ * @param checkedAt 이 서비스를 마지막으로 확인한 시각. 값이 오래되었으면 갱신이 멈춘 것으로 판단할 수 있습니다.
+ */
 public record ServiceHealthInfo(
         String name,
         String displayName,
@@ -9,15 +13,16 @@ public record ServiceHealthInfo(
         Long responseTime,
         Integer replicas,
         Integer readyReplicas,
-        List<PodInfo> pods
+        List<PodInfo> pods,
+        Instant checkedAt
 ) {
 
     public static ServiceHealthInfo of(String name, String displayName, String status, long responseTime) {
-        return new ServiceHealthInfo(name, displayName, status, responseTime, null, null, null);
+        return new ServiceHealthInfo(name, displayName, status, responseTime, null, null, null, Instant.now());
     }
 
     public ServiceHealthInfo withKubernetesInfo(int replicas, int readyReplicas, List<PodInfo> pods) {
         return new ServiceHealthInfo(this.name, this.displayName, this.status, this.responseTime,
-                replicas, readyReplicas, pods);
+                replicas, readyReplicas, pods, this.checkedAt);
     }
 }
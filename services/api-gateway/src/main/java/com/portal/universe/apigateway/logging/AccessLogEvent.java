@@ -0,0 +1,40 @@
+package com.portal.universe.apigateway.logging;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+
+/**
+ * ring buffer의 슬롯 하나에 해당하는 접근 로그 이벤트입니다.
+ *
+ * <p>슬롯은 버퍼 생성 시 한 번만 할당되고 계속 재사용됩니다. 문자열 변환은 기록 스레드에서 수행하도록
+ * 클라이언트 주소는 {@link InetSocketAddress} 그대로 보관합니다.</p>
+ */
+final class AccessLogEvent {
+
+    /**
+     * 이 슬롯에 마지막으로 발행된 시퀀스. 기록 스레드는 이 값으로 발행 완료 여부를 판단합니다.
+     */
+    volatile long sequence = -1;
+
+    long completedAtMillis;
+    String method;
+    String path;
+    int status;
+    long durationNanos;
+    InetSocketAddress clientAddress;
+    String routeId;
+    String userId;
+    /**
+     * 느린 요청일 때만 채워지는 마스킹된 헤더
+     */
+    Map<String, String> headers;
+
+    void clear() {
+        method = null;
+        path = null;
+        clientAddress = null;
+        routeId = null;
+        userId = null;
+        headers = null;
+    }
+}
@@ -0,0 +1,91 @@
+package com.portal.universe.apigateway.logging;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 여러 요청 스레드가 쓰고 하나의 기록 스레드가 읽는 고정 크기 ring buffer입니다.
+ *
+ * <p>생산자는 CAS로 시퀀스를 하나 확보한 뒤 슬롯에 값을 쓰고, 마지막에 슬롯의 시퀀스를 기록해 발행합니다.
+ * 소비자는 슬롯의 시퀀스가 기대값과 같을 때만 읽으므로 잠금 없이 동작합니다.
+ * 버퍼가 가득 차면 요청 스레드를 막지 않고 이벤트를 버립니다.</p>
+ */
+final class AccessLogRingBuffer {
+
+    private final AccessLogEvent[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+
+    AccessLogRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity) - 1) << 1;
+        this.slots = new AccessLogEvent[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new AccessLogEvent();
+        }
+    }
+
+    /**
+     * 이벤트를 버퍼에 씁니다.
+     *
+     * @return 버퍼가 가득 차 이벤트를 버렸으면 false
+     */
+    boolean offer(long completedAtMillis, String method, String path, int status, long durationNanos,
+                  InetSocketAddress clientAddress, String routeId, String userId, Map<String, String> headers) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() >= slots.length) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        AccessLogEvent event = slots[(int) sequence & mask];
+        event.completedAtMillis = completedAtMillis;
+        event.method = method;
+        event.path = path;
+        event.status = status;
+        event.durationNanos = durationNanos;
+        event.clientAddress = clientAddress;
+        event.routeId = routeId;
+        event.userId = userId;
+        event.headers = headers;
+        event.sequence = sequence;
+        return true;
+    }
+
+    /**
+     * 발행된 이벤트를 순서대로 소비합니다. 기록 스레드 하나에서만 호출해야 합니다.
+     *
+     * @return 소비한 이벤트 수
+     */
+    int drain(Consumer<AccessLogEvent> consumer) {
+        long next = consumed.get();
+        int drained = 0;
+        while (true) {
+            AccessLogEvent event = slots[(int) next & mask];
+            if (event.sequence != next) {
+                break;
+            }
+            try {
+                consumer.accept(event);
+            } finally {
+                event.clear();
+                consumed.lazySet(++next);
+            }
+            drained++;
+        }
+        return drained;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    long backlog() {
+        return claimed.get() - consumed.get();
+    }
+}
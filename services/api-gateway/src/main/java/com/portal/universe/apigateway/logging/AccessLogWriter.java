@@ -0,0 +1,172 @@
+package com.portal.universe.apigateway.logging;
+
+import com.portal.universe.apigateway.config.AccessLogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static net.logstash.logback.argument.StructuredArguments.keyValue;
+
+/**
+ * 접근 로그 이벤트를 ring buffer에 모았다가 별도 스레드에서 로그로 씁니다.
+ *
+ * <p>요청 스레드는 샘플링 여부를 판단하고 고정 스키마의 값만 버퍼 슬롯에 복사합니다. 로그 메시지 생성,
+ * IP 문자열 변환, logstash encoder 호출은 모두 기록 스레드에서 수행합니다.
+ * 느린 요청과 5xx 응답은 샘플링과 무관하게 항상 기록하며, 느린 요청은 마스킹된 전체 헤더를 함께 남깁니다.</p>
+ */
+@Slf4j
+@Component
+public class AccessLogWriter {
+
+    private final AccessLogProperties properties;
+    private final AccessLogRingBuffer buffer;
+    private final long slowThresholdNanos;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread drainThread;
+
+    public AccessLogWriter(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buffer = new AccessLogRingBuffer(properties.getBufferSize());
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+        this.droppedCounter = Counter.builder("gateway.access_log.dropped")
+                .description("ring buffer가 가득 차 버려진 접근 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("gateway.access_log.backlog", buffer, AccessLogRingBuffer::backlog)
+                .description("아직 기록되지 않은 접근 로그 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        drainThread = new Thread(this::drainLoop, "access-log-writer");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (drainThread == null) {
+            return;
+        }
+        LockSupport.unpark(drainThread);
+        try {
+            drainThread.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 느린 요청 여부. 느린 요청은 호출 측에서 마스킹된 헤더를 함께 넘겨야 합니다.
+     */
+    public boolean isSlow(long durationNanos) {
+        return durationNanos >= slowThresholdNanos;
+    }
+
+    /**
+     * 이 요청을 기록할지 결정합니다. 느린 요청과 5xx 응답은 항상 기록합니다.
+     */
+    public boolean shouldRecord(String routeId, int status, long durationNanos) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        if (status >= 500 || isSlow(durationNanos)) {
+            return true;
+        }
+        double sampleRate = routeId == null
+                ? properties.getSampleRate()
+                : properties.getRouteSampleRates().getOrDefault(routeId, properties.getSampleRate());
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * 이벤트를 버퍼에 씁니다. 버퍼가 가득 차면 이벤트를 버리고 카운터만 올립니다.
+     *
+     * @param headers 느린 요청일 때 마스킹된 헤더, 아니면 null
+     */
+    public void record(String method, String path, int status, long durationNanos, InetSocketAddress clientAddress,
+                       String routeId, String userId, Map<String, String> headers) {
+        boolean accepted = buffer.offer(System.currentTimeMillis(), method, path, status, durationNanos,
+                clientAddress, routeId, userId, headers);
+        if (!accepted) {
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 이벤트를 모두 기록합니다.
+     *
+     * @return 기록한 이벤트 수
+     */
+    int drain() {
+        return buffer.drain(this::write);
+    }
+
+    private void drainLoop() {
+        long parkNanos = properties.getDrainInterval().toNanos();
+        while (running) {
+            try {
+                if (drain() == 0) {
+                    LockSupport.parkNanos(parkNanos);
+                }
+            } catch (Exception e) {
+                log.warn("Access log drain failed: {}", e.getMessage());
+            }
+        }
+        drain();
+    }
+
+    private void write(AccessLogEvent event) {
+        if (event.headers == null) {
+            log.info("API_ACCESS {} {} {} {} {} {} {} {}",
+                    keyValue("method", event.method),
+                    keyValue("path", event.path),
+                    keyValue("status", event.status),
+                    keyValue("durationNanos", event.durationNanos),
+                    keyValue("clientIp", clientIp(event.clientAddress)),
+                    keyValue("routeId", event.routeId),
+                    keyValue("userId", event.userId),
+                    keyValue("completedAt", Instant.ofEpochMilli(event.completedAtMillis)));
+        } else {
+            log.warn("API_ACCESS_SLOW {} {} {} {} {} {} {} {} {}",
+                    keyValue("method", event.method),
+                    keyValue("path", event.path),
+                    keyValue("status", event.status),
+                    keyValue("durationNanos", event.durationNanos),
+                    keyValue("clientIp", clientIp(event.clientAddress)),
+                    keyValue("routeId", event.routeId),
+                    keyValue("userId", event.userId),
+                    keyValue("completedAt", Instant.ofEpochMilli(event.completedAtMillis)),
+                    keyValue("headers", event.headers));
+        }
+    }
+
+    private static String clientIp(InetSocketAddress address) {
+        if (address != null && address.getAddress() != null) {
+            return address.getAddress().getHostAddress();
+        }
+        return "Unknown";
+    }
+}
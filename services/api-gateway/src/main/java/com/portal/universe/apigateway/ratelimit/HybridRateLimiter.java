@@ -0,0 +1,231 @@
+package com.portal.universe.apigateway.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 로컬 Token Bucket + Redis 전역 Token Bucket 2단계 Rate Limiter입니다.
+ *
+ * <p>키마다 Redis 전역 bucket에서 토큰을 묶음(lease)으로 빌려와 인스턴스 로컬에서 CAS로 소비합니다.
+ * 로컬 토큰이 남아 있으면 Redis를 거치지 않고, 바닥나면 키당 하나의 lease 요청만 보내 동시 요청이 결과를 공유합니다.
+ * 토큰은 전역 bucket에서 빌려온 만큼만 쓰므로 전체 허용량이 전역 한도를 넘지 않으며,
+ * 다른 인스턴스가 들고 있는 미사용 토큰만큼 일시적으로 덜 허용될 수 있습니다(최대 인스턴스 수 × leaseSize).
+ * 유휴 키의 남은 토큰은 {@link RateLimitLeaseStore}가 주기적으로 모아 돌려줍니다.</p>
+ *
+ * <p>응답 헤더는 RedisRateLimiter와 같은 X-RateLimit-* 헤더를 사용합니다.</p>
+ */
+@Slf4j
+public class HybridRateLimiter implements RateLimiter<HybridRateLimiter.Config> {
+
+    private final String name;
+    private final Config config;
+    private final long leaseSize;
+    private final RateLimitLeaseStore leaseStore;
+    private final Map<String, LocalBucket> buckets = new ConcurrentHashMap<>();
+
+    private final Counter localAllowedCounter;
+    private final Counter remoteAllowedCounter;
+    private final Counter deniedCounter;
+    private final Counter failOpenCounter;
+
+    public HybridRateLimiter(String name, double replenishRate, long burstCapacity, long requestedTokens,
+                             long leaseSize, RateLimitLeaseStore leaseStore, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.config = new Config(replenishRate, burstCapacity, requestedTokens);
+        this.leaseSize = Math.max(requestedTokens, Math.min(leaseSize, burstCapacity));
+        this.leaseStore = leaseStore;
+        this.localAllowedCounter = decisionCounter(meterRegistry, "local_allowed");
+        this.remoteAllowedCounter = decisionCounter(meterRegistry, "remote_allowed");
+        this.deniedCounter = decisionCounter(meterRegistry, "denied");
+        this.failOpenCounter = decisionCounter(meterRegistry, "fail_open");
+        leaseStore.register(this);
+    }
+
+    private Counter decisionCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.ratelimit.decisions")
+                .description("Rate Limiter 판정 결과별 횟수")
+                .tag("limiter", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        LocalBucket bucket = buckets.computeIfAbsent(id, key -> new LocalBucket());
+        bucket.lastUsedNanos = System.nanoTime();
+
+        if (bucket.tryConsume(config.requestedTokens)) {
+            localAllowedCounter.increment();
+            return Mono.just(response(true, bucket));
+        }
+        if (System.nanoTime() < bucket.deniedUntilNanos) {
+            deniedCounter.increment();
+            return Mono.just(response(false, bucket));
+        }
+
+        return bucket.refill(() -> leaseStore.lease(name, id, config.replenishRate,
+                        config.burstCapacity, leaseSize, config.requestedTokens))
+                .then(Mono.fromSupplier(() -> {
+                    boolean allowed = bucket.tryConsume(config.requestedTokens);
+                    (allowed ? remoteAllowedCounter : deniedCounter).increment();
+                    return response(allowed, bucket);
+                }))
+                .onErrorResume(e -> {
+                    // RedisRateLimiter와 동일하게 Redis 장애 시 요청 허용
+                    log.error("Rate limit lease failed, allowing request: limiter={}, error={}", name, e.getMessage());
+                    failOpenCounter.increment();
+                    return Mono.just(new Response(true, headers(-1)));
+                });
+    }
+
+    /**
+     * lastUsed가 idleBefore 이전인 키를 로컬에서 제거하고 남은 토큰을 반환합니다.
+     */
+    List<Unused> evictIdle(long idleBeforeNanos) {
+        List<Unused> unused = new ArrayList<>();
+        Iterator<Map.Entry<String, LocalBucket>> iterator = buckets.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, LocalBucket> entry = iterator.next();
+            LocalBucket bucket = entry.getValue();
+            if (bucket.lastUsedNanos >= idleBeforeNanos || bucket.refilling.get() != null) {
+                continue;
+            }
+            iterator.remove();
+            long tokens = bucket.tokens.getAndSet(0);
+            if (tokens > 0) {
+                unused.add(new Unused(name, entry.getKey(), tokens, config.burstCapacity));
+            }
+        }
+        return unused;
+    }
+
+    int localKeyCount() {
+        return buckets.size();
+    }
+
+    private Response response(boolean allowed, LocalBucket bucket) {
+        return new Response(allowed, headers(allowed ? bucket.tokens.get() + bucket.globalRemaining : 0));
+    }
+
+    private Map<String, String> headers(long remaining) {
+        return Map.of(
+                RedisRateLimiter.REMAINING_HEADER, String.valueOf(remaining),
+                RedisRateLimiter.REPLENISH_RATE_HEADER, String.valueOf(config.replenishRate),
+                RedisRateLimiter.BURST_CAPACITY_HEADER, String.valueOf(config.burstCapacity),
+                RedisRateLimiter.REQUESTED_TOKENS_HEADER, String.valueOf(config.requestedTokens));
+    }
+
+    @Override
+    public Map<String, Config> getConfig() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public Class<Config> getConfigClass() {
+        return Config.class;
+    }
+
+    @Override
+    public Config newConfig() {
+        return config;
+    }
+
+    /**
+     * Rate Limiter 설정. 라우트별 설정 대신 Bean 단위로 고정됩니다.
+     */
+    @Getter
+    public static class Config {
+        private final double replenishRate;
+        private final long burstCapacity;
+        private final long requestedTokens;
+
+        public Config(double replenishRate, long burstCapacity, long requestedTokens) {
+            this.replenishRate = replenishRate;
+            this.burstCapacity = burstCapacity;
+            this.requestedTokens = requestedTokens;
+        }
+    }
+
+    /**
+     * Redis에 돌려줄 미사용 토큰
+     *
+     * @param limiter Rate Limiter 이름 (Redis 키의 hash tag)
+     */
+    record Unused(String limiter, String key, long tokens, long burstCapacity) {
+    }
+
+    /**
+     * 키 하나의 로컬 토큰 상태
+     */
+    private final class LocalBucket {
+
+        private final AtomicLong tokens = new AtomicLong();
+        private final AtomicReference<Mono<Void>> refilling = new AtomicReference<>();
+        private volatile long globalRemaining;
+        private volatile long deniedUntilNanos;
+        private volatile long lastUsedNanos;
+
+        boolean tryConsume(long requested) {
+            while (true) {
+                long current = tokens.get();
+                if (current < requested) {
+                    return false;
+                }
+                if (tokens.compareAndSet(current, current - requested)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * 키당 하나의 lease 요청만 보내고, 진행 중인 요청이 있으면 그 결과를 기다립니다.
+         */
+        Mono<Void> refill(Supplier<Mono<RateLimitLeaseStore.Lease>> leaser) {
+            while (true) {
+                Mono<Void> inFlight = refilling.get();
+                if (inFlight != null) {
+                    return inFlight;
+                }
+                Sinks.Empty<Void> done = Sinks.empty();
+                Mono<Void> awaiting = done.asMono();
+                if (!refilling.compareAndSet(null, awaiting)) {
+                    continue;
+                }
+                leaser.get().subscribe(
+                        lease -> {
+                            tokens.addAndGet(lease.granted());
+                            globalRemaining = lease.remaining();
+                            // 전역 한도 초과 시 다음 토큰이 충전될 때까지 Redis를 다시 조회하지 않음
+                            deniedUntilNanos = lease.granted() == 0
+                                    ? System.nanoTime() + (long) (config.requestedTokens / config.replenishRate * 1_000_000_000L)
+                                    : 0;
+                        },
+                        error -> {
+                            refilling.set(null);
+                            done.tryEmitError(error);
+                        },
+                        () -> {
+                            refilling.set(null);
+                            done.tryEmitEmpty();
+                        });
+                return awaiting;
+            }
+        }
+    }
+}
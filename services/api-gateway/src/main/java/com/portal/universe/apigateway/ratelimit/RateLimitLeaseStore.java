@@ -0,0 +1,151 @@
+package com.portal.universe.apigateway.ratelimit;
+
+import com.portal.universe.apigateway.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link HybridRateLimiter}와 Redis 전역 Token Bucket 사이의 lease 저장소입니다.
+ *
+ * <p>토큰 묶음을 빌려오는 lease 스크립트와, 주기적으로 모든 Rate Limiter의 유휴 키에서 남은 토큰을 모아
+ * Rate Limiter별 한 번의 스크립트 호출로 돌려주는 정산(reconcile)을 담당합니다.</p>
+ *
+ * <p>한 Rate Limiter의 키는 모두 Rate Limiter 이름을 hash tag({@code rate_limiter.{이름}.키.tokens})로 써서
+ * Redis Cluster에서도 같은 슬롯에 놓이므로, 여러 키를 한 스크립트로 돌려줘도 CROSSSLOT 오류가 나지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class RateLimitLeaseStore {
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final RateLimitProperties properties;
+    private final RedisScript<List> leaseScript;
+    private final RedisScript<Long> returnScript;
+    private final Counter leaseCounter;
+    private final Counter returnedTokensCounter;
+
+    private final List<HybridRateLimiter> limiters = new CopyOnWriteArrayList<>();
+    private Disposable reconciler;
+
+    public RateLimitLeaseStore(ReactiveRedisTemplate<String, String> reactiveRedisTemplate,
+                               RateLimitProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.properties = properties;
+        this.leaseScript = RedisScript.of(new ClassPathResource("scripts/rate_limit_lease.lua"), List.class);
+        this.returnScript = RedisScript.of(new ClassPathResource("scripts/rate_limit_return.lua"), Long.class);
+        this.leaseCounter = Counter.builder("gateway.ratelimit.leases")
+                .description("Redis에서 토큰 묶음을 빌려온 횟수")
+                .register(meterRegistry);
+        this.returnedTokensCounter = Counter.builder("gateway.ratelimit.returned.tokens")
+                .description("사용하지 않아 Redis에 돌려준 토큰 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        reconciler = Flux.interval(properties.getReconcileInterval())
+                .concatMap(tick -> reconcile()
+                        .onErrorResume(e -> {
+                            log.warn("Rate limit lease reconcile failed: {}", e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (reconciler != null) {
+            reconciler.dispose();
+        }
+    }
+
+    void register(HybridRateLimiter limiter) {
+        limiters.add(limiter);
+    }
+
+    /**
+     * 전역 Token Bucket에서 최대 leaseSize개의 토큰을 빌려옵니다.
+     */
+    @SuppressWarnings("unchecked")
+    Mono<Lease> lease(String limiter, String key, double replenishRate, long burstCapacity, long leaseSize,
+                      long minimum) {
+        leaseCounter.increment();
+        return reactiveRedisTemplate.execute(leaseScript,
+                        List.of(tokensKey(limiter, key), timestampKey(limiter, key)),
+                        List.of(String.valueOf(replenishRate), String.valueOf(burstCapacity),
+                                String.valueOf(leaseSize), String.valueOf(minimum)))
+                .next()
+                .map(result -> {
+                    List<Long> values = (List<Long>) result;
+                    return new Lease(values.get(0), values.get(1));
+                });
+    }
+
+    /**
+     * 모든 Rate Limiter의 유휴 키에서 남은 토큰을 모아 Rate Limiter(hash tag)별로 한 번에 돌려줍니다.
+     */
+    Mono<Void> reconcile() {
+        long idleBefore = System.nanoTime() - properties.getIdleTimeout().toNanos();
+        Map<String, List<HybridRateLimiter.Unused>> byLimiter = new LinkedHashMap<>();
+        long returned = 0;
+        for (HybridRateLimiter limiter : limiters) {
+            for (HybridRateLimiter.Unused unused : limiter.evictIdle(idleBefore)) {
+                byLimiter.computeIfAbsent(unused.limiter(), name -> new ArrayList<>()).add(unused);
+                returned += unused.tokens();
+            }
+        }
+        if (byLimiter.isEmpty()) {
+            return Mono.empty();
+        }
+        returnedTokensCounter.increment(returned);
+        return Flux.fromIterable(byLimiter.values())
+                .concatMap(this::returnTokens)
+                .then();
+    }
+
+    /**
+     * 같은 hash tag를 쓰는 한 Rate Limiter의 미사용 토큰을 한 번의 스크립트 호출로 돌려줍니다.
+     */
+    private Flux<Long> returnTokens(List<HybridRateLimiter.Unused> unusedTokens) {
+        List<String> keys = new ArrayList<>(unusedTokens.size());
+        List<String> args = new ArrayList<>(unusedTokens.size() * 2);
+        for (HybridRateLimiter.Unused unused : unusedTokens) {
+            keys.add(tokensKey(unused.limiter(), unused.key()));
+            args.add(String.valueOf(unused.tokens()));
+            args.add(String.valueOf(unused.burstCapacity()));
+        }
+        return reactiveRedisTemplate.execute(returnScript, keys, args);
+    }
+
+    static String tokensKey(String limiter, String key) {
+        return "rate_limiter.{" + limiter + "}." + key + ".tokens";
+    }
+
+    static String timestampKey(String limiter, String key) {
+        return "rate_limiter.{" + limiter + "}." + key + ".timestamp";
+    }
+
+    /**
+     * @param granted   빌려온 토큰 수 (0이면 전역 한도 초과)
+     * @param remaining 빌려준 뒤 남은 전역 토큰 수
+     */
+    record Lease(long granted, long remaining) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.portal.universe.apigateway.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 해시(SHA-256 hex)용 Bloom filter입니다.
+ *
+ * <p>입력이 이미 균일한 SHA-256 해시이므로 앞 16바이트를 두 개의 64비트 값으로 나눠
+ * double hashing(h1 + i * h2)으로 비트 위치를 구합니다. 추가 해시 계산이 없습니다.
+ * 구독 스레드가 추가하는 동안 요청 스레드가 읽으므로 비트 배열은 {@link AtomicLongArray}를 사용합니다.</p>
+ */
+class BlacklistBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    BlacklistBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, m);
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    void put(String tokenHash) {
+        long h1 = Long.parseUnsignedLong(tokenHash, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(tokenHash, 16, 32, 16);
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String tokenHash) {
+        long h1 = Long.parseUnsignedLong(tokenHash, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(tokenHash, 16, 32, 16);
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,23 +1,130 @@
 package com.portal.universe.apigateway.service;
 
-import lombok.RequiredArgsConstructor;
+import com.portal.universe.apigateway.config.TokenBlacklistProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Gateway에서 로그아웃된 토큰(블랙리스트)을 확인하는 서비스입니다.
  * Auth-service의 TokenBlacklistService와 동일한 Redis 키 패턴을 사용합니다.
- * Redis 키 패턴: blacklist:{accessToken}
+ * Redis 키 패턴: blacklist:{sha256(accessToken)}
+ *
+ * <p>블랙리스트 토큰은 드물기 때문에 매 요청 Redis를 조회하지 않고 로컬 복제본으로 먼저 판정합니다.</p>
+ * <ul>
+ *   <li>blacklist:index(ZSET)로 Bloom filter를 만들고, resyncInterval마다 다시 만들어 만료된 토큰을 제거합니다.</li>
+ *   <li>blacklist:events 채널로 받은 최근 블랙리스트 토큰은 정확한 Set에 보관해 Redis 없이 차단합니다.</li>
+ *   <li>Bloom filter가 음성이면 블랙리스트가 아니며, 양성인 경우만 Redis로 확인합니다(오탐 처리).</li>
+ *   <li>구독이 끊기면 그 사이 이벤트를 놓칠 수 있으므로, 재구독 후 전체 재동기화가 끝날 때까지 Redis로 조회합니다.</li>
+ * </ul>
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TokenBlacklistChecker {
 
-    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
     private static final String BLACKLIST_PREFIX = "blacklist:";
+    private static final String BLACKLIST_INDEX_KEY = "blacklist:index";
+    private static final String BLACKLIST_CHANNEL = "blacklist:events";
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final TokenBlacklistProperties properties;
+
+    /** 최근 이벤트로 받은 블랙리스트 토큰 해시 → 만료 시점(epoch millis) */
+    private final Map<String, Long> recentRevocations = new ConcurrentHashMap<>();
+    private final Disposable.Composite subscriptions = Disposables.composite();
+    private volatile BlacklistBloomFilter bloomFilter;
+    private volatile boolean mirrorReady;
+
+    private final Counter recentHitCounter;
+    private final Counter mirrorNegativeCounter;
+    private final Counter redisConfirmedCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter redisFallbackCounter;
+
+    public TokenBlacklistChecker(ReactiveRedisTemplate<String, String> reactiveRedisTemplate,
+                                 ReactiveRedisMessageListenerContainer listenerContainer,
+                                 TokenBlacklistProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.properties = properties;
+        this.recentHitCounter = lookupCounter(meterRegistry, "recent_hit");
+        this.mirrorNegativeCounter = lookupCounter(meterRegistry, "mirror_negative");
+        this.redisConfirmedCounter = lookupCounter(meterRegistry, "redis_confirmed");
+        this.falsePositiveCounter = lookupCounter(meterRegistry, "false_positive");
+        this.redisFallbackCounter = lookupCounter(meterRegistry, "redis_fallback");
+        Gauge.builder("gateway.blacklist.recent.size", recentRevocations, Map::size)
+                .description("이벤트로 받은 최근 블랙리스트 토큰 수")
+                .register(meterRegistry);
+        Gauge.builder("gateway.blacklist.mirror.ready", this, checker -> checker.mirrorReady ? 1 : 0)
+                .description("로컬 블랙리스트 복제본 동기화 여부")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.blacklist.lookups")
+                .description("블랙리스트 조회 결과별 횟수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isMirrorEnabled()) {
+            return;
+        }
+
+        // 구독이 활성화된 뒤 전체 재동기화. 재동기화 중 도착한 이벤트는 최근 Set에 반영되므로 누락이 없음
+        subscriptions.add(Flux.defer(() -> listenerContainer.receiveLater(ChannelTopic.of(BLACKLIST_CHANNEL))
+                        .flatMapMany(messages -> Flux.merge(
+                                messages.doOnNext(message -> applyEvent(message.getMessage())).then(),
+                                resync())))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> {
+                            mirrorReady = false;
+                            log.warn("Token blacklist subscription lost, resyncing after reconnect: {}",
+                                    signal.failure().getMessage());
+                        }))
+                .subscribe());
+
+        subscriptions.add(Flux.interval(properties.getResyncInterval())
+                .filter(tick -> mirrorReady)
+                .concatMap(tick -> resync()
+                        .onErrorResume(e -> {
+                            log.warn("Periodic token blacklist resync failed: {}", e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe());
+    }
+
+    @PreDestroy
+    void stop() {
+        subscriptions.dispose();
+    }
 
     /**
      * 토큰이 블랙리스트에 등록되어 있는지 확인합니다.
@@ -26,8 +133,31 @@ public class TokenBlacklistChecker {
      * @return 블랙리스트에 있으면 true
      */
     public Mono<Boolean> isBlacklisted(String token) {
-        String key = BLACKLIST_PREFIX + token;
-        return reactiveRedisTemplate.hasKey(key)
+        String tokenHash = hashToken(token);
+        if (!mirrorReady) {
+            redisFallbackCounter.increment();
+            return existsInRedis(tokenHash);
+        }
+
+        Long expiresAt = recentRevocations.get(tokenHash);
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            recentHitCounter.increment();
+            log.debug("Token is blacklisted (recent revocation)");
+            return Mono.just(true);
+        }
+
+        if (!bloomFilter.mightContain(tokenHash)) {
+            mirrorNegativeCounter.increment();
+            return Mono.just(false);
+        }
+
+        return existsInRedis(tokenHash)
+                .doOnNext(blacklisted -> (Boolean.TRUE.equals(blacklisted)
+                        ? redisConfirmedCounter : falsePositiveCounter).increment());
+    }
+
+    private Mono<Boolean> existsInRedis(String tokenHash) {
+        return reactiveRedisTemplate.hasKey(BLACKLIST_PREFIX + tokenHash)
                 .doOnNext(blacklisted -> {
                     if (Boolean.TRUE.equals(blacklisted)) {
                         log.debug("Token is blacklisted");
@@ -39,4 +169,66 @@ public class TokenBlacklistChecker {
                     return Mono.just(false);
                 });
     }
+
+    /**
+     * 유효한 블랙리스트 토큰 전체로 Bloom filter를 다시 만들고, 만료된 최근 항목을 정리합니다.
+     */
+    Mono<Void> resync() {
+        long now = System.currentTimeMillis();
+        return reactiveRedisTemplate.opsForZSet()
+                .rangeByScore(BLACKLIST_INDEX_KEY, Range.closed((double) now, Double.MAX_VALUE))
+                .collectList()
+                .doOnNext(hashes -> {
+                    rebuild(hashes);
+                    recentRevocations.values().removeIf(expiresAt -> expiresAt <= now);
+                    mirrorReady = true;
+                    log.info("Token blacklist mirror synced: entries={}, recent={}",
+                            hashes.size(), recentRevocations.size());
+                })
+                .then();
+    }
+
+    private void rebuild(List<String> hashes) {
+        BlacklistBloomFilter rebuilt = new BlacklistBloomFilter(
+                Math.max(properties.getExpectedInsertions(), hashes.size() * 2), properties.getFalsePositiveRate());
+        hashes.forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+
+    /**
+     * 블랙리스트 이벤트를 반영합니다. 메시지 형식: {hash}:{expiresAtEpochMillis}
+     */
+    void applyEvent(String message) {
+        int separator = message.lastIndexOf(':');
+        if (separator <= 0) {
+            log.warn("Ignoring malformed token blacklist event");
+            return;
+        }
+        String tokenHash = message.substring(0, separator);
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(message.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed token blacklist event");
+            return;
+        }
+        recentRevocations.put(tokenHash, expiresAt);
+        BlacklistBloomFilter current = bloomFilter;
+        if (current != null) {
+            current.put(tokenHash);
+        }
+    }
+
+    /**
+     * Auth Service의 TokenBlacklistService와 동일한 해시(SHA-256 hex)를 사용합니다.
+     */
+    private static String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 JVM 필수 지원 알고리즘이므로 발생하지 않음
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
 }
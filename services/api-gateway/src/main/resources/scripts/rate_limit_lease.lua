@@ -0,0 +1,50 @@
+-- 전역 Token Bucket에서 토큰 묶음(lease)을 빌려옵니다.
+-- Spring Cloud Gateway request_rate_limiter.lua와 같은 충전 방식이며,
+-- 요청 하나 대신 최대 ARGV[3]개를 한 번에 가져가 Gateway 인스턴스가 로컬에서 소비합니다.
+--
+-- KEYS[1]: tokens key, KEYS[2]: timestamp key (같은 Rate Limiter hash tag를 써서 같은 슬롯)
+-- ARGV[1]: replenishRate (초당 충전 토큰 수), ARGV[2]: burstCapacity
+-- ARGV[3]: 빌려갈 최대 토큰 수, ARGV[4]: 최소 필요 토큰 수 (요청 하나의 소비량)
+-- 반환: { 빌려준 토큰 수, 남은 전역 토큰 수 }
+
+local tokens_key = KEYS[1]
+local timestamp_key = KEYS[2]
+
+local rate = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local lease = tonumber(ARGV[3])
+local minimum = tonumber(ARGV[4])
+
+-- 인스턴스 간 시계 차이를 없애기 위해 Redis 시간을 사용
+local time = redis.call('TIME')
+local now = tonumber(time[1]) + tonumber(time[2]) / 1000000
+
+local fill_time = capacity / rate
+local ttl = math.floor(fill_time * 2)
+if ttl < 1 then
+    ttl = 1
+end
+
+local last_tokens = tonumber(redis.call('GET', tokens_key))
+if last_tokens == nil then
+    last_tokens = capacity
+end
+
+local last_refreshed = tonumber(redis.call('GET', timestamp_key))
+if last_refreshed == nil then
+    last_refreshed = 0
+end
+
+local delta = math.max(0, now - last_refreshed)
+local filled = math.min(capacity, last_tokens + (delta * rate))
+
+local granted = 0
+if filled >= minimum then
+    granted = math.min(lease, math.floor(filled))
+end
+local new_tokens = filled - granted
+
+redis.call('SETEX', tokens_key, ttl, new_tokens)
+redis.call('SETEX', timestamp_key, ttl, now)
+
+return { granted, math.floor(new_tokens) }
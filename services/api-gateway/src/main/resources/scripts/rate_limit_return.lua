@@ -0,0 +1,19 @@
+-- 사용하지 않은 lease 토큰을 전역 Token Bucket에 한 번에 돌려줍니다.
+-- 키가 만료되었으면 bucket이 이미 가득 찬 상태이므로 건너뜁니다.
+--
+-- KEYS[i]: tokens key (Redis Cluster에서 같은 슬롯이 되도록 모든 키가 같은 Rate Limiter hash tag를 써야 함)
+-- ARGV[2i-1]: 돌려줄 토큰 수, ARGV[2i]: burstCapacity
+-- 반환: 반영된 키 수
+
+local restored = 0
+for i, tokens_key in ipairs(KEYS) do
+    local amount = tonumber(ARGV[i * 2 - 1])
+    local capacity = tonumber(ARGV[i * 2])
+    local current = tonumber(redis.call('GET', tokens_key))
+    local ttl = redis.call('TTL', tokens_key)
+    if current ~= nil and ttl > 0 then
+        redis.call('SETEX', tokens_key, ttl, math.min(capacity, current + amount))
+        restored = restored + 1
+    end
+end
+return restored
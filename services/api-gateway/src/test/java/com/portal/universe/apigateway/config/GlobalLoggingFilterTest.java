@@ -1,23 +1,40 @@
 package com.portal.universe.apigateway.config;
 
+import com.portal.universe.apigateway.logging.AccessLogWriter;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @DisplayName("GlobalLoggingFilter Test")
 class GlobalLoggingFilterTest {
 
-    private final GlobalLoggingFilter filter = new GlobalLoggingFilter();
+    private AccessLogWriter accessLogWriter;
+    private GlobalLoggingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        accessLogWriter = mock(AccessLogWriter.class);
+        when(accessLogWriter.isEnabled()).thenReturn(true);
+        when(accessLogWriter.shouldRecord(any(), anyInt(), anyLong())).thenReturn(true);
+        filter = new GlobalLoggingFilter(accessLogWriter);
+    }
 
     @Test
     @DisplayName("chain.filter를 호출한다")
@@ -69,4 +86,85 @@ class GlobalLoggingFilterTest {
 
         verify(chain).filter(exchange);
     }
+
+    @Test
+    @DisplayName("Route ID, 매칭된 경로 패턴, 상태 코드, 사용자 ID를 기록한다")
+    void should_recordFixedSchemaEvent_when_requestCompletes() {
+        var request = MockServerHttpRequest.get("/api/v1/shopping/products/42")
+                .header("X-User-Id", "user-1")
+                .remoteAddress(new InetSocketAddress("10.0.0.1", 8080))
+                .build();
+        var exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id("shopping-service-route")
+                .uri(URI.create("http://localhost:8083"))
+                .predicate(e -> true)
+                .build());
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_PREDICATE_MATCHED_PATH_ATTR,
+                "/api/v1/shopping/**");
+        exchange.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
+        var chain = mock(GatewayFilterChain.class);
+        when(chain.filter(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(filter.filter(exchange, chain))
+                .expectComplete()
+                .verify();
+
+        verify(accessLogWriter).record(eq("GET"), eq("/api/v1/shopping/**"), eq(404), anyLong(),
+                any(InetSocketAddress.class), eq("shopping-service-route"), eq("user-1"), isNull());
+    }
+
+    @Test
+    @DisplayName("샘플링에서 제외되면 기록하지 않는다")
+    void should_notRecord_when_sampledOut() {
+        when(accessLogWriter.shouldRecord(any(), anyInt(), anyLong())).thenReturn(false);
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/test").build());
+        var chain = mock(GatewayFilterChain.class);
+        when(chain.filter(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(filter.filter(exchange, chain))
+                .expectComplete()
+                .verify();
+
+        verify(accessLogWriter, never()).record(any(), any(), anyInt(), anyLong(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("느린 요청은 민감한 헤더를 마스킹한 전체 헤더를 함께 기록한다")
+    @SuppressWarnings("unchecked")
+    void should_recordMaskedHeaders_when_slowRequest() {
+        when(accessLogWriter.isSlow(anyLong())).thenReturn(true);
+        var request = MockServerHttpRequest.get("/api/test")
+                .header("Authorization", "Bearer some-token")
+                .header("Content-Type", "application/json")
+                .build();
+        var exchange = MockServerWebExchange.from(request);
+        var chain = mock(GatewayFilterChain.class);
+        when(chain.filter(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(filter.filter(exchange, chain))
+                .expectComplete()
+                .verify();
+
+        ArgumentCaptor<Map<String, String>> headers = ArgumentCaptor.forClass(Map.class);
+        verify(accessLogWriter).record(any(), eq("/api/test"), eq(200), anyLong(), any(), isNull(), isNull(),
+                headers.capture());
+        assertThat(headers.getValue())
+                .containsEntry("Authorization", "***")
+                .containsEntry("Content-Type", "application/json");
+    }
+
+    @Test
+    @DisplayName("체인이 에러로 끝나면 500으로 기록한다")
+    void should_recordServerError_when_chainFails() {
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/test").build());
+        var chain = mock(GatewayFilterChain.class);
+        when(chain.filter(any())).thenReturn(Mono.error(new IllegalStateException("boom")));
+
+        StepVerifier.create(filter.filter(exchange, chain))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(accessLogWriter).record(any(), any(), eq(500), anyLong(), any(), any(), any(), any());
+    }
 }
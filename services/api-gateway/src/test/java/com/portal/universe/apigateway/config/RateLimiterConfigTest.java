@@ -1,9 +1,13 @@
 package com.portal.universe.apigateway.config;
 
+import com.portal.universe.apigateway.ratelimit.HybridRateLimiter;
+import com.portal.universe.apigateway.ratelimit.RateLimitLeaseStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
 import org.springframework.core.env.Environment;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
@@ -20,7 +24,8 @@ class RateLimiterConfigTest {
     private RateLimiterConfig createConfig(String... profiles) {
         Environment env = mock(Environment.class);
         when(env.getActiveProfiles()).thenReturn(profiles);
-        return new RateLimiterConfig(env);
+        return new RateLimiterConfig(env, new RateLimitProperties(), mock(RateLimitLeaseStore.class),
+                new SimpleMeterRegistry());
     }
 
     @Nested
@@ -169,6 +174,27 @@ class RateLimiterConfigTest {
             assertThat(limiter).isNotNull();
         }
 
+        @Test
+        @DisplayName("기본 모드에서는 HybridRateLimiter를 사용한다")
+        void should_useHybridRateLimiter_when_defaultMode() {
+            var config = createConfig("production");
+
+            assertThat(config.authenticatedRedisRateLimiter()).isInstanceOf(HybridRateLimiter.class);
+        }
+
+        @Test
+        @DisplayName("REDIS 모드에서는 RedisRateLimiter를 사용한다")
+        void should_useRedisRateLimiter_when_redisMode() {
+            Environment env = mock(Environment.class);
+            when(env.getActiveProfiles()).thenReturn(new String[]{"production"});
+            var properties = new RateLimitProperties();
+            properties.setMode(RateLimitProperties.Mode.REDIS);
+            var config = new RateLimiterConfig(env, properties, mock(RateLimitLeaseStore.class),
+                    new SimpleMeterRegistry());
+
+            assertThat(config.authenticatedRedisRateLimiter()).isInstanceOf(RedisRateLimiter.class);
+        }
+
         @Test
         @DisplayName("모든 RateLimiter Bean을 생성할 수 있다")
         void should_createAllRateLimiterBeans() {
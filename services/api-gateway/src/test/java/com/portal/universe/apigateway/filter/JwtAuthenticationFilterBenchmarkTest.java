@@ -0,0 +1,92 @@
+package com.portal.universe.apigateway.filter;
+
+import com.portal.universe.apigateway.config.JwtProperties;
+import com.portal.universe.apigateway.config.PublicPathProperties;
+import com.portal.universe.apigateway.service.TokenBlacklistChecker;
+import com.portal.universe.apigateway.util.JwtTestHelper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JwtAuthenticationFilter 요청당 비용 벤치마크입니다.
+ * 같은 토큰이 반복되는 캐시 hit와, 캐시를 끈 상태(매 요청 서명 검증 + claims 파싱)를 비교합니다.
+ * 블랙리스트 조회는 즉시 완료되는 Mono로 대체해 필터 자체의 CPU 비용만 측정합니다.
+ */
+@Slf4j
+@Disabled("벤치마크 - 수동 실행")
+class JwtAuthenticationFilterBenchmarkTest {
+
+    private static final String KEY_ID = "bench-key";
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int ROUNDS = 200_000;
+
+    private final WebFilterChain chain = exchange -> Mono.empty();
+
+    @Test
+    @DisplayName("요청당 필터 비용: 캐시 hit vs miss")
+    void compareCacheHitAndMiss() {
+        String token = JwtTestHelper.createToken(JwtTestHelper.TEST_SECRET_KEY, KEY_ID, "user-1",
+                List.of("ROLE_USER", "ROLE_SELLER"), Map.of("blog", "PRO", "shopping", "BASIC"),
+                "테스터", "tester", 3600_000L);
+
+        JwtAuthenticationFilter cached = createFilter(true);
+        JwtAuthenticationFilter uncached = createFilter(false);
+
+        time(cached, token, WARMUP_ROUNDS);
+        time(uncached, token, WARMUP_ROUNDS);
+
+        long hitNanos = time(cached, token, ROUNDS);
+        long missNanos = time(uncached, token, ROUNDS);
+
+        log.info("JwtAuthenticationFilter per request - cache hit: {} µs, cache miss: {} µs",
+                String.format("%.2f", hitNanos / 1_000.0 / ROUNDS),
+                String.format("%.2f", missNanos / 1_000.0 / ROUNDS));
+        assertThat(hitNanos).isLessThan(missNanos);
+    }
+
+    private long time(JwtAuthenticationFilter filter, String token, int rounds) {
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/test")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .build());
+            filter.filter(exchange, chain).block();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private JwtAuthenticationFilter createFilter(boolean cacheEnabled) {
+        var keyConfig = new JwtProperties.KeyConfig();
+        keyConfig.setSecretKey(JwtTestHelper.TEST_SECRET_KEY);
+        keyConfig.setActivatedAt(LocalDateTime.now().minusDays(1));
+
+        var jwtProperties = new JwtProperties();
+        jwtProperties.setCurrentKeyId(KEY_ID);
+        jwtProperties.setKeys(Map.of(KEY_ID, keyConfig));
+        jwtProperties.getClaimsCache().setEnabled(cacheEnabled);
+
+        var publicPathProperties = new PublicPathProperties();
+        publicPathProperties.setSkipJwtParsing(List.of("/actuator"));
+
+        TokenBlacklistChecker blacklistChecker = mock(TokenBlacklistChecker.class);
+        when(blacklistChecker.isBlacklisted(anyString())).thenReturn(Mono.just(false));
+
+        return new JwtAuthenticationFilter(jwtProperties, publicPathProperties, blacklistChecker);
+    }
+}
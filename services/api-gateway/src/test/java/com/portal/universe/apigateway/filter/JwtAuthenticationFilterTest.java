@@ -507,6 +507,81 @@ class JwtAuthenticationFilterTest {
         }
     }
 
+    @Nested
+    @DisplayName("검증 캐시")
+    class VerifiedTokenCaching {
+
+        private JwtProperties jwtProperties;
+        private JwtAuthenticationFilter cachingFilter;
+
+        @BeforeEach
+        void setUp() {
+            jwtProperties = new JwtProperties();
+            jwtProperties.setCurrentKeyId(KEY_ID);
+            jwtProperties.setKeys(Map.of(KEY_ID, activeKey(SECRET_KEY)));
+
+            var publicPathProperties = new PublicPathProperties();
+            publicPathProperties.setSkipJwtParsing(List.of("/actuator", "/fallback"));
+            cachingFilter = new JwtAuthenticationFilter(jwtProperties, publicPathProperties, tokenBlacklistChecker);
+        }
+
+        private JwtProperties.KeyConfig activeKey(String secretKey) {
+            var keyConfig = new JwtProperties.KeyConfig();
+            keyConfig.setSecretKey(secretKey);
+            keyConfig.setActivatedAt(LocalDateTime.now().minusDays(1));
+            return keyConfig;
+        }
+
+        private MockServerWebExchange exchangeWith(String token) {
+            return MockServerWebExchange.from(MockServerHttpRequest.get("/api/test")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .build());
+        }
+
+        @Test
+        @DisplayName("같은 토큰의 두 번째 요청도 동일한 헤더를 추가하고 블랙리스트를 다시 확인한다")
+        void should_addSameHeaders_and_checkBlacklist_when_tokenServedFromCache() {
+            String token = JwtTestHelper.createToken(SECRET_KEY, KEY_ID, "user1", List.of("ROLE_USER"),
+                    Map.of("blog", "PRO"), "테스터", "testuser", 3600_000L);
+            when(tokenBlacklistChecker.isBlacklisted(token)).thenReturn(Mono.just(false));
+            var captor = ArgumentCaptor.forClass(ServerWebExchange.class);
+            when(chain.filter(captor.capture())).thenReturn(Mono.empty());
+
+            StepVerifier.create(cachingFilter.filter(exchangeWith(token), chain)).verifyComplete();
+            StepVerifier.create(cachingFilter.filter(exchangeWith(token), chain)).verifyComplete();
+
+            var first = captor.getAllValues().get(0).getRequest().getHeaders();
+            var second = captor.getAllValues().get(1).getRequest().getHeaders();
+            for (String header : List.of("X-User-Id", "X-User-Roles", "X-User-Effective-Roles",
+                    "X-User-Memberships", "X-User-Nickname", "X-User-Name")) {
+                assertThat(second.getFirst(header)).isEqualTo(first.getFirst(header));
+            }
+            verify(tokenBlacklistChecker, times(2)).isBlacklisted(token);
+        }
+
+        @Test
+        @DisplayName("캐시된 토큰이라도 서명 키가 설정에서 제거되면 401과 GW-A005 코드를 반환한다")
+        void should_return401_when_cachedTokenKeyRemoved() {
+            String token = JwtTestHelper.createTokenWithKid(SECRET_KEY, KEY_ID, "user1", List.of("ROLE_USER"));
+            when(tokenBlacklistChecker.isBlacklisted(token)).thenReturn(Mono.just(false));
+            when(chain.filter(any())).thenReturn(Mono.empty());
+            StepVerifier.create(cachingFilter.filter(exchangeWith(token), chain)).verifyComplete();
+
+            // 설정 재바인딩으로 키 교체
+            jwtProperties.setKeys(Map.of("test-key-2",
+                    activeKey("another-secret-key-that-is-at-least-256-bits-long-for-hmac-sha")));
+            jwtProperties.setCurrentKeyId("test-key-2");
+            var exchange = exchangeWith(token);
+
+            StepVerifier.create(cachingFilter.filter(exchange, chain)).verifyComplete();
+
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+            String body = exchange.getResponse().getBodyAsString().block();
+            assertThat(body).contains(GatewayErrorCode.INVALID_TOKEN.getCode());
+            verify(chain, times(1)).filter(any());
+        }
+    }
+
     @Nested
     @DisplayName("Header Injection 방어")
     class HeaderInjection {
@@ -1,6 +1,7 @@
 package com.portal.universe.apigateway.health;
 
 import com.portal.universe.apigateway.health.config.HealthCheckProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.*;
@@ -25,6 +26,7 @@ class ServiceHealthAggregatorTest {
     private MockWebServer mockWebServer;
     private HealthCheckProperties properties;
     private HealthEndpoint healthEndpoint;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() throws IOException {
@@ -32,6 +34,7 @@ class ServiceHealthAggregatorTest {
         mockWebServer.start();
         properties = new HealthCheckProperties();
         healthEndpoint = mock(HealthEndpoint.class);
+        meterRegistry = new SimpleMeterRegistry();
     }
 
     @AfterEach
@@ -40,7 +43,7 @@ class ServiceHealthAggregatorTest {
     }
 
     private ServiceHealthAggregator createAggregator(String applicationName) {
-        var aggregator = new ServiceHealthAggregator(properties, null, healthEndpoint);
+        var aggregator = new ServiceHealthAggregator(properties, null, healthEndpoint, meterRegistry);
         // applicationName 설정 (리플렉션)
         try {
             var field = ServiceHealthAggregator.class.getDeclaredField("applicationName");
@@ -156,6 +159,115 @@ class ServiceHealthAggregatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("스냅샷")
+    class Snapshot {
+
+        private void enqueueStatus(String status) {
+            mockWebServer.enqueue(new MockResponse()
+                    .setBody("{\"status\":\"" + status + "\"}")
+                    .addHeader("Content-Type", "application/json"));
+        }
+
+        @Test
+        @DisplayName("한 번 확인한 뒤에는 서비스를 다시 호출하지 않고 스냅샷으로 응답한다")
+        void should_serveFromSnapshot_when_alreadyRefreshed() {
+            enqueueStatus("UP");
+            properties.setServices(List.of(createServiceConfig("auth", "Auth Service")));
+            var aggregator = createAggregator("api-gateway");
+
+            aggregator.aggregateHealth().block();
+            var response = aggregator.aggregateHealth().block();
+
+            assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+            assertThat(response.services().get(0).status()).isEqualTo("up");
+            assertThat(response.services().get(0).checkedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("백그라운드 갱신이 꺼져 있으면 요청마다 서비스를 확인한다")
+        void should_checkEveryRequest_when_refreshDisabled() {
+            enqueueStatus("UP");
+            enqueueStatus("UP");
+            properties.getRefresh().setEnabled(false);
+            properties.setServices(List.of(createServiceConfig("auth", "Auth Service")));
+            var aggregator = createAggregator("api-gateway");
+
+            aggregator.aggregateHealth().block();
+            aggregator.aggregateHealth().block();
+
+            assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("동시에 요청된 갱신은 한 번의 확인을 공유한다")
+        void should_shareInFlightRefresh_when_concurrentRequests() {
+            mockWebServer.enqueue(new MockResponse()
+                    .setBody("{\"status\":\"UP\"}")
+                    .addHeader("Content-Type", "application/json")
+                    .setBodyDelay(200, TimeUnit.MILLISECONDS));
+            properties.setServices(List.of(createServiceConfig("auth", "Auth Service")));
+            var aggregator = createAggregator("api-gateway");
+
+            var first = aggregator.refresh();
+            var second = aggregator.refresh();
+            StepVerifier.create(first.zipWith(second))
+                    .assertNext(both -> assertThat(both.getT1()).isSameAs(both.getT2()))
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(5));
+
+            assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("상태가 바뀌면 구독자에게 새 스냅샷을 보낸다")
+        void should_publishUpdate_when_statusChanges() {
+            enqueueStatus("UP");
+            mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+            properties.setServices(List.of(createServiceConfig("auth", "Auth Service")));
+            var aggregator = createAggregator("api-gateway");
+
+            StepVerifier.create(aggregator.healthUpdates().take(2))
+                    .assertNext(response -> assertThat(response.overallStatus()).isEqualTo("up"))
+                    .then(() -> aggregator.refresh().block())
+                    .assertNext(response -> assertThat(response.overallStatus()).isEqualTo("down"))
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(10));
+        }
+
+        @Test
+        @DisplayName("상태가 같으면 새 스냅샷을 보내지 않는다")
+        void should_notPublishUpdate_when_statusUnchanged() {
+            enqueueStatus("UP");
+            enqueueStatus("UP");
+            properties.setServices(List.of(createServiceConfig("auth", "Auth Service")));
+            var aggregator = createAggregator("api-gateway");
+
+            StepVerifier.create(aggregator.healthUpdates())
+                    .expectNextCount(1)
+                    .then(() -> aggregator.refresh().block())
+                    .expectNoEvent(Duration.ofMillis(300))
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(10));
+        }
+
+        @Test
+        @DisplayName("서비스별 응답 시간을 histogram Timer로 기록한다")
+        void should_recordLatencyPerService() {
+            enqueueStatus("UP");
+            properties.setServices(List.of(createServiceConfig("auth", "Auth Service")));
+            var aggregator = createAggregator("api-gateway");
+
+            aggregator.refresh().block();
+
+            var timer = meterRegistry.get("gateway.health.check.latency")
+                    .tag("service", "auth")
+                    .tag("status", "up")
+                    .timer();
+            assertThat(timer.count()).isEqualTo(1);
+        }
+    }
+
     @Nested
     @DisplayName("checkSelf")
     class CheckSelf {
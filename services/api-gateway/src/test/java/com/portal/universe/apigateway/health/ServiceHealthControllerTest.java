@@ -1,18 +1,22 @@
 package com.portal.universe.apigateway.health;
 
+import com.portal.universe.apigateway.health.config.HealthCheckProperties;
 import com.portal.universe.apigateway.health.dto.ServiceHealthInfo;
 import com.portal.universe.apigateway.health.dto.ServiceHealthResponse;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,9 +26,15 @@ class ServiceHealthControllerTest {
     @Mock
     private ServiceHealthAggregator healthAggregator;
 
-    @InjectMocks
+    private HealthCheckProperties properties;
     private ServiceHealthController controller;
 
+    @BeforeEach
+    void setUp() {
+        properties = new HealthCheckProperties();
+        controller = new ServiceHealthController(healthAggregator, properties);
+    }
+
     @Test
     @DisplayName("ServiceHealthAggregator의 결과를 반환한다")
     void should_returnHealthResponse_when_called() {
@@ -49,4 +59,36 @@ class ServiceHealthControllerTest {
 
         verify(healthAggregator, times(1)).aggregateHealth();
     }
+
+    @Test
+    @DisplayName("스냅샷 변경을 health 이벤트로 스트리밍한다")
+    void should_streamSnapshotsAsServerSentEvents() {
+        var first = ServiceHealthResponse.of(List.of(ServiceHealthInfo.of("auth", "Auth Service", "up", 100)));
+        var second = ServiceHealthResponse.of(List.of(ServiceHealthInfo.of("auth", "Auth Service", "down", 3000)));
+        when(healthAggregator.healthUpdates()).thenReturn(Flux.just(first, second));
+
+        StepVerifier.create(controller.streamServicesHealth().take(2))
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo("health");
+                    assertThat(event.data()).isEqualTo(first);
+                })
+                .assertNext(event -> assertThat(event.data()).isEqualTo(second))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("변경이 없어도 heartbeat 주석을 보낸다")
+    void should_sendHeartbeat_when_noChanges() {
+        properties.getRefresh().setHeartbeat(Duration.ofMillis(50));
+        when(healthAggregator.healthUpdates()).thenReturn(Flux.never());
+
+        StepVerifier.create(controller.streamServicesHealth().take(1))
+                .assertNext(event -> {
+                    assertThat(event.comment()).isEqualTo("heartbeat");
+                    assertThat(event.data()).isNull();
+                })
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
 }
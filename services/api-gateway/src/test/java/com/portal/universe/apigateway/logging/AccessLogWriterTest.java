@@ -0,0 +1,157 @@
+package com.portal.universe.apigateway.logging;
+
+import com.portal.universe.apigateway.config.AccessLogProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AccessLogWriter Test")
+class AccessLogWriterTest {
+
+    private static final InetSocketAddress CLIENT = new InetSocketAddress("10.0.0.1", 8080);
+
+    @Nested
+    @DisplayName("ring buffer")
+    class RingBuffer {
+
+        @Test
+        @DisplayName("버퍼 크기를 2의 거듭제곱으로 올린다")
+        void should_roundUpCapacity_toPowerOfTwo() {
+            assertThat(new AccessLogRingBuffer(1000).capacity()).isEqualTo(1024);
+            assertThat(new AccessLogRingBuffer(1024).capacity()).isEqualTo(1024);
+        }
+
+        @Test
+        @DisplayName("발행된 순서대로 소비하고 슬롯을 비운다")
+        void should_drainInOrder_and_clearSlots() {
+            AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+            buffer.offer(1L, "GET", "/a", 200, 10L, CLIENT, "route-a", "user-1", null);
+            buffer.offer(2L, "POST", "/b", 201, 20L, CLIENT, "route-b", null, null);
+
+            List<String> paths = new ArrayList<>();
+            int drained = buffer.drain(event -> paths.add(event.method + " " + event.path + " " + event.status));
+
+            assertThat(drained).isEqualTo(2);
+            assertThat(paths).containsExactly("GET /a 200", "POST /b 201");
+            assertThat(buffer.backlog()).isZero();
+            assertThat(buffer.drain(event -> paths.add("unexpected"))).isZero();
+        }
+
+        @Test
+        @DisplayName("가득 차면 새 이벤트를 버리고, 소비 후에는 다시 받는다")
+        void should_rejectOffer_when_full() {
+            AccessLogRingBuffer buffer = new AccessLogRingBuffer(2);
+            assertThat(buffer.offer(1L, "GET", "/1", 200, 1L, CLIENT, null, null, null)).isTrue();
+            assertThat(buffer.offer(2L, "GET", "/2", 200, 1L, CLIENT, null, null, null)).isTrue();
+            assertThat(buffer.offer(3L, "GET", "/3", 200, 1L, CLIENT, null, null, null)).isFalse();
+
+            buffer.drain(event -> { });
+
+            assertThat(buffer.offer(4L, "GET", "/4", 200, 1L, CLIENT, null, null, null)).isTrue();
+        }
+
+        @Test
+        @DisplayName("여러 스레드가 동시에 써도 이벤트를 잃지 않는다")
+        void should_keepAllEvents_when_concurrentProducers() throws InterruptedException {
+            AccessLogRingBuffer buffer = new AccessLogRingBuffer(1 << 16);
+            int producers = 8;
+            int perProducer = 5_000;
+            ExecutorService executor = Executors.newFixedThreadPool(producers);
+            CountDownLatch done = new CountDownLatch(producers);
+            for (int p = 0; p < producers; p++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        buffer.offer(i, "GET", "/p", 200, i, CLIENT, null, null, null);
+                    }
+                    done.countDown();
+                });
+            }
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            executor.shutdown();
+
+            assertThat(buffer.drain(event -> { })).isEqualTo(producers * perProducer);
+        }
+    }
+
+    @Nested
+    @DisplayName("기록 여부")
+    class Sampling {
+
+        private AccessLogProperties properties;
+
+        @BeforeEach
+        void setUp() {
+            properties = new AccessLogProperties();
+            properties.setSampleRate(0.0);
+            properties.setSlowThreshold(Duration.ofMillis(500));
+        }
+
+        @Test
+        @DisplayName("샘플링 비율이 0이면 기록하지 않는다")
+        void should_skip_when_sampleRateIsZero() {
+            AccessLogWriter writer = new AccessLogWriter(properties, new SimpleMeterRegistry());
+
+            assertThat(writer.shouldRecord("route-a", 200, Duration.ofMillis(10).toNanos())).isFalse();
+        }
+
+        @Test
+        @DisplayName("Route별 샘플링 비율이 기본값보다 우선한다")
+        void should_useRouteSampleRate_when_configured() {
+            properties.setRouteSampleRates(Map.of("route-a", 1.0));
+            AccessLogWriter writer = new AccessLogWriter(properties, new SimpleMeterRegistry());
+
+            assertThat(writer.shouldRecord("route-a", 200, 0L)).isTrue();
+            assertThat(writer.shouldRecord("route-b", 200, 0L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("느린 요청과 5xx 응답은 샘플링과 무관하게 기록한다")
+        void should_alwaysRecord_when_slowOrServerError() {
+            AccessLogWriter writer = new AccessLogWriter(properties, new SimpleMeterRegistry());
+
+            assertThat(writer.shouldRecord("route-a", 200, Duration.ofMillis(500).toNanos())).isTrue();
+            assertThat(writer.shouldRecord("route-a", 503, 0L)).isTrue();
+            assertThat(writer.isSlow(Duration.ofMillis(499).toNanos())).isFalse();
+        }
+
+        @Test
+        @DisplayName("비활성화되면 어떤 요청도 기록하지 않는다")
+        void should_skip_when_disabled() {
+            properties.setEnabled(false);
+            AccessLogWriter writer = new AccessLogWriter(properties, new SimpleMeterRegistry());
+
+            assertThat(writer.shouldRecord("route-a", 500, Duration.ofSeconds(5).toNanos())).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 dropped 카운터를 올린다")
+    void should_countDropped_when_bufferFull() {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setBufferSize(2);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccessLogWriter writer = new AccessLogWriter(properties, meterRegistry);
+
+        for (int i = 0; i < 5; i++) {
+            writer.record("GET", "/api/test", 200, 1L, CLIENT, null, null, null);
+        }
+
+        assertThat(meterRegistry.counter("gateway.access_log.dropped").count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("gateway.access_log.backlog").gauge().value()).isEqualTo(2.0);
+        assertThat(writer.drain()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,161 @@
+package com.portal.universe.apigateway.ratelimit;
+
+import com.portal.universe.apigateway.config.RateLimitProperties;
+import com.redis.testcontainers.RedisContainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 RedisRateLimiter(요청마다 Lua)와 HybridRateLimiter(로컬 lease)의 처리량/정확도 벤치마크입니다.
+ *
+ * <ul>
+ *   <li>처리량: 한도가 충분한 100개 키에 요청을 보내 초당 판정 수와 Redis 호출 수를 비교합니다.</li>
+ *   <li>정확도: 3개 Gateway 인스턴스가 하나의 키를 나눠 받는 상황에서 허용 수를 이론값(burst + rate × 시간)과 비교합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Disabled("벤치마크 - Docker/Testcontainers 환경 필요, 수동 실행")
+class HybridRateLimiterBenchmarkTest {
+
+    private static final int REQUESTS = 200_000;
+    private static final int KEYS = 100;
+    private static final int CONCURRENCY = 256;
+
+    private static final RedisContainer redisContainer =
+            new RedisContainer(DockerImageName.parse("redis:7-alpine"));
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static ReactiveStringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() {
+        redisContainer.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisContainer.stop();
+    }
+
+    @BeforeEach
+    void flushRedis() {
+        connectionFactory.getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("처리량: RedisRateLimiter vs HybridRateLimiter")
+    void compareThroughput() {
+        RateLimiter<?> redisLimiter = redisRateLimiter(10_000, 20_000);
+        SimpleMeterRegistry hybridMetrics = new SimpleMeterRegistry();
+        RateLimiter<?> hybridLimiter = hybridRateLimiter("bench", 10_000, 20_000, hybridMetrics);
+
+        run(redisLimiter, 10_000);
+        run(hybridLimiter, 10_000);
+
+        long redisNanos = run(redisLimiter, REQUESTS);
+        long hybridNanos = run(hybridLimiter, REQUESTS);
+
+        log.info("Rate limiter throughput ({} requests, {} keys) - RedisRateLimiter: {} req/s ({} Redis calls), "
+                        + "HybridRateLimiter: {} req/s ({} Redis calls)",
+                REQUESTS, KEYS,
+                String.format("%.0f", REQUESTS / (redisNanos / 1_000_000_000.0)), REQUESTS,
+                String.format("%.0f", REQUESTS / (hybridNanos / 1_000_000_000.0)),
+                String.format("%.0f", hybridMetrics.counter("gateway.ratelimit.leases").count()));
+        assertThat(hybridNanos).isLessThan(redisNanos);
+    }
+
+    @Test
+    @DisplayName("정확도: 3개 인스턴스가 하나의 키를 나눠 받을 때 허용 수")
+    void compareAccuracyAcrossInstances() throws InterruptedException {
+        double rate = 50;
+        long burst = 100;
+        long durationMillis = 5_000;
+        long ideal = burst + (long) (rate * durationMillis / 1000);
+
+        RateLimiter<?> redisLimiter = redisRateLimiter((int) rate, (int) burst);
+        long redisAllowed = countAllowed(List.of(redisLimiter, redisLimiter, redisLimiter), durationMillis);
+
+        flushRedis();
+        List<RateLimiter<?>> instances = List.of(
+                hybridRateLimiter("accuracy", rate, burst, new SimpleMeterRegistry()),
+                hybridRateLimiter("accuracy", rate, burst, new SimpleMeterRegistry()),
+                hybridRateLimiter("accuracy", rate, burst, new SimpleMeterRegistry()));
+        long hybridAllowed = countAllowed(instances, durationMillis);
+
+        log.info("Rate limiter accuracy over {} ms (ideal {}) - RedisRateLimiter: {} allowed, HybridRateLimiter x3: {} allowed",
+                durationMillis, ideal, redisAllowed, hybridAllowed);
+        // lease 방식은 전역 bucket에서 빌린 만큼만 허용하므로 이론값을 넘지 않음
+        assertThat(hybridAllowed).isLessThanOrEqualTo(ideal + 1);
+    }
+
+    private long run(RateLimiter<?> limiter, int requests) {
+        long start = System.nanoTime();
+        Flux.range(0, requests)
+                .flatMap(i -> limiter.isAllowed("bench", "key-" + (i % KEYS)), CONCURRENCY)
+                .blockLast();
+        return System.nanoTime() - start;
+    }
+
+    private long countAllowed(List<RateLimiter<?>> instances, long durationMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + durationMillis;
+        long allowed = 0;
+        int next = 0;
+        while (System.currentTimeMillis() < deadline) {
+            RateLimiter<?> limiter = instances.get(next++ % instances.size());
+            if (limiter.isAllowed("bench", "shared-key").block().isAllowed()) {
+                allowed++;
+            }
+            Thread.sleep(1);
+        }
+        return allowed;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private RateLimiter<?> redisRateLimiter(int replenishRate, int burstCapacity) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(ReactiveStringRedisTemplate.class, () -> redisTemplate);
+        context.registerBean(RedisRateLimiter.REDIS_SCRIPT_NAME, RedisScript.class,
+                () -> RedisScript.of(new ClassPathResource("META-INF/scripts/request_rate_limiter.lua"), List.class));
+        context.refresh();
+
+        RedisRateLimiter limiter = new RedisRateLimiter(replenishRate, burstCapacity, 1);
+        limiter.setApplicationContext(context);
+        return limiter;
+    }
+
+    private RateLimiter<?> hybridRateLimiter(String name, double replenishRate, long burstCapacity,
+                                             SimpleMeterRegistry meterRegistry) {
+        RateLimitProperties properties = new RateLimitProperties();
+        RateLimitLeaseStore leaseStore = new RateLimitLeaseStore(
+                (ReactiveRedisTemplate<String, String>) redisTemplate, properties, meterRegistry);
+        long leaseSize = Math.max(1, Math.min(properties.getMaxLeaseSize(),
+                Math.round(burstCapacity * properties.getLeaseRatio())));
+        return new HybridRateLimiter(name, replenishRate, burstCapacity, 1, leaseSize, leaseStore, meterRegistry);
+    }
+}
@@ -0,0 +1,152 @@
+package com.portal.universe.apigateway.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HybridRateLimiter Test")
+class HybridRateLimiterTest {
+
+    @Mock
+    private RateLimitLeaseStore leaseStore;
+
+    private HybridRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new HybridRateLimiter("authenticated", 2, 100, 1, 10, leaseStore, new SimpleMeterRegistry());
+    }
+
+    private void leaseReturns(long granted, long remaining) {
+        when(leaseStore.lease(anyString(), anyString(), anyDouble(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(Mono.just(new RateLimitLeaseStore.Lease(granted, remaining)));
+    }
+
+    @Nested
+    @DisplayName("lease")
+    class LeaseTest {
+
+        @Test
+        @DisplayName("빌려온 토큰이 남아 있는 동안은 Redis를 조회하지 않는다")
+        void should_consumeLocally_when_leasedTokensRemain() {
+            leaseReturns(10, 90);
+
+            for (int i = 0; i < 10; i++) {
+                StepVerifier.create(limiter.isAllowed("route", "user:1"))
+                        .assertNext(response -> assertThat(response.isAllowed()).isTrue())
+                        .verifyComplete();
+            }
+
+            verify(leaseStore, times(1)).lease("authenticated", "user:1", 2.0, 100L, 10L, 1L);
+        }
+
+        @Test
+        @DisplayName("전역 한도를 초과하면 거부하고 충전 전까지 Redis를 다시 조회하지 않는다")
+        void should_denyLocally_when_globalBucketEmpty() {
+            leaseReturns(0, 0);
+
+            StepVerifier.create(limiter.isAllowed("route", "user:1"))
+                    .assertNext(response -> {
+                        assertThat(response.isAllowed()).isFalse();
+                        assertThat(response.getHeaders()).containsEntry(RedisRateLimiter.REMAINING_HEADER, "0");
+                    })
+                    .verifyComplete();
+            StepVerifier.create(limiter.isAllowed("route", "user:1"))
+                    .assertNext(response -> assertThat(response.isAllowed()).isFalse())
+                    .verifyComplete();
+
+            verify(leaseStore, times(1)).lease(anyString(), anyString(), anyDouble(), anyLong(), anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("동시에 토큰이 바닥난 요청들은 하나의 lease 결과를 공유한다")
+        void should_shareSingleLease_when_concurrentRefill() {
+            Sinks.One<RateLimitLeaseStore.Lease> pending = Sinks.one();
+            when(leaseStore.lease(anyString(), anyString(), anyDouble(), anyLong(), anyLong(), anyLong()))
+                    .thenReturn(pending.asMono());
+
+            Mono<RateLimiter.Response> first = limiter.isAllowed("route", "user:1");
+            Mono<RateLimiter.Response> second = limiter.isAllowed("route", "user:1");
+            pending.tryEmitValue(new RateLimitLeaseStore.Lease(10, 90));
+
+            assertThat(first.block().isAllowed()).isTrue();
+            assertThat(second.block().isAllowed()).isTrue();
+            verify(leaseStore, times(1)).lease(anyString(), anyString(), anyDouble(), anyLong(), anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 요청을 허용한다 (RedisRateLimiter와 동일)")
+        void should_allow_when_leaseFails() {
+            when(leaseStore.lease(anyString(), anyString(), anyDouble(), anyLong(), anyLong(), anyLong()))
+                    .thenReturn(Mono.error(new RuntimeException("Redis connection failed")));
+
+            StepVerifier.create(limiter.isAllowed("route", "user:1"))
+                    .assertNext(response -> {
+                        assertThat(response.isAllowed()).isTrue();
+                        assertThat(response.getHeaders()).containsEntry(RedisRateLimiter.REMAINING_HEADER, "-1");
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("RedisRateLimiter와 같은 X-RateLimit-* 헤더를 반환한다")
+        void should_returnRateLimitHeaders() {
+            leaseReturns(10, 90);
+
+            StepVerifier.create(limiter.isAllowed("route", "user:1"))
+                    .assertNext(response -> assertThat(response.getHeaders())
+                            .containsEntry(RedisRateLimiter.REMAINING_HEADER, "99")
+                            .containsEntry(RedisRateLimiter.BURST_CAPACITY_HEADER, "100")
+                            .containsKeys(RedisRateLimiter.REPLENISH_RATE_HEADER,
+                                    RedisRateLimiter.REQUESTED_TOKENS_HEADER))
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("evictIdle")
+    class EvictIdle {
+
+        @Test
+        @DisplayName("유휴 키를 제거하고 사용하지 않은 토큰을 반환한다")
+        void should_returnUnusedTokens_when_keyIdle() {
+            leaseReturns(10, 90);
+            limiter.isAllowed("route", "user:1").block();
+
+            List<HybridRateLimiter.Unused> unused = limiter.evictIdle(System.nanoTime() + 1);
+
+            assertThat(unused).containsExactly(new HybridRateLimiter.Unused("authenticated", "user:1", 9, 100));
+            assertThat(limiter.localKeyCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("최근에 사용한 키는 유지한다")
+        void should_keepKey_when_recentlyUsed() {
+            leaseReturns(10, 90);
+            long before = System.nanoTime();
+            limiter.isAllowed("route", "user:1").block();
+
+            assertThat(limiter.evictIdle(before)).isEmpty();
+            assertThat(limiter.localKeyCount()).isEqualTo(1);
+        }
+    }
+}
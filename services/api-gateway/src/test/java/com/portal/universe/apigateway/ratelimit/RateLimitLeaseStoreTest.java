@@ -0,0 +1,74 @@
+package com.portal.universe.apigateway.ratelimit;
+
+import com.portal.universe.apigateway.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitLeaseStore Test")
+class RateLimitLeaseStoreTest {
+
+    @Mock
+    private ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+
+    private RateLimitLeaseStore leaseStore;
+
+    @BeforeEach
+    void setUp() {
+        leaseStore = new RateLimitLeaseStore(reactiveRedisTemplate, new RateLimitProperties(), new SimpleMeterRegistry());
+    }
+
+    private void registerLimiter(HybridRateLimiter.Unused... unused) {
+        HybridRateLimiter limiter = mock(HybridRateLimiter.class);
+        when(limiter.evictIdle(anyLong())).thenReturn(List.of(unused));
+        leaseStore.register(limiter);
+    }
+
+    @Test
+    @DisplayName("lease 키는 Rate Limiter 이름을 hash tag로 쓴다")
+    void should_useLimiterNameAsHashTag() {
+        assertThat(RateLimitLeaseStore.tokensKey("authenticated", "user:1"))
+                .isEqualTo("rate_limiter.{authenticated}.user:1.tokens");
+        assertThat(RateLimitLeaseStore.timestampKey("authenticated", "user:1"))
+                .isEqualTo("rate_limiter.{authenticated}.user:1.timestamp");
+    }
+
+    @Test
+    @DisplayName("미사용 토큰은 같은 hash tag의 키끼리만 한 스크립트로 돌려준다 (CROSSSLOT 방지)")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void should_returnTokensPerHashTag_when_reconciled() {
+        registerLimiter(
+                new HybridRateLimiter.Unused("authenticated", "user:1", 5, 100),
+                new HybridRateLimiter.Unused("authenticated", "user:2", 3, 100));
+        registerLimiter(new HybridRateLimiter.Unused("anonymous", "10.0.0.1", 2, 20));
+        when(reactiveRedisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenReturn(Flux.just(1L));
+
+        leaseStore.reconcile().block();
+
+        ArgumentCaptor<List> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List> args = ArgumentCaptor.forClass(List.class);
+        verify(reactiveRedisTemplate, times(2)).execute(any(RedisScript.class), keys.capture(), args.capture());
+        assertThat(keys.getAllValues()).containsExactly(
+                List.of("rate_limiter.{authenticated}.user:1.tokens", "rate_limiter.{authenticated}.user:2.tokens"),
+                List.of("rate_limiter.{anonymous}.10.0.0.1.tokens"));
+        assertThat(args.getAllValues()).containsExactly(List.of("5", "100", "3", "100"), List.of("2", "20"));
+    }
+}
@@ -1,15 +1,30 @@
 package com.portal.universe.apigateway.service;
 
+import com.portal.universe.apigateway.config.TokenBlacklistProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -19,50 +34,172 @@ class TokenBlacklistCheckerTest {
     @Mock
     private ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
 
-    @InjectMocks
+    @Mock
+    private ReactiveZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ReactiveRedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
     private TokenBlacklistChecker tokenBlacklistChecker;
 
-    @Test
-    @DisplayName("블랙리스트에 있는 토큰은 true를 반환한다")
-    void should_returnTrue_when_tokenIsBlacklisted() {
-        when(reactiveRedisTemplate.hasKey("blacklist:some-token")).thenReturn(Mono.just(true));
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenBlacklistChecker = new TokenBlacklistChecker(reactiveRedisTemplate, listenerContainer,
+                new TokenBlacklistProperties(), meterRegistry);
+    }
 
-        StepVerifier.create(tokenBlacklistChecker.isBlacklisted("some-token"))
-                .expectNext(true)
-                .expectComplete()
-                .verify();
+    private static String hash(String token) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest);
     }
 
-    @Test
-    @DisplayName("블랙리스트에 없는 토큰은 false를 반환한다")
-    void should_returnFalse_when_tokenIsNotBlacklisted() {
-        when(reactiveRedisTemplate.hasKey("blacklist:valid-token")).thenReturn(Mono.just(false));
+    private void syncMirror(String... blacklistedHashes) {
+        when(reactiveRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(eq("blacklist:index"), any(Range.class)))
+                .thenReturn(Flux.just(blacklistedHashes));
+        tokenBlacklistChecker.resync().block();
+    }
 
-        StepVerifier.create(tokenBlacklistChecker.isBlacklisted("valid-token"))
-                .expectNext(false)
-                .expectComplete()
-                .verify();
+    private double lookups(String result) {
+        return meterRegistry.counter("gateway.blacklist.lookups", "result", result).count();
     }
 
-    @Test
-    @DisplayName("Redis 장애 시 false를 반환한다 (가용성 우선)")
-    void should_returnFalse_when_redisError() {
-        when(reactiveRedisTemplate.hasKey("blacklist:any-token"))
-                .thenReturn(Mono.error(new RuntimeException("Redis connection failed")));
+    @Nested
+    @DisplayName("복제본 동기화 전")
+    class BeforeSync {
+
+        @Test
+        @DisplayName("블랙리스트에 있는 토큰은 true를 반환한다")
+        void should_returnTrue_when_tokenIsBlacklisted() throws Exception {
+            when(reactiveRedisTemplate.hasKey("blacklist:" + hash("some-token"))).thenReturn(Mono.just(true));
+
+            StepVerifier.create(tokenBlacklistChecker.isBlacklisted("some-token"))
+                    .expectNext(true)
+                    .expectComplete()
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("블랙리스트에 없는 토큰은 false를 반환한다")
+        void should_returnFalse_when_tokenIsNotBlacklisted() throws Exception {
+            when(reactiveRedisTemplate.hasKey("blacklist:" + hash("valid-token"))).thenReturn(Mono.just(false));
+
+            StepVerifier.create(tokenBlacklistChecker.isBlacklisted("valid-token"))
+                    .expectNext(false)
+                    .expectComplete()
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 false를 반환한다 (가용성 우선)")
+        void should_returnFalse_when_redisError() {
+            when(reactiveRedisTemplate.hasKey(anyString()))
+                    .thenReturn(Mono.error(new RuntimeException("Redis connection failed")));
+
+            StepVerifier.create(tokenBlacklistChecker.isBlacklisted("any-token"))
+                    .expectNext(false)
+                    .expectComplete()
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Auth Service와 동일하게 SHA-256 해시 키로 Redis를 조회한다")
+        void should_useHashedKey() throws Exception {
+            when(reactiveRedisTemplate.hasKey(anyString())).thenReturn(Mono.just(false));
+
+            tokenBlacklistChecker.isBlacklisted("abc123").block();
+
+            verify(reactiveRedisTemplate).hasKey("blacklist:" + hash("abc123"));
+            assertThat(lookups("redis_fallback")).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("복제본 동기화 후")
+    class AfterSync {
+
+        @Test
+        @DisplayName("Bloom filter에 없는 토큰은 Redis 조회 없이 false를 반환한다")
+        void should_skipRedis_when_bloomFilterNegative() throws Exception {
+            syncMirror(hash("revoked-token"));
+
+            StepVerifier.create(tokenBlacklistChecker.isBlacklisted("valid-token"))
+                    .expectNext(false)
+                    .expectComplete()
+                    .verify();
+
+            verify(reactiveRedisTemplate, never()).hasKey(anyString());
+            assertThat(lookups("mirror_negative")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Bloom filter 양성인 토큰은 Redis로 확인한다")
+        void should_confirmWithRedis_when_bloomFilterPositive() throws Exception {
+            syncMirror(hash("revoked-token"));
+            when(reactiveRedisTemplate.hasKey("blacklist:" + hash("revoked-token"))).thenReturn(Mono.just(true));
+
+            StepVerifier.create(tokenBlacklistChecker.isBlacklisted("revoked-token"))
+                    .expectNext(true)
+                    .expectComplete()
+                    .verify();
+
+            assertThat(lookups("redis_confirmed")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Bloom filter 양성이지만 Redis에 없으면 오탐으로 집계하고 false를 반환한다")
+        void should_countFalsePositive_when_redisMisses() throws Exception {
+            syncMirror(hash("revoked-token"));
+            when(reactiveRedisTemplate.hasKey(anyString())).thenReturn(Mono.just(false));
+
+            StepVerifier.create(tokenBlacklistChecker.isBlacklisted("revoked-token"))
+                    .expectNext(false)
+                    .expectComplete()
+                    .verify();
+
+            assertThat(lookups("false_positive")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("이벤트로 받은 블랙리스트 토큰은 Redis 조회 없이 true를 반환한다")
+        void should_returnTrueLocally_when_revocationEventReceived() throws Exception {
+            syncMirror();
+            tokenBlacklistChecker.applyEvent(hash("logged-out") + ":" + (System.currentTimeMillis() + 60_000));
+
+            StepVerifier.create(tokenBlacklistChecker.isBlacklisted("logged-out"))
+                    .expectNext(true)
+                    .expectComplete()
+                    .verify();
 
-        StepVerifier.create(tokenBlacklistChecker.isBlacklisted("any-token"))
-                .expectNext(false)
-                .expectComplete()
-                .verify();
+            verify(reactiveRedisTemplate, never()).hasKey(anyString());
+            assertThat(lookups("recent_hit")).isEqualTo(1.0);
+        }
     }
 
-    @Test
-    @DisplayName("올바른 키 prefix로 Redis를 조회한다")
-    void should_useCorrectKeyPrefix() {
-        when(reactiveRedisTemplate.hasKey("blacklist:abc123")).thenReturn(Mono.just(false));
+    @Nested
+    @DisplayName("BlacklistBloomFilter")
+    class BloomFilter {
 
-        tokenBlacklistChecker.isBlacklisted("abc123").block();
+        @Test
+        @DisplayName("추가한 해시는 항상 포함으로 판정하고 오탐률은 목표치 근처로 유지된다")
+        void should_containInsertedHashes_and_keepFalsePositiveRateLow() throws Exception {
+            var filter = new BlacklistBloomFilter(10_000, 0.001);
+            for (int i = 0; i < 10_000; i++) {
+                filter.put(hash("revoked-" + i));
+            }
 
-        verify(reactiveRedisTemplate).hasKey("blacklist:abc123");
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(filter.mightContain(hash("revoked-" + i))).isTrue();
+            }
+            int falsePositives = 0;
+            for (int i = 0; i < 10_000; i++) {
+                if (filter.mightContain(hash("valid-" + i))) {
+                    falsePositives++;
+                }
+            }
+            assertThat(falsePositives).isLessThan(50);
+        }
     }
 }
@@ -72,8 +72,9 @@ public class AuthController {
         log.info("Login attempt for email: {} from IP: {}", request.email(), clientIp);
 
         // 1. 잠금 상태 확인
-        if (loginAttemptService.isBlocked(loginKey)) {
-            long remainingSeconds = loginAttemptService.getRemainingLockTime(loginKey);
+        LoginAttemptService.LoginAttemptStatus attemptStatus = loginAttemptService.checkStatus(loginKey);
+        if (attemptStatus.blocked()) {
+            long remainingSeconds = attemptStatus.remainingLockSeconds();
             int remainingMinutes = (int) Math.ceil(remainingSeconds / 60.0);
 
             log.warn("Login blocked for key: {} (remaining: {} seconds)", loginKey, remainingSeconds);
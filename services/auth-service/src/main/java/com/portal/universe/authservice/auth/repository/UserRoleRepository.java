@@ -20,6 +20,20 @@ public interface UserRoleRepository extends JpaRepository<UserRole, Long> {
             "AND (ur.expiresAt IS NULL OR ur.expiresAt > CURRENT_TIMESTAMP)")
     List<String> findActiveRoleKeysByUserId(@Param("userId") String userId);
 
+    /**
+     * 토큰 발급에 필요한 활성 역할과 활성 멤버십을 한 번의 쿼리로 조회합니다.
+     * kind가 ROLE이면 name은 roleKey, MEMBERSHIP이면 name은 membershipGroup이고 tierKey/sortOrder가 채워집니다.
+     * 별칭이 projection getter와 그대로 맞도록 native SQL 대신 HQL UNION ALL을 사용합니다.
+     */
+    @Query("SELECT 'ROLE' AS kind, r.roleKey AS name, CAST(NULL AS String) AS tierKey, CAST(NULL AS Integer) AS sortOrder " +
+            "FROM UserRole ur JOIN ur.role r " +
+            "WHERE ur.userId = :userId AND (ur.expiresAt IS NULL OR ur.expiresAt > CURRENT_TIMESTAMP) " +
+            "UNION ALL " +
+            "SELECT 'MEMBERSHIP' AS kind, um.membershipGroup AS name, t.tierKey AS tierKey, t.sortOrder AS sortOrder " +
+            "FROM UserMembership um JOIN um.tier t " +
+            "WHERE um.userId = :userId AND um.status = 'ACTIVE' AND t.active = true")
+    List<TokenClaimRow> findTokenClaimRows(@Param("userId") String userId);
+
     boolean existsByUserIdAndRole(String userId, RoleEntity role);
 
     Optional<UserRole> findByUserIdAndRole(String userId, RoleEntity role);
@@ -31,4 +45,17 @@ public interface UserRoleRepository extends JpaRepository<UserRole, Long> {
 
     @Query("SELECT ur.role.roleKey, COUNT(ur) FROM UserRole ur GROUP BY ur.role.roleKey")
     List<Object[]> countGroupByRoleKey();
+
+    interface TokenClaimRow {
+        String KIND_ROLE = "ROLE";
+        String KIND_MEMBERSHIP = "MEMBERSHIP";
+
+        String getKind();
+
+        String getName();
+
+        String getTierKey();
+
+        Integer getSortOrder();
+    }
 }
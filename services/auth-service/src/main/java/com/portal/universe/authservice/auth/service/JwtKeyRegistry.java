@@ -0,0 +1,41 @@
+package com.portal.universe.authservice.auth.service;
+
+import com.portal.universe.authservice.common.config.JwtProperties;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * kid(Key ID)별 서명 키와 검증용 JWT 파서를 한 번만 만들어 재사용합니다.
+ *
+ * <p>키 설정 객체나 secret이 바뀌면(설정 재바인딩, 키 교체) 해당 kid만 다시 만듭니다.
+ * 만료 여부는 호출 시점마다 {@link JwtProperties.KeyConfig}로 확인하므로 여기서는 다루지 않습니다.</p>
+ */
+class JwtKeyRegistry {
+
+    private final Map<String, SigningKey> keys = new ConcurrentHashMap<>();
+
+    SigningKey get(String keyId, JwtProperties.KeyConfig keyConfig) {
+        SigningKey cached = keys.get(keyId);
+        if (cached != null && cached.source() == keyConfig && cached.secret().equals(keyConfig.getSecretKey())) {
+            return cached;
+        }
+        SigningKey created = SigningKey.of(keyConfig);
+        keys.put(keyId, created);
+        return created;
+    }
+
+    record SigningKey(JwtProperties.KeyConfig source, String secret, SecretKey key, JwtParser parser) {
+
+        static SigningKey of(JwtProperties.KeyConfig keyConfig) {
+            String secret = keyConfig.getSecretKey();
+            SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            return new SigningKey(keyConfig, secret, key, Jwts.parser().verifyWith(key).build());
+        }
+    }
+}
@@ -29,6 +29,15 @@ public interface LoginAttemptService {
      */
     boolean isBlocked(String key);
 
+    /**
+     * 잠금 여부, 남은 잠금 시간, 실패 횟수를 한 번에 조회합니다.
+     * 로그인 요청마다 호출되므로 Redis 왕복은 최대 한 번입니다.
+     *
+     * @param key 확인할 키 (IP 또는 IP:username)
+     * @return 현재 로그인 시도 상태
+     */
+    LoginAttemptStatus checkStatus(String key);
+
     /**
      * 현재 실패 횟수를 조회합니다.
      *
@@ -44,4 +53,14 @@ public interface LoginAttemptService {
      * @return 남은 잠금 시간(초), 잠금 상태가 아니면 0
      */
     long getRemainingLockTime(String key);
+
+    /**
+     * 로그인 시도 상태입니다.
+     *
+     * @param blocked 잠금 상태 여부
+     * @param remainingLockSeconds 남은 잠금 시간(초), 잠금 상태가 아니면 0
+     * @param attemptCount 현재 실패 횟수
+     */
+    record LoginAttemptStatus(boolean blocked, long remainingLockSeconds, int attemptCount) {
+    }
 }
@@ -21,6 +21,7 @@ public class MembershipService {
     private final UserMembershipRepository userMembershipRepository;
     private final MembershipTierRepository membershipTierRepository;
     private final AuthAuditLogRepository auditLogRepository;
+    private final PermissionCache permissionCache;
 
     public List<MembershipResponse> getUserMemberships(String userId) {
         return userMembershipRepository.findByUserId(userId).stream()
@@ -63,6 +64,7 @@ public class MembershipService {
 
         String oldTier = membership.getTier().getTierKey();
         membership.changeTier(newTier);
+        permissionCache.evictUser(userId);
 
         logAudit(AuditEventType.MEMBERSHIP_UPGRADED, userId, userId,
                 String.format("Membership changed: %s %s -> %s", request.membershipGroup(), oldTier, request.tierKey()));
@@ -86,6 +88,7 @@ public class MembershipService {
 
         String oldTier = membership.getTier().getTierKey();
         membership.changeTier(newTier);
+        permissionCache.evictUser(userId);
 
         logAudit(AuditEventType.MEMBERSHIP_UPGRADED, adminId, userId,
                 String.format("Admin changed membership: %s %s -> %s", request.membershipGroup(), oldTier, request.tierKey()));
@@ -112,6 +115,7 @@ public class MembershipService {
         String oldTier = membership.getTier().getTierKey();
         membership.changeTier(freeTier);
         membership.cancel();
+        permissionCache.evictUser(userId);
 
         logAudit(AuditEventType.MEMBERSHIP_CANCELLED, userId, userId,
                 String.format("Membership cancelled: %s (was %s)", membershipGroup, oldTier));
@@ -177,6 +181,8 @@ public class MembershipService {
             membershipTierRepository.delete(tier);
             log.info("Membership tier deleted: tierId={}, by={}", tierId, adminId);
         }
+        // 비활성/삭제된 티어의 권한은 더 이상 해결되지 않음
+        permissionCache.evictAll();
     }
 
     private void logAudit(AuditEventType eventType, String actorId, String targetUserId, String details) {
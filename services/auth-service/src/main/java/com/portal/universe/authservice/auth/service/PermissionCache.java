@@ -0,0 +1,189 @@
+package com.portal.universe.authservice.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portal.universe.authservice.auth.dto.rbac.UserPermissionsResponse;
+import com.portal.universe.authservice.common.config.PermissionCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 권한 해결 결과를 2단계로 보관하는 로컬 캐시입니다.
+ *
+ * <ul>
+ *   <li>공용: 역할 집합 → 권한 목록, (멤버십 그룹, 티어) → 권한 목록. RBAC 테이블은 작고 거의 바뀌지 않습니다.</li>
+ *   <li>사용자별: userId → 해결된 권한. 적중하면 사용자 역할/멤버십 조회도 생략합니다.</li>
+ * </ul>
+ *
+ * <p>변경은 {@link #evictUser(String)} / {@link #evictAll()}로 알리며, 트랜잭션 안이면 커밋 이후에
+ * 로컬 캐시를 비우고 Redis pub/sub으로 다른 인스턴스에 전파합니다.
+ * 조회 도중 무효화가 일어나면 읽은 값을 캐시에 남기지 않도록 세대(generation)를 비교합니다.</p>
+ *
+ * <p>적중률은 Micrometer {@code cache.gets{cache=rbac.permissions.*,result=hit|miss}}로 확인합니다.</p>
+ */
+@Slf4j
+@Component
+public class PermissionCache {
+
+    static final String INVALIDATION_CHANNEL = "rbac:permissions:invalidate";
+    private static final String ALL_USERS = "*";
+    private static final char SEPARATOR = '|';
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean enabled;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong sharedGeneration = new AtomicLong();
+    private final AtomicLong userGeneration = new AtomicLong();
+
+    private final Cache<List<String>, List<String>> rolePermissions;
+    private final Cache<String, List<String>> tierPermissions;
+    private final Cache<String, UserPermissionsResponse> userPermissions;
+
+    public PermissionCache(PermissionCacheProperties properties,
+                           RedisTemplate<String, Object> redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.enabled = properties.isEnabled();
+
+        this.rolePermissions = newCache(properties.getSharedMaxSize(), properties.getSharedTtl());
+        this.tierPermissions = newCache(properties.getSharedMaxSize(), properties.getSharedTtl());
+        this.userPermissions = newCache(properties.getUserMaxSize(), properties.getUserTtl());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, rolePermissions, "rbac.permissions.role_set");
+        CaffeineCacheMetrics.monitor(meterRegistry, tierPermissions, "rbac.permissions.tier");
+        CaffeineCacheMetrics.monitor(meterRegistry, userPermissions, "rbac.permissions.user");
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf(SEPARATOR);
+            if (separator < 0 || instanceId.equals(body.substring(0, separator))) {
+                return;
+            }
+            evictLocal(body.substring(separator + 1));
+        }, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 사용자의 해결된 권한을 반환합니다. 없으면 loader로 해결해 보관합니다.
+     */
+    public UserPermissionsResponse getUserPermissions(String userId,
+                                                      Function<String, UserPermissionsResponse> loader) {
+        return load(userPermissions, userId, userGeneration, () -> loader.apply(userId));
+    }
+
+    /**
+     * 역할 집합에 부여된 권한 키를 반환합니다. 같은 역할 집합이면 순서와 관계없이 같은 항목을 사용합니다.
+     */
+    public List<String> getRolePermissions(List<String> roleKeys, Function<List<String>, List<String>> loader) {
+        List<String> key = List.copyOf(new TreeSet<>(roleKeys));
+        return load(rolePermissions, key, sharedGeneration, () -> List.copyOf(loader.apply(key)));
+    }
+
+    /**
+     * 멤버십 그룹/티어에 부여된 권한 키를 반환합니다.
+     */
+    public List<String> getTierPermissions(String membershipGroup, String tierKey,
+                                           BiFunction<String, String, List<String>> loader) {
+        return load(tierPermissions, membershipGroup + SEPARATOR + tierKey, sharedGeneration,
+                () -> List.copyOf(loader.apply(membershipGroup, tierKey)));
+    }
+
+    /**
+     * 사용자의 역할/멤버십 변경을 알립니다.
+     */
+    public void evictUser(String userId) {
+        afterCommit(() -> evictAndPublish(userId));
+    }
+
+    /**
+     * 역할/티어 권한 매핑 변경을 알립니다. 모든 사용자 결과도 함께 비웁니다.
+     */
+    public void evictAll() {
+        afterCommit(() -> evictAndPublish(ALL_USERS));
+    }
+
+    private <K, V> V load(Cache<K, V> cache, K key, AtomicLong generation, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long before = generation.get();
+        V loaded = loader.get();
+        cache.put(key, loaded);
+        // put 이전에 무효화가 끝났을 수 있으므로 세대가 바뀌었으면 방금 넣은 값을 버림
+        if (generation.get() != before) {
+            cache.invalidate(key);
+        }
+        return loaded;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void evictAndPublish(String target) {
+        evictLocal(target);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + SEPARATOR + target);
+        } catch (Exception e) {
+            log.warn("Failed to publish permission cache invalidation: {}", e.getMessage());
+        }
+    }
+
+    void evictLocal(String target) {
+        userGeneration.incrementAndGet();
+        if (ALL_USERS.equals(target)) {
+            sharedGeneration.incrementAndGet();
+            rolePermissions.invalidateAll();
+            tierPermissions.invalidateAll();
+            userPermissions.invalidateAll();
+        } else {
+            userPermissions.invalidate(target);
+        }
+    }
+}
@@ -30,6 +30,7 @@ public class RbacDataMigrationRunner implements ApplicationRunner {
     private final MembershipTierRepository membershipTierRepository;
     private final UserMembershipRepository userMembershipRepository;
     private final UserRepository userRepository;
+    private final RoleHierarchyService roleHierarchyService;
 
     @Override
     @Transactional
@@ -113,6 +114,7 @@ public class RbacDataMigrationRunner implements ApplicationRunner {
         // ROLE_SUPER_ADMIN → ROLE_BLOG_ADMIN
         roleIncludeRepository.save(new RoleInclude(superAdmin, blogAdmin));
 
+        roleHierarchyService.invalidate();
         log.info("Seeded 6 system roles with DAG includes");
     }
 
@@ -19,6 +19,7 @@ public class RbacInitializationService {
     private final RoleEntityRepository roleEntityRepository;
     private final UserRoleRepository userRoleRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final PermissionCache permissionCache;
 
     @Transactional
     public void initializeNewUser(String userId) {
@@ -41,6 +42,7 @@ public class RbacInitializationService {
                 .role(userRole)
                 .assignedBy("SYSTEM_REGISTRATION")
                 .build());
+        permissionCache.evictUser(userId);
 
         // 역할 할당 이벤트 → MembershipAutoAssignHandler가 기본 멤버십 자동 생성
         eventPublisher.publishEvent(RoleAssignedEvent.of(userId, "ROLE_USER", "SYSTEM_REGISTRATION"));
@@ -15,6 +15,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -39,6 +40,7 @@ public class RbacService {
     private final PermissionRepository permissionRepository;
     private final RoleIncludeRepository roleIncludeRepository;
     private final RoleHierarchyService roleHierarchyService;
+    private final PermissionCache permissionCache;
     private final MembershipTierPermissionRepository membershipTierPermissionRepository;
     private final MembershipTierRepository membershipTierRepository;
     private final UserMembershipRepository userMembershipRepository;
@@ -122,6 +124,9 @@ public class RbacService {
                 includes.add(roleIncludeRepository.save(new RoleInclude(saved, includedRole)));
             }
         }
+        if (!includes.isEmpty()) {
+            roleHierarchyService.invalidate();
+        }
 
         logAudit(AuditEventType.ROLE_ASSIGNED, createdBy, null, "Role created: " + request.roleKey());
         log.info("Role created: roleKey={}, by={}", request.roleKey(), createdBy);
@@ -154,6 +159,7 @@ public class RbacService {
             role.deactivate();
         }
         List<RoleInclude> includes = roleIncludeRepository.findByRole(role);
+        roleHierarchyService.invalidate();
         log.info("Role status changed: roleKey={}, active={}, by={}", roleKey, active, updatedBy);
         return RoleResponse.from(role, includes);
     }
@@ -184,6 +190,7 @@ public class RbacService {
         }
 
         rolePermissionRepository.save(new RolePermission(role, permission));
+        permissionCache.evictAll();
         logAudit(AuditEventType.PERMISSION_ADDED, assignedBy, null,
                 "Permission " + permissionKey + " assigned to role " + roleKey);
         log.info("Permission assigned: role={}, permission={}, by={}", roleKey, permissionKey, assignedBy);
@@ -200,6 +207,7 @@ public class RbacService {
                 .orElseThrow(() -> new CustomBusinessException(AuthErrorCode.PERMISSION_NOT_FOUND));
 
         rolePermissionRepository.deleteByRoleAndPermissionId(role, permission.getId());
+        permissionCache.evictAll();
         logAudit(AuditEventType.PERMISSION_REMOVED, removedBy, null,
                 "Permission " + permissionKey + " removed from role " + roleKey);
         log.info("Permission removed: role={}, permission={}, by={}", roleKey, permissionKey, removedBy);
@@ -228,6 +236,7 @@ public class RbacService {
         }
 
         roleIncludeRepository.save(new RoleInclude(role, includedRole));
+        roleHierarchyService.invalidate();
         logAudit(AuditEventType.ROLE_ASSIGNED, adminId, null,
                 "Role include added: " + roleKey + " → " + includedRoleKey);
         log.info("Role include added: {} → {}, by={}", roleKey, includedRoleKey, adminId);
@@ -248,6 +257,7 @@ public class RbacService {
         }
 
         roleIncludeRepository.deleteByRoleAndIncludedRole(role, includedRole);
+        roleHierarchyService.invalidate();
         logAudit(AuditEventType.ROLE_REVOKED, adminId, null,
                 "Role include removed: " + roleKey + " → " + includedRoleKey);
         log.info("Role include removed: {} → {}, by={}", roleKey, includedRoleKey, adminId);
@@ -315,18 +325,27 @@ public class RbacService {
     /**
      * 사용자의 모든 권한을 해결(resolve)합니다.
      * 역할 기반 권한 + 멤버십 티어 기반 권한을 합산합니다.
+     *
+     * <p>결과는 {@link PermissionCache}에 보관합니다. 캐시 적중 시 커넥션을 잡지 않도록
+     * 트랜잭션을 새로 시작하지 않으며, 미스 시 각 조회는 리포지토리 트랜잭션으로 실행됩니다.</p>
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserPermissionsResponse resolveUserPermissions(String userId) {
+        return permissionCache.getUserPermissions(userId, this::loadUserPermissions);
+    }
+
+    private UserPermissionsResponse loadUserPermissions(String userId) {
         // 1. 활성 역할 키 목록
         List<String> roleKeys = userRoleRepository.findActiveRoleKeysByUserId(userId);
 
-        // 2. 역할 기반 권한 수집
+        // 2. 역할 기반 권한 수집 (역할 집합 단위 캐시)
         Set<String> permissions = new LinkedHashSet<>();
         if (!roleKeys.isEmpty()) {
-            permissions.addAll(rolePermissionRepository.findPermissionKeysByRoleKeys(roleKeys));
+            permissions.addAll(permissionCache.getRolePermissions(roleKeys,
+                    rolePermissionRepository::findPermissionKeysByRoleKeys));
         }
 
-        // 3. 멤버십 티어 기반 권한 수집
+        // 3. 멤버십 티어 기반 권한 수집 (그룹/티어 단위 캐시)
         Map<String, String> memberships = new LinkedHashMap<>();
         List<UserMembership> activeMemberships = userMembershipRepository.findActiveByUserId(userId);
         for (UserMembership membership : activeMemberships) {
@@ -334,16 +353,16 @@ public class RbacService {
             String tierKey = membership.getTier().getTierKey();
             memberships.put(membershipGroup, tierKey);
 
-            List<String> tierPermissions = membershipTierPermissionRepository
-                    .findPermissionKeysByGroupAndTier(membershipGroup, tierKey);
-            permissions.addAll(tierPermissions);
+            permissions.addAll(permissionCache.getTierPermissions(membershipGroup, tierKey,
+                    membershipTierPermissionRepository::findPermissionKeysByGroupAndTier));
         }
 
+        // 캐시에서 여러 요청이 공유하므로 변경 불가능한 컬렉션으로 반환
         return new UserPermissionsResponse(
                 userId,
-                roleKeys,
-                new ArrayList<>(permissions),
-                memberships
+                List.copyOf(roleKeys),
+                List.copyOf(permissions),
+                Collections.unmodifiableMap(memberships)
         );
     }
 
@@ -371,6 +390,7 @@ public class RbacService {
                 .build();
 
         UserRole saved = userRoleRepository.save(userRole);
+        permissionCache.evictUser(request.userId());
 
         // 감사 로그
         logAudit(AuditEventType.ROLE_ASSIGNED, assignedBy, request.userId(),
@@ -401,6 +421,7 @@ public class RbacService {
                 .orElseThrow(() -> new CustomBusinessException(AuthErrorCode.ROLE_NOT_ASSIGNED));
 
         userRoleRepository.delete(userRole);
+        permissionCache.evictUser(userId);
 
         logAudit(AuditEventType.ROLE_REVOKED, revokedBy, userId,
                 "Role revoked: " + roleKey);
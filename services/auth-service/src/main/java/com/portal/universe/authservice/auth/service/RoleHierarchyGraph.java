@@ -0,0 +1,134 @@
+package com.portal.universe.authservice.auth.service;
+
+import com.portal.universe.authservice.auth.domain.RoleInclude;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * role_includes 전체를 담은 불변 그래프입니다. 생성 시 역할마다 전이 폐쇄(transitive closure)를 미리 계산합니다.
+ *
+ * <p>역할은 0부터 시작하는 인덱스로 번호를 매기고, 역할별로 도달 가능한 역할 집합을 {@link BitSet}으로,
+ * 결과 순서를 위해 BFS 방문 순서를 배열로 보관합니다. 조회는 DB 접근 없이 이 배열만 읽습니다.</p>
+ */
+final class RoleHierarchyGraph {
+
+    private final long generation;
+    private final String[] roleKeys;
+    private final Map<String, Integer> indexByKey;
+    private final Map<String, List<String>> directIncludes;
+    private final BitSet[] reachable;
+    private final int[][] reachableInBfsOrder;
+
+    private RoleHierarchyGraph(long generation, String[] roleKeys, Map<String, Integer> indexByKey,
+                               Map<String, List<String>> directIncludes, BitSet[] reachable,
+                               int[][] reachableInBfsOrder) {
+        this.generation = generation;
+        this.roleKeys = roleKeys;
+        this.indexByKey = indexByKey;
+        this.directIncludes = directIncludes;
+        this.reachable = reachable;
+        this.reachableInBfsOrder = reachableInBfsOrder;
+    }
+
+    static RoleHierarchyGraph build(List<RoleInclude> includes, long generation) {
+        Map<String, List<String>> direct = new LinkedHashMap<>();
+        Map<String, Integer> indexByKey = new HashMap<>();
+        List<String> keys = new ArrayList<>();
+        for (RoleInclude include : includes) {
+            String role = include.getRole().getRoleKey();
+            String included = include.getIncludedRole().getRoleKey();
+            direct.computeIfAbsent(role, k -> new ArrayList<>()).add(included);
+            for (String key : List.of(role, included)) {
+                if (indexByKey.putIfAbsent(key, keys.size()) == null) {
+                    keys.add(key);
+                }
+            }
+        }
+
+        int size = keys.size();
+        int[][] adjacency = new int[size][];
+        for (int i = 0; i < size; i++) {
+            List<String> children = direct.getOrDefault(keys.get(i), List.of());
+            adjacency[i] = children.stream().mapToInt(indexByKey::get).toArray();
+        }
+
+        BitSet[] reachable = new BitSet[size];
+        int[][] reachableInBfsOrder = new int[size][];
+        for (int source = 0; source < size; source++) {
+            BitSet visited = new BitSet(size);
+            visited.set(source);
+            List<Integer> order = new ArrayList<>();
+            Queue<Integer> queue = new ArrayDeque<>();
+            queue.add(source);
+            while (!queue.isEmpty()) {
+                for (int next : adjacency[queue.poll()]) {
+                    if (!visited.get(next)) {
+                        visited.set(next);
+                        order.add(next);
+                        queue.add(next);
+                    }
+                }
+            }
+            visited.clear(source);
+            reachable[source] = visited;
+            reachableInBfsOrder[source] = order.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        Map<String, List<String>> immutableDirect = new LinkedHashMap<>();
+        direct.forEach((role, children) -> immutableDirect.put(role, List.copyOf(children)));
+        return new RoleHierarchyGraph(generation, keys.toArray(String[]::new), Map.copyOf(indexByKey),
+                Collections.unmodifiableMap(immutableDirect), reachable, reachableInBfsOrder);
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    /**
+     * 주어진 역할과 그 역할들이 포함하는 모든 역할을 반환합니다.
+     * 입력 역할이 먼저 오고, 이어서 입력 순서대로 각 역할의 BFS 방문 순서를 따릅니다.
+     * 그래프에 없는 역할은 자기 자신만 포함합니다.
+     */
+    List<String> resolve(List<String> roleKeys) {
+        Set<String> effective = new LinkedHashSet<>(roleKeys);
+        for (String roleKey : roleKeys) {
+            Integer index = indexByKey.get(roleKey);
+            if (index == null) {
+                continue;
+            }
+            for (int reachableIndex : reachableInBfsOrder[index]) {
+                effective.add(this.roleKeys[reachableIndex]);
+            }
+        }
+        return new ArrayList<>(effective);
+    }
+
+    /**
+     * from이 to를 (직접 또는 간접적으로) 포함하면 true. 같은 역할이면 true입니다.
+     */
+    boolean includes(String from, String to) {
+        if (from.equals(to)) {
+            return true;
+        }
+        Integer fromIndex = indexByKey.get(from);
+        Integer toIndex = indexByKey.get(to);
+        return fromIndex != null && toIndex != null && reachable[fromIndex].get(toIndex);
+    }
+
+    /**
+     * key: roleKey, value: direct includes
+     */
+    Map<String, List<String>> directIncludes() {
+        return directIncludes;
+    }
+}
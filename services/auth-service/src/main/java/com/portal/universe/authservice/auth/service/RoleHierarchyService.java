@@ -2,73 +2,76 @@ package com.portal.universe.authservice.auth.service;
 
 import com.portal.universe.authservice.auth.domain.RoleInclude;
 import com.portal.universe.authservice.auth.repository.RoleIncludeRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * role_includes 테이블 기반 DAG Role Hierarchy를 구성합니다.
- * BFS로 effective roles를 계산하고, cycle detection을 수행합니다.
+ *
+ * <p>role_includes 전체를 한 번의 쿼리로 읽어 전이 폐쇄를 미리 계산한 {@link RoleHierarchyGraph}를 메모리에 두고,
+ * effective roles 계산과 cycle detection은 이 그래프만 조회합니다.
+ * 계층이 바뀌면 {@link #invalidate()}가 커밋 이후 그래프를 무효화하고 Redis pub/sub으로 다른 인스턴스에 알립니다.
+ * 무효화된 그래프는 다음 조회 때 다시 만들어 한 번에 교체합니다.</p>
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class RoleHierarchyService {
 
+    static final String INVALIDATION_CHANNEL = "rbac:role-hierarchy:invalidate";
+
     private final RoleIncludeRepository roleIncludeRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile RoleHierarchyGraph graph;
+
+    public RoleHierarchyService(RoleIncludeRepository roleIncludeRepository,
+                                RedisTemplate<String, Object> redisTemplate,
+                                RedisMessageListenerContainer listenerContainer) {
+        this.roleIncludeRepository = roleIncludeRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String publisher = new String(message.getBody(), StandardCharsets.UTF_8);
+            if (!instanceId.equals(publisher)) {
+                invalidateLocal();
+                log.debug("Role hierarchy invalidated by another instance: {}", publisher);
+            }
+        }, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
 
     /**
-     * 주어진 역할 목록에 대해 DAG를 BFS 탐색하여 모든 유효 역할을 반환합니다.
+     * 주어진 역할 목록에 대해 모든 유효 역할을 반환합니다.
      * 예: [ROLE_SUPER_ADMIN] → [ROLE_SUPER_ADMIN, ROLE_SHOPPING_ADMIN, ROLE_BLOG_ADMIN, ROLE_SHOPPING_SELLER, ROLE_USER, ROLE_GUEST]
      */
     public List<String> resolveEffectiveRoles(List<String> roleKeys) {
-        Set<String> visited = new LinkedHashSet<>(roleKeys);
-        Queue<String> queue = new LinkedList<>(roleKeys);
-
-        while (!queue.isEmpty()) {
-            String current = queue.poll();
-            List<RoleInclude> includes = roleIncludeRepository.findByRoleRoleKey(current);
-            for (RoleInclude include : includes) {
-                String includedKey = include.getIncludedRole().getRoleKey();
-                if (visited.add(includedKey)) {
-                    queue.add(includedKey);
-                }
-            }
-        }
-
-        return new ArrayList<>(visited);
+        return currentGraph().resolve(roleKeys);
     }
 
     /**
      * candidateIncludeKey를 roleKey에 추가했을 때 cycle이 발생하는지 검사합니다.
-     * candidateIncludeKey에서 BFS로 roleKey에 도달 가능하면 cycle.
+     * candidateIncludeKey가 이미 roleKey를 포함하고 있으면 cycle.
      */
     public boolean wouldCreateCycle(String roleKey, String candidateIncludeKey) {
-        Set<String> visited = new HashSet<>();
-        Queue<String> queue = new LinkedList<>();
-        queue.add(candidateIncludeKey);
-        visited.add(candidateIncludeKey);
-
-        while (!queue.isEmpty()) {
-            String current = queue.poll();
-            if (current.equals(roleKey)) {
-                return true;
-            }
-            List<RoleInclude> includes = roleIncludeRepository.findByRoleRoleKey(current);
-            for (RoleInclude include : includes) {
-                String includedKey = include.getIncludedRole().getRoleKey();
-                if (visited.add(includedKey)) {
-                    queue.add(includedKey);
-                }
-            }
-        }
-
-        return false;
+        return currentGraph().includes(candidateIncludeKey, roleKey);
     }
 
     /**
@@ -76,12 +79,59 @@ public class RoleHierarchyService {
      * key: roleKey, value: direct includes
      */
     public Map<String, List<String>> getHierarchyGraph() {
-        List<RoleInclude> allIncludes = roleIncludeRepository.findAllWithRoles();
-        return allIncludes.stream()
-                .collect(Collectors.groupingBy(
-                        ri -> ri.getRole().getRoleKey(),
-                        Collectors.mapping(ri -> ri.getIncludedRole().getRoleKey(), Collectors.toList())
-                ));
+        return currentGraph().directIncludes();
+    }
+
+    /**
+     * 역할 계층 변경을 알립니다. 트랜잭션 안이면 커밋 이후에 로컬 그래프를 무효화하고 다른 인스턴스에 발행합니다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateAndPublish();
+                }
+            });
+        } else {
+            invalidateAndPublish();
+        }
+    }
+
+    private void invalidateAndPublish() {
+        invalidateLocal();
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId);
+        } catch (Exception e) {
+            log.warn("Failed to publish role hierarchy invalidation: {}", e.getMessage());
+        }
+    }
+
+    void invalidateLocal() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * 현재 세대의 그래프를 반환합니다. 무효화되었으면 다시 읽어 교체합니다.
+     * 읽는 도중 무효화되면 다음 조회에서 한 번 더 읽습니다.
+     */
+    RoleHierarchyGraph currentGraph() {
+        RoleHierarchyGraph current = graph;
+        if (current != null && current.generation() == generation.get()) {
+            return current;
+        }
+        synchronized (this) {
+            long currentGeneration = generation.get();
+            current = graph;
+            if (current != null && current.generation() == currentGeneration) {
+                return current;
+            }
+            List<RoleInclude> includes = roleIncludeRepository.findAllWithRoles();
+            RoleHierarchyGraph loaded = RoleHierarchyGraph.build(includes, currentGeneration);
+            graph = loaded;
+            log.debug("Role hierarchy loaded: {} includes, generation={}", includes.size(), currentGeneration);
+            return loaded;
+        }
     }
 
     /**
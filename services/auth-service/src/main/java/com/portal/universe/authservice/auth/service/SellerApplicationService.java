@@ -30,6 +30,7 @@ public class SellerApplicationService {
     private final UserRoleRepository userRoleRepository;
     private final AuthAuditLogRepository auditLogRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final PermissionCache permissionCache;
 
     /**
      * 셀러 신청서를 제출합니다.
@@ -141,6 +142,7 @@ public class SellerApplicationService {
                     .role(sellerRole)
                     .assignedBy(assignedBy)
                     .build());
+            permissionCache.evictUser(userId);
 
             logAudit(AuditEventType.ROLE_ASSIGNED, assignedBy, userId,
                     "ROLE_SHOPPING_SELLER auto-assigned on application approval");
@@ -13,10 +13,14 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * 로그아웃된 Access Token을 블랙리스트로 관리하는 서비스입니다.
- * Redis 키 패턴: blacklist:{accessToken}
+ * Redis 키 패턴: blacklist:{sha256(accessToken)}
  *
  * 블랙리스트에 추가된 토큰은 남은 만료 시간 동안만 저장되며,
  * 만료 시간이 지나면 자동으로 삭제됩니다.
+ *
+ * <p>Gateway는 블랙리스트를 로컬 Bloom filter로 복제해 대부분의 요청에서 Redis 조회를 생략합니다.
+ * 이를 위해 토큰 해시를 만료 시점 score로 blacklist:index ZSET에 기록하고(재동기화용),
+ * blacklist:events 채널로 발행합니다(실시간 반영용). 메시지 형식: {hash}:{expiresAtEpochMillis}</p>
  */
 @Slf4j
 @Service
@@ -25,6 +29,8 @@ public class TokenBlacklistService {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private static final String BLACKLIST_PREFIX = "blacklist:";
+    private static final String BLACKLIST_INDEX_KEY = "blacklist:index";
+    private static final String BLACKLIST_CHANNEL = "blacklist:events";
 
     /**
      * Access Token을 블랙리스트에 추가합니다.
@@ -39,13 +45,20 @@ public class TokenBlacklistService {
             return;
         }
 
-        String key = BLACKLIST_PREFIX + hashToken(token);
+        String tokenHash = hashToken(token);
         redisTemplate.opsForValue().set(
-                key,
+                BLACKLIST_PREFIX + tokenHash,
                 "blacklisted",
                 remainingExpiration,
                 TimeUnit.MILLISECONDS
         );
+
+        // Gateway 로컬 복제본 갱신: 재동기화용 인덱스 기록(만료된 항목 정리) 후 실시간 발행
+        long now = System.currentTimeMillis();
+        long expiresAt = now + remainingExpiration;
+        redisTemplate.opsForZSet().add(BLACKLIST_INDEX_KEY, tokenHash, expiresAt);
+        redisTemplate.opsForZSet().removeRangeByScore(BLACKLIST_INDEX_KEY, 0, now);
+        redisTemplate.convertAndSend(BLACKLIST_CHANNEL, tokenHash + ":" + expiresAt);
         log.info("Token added to blacklist with TTL: {}ms", remainingExpiration);
     }
 
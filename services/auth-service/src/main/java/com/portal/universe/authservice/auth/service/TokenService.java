@@ -2,13 +2,11 @@ package com.portal.universe.authservice.auth.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.portal.universe.authservice.auth.domain.UserMembership;
-import com.portal.universe.authservice.auth.repository.UserMembershipRepository;
 import com.portal.universe.authservice.auth.repository.UserRoleRepository;
+import com.portal.universe.authservice.auth.repository.UserRoleRepository.TokenClaimRow;
 import com.portal.universe.authservice.common.config.JwtProperties;
 import com.portal.universe.authservice.user.domain.User;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,8 +14,13 @@ import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * JWT Access/Refresh Token 발급과 검증을 담당합니다.
+ *
+ * <p>Access Token claims(역할, 멤버십)는 한 번의 projection 쿼리로 읽고,
+ * kid별 서명 키와 파서는 {@link JwtKeyRegistry}에서 재사용합니다.</p>
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -27,8 +30,8 @@ public class TokenService {
 
     private final JwtProperties jwtProperties;
     private final UserRoleRepository userRoleRepository;
-    private final UserMembershipRepository userMembershipRepository;
     private final RoleHierarchyService roleHierarchyService;
+    private final JwtKeyRegistry keyRegistry = new JwtKeyRegistry();
 
     private String getCurrentKeyId() {
         return jwtProperties.getCurrentKeyId();
@@ -50,10 +53,10 @@ public class TokenService {
             throw new IllegalStateException("Current JWT key is expired: " + currentKeyId);
         }
 
-        return getSigningKey(keyConfig.getSecretKey());
+        return keyRegistry.get(currentKeyId, keyConfig).key();
     }
 
-    private SecretKey getSigningKeyById(String keyId) {
+    private JwtKeyRegistry.SigningKey getSigningKeyById(String keyId) {
         if (keyId == null || keyId.isBlank()) {
             throw new IllegalArgumentException("Key ID cannot be null or empty");
         }
@@ -68,12 +71,7 @@ public class TokenService {
             throw new IllegalArgumentException("JWT key is expired: " + keyId);
         }
 
-        return getSigningKey(keyConfig.getSecretKey());
-    }
-
-    private SecretKey getSigningKey(String secretKey) {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return keyRegistry.get(keyId, keyConfig);
     }
 
     private String extractKeyId(String token) {
@@ -107,43 +105,25 @@ public class TokenService {
      * - memberships: {membershipGroup: {tier, order}} enriched 형태
      */
     public String generateAccessToken(User user) {
-        Map<String, Object> claims = new HashMap<>();
-
-        // roles 배열 (RBAC 테이블 기반)
-        List<String> roleKeys = userRoleRepository.findActiveRoleKeysByUserId(user.getUuid());
+        // roles 배열 + memberships (RBAC 테이블 기반, 한 번의 쿼리)
+        List<String> roleKeys = new ArrayList<>();
+        Map<String, MembershipClaim> memberships = new LinkedHashMap<>();
+        for (TokenClaimRow row : userRoleRepository.findTokenClaimRows(user.getUuid())) {
+            if (TokenClaimRow.KIND_ROLE.equals(row.getKind())) {
+                roleKeys.add(row.getName());
+            } else {
+                memberships.putIfAbsent(row.getName(), new MembershipClaim(row.getTierKey(), row.getSortOrder()));
+            }
+        }
         if (roleKeys.isEmpty()) {
             log.error("No RBAC roles found for user: {}. This indicates RBAC initialization failure.", user.getUuid());
             throw new IllegalStateException(
                     "No roles assigned to user: " + user.getUuid()
                             + ". RBAC data may not be properly initialized.");
         }
-        claims.put("roles", roleKeys);
 
         // effectiveRoles: DAG에서 resolve된 전체 유효 역할
         List<String> effectiveRoles = roleHierarchyService.resolveEffectiveRoles(roleKeys);
-        claims.put("effectiveRoles", effectiveRoles);
-
-        // memberships: enriched format {membershipGroup: {tier, order}}
-        List<UserMembership> activeMemberships = userMembershipRepository.findActiveByUserId(user.getUuid());
-        Map<String, Map<String, Object>> membershipsMap = activeMemberships.stream()
-                .collect(Collectors.toMap(
-                        UserMembership::getMembershipGroup,
-                        m -> Map.of(
-                                "tier", (Object) m.getTier().getTierKey(),
-                                "order", (Object) m.getTier().getSortOrder()
-                        ),
-                        (existing, replacement) -> existing
-                ));
-        claims.put("memberships", membershipsMap);
-
-        claims.put("email", user.getEmail());
-
-        if (user.getProfile() != null) {
-            claims.put("nickname", user.getProfile().getNickname());
-            if (user.getProfile().getUsername() != null) {
-                claims.put("username", user.getProfile().getUsername());
-            }
-        }
 
         Date now = new Date();
         Date expiration = new Date(now.getTime() + jwtProperties.getAccessTokenExpiration());
@@ -151,11 +131,23 @@ public class TokenService {
         String currentKeyId = getCurrentKeyId();
         log.debug("Generating access token with key ID: {} for user: {}, roles: {}", currentKeyId, user.getUuid(), roleKeys);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .header()
                     .add("kid", currentKeyId)
                     .and()
-                .claims(claims)
+                .claim("roles", roleKeys)
+                .claim("effectiveRoles", effectiveRoles)
+                .claim("memberships", memberships)
+                .claim("email", user.getEmail());
+
+        if (user.getProfile() != null) {
+            builder.claim("nickname", user.getProfile().getNickname());
+            if (user.getProfile().getUsername() != null) {
+                builder.claim("username", user.getProfile().getUsername());
+            }
+        }
+
+        return builder
                 .subject(user.getUuid())
                 .issuedAt(now)
                 .expiration(expiration)
@@ -199,11 +191,7 @@ public class TokenService {
 
             log.debug("Validating {} token with key ID: {}", tokenType, keyId);
 
-            SecretKey signingKey = getSigningKeyById(keyId);
-
-            return Jwts.parser()
-                    .verifyWith(signingKey)
-                    .build()
+            return getSigningKeyById(keyId).parser()
                     .parseSignedClaims(token)
                     .getPayload();
 
@@ -245,4 +233,10 @@ public class TokenService {
         long remaining = expiration.getTime() - now.getTime();
         return Math.max(remaining, 0);
     }
+
+    /**
+     * memberships claim 값. JSON으로 {"tier": ..., "order": ...} 형태로 직렬화됩니다.
+     */
+    record MembershipClaim(String tier, Integer order) {
+    }
 }
@@ -1,15 +1,19 @@
 package com.portal.universe.authservice.auth.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.portal.universe.authservice.auth.service.LoginAttemptService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Collections;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 /**
  * 로그인 시도를 추적하고 계정 잠금을 관리하는 서비스 구현체입니다.
@@ -26,13 +30,18 @@ import java.util.concurrent.TimeUnit;
  *   <li>5회 실패 → 5분 잠금</li>
  *   <li>10회 실패 → 30분 잠금</li>
  * </ul>
+ *
+ * <p>실패 기록은 한 번의 Lua Script로 카운트 증가, 잠금 단계 계산, 잠금 키 저장을 처리하고,
+ * 잠금 확인은 카운트와 잠금 키를 한 번의 MGET으로 읽습니다. 잠긴 키는 해제 시점까지(최대 {@link #LOCAL_LOCK_TTL})
+ * 로컬에 보관해 반복 시도를 Redis 조회 없이 거절합니다. 잠금은 실패가 누적될수록 늘어나기만 하고
+ * 잠금 중에는 성공 기록이 생기지 않으므로, 로컬 보관분이 Redis보다 먼저 풀리는 일은 없습니다.</p>
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LoginAttemptServiceImpl implements LoginAttemptService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate redisTemplate;
 
     private static final String COUNT_PREFIX = "login_attempt:count:";
     private static final String LOCK_PREFIX = "login_attempt:lock:";
@@ -50,131 +59,149 @@ public class LoginAttemptServiceImpl implements LoginAttemptService {
     // 실패 카운트 유지 시간 (1시간)
     private static final long COUNT_EXPIRATION = 3600;
 
-    // Lua Script: INCR + 첫 실패 시 EXPIRE 원자적 실행
-    private static final String INCREMENT_WITH_EXPIRE_SCRIPT =
+    // 로컬 잠금 캐시 보관 시간 상한 및 최대 크기
+    private static final Duration LOCAL_LOCK_TTL = Duration.ofSeconds(10);
+    private static final long LOCAL_LOCK_MAX_SIZE = 100_000;
+
+    /**
+     * Lua Script: INCR + 첫 실패 시 EXPIRE + 잠금 단계 계산 + 잠금 키 저장을 원자적으로 실행합니다.
+     * ARGV[3]부터 (임계값, 잠금 시간) 쌍을 임계값 오름차순으로 받으며, 조건을 만족하는 마지막 단계가 적용됩니다.
+     * 반환값: {실패 횟수, 잠금 시간(초)}
+     */
+    private static final RedisScript<List> RECORD_FAILURE_SCRIPT = new DefaultRedisScript<>(
             "local count = redis.call('INCR', KEYS[1]) " +
             "if count == 1 then " +
             "  redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
             "end " +
-            "return count";
+            "local lockSeconds = 0 " +
+            "for i = 3, #ARGV, 2 do " +
+            "  if count >= tonumber(ARGV[i]) then lockSeconds = tonumber(ARGV[i + 1]) end " +
+            "end " +
+            "if lockSeconds > 0 then " +
+            "  local unlockTime = tonumber(ARGV[2]) + lockSeconds * 1000 " +
+            "  redis.call('SET', KEYS[2], string.format('%.0f', unlockTime), 'EX', lockSeconds) " +
+            "end " +
+            "return {count, lockSeconds}",
+            List.class);
+
+    private final Cache<String, LocalLock> lockedKeys = Caffeine.newBuilder()
+            .maximumSize(LOCAL_LOCK_MAX_SIZE)
+            .expireAfter(new UnlockExpiry(LOCAL_LOCK_TTL.toNanos()))
+            .build();
 
     @Override
     public void recordFailure(String key) {
         String countKey = COUNT_PREFIX + key;
         String lockKey = LOCK_PREFIX + key;
+        long now = Instant.now().toEpochMilli();
 
-        // 원자적으로 실패 횟수 증가 + 첫 실패 시 TTL 설정
-        DefaultRedisScript<Long> script = new DefaultRedisScript<>(INCREMENT_WITH_EXPIRE_SCRIPT, Long.class);
-        Long currentCount = redisTemplate.execute(script,
-                Collections.singletonList(countKey),
-                String.valueOf(COUNT_EXPIRATION));
-        if (currentCount == null) {
-            currentCount = 1L;
-        }
+        List<?> result = redisTemplate.execute(RECORD_FAILURE_SCRIPT, List.of(countKey, lockKey),
+                String.valueOf(COUNT_EXPIRATION), String.valueOf(now),
+                String.valueOf(THRESHOLD_FIRST), String.valueOf(LOCK_TIME_FIRST),
+                String.valueOf(THRESHOLD_SECOND), String.valueOf(LOCK_TIME_SECOND),
+                String.valueOf(THRESHOLD_THIRD), String.valueOf(LOCK_TIME_THIRD));
+        long currentCount = result != null && !result.isEmpty() ? ((Number) result.get(0)).longValue() : 1L;
+        long lockDuration = result != null && result.size() > 1 ? ((Number) result.get(1)).longValue() : 0L;
 
         log.warn("Login failure recorded for key: {} (attempt: {})", key, currentCount);
 
-        // 잠금 처리
-        int lockDuration = determineLockDuration(currentCount.intValue());
         if (lockDuration > 0) {
-            long unlockTime = Instant.now().toEpochMilli() + (lockDuration * 1000L);
-            redisTemplate.opsForValue().set(lockKey, String.valueOf(unlockTime),
-                    lockDuration, TimeUnit.SECONDS);
+            lockedKeys.put(key, new LocalLock(now + lockDuration * 1000L, (int) currentCount));
             log.warn("Account locked for key: {} (duration: {} seconds)", key, lockDuration);
         }
     }
 
     @Override
     public void recordSuccess(String key) {
-        String countKey = COUNT_PREFIX + key;
-        String lockKey = LOCK_PREFIX + key;
-
-        // 실패 카운트 및 잠금 삭제
-        redisTemplate.delete(countKey);
-        redisTemplate.delete(lockKey);
+        // 실패 카운트 및 잠금을 한 번에 삭제
+        redisTemplate.delete(List.of(COUNT_PREFIX + key, LOCK_PREFIX + key));
+        lockedKeys.invalidate(key);
 
         log.info("Login success recorded for key: {} (attempt counter reset)", key);
     }
 
     @Override
-    public boolean isBlocked(String key) {
-        String lockKey = LOCK_PREFIX + key;
-        Object lockTimeObj = redisTemplate.opsForValue().get(lockKey);
+    public LoginAttemptStatus checkStatus(String key) {
+        long now = Instant.now().toEpochMilli();
 
-        if (lockTimeObj == null) {
-            return false;
+        LocalLock localLock = lockedKeys.getIfPresent(key);
+        if (localLock != null && now < localLock.unlockTime()) {
+            return new LoginAttemptStatus(true, (localLock.unlockTime() - now) / 1000, localLock.attemptCount());
         }
 
-        try {
-            long unlockTime = Long.parseLong(lockTimeObj.toString());
-            long now = Instant.now().toEpochMilli();
+        List<String> values = redisTemplate.opsForValue().multiGet(List.of(COUNT_PREFIX + key, LOCK_PREFIX + key));
+        String countValue = values != null && !values.isEmpty() ? values.get(0) : null;
+        String lockValue = values != null && values.size() > 1 ? values.get(1) : null;
+        int attemptCount = parseCount(key, countValue);
 
+        if (lockValue == null) {
+            return new LoginAttemptStatus(false, 0, attemptCount);
+        }
+
+        try {
+            long unlockTime = Long.parseLong(lockValue);
             if (now < unlockTime) {
-                return true;
-            } else {
-                // 잠금 시간이 지났으면 삭제
-                redisTemplate.delete(lockKey);
-                return false;
+                lockedKeys.put(key, new LocalLock(unlockTime, attemptCount));
+                return new LoginAttemptStatus(true, (unlockTime - now) / 1000, attemptCount);
             }
+            // 잠금 키는 잠금 시간과 같은 TTL로 저장되므로 곧 Redis에서 만료됨
+            return new LoginAttemptStatus(false, 0, attemptCount);
         } catch (NumberFormatException e) {
             log.error("Invalid lock time format for key: {}", key, e);
-            redisTemplate.delete(lockKey);
-            return false;
+            redisTemplate.delete(LOCK_PREFIX + key);
+            return new LoginAttemptStatus(false, 0, attemptCount);
         }
     }
 
     @Override
-    public int getAttemptCount(String key) {
-        String countKey = COUNT_PREFIX + key;
-        Object countObj = redisTemplate.opsForValue().get(countKey);
-
-        if (countObj == null) {
-            return 0;
-        }
+    public boolean isBlocked(String key) {
+        return checkStatus(key).blocked();
+    }
 
-        try {
-            return Integer.parseInt(countObj.toString());
-        } catch (NumberFormatException e) {
-            log.error("Invalid attempt count format for key: {}", key, e);
-            return 0;
-        }
+    @Override
+    public int getAttemptCount(String key) {
+        return parseCount(key, redisTemplate.opsForValue().get(COUNT_PREFIX + key));
     }
 
     @Override
     public long getRemainingLockTime(String key) {
-        String lockKey = LOCK_PREFIX + key;
-        Object lockTimeObj = redisTemplate.opsForValue().get(lockKey);
+        return checkStatus(key).remainingLockSeconds();
+    }
 
-        if (lockTimeObj == null) {
+    private int parseCount(String key, String countValue) {
+        if (countValue == null) {
             return 0;
         }
-
         try {
-            long unlockTime = Long.parseLong(lockTimeObj.toString());
-            long now = Instant.now().toEpochMilli();
-            long remainingMs = unlockTime - now;
-
-            return remainingMs > 0 ? (remainingMs / 1000) : 0;
+            return Integer.parseInt(countValue);
         } catch (NumberFormatException e) {
-            log.error("Invalid lock time format for key: {}", key, e);
+            log.error("Invalid attempt count format for key: {}", key, e);
             return 0;
         }
     }
 
+    private record LocalLock(long unlockTime, int attemptCount) {
+    }
+
     /**
-     * 실패 횟수에 따른 잠금 시간을 결정합니다.
-     *
-     * @param attemptCount 현재 실패 횟수
-     * @return 잠금 시간(초), 잠금하지 않으면 0
+     * 잠금 해제 시점까지만 보관합니다 (최대 maxTtl).
      */
-    private int determineLockDuration(int attemptCount) {
-        if (attemptCount >= THRESHOLD_THIRD) {
-            return LOCK_TIME_THIRD;
-        } else if (attemptCount >= THRESHOLD_SECOND) {
-            return LOCK_TIME_SECOND;
-        } else if (attemptCount >= THRESHOLD_FIRST) {
-            return LOCK_TIME_FIRST;
+    private record UnlockExpiry(long maxTtlNanos) implements Expiry<String, LocalLock> {
+
+        @Override
+        public long expireAfterCreate(String key, LocalLock lock, long currentTime) {
+            long untilUnlock = Duration.ofMillis(lock.unlockTime() - Instant.now().toEpochMilli()).toNanos();
+            return Math.max(0, Math.min(untilUnlock, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, LocalLock lock, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, lock, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, LocalLock lock, long currentTime, long currentDuration) {
+            return currentDuration;
         }
-        return 0;
     }
 }
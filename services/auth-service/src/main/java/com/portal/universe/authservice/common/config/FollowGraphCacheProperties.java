@@ -0,0 +1,36 @@
+package com.portal.universe.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 팔로우 그래프(사용자별 팔로잉 ID 집합) Redis 캐시 설정을 관리하는 클래스입니다.
+ * application.yml의 follow.graph-cache 속성과 바인딩됩니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "follow.graph-cache")
+public class FollowGraphCacheProperties {
+
+    /**
+     * 캐시 사용 여부 (false면 팔로우 상태를 매번 DB에서 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시할 팔로잉 수 상한
+     * 이보다 많이 팔로우하는 사용자는 집합을 만들지 않고 대상 ID로 DB를 직접 조회합니다.
+     */
+    private int maxFollowings = 5_000;
+
+    /**
+     * 팔로잉 ID 집합 보관 시간
+     * 팔로우/언팔로우 시 집합을 직접 갱신하므로 짧게 둘 필요는 없으며, 사용하지 않는 집합을 정리하는 용도입니다.
+     */
+    private Duration ttl = Duration.ofHours(1);
+}
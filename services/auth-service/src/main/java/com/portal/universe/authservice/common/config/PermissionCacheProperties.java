@@ -0,0 +1,46 @@
+package com.portal.universe.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 권한 해결(resolve) 캐시 설정을 관리하는 클래스입니다.
+ * application.yml의 rbac.permission-cache 속성과 바인딩됩니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rbac.permission-cache")
+public class PermissionCacheProperties {
+
+    /**
+     * 캐시 사용 여부 (false면 매 요청 DB에서 해결)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 사용자별 해결 결과 보관 시간
+     * 역할/멤버십 만료(expiresAt)는 명시적 무효화가 없으므로 이 시간만큼 늦게 반영될 수 있습니다.
+     */
+    private Duration userTtl = Duration.ofSeconds(30);
+
+    /**
+     * 사용자별 캐시 최대 항목 수
+     */
+    private long userMaxSize = 50_000;
+
+    /**
+     * 역할 집합 / 멤버십 티어별 권한 캐시 보관 시간
+     * 변경 시 명시적으로 무효화되며, pub/sub 메시지 유실에 대비한 상한입니다.
+     */
+    private Duration sharedTtl = Duration.ofMinutes(10);
+
+    /**
+     * 역할 집합 / 멤버십 티어별 권한 캐시 최대 항목 수
+     */
+    private long sharedMaxSize = 1_000;
+}
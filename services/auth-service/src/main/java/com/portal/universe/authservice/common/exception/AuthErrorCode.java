@@ -91,6 +91,11 @@ public enum AuthErrorCode implements ErrorCode {
      */
     FOLLOW_USER_NOT_FOUND(HttpStatus.NOT_FOUND, "A017", "Target user not found"),
 
+    /**
+     * 팔로우 상태를 한 번에 확인할 수 있는 사용자 수를 초과했습니다.
+     */
+    FOLLOW_STATUS_TOO_MANY_TARGETS(HttpStatus.BAD_REQUEST, "A051", "Too many users requested. Maximum is {0}"),
+
     /**
      * 계정이 일시적으로 잠겼습니다.
      */
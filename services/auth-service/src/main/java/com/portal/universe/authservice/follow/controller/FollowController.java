@@ -11,6 +11,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 팔로우 관련 API를 처리하는 컨트롤러입니다.
  */
@@ -63,6 +65,16 @@ public class FollowController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "팔로우 상태 일괄 확인", description = "현재 로그인한 사용자가 여러 사용자를 팔로우하는지 한 번에 확인합니다. (최대 100명)")
+    @GetMapping("/me/follow/status")
+    public ResponseEntity<ApiResponse<FollowStatusesResponse>> getFollowStatuses(
+            @Parameter(description = "대상 사용자 username 목록") @RequestParam List<String> usernames,
+            @AuthenticationPrincipal String userUuid
+    ) {
+        FollowStatusesResponse response = followService.getFollowStatusesByUuid(userUuid, usernames);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @Operation(summary = "팔로우 상태 확인", description = "현재 로그인한 사용자가 특정 사용자를 팔로우하는지 확인합니다.")
     @GetMapping("/{username}/follow/status")
     public ResponseEntity<ApiResponse<FollowStatusResponse>> getFollowStatus(
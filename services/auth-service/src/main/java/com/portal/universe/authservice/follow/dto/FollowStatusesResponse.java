@@ -0,0 +1,12 @@
+package com.portal.universe.authservice.follow.dto;
+
+import java.util.Map;
+
+/**
+ * 팔로우 상태 일괄 확인 응답 DTO
+ * 요청한 username 순서대로 팔로우 여부를 담습니다.
+ */
+public record FollowStatusesResponse(
+        Map<String, Boolean> statuses
+) {
+}
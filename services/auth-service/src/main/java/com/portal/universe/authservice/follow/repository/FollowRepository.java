@@ -5,9 +5,11 @@ import com.portal.universe.authservice.follow.domain.Follow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +28,20 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
      */
     Optional<Follow> findByFollowerAndFollowing(User follower, User following);
 
+    /**
+     * 팔로우 관계를 삭제합니다.
+     * @return 삭제된 행 수 (팔로우 중이 아니었으면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.follower.id = :followerId AND f.following.id = :followingId")
+    int deleteByFollowerIdAndFollowingId(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    /**
+     * 주어진 대상 중 특정 사용자가 팔로우하는 사용자의 ID를 조회합니다.
+     */
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :followerId AND f.following.id IN :targetIds")
+    List<Long> findFollowedIdsAmong(@Param("followerId") Long followerId, @Param("targetIds") Collection<Long> targetIds);
+
     /**
      * 특정 사용자의 팔로워 목록을 조회합니다.
      */
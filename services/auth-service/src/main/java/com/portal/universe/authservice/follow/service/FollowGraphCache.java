@@ -0,0 +1,245 @@
+package com.portal.universe.authservice.follow.service;
+
+import com.portal.universe.authservice.common.config.FollowGraphCacheProperties;
+import com.portal.universe.authservice.follow.repository.FollowRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 팔로잉 ID 집합을 Redis Set으로 보관해 "A가 B1..Bn을 팔로우하는가"를 한 번의 왕복으로 답합니다.
+ *
+ * <p>Redis 키 구조 (같은 hash slot을 쓰도록 사용자 ID를 hash tag로 묶음):
+ * <ul>
+ *   <li>follow:{userId}:following → 팔로잉 사용자 ID 집합 + 적재 표시 멤버({@value #LOADED_MARKER})</li>
+ *   <li>follow:{userId}:version   → 팔로우 변경 횟수. 적재 도중 변경이 있었으면 오래된 집합을 쓰지 않음</li>
+ * </ul>
+ *
+ * <p>팔로잉 수가 {@code maxFollowings}를 넘는 사용자는 집합을 만들지 않고 대상 ID로 DB를 직접 조회합니다.
+ * 팔로우/언팔로우는 커밋 이후 집합이 있을 때만 SADD/SREM으로 반영하며, Redis 장애 시에는 DB 조회로 대체합니다.</p>
+ */
+@Slf4j
+@Component
+public class FollowGraphCache {
+
+    private static final String KEY_PREFIX = "follow:{";
+    private static final String FOLLOWING_SUFFIX = "}:following";
+    private static final String VERSION_SUFFIX = "}:version";
+
+    // 집합이 적재되었음을 표시하는 멤버 (사용자 ID와 겹치지 않음)
+    static final String LOADED_MARKER = "-";
+
+    /**
+     * 적재 표시와 대상별 멤버 여부를 조회합니다.
+     * 반환값: 적재됨 {1, 대상1 여부, 대상2 여부, ...} / 없음 {0, 현재 version}
+     */
+    static final RedisScript<List> LOOKUP_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then " +
+            "  return {0, redis.call('GET', KEYS[2]) or '0'} " +
+            "end " +
+            "local result = {1} " +
+            "for i = 2, #ARGV do " +
+            "  result[i] = redis.call('SISMEMBER', KEYS[1], ARGV[i]) " +
+            "end " +
+            "return result",
+            List.class);
+
+    /**
+     * DB에서 읽은 팔로잉 ID로 집합을 만듭니다. 읽기 전 version과 다르면 쓰지 않습니다.
+     * ARGV: version, TTL(초), 적재 표시, 팔로잉 ID...
+     */
+    static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 3, #ARGV, 1000 do " +
+            "  redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[2] * 2) " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 팔로우 변경을 반영합니다. version을 올리고, 집합이 있으면 멤버를 추가/제거합니다.
+     * 추가 후 상한을 넘으면 집합을 지워 이후 DB 조회로 전환합니다.
+     * ARGV: 1(팔로우)/0(언팔로우), 대상 ID, version TTL(초), 집합 크기 상한(적재 표시 포함)
+     */
+    static final RedisScript<Long> CHANGE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  if ARGV[1] == '1' then " +
+            "    redis.call('SADD', KEYS[1], ARGV[2]) " +
+            "    if redis.call('SCARD', KEYS[1]) > tonumber(ARGV[4]) then redis.call('DEL', KEYS[1]) end " +
+            "  else " +
+            "    redis.call('SREM', KEYS[1], ARGV[2]) " +
+            "  end " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final FollowRepository followRepository;
+    private final boolean enabled;
+    private final int maxFollowings;
+    private final long ttlSeconds;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+
+    public FollowGraphCache(FollowGraphCacheProperties properties,
+                            StringRedisTemplate redisTemplate,
+                            FollowRepository followRepository,
+                            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.followRepository = followRepository;
+        this.enabled = properties.isEnabled();
+        this.maxFollowings = properties.getMaxFollowings();
+        this.ttlSeconds = Math.max(1, properties.getTtl().toSeconds());
+
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        this.bypassCounter = lookupCounter(meterRegistry, "bypass");
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("follow.graph_cache.lookups")
+                .description("팔로우 상태 조회의 캐시 결과별 횟수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대상 중 followerId가 팔로우하는 사용자 ID를 반환합니다.
+     *
+     * @param followerId     팔로우하는 사용자 ID
+     * @param followingCount followerId의 현재 팔로잉 수 (캐시 대상 여부 판단)
+     * @param targetIds      확인할 대상 사용자 ID
+     * @return 팔로우 중인 대상 ID 집합
+     */
+    public Set<Long> findFollowed(Long followerId, int followingCount, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return Set.of();
+        }
+        if (!enabled || followingCount > maxFollowings) {
+            bypassCounter.increment();
+            return Set.copyOf(followRepository.findFollowedIdsAmong(followerId, targetIds));
+        }
+
+        List<Long> targets = List.copyOf(new HashSet<>(targetIds));
+        List<?> lookup = lookup(followerId, targets);
+        if (lookup == null) {
+            bypassCounter.increment();
+            return Set.copyOf(followRepository.findFollowedIdsAmong(followerId, targets));
+        }
+        if (((Number) lookup.get(0)).longValue() == 1) {
+            hitCounter.increment();
+            Set<Long> followed = new HashSet<>();
+            for (int i = 0; i < targets.size(); i++) {
+                if (((Number) lookup.get(i + 1)).longValue() == 1) {
+                    followed.add(targets.get(i));
+                }
+            }
+            return followed;
+        }
+
+        missCounter.increment();
+        String version = String.valueOf(lookup.get(1));
+        List<Long> followingIds = followRepository.findFollowingIdsByFollowerId(followerId);
+        if (followingIds.size() <= maxFollowings) {
+            put(followerId, version, followingIds);
+        }
+        Set<Long> followed = new HashSet<>(followingIds);
+        followed.retainAll(targets);
+        return followed;
+    }
+
+    /**
+     * 팔로우/언팔로우를 알립니다. 트랜잭션 안이면 커밋 이후에 반영합니다.
+     */
+    public void onFollowChanged(Long followerId, Long followingId, boolean following) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                redisTemplate.execute(CHANGE_SCRIPT, keys(followerId),
+                        following ? "1" : "0", String.valueOf(followingId),
+                        String.valueOf(ttlSeconds * 2), String.valueOf(maxFollowings + 1));
+            } catch (DataAccessException e) {
+                // 반영에 실패하면 오래된 집합이 남지 않도록 제거 시도
+                log.warn("Failed to apply follow change to graph cache: followerId={}, error={}",
+                        followerId, e.getMessage());
+                evictQuietly(followerId);
+            }
+        });
+    }
+
+    private List<?> lookup(Long followerId, List<Long> targets) {
+        List<String> args = new ArrayList<>(targets.size() + 1);
+        args.add(LOADED_MARKER);
+        targets.forEach(id -> args.add(String.valueOf(id)));
+        try {
+            return redisTemplate.execute(LOOKUP_SCRIPT, keys(followerId), args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("Follow graph cache lookup failed, falling back to DB: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void put(Long followerId, String version, List<Long> followingIds) {
+        List<String> args = new ArrayList<>(followingIds.size() + 3);
+        args.add(version);
+        args.add(String.valueOf(ttlSeconds));
+        args.add(LOADED_MARKER);
+        followingIds.forEach(id -> args.add(String.valueOf(id)));
+        try {
+            redisTemplate.execute(PUT_SCRIPT, keys(followerId), args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("Failed to store follow graph cache: followerId={}, error={}", followerId, e.getMessage());
+        }
+    }
+
+    private void evictQuietly(Long followerId) {
+        try {
+            redisTemplate.delete(followingKey(followerId));
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict follow graph cache: followerId={}, error={}", followerId, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static List<String> keys(Long followerId) {
+        return List.of(followingKey(followerId), KEY_PREFIX + followerId + VERSION_SUFFIX);
+    }
+
+    static String followingKey(Long followerId) {
+        return KEY_PREFIX + followerId + FOLLOWING_SUFFIX;
+    }
+}
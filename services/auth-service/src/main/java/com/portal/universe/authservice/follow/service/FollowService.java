@@ -14,10 +14,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 팔로우 관련 비즈니스 로직을 처리하는 서비스입니다.
+ *
+ * <p>팔로워/팔로잉 수는 users 테이블에 비정규화되어 팔로우 행과 같은 트랜잭션에서 증감하며,
+ * 팔로우 상태 조회는 {@link FollowGraphCache}의 팔로잉 ID 집합을 사용합니다.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -26,6 +33,10 @@ public class FollowService {
 
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
+    private final FollowGraphCache followGraphCache;
+
+    // 팔로우 상태 일괄 조회 시 한 번에 확인할 수 있는 최대 사용자 수
+    static final int MAX_STATUS_TARGETS = 100;
 
     /**
      * 팔로우 토글 (팔로우/언팔로우)
@@ -55,23 +66,20 @@ public class FollowService {
             throw new CustomBusinessException(AuthErrorCode.CANNOT_FOLLOW_YOURSELF);
         }
 
+        // 삭제된 행이 있으면 언팔로우, 없으면 팔로우
         boolean isFollowing;
-        if (followRepository.existsByFollowerAndFollowing(currentUser, targetUser)) {
-            Follow follow = followRepository.findByFollowerAndFollowing(currentUser, targetUser)
-                    .orElseThrow(() -> new CustomBusinessException(AuthErrorCode.NOT_FOLLOWING));
-            followRepository.delete(follow);
+        if (followRepository.deleteByFollowerIdAndFollowingId(currentUser.getId(), targetUser.getId()) > 0) {
             isFollowing = false;
         } else {
-            Follow follow = new Follow(currentUser, targetUser);
-            followRepository.save(follow);
+            followRepository.save(new Follow(currentUser, targetUser));
             isFollowing = true;
         }
+        userRepository.adjustFollowCounts(currentUser.getId(), targetUser.getId(), isFollowing ? 1 : -1);
+        followGraphCache.onFollowChanged(currentUser.getId(), targetUser.getId(), isFollowing);
 
-        return new FollowResponse(
-                isFollowing,
-                getFollowerCount(targetUser),
-                getFollowingCount(targetUser)
-        );
+        UserRepository.FollowCounts counts = userRepository.findFollowCountsById(targetUser.getId())
+                .orElseThrow(() -> new CustomBusinessException(AuthErrorCode.FOLLOW_USER_NOT_FOUND));
+        return new FollowResponse(isFollowing, counts.getFollowerCount(), counts.getFollowingCount());
     }
 
     /**
@@ -118,11 +126,7 @@ public class FollowService {
         User currentUser = userRepository.findById(currentUserId)
                 .orElseThrow(() -> new CustomBusinessException(AuthErrorCode.USER_NOT_FOUND));
 
-        User targetUser = userRepository.findByUsername(targetUsername)
-                .orElseThrow(() -> new CustomBusinessException(AuthErrorCode.FOLLOW_USER_NOT_FOUND));
-
-        boolean isFollowing = followRepository.existsByFollowerAndFollowing(currentUser, targetUser);
-        return new FollowStatusResponse(isFollowing);
+        return getFollowStatus(currentUser, targetUsername);
     }
 
     /**
@@ -130,12 +134,45 @@ public class FollowService {
      */
     public FollowStatusResponse getFollowStatusByUuid(String userUuid, String targetUsername) {
         User currentUser = findUserByUuidOrThrow(userUuid);
+        return getFollowStatus(currentUser, targetUsername);
+    }
 
+    private FollowStatusResponse getFollowStatus(User currentUser, String targetUsername) {
         User targetUser = userRepository.findByUsername(targetUsername)
                 .orElseThrow(() -> new CustomBusinessException(AuthErrorCode.FOLLOW_USER_NOT_FOUND));
 
-        boolean isFollowing = followRepository.existsByFollowerAndFollowing(currentUser, targetUser);
-        return new FollowStatusResponse(isFollowing);
+        Set<Long> followed = followGraphCache.findFollowed(
+                currentUser.getId(), currentUser.getFollowingCount(), List.of(targetUser.getId()));
+        return new FollowStatusResponse(followed.contains(targetUser.getId()));
+    }
+
+    /**
+     * 여러 사용자에 대한 팔로우 상태 일괄 확인 (UUID 기반)
+     * 목록 화면에서 사용자마다 상태를 묻지 않도록 한 번에 조회합니다. 존재하지 않는 username은 false입니다.
+     */
+    public FollowStatusesResponse getFollowStatusesByUuid(String userUuid, List<String> targetUsernames) {
+        Set<String> usernames = new LinkedHashSet<>(targetUsernames);
+        if (usernames.size() > MAX_STATUS_TARGETS) {
+            throw new CustomBusinessException(AuthErrorCode.FOLLOW_STATUS_TOO_MANY_TARGETS,
+                    String.valueOf(MAX_STATUS_TARGETS));
+        }
+        User currentUser = findUserByUuidOrThrow(userUuid);
+        if (usernames.isEmpty()) {
+            return new FollowStatusesResponse(Map.of());
+        }
+
+        Map<String, Long> idsByUsername = new LinkedHashMap<>();
+        userRepository.findIdsByUsernameIn(usernames)
+                .forEach(row -> idsByUsername.put(row.getUsername(), row.getId()));
+        Set<Long> followed = followGraphCache.findFollowed(
+                currentUser.getId(), currentUser.getFollowingCount(), idsByUsername.values());
+
+        Map<String, Boolean> statuses = new LinkedHashMap<>();
+        for (String username : usernames) {
+            Long id = idsByUsername.get(username);
+            statuses.put(username, id != null && followed.contains(id));
+        }
+        return new FollowStatusesResponse(statuses);
     }
 
     /**
@@ -151,14 +188,14 @@ public class FollowService {
      * 특정 사용자의 팔로워 수 조회
      */
     public int getFollowerCount(User user) {
-        return (int) followRepository.countByFollowing(user);
+        return user.getFollowerCount();
     }
 
     /**
      * 특정 사용자의 팔로잉 수 조회
      */
     public int getFollowingCount(User user) {
-        return (int) followRepository.countByFollower(user);
+        return user.getFollowingCount();
     }
 
     private User findUserByUuidOrThrow(String uuid) {
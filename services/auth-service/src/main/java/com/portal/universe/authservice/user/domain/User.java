@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -47,6 +48,16 @@ public class User {
 
     private LocalDateTime passwordChangedAt;
 
+    // 팔로워/팔로잉 수 (비정규화). follows 변경 시 UserRepository.adjustFollowCounts로만 증감하며,
+    // 엔티티 저장 시 오래된 값으로 덮어쓰지 않도록 JPA 쓰기 대상에서 제외합니다.
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int followerCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int followingCount;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
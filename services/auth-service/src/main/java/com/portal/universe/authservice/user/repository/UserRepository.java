@@ -6,9 +6,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -74,4 +77,48 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @EntityGraph(attributePaths = {"profile"})
     Page<User> findAllBy(Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 여러 username의 사용자 ID를 한 번에 조회합니다.
+     * @param usernames 조회할 username 목록
+     * @return 존재하는 사용자의 (username, ID) 목록
+     */
+    @Query("SELECT p.username AS username, u.id AS id FROM User u JOIN u.profile p WHERE p.username IN :usernames")
+    List<UsernameId> findIdsByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * 팔로우 추가/삭제 시 팔로워의 팔로잉 수와 대상의 팔로워 수를 한 문장으로 증감합니다.
+     * 두 행을 같은 문장에서 갱신해 맞팔로우가 동시에 일어나도 잠금 순서가 엇갈리지 않습니다.
+     * @param followerId 팔로우하는 사용자 ID
+     * @param followingId 팔로우 대상 사용자 ID
+     * @param delta 증감값 (팔로우 +1, 언팔로우 -1)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE users
+            SET following_count = following_count + CASE WHEN user_id = :followerId THEN :delta ELSE 0 END,
+                follower_count  = follower_count  + CASE WHEN user_id = :followingId THEN :delta ELSE 0 END
+            WHERE user_id IN (:followerId, :followingId)
+            """, nativeQuery = true)
+    int adjustFollowCounts(@Param("followerId") Long followerId,
+                           @Param("followingId") Long followingId,
+                           @Param("delta") int delta);
+
+    /**
+     * 사용자의 현재 팔로워/팔로잉 수를 조회합니다. (영속성 컨텍스트가 아닌 DB의 최신 값)
+     * @param id 사용자 ID
+     * @return 팔로워/팔로잉 수
+     */
+    @Query("SELECT u.followerCount AS followerCount, u.followingCount AS followingCount FROM User u WHERE u.id = :id")
+    Optional<FollowCounts> findFollowCountsById(@Param("id") Long id);
+
+    interface UsernameId {
+        String getUsername();
+        Long getId();
+    }
+
+    interface FollowCounts {
+        int getFollowerCount();
+        int getFollowingCount();
+    }
+}
@@ -5,7 +5,6 @@ import com.portal.universe.authservice.user.dto.SignupCommand;
 import com.portal.universe.authservice.user.dto.UserProfileResponse;
 import com.portal.universe.authservice.user.domain.User;
 import com.portal.universe.authservice.user.domain.UserProfile;
-import com.portal.universe.authservice.follow.repository.FollowRepository;
 import com.portal.universe.authservice.password.PasswordValidator;
 import com.portal.universe.authservice.password.ValidationResult;
 import com.portal.universe.authservice.password.domain.PasswordHistory;
@@ -28,7 +27,6 @@ import java.util.regex.Pattern;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final FollowRepository followRepository;
     private final PasswordEncoder passwordEncoder;
     private final ApplicationEventPublisher eventPublisher;
     private final PasswordValidator passwordValidator;
@@ -201,15 +199,13 @@ public class UserService {
      * 사용자의 팔로워/팔로잉 카운트를 담은 DTO를 생성합니다.
      *
      * <p>팔로우 카운트 조회 로직이 여러 메서드에서 반복되어 추출했습니다.
-     * 나중에 캐싱이나 최적화가 필요할 때 이 메서드만 수정하면 됩니다.</p>
+     * 카운트는 users 테이블에 비정규화되어 있어 추가 조회 없이 엔티티 값을 사용합니다.</p>
      *
      * @param user 조회 대상 사용자
      * @return 팔로워 수와 팔로잉 수를 담은 레코드
      */
     private FollowCounts getFollowCounts(User user) {
-        int followerCount = (int) followRepository.countByFollowing(user);
-        int followingCount = (int) followRepository.countByFollower(user);
-        return new FollowCounts(followerCount, followingCount);
+        return new FollowCounts(user.getFollowerCount(), user.getFollowingCount());
     }
 
     /**
@@ -0,0 +1,14 @@
+-- ===================================================================
+-- 팔로워/팔로잉 수 비정규화
+-- users.follower_count / following_count: follows 행 추가/삭제와 같은 트랜잭션에서 증감
+-- ===================================================================
+
+ALTER TABLE users ADD COLUMN follower_count  INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN following_count INTEGER NOT NULL DEFAULT 0;
+
+-- 기존 팔로우 관계로 초기값 채우기
+UPDATE users u
+SET follower_count  = (SELECT COUNT(*) FROM follows f WHERE f.following_id = u.user_id),
+    following_count = (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u.user_id);
+
+-- 팔로우 상태 일괄 조회 (follower_id, following_id IN (...))는 uk_follow_relationship 인덱스를 사용
@@ -99,7 +99,8 @@ class AuthControllerTest {
             when(mockUser.getPassword()).thenReturn("encoded-password");
             when(mockUser.getUuid()).thenReturn("test-uuid");
 
-            when(loginAttemptService.isBlocked(anyString())).thenReturn(false);
+            when(loginAttemptService.checkStatus(anyString()))
+                    .thenReturn(new LoginAttemptService.LoginAttemptStatus(false, 0L, 0));
             when(userRepository.findByEmailWithProfile("user@test.com")).thenReturn(Optional.of(mockUser));
             when(passwordEncoder.matches("password123", "encoded-password")).thenReturn(true);
             when(tokenService.generateAccessToken(mockUser)).thenReturn("access-token");
@@ -123,8 +124,8 @@ class AuthControllerTest {
             // given
             LoginRequest request = new LoginRequest("user@test.com", "password123");
 
-            when(loginAttemptService.isBlocked(anyString())).thenReturn(true);
-            when(loginAttemptService.getRemainingLockTime(anyString())).thenReturn(120L);
+            when(loginAttemptService.checkStatus(anyString()))
+                    .thenReturn(new LoginAttemptService.LoginAttemptStatus(true, 120L, 3));
 
             // when & then
             mockMvc.perform(post(LOGIN_URL)
@@ -140,7 +141,8 @@ class AuthControllerTest {
             // given
             LoginRequest request = new LoginRequest("unknown@test.com", "password123");
 
-            when(loginAttemptService.isBlocked(anyString())).thenReturn(false);
+            when(loginAttemptService.checkStatus(anyString()))
+                    .thenReturn(new LoginAttemptService.LoginAttemptStatus(false, 0L, 0));
             when(userRepository.findByEmailWithProfile("unknown@test.com")).thenReturn(Optional.empty());
 
             // when & then
@@ -160,7 +162,8 @@ class AuthControllerTest {
             User mockUser = mock(User.class);
             when(mockUser.getPassword()).thenReturn("encoded-password");
 
-            when(loginAttemptService.isBlocked(anyString())).thenReturn(false);
+            when(loginAttemptService.checkStatus(anyString()))
+                    .thenReturn(new LoginAttemptService.LoginAttemptStatus(false, 0L, 0));
             when(userRepository.findByEmailWithProfile("user@test.com")).thenReturn(Optional.of(mockUser));
             when(passwordEncoder.matches("wrong-password", "encoded-password")).thenReturn(false);
 
@@ -194,7 +197,8 @@ class AuthControllerTest {
             User mockUser = mock(User.class);
             when(mockUser.getPassword()).thenReturn("encoded-password");
 
-            when(loginAttemptService.isBlocked(anyString())).thenReturn(false);
+            when(loginAttemptService.checkStatus(anyString()))
+                    .thenReturn(new LoginAttemptService.LoginAttemptStatus(false, 0L, 0));
             when(userRepository.findByEmailWithProfile("user@test.com")).thenReturn(Optional.of(mockUser));
             when(passwordEncoder.matches("wrong-password", "encoded-password")).thenReturn(false);
 
@@ -217,7 +221,8 @@ class AuthControllerTest {
             when(mockUser.getPassword()).thenReturn("encoded-password");
             when(mockUser.getUuid()).thenReturn("test-uuid");
 
-            when(loginAttemptService.isBlocked(anyString())).thenReturn(false);
+            when(loginAttemptService.checkStatus(anyString()))
+                    .thenReturn(new LoginAttemptService.LoginAttemptStatus(false, 0L, 0));
             when(userRepository.findByEmailWithProfile("user@test.com")).thenReturn(Optional.of(mockUser));
             when(passwordEncoder.matches("password123", "encoded-password")).thenReturn(true);
             when(tokenService.generateAccessToken(mockUser)).thenReturn("access-token");
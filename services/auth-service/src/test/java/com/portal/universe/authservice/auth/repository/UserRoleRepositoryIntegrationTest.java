@@ -0,0 +1,134 @@
+package com.portal.universe.authservice.auth.repository;
+
+import com.portal.universe.authservice.LocalIntegrationTest;
+import com.portal.universe.authservice.auth.domain.MembershipTier;
+import com.portal.universe.authservice.auth.domain.RoleEntity;
+import com.portal.universe.authservice.auth.domain.UserMembership;
+import com.portal.universe.authservice.auth.domain.UserRole;
+import com.portal.universe.authservice.auth.repository.UserRoleRepository.TokenClaimRow;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserRoleRepository 통합 테스트
+ * 토큰 클레임 조회 쿼리의 별칭이 TokenClaimRow projection에 매핑되는지 검증합니다.
+ */
+@Transactional
+class UserRoleRepositoryIntegrationTest extends LocalIntegrationTest {
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private RoleEntityRepository roleEntityRepository;
+
+    @Autowired
+    private UserMembershipRepository userMembershipRepository;
+
+    @Autowired
+    private MembershipTierRepository membershipTierRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String testUserId;
+    private String uniqueSuffix;
+
+    @BeforeEach
+    void setUp() {
+        testUserId = UUID.randomUUID().toString();
+        uniqueSuffix = String.valueOf(ThreadLocalRandom.current().nextInt(100000, 999999));
+    }
+
+    private void assignRole(String roleKey, LocalDateTime expiresAt) {
+        RoleEntity role = roleEntityRepository.findByRoleKey(roleKey)
+                .orElseGet(() -> roleEntityRepository.save(RoleEntity.builder()
+                        .roleKey(roleKey)
+                        .displayName(roleKey)
+                        .description("테스트 역할")
+                        .build()));
+        userRoleRepository.save(UserRole.builder()
+                .userId(testUserId)
+                .role(role)
+                .expiresAt(expiresAt)
+                .build());
+    }
+
+    private void subscribe(String membershipGroup, String tierKey, int sortOrder) {
+        MembershipTier tier = membershipTierRepository.save(MembershipTier.builder()
+                .membershipGroup(membershipGroup)
+                .tierKey(tierKey)
+                .displayName("테스트 티어")
+                .priceMonthly(BigDecimal.valueOf(9900))
+                .sortOrder(sortOrder)
+                .build());
+        userMembershipRepository.save(UserMembership.builder()
+                .userId(testUserId)
+                .membershipGroup(membershipGroup)
+                .tier(tier)
+                .expiresAt(LocalDateTime.now().plusDays(30))
+                .autoRenew(true)
+                .build());
+    }
+
+    @Nested
+    @DisplayName("findTokenClaimRows")
+    class FindTokenClaimRows {
+
+        @Test
+        @DisplayName("should_returnMembershipWithTierAndOrder_when_userHasActiveMembership")
+        void should_returnMembershipWithTierAndOrder_when_userHasActiveMembership() {
+            String svc = "test:claims" + uniqueSuffix;
+            String tierKey = "TIER_CLAIM_" + uniqueSuffix;
+            assignRole("ROLE_USER", null);
+            subscribe(svc, tierKey, 2);
+
+            entityManager.flush();
+            entityManager.clear();
+
+            List<TokenClaimRow> rows = userRoleRepository.findTokenClaimRows(testUserId);
+
+            assertThat(rows).hasSize(2);
+            TokenClaimRow role = rows.stream()
+                    .filter(row -> TokenClaimRow.KIND_ROLE.equals(row.getKind()))
+                    .findFirst().orElseThrow();
+            assertThat(role.getName()).isEqualTo("ROLE_USER");
+            assertThat(role.getTierKey()).isNull();
+            assertThat(role.getSortOrder()).isNull();
+
+            TokenClaimRow membership = rows.stream()
+                    .filter(row -> TokenClaimRow.KIND_MEMBERSHIP.equals(row.getKind()))
+                    .findFirst().orElseThrow();
+            assertThat(membership.getName()).isEqualTo(svc);
+            assertThat(membership.getTierKey()).isEqualTo(tierKey);
+            assertThat(membership.getSortOrder()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should_excludeExpiredRole_when_roleAssignmentExpired")
+        void should_excludeExpiredRole_when_roleAssignmentExpired() {
+            assignRole("ROLE_USER", null);
+            assignRole("ROLE_TEMP_" + uniqueSuffix, LocalDateTime.now().minusDays(1));
+
+            entityManager.flush();
+            entityManager.clear();
+
+            List<TokenClaimRow> rows = userRoleRepository.findTokenClaimRows(testUserId);
+
+            assertThat(rows).extracting(TokenClaimRow::getName).containsExactly("ROLE_USER");
+        }
+    }
+}
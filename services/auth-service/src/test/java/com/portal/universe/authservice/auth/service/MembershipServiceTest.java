@@ -38,6 +38,9 @@ class MembershipServiceTest {
     @Mock
     private AuthAuditLogRepository auditLogRepository;
 
+    @Mock
+    private PermissionCache permissionCache;
+
     @InjectMocks
     private MembershipService membershipService;
 
@@ -177,6 +180,7 @@ class MembershipServiceTest {
             // then
             assertThat(result.tierKey()).isEqualTo("PREMIUM");
             verify(auditLogRepository).save(any(AuthAuditLog.class));
+            verify(permissionCache).evictUser(USER_ID);
         }
 
         @Test
@@ -220,6 +224,7 @@ class MembershipServiceTest {
             // then
             assertThat(membership.getStatus()).isEqualTo(MembershipStatus.CANCELLED);
             verify(auditLogRepository).save(any(AuthAuditLog.class));
+            verify(permissionCache).evictUser(USER_ID);
         }
 
         @Test
@@ -0,0 +1,257 @@
+package com.portal.universe.authservice.auth.service;
+
+import com.portal.universe.authservice.auth.dto.rbac.UserPermissionsResponse;
+import com.portal.universe.authservice.common.config.PermissionCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionCache 테스트")
+class PermissionCacheTest {
+
+    private static final String USER_ID = "test-uuid";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PermissionCache permissionCache;
+    private MessageListener invalidationListener;
+    private final AtomicInteger userLoads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        permissionCache = createCache(true);
+    }
+
+    private PermissionCache createCache(boolean enabled) {
+        PermissionCacheProperties properties = new PermissionCacheProperties();
+        properties.setEnabled(enabled);
+        PermissionCache cache = new PermissionCache(properties, redisTemplate, listenerContainer, meterRegistry);
+        cache.subscribeInvalidation();
+
+        ArgumentCaptor<MessageListener> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer, atLeastOnce()).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+        invalidationListener = listenerCaptor.getValue();
+        return cache;
+    }
+
+    private UserPermissionsResponse loadUser(String userId) {
+        userLoads.incrementAndGet();
+        return new UserPermissionsResponse(userId, List.of("ROLE_USER"), List.of("blog:read"), Map.of());
+    }
+
+    private void receive(String body) {
+        invalidationListener.onMessage(new DefaultMessage(
+                PermissionCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    @Nested
+    @DisplayName("getUserPermissions")
+    class GetUserPermissions {
+
+        @Test
+        @DisplayName("should_loadOnce_when_requestedRepeatedly")
+        void should_loadOnce_when_requestedRepeatedly() {
+            // when
+            for (int i = 0; i < 5; i++) {
+                permissionCache.getUserPermissions(USER_ID, PermissionCacheTest.this::loadUser);
+            }
+
+            // then
+            assertThat(userLoads).hasValue(1);
+            assertThat(meterRegistry.get("cache.gets").tag("cache", "rbac.permissions.user")
+                    .tag("result", "hit").functionCounter().count()).isEqualTo(4);
+            assertThat(meterRegistry.get("cache.gets").tag("cache", "rbac.permissions.user")
+                    .tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should_loadEveryTime_when_disabled")
+        void should_loadEveryTime_when_disabled() {
+            // given
+            PermissionCache disabled = createCache(false);
+
+            // when
+            for (int i = 0; i < 3; i++) {
+                disabled.getUserPermissions(USER_ID, PermissionCacheTest.this::loadUser);
+            }
+
+            // then
+            assertThat(userLoads).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("should_notKeepLoadedValue_when_evictedDuringLoad")
+        void should_notKeepLoadedValue_when_evictedDuringLoad() {
+            // given: 조회 도중 다른 요청이 사용자 권한을 변경
+            permissionCache.getUserPermissions(USER_ID, userId -> {
+                permissionCache.evictUser(userId);
+                return loadUser(userId);
+            });
+
+            // when
+            permissionCache.getUserPermissions(USER_ID, PermissionCacheTest.this::loadUser);
+
+            // then
+            assertThat(userLoads).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("getRolePermissions / getTierPermissions")
+    class SharedPermissions {
+
+        @Test
+        @DisplayName("should_shareEntry_when_sameRoleSetInDifferentOrder")
+        void should_shareEntry_when_sameRoleSetInDifferentOrder() {
+            // given
+            AtomicInteger loads = new AtomicInteger();
+
+            // when
+            List<String> first = permissionCache.getRolePermissions(List.of("ROLE_USER", "ROLE_SELLER"), keys -> {
+                loads.incrementAndGet();
+                return List.of("blog:read", "shopping:sell");
+            });
+            List<String> second = permissionCache.getRolePermissions(List.of("ROLE_SELLER", "ROLE_USER"), keys -> {
+                loads.incrementAndGet();
+                return List.of();
+            });
+
+            // then
+            assertThat(loads).hasValue(1);
+            assertThat(second).isEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("should_reloadSharedAndUserEntries_when_evictAll")
+        void should_reloadSharedAndUserEntries_when_evictAll() {
+            // given
+            AtomicInteger tierLoads = new AtomicInteger();
+            permissionCache.getTierPermissions("user:shopping", "PREMIUM", (group, tier) -> {
+                tierLoads.incrementAndGet();
+                return List.of("user:shopping:premium_access");
+            });
+            permissionCache.getUserPermissions(USER_ID, PermissionCacheTest.this::loadUser);
+
+            // when
+            permissionCache.evictAll();
+            permissionCache.getTierPermissions("user:shopping", "PREMIUM", (group, tier) -> {
+                tierLoads.incrementAndGet();
+                return List.of("user:shopping:premium_access");
+            });
+            permissionCache.getUserPermissions(USER_ID, PermissionCacheTest.this::loadUser);
+
+            // then
+            assertThat(tierLoads).hasValue(2);
+            assertThat(userLoads).hasValue(2);
+            verify(redisTemplate).convertAndSend(eq(PermissionCache.INVALIDATION_CHANNEL),
+                    argThat(body -> body.toString().endsWith("|*")));
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("should_evictOnlyTargetUser_and_publish_when_evictUser")
+        void should_evictOnlyTargetUser_and_publish_when_evictUser() {
+            // given
+            permissionCache.getUserPermissions(USER_ID, PermissionCacheTest.this::loadUser);
+            permissionCache.getUserPermissions("other-uuid", PermissionCacheTest.this::loadUser);
+
+            // when
+            permissionCache.evictUser(USER_ID);
+            permissionCache.getUserPermissions(USER_ID, PermissionCacheTest.this::loadUser);
+            permissionCache.getUserPermissions("other-uuid", PermissionCacheTest.this::loadUser);
+
+            // then
+            assertThat(userLoads).hasValue(3);
+            verify(redisTemplate).convertAndSend(eq(PermissionCache.INVALIDATION_CHANNEL),
+                    argThat(body -> body.toString().endsWith("|" + USER_ID)));
+        }
+
+        @Test
+        @DisplayName("should_deferEviction_until_transactionCommits")
+        void should_deferEviction_until_transactionCommits() {
+            // given
+            permissionCache.getUserPermissions(USER_ID, PermissionCacheTest.this::loadUser);
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // when
+                permissionCache.evictUser(USER_ID);
+                permissionCache.getUserPermissions(USER_ID, PermissionCacheTest.this::loadUser);
+
+                // then: 커밋 전에는 기존 값 사용
+                assertThat(userLoads).hasValue(1);
+                verify(redisTemplate, never()).convertAndSend(anyString(), any());
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                permissionCache.getUserPermissions(USER_ID, PermissionCacheTest.this::loadUser);
+                assertThat(userLoads).hasValue(2);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("should_evictUser_when_otherInstancePublishes")
+        void should_evictUser_when_otherInstancePublishes() {
+            // given
+            permissionCache.getUserPermissions(USER_ID, PermissionCacheTest.this::loadUser);
+
+            // when
+            receive("other-instance|" + USER_ID);
+            permissionCache.getUserPermissions(USER_ID, PermissionCacheTest.this::loadUser);
+
+            // then
+            assertThat(userLoads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("should_ignoreOwnMessage_when_selfPublished")
+        void should_ignoreOwnMessage_when_selfPublished() {
+            // given
+            ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+            permissionCache.evictUser(USER_ID);
+            verify(redisTemplate).convertAndSend(eq(PermissionCache.INVALIDATION_CHANNEL), published.capture());
+            permissionCache.getUserPermissions(USER_ID, PermissionCacheTest.this::loadUser);
+
+            // when
+            receive(published.getValue().toString());
+            permissionCache.getUserPermissions(USER_ID, PermissionCacheTest.this::loadUser);
+
+            // then
+            assertThat(userLoads).hasValue(1);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.portal.universe.authservice.auth.service;
+
+import com.portal.universe.authservice.IntegrationTest;
+import com.portal.universe.authservice.auth.domain.UserMembership;
+import com.portal.universe.authservice.auth.repository.MembershipTierPermissionRepository;
+import com.portal.universe.authservice.auth.repository.RolePermissionRepository;
+import com.portal.universe.authservice.auth.repository.UserMembershipRepository;
+import com.portal.universe.authservice.auth.repository.UserRoleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 권한 확인 처리량 벤치마크입니다.
+ * 기존 방식(매 요청 역할/멤버십/권한 조회)과 {@link PermissionCache}를 거친 resolveUserPermissions를
+ * 여러 스레드에서 같은 시간 동안 호출해 초당 처리 건수를 비교합니다.
+ */
+@Slf4j
+@Disabled("벤치마크 - 수동 실행")
+class PermissionResolutionBenchmarkTest extends IntegrationTest {
+
+    private static final int USERS = 200;
+    private static final int THREADS = 8;
+    private static final long WARMUP_MILLIS = 2_000;
+    private static final long MEASURE_MILLIS = 5_000;
+
+    @Autowired
+    private RbacService rbacService;
+
+    @Autowired
+    private RbacInitializationService rbacInitializationService;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Autowired
+    private UserMembershipRepository userMembershipRepository;
+
+    @Autowired
+    private MembershipTierPermissionRepository membershipTierPermissionRepository;
+
+    @Test
+    @DisplayName("권한 확인 처리량: 매 요청 조회 vs 캐시")
+    void compareUncachedAndCachedThroughput() throws InterruptedException {
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String userId = UUID.randomUUID().toString();
+            rbacInitializationService.initializeNewUser(userId);
+            userIds.add(userId);
+        }
+        assertThat(rbacService.resolveUserPermissions(userIds.get(0)).permissions())
+                .containsExactlyInAnyOrderElementsOf(resolveWithoutCache(userIds.get(0)));
+
+        run(userIds, this::resolveWithoutCache, WARMUP_MILLIS);
+        run(userIds, userId -> rbacService.resolveUserPermissions(userId).permissions(), WARMUP_MILLIS);
+
+        long uncached = run(userIds, this::resolveWithoutCache, MEASURE_MILLIS);
+        long cached = run(userIds, userId -> rbacService.resolveUserPermissions(userId).permissions(), MEASURE_MILLIS);
+
+        log.info("Permission checks/sec ({} threads, {} users) - uncached: {}, cached: {}",
+                THREADS, USERS, uncached * 1_000 / MEASURE_MILLIS, cached * 1_000 / MEASURE_MILLIS);
+        assertThat(cached).isGreaterThan(uncached);
+    }
+
+    private long run(List<String> userIds, Function<String, List<String>> check, long millis)
+            throws InterruptedException {
+        LongAdder operations = new LongAdder();
+        CountDownLatch done = new CountDownLatch(THREADS);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            Thread thread = new Thread(() -> {
+                int i = offset;
+                while (System.nanoTime() < deadline) {
+                    check.apply(userIds.get(i++ % userIds.size()));
+                    operations.increment();
+                }
+                done.countDown();
+            }, "permission-bench-" + t);
+            thread.start();
+        }
+        done.await();
+        return operations.sum();
+    }
+
+    /**
+     * 캐시 도입 전 resolveUserPermissions의 조회 방식 (역할 1회 + 권한 1회 + 멤버십 1회 + 그룹별 1회).
+     */
+    private List<String> resolveWithoutCache(String userId) {
+        List<String> roleKeys = userRoleRepository.findActiveRoleKeysByUserId(userId);
+        Set<String> permissions = new LinkedHashSet<>();
+        if (!roleKeys.isEmpty()) {
+            permissions.addAll(rolePermissionRepository.findPermissionKeysByRoleKeys(roleKeys));
+        }
+        for (UserMembership membership : userMembershipRepository.findActiveByUserId(userId)) {
+            permissions.addAll(membershipTierPermissionRepository.findPermissionKeysByGroupAndTier(
+                    membership.getMembershipGroup(), membership.getTier().getTierKey()));
+        }
+        return new ArrayList<>(permissions);
+    }
+}
@@ -40,6 +40,9 @@ class RbacInitializationServiceTest {
     @Mock
     private UserMembershipRepository userMembershipRepository;
 
+    @Mock
+    private PermissionCache permissionCache;
+
     @InjectMocks
     private RbacInitializationService rbacInitializationService;
 
@@ -9,6 +9,7 @@ import com.portal.universe.authservice.auth.repository.*;
 import java.util.Collections;
 import com.portal.universe.authservice.common.exception.AuthErrorCode;
 import com.portal.universe.commonlibrary.exception.CustomBusinessException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,11 +19,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,6 +57,9 @@ class RbacServiceTest {
     @Mock
     private RoleHierarchyService roleHierarchyService;
 
+    @Mock
+    private PermissionCache permissionCache;
+
     @InjectMocks
     private RbacService rbacService;
 
@@ -121,6 +128,20 @@ class RbacServiceTest {
     @DisplayName("resolveUserPermissions")
     class ResolveUserPermissions {
 
+        @BeforeEach
+        void setUpCache() {
+            // 캐시 미스: loader를 그대로 실행
+            lenient().when(permissionCache.getUserPermissions(anyString(), any()))
+                    .thenAnswer(invocation -> invocation.<Function<String, UserPermissionsResponse>>getArgument(1)
+                            .apply(invocation.getArgument(0)));
+            lenient().when(permissionCache.getRolePermissions(anyList(), any()))
+                    .thenAnswer(invocation -> invocation.<Function<List<String>, List<String>>>getArgument(1)
+                            .apply(invocation.getArgument(0)));
+            lenient().when(permissionCache.getTierPermissions(anyString(), anyString(), any()))
+                    .thenAnswer(invocation -> invocation.<BiFunction<String, String, List<String>>>getArgument(2)
+                            .apply(invocation.getArgument(0), invocation.getArgument(1)));
+        }
+
         @Test
         @DisplayName("should_combineRoleAndMembershipPermissions_when_bothExist")
         void should_combineRoleAndMembershipPermissions_when_bothExist() {
@@ -172,6 +193,23 @@ class RbacServiceTest {
             assertThat(result.permissions()).isEmpty();
             assertThat(result.memberships()).isEmpty();
         }
+
+        @Test
+        @DisplayName("should_skipRepositories_when_userPermissionsCached")
+        void should_skipRepositories_when_userPermissionsCached() {
+            // given
+            UserPermissionsResponse cached = new UserPermissionsResponse(
+                    USER_ID, List.of("ROLE_USER"), List.of("blog:read"), Map.of());
+            when(permissionCache.getUserPermissions(eq(USER_ID), any())).thenReturn(cached);
+
+            // when
+            UserPermissionsResponse result = rbacService.resolveUserPermissions(USER_ID);
+
+            // then
+            assertThat(result).isSameAs(cached);
+            verifyNoInteractions(userRoleRepository, rolePermissionRepository,
+                    userMembershipRepository, membershipTierPermissionRepository);
+        }
     }
 
     @Nested
@@ -254,6 +292,7 @@ class RbacServiceTest {
             // then
             verify(userRoleRepository).delete(userRole);
             verify(auditLogRepository).save(any(AuthAuditLog.class));
+            verify(permissionCache).evictUser(USER_ID);
         }
 
         @Test
@@ -0,0 +1,87 @@
+package com.portal.universe.authservice.auth.service;
+
+import com.portal.universe.authservice.IntegrationTest;
+import com.portal.universe.authservice.auth.domain.RoleInclude;
+import com.portal.universe.authservice.auth.repository.RoleIncludeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Role Hierarchy 조회 비용 벤치마크입니다.
+ * 기존 방식(노드마다 role_includes를 조회하는 BFS)과 미리 계산한 transitive closure 조회를 비교합니다.
+ * 두 방식 모두 실제 MySQL(Testcontainers)에 시드된 시스템 역할 계층을 사용합니다.
+ */
+@Slf4j
+@Disabled("벤치마크 - 수동 실행")
+class RoleHierarchyBenchmarkTest extends IntegrationTest {
+
+    private static final List<String> ROLES = List.of("ROLE_SUPER_ADMIN");
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int ROUNDS = 2_000;
+
+    @Autowired
+    private RoleHierarchyService roleHierarchyService;
+
+    @Autowired
+    private RoleIncludeRepository roleIncludeRepository;
+
+    @Test
+    @DisplayName("effective roles 계산: 노드별 쿼리 BFS vs closure 조회")
+    void compareQueryBfsAndClosure() {
+        assertThat(roleHierarchyService.resolveEffectiveRoles(ROLES))
+                .containsExactlyInAnyOrderElementsOf(resolveByQueryBfs(ROLES));
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            resolveByQueryBfs(ROLES);
+            roleHierarchyService.resolveEffectiveRoles(ROLES);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            resolveByQueryBfs(ROLES);
+        }
+        long bfsNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            roleHierarchyService.resolveEffectiveRoles(ROLES);
+        }
+        long closureNanos = System.nanoTime() - start;
+
+        log.info("resolveEffectiveRoles per call - query BFS: {} µs, closure: {} µs",
+                String.format("%.2f", bfsNanos / 1_000.0 / ROUNDS),
+                String.format("%.2f", closureNanos / 1_000.0 / ROUNDS));
+        assertThat(closureNanos).isLessThan(bfsNanos);
+    }
+
+    /**
+     * 변경 전 RoleHierarchyService의 계산 방식 (방문하는 노드마다 쿼리 1회).
+     */
+    private List<String> resolveByQueryBfs(List<String> roleKeys) {
+        Set<String> visited = new LinkedHashSet<>(roleKeys);
+        Queue<String> queue = new ArrayDeque<>(roleKeys);
+
+        while (!queue.isEmpty()) {
+            String current = queue.poll();
+            for (RoleInclude include : roleIncludeRepository.findByRoleRoleKey(current)) {
+                String includedKey = include.getIncludedRole().getRoleKey();
+                if (visited.add(includedKey)) {
+                    queue.add(includedKey);
+                }
+            }
+        }
+        return new ArrayList<>(visited);
+    }
+}
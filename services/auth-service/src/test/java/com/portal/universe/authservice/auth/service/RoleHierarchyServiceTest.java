@@ -0,0 +1,239 @@
+package com.portal.universe.authservice.auth.service;
+
+import com.portal.universe.authservice.auth.domain.RoleEntity;
+import com.portal.universe.authservice.auth.domain.RoleInclude;
+import com.portal.universe.authservice.auth.repository.RoleIncludeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoleHierarchyService 테스트")
+class RoleHierarchyServiceTest {
+
+    @Mock
+    private RoleIncludeRepository roleIncludeRepository;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private RoleHierarchyService roleHierarchyService;
+    private MessageListener invalidationListener;
+
+    private final Map<String, RoleEntity> roles = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        roleHierarchyService = new RoleHierarchyService(roleIncludeRepository, redisTemplate, listenerContainer);
+        roleHierarchyService.subscribeInvalidation();
+
+        ArgumentCaptor<MessageListener> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+        invalidationListener = listenerCaptor.getValue();
+
+        // 시스템 기본 계층
+        lenient().when(roleIncludeRepository.findAllWithRoles()).thenReturn(List.of(
+                include("ROLE_USER", "ROLE_GUEST"),
+                include("ROLE_SHOPPING_SELLER", "ROLE_USER"),
+                include("ROLE_SHOPPING_ADMIN", "ROLE_SHOPPING_SELLER"),
+                include("ROLE_BLOG_ADMIN", "ROLE_USER"),
+                include("ROLE_SUPER_ADMIN", "ROLE_SHOPPING_ADMIN"),
+                include("ROLE_SUPER_ADMIN", "ROLE_BLOG_ADMIN")
+        ));
+    }
+
+    private RoleEntity role(String roleKey) {
+        return roles.computeIfAbsent(roleKey, key -> RoleEntity.builder()
+                .roleKey(key)
+                .displayName(key)
+                .system(true)
+                .build());
+    }
+
+    private RoleInclude include(String roleKey, String includedRoleKey) {
+        return new RoleInclude(role(roleKey), role(includedRoleKey));
+    }
+
+    @Nested
+    @DisplayName("resolveEffectiveRoles")
+    class ResolveEffectiveRoles {
+
+        @Test
+        @DisplayName("should_returnAllReachableRolesInBfsOrder_when_superAdmin")
+        void should_returnAllReachableRolesInBfsOrder_when_superAdmin() {
+            // when
+            List<String> result = roleHierarchyService.resolveEffectiveRoles(List.of("ROLE_SUPER_ADMIN"));
+
+            // then
+            assertThat(result).containsExactly("ROLE_SUPER_ADMIN", "ROLE_SHOPPING_ADMIN", "ROLE_BLOG_ADMIN",
+                    "ROLE_SHOPPING_SELLER", "ROLE_USER", "ROLE_GUEST");
+        }
+
+        @Test
+        @DisplayName("should_keepInputRolesFirst_and_deduplicate_when_multipleRoles")
+        void should_keepInputRolesFirst_and_deduplicate_when_multipleRoles() {
+            // when
+            List<String> result = roleHierarchyService.resolveEffectiveRoles(
+                    List.of("ROLE_SHOPPING_SELLER", "ROLE_BLOG_ADMIN"));
+
+            // then
+            assertThat(result).containsExactly("ROLE_SHOPPING_SELLER", "ROLE_BLOG_ADMIN", "ROLE_USER", "ROLE_GUEST");
+        }
+
+        @Test
+        @DisplayName("should_returnRoleItself_when_roleHasNoIncludes")
+        void should_returnRoleItself_when_roleHasNoIncludes() {
+            // when
+            List<String> result = roleHierarchyService.resolveEffectiveRoles(List.of("ROLE_CUSTOM"));
+
+            // then
+            assertThat(result).containsExactly("ROLE_CUSTOM");
+        }
+
+        @Test
+        @DisplayName("should_loadGraphOnce_when_resolvedRepeatedly")
+        void should_loadGraphOnce_when_resolvedRepeatedly() {
+            // when
+            for (int i = 0; i < 10; i++) {
+                roleHierarchyService.resolveEffectiveRoles(List.of("ROLE_SUPER_ADMIN"));
+            }
+            roleHierarchyService.wouldCreateCycle("ROLE_GUEST", "ROLE_USER");
+
+            // then
+            verify(roleIncludeRepository, times(1)).findAllWithRoles();
+            verify(roleIncludeRepository, never()).findByRoleRoleKey(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("wouldCreateCycle")
+    class WouldCreateCycle {
+
+        @Test
+        @DisplayName("should_returnTrue_when_candidateAlreadyIncludesRole")
+        void should_returnTrue_when_candidateAlreadyIncludesRole() {
+            assertThat(roleHierarchyService.wouldCreateCycle("ROLE_GUEST", "ROLE_SUPER_ADMIN")).isTrue();
+            assertThat(roleHierarchyService.wouldCreateCycle("ROLE_USER", "ROLE_SHOPPING_SELLER")).isTrue();
+        }
+
+        @Test
+        @DisplayName("should_returnFalse_when_noPathFromCandidateToRole")
+        void should_returnFalse_when_noPathFromCandidateToRole() {
+            assertThat(roleHierarchyService.wouldCreateCycle("ROLE_SUPER_ADMIN", "ROLE_GUEST")).isFalse();
+            assertThat(roleHierarchyService.wouldCreateCycle("ROLE_BLOG_ADMIN", "ROLE_SHOPPING_SELLER")).isFalse();
+        }
+
+        @Test
+        @DisplayName("should_returnTrue_when_sameRole")
+        void should_returnTrue_when_sameRole() {
+            assertThat(roleHierarchyService.wouldCreateCycle("ROLE_CUSTOM", "ROLE_CUSTOM")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate")
+    class Invalidate {
+
+        @Test
+        @DisplayName("should_reloadGraph_and_publish_when_invalidatedOutsideTransaction")
+        void should_reloadGraph_and_publish_when_invalidatedOutsideTransaction() {
+            // given
+            roleHierarchyService.resolveEffectiveRoles(List.of("ROLE_USER"));
+            when(roleIncludeRepository.findAllWithRoles()).thenReturn(List.of(
+                    include("ROLE_USER", "ROLE_GUEST"),
+                    include("ROLE_GUEST", "ROLE_ANONYMOUS")));
+
+            // when
+            roleHierarchyService.invalidate();
+            List<String> result = roleHierarchyService.resolveEffectiveRoles(List.of("ROLE_USER"));
+
+            // then
+            assertThat(result).containsExactly("ROLE_USER", "ROLE_GUEST", "ROLE_ANONYMOUS");
+            verify(redisTemplate).convertAndSend(eq(RoleHierarchyService.INVALIDATION_CHANNEL), anyString());
+        }
+
+        @Test
+        @DisplayName("should_deferInvalidationUntilCommit_when_insideTransaction")
+        void should_deferInvalidationUntilCommit_when_insideTransaction() {
+            // given
+            roleHierarchyService.resolveEffectiveRoles(List.of("ROLE_USER"));
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // when
+                roleHierarchyService.invalidate();
+                roleHierarchyService.resolveEffectiveRoles(List.of("ROLE_USER"));
+
+                // then: 커밋 전에는 기존 그래프 사용
+                verify(roleIncludeRepository, times(1)).findAllWithRoles();
+                verify(redisTemplate, never()).convertAndSend(anyString(), any());
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                roleHierarchyService.resolveEffectiveRoles(List.of("ROLE_USER"));
+
+                verify(roleIncludeRepository, times(2)).findAllWithRoles();
+                verify(redisTemplate).convertAndSend(eq(RoleHierarchyService.INVALIDATION_CHANNEL), anyString());
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("should_reloadGraph_when_otherInstancePublishes")
+        void should_reloadGraph_when_otherInstancePublishes() {
+            // given
+            roleHierarchyService.resolveEffectiveRoles(List.of("ROLE_USER"));
+
+            // when
+            invalidationListener.onMessage(new DefaultMessage(
+                    RoleHierarchyService.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    "other-instance".getBytes(StandardCharsets.UTF_8)), null);
+            roleHierarchyService.resolveEffectiveRoles(List.of("ROLE_USER"));
+
+            // then
+            verify(roleIncludeRepository, times(2)).findAllWithRoles();
+        }
+
+        @Test
+        @DisplayName("should_ignoreOwnMessage_when_selfPublished")
+        void should_ignoreOwnMessage_when_selfPublished() {
+            // given
+            ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+            roleHierarchyService.invalidate();
+            verify(redisTemplate).convertAndSend(eq(RoleHierarchyService.INVALIDATION_CHANNEL), published.capture());
+            roleHierarchyService.resolveEffectiveRoles(List.of("ROLE_USER"));
+
+            // when
+            invalidationListener.onMessage(new DefaultMessage(
+                    RoleHierarchyService.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    published.getValue().toString().getBytes(StandardCharsets.UTF_8)), null);
+            roleHierarchyService.resolveEffectiveRoles(List.of("ROLE_USER"));
+
+            // then
+            verify(roleIncludeRepository, times(1)).findAllWithRoles();
+        }
+    }
+}
@@ -54,6 +54,9 @@ class SellerApplicationServiceTest {
     @Mock
     private AuthAuditLogRepository auditLogRepository;
 
+    @Mock
+    private PermissionCache permissionCache;
+
     @InjectMocks
     private SellerApplicationService sellerApplicationService;
 
@@ -10,6 +10,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
 
 import java.util.concurrent.TimeUnit;
 
@@ -27,6 +28,9 @@ class TokenBlacklistServiceTest {
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
     @InjectMocks
     private TokenBlacklistService tokenBlacklistService;
 
@@ -36,6 +40,7 @@ class TokenBlacklistServiceTest {
     @BeforeEach
     void setUp() {
         lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
     }
 
     @Nested
@@ -60,6 +65,31 @@ class TokenBlacklistServiceTest {
             );
         }
 
+        @Test
+        @DisplayName("should_indexAndPublishTokenHash_when_tokenBlacklisted")
+        void should_indexAndPublishTokenHash_when_tokenBlacklisted() {
+            // given
+            long remainingExpiration = 600_000L;
+
+            // when
+            tokenBlacklistService.addToBlacklist(TOKEN, remainingExpiration);
+
+            // then
+            verify(zSetOperations).add(eq("blacklist:index"), matches("[0-9a-f]{64}"), anyDouble());
+            verify(zSetOperations).removeRangeByScore(eq("blacklist:index"), eq(0.0), anyDouble());
+            verify(redisTemplate).convertAndSend(eq("blacklist:events"), matches("[0-9a-f]{64}:\\d+"));
+        }
+
+        @Test
+        @DisplayName("should_notPublish_when_remainingExpirationZero")
+        void should_notPublish_when_remainingExpirationZero() {
+            // when
+            tokenBlacklistService.addToBlacklist(TOKEN, 0);
+
+            // then
+            verify(redisTemplate, never()).convertAndSend(anyString(), any());
+        }
+
         @Test
         @DisplayName("should_notAddToken_when_remainingExpirationZero")
         void should_notAddToken_when_remainingExpirationZero() {
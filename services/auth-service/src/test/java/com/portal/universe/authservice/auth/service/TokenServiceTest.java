@@ -1,9 +1,7 @@
 package com.portal.universe.authservice.auth.service;
 
-import com.portal.universe.authservice.auth.domain.MembershipTier;
-import com.portal.universe.authservice.auth.domain.UserMembership;
-import com.portal.universe.authservice.auth.repository.UserMembershipRepository;
 import com.portal.universe.authservice.auth.repository.UserRoleRepository;
+import com.portal.universe.authservice.auth.repository.UserRoleRepository.TokenClaimRow;
 import com.portal.universe.authservice.common.config.JwtProperties;
 import com.portal.universe.authservice.user.domain.User;
 import com.portal.universe.authservice.user.domain.UserProfile;
@@ -39,9 +37,6 @@ class TokenServiceTest {
     @Mock
     private UserRoleRepository userRoleRepository;
 
-    @Mock
-    private UserMembershipRepository userMembershipRepository;
-
     @Mock
     private RoleHierarchyService roleHierarchyService;
 
@@ -98,13 +93,35 @@ class TokenServiceTest {
         return user;
     }
 
-    private MembershipTier createFreeTier(String serviceName) {
-        return MembershipTier.builder()
-                .membershipGroup(serviceName)
-                .tierKey("FREE")
-                .displayName("Free")
-                .sortOrder(0)
-                .build();
+    private record ClaimRow(String kind, String name, String tierKey, Integer sortOrder) implements TokenClaimRow {
+
+        static ClaimRow role(String roleKey) {
+            return new ClaimRow(KIND_ROLE, roleKey, null, null);
+        }
+
+        static ClaimRow membership(String membershipGroup, String tierKey, int sortOrder) {
+            return new ClaimRow(KIND_MEMBERSHIP, membershipGroup, tierKey, sortOrder);
+        }
+
+        @Override
+        public String getKind() {
+            return kind;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getTierKey() {
+            return tierKey;
+        }
+
+        @Override
+        public Integer getSortOrder() {
+            return sortOrder;
+        }
     }
 
     @Nested
@@ -116,20 +133,11 @@ class TokenServiceTest {
         void should_generateValidToken_when_userHasRolesAndMemberships() {
             // given
             User user = createTestUser();
-            when(userRoleRepository.findActiveRoleKeysByUserId(USER_UUID))
-                    .thenReturn(List.of("ROLE_USER"));
+            when(userRoleRepository.findTokenClaimRows(USER_UUID))
+                    .thenReturn(List.of(ClaimRow.role("ROLE_USER"), ClaimRow.membership("user:shopping", "FREE", 0)));
             when(roleHierarchyService.resolveEffectiveRoles(List.of("ROLE_USER")))
                     .thenReturn(List.of("ROLE_USER", "ROLE_GUEST"));
 
-            MembershipTier freeTier = createFreeTier("user:shopping");
-            UserMembership membership = UserMembership.builder()
-                    .userId(USER_UUID)
-                    .membershipGroup("user:shopping")
-                    .tier(freeTier)
-                    .build();
-            when(userMembershipRepository.findActiveByUserId(USER_UUID))
-                    .thenReturn(List.of(membership));
-
             // when
             String token = tokenService.generateAccessToken(user);
 
@@ -150,6 +158,11 @@ class TokenServiceTest {
             Map<String, Map<String, Object>> memberships = (Map<String, Map<String, Object>>) claims.get("memberships");
             assertThat(memberships).containsKey("user:shopping");
             assertThat(memberships.get("user:shopping").get("tier")).isEqualTo("FREE");
+            assertThat(memberships.get("user:shopping").get("order")).isEqualTo(0);
+
+            @SuppressWarnings("unchecked")
+            List<String> effectiveRoles = (List<String>) claims.get("effectiveRoles");
+            assertThat(effectiveRoles).containsExactly("ROLE_USER", "ROLE_GUEST");
 
             // Verify kid in header
             String[] parts = token.split("\\.");
@@ -162,14 +175,35 @@ class TokenServiceTest {
         void should_throwException_when_userHasNoRoles() {
             // given
             User user = createTestUser();
-            when(userRoleRepository.findActiveRoleKeysByUserId(USER_UUID))
-                    .thenReturn(Collections.emptyList());
+            when(userRoleRepository.findTokenClaimRows(USER_UUID))
+                    .thenReturn(List.of(ClaimRow.membership("user:shopping", "FREE", 0)));
 
             // when & then
             assertThatThrownBy(() -> tokenService.generateAccessToken(user))
                     .isInstanceOf(IllegalStateException.class)
                     .hasMessageContaining("No roles assigned to user");
         }
+
+        @Test
+        @DisplayName("should_loadClaimsWithSingleQuery_when_generatingRepeatedly")
+        void should_loadClaimsWithSingleQuery_when_generatingRepeatedly() {
+            // given
+            User user = createTestUser();
+            when(userRoleRepository.findTokenClaimRows(USER_UUID))
+                    .thenReturn(List.of(ClaimRow.role("ROLE_USER")));
+            when(roleHierarchyService.resolveEffectiveRoles(List.of("ROLE_USER")))
+                    .thenReturn(List.of("ROLE_USER"));
+
+            // when
+            String first = tokenService.generateAccessToken(user);
+            String second = tokenService.generateAccessToken(user);
+
+            // then
+            assertThat(parseToken(first).getSubject()).isEqualTo(USER_UUID);
+            assertThat(parseToken(second).getSubject()).isEqualTo(USER_UUID);
+            verify(userRoleRepository, times(2)).findTokenClaimRows(USER_UUID);
+            verifyNoMoreInteractions(userRoleRepository);
+        }
     }
 
     @Nested
@@ -1,18 +1,22 @@
 package com.portal.universe.authservice.auth.service.impl;
 
+import com.portal.universe.authservice.auth.service.LoginAttemptService.LoginAttemptStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -23,10 +27,10 @@ import static org.mockito.Mockito.*;
 class LoginAttemptServiceImplTest {
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private StringRedisTemplate redisTemplate;
 
     @Mock
-    private ValueOperations<String, Object> valueOperations;
+    private ValueOperations<String, String> valueOperations;
 
     @InjectMocks
     private LoginAttemptServiceImpl loginAttemptService;
@@ -34,174 +38,182 @@ class LoginAttemptServiceImplTest {
     private static final String KEY = "192.168.1.1:test@example.com";
     private static final String COUNT_PREFIX = "login_attempt:count:";
     private static final String LOCK_PREFIX = "login_attempt:lock:";
+    private static final List<String> STATUS_KEYS = List.of(COUNT_PREFIX + KEY, LOCK_PREFIX + KEY);
 
     @BeforeEach
     void setUp() {
         lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
     }
 
+    private void givenScriptResult(long count, long lockSeconds) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(count, lockSeconds));
+    }
+
+    private void givenStoredValues(String count, String lock) {
+        when(valueOperations.multiGet(STATUS_KEYS)).thenReturn(Arrays.asList(count, lock));
+    }
+
     @Nested
     @DisplayName("recordFailure")
     class RecordFailure {
 
         @Test
-        @DisplayName("should_incrementCount_when_failureRecorded")
-        void should_incrementCount_when_failureRecorded() {
+        @DisplayName("should_executeScriptOnce_with_countAndLockKeys")
+        void should_executeScriptOnce_with_countAndLockKeys() {
             // given
-            when(redisTemplate.execute(any(DefaultRedisScript.class), anyList(), any()))
-                    .thenReturn(1L);
+            givenScriptResult(1L, 0L);
+            ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
 
             // when
             loginAttemptService.recordFailure(KEY);
 
             // then
-            verify(redisTemplate).execute(any(DefaultRedisScript.class), anyList(), any());
+            verify(redisTemplate).execute(any(RedisScript.class), eq(STATUS_KEYS), args.capture());
+            assertThat(Arrays.asList(args.getValue()))
+                    .startsWith("3600")
+                    .endsWith("3", "60", "5", "300", "10", "1800");
+            verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any());
         }
 
         @Test
-        @DisplayName("should_setLock_when_thresholdReached_3attempts")
-        void should_setLock_when_thresholdReached_3attempts() {
+        @DisplayName("should_blockLocally_when_scriptReturnsLock")
+        void should_blockLocally_when_scriptReturnsLock() {
             // given
-            when(redisTemplate.execute(any(DefaultRedisScript.class), anyList(), any()))
-                    .thenReturn(3L);
+            givenScriptResult(3L, 60L);
 
             // when
             loginAttemptService.recordFailure(KEY);
+            LoginAttemptStatus status = loginAttemptService.checkStatus(KEY);
 
             // then
-            verify(valueOperations).set(
-                    eq(LOCK_PREFIX + KEY),
-                    anyString(),
-                    eq(60L),
-                    eq(java.util.concurrent.TimeUnit.SECONDS)
-            );
+            assertThat(status.blocked()).isTrue();
+            assertThat(status.remainingLockSeconds()).isGreaterThan(0).isLessThanOrEqualTo(60);
+            assertThat(status.attemptCount()).isEqualTo(3);
+            verify(valueOperations, never()).multiGet(anyCollection());
         }
 
         @Test
-        @DisplayName("should_setLongerLock_when_5attempts")
-        void should_setLongerLock_when_5attempts() {
+        @DisplayName("should_notBlockLocally_when_belowThreshold")
+        void should_notBlockLocally_when_belowThreshold() {
             // given
-            when(redisTemplate.execute(any(DefaultRedisScript.class), anyList(), any()))
-                    .thenReturn(5L);
+            givenScriptResult(2L, 0L);
+            givenStoredValues("2", null);
 
             // when
             loginAttemptService.recordFailure(KEY);
+            LoginAttemptStatus status = loginAttemptService.checkStatus(KEY);
 
             // then
-            verify(valueOperations).set(
-                    eq(LOCK_PREFIX + KEY),
-                    anyString(),
-                    eq(300L),
-                    eq(java.util.concurrent.TimeUnit.SECONDS)
-            );
+            assertThat(status.blocked()).isFalse();
+            assertThat(status.attemptCount()).isEqualTo(2);
+            verify(valueOperations).multiGet(STATUS_KEYS);
         }
+    }
 
-        @Test
-        @DisplayName("should_setLongestLock_when_10attempts")
-        void should_setLongestLock_when_10attempts() {
-            // given
-            when(redisTemplate.execute(any(DefaultRedisScript.class), anyList(), any()))
-                    .thenReturn(10L);
+    @Nested
+    @DisplayName("recordSuccess")
+    class RecordSuccess {
 
+        @Test
+        @DisplayName("should_deleteCountAndLockInOneCall_when_successRecorded")
+        void should_deleteCountAndLockInOneCall_when_successRecorded() {
             // when
-            loginAttemptService.recordFailure(KEY);
+            loginAttemptService.recordSuccess(KEY);
 
             // then
-            verify(valueOperations).set(
-                    eq(LOCK_PREFIX + KEY),
-                    anyString(),
-                    eq(1800L),
-                    eq(java.util.concurrent.TimeUnit.SECONDS)
-            );
+            verify(redisTemplate).delete(STATUS_KEYS);
+            verify(redisTemplate, never()).delete(anyString());
         }
 
         @Test
-        @DisplayName("should_notSetLock_when_belowThreshold")
-        void should_notSetLock_when_belowThreshold() {
+        @DisplayName("should_clearLocalLock_when_successRecorded")
+        void should_clearLocalLock_when_successRecorded() {
             // given
-            when(redisTemplate.execute(any(DefaultRedisScript.class), anyList(), any()))
-                    .thenReturn(2L);
+            givenScriptResult(3L, 60L);
+            givenStoredValues(null, null);
+            loginAttemptService.recordFailure(KEY);
 
             // when
-            loginAttemptService.recordFailure(KEY);
+            loginAttemptService.recordSuccess(KEY);
 
             // then
-            verify(valueOperations, never()).set(
-                    eq(LOCK_PREFIX + KEY),
-                    anyString(),
-                    anyLong(),
-                    any(java.util.concurrent.TimeUnit.class)
-            );
+            assertThat(loginAttemptService.isBlocked(KEY)).isFalse();
+            verify(valueOperations).multiGet(STATUS_KEYS);
         }
     }
 
     @Nested
-    @DisplayName("recordSuccess")
-    class RecordSuccess {
+    @DisplayName("checkStatus")
+    class CheckStatus {
 
         @Test
-        @DisplayName("should_deleteCountAndLock_when_successRecorded")
-        void should_deleteCountAndLock_when_successRecorded() {
+        @DisplayName("should_returnBlockedWithCount_when_lockTimeInFuture")
+        void should_returnBlockedWithCount_when_lockTimeInFuture() {
+            // given
+            long futureTime = Instant.now().toEpochMilli() + 60_000;
+            givenStoredValues("5", String.valueOf(futureTime));
+
             // when
-            loginAttemptService.recordSuccess(KEY);
+            LoginAttemptStatus status = loginAttemptService.checkStatus(KEY);
 
             // then
-            verify(redisTemplate).delete(COUNT_PREFIX + KEY);
-            verify(redisTemplate).delete(LOCK_PREFIX + KEY);
+            assertThat(status.blocked()).isTrue();
+            assertThat(status.remainingLockSeconds()).isGreaterThan(0).isLessThanOrEqualTo(60);
+            assertThat(status.attemptCount()).isEqualTo(5);
         }
-    }
-
-    @Nested
-    @DisplayName("isBlocked")
-    class IsBlocked {
 
         @Test
-        @DisplayName("should_returnTrue_when_lockTimeInFuture")
-        void should_returnTrue_when_lockTimeInFuture() {
+        @DisplayName("should_skipRedis_when_lockAlreadySeen")
+        void should_skipRedis_when_lockAlreadySeen() {
             // given
             long futureTime = Instant.now().toEpochMilli() + 60_000;
-            when(valueOperations.get(LOCK_PREFIX + KEY)).thenReturn(String.valueOf(futureTime));
+            givenStoredValues("5", String.valueOf(futureTime));
+            loginAttemptService.checkStatus(KEY);
 
             // when
-            boolean result = loginAttemptService.isBlocked(KEY);
+            boolean blocked = loginAttemptService.isBlocked(KEY);
 
             // then
-            assertThat(result).isTrue();
+            assertThat(blocked).isTrue();
+            verify(valueOperations, times(1)).multiGet(STATUS_KEYS);
         }
 
         @Test
-        @DisplayName("should_returnFalse_when_noLockExists")
-        void should_returnFalse_when_noLockExists() {
+        @DisplayName("should_returnNotBlocked_when_noLockExists")
+        void should_returnNotBlocked_when_noLockExists() {
             // given
-            when(valueOperations.get(LOCK_PREFIX + KEY)).thenReturn(null);
+            givenStoredValues(null, null);
 
             // when
-            boolean result = loginAttemptService.isBlocked(KEY);
+            LoginAttemptStatus status = loginAttemptService.checkStatus(KEY);
 
             // then
-            assertThat(result).isFalse();
+            assertThat(status.blocked()).isFalse();
+            assertThat(status.remainingLockSeconds()).isZero();
+            assertThat(status.attemptCount()).isZero();
         }
 
         @Test
-        @DisplayName("should_returnFalse_when_lockTimeInPast")
-        void should_returnFalse_when_lockTimeInPast() {
+        @DisplayName("should_returnNotBlocked_when_lockTimeInPast")
+        void should_returnNotBlocked_when_lockTimeInPast() {
             // given
             long pastTime = Instant.now().toEpochMilli() - 60_000;
-            when(valueOperations.get(LOCK_PREFIX + KEY)).thenReturn(String.valueOf(pastTime));
+            givenStoredValues("3", String.valueOf(pastTime));
 
             // when
-            boolean result = loginAttemptService.isBlocked(KEY);
+            LoginAttemptStatus status = loginAttemptService.checkStatus(KEY);
 
             // then
-            assertThat(result).isFalse();
-            verify(redisTemplate).delete(LOCK_PREFIX + KEY);
+            assertThat(status.blocked()).isFalse();
+            assertThat(status.attemptCount()).isEqualTo(3);
         }
 
         @Test
-        @DisplayName("should_returnFalse_when_lockTimeFormatInvalid")
-        void should_returnFalse_when_lockTimeFormatInvalid() {
+        @DisplayName("should_deleteLock_when_lockTimeFormatInvalid")
+        void should_deleteLock_when_lockTimeFormatInvalid() {
             // given
-            when(valueOperations.get(LOCK_PREFIX + KEY)).thenReturn("invalid-number");
+            givenStoredValues("3", "invalid-number");
 
             // when
             boolean result = loginAttemptService.isBlocked(KEY);
@@ -265,7 +277,7 @@ class LoginAttemptServiceImplTest {
         void should_returnRemainingSeconds_when_locked() {
             // given
             long futureTime = Instant.now().toEpochMilli() + 30_000; // 30 seconds from now
-            when(valueOperations.get(LOCK_PREFIX + KEY)).thenReturn(String.valueOf(futureTime));
+            givenStoredValues("3", String.valueOf(futureTime));
 
             // when
             long remaining = loginAttemptService.getRemainingLockTime(KEY);
@@ -278,7 +290,7 @@ class LoginAttemptServiceImplTest {
         @DisplayName("should_returnZero_when_noLock")
         void should_returnZero_when_noLock() {
             // given
-            when(valueOperations.get(LOCK_PREFIX + KEY)).thenReturn(null);
+            givenStoredValues(null, null);
 
             // when
             long remaining = loginAttemptService.getRemainingLockTime(KEY);
@@ -292,7 +304,7 @@ class LoginAttemptServiceImplTest {
         void should_returnZero_when_lockExpired() {
             // given
             long pastTime = Instant.now().toEpochMilli() - 60_000;
-            when(valueOperations.get(LOCK_PREFIX + KEY)).thenReturn(String.valueOf(pastTime));
+            givenStoredValues("3", String.valueOf(pastTime));
 
             // when
             long remaining = loginAttemptService.getRemainingLockTime(KEY);
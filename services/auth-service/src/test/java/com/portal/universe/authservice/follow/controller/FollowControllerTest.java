@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.universe.authservice.follow.dto.FollowListResponse;
 import com.portal.universe.authservice.follow.dto.FollowResponse;
 import com.portal.universe.authservice.follow.dto.FollowStatusResponse;
+import com.portal.universe.authservice.follow.dto.FollowStatusesResponse;
 import com.portal.universe.authservice.follow.dto.FollowUserResponse;
 import com.portal.universe.authservice.follow.dto.FollowingIdsResponse;
 import com.portal.universe.authservice.follow.service.FollowService;
@@ -21,7 +22,9 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -233,4 +236,27 @@ class FollowControllerTest {
                     .andExpect(jsonPath("$.data.isFollowing").value(false));
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/v1/users/me/follow/status")
+    class GetFollowStatuses {
+
+        @Test
+        @DisplayName("should_returnStatusesByUsername_when_multipleUsernames")
+        void should_returnStatusesByUsername_when_multipleUsernames() throws Exception {
+            // given
+            Map<String, Boolean> statuses = new LinkedHashMap<>();
+            statuses.put("alice", true);
+            statuses.put("bob", false);
+            when(followService.getFollowStatusesByUuid(USER_UUID, List.of("alice", "bob")))
+                    .thenReturn(new FollowStatusesResponse(statuses));
+
+            // when & then
+            mockMvc.perform(get(BASE_URL + "/me/follow/status").param("usernames", "alice", "bob"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data.statuses.alice").value(true))
+                    .andExpect(jsonPath("$.data.statuses.bob").value(false));
+        }
+    }
 }
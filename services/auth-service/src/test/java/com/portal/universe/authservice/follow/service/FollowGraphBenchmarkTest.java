@@ -0,0 +1,186 @@
+package com.portal.universe.authservice.follow.service;
+
+import com.portal.universe.authservice.IntegrationTest;
+import com.portal.universe.authservice.follow.repository.FollowRepository;
+import com.portal.universe.authservice.user.domain.User;
+import com.portal.universe.authservice.user.domain.UserProfile;
+import com.portal.universe.authservice.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팔로우 카운트/상태 조회 처리량 벤치마크입니다.
+ * 소수의 사용자(셀럽)에게 팔로우가 몰린 Zipf 분포 그래프를 만들고,
+ * 기존 방식(COUNT(*) 2회, 대상별 exists 조회)과 비정규화 카운터 + {@link FollowGraphCache} 일괄 조회를 비교합니다.
+ */
+@Slf4j
+@Disabled("벤치마크 - 수동 실행")
+class FollowGraphBenchmarkTest extends IntegrationTest {
+
+    private static final int USERS = 3_000;
+    private static final int FOLLOWS_PER_USER = 40;
+    private static final double ZIPF_EXPONENT = 1.1;
+    private static final int PAGE_SIZE = 20;
+    private static final int THREADS = 8;
+    private static final long WARMUP_MILLIS = 2_000;
+    private static final long MEASURE_MILLIS = 5_000;
+
+    @Autowired
+    private FollowGraphCache followGraphCache;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("셀럽 그래프에서 프로필 카운트 / 목록 팔로우 상태 조회 처리량")
+    void compareLegacyAndDenormalized() throws InterruptedException {
+        List<User> users = createUsers();
+        seedSkewedFollowGraph(users);
+        // 카운터가 반영된 엔티티로 다시 읽음 (users 순서 = 인기 순위)
+        List<User> ranked = userRepository.findAllById(users.stream().map(User::getId).toList()).stream()
+                .sorted((a, b) -> Integer.compare(b.getFollowerCount(), a.getFollowerCount()))
+                .toList();
+        User celebrity = ranked.get(0);
+        log.info("Top follower counts: {}", ranked.stream().limit(5).map(User::getFollowerCount).toList());
+        assertThat(celebrity.getFollowerCount()).isEqualTo(followRepository.countByFollowing(celebrity));
+
+        // 목록 화면: 인기 사용자 위주로 섞인 작성자 페이지
+        Random random = new Random(7);
+        List<List<User>> pages = new ArrayList<>();
+        for (int p = 0; p < 50; p++) {
+            Set<User> page = new LinkedHashSet<>();
+            while (page.size() < PAGE_SIZE) {
+                page.add(ranked.get(zipfRank(random, ranked.size())));
+            }
+            pages.add(new ArrayList<>(page));
+        }
+
+        IntConsumer legacyCounts = i -> {
+            User user = ranked.get(i % 50);
+            followRepository.countByFollowing(user);
+            followRepository.countByFollower(user);
+        };
+        IntConsumer denormalizedCounts = i -> userRepository.findFollowCountsById(ranked.get(i % 50).getId());
+
+        IntConsumer legacyStatuses = i -> {
+            User viewer = users.get(i % users.size());
+            for (User author : pages.get(i % pages.size())) {
+                followRepository.existsByFollowerAndFollowing(viewer, author);
+            }
+        };
+        IntConsumer cachedStatuses = i -> {
+            User viewer = users.get(i % users.size());
+            followGraphCache.findFollowed(viewer.getId(), FOLLOWS_PER_USER,
+                    pages.get(i % pages.size()).stream().map(User::getId).toList());
+        };
+
+        run(legacyCounts, WARMUP_MILLIS);
+        run(denormalizedCounts, WARMUP_MILLIS);
+        run(legacyStatuses, WARMUP_MILLIS);
+        run(cachedStatuses, WARMUP_MILLIS);
+
+        long legacyCountOps = run(legacyCounts, MEASURE_MILLIS);
+        long denormalizedCountOps = run(denormalizedCounts, MEASURE_MILLIS);
+        long legacyStatusOps = run(legacyStatuses, MEASURE_MILLIS);
+        long cachedStatusOps = run(cachedStatuses, MEASURE_MILLIS);
+
+        log.info("Profile counts/sec (top 50 users) - COUNT(*): {}, denormalized: {}",
+                legacyCountOps * 1_000 / MEASURE_MILLIS, denormalizedCountOps * 1_000 / MEASURE_MILLIS);
+        log.info("Follow status pages/sec ({} authors/page) - exists per author: {}, graph cache: {}",
+                PAGE_SIZE, legacyStatusOps * 1_000 / MEASURE_MILLIS, cachedStatusOps * 1_000 / MEASURE_MILLIS);
+        assertThat(denormalizedCountOps).isGreaterThan(legacyCountOps);
+        assertThat(cachedStatusOps).isGreaterThan(legacyStatusOps);
+    }
+
+    private List<User> createUsers() {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = new User("bench-" + runId + "-" + i + "@test.com", "password");
+            UserProfile profile = new UserProfile(user, "bench-" + i, "Bench User", false);
+            profile.setUsername("b" + runId + "_" + i);
+            user.setProfile(profile);
+            users.add(user);
+        }
+        return userRepository.saveAll(users);
+    }
+
+    /**
+     * 사용자마다 Zipf 분포로 팔로우 대상을 고르고, 카운터는 마이그레이션과 같은 방식으로 채웁니다.
+     */
+    private void seedSkewedFollowGraph(List<User> users) {
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>();
+        for (User follower : users) {
+            Set<Long> targets = new HashSet<>();
+            while (targets.size() < FOLLOWS_PER_USER) {
+                User target = users.get(zipfRank(random, users.size()));
+                if (!target.getId().equals(follower.getId())) {
+                    targets.add(target.getId());
+                }
+            }
+            targets.forEach(targetId -> rows.add(new Object[]{follower.getId(), targetId}));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO follows (follower_id, following_id) VALUES (?, ?)", rows);
+        jdbcTemplate.update("""
+                UPDATE users u
+                SET follower_count  = (SELECT COUNT(*) FROM follows f WHERE f.following_id = u.user_id),
+                    following_count = (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u.user_id)
+                """);
+    }
+
+    private static int zipfRank(Random random, int size) {
+        // 연속 Zipf 분포의 역변환 샘플링: P(rank > r) = r^(1-s), 범위를 벗어나면 다시 뽑음
+        double rank;
+        do {
+            rank = Math.pow(1 - random.nextDouble(), -1 / (ZIPF_EXPONENT - 1));
+        } while (rank > size);
+        return (int) rank - 1;
+    }
+
+    private long run(IntConsumer operation, long millis) throws InterruptedException {
+        LongAdder operations = new LongAdder();
+        CountDownLatch done = new CountDownLatch(THREADS);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            Thread thread = new Thread(() -> {
+                int i = offset;
+                while (System.nanoTime() < deadline) {
+                    operation.accept(i);
+                    i += THREADS;
+                    operations.increment();
+                }
+                done.countDown();
+            }, "follow-bench-" + offset);
+            thread.start();
+        }
+        done.await();
+        return operations.sum();
+    }
+}
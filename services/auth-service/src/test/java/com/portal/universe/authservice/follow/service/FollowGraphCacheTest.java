@@ -0,0 +1,227 @@
+package com.portal.universe.authservice.follow.service;
+
+import com.portal.universe.authservice.common.config.FollowGraphCacheProperties;
+import com.portal.universe.authservice.follow.repository.FollowRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FollowGraphCache 테스트")
+class FollowGraphCacheTest {
+
+    private static final Long FOLLOWER_ID = 1L;
+    private static final List<String> KEYS = List.of("follow:{1}:following", "follow:{1}:version");
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FollowGraphCache followGraphCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        followGraphCache = createCache(true, 100);
+    }
+
+    private FollowGraphCache createCache(boolean enabled, int maxFollowings) {
+        FollowGraphCacheProperties properties = new FollowGraphCacheProperties();
+        properties.setEnabled(enabled);
+        properties.setMaxFollowings(maxFollowings);
+        return new FollowGraphCache(properties, redisTemplate, followRepository, meterRegistry);
+    }
+
+    /**
+     * 조회 스크립트가 주어진 집합을 가진 것처럼 응답하도록 설정합니다.
+     */
+    private void givenCachedFollowings(Set<Long> followingIds) {
+        when(redisTemplate.execute(eq(FollowGraphCache.LOOKUP_SCRIPT), eq(KEYS), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    Object[] args = Arrays.copyOfRange(invocation.getArguments(), 2, invocation.getArguments().length);
+                    List<Object> result = new ArrayList<>();
+                    result.add(1L);
+                    for (int i = 1; i < args.length; i++) {
+                        result.add(followingIds.contains(Long.valueOf((String) args[i])) ? 1L : 0L);
+                    }
+                    return result;
+                });
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("follow.graph_cache.lookups").tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("findFollowed")
+    class FindFollowed {
+
+        @Test
+        @DisplayName("should_answerFromRedis_when_setLoaded")
+        void should_answerFromRedis_when_setLoaded() {
+            // given
+            givenCachedFollowings(Set.of(3L, 7L));
+
+            // when
+            Set<Long> result = followGraphCache.findFollowed(FOLLOWER_ID, 2, List.of(2L, 3L, 7L));
+
+            // then
+            assertThat(result).containsExactlyInAnyOrder(3L, 7L);
+            verifyNoInteractions(followRepository);
+            assertThat(lookups("hit")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should_loadFromDbAndStoreWithVersion_when_setMissing")
+        void should_loadFromDbAndStoreWithVersion_when_setMissing() {
+            // given
+            when(redisTemplate.execute(eq(FollowGraphCache.LOOKUP_SCRIPT), eq(KEYS), any(Object[].class)))
+                    .thenReturn(List.of(0L, "7"));
+            when(followRepository.findFollowingIdsByFollowerId(FOLLOWER_ID)).thenReturn(List.of(2L, 5L));
+            ArgumentCaptor<Object[]> putArgs = ArgumentCaptor.forClass(Object[].class);
+
+            // when
+            Set<Long> result = followGraphCache.findFollowed(FOLLOWER_ID, 2, List.of(2L, 3L));
+
+            // then
+            assertThat(result).containsExactly(2L);
+            verify(redisTemplate).execute(eq(FollowGraphCache.PUT_SCRIPT), eq(KEYS), putArgs.capture());
+            assertThat(Arrays.asList(putArgs.getValue()))
+                    .containsExactly("7", "3600", FollowGraphCache.LOADED_MARKER, "2", "5");
+            assertThat(lookups("miss")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should_queryDbDirectly_when_followingCountExceedsLimit")
+        void should_queryDbDirectly_when_followingCountExceedsLimit() {
+            // given
+            followGraphCache = createCache(true, 2);
+            when(followRepository.findFollowedIdsAmong(FOLLOWER_ID, List.of(2L, 3L))).thenReturn(List.of(3L));
+
+            // when
+            Set<Long> result = followGraphCache.findFollowed(FOLLOWER_ID, 3, List.of(2L, 3L));
+
+            // then
+            assertThat(result).containsExactly(3L);
+            verifyNoInteractions(redisTemplate);
+            verify(followRepository, never()).findFollowingIdsByFollowerId(anyLong());
+        }
+
+        @Test
+        @DisplayName("should_notStoreSet_when_loadedFollowingsExceedLimit")
+        void should_notStoreSet_when_loadedFollowingsExceedLimit() {
+            // given
+            followGraphCache = createCache(true, 2);
+            when(redisTemplate.execute(eq(FollowGraphCache.LOOKUP_SCRIPT), eq(KEYS), any(Object[].class)))
+                    .thenReturn(List.of(0L, "0"));
+            when(followRepository.findFollowingIdsByFollowerId(FOLLOWER_ID)).thenReturn(List.of(2L, 3L, 4L));
+
+            // when
+            Set<Long> result = followGraphCache.findFollowed(FOLLOWER_ID, 2, List.of(4L));
+
+            // then
+            assertThat(result).containsExactly(4L);
+            verify(redisTemplate, never()).execute(eq(FollowGraphCache.PUT_SCRIPT), anyList(), any(Object[].class));
+        }
+
+        @Test
+        @DisplayName("should_fallbackToDb_when_redisUnavailable")
+        void should_fallbackToDb_when_redisUnavailable() {
+            // given
+            when(redisTemplate.execute(eq(FollowGraphCache.LOOKUP_SCRIPT), eq(KEYS), any(Object[].class)))
+                    .thenThrow(new RedisConnectionFailureException("down"));
+            when(followRepository.findFollowedIdsAmong(eq(FOLLOWER_ID), anyCollection())).thenReturn(List.of(2L));
+
+            // when
+            Set<Long> result = followGraphCache.findFollowed(FOLLOWER_ID, 1, List.of(2L));
+
+            // then
+            assertThat(result).containsExactly(2L);
+            assertThat(lookups("bypass")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should_returnEmpty_when_noTargets")
+        void should_returnEmpty_when_noTargets() {
+            // when
+            Set<Long> result = followGraphCache.findFollowed(FOLLOWER_ID, 1, List.of());
+
+            // then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(redisTemplate, followRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("onFollowChanged")
+    class OnFollowChanged {
+
+        @Test
+        @DisplayName("should_applyChange_after_transactionCommits")
+        void should_applyChange_after_transactionCommits() {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // when
+                followGraphCache.onFollowChanged(FOLLOWER_ID, 2L, true);
+
+                // then: 커밋 전에는 Redis에 반영하지 않음
+                verifyNoInteractions(redisTemplate);
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                verify(redisTemplate).execute(eq(FollowGraphCache.CHANGE_SCRIPT), eq(KEYS),
+                        eq("1"), eq("2"), eq("7200"), eq("101"));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("should_evictSet_when_changeScriptFails")
+        void should_evictSet_when_changeScriptFails() {
+            // given
+            when(redisTemplate.execute(eq(FollowGraphCache.CHANGE_SCRIPT), eq(KEYS), any(Object[].class)))
+                    .thenThrow(new RedisConnectionFailureException("down"));
+
+            // when
+            followGraphCache.onFollowChanged(FOLLOWER_ID, 2L, false);
+
+            // then
+            verify(redisTemplate).delete("follow:{1}:following");
+        }
+
+        @Test
+        @DisplayName("should_skipRedis_when_disabled")
+        void should_skipRedis_when_disabled() {
+            // given
+            followGraphCache = createCache(false, 100);
+
+            // when
+            followGraphCache.onFollowChanged(FOLLOWER_ID, 2L, true);
+
+            // then
+            verifyNoInteractions(redisTemplate);
+        }
+    }
+}
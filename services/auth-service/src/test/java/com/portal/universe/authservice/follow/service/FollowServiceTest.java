@@ -4,6 +4,7 @@ import com.portal.universe.authservice.common.exception.AuthErrorCode;
 import com.portal.universe.authservice.follow.domain.Follow;
 import com.portal.universe.authservice.follow.dto.FollowResponse;
 import com.portal.universe.authservice.follow.dto.FollowStatusResponse;
+import com.portal.universe.authservice.follow.dto.FollowStatusesResponse;
 import com.portal.universe.authservice.follow.dto.FollowingIdsResponse;
 import com.portal.universe.authservice.follow.repository.FollowRepository;
 import com.portal.universe.authservice.user.domain.User;
@@ -18,12 +19,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +42,9 @@ class FollowServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private FollowGraphCache followGraphCache;
+
     @InjectMocks
     private FollowService followService;
 
@@ -59,6 +68,43 @@ class FollowServiceTest {
         return user;
     }
 
+    private void setFollowCounts(User user, int followerCount, int followingCount) {
+        try {
+            var followerField = User.class.getDeclaredField("followerCount");
+            followerField.setAccessible(true);
+            followerField.set(user, followerCount);
+            var followingField = User.class.getDeclaredField("followingCount");
+            followingField.setAccessible(true);
+            followingField.set(user, followingCount);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private record Counts(int followerCount, int followingCount) implements UserRepository.FollowCounts {
+        @Override
+        public int getFollowerCount() {
+            return followerCount;
+        }
+
+        @Override
+        public int getFollowingCount() {
+            return followingCount;
+        }
+    }
+
+    private record UsernameIdRow(String username, Long id) implements UserRepository.UsernameId {
+        @Override
+        public String getUsername() {
+            return username;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+    }
+
     @Nested
     @DisplayName("toggleFollow - ID based")
     class ToggleFollowById {
@@ -72,17 +118,19 @@ class FollowServiceTest {
 
             when(userRepository.findById(1L)).thenReturn(Optional.of(currentUser));
             when(userRepository.findByUsername("user2")).thenReturn(Optional.of(targetUser));
-            when(followRepository.existsByFollowerAndFollowing(currentUser, targetUser)).thenReturn(false);
+            when(followRepository.deleteByFollowerIdAndFollowingId(1L, 2L)).thenReturn(0);
             when(followRepository.save(any(Follow.class))).thenReturn(new Follow(currentUser, targetUser));
-            when(followRepository.countByFollowing(targetUser)).thenReturn(1L);
-            when(followRepository.countByFollower(targetUser)).thenReturn(0L);
+            when(userRepository.findFollowCountsById(2L)).thenReturn(Optional.of(new Counts(1, 0)));
 
             // when
             FollowResponse result = followService.toggleFollow(1L, "user2");
 
             // then
             assertThat(result.following()).isTrue();
+            assertThat(result.followerCount()).isEqualTo(1);
             verify(followRepository).save(any(Follow.class));
+            verify(userRepository).adjustFollowCounts(1L, 2L, 1);
+            verify(followGraphCache).onFollowChanged(1L, 2L, true);
         }
 
         @Test
@@ -91,22 +139,20 @@ class FollowServiceTest {
             // given
             User currentUser = createUser(1L, "uuid-1", "user1@test.com", "user1");
             User targetUser = createUser(2L, "uuid-2", "user2@test.com", "user2");
-            Follow follow = new Follow(currentUser, targetUser);
 
             when(userRepository.findById(1L)).thenReturn(Optional.of(currentUser));
             when(userRepository.findByUsername("user2")).thenReturn(Optional.of(targetUser));
-            when(followRepository.existsByFollowerAndFollowing(currentUser, targetUser)).thenReturn(true);
-            when(followRepository.findByFollowerAndFollowing(currentUser, targetUser))
-                    .thenReturn(Optional.of(follow));
-            when(followRepository.countByFollowing(targetUser)).thenReturn(0L);
-            when(followRepository.countByFollower(targetUser)).thenReturn(0L);
+            when(followRepository.deleteByFollowerIdAndFollowingId(1L, 2L)).thenReturn(1);
+            when(userRepository.findFollowCountsById(2L)).thenReturn(Optional.of(new Counts(0, 0)));
 
             // when
             FollowResponse result = followService.toggleFollow(1L, "user2");
 
             // then
             assertThat(result.following()).isFalse();
-            verify(followRepository).delete(follow);
+            verify(followRepository, never()).save(any(Follow.class));
+            verify(userRepository).adjustFollowCounts(1L, 2L, -1);
+            verify(followGraphCache).onFollowChanged(1L, 2L, false);
         }
 
         @Test
@@ -158,10 +204,9 @@ class FollowServiceTest {
 
             when(userRepository.findByUuid("uuid-1")).thenReturn(Optional.of(currentUser));
             when(userRepository.findByUsername("user2")).thenReturn(Optional.of(targetUser));
-            when(followRepository.existsByFollowerAndFollowing(currentUser, targetUser)).thenReturn(false);
+            when(followRepository.deleteByFollowerIdAndFollowingId(1L, 2L)).thenReturn(0);
             when(followRepository.save(any(Follow.class))).thenReturn(new Follow(currentUser, targetUser));
-            when(followRepository.countByFollowing(targetUser)).thenReturn(1L);
-            when(followRepository.countByFollower(targetUser)).thenReturn(0L);
+            when(userRepository.findFollowCountsById(2L)).thenReturn(Optional.of(new Counts(1, 0)));
 
             // when
             FollowResponse result = followService.toggleFollowByUuid("uuid-1", "user2");
@@ -184,7 +229,7 @@ class FollowServiceTest {
 
             when(userRepository.findById(1L)).thenReturn(Optional.of(currentUser));
             when(userRepository.findByUsername("user2")).thenReturn(Optional.of(targetUser));
-            when(followRepository.existsByFollowerAndFollowing(currentUser, targetUser)).thenReturn(true);
+            when(followGraphCache.findFollowed(1L, 0, List.of(2L))).thenReturn(Set.of(2L));
 
             // when
             FollowStatusResponse result = followService.getFollowStatus(1L, "user2");
@@ -202,7 +247,7 @@ class FollowServiceTest {
 
             when(userRepository.findById(1L)).thenReturn(Optional.of(currentUser));
             when(userRepository.findByUsername("user2")).thenReturn(Optional.of(targetUser));
-            when(followRepository.existsByFollowerAndFollowing(currentUser, targetUser)).thenReturn(false);
+            when(followGraphCache.findFollowed(1L, 0, List.of(2L))).thenReturn(Set.of());
 
             // when
             FollowStatusResponse result = followService.getFollowStatus(1L, "user2");
@@ -212,6 +257,65 @@ class FollowServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getFollowStatusesByUuid")
+    class GetFollowStatusesByUuid {
+
+        @Test
+        @DisplayName("should_returnStatusesInRequestOrder_when_multipleUsernames")
+        void should_returnStatusesInRequestOrder_when_multipleUsernames() {
+            // given
+            User currentUser = createUser(1L, "uuid-1", "user1@test.com", "user1");
+            setFollowCounts(currentUser, 0, 3);
+            when(userRepository.findByUuid("uuid-1")).thenReturn(Optional.of(currentUser));
+            when(userRepository.findIdsByUsernameIn(Set.of("user2", "user3", "unknown")))
+                    .thenReturn(List.of(new UsernameIdRow("user2", 2L), new UsernameIdRow("user3", 3L)));
+            when(followGraphCache.findFollowed(eq(1L), eq(3), argThat(ids -> Set.copyOf(ids).equals(Set.of(2L, 3L)))))
+                    .thenReturn(Set.of(3L));
+
+            // when
+            FollowStatusesResponse result = followService.getFollowStatusesByUuid(
+                    "uuid-1", List.of("user3", "user2", "unknown", "user3"));
+
+            // then
+            assertThat(result.statuses()).containsExactly(
+                    entry("user3", true), entry("user2", false), entry("unknown", false));
+            verify(followGraphCache, times(1)).findFollowed(anyLong(), anyInt(), anyCollection());
+        }
+
+        @Test
+        @DisplayName("should_returnEmpty_when_noUsernames")
+        void should_returnEmpty_when_noUsernames() {
+            // given
+            User currentUser = createUser(1L, "uuid-1", "user1@test.com", "user1");
+            when(userRepository.findByUuid("uuid-1")).thenReturn(Optional.of(currentUser));
+
+            // when
+            FollowStatusesResponse result = followService.getFollowStatusesByUuid("uuid-1", Collections.emptyList());
+
+            // then
+            assertThat(result.statuses()).isEmpty();
+            verifyNoInteractions(followGraphCache);
+        }
+
+        @Test
+        @DisplayName("should_throwException_when_tooManyUsernames")
+        void should_throwException_when_tooManyUsernames() {
+            // given
+            List<String> usernames = new ArrayList<>();
+            IntStream.rangeClosed(0, FollowService.MAX_STATUS_TARGETS).forEach(i -> usernames.add("user" + i));
+
+            // when & then
+            assertThatThrownBy(() -> followService.getFollowStatusesByUuid("uuid-1", usernames))
+                    .isInstanceOf(CustomBusinessException.class)
+                    .satisfies(ex -> {
+                        CustomBusinessException cbe = (CustomBusinessException) ex;
+                        assertThat(cbe.getErrorCode()).isEqualTo(AuthErrorCode.FOLLOW_STATUS_TOO_MANY_TARGETS);
+                    });
+            verifyNoInteractions(userRepository, followGraphCache);
+        }
+    }
+
     @Nested
     @DisplayName("getMyFollowingIds")
     class GetMyFollowingIds {
@@ -240,9 +344,8 @@ class FollowServiceTest {
         void should_returnCounts_when_usernameExists() {
             // given
             User user = createUser(1L, "uuid-1", "user@test.com", "user1");
+            setFollowCounts(user, 10, 5);
             when(userRepository.findByUsername("user1")).thenReturn(Optional.of(user));
-            when(followRepository.countByFollowing(user)).thenReturn(10L);
-            when(followRepository.countByFollower(user)).thenReturn(5L);
 
             // when
             int[] counts = followService.getFollowCounts("user1");
@@ -250,6 +353,7 @@ class FollowServiceTest {
             // then
             assertThat(counts[0]).isEqualTo(10);
             assertThat(counts[1]).isEqualTo(5);
+            verifyNoInteractions(followRepository);
         }
 
         @Test
@@ -1,7 +1,6 @@
 package com.portal.universe.authservice.user.service;
 
 import com.portal.universe.authservice.common.exception.AuthErrorCode;
-import com.portal.universe.authservice.follow.repository.FollowRepository;
 import com.portal.universe.authservice.password.PasswordValidator;
 import com.portal.universe.authservice.password.ValidationResult;
 import com.portal.universe.authservice.password.domain.PasswordHistory;
@@ -24,6 +23,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
@@ -38,9 +38,6 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private FollowRepository followRepository;
-
     @Mock
     private PasswordEncoder passwordEncoder;
 
@@ -178,9 +175,9 @@ class UserServiceTest {
         void should_returnProfile_when_usernameExists() {
             // given
             User user = createTestUser();
+            ReflectionTestUtils.setField(user, "followerCount", 10);
+            ReflectionTestUtils.setField(user, "followingCount", 5);
             when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
-            when(followRepository.countByFollowing(user)).thenReturn(10L);
-            when(followRepository.countByFollower(user)).thenReturn(5L);
 
             // when
             UserProfileResponse response = userService.getProfileByUsername("testuser");
@@ -218,8 +215,6 @@ class UserServiceTest {
             User user = createTestUser();
             when(userRepository.findByUuid(UUID)).thenReturn(Optional.of(user));
             when(userRepository.existsByUsername("newuser")).thenReturn(false);
-            when(followRepository.countByFollowing(user)).thenReturn(0L);
-            when(followRepository.countByFollower(user)).thenReturn(0L);
 
             // when
             UserProfileResponse response = userService.setUsernameByUuid(UUID, "newuser");
@@ -6,6 +6,7 @@ public final class BlogTopics {
     public static final String POST_COMMENTED = "blog.post.commented";
     public static final String COMMENT_REPLIED = "blog.comment.replied";
     public static final String USER_FOLLOWED = "blog.user.followed";
+    public static final String PRODUCT_REVIEW_CHANGED = "blog.product.review-changed";
 
     private BlogTopics() {}
 }
@@ -0,0 +1,15 @@
+package com.portal.universe.event.blog;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품에 연결된 블로그 포스트(리뷰)가 작성되거나 삭제될 때 발행되는 이벤트입니다.
+ * Shopping 서비스가 상품별 리뷰 집계를 갱신하는 데 사용합니다.
+ */
+public record ProductReviewChangedEvent(
+        String postId,
+        String productId,
+        Integer rating,         // 평점 (없으면 null)
+        boolean deleted,        // true면 리뷰 삭제
+        LocalDateTime changedAt
+) {}
@@ -40,4 +40,12 @@ public class KafkaTopicConfig {
                 .replicas(1)
                 .build();
     }
+
+    @Bean
+    public NewTopic productReviewChangedTopic() {
+        return TopicBuilder.name(BlogTopics.PRODUCT_REVIEW_CHANGED)
+                .partitions(3)
+                .replicas(1)
+                .build();
+    }
 }
@@ -4,6 +4,7 @@ import com.portal.universe.event.blog.BlogTopics;
 import com.portal.universe.event.blog.CommentCreatedEvent;
 import com.portal.universe.event.blog.CommentRepliedEvent;
 import com.portal.universe.event.blog.PostLikedEvent;
+import com.portal.universe.event.blog.ProductReviewChangedEvent;
 import com.portal.universe.event.blog.UserFollowedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,6 +40,11 @@ public class BlogEventPublisher {
         publishEvent(BlogTopics.USER_FOLLOWED, event.followeeId(), event);
     }
 
+    public void publishProductReviewChanged(ProductReviewChangedEvent event) {
+        // 같은 포스트의 작성/삭제 순서가 유지되도록 postId를 키로 사용
+        publishEvent(BlogTopics.PRODUCT_REVIEW_CHANGED, event.postId(), event);
+    }
+
     private void publishEvent(String topic, String key, Object event) {
         CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(topic, key, event);
 
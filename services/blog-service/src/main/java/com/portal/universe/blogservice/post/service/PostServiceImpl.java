@@ -2,6 +2,7 @@ package com.portal.universe.blogservice.post.service;
 
 import com.portal.universe.blogservice.common.exception.BlogErrorCode;
 import com.portal.universe.blogservice.common.domain.SortDirection;
+import com.portal.universe.blogservice.event.BlogEventPublisher;
 import com.portal.universe.blogservice.post.domain.Post;
 import com.portal.universe.blogservice.post.domain.PostSortType;
 import com.portal.universe.blogservice.post.domain.PostStatus;
@@ -16,6 +17,7 @@ import com.portal.universe.blogservice.series.repository.SeriesRepository;
 import com.portal.universe.blogservice.tag.service.TagService;
 import com.portal.universe.commonlibrary.exception.CustomBusinessException;
 import com.portal.universe.commonlibrary.security.context.SecurityUtils;
+import com.portal.universe.event.blog.ProductReviewChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -47,6 +49,7 @@ public class PostServiceImpl implements PostService {
     private final SeriesRepository seriesRepository;
     private final MongoTemplate mongoTemplate;
     private final TagService tagService;
+    private final BlogEventPublisher eventPublisher;
 
     // ===== 기존 메서드 구현 (하위 호환성) =====
 
@@ -86,6 +89,8 @@ public class PostServiceImpl implements PostService {
             tagService.incrementTagPostCounts(tagNames);
         }
 
+        publishProductReviewChanged(savedPost, false);
+
         return convertToPostResponse(savedPost);
     }
 
@@ -177,6 +182,25 @@ public class PostServiceImpl implements PostService {
 
         postRepository.delete(post);
         log.info("Post deleted successfully: {}", postId);
+
+        publishProductReviewChanged(post, true);
+    }
+
+    /**
+     * 상품에 연결된 포스트면 Shopping 서비스의 리뷰 집계 갱신 이벤트를 발행합니다.
+     * productId는 작성 후 바뀌지 않으므로 작성/삭제 시점에만 발행합니다.
+     */
+    private void publishProductReviewChanged(Post post, boolean deleted) {
+        if (post.getProductId() == null || post.getProductId().isBlank()) {
+            return;
+        }
+        eventPublisher.publishProductReviewChanged(new ProductReviewChangedEvent(
+                post.getId(),
+                post.getProductId(),
+                null,
+                deleted,
+                LocalDateTime.now()
+        ));
     }
 
     @Override
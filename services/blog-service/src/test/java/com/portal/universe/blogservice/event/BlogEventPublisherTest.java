@@ -4,6 +4,7 @@ import com.portal.universe.event.blog.BlogTopics;
 import com.portal.universe.event.blog.CommentCreatedEvent;
 import com.portal.universe.event.blog.CommentRepliedEvent;
 import com.portal.universe.event.blog.PostLikedEvent;
+import com.portal.universe.event.blog.ProductReviewChangedEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -152,4 +153,34 @@ class BlogEventPublisherTest {
             assertThat(eventCaptor.getValue()).isEqualTo(event);
         }
     }
+
+    @Nested
+    @DisplayName("publishProductReviewChanged 메서드")
+    class PublishProductReviewChangedTests {
+
+        @Test
+        @DisplayName("should_sendToCorrectTopic_withPostIdKey")
+        void should_sendToCorrectTopic_withPostIdKey() {
+            // given
+            ProductReviewChangedEvent event = new ProductReviewChangedEvent(
+                    "post-1",
+                    "42",
+                    null,
+                    false,
+                    LocalDateTime.now()
+            );
+
+            @SuppressWarnings("unchecked")
+            CompletableFuture<SendResult<String, Object>> future = CompletableFuture.completedFuture(
+                    mock(SendResult.class)
+            );
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(future);
+
+            // when
+            eventPublisher.publishProductReviewChanged(event);
+
+            // then
+            verify(kafkaTemplate).send(BlogTopics.PRODUCT_REVIEW_CHANGED, "post-1", event);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.portal.universe.blogservice.post.service;
 
 import com.mongodb.client.result.UpdateResult;
 import com.portal.universe.blogservice.common.exception.BlogErrorCode;
+import com.portal.universe.blogservice.event.BlogEventPublisher;
 import com.portal.universe.blogservice.post.dto.*;
 import com.portal.universe.blogservice.post.domain.Post;
 import com.portal.universe.blogservice.post.domain.PostSortType;
@@ -10,6 +11,7 @@ import com.portal.universe.blogservice.common.domain.SortDirection;
 import com.portal.universe.blogservice.post.repository.PostRepository;
 import com.portal.universe.blogservice.series.repository.SeriesRepository;
 import com.portal.universe.commonlibrary.exception.CustomBusinessException;
+import com.portal.universe.event.blog.ProductReviewChangedEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +36,7 @@ import java.util.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -51,6 +54,9 @@ class PostServiceImplTest {
     @Mock
     private MongoTemplate mongoTemplate;
 
+    @Mock
+    private BlogEventPublisher eventPublisher;
+
     @InjectMocks
     private PostServiceImpl postService;
 
@@ -305,6 +311,37 @@ class PostServiceImplTest {
             assertThatThrownBy(() -> postService.deletePost("post-1", "user2"))
                     .isInstanceOf(CustomBusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", BlogErrorCode.POST_DELETE_FORBIDDEN);
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("should_publishReviewDeleted_when_postLinkedToProduct")
+        void should_publishReviewDeleted_when_postLinkedToProduct() {
+            // given
+            Post post = createTestPost("post-1", "user1", PostStatus.PUBLISHED);
+            ReflectionTestUtils.setField(post, "productId", "42");
+            when(postRepository.findById("post-1")).thenReturn(Optional.of(post));
+
+            // when
+            postService.deletePost("post-1", "user1");
+
+            // then
+            verify(eventPublisher).publishProductReviewChanged(argThat((ProductReviewChangedEvent event) ->
+                    event.postId().equals("post-1") && event.productId().equals("42") && event.deleted()));
+        }
+
+        @Test
+        @DisplayName("should_notPublishReviewEvent_when_postHasNoProduct")
+        void should_notPublishReviewEvent_when_postHasNoProduct() {
+            // given
+            Post post = createTestPost("post-1", "user1", PostStatus.PUBLISHED);
+            when(postRepository.findById("post-1")).thenReturn(Optional.of(post));
+
+            // when
+            postService.deletePost("post-1", "user1");
+
+            // then
+            verifyNoInteractions(eventPublisher);
         }
     }
 
@@ -0,0 +1,45 @@
+package com.portal.universe.commonlibrary.journal;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@link TransactionalBatchJournal}의 기록 방식 설정입니다.
+ * 각 서비스는 이 클래스를 상속한 {@code @ConfigurationProperties} 빈으로 자신의 설정 경로에 바인딩합니다.
+ */
+@Getter
+@Setter
+public class BatchJournalProperties {
+
+    /**
+     * 기록 방식 (기본: 트랜잭션 커밋 직전 JDBC 배치 INSERT)
+     */
+    private JournalMode mode = JournalMode.SYNC;
+
+    /**
+     * ASYNC 모드에서 DB 반영 전까지 이력을 보관하는 로컬 버퍼 크기
+     */
+    private int bufferCapacity = 10000;
+
+    /**
+     * ASYNC 모드에서 한 번에 DB로 반영할 최대 이력 수
+     */
+    private int drainBatchSize = 500;
+
+    /**
+     * ASYNC 모드 버퍼 반영 간격 (ms)
+     */
+    private long drainIntervalMs = 200;
+
+    public enum JournalMode {
+        /**
+         * 변경과 같은 트랜잭션에서 커밋 직전에 한 번의 배치로 기록
+         */
+        SYNC,
+
+        /**
+         * 커밋 후 로컬 버퍼에 적재하고 백그라운드에서 배치로 기록 (인스턴스 장애 시 버퍼 내 이력 유실 가능)
+         */
+        ASYNC
+    }
+}
@@ -0,0 +1,192 @@
+package com.portal.universe.commonlibrary.journal;
+
+import com.portal.universe.commonlibrary.journal.BatchJournalProperties.JournalMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * 이력 레코드를 트랜잭션 단위로 모아 배치로 기록하는 기반 클래스입니다.
+ *
+ * <p>SYNC 모드에서는 트랜잭션 동안 이력을 메모리에 모았다가 커밋 직전에 writer 한 번으로 저장하여
+ * hibernate.jdbc.batch_size 단위의 JDBC 배치 INSERT가 되도록 합니다.
+ * ASYNC 모드에서는 커밋된 이력만 로컬 버퍼에 적재하고 {@link #drain()}이 요청 경로 밖에서 저장합니다.
+ * 버퍼가 가득 차면 호출 스레드에서 바로 저장하여 이력이 버려지지 않도록 합니다.</p>
+ *
+ * <p>서비스는 이 클래스를 상속한 빈에서 자신의 엔티티 저장소와 설정을 넘기고,
+ * {@link #drain()}을 {@code @Scheduled}로 재정의해 자신의 설정 경로의 주기로 실행합니다.</p>
+ *
+ * @param <T> 기록할 이력 엔티티 타입
+ */
+@Slf4j
+public abstract class TransactionalBatchJournal<T> {
+
+    private final Consumer<List<T>> writer;
+    private final BatchJournalProperties properties;
+    private final TransactionTemplate requiresNewTransactionTemplate;
+    private final BlockingQueue<T> buffer;
+    private final Counter writtenCounter;
+    private final Counter overflowCounter;
+
+    /**
+     * @param writer       이력 묶음을 저장하는 함수 (보통 repository::saveAll)
+     * @param metricPrefix 메트릭 이름 접두사 ({@code .written}, {@code .overflow}, {@code .buffer_size}가 붙음)
+     */
+    protected TransactionalBatchJournal(Consumer<List<T>> writer,
+                                        BatchJournalProperties properties,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry,
+                                        String metricPrefix) {
+        this.writer = writer;
+        this.properties = properties;
+        this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+        this.writtenCounter = Counter.builder(metricPrefix + ".written")
+                .description("DB에 기록된 이력 수")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder(metricPrefix + ".overflow")
+                .description("ASYNC 버퍼가 가득 차 호출 스레드에서 직접 기록한 이력 수")
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".buffer_size", buffer, BlockingQueue::size)
+                .description("ASYNC 버퍼에 대기 중인 이력 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이력을 기록합니다.
+     * 활성 트랜잭션이 없으면 즉시 저장합니다.
+     */
+    public void record(T entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(List.of(entry));
+            return;
+        }
+        currentBatch().entries.add(entry);
+    }
+
+    /**
+     * ASYNC 버퍼에 쌓인 이력을 배치 단위로 DB에 반영합니다.
+     */
+    public void drain() {
+        int batchSize = properties.getDrainBatchSize();
+        List<T> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                requiresNewTransactionTemplate.executeWithoutResult(status -> write(batch));
+            } catch (Exception e) {
+                log.error("Failed to drain {} journal entries, will retry on next cycle", batch.size(), e);
+                requeue(batch);
+                return;
+            }
+            if (batch.size() < batchSize) {
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    protected void flushOnShutdown() {
+        if (!buffer.isEmpty()) {
+            log.info("Flushing {} buffered journal entries before shutdown", buffer.size());
+            drain();
+        }
+    }
+
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    /**
+     * 현재 트랜잭션에 등록된 배치를 반환합니다.
+     * REQUIRES_NEW로 중첩된 트랜잭션은 동기화 목록이 분리되므로 별도 배치를 갖습니다.
+     */
+    private TransactionBatch currentBatch() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof TransactionalBatchJournal<?>.TransactionBatch batch && batch.owner() == this) {
+                @SuppressWarnings("unchecked")
+                TransactionBatch typed = (TransactionBatch) batch;
+                return typed;
+            }
+        }
+        TransactionBatch batch = new TransactionBatch(properties.getMode());
+        TransactionSynchronizationManager.registerSynchronization(batch);
+        return batch;
+    }
+
+    private void write(List<T> entries) {
+        writer.accept(entries);
+        writtenCounter.increment(entries.size());
+    }
+
+    private void enqueue(List<T> entries) {
+        List<T> overflow = new ArrayList<>();
+        for (T entry : entries) {
+            if (!buffer.offer(entry)) {
+                overflow.add(entry);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            overflowCounter.increment(overflow.size());
+            log.warn("Journal buffer is full, writing {} entries synchronously", overflow.size());
+            requiresNewTransactionTemplate.executeWithoutResult(status -> write(overflow));
+        }
+    }
+
+    private void requeue(List<T> entries) {
+        int dropped = 0;
+        for (T entry : entries) {
+            if (!buffer.offer(entry)) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.error("Dropped {} journal entries: buffer is full after a failed drain", dropped);
+        }
+    }
+
+    /**
+     * 트랜잭션 하나에서 발생한 이력 묶음입니다.
+     */
+    private final class TransactionBatch implements TransactionSynchronization {
+
+        private final JournalMode mode;
+        private final List<T> entries = new ArrayList<>();
+
+        private TransactionBatch(JournalMode mode) {
+            this.mode = mode;
+        }
+
+        private TransactionalBatchJournal<T> owner() {
+            return TransactionalBatchJournal.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (mode == JournalMode.SYNC && !entries.isEmpty()) {
+                write(entries);
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            if (mode == JournalMode.ASYNC && !entries.isEmpty()) {
+                enqueue(entries);
+            }
+        }
+    }
+}
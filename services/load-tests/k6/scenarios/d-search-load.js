@@ -7,25 +7,51 @@ import { checkApiResponse } from '../lib/checks.js';
 const SEARCH_TERMS = ['노트북', '스마트폰', '이어폰', '키보드', '마우스',
   '모니터', '태블릿', '카메라', '프린터', '스피커'];
 
+// 한 반복에서 첫 페이지 이후 이어 읽는 페이지 수 (깊은 페이지네이션)
+const DEEP_PAGES = parseInt(__ENV.DEEP_PAGES || '5', 10);
+const PAGE_SIZE = 20;
+
+// baseline: 하이라이트 + 정확한 건수 + from/size 페이지 (변경 전 요청 형태)
+// optimized: 하이라이트/건수 생략 + PIT search_after 커서 (결과 캐시는 키가 달라 각자 적용)
+// 결과 캐시까지 끈 변경 전 수치는 shopping-service를 SEARCH_RESULT_CACHE_ENABLED=false로 띄우고 baseline만 실행해 비교
+const stages = [
+  { duration: '1m', target: 200 },
+  { duration: '5m', target: 200 },
+  { duration: '1m', target: 0 },
+];
+
 export const options = {
   scenarios: {
-    search_load: {
+    baseline: {
       executor: 'ramping-arrival-rate',
+      exec: 'baseline',
       startRate: 50,
       timeUnit: '1s',
-      stages: [
-        { duration: '3m', target: 200 },
-        { duration: '10m', target: 200 },
-        { duration: '2m', target: 0 },
-      ],
+      stages,
       preAllocatedVUs: 100,
       maxVUs: 300,
+      tags: { mode: 'baseline' },
+    },
+    optimized: {
+      executor: 'ramping-arrival-rate',
+      exec: 'optimized',
+      startTime: '7m30s',
+      startRate: 50,
+      timeUnit: '1s',
+      stages,
+      preAllocatedVUs: 100,
+      maxVUs: 300,
+      tags: { mode: 'optimized' },
     },
   },
   thresholds: {
-    http_req_duration: ['p(95)<100'],
     http_req_failed: ['rate<0.01'],
+    'http_req_duration{mode:baseline,name:product_search}': ['p(99)<1000'],
+    'http_req_duration{mode:baseline,name:product_search_deep}': ['p(99)<1000'],
+    'http_req_duration{mode:optimized,name:product_search}': ['p(95)<100', 'p(99)<200'],
+    'http_req_duration{mode:optimized,name:product_search_deep}': ['p(95)<100', 'p(99)<200'],
   },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
 };
 
 export function setup() {
@@ -34,16 +60,46 @@ export function setup() {
   return { token };
 }
 
-export default function (data) {
-  const params = authHeaders(data.token);
-  const term = SEARCH_TERMS[Math.floor(Math.random() * SEARCH_TERMS.length)];
+function randomTerm() {
+  return SEARCH_TERMS[Math.floor(Math.random() * SEARCH_TERMS.length)];
+}
 
-  // Gateway: /api/v1/shopping/** → shopping-service
+// Gateway: /api/v1/shopping/** → shopping-service (StripPrefix=3) → /search/products
+function search(params, query, name) {
   const res = http.get(
-    `${config.BASE_URL}/api/v1/shopping/products/search?keyword=${encodeURIComponent(term)}&page=0&size=20`,
-    Object.assign({}, params, { tags: { name: 'product_search' } })
+    `${config.BASE_URL}/api/v1/shopping/search/products?${query}`,
+    Object.assign({}, params, { tags: { name } })
   );
-  checkApiResponse(res, 'product_search');
+  checkApiResponse(res, name);
+  return res;
+}
+
+export function baseline(data) {
+  const params = authHeaders(data.token);
+  const keyword = `keyword=${encodeURIComponent(randomTerm())}&size=${PAGE_SIZE}`;
+
+  search(params, `${keyword}&page=0`, 'product_search');
+  for (let page = 1; page <= DEEP_PAGES; page++) {
+    search(params, `${keyword}&page=${page}`, 'product_search_deep');
+  }
+
+  sleep(0.2);
+}
+
+export function optimized(data) {
+  const params = authHeaders(data.token);
+  const keyword = `keyword=${encodeURIComponent(randomTerm())}&size=${PAGE_SIZE}&highlight=false&trackTotalHits=false`;
+
+  // 첫 페이지는 결과 캐시를 타는 일반 조회
+  search(params, `${keyword}&page=0`, 'product_search');
+
+  // 깊은 페이지는 PIT를 열고 nextCursor로 이어 읽음
+  let res = search(params, `${keyword}&cursorPaging=true`, 'product_search_deep');
+  for (let page = 1; page < DEEP_PAGES; page++) {
+    const cursor = res.status === 200 ? res.json('data.nextCursor') : null;
+    if (!cursor) break;
+    res = search(params, `${keyword}&cursor=${encodeURIComponent(cursor)}`, 'product_search_deep');
+  }
 
   sleep(0.2);
 }
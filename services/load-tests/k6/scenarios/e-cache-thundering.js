@@ -4,6 +4,10 @@ import { login, authHeaders } from '../lib/auth.js';
 import { config } from '../lib/config.js';
 
 const PRODUCT_ID = __ENV.PRODUCT_ID || '1';
+const CATEGORY = __ENV.CATEGORY || '전자제품';
+
+// 상세/목록은 L1(인스턴스 메모리) + L2(Redis) 캐시를 거치고, 같은 키의 동시 미스는 인스턴스당 한 번만 DB를 읽음
+// 캐시 없는 변경 전 수치는 shopping-service를 PRODUCT_CATALOG_CACHE_ENABLED=false로 띄워 같은 시나리오로 비교
 
 export const options = {
   scenarios: {
@@ -25,10 +29,21 @@ export const options = {
       exec: 'thunderingHerd',
       startTime: '15s',
     },
+    // Phase 3: Simultaneous requests on the first category listing page
+    listing_herd: {
+      executor: 'shared-iterations',
+      vus: 200,
+      iterations: 200,
+      maxDuration: '10s',
+      exec: 'listingHerd',
+      startTime: '15s',
+    },
   },
   thresholds: {
     'http_req_duration{scenario:thundering_herd}': ['p(95)<500'],
     'http_req_failed{scenario:thundering_herd}': ['rate<0.05'],
+    'http_req_duration{scenario:listing_herd}': ['p(95)<500'],
+    'http_req_failed{scenario:listing_herd}': ['rate<0.05'],
   },
 };
 
@@ -46,6 +61,11 @@ export function warmCache(data) {
     params
   );
   check(res, { 'cache warmed': (r) => r.status === 200 });
+  const listing = http.get(
+    `${config.BASE_URL}/api/v1/shopping/products?page=1&size=12&category=${encodeURIComponent(CATEGORY)}`,
+    params
+  );
+  check(listing, { 'listing warmed': (r) => r.status === 200 });
 }
 
 export function thunderingHerd(data) {
@@ -59,3 +79,15 @@ export function thunderingHerd(data) {
     'response ok': (r) => r.status === 200,
   });
 }
+
+export function listingHerd(data) {
+  const params = authHeaders(data.token);
+  // Gateway: /api/v1/shopping/** → shopping-service
+  const res = http.get(
+    `${config.BASE_URL}/api/v1/shopping/products?page=1&size=12&category=${encodeURIComponent(CATEGORY)}`,
+    Object.assign({}, params, { tags: { name: 'listing_herd' } })
+  );
+  check(res, {
+    'response ok': (r) => r.status === 200,
+  });
+}
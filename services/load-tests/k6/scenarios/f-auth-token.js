@@ -0,0 +1,98 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+import { config } from '../lib/config.js';
+
+// Gateway의 로그인 Rate Limit(5 req/min)을 피하기 위해 기본값은 auth-service 직접 호출
+const AUTH_URL = __ENV.AUTH_URL || 'http://localhost:8081';
+const USER_COUNT = parseInt(__ENV.USER_COUNT || '100', 10);
+const PASSWORD = __ENV.LOAD_TEST_PASSWORD || 'LoadTest1!pw';
+
+const logins = new Counter('auth_logins');
+const refreshes = new Counter('auth_refreshes');
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+  scenarios: {
+    login: {
+      executor: 'constant-arrival-rate',
+      exec: 'loginFlow',
+      rate: 50,
+      timeUnit: '1s',
+      duration: '3m',
+      preAllocatedVUs: 50,
+      maxVUs: 100,
+    },
+    refresh: {
+      executor: 'constant-vus',
+      exec: 'refreshFlow',
+      vus: USER_COUNT,
+      duration: '3m',
+    },
+  },
+  thresholds: {
+    'http_req_duration{name:login}': ['p(95)<300'],
+    'http_req_duration{name:refresh}': ['p(95)<50', 'p(99)<100'],
+    'checks{name:refresh}': ['rate>0.99'],
+  },
+};
+
+function emailOf(n) {
+  return `loadtest+${n}@example.com`;
+}
+
+function post(path, body, name) {
+  return http.post(`${AUTH_URL}${path}`, JSON.stringify(body),
+    Object.assign({}, JSON_HEADERS, { tags: { name } }));
+}
+
+function doLogin(email) {
+  const res = post('/api/v1/auth/login', { email, password: PASSWORD }, 'login');
+  const ok = check(res, { 'login status 200': (r) => r.status === 200 }, { name: 'login' });
+  if (ok) {
+    logins.add(1);
+    return res.json('data.refreshToken');
+  }
+  return null;
+}
+
+// 사용자 풀 생성 (이미 있으면 409 무시)
+// 0 ~ USER_COUNT-1: 갱신 시나리오 전용, USER_COUNT ~ 2*USER_COUNT-1: 로그인 시나리오 전용
+export function setup() {
+  for (let n = 0; n < USER_COUNT * 2; n++) {
+    post('/api/v1/users/signup', {
+      email: emailOf(n),
+      password: PASSWORD,
+      nickname: `load${n}`,
+      marketingAgree: false,
+    }, 'signup');
+  }
+  console.log(`Auth token load test: ${USER_COUNT * 2} users, target=${AUTH_URL} (gateway=${config.BASE_URL})`);
+}
+
+// 로그인: 비밀번호 검증 + Access/Refresh Token 발급
+export function loginFlow() {
+  doLogin(emailOf(USER_COUNT + Math.floor(Math.random() * USER_COUNT)));
+}
+
+// 갱신: VU마다 전용 사용자의 Refresh Token을 회전시키며 Access Token 재발급
+// (Refresh Token은 사용자당 하나이므로 로그인 시나리오와 다른 사용자를 VU별로 하나씩 사용)
+let refreshToken = null;
+
+export function refreshFlow() {
+  const email = emailOf((__VU - 1) % USER_COUNT);
+  if (!refreshToken) {
+    refreshToken = doLogin(email);
+    if (!refreshToken) return;
+  }
+
+  const res = post('/api/v1/auth/refresh', { refreshToken }, 'refresh');
+  const ok = check(res, { 'refresh status 200': (r) => r.status === 200 }, { name: 'refresh' });
+  if (ok) {
+    refreshes.add(1);
+    refreshToken = res.json('data.refreshToken');
+  } else {
+    refreshToken = null;
+  }
+}
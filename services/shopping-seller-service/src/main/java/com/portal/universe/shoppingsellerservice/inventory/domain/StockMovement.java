@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class StockMovement {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_movement_seq_generator")
+    @SequenceGenerator(name = "stock_movement_seq_generator", sequenceName = "stock_movements_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "inventory_id", nullable = false)
@@ -30,6 +30,7 @@ public class InventoryServiceImpl implements InventoryService {
 
     private final InventoryRepository inventoryRepository;
     private final StockMovementRepository stockMovementRepository;
+    private final StockMovementJournal stockMovementJournal;
 
     @Override
     public InventoryResponse getInventory(Long productId) {
@@ -173,6 +174,6 @@ public class InventoryServiceImpl implements InventoryService {
                 .reason(reason)
                 .performedBy(performedBy)
                 .build();
-        stockMovementRepository.save(movement);
+        stockMovementJournal.record(movement);
     }
 }
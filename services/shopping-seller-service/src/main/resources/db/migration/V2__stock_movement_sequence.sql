@@ -0,0 +1,8 @@
+-- stock_movements ID를 IDENTITY에서 시퀀스로 전환 (JDBC 배치 INSERT 허용)
+-- INCREMENT BY는 StockMovement @SequenceGenerator allocationSize와 같아야 함
+CREATE SEQUENCE IF NOT EXISTS stock_movements_seq START WITH 1 INCREMENT BY 50;
+
+-- pooled optimizer는 시퀀스 값을 구간의 상한으로 사용하므로 기존 최대 ID + allocationSize에서 시작
+SELECT setval('stock_movements_seq', COALESCE((SELECT MAX(id) FROM stock_movements), 0) + 50, false);
+
+ALTER TABLE stock_movements ALTER COLUMN id DROP IDENTITY IF EXISTS;
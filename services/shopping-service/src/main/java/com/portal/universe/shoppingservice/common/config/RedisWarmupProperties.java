@@ -0,0 +1,27 @@
+package com.portal.universe.shoppingservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 시작 시 쿠폰/타임딜 Redis 상태 복원(warm-up) 설정입니다.
+ * application.yml의 shopping.warmup 속성과 바인딩됩니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "shopping.warmup")
+public class RedisWarmupProperties {
+
+    /**
+     * DB에서 한 번에 읽어 Redis에 쓰는 행 수 (keyset 페이지 크기이자 SADD/파이프라인 단위)
+     */
+    private int pageSize = 5000;
+
+    /**
+     * 쿠폰을 병렬로 복원하는 스레드 수
+     */
+    private int parallelism = 4;
+}
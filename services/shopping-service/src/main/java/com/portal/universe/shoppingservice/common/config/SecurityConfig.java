@@ -103,6 +103,9 @@ public class SecurityConfig {
                         // 대기열
                         .requestMatchers("/queue/**").hasAnyRole("USER", "ADMIN")
 
+                        // 구매 저장 상태 조회
+                        .requestMatchers(HttpMethod.GET, "/purchases/**").hasAnyRole("USER", "ADMIN")
+
                         // 장바구니
                         .requestMatchers("/cart/**").hasAnyRole("USER", "ADMIN")
 
@@ -127,6 +127,7 @@ public enum ShoppingErrorCode implements ErrorCode {
     TIMEDEAL_PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "S706", "Time deal product not found"),
     TIMEDEAL_ALREADY_EXISTS(HttpStatus.CONFLICT, "S707", "Time deal already exists for this product"),
     TIMEDEAL_INVALID_PERIOD(HttpStatus.BAD_REQUEST, "S708", "Invalid time deal period"),
+    TIMEDEAL_INSUFFICIENT_STOCK(HttpStatus.CONFLICT, "S709", "Requested quantity exceeds remaining time deal stock"),
 
     // ========================================
     // Queue Errors (S8XX)
@@ -154,7 +155,13 @@ public enum ShoppingErrorCode implements ErrorCode {
     SEARCH_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S1001", "Search operation failed"),
     INVALID_SEARCH_QUERY(HttpStatus.BAD_REQUEST, "S1002", "Invalid search query"),
     INDEX_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "S1003", "Search index not found"),
-    SUGGEST_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S1004", "Autocomplete suggestion failed");
+    SUGGEST_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S1004", "Autocomplete suggestion failed"),
+    SEARCH_CURSOR_EXPIRED(HttpStatus.GONE, "S1005", "Search cursor expired, restart from the first page"),
+
+    // ========================================
+    // Purchase Persistence Errors (S11XX)
+    // ========================================
+    PURCHASE_REQUEST_NOT_FOUND(HttpStatus.NOT_FOUND, "S1101", "Purchase request not found or expired");
 
     private final HttpStatus status;
     private final String code;
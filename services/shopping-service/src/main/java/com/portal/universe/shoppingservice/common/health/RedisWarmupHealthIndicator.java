@@ -0,0 +1,120 @@
+package com.portal.universe.shoppingservice.common.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시작 시 Redis warm-up 진행 상황을 보고하는 health indicator입니다.
+ *
+ * <p>등록된 작업이 모두 끝나기 전에는 OUT_OF_SERVICE, 작업이 실패하면 DOWN을 반환합니다.
+ * readiness 그룹에 포함되어 warm-up이 끝난 Pod만 트래픽을 받습니다.</p>
+ */
+@Component
+public class RedisWarmupHealthIndicator implements HealthIndicator {
+
+    private final Map<String, Progress> tasks = new ConcurrentHashMap<>();
+
+    /**
+     * warm-up 작업을 등록합니다. 등록 즉시 readiness가 OUT_OF_SERVICE가 됩니다.
+     */
+    public Progress register(String name) {
+        return tasks.computeIfAbsent(name, key -> new Progress());
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder;
+        if (tasks.values().stream().anyMatch(progress -> progress.state == State.FAILED)) {
+            builder = Health.down();
+        } else if (tasks.values().stream().anyMatch(progress -> progress.state != State.COMPLETED)) {
+            builder = Health.outOfService();
+        } else {
+            builder = Health.up();
+        }
+        tasks.forEach((name, progress) -> builder.withDetail(name, progress.toDetails()));
+        return builder.build();
+    }
+
+    public enum State {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * warm-up 작업 하나의 진행 상황
+     */
+    public static class Progress {
+
+        private final AtomicInteger done = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicLong keys = new AtomicLong();
+        private volatile int total;
+        private volatile State state = State.PENDING;
+        private volatile String error;
+
+        public void start(int total) {
+            this.total = total;
+            this.state = State.RUNNING;
+        }
+
+        /**
+         * 대상 하나를 복원했습니다.
+         *
+         * @param writtenKeys Redis에 쓴 항목 수
+         */
+        public void advance(long writtenKeys) {
+            keys.addAndGet(writtenKeys);
+            done.incrementAndGet();
+        }
+
+        /**
+         * Redis 버전 스탬프가 DB와 같아 복원을 건너뛴 대상 수
+         */
+        public void skip(int count) {
+            skipped.addAndGet(count);
+            done.addAndGet(count);
+        }
+
+        /**
+         * 대상 하나의 복원이 실패했습니다. 나머지 대상은 계속 복원합니다.
+         */
+        public void failOne() {
+            failed.incrementAndGet();
+            done.incrementAndGet();
+        }
+
+        public void complete() {
+            this.state = State.COMPLETED;
+        }
+
+        public void fail(Exception e) {
+            this.error = e.getMessage();
+            this.state = State.FAILED;
+        }
+
+        public State getState() {
+            return state;
+        }
+
+        Map<String, Object> toDetails() {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("state", state);
+            details.put("total", total);
+            details.put("done", done.get());
+            details.put("skipped", skipped.get());
+            details.put("failed", failed.get());
+            details.put("keys", keys.get());
+            if (error != null) {
+                details.put("error", error);
+            }
+            return details;
+        }
+    }
+}
@@ -1,59 +1,169 @@
 package com.portal.universe.shoppingservice.coupon.bootstrap;
 
+import com.portal.universe.shoppingservice.common.config.RedisWarmupProperties;
+import com.portal.universe.shoppingservice.common.health.RedisWarmupHealthIndicator;
 import com.portal.universe.shoppingservice.coupon.domain.Coupon;
 import com.portal.universe.shoppingservice.coupon.domain.CouponStatus;
 import com.portal.universe.shoppingservice.coupon.redis.CouponRedisService;
 import com.portal.universe.shoppingservice.coupon.repository.CouponRepository;
 import com.portal.universe.shoppingservice.coupon.repository.UserCouponRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 서비스 시작 시 ACTIVE 쿠폰의 Redis 재고와 발급 사용자 Set을 복원합니다.
+ *
+ * <p>애플리케이션 시작을 막지 않도록 별도 스레드에서 실행하며, 완료 전까지 {@link RedisWarmupHealthIndicator}가
+ * readiness를 OUT_OF_SERVICE로 보고합니다. 쿠폰은 제한된 크기의 스레드 풀에서 병렬로 복원하고,
+ * 발급 사용자는 keyset pagination으로 페이지 단위로 읽어 한 번의 SADD로 씁니다.</p>
+ *
+ * <p>Redis의 버전 스탬프가 DB의 발급 상태와 같은 쿠폰은 건너뜁니다. 재고 키가 이미 있으면
+ * 다른 인스턴스가 발급 중인 값이므로 덮어쓰지 않습니다.</p>
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CouponRedisBootstrap implements ApplicationRunner {
 
+    private static final String WARMUP_TASK = "coupons";
+
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
     private final CouponRedisService couponRedisService;
+    private final RedisWarmupProperties warmupProperties;
+    private final RedisWarmupHealthIndicator warmupHealthIndicator;
+
+    private RedisWarmupHealthIndicator.Progress progress;
+
+    @PostConstruct
+    void registerWarmup() {
+        progress = warmupHealthIndicator.register(WARMUP_TASK);
+    }
 
     @Override
     public void run(ApplicationArguments args) {
-        syncCouponStockToRedis();
+        Thread thread = new Thread(this::syncCouponStockToRedis, "coupon-redis-bootstrap");
+        thread.setDaemon(true);
+        thread.start();
     }
 
-    private void syncCouponStockToRedis() {
-        List<Coupon> activeCoupons = couponRepository.findByStatus(CouponStatus.ACTIVE);
+    void syncCouponStockToRedis() {
+        try {
+            List<Coupon> activeCoupons = couponRepository.findByStatus(CouponStatus.ACTIVE);
+            progress.start(activeCoupons.size());
+
+            Map<Long, String> stamps = couponRedisService.getWarmupStamps(
+                    activeCoupons.stream().map(Coupon::getId).toList());
+            List<Coupon> staleCoupons = activeCoupons.stream()
+                    .filter(coupon -> !stampOf(coupon).equals(stamps.get(coupon.getId())))
+                    .toList();
+            progress.skip(activeCoupons.size() - staleCoupons.size());
 
-        if (activeCoupons.isEmpty()) {
-            log.info("No active coupons to sync to Redis");
-            return;
+            int synced = syncInParallel(staleCoupons);
+
+            progress.complete();
+            log.info("Coupon Redis bootstrap completed: {}/{} coupons synced, {} already warm",
+                    synced, staleCoupons.size(), activeCoupons.size() - staleCoupons.size());
+        } catch (Exception e) {
+            progress.fail(e);
+            log.error("Coupon Redis bootstrap failed", e);
         }
+    }
 
-        int synced = 0;
-        for (Coupon coupon : activeCoupons) {
-            try {
-                int remainingQuantity = coupon.getRemainingQuantity();
-                couponRedisService.initializeCouponStock(coupon.getId(), remainingQuantity);
+    private int syncInParallel(List<Coupon> coupons) throws InterruptedException {
+        if (coupons.isEmpty()) {
+            return 0;
+        }
+        AtomicInteger threadSequence = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(warmupProperties.getParallelism(), coupons.size()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "coupon-redis-bootstrap-" + threadSequence.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (Coupon coupon : coupons) {
+                futures.add(executor.submit(() -> syncCoupon(coupon)));
+            }
 
-                List<String> issuedUserIds = userCouponRepository.findUserIdsByCouponId(coupon.getId());
-                for (String userId : issuedUserIds) {
-                    couponRedisService.addIssuedUser(coupon.getId(), userId);
+            int synced = 0;
+            for (Future<Boolean> future : futures) {
+                try {
+                    if (future.get()) {
+                        synced++;
+                    }
+                } catch (ExecutionException e) {
+                    log.error("Unexpected coupon bootstrap failure", e.getCause());
                 }
+            }
+            return synced;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean syncCoupon(Coupon coupon) {
+        try {
+            long issuedUsers = loadIssuedUsers(coupon.getId());
+            couponRedisService.restoreStock(coupon.getId(), coupon.getRemainingQuantity(), stampOf(coupon));
+            progress.advance(issuedUsers + 1);
+
+            log.debug("Synced coupon: id={}, stock={}, issuedUsers={}",
+                    coupon.getId(), coupon.getRemainingQuantity(), issuedUsers);
+            return true;
+        } catch (Exception e) {
+            progress.failOne();
+            log.error("Failed to sync coupon to Redis: couponId={}", coupon.getId(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 발급 사용자를 ID 순으로 페이지 단위로 읽어 Redis Set에 추가합니다.
+     */
+    private long loadIssuedUsers(Long couponId) {
+        int pageSize = warmupProperties.getPageSize();
+        long afterId = 0L;
+        long loaded = 0;
 
-                synced++;
-                log.debug("Synced coupon: id={}, stock={}, issuedUsers={}",
-                        coupon.getId(), remainingQuantity, issuedUserIds.size());
-            } catch (Exception e) {
-                log.error("Failed to sync coupon to Redis: couponId={}", coupon.getId(), e);
+        while (true) {
+            List<UserCouponRepository.IssuedUser> page = userCouponRepository.findIssuedUsersAfter(
+                    couponId, afterId, PageRequest.ofSize(pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            couponRedisService.addIssuedUsers(couponId,
+                    page.stream().map(UserCouponRepository.IssuedUser::getUserId).toList());
+            loaded += page.size();
+            afterId = page.get(page.size() - 1).getId();
+            if (page.size() < pageSize) {
+                break;
             }
         }
+        return loaded;
+    }
 
-        log.info("Coupon Redis bootstrap completed: {}/{} coupons synced", synced, activeCoupons.size());
+    /**
+     * DB 발급 상태의 버전 스탬프. 발급 수량이 바뀌면 다음 시작 시 다시 복원합니다.
+     */
+    static String stampOf(Coupon coupon) {
+        return coupon.getTotalQuantity() + ":" + coupon.getIssuedQuantity();
     }
 }
@@ -1,8 +1,10 @@
 package com.portal.universe.shoppingservice.coupon.dto;
 
+import com.portal.universe.shoppingservice.coupon.domain.Coupon;
 import com.portal.universe.shoppingservice.coupon.domain.DiscountType;
 import com.portal.universe.shoppingservice.coupon.domain.UserCoupon;
 import com.portal.universe.shoppingservice.coupon.domain.UserCouponStatus;
+import com.portal.universe.shoppingservice.purchase.domain.PurchaseStatus;
 import lombok.Builder;
 
 import java.math.BigDecimal;
@@ -22,7 +24,9 @@ public record UserCouponResponse(
         LocalDateTime issuedAt,
         LocalDateTime expiresAt,
         LocalDateTime usedAt,
-        Long usedOrderId
+        Long usedOrderId,
+        String requestId,
+        PurchaseStatus persistenceStatus
 ) {
     public static UserCouponResponse from(UserCoupon userCoupon) {
         return UserCouponResponse.builder()
@@ -39,6 +43,27 @@ public record UserCouponResponse(
                 .expiresAt(userCoupon.getExpiresAt())
                 .usedAt(userCoupon.getUsedAt())
                 .usedOrderId(userCoupon.getUsedOrderId())
+                .persistenceStatus(PurchaseStatus.COMPLETED)
+                .build();
+    }
+
+    /**
+     * 발급이 확정되었지만 아직 DB에 저장되지 않은 요청의 응답을 만듭니다. id는 저장 후 부여됩니다.
+     */
+    public static UserCouponResponse pending(String requestId, Coupon coupon) {
+        return UserCouponResponse.builder()
+                .couponId(coupon.getId())
+                .couponCode(coupon.getCode())
+                .couponName(coupon.getName())
+                .discountType(coupon.getDiscountType())
+                .discountValue(coupon.getDiscountValue())
+                .minimumOrderAmount(coupon.getMinimumOrderAmount())
+                .maximumDiscountAmount(coupon.getMaximumDiscountAmount())
+                .status(UserCouponStatus.AVAILABLE)
+                .issuedAt(LocalDateTime.now())
+                .expiresAt(coupon.getExpiresAt())
+                .requestId(requestId)
+                .persistenceStatus(PurchaseStatus.PENDING)
                 .build();
     }
 }
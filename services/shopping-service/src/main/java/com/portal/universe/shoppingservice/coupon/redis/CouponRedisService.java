@@ -2,11 +2,18 @@ package com.portal.universe.shoppingservice.coupon.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -16,6 +23,7 @@ public class CouponRedisService {
 
     private static final String COUPON_STOCK_KEY = "coupon:stock:";
     private static final String COUPON_ISSUED_KEY = "coupon:issued:";
+    private static final String COUPON_WARMUP_KEY = "coupon:warmup:";
 
     private final StringRedisTemplate stringRedisTemplate;
     private final DefaultRedisScript<Long> couponIssueScript;
@@ -96,11 +104,48 @@ public class CouponRedisService {
     }
 
     /**
-     * 발급된 사용자를 Redis Set에 추가합니다 (bootstrap 용).
+     * 발급된 사용자들을 한 번의 SADD로 Redis Set에 추가합니다 (bootstrap 용).
      */
-    public void addIssuedUser(Long couponId, String userId) {
+    public void addIssuedUsers(Long couponId, Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
         String issuedKey = COUPON_ISSUED_KEY + couponId;
-        stringRedisTemplate.opsForSet().add(issuedKey, userId);
+        stringRedisTemplate.opsForSet().add(issuedKey, userIds.toArray(String[]::new));
+    }
+
+    /**
+     * 쿠폰별 warm-up 버전 스탬프를 한 번의 MGET으로 조회합니다. 스탬프가 없으면 값이 null입니다.
+     */
+    public Map<Long, String> getWarmupStamps(List<Long> couponIds) {
+        Map<Long, String> stamps = new HashMap<>();
+        if (couponIds.isEmpty()) {
+            return stamps;
+        }
+        List<String> values = stringRedisTemplate.opsForValue()
+                .multiGet(couponIds.stream().map(id -> COUPON_WARMUP_KEY + id).toList());
+        for (int i = 0; i < couponIds.size(); i++) {
+            stamps.put(couponIds.get(i), values == null ? null : values.get(i));
+        }
+        return stamps;
+    }
+
+    /**
+     * 재고 키가 없을 때만 재고를 복원하고 warm-up 버전 스탬프를 기록합니다 (bootstrap 용).
+     * 재고 키가 이미 있으면 다른 인스턴스가 발급 중인 값이므로 덮어쓰지 않습니다.
+     */
+    public void restoreStock(Long couponId, int remainingQuantity, String stamp) {
+        String stockKey = COUPON_STOCK_KEY + couponId;
+        String warmupKey = COUPON_WARMUP_KEY + couponId;
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForValue().setIfAbsent(stockKey, String.valueOf(remainingQuantity));
+                operations.opsForValue().set(warmupKey, stamp);
+                return null;
+            }
+        });
     }
 
     /**
@@ -109,7 +154,8 @@ public class CouponRedisService {
     public void deleteCouponCache(Long couponId) {
         String stockKey = COUPON_STOCK_KEY + couponId;
         String issuedKey = COUPON_ISSUED_KEY + couponId;
-        stringRedisTemplate.delete(Arrays.asList(stockKey, issuedKey));
+        String warmupKey = COUPON_WARMUP_KEY + couponId;
+        stringRedisTemplate.delete(Arrays.asList(stockKey, issuedKey, warmupKey));
         log.info("Deleted coupon cache: couponId={}", couponId);
     }
 
@@ -121,5 +167,6 @@ public class CouponRedisService {
         String issuedKey = COUPON_ISSUED_KEY + couponId;
         stringRedisTemplate.expire(stockKey, timeout, unit);
         stringRedisTemplate.expire(issuedKey, timeout, unit);
+        stringRedisTemplate.expire(COUPON_WARMUP_KEY + couponId, timeout, unit);
     }
 }
@@ -2,6 +2,7 @@ package com.portal.universe.shoppingservice.coupon.repository;
 
 import com.portal.universe.shoppingservice.coupon.domain.UserCoupon;
 import com.portal.universe.shoppingservice.coupon.domain.UserCouponStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -38,4 +39,19 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
 
     @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.coupon.id = :couponId")
     List<String> findUserIdsByCouponId(@Param("couponId") Long couponId);
+
+    /**
+     * 쿠폰 발급 사용자를 ID 순으로 afterId 다음부터 조회합니다 (keyset pagination).
+     */
+    @Query("SELECT uc.id AS id, uc.userId AS userId FROM UserCoupon uc " +
+           "WHERE uc.coupon.id = :couponId AND uc.id > :afterId ORDER BY uc.id")
+    List<IssuedUser> findIssuedUsersAfter(@Param("couponId") Long couponId,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
+
+    interface IssuedUser {
+        Long getId();
+
+        String getUserId();
+    }
 }
@@ -13,6 +13,9 @@ import com.portal.universe.shoppingservice.coupon.redis.CouponRedisService;
 import com.portal.universe.shoppingservice.coupon.repository.CouponRepository;
 import com.portal.universe.shoppingservice.coupon.repository.UserCouponRepository;
 import com.portal.universe.shoppingservice.event.ShoppingEventPublisher;
+import com.portal.universe.shoppingservice.purchase.config.PurchasePersistenceProperties;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRedisService;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRequest;
 import com.portal.universe.event.shopping.CouponIssuedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -35,6 +39,8 @@ public class CouponServiceImpl implements CouponService {
     private final UserCouponRepository userCouponRepository;
     private final CouponRedisService couponRedisService;
     private final ShoppingEventPublisher eventPublisher;
+    private final PurchasePersistenceProperties purchasePersistenceProperties;
+    private final PurchaseRedisService purchaseRedisService;
 
     @Override
     public Page<CouponResponse> getAllCoupons(Pageable pageable) {
@@ -107,6 +113,10 @@ public class CouponServiceImpl implements CouponService {
             throw new CustomBusinessException(ShoppingErrorCode.COUPON_EXHAUSTED);
         }
 
+        if (purchasePersistenceProperties.isAsync()) {
+            return enqueueIssue(coupon, userId);
+        }
+
         // DB에 발급 기록 저장
         UserCoupon userCoupon = UserCoupon.builder()
                 .userId(userId)
@@ -136,6 +146,25 @@ public class CouponServiceImpl implements CouponService {
         return UserCouponResponse.from(savedUserCoupon);
     }
 
+    /**
+     * 발급 기록 저장을 Redis Stream에 맡기고 바로 응답합니다. 발급 이벤트는 저장 워커가 저장 후 발행합니다.
+     * 적재에 실패하면 Redis 발급을 되돌립니다.
+     */
+    private UserCouponResponse enqueueIssue(Coupon coupon, String userId) {
+        String requestId = UUID.randomUUID().toString();
+        try {
+            purchaseRedisService.enqueue(PurchaseRequest.coupon(requestId, userId, coupon.getId()));
+        } catch (RuntimeException e) {
+            couponRedisService.incrementStock(coupon.getId());
+            couponRedisService.removeIssuedUser(coupon.getId(), userId);
+            throw e;
+        }
+
+        log.info("Coupon issue accepted: requestId={}, couponId={}, userId={}", requestId, coupon.getId(), userId);
+
+        return UserCouponResponse.pending(requestId, coupon);
+    }
+
     private void validateCouponForIssue(Coupon coupon) {
         LocalDateTime now = LocalDateTime.now();
 
@@ -0,0 +1,86 @@
+package com.portal.universe.shoppingservice.inventory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 재고 예약 엔진 설정입니다.
+ * application.yml의 shopping.inventory.reservation 속성과 바인딩됩니다.
+ *
+ * <p>REDIS 엔진으로 관리되는 상품은 가용/예약 재고를 Redis가 소유하며,
+ * DB(inventory, stock_movements)에는 write-behind 워커가 배치로 반영합니다.
+ * 엔진을 DB로 되돌릴 때는 journal이 모두 반영된 뒤 Redis 재고 키를 제거해야 합니다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "shopping.inventory.reservation")
+public class InventoryReservationProperties {
+
+    /**
+     * 전역 예약 엔진 (기본: DB 비관적 락)
+     */
+    private ReservationMode mode = ReservationMode.DB;
+
+    /**
+     * 전역 엔진과 무관하게 Redis 엔진을 사용할 상품 ID 목록 (플래시 세일 핫 SKU 등)
+     */
+    private Set<Long> redisProductIds = new HashSet<>();
+
+    /**
+     * write-behind 워커가 한 번에 DB로 반영할 최대 이력 수
+     */
+    private int writeBehindBatchSize = 500;
+
+    /**
+     * write-behind 워커 실행 간격 (ms)
+     */
+    private long writeBehindIntervalMs = 1000;
+
+    /**
+     * 정합성 검사 실행 간격 (ms)
+     */
+    private long reconcileIntervalMs = 60000;
+
+    /**
+     * 정합성 검사에서 불일치 발견 시 Redis 값(기준)을 DB에 ADJUSTMENT로 반영할지 여부
+     */
+    private boolean reconcileRepair = false;
+
+    /**
+     * 실패한 롤백 보상 재시도 간격 (ms)
+     */
+    private long compensationRetryIntervalMs = 5000;
+
+    /**
+     * 롤백 보상 최대 시도 횟수 (초과 시 포기하고 inventory.compensation.abandoned로 집계)
+     */
+    private int compensationMaxAttempts = 10;
+
+    /**
+     * Redis 엔진 사용 여부를 판단합니다.
+     *
+     * @param productId 상품 ID
+     * @return Redis 엔진 관리 대상이면 true
+     */
+    public boolean isRedisManaged(Long productId) {
+        return mode == ReservationMode.REDIS || redisProductIds.contains(productId);
+    }
+
+    public enum ReservationMode {
+        /**
+         * inventory 행에 대한 비관적 락 (SELECT ... FOR UPDATE)
+         */
+        DB,
+
+        /**
+         * Redis Lua 스크립트 + DB write-behind
+         */
+        REDIS
+    }
+}
@@ -0,0 +1,32 @@
+package com.portal.universe.shoppingservice.inventory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실시간 재고 스트림(SSE) fan-out 설정입니다.
+ * application.yml의 shopping.inventory.stream 속성과 바인딩됩니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "shopping.inventory.stream")
+public class InventoryStreamProperties {
+
+    /**
+     * 상품별 재고 변경을 모으는 구간 (ms). 구간 내에서는 마지막 값만 발행됩니다.
+     */
+    private long coalesceWindowMs = 100;
+
+    /**
+     * 재고 변경 배치를 발행할 Redis 채널 샤드 수 (inventory:updates:{shard})
+     */
+    private int shardCount = 16;
+
+    /**
+     * SSE 클라이언트별 최대 대기 이벤트 수. 초과 시 가장 오래된 이벤트부터 버립니다.
+     */
+    private int clientBufferSize = 256;
+}
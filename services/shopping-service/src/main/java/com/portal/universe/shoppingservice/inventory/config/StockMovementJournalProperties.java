@@ -0,0 +1,14 @@
+package com.portal.universe.shoppingservice.inventory.config;
+
+import com.portal.universe.commonlibrary.journal.BatchJournalProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 이동 이력(stock_movements) 기록 방식 설정입니다.
+ * application.yml의 shopping.inventory.movement-journal 속성과 바인딩됩니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "shopping.inventory.movement-journal")
+public class StockMovementJournalProperties extends BatchJournalProperties {
+}
@@ -26,8 +26,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class StockMovement {
 
+    /**
+     * 시퀀스 기반 ID (IDENTITY는 INSERT마다 ID를 받아와야 해서 JDBC 배치가 비활성화됨)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_movement_seq_generator")
+    @SequenceGenerator(name = "stock_movement_seq_generator", sequenceName = "stock_movements_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -103,6 +107,12 @@ public class StockMovement {
     @Column(name = "performed_by", length = 100)
     private String performedBy;
 
+    /**
+     * Redis 재고 엔진 journal 시퀀스 (write-behind 중복 반영 방지, DB 엔진 이력은 null)
+     */
+    @Column(name = "journal_seq", unique = true)
+    private Long journalSeq;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -111,7 +121,8 @@ public class StockMovement {
     public StockMovement(Long inventoryId, Long productId, MovementType movementType,
                          Integer quantity, Integer previousAvailable, Integer afterAvailable,
                          Integer previousReserved, Integer afterReserved,
-                         String referenceType, String referenceId, String reason, String performedBy) {
+                         String referenceType, String referenceId, String reason, String performedBy,
+                         Long journalSeq) {
         this.inventoryId = inventoryId;
         this.productId = productId;
         this.movementType = movementType;
@@ -124,5 +135,6 @@ public class StockMovement {
         this.referenceId = referenceId;
         this.reason = reason;
         this.performedBy = performedBy;
+        this.journalSeq = journalSeq;
     }
 }
@@ -1,6 +1,7 @@
 package com.portal.universe.shoppingservice.inventory.dto;
 
 import com.portal.universe.shoppingservice.inventory.domain.Inventory;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryStockSnapshot;
 
 import java.time.LocalDateTime;
 
@@ -27,4 +28,34 @@ public record InventoryResponse(
                 inventory.getUpdatedAt()
         );
     }
+
+    /**
+     * Redis 엔진의 재고 값으로 응답을 생성합니다 (생성/수정 일시는 DB 반영 전이므로 비어 있음).
+     */
+    public static InventoryResponse from(InventoryStockSnapshot snapshot) {
+        return new InventoryResponse(
+                snapshot.inventoryId(),
+                snapshot.productId(),
+                snapshot.availableQuantity(),
+                snapshot.reservedQuantity(),
+                snapshot.totalQuantity(),
+                null,
+                null
+        );
+    }
+
+    /**
+     * 재고 수량만 Redis 엔진의 최신 값으로 교체한 응답을 반환합니다.
+     */
+    public InventoryResponse withStock(InventoryStockSnapshot snapshot) {
+        return new InventoryResponse(
+                id,
+                productId,
+                snapshot.availableQuantity(),
+                snapshot.reservedQuantity(),
+                snapshot.totalQuantity(),
+                createdAt,
+                updatedAt
+        );
+    }
 }
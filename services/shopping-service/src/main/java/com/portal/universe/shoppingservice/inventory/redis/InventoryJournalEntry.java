@@ -0,0 +1,26 @@
+package com.portal.universe.shoppingservice.inventory.redis;
+
+import com.portal.universe.shoppingservice.inventory.domain.MovementType;
+
+/**
+ * inventory_mutate.lua가 inventory:journal에 적재하는 재고 이동 이력입니다.
+ * write-behind 워커가 읽어 inventory / stock_movements에 반영합니다.
+ *
+ * @param seq Redis에서 발급한 이력 시퀀스 (중복 반영 방지 키)
+ */
+public record InventoryJournalEntry(
+        Long seq,
+        Long productId,
+        Long inventoryId,
+        MovementType movementType,
+        Integer quantity,
+        Integer previousAvailable,
+        Integer afterAvailable,
+        Integer previousReserved,
+        Integer afterReserved,
+        String referenceType,
+        String referenceId,
+        String reason,
+        String performedBy
+) {
+}
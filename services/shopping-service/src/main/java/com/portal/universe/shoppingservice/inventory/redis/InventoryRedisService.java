@@ -0,0 +1,223 @@
+package com.portal.universe.shoppingservice.inventory.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.universe.shoppingservice.inventory.domain.Inventory;
+import com.portal.universe.shoppingservice.inventory.domain.MovementType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 재고 엔진의 저수준 연산을 담당합니다.
+ * 재고 Hash 적재/조회, Lua 스크립트 기반 원자적 변경, write-behind journal 관리를 제공합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryRedisService {
+
+    private static final String INVENTORY_STOCK_KEY = "inventory:stock:";
+    private static final String INVENTORY_MANAGED_KEY = "inventory:managed";
+    private static final String INVENTORY_JOURNAL_KEY = "inventory:journal";
+    private static final String INVENTORY_JOURNAL_SEQ_KEY = "inventory:journal:seq";
+
+    public static final int RESULT_SUCCESS = 1;
+    public static final int RESULT_NOT_LOADED = -1;
+    public static final int RESULT_INSUFFICIENT = -2;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> inventoryMutateScript;
+    private final DefaultRedisScript<Long> inventoryLoadScript;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * DB 재고를 Redis에 적재합니다. 이미 적재된 경우 Redis 값을 유지합니다.
+     *
+     * @return 새로 적재했으면 true
+     */
+    public boolean loadStock(Inventory inventory) {
+        Long result = stringRedisTemplate.execute(
+                inventoryLoadScript,
+                Arrays.asList(buildStockKey(inventory.getProductId()), INVENTORY_MANAGED_KEY),
+                String.valueOf(inventory.getProductId()),
+                String.valueOf(inventory.getId()),
+                String.valueOf(inventory.getAvailableQuantity()),
+                String.valueOf(inventory.getReservedQuantity())
+        );
+
+        boolean loaded = result != null && result == 1L;
+        if (loaded) {
+            log.info("Loaded inventory into Redis: productId={}, available={}, reserved={}",
+                    inventory.getProductId(), inventory.getAvailableQuantity(), inventory.getReservedQuantity());
+        }
+        return loaded;
+    }
+
+    /**
+     * Lua Script를 사용하여 여러 상품의 재고를 원자적으로 변경합니다 (all-or-nothing).
+     * 성공 시 변경 이력이 journal에 함께 적재됩니다.
+     *
+     * @param movementType 이동 유형
+     * @param deltas 상품 ID → {이동 수량, 가용 재고 증감, 예약 재고 증감} (정렬된 순서로 전달)
+     * @return 변경 결과
+     */
+    @SuppressWarnings("unchecked")
+    public MutationResult mutate(MovementType movementType, Map<Long, int[]> deltas,
+                                 String referenceType, String referenceId, String reason, String performedBy) {
+        List<Long> productIds = new ArrayList<>(deltas.keySet());
+        List<String> keys = new ArrayList<>(productIds.size() + 2);
+        productIds.forEach(productId -> keys.add(buildStockKey(productId)));
+        keys.add(INVENTORY_JOURNAL_KEY);
+        keys.add(INVENTORY_JOURNAL_SEQ_KEY);
+
+        List<String> args = new ArrayList<>(5 + productIds.size() * 3);
+        args.add(movementType.name());
+        args.add(nullToEmpty(referenceType));
+        args.add(nullToEmpty(referenceId));
+        args.add(nullToEmpty(reason));
+        args.add(nullToEmpty(performedBy));
+        for (Long productId : productIds) {
+            int[] delta = deltas.get(productId);
+            args.add(String.valueOf(delta[0]));
+            args.add(String.valueOf(delta[1]));
+            args.add(String.valueOf(delta[2]));
+        }
+
+        List<Long> result = stringRedisTemplate.execute(inventoryMutateScript, keys, args.toArray());
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("Inventory mutate script returned no result");
+        }
+
+        int code = result.get(0).intValue();
+        if (code != RESULT_SUCCESS) {
+            Long failedProductId = productIds.get(result.get(1).intValue() - 1);
+            log.debug("Redis inventory mutation rejected: type={}, productId={}, code={}",
+                    movementType, failedProductId, code);
+            return new MutationResult(code, failedProductId, List.of());
+        }
+
+        List<InventoryStockSnapshot> snapshots = new ArrayList<>(productIds.size());
+        for (int i = 0; i < productIds.size(); i++) {
+            int offset = 1 + i * 4;
+            snapshots.add(new InventoryStockSnapshot(
+                    productIds.get(i),
+                    result.get(offset),
+                    result.get(offset + 1).intValue(),
+                    result.get(offset + 2).intValue(),
+                    result.get(offset + 3).intValue()
+            ));
+        }
+        return new MutationResult(code, null, snapshots);
+    }
+
+    /**
+     * Redis에 적재된 재고를 조회합니다. 적재되지 않은 상품은 결과에서 제외됩니다.
+     */
+    public List<InventoryStockSnapshot> getStocks(Collection<Long> productIds) {
+        List<InventoryStockSnapshot> snapshots = new ArrayList<>(productIds.size());
+        List<Object> fields = List.of("inventoryId", "available", "reserved", "total");
+        for (Long productId : productIds) {
+            List<Object> values = stringRedisTemplate.opsForHash().multiGet(buildStockKey(productId), fields);
+            if (values.get(1) == null) {
+                continue;
+            }
+            snapshots.add(new InventoryStockSnapshot(
+                    productId,
+                    Long.valueOf(values.get(0).toString()),
+                    Integer.parseInt(values.get(1).toString()),
+                    Integer.parseInt(values.get(2).toString()),
+                    Integer.parseInt(values.get(3).toString())
+            ));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Redis 엔진이 적재한 상품 ID 목록을 조회합니다.
+     */
+    public Set<Long> getManagedProductIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(INVENTORY_MANAGED_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    /**
+     * 상품 재고를 Redis에서 제거합니다 (엔진을 DB로 되돌릴 때).
+     */
+    public void evictStock(Long productId) {
+        stringRedisTemplate.delete(buildStockKey(productId));
+        stringRedisTemplate.opsForSet().remove(INVENTORY_MANAGED_KEY, String.valueOf(productId));
+        log.info("Evicted inventory from Redis: productId={}", productId);
+    }
+
+    /**
+     * DB 반영 대기 중인 journal 앞부분을 조회합니다 (제거하지 않음).
+     */
+    public List<InventoryJournalEntry> peekJournal(int count) {
+        List<String> raw = stringRedisTemplate.opsForList().range(INVENTORY_JOURNAL_KEY, 0, count - 1L);
+        if (raw == null || raw.isEmpty()) {
+            return List.of();
+        }
+
+        List<InventoryJournalEntry> entries = new ArrayList<>(raw.size());
+        for (String json : raw) {
+            try {
+                entries.add(objectMapper.readValue(json, InventoryJournalEntry.class));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Corrupted inventory journal entry: " + json, e);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * DB에 반영된 journal 앞부분을 제거합니다.
+     */
+    public void trimJournal(int count) {
+        stringRedisTemplate.opsForList().trim(INVENTORY_JOURNAL_KEY, count, -1);
+    }
+
+    /**
+     * DB 반영 대기 중인 journal 길이를 조회합니다.
+     */
+    public long getJournalSize() {
+        Long size = stringRedisTemplate.opsForList().size(INVENTORY_JOURNAL_KEY);
+        return size != null ? size : 0;
+    }
+
+    private String buildStockKey(Long productId) {
+        return INVENTORY_STOCK_KEY + productId;
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * Lua Script 실행 결과입니다.
+     *
+     * @param code 1: 성공, -1: Redis 미적재, -2: 재고 부족
+     * @param failedProductId 실패한 상품 ID (성공 시 null)
+     * @param snapshots 변경 후 재고 (성공 시)
+     */
+    public record MutationResult(int code, Long failedProductId, List<InventoryStockSnapshot> snapshots) {
+
+        public boolean isSuccess() {
+            return code == RESULT_SUCCESS;
+        }
+    }
+}
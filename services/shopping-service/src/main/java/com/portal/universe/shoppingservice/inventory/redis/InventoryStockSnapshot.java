@@ -0,0 +1,13 @@
+package com.portal.universe.shoppingservice.inventory.redis;
+
+/**
+ * Redis 엔진이 관리하는 상품 재고의 현재 값입니다.
+ */
+public record InventoryStockSnapshot(
+        Long productId,
+        Long inventoryId,
+        int availableQuantity,
+        int reservedQuantity,
+        int totalQuantity
+) {
+}
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -74,4 +75,13 @@ public interface StockMovementRepository extends JpaRepository<StockMovement, Lo
             MovementType movementType,
             Pageable pageable
     );
+
+    /**
+     * 이미 반영된 Redis journal 시퀀스를 조회합니다 (write-behind 중복 반영 방지).
+     *
+     * @param journalSeqs 확인할 journal 시퀀스 목록
+     * @return DB에 이미 존재하는 journal 시퀀스 목록
+     */
+    @Query("SELECT sm.journalSeq FROM StockMovement sm WHERE sm.journalSeq IN :journalSeqs")
+    List<Long> findExistingJournalSeqs(@Param("journalSeqs") Collection<Long> journalSeqs);
 }
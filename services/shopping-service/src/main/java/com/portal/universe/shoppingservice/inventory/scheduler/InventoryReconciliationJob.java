@@ -0,0 +1,141 @@
+package com.portal.universe.shoppingservice.inventory.scheduler;
+
+import com.portal.universe.shoppingservice.common.annotation.DistributedLock;
+import com.portal.universe.shoppingservice.inventory.config.InventoryReservationProperties;
+import com.portal.universe.shoppingservice.inventory.domain.Inventory;
+import com.portal.universe.shoppingservice.inventory.domain.MovementType;
+import com.portal.universe.shoppingservice.inventory.domain.StockMovement;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryJournalEntry;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryRedisService;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryStockSnapshot;
+import com.portal.universe.shoppingservice.inventory.repository.InventoryRepository;
+import com.portal.universe.shoppingservice.inventory.repository.StockMovementRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 재고 엔진의 카운터와 DB inventory 행을 비교하는 정합성 검사 작업입니다.
+ *
+ * write-behind 워커와 같은 분산 락을 사용하므로 검사 중에는 journal이 반영되지 않습니다.
+ * 따라서 journal에 대기 이력이 없는 상품은 Redis와 DB 값이 같아야 하며, 다르면 불일치로 기록합니다.
+ */
+@Slf4j
+@Component
+public class InventoryReconciliationJob {
+
+    private final InventoryRedisService inventoryRedisService;
+    private final InventoryRepository inventoryRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final InventoryReservationProperties reservationProperties;
+    private final Counter mismatchCounter;
+
+    public InventoryReconciliationJob(InventoryRedisService inventoryRedisService,
+                                      InventoryRepository inventoryRepository,
+                                      StockMovementRepository stockMovementRepository,
+                                      InventoryReservationProperties reservationProperties,
+                                      MeterRegistry meterRegistry) {
+        this.inventoryRedisService = inventoryRedisService;
+        this.inventoryRepository = inventoryRepository;
+        this.stockMovementRepository = stockMovementRepository;
+        this.reservationProperties = reservationProperties;
+        this.mismatchCounter = Counter.builder("inventory.reconcile.mismatch")
+                .description("Redis 재고 카운터와 DB inventory 행의 불일치 건수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${shopping.inventory.reservation.reconcile-interval-ms:60000}")
+    @DistributedLock(key = "'scheduler:inventory:write-behind'", waitTime = 5, leaseTime = 30)
+    @Transactional
+    public void reconcile() {
+        Set<Long> managedProductIds = inventoryRedisService.getManagedProductIds();
+        if (managedProductIds.isEmpty()) {
+            return;
+        }
+
+        // Redis 값을 먼저 읽고 journal을 확인해야 그 사이 변경된 상품이 대기 이력으로 잡힘
+        List<InventoryStockSnapshot> snapshots = inventoryRedisService.getStocks(managedProductIds);
+
+        int batchSize = reservationProperties.getWriteBehindBatchSize();
+        if (inventoryRedisService.getJournalSize() > batchSize) {
+            log.warn("Skipping inventory reconciliation: write-behind backlog exceeds {} entries", batchSize);
+            return;
+        }
+        Set<Long> pendingProductIds = inventoryRedisService.peekJournal(batchSize).stream()
+                .map(InventoryJournalEntry::productId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Inventory> inventories = inventoryRepository.findByProductIds(new ArrayList<>(managedProductIds))
+                .stream()
+                .collect(Collectors.toMap(Inventory::getProductId, Function.identity()));
+
+        int mismatches = 0;
+        for (InventoryStockSnapshot snapshot : snapshots) {
+            if (pendingProductIds.contains(snapshot.productId())) {
+                continue;
+            }
+
+            Inventory inventory = inventories.get(snapshot.productId());
+            if (inventory == null) {
+                log.warn("Inventory reconciliation: product {} exists in Redis but not in DB", snapshot.productId());
+                mismatches++;
+                continue;
+            }
+
+            if (inventory.getAvailableQuantity() != snapshot.availableQuantity()
+                    || inventory.getReservedQuantity() != snapshot.reservedQuantity()) {
+                log.warn("Inventory reconciliation mismatch for product {}: redis(available={}, reserved={}) db(available={}, reserved={})",
+                        snapshot.productId(), snapshot.availableQuantity(), snapshot.reservedQuantity(),
+                        inventory.getAvailableQuantity(), inventory.getReservedQuantity());
+                mismatches++;
+
+                if (reservationProperties.isReconcileRepair()) {
+                    repair(inventory, snapshot);
+                }
+            }
+        }
+
+        if (mismatches > 0) {
+            mismatchCounter.increment(mismatches);
+        }
+        log.debug("Inventory reconciliation finished: checked={}, pending={}, mismatches={}",
+                snapshots.size(), pendingProductIds.size(), mismatches);
+    }
+
+    /**
+     * Redis 값을 기준으로 DB inventory 행을 보정하고 조정 이력을 남깁니다.
+     */
+    private void repair(Inventory inventory, InventoryStockSnapshot snapshot) {
+        int previousAvailable = inventory.getAvailableQuantity();
+        int previousReserved = inventory.getReservedQuantity();
+
+        inventory.adjust(snapshot.availableQuantity(), snapshot.reservedQuantity());
+
+        stockMovementRepository.save(StockMovement.builder()
+                .inventoryId(inventory.getId())
+                .productId(inventory.getProductId())
+                .movementType(MovementType.ADJUSTMENT)
+                .quantity(Math.abs(snapshot.totalQuantity() - (previousAvailable + previousReserved)))
+                .previousAvailable(previousAvailable)
+                .afterAvailable(snapshot.availableQuantity())
+                .previousReserved(previousReserved)
+                .afterReserved(snapshot.reservedQuantity())
+                .referenceType("SYSTEM")
+                .referenceId("RECONCILIATION")
+                .reason("Reconciled with Redis inventory engine")
+                .performedBy("SYSTEM")
+                .build());
+
+        log.info("Repaired inventory for product {} from Redis engine", inventory.getProductId());
+    }
+}
@@ -0,0 +1,164 @@
+package com.portal.universe.shoppingservice.inventory.scheduler;
+
+import com.portal.universe.shoppingservice.inventory.config.InventoryReservationProperties;
+import com.portal.universe.shoppingservice.inventory.domain.Inventory;
+import com.portal.universe.shoppingservice.inventory.domain.StockMovement;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryJournalEntry;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryRedisService;
+import com.portal.universe.shoppingservice.inventory.repository.InventoryRepository;
+import com.portal.universe.shoppingservice.inventory.repository.StockMovementRepository;
+import com.portal.universe.shoppingservice.search.outbox.ProductIndexOutboxRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 재고 엔진의 journal을 DB에 배치 반영하는 write-behind 워커입니다.
+ *
+ * journal 앞부분을 읽어 하나의 트랜잭션으로 inventory 행(상품별 마지막 값)과 stock_movements를 저장한 뒤,
+ * 커밋이 끝나면 journal에서 제거합니다. 커밋 후 제거 전에 장애가 나도 journal 시퀀스로 중복 반영을 막습니다.
+ * 재고가 바뀐 상품은 같은 트랜잭션에서 검색 색인 outbox에 기록합니다.
+ */
+@Slf4j
+@Component
+public class InventoryWriteBehindWorker {
+
+    /**
+     * 워커와 정합성 검사가 공유하는 분산 락 키 (DistributedLockAspect의 "lock:" 접두사 포함)
+     */
+    static final String LOCK_KEY = "lock:scheduler:inventory:write-behind";
+
+    private final InventoryRedisService inventoryRedisService;
+    private final InventoryRepository inventoryRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final ProductIndexOutboxRecorder productIndexOutboxRecorder;
+    private final InventoryReservationProperties reservationProperties;
+    private final RedissonClient redissonClient;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter flushedCounter;
+
+    public InventoryWriteBehindWorker(InventoryRedisService inventoryRedisService,
+                                      InventoryRepository inventoryRepository,
+                                      StockMovementRepository stockMovementRepository,
+                                      ProductIndexOutboxRecorder productIndexOutboxRecorder,
+                                      InventoryReservationProperties reservationProperties,
+                                      RedissonClient redissonClient,
+                                      TransactionTemplate transactionTemplate,
+                                      MeterRegistry meterRegistry) {
+        this.inventoryRedisService = inventoryRedisService;
+        this.inventoryRepository = inventoryRepository;
+        this.stockMovementRepository = stockMovementRepository;
+        this.productIndexOutboxRecorder = productIndexOutboxRecorder;
+        this.reservationProperties = reservationProperties;
+        this.redissonClient = redissonClient;
+        this.transactionTemplate = transactionTemplate;
+        this.flushedCounter = Counter.builder("inventory.write_behind.flushed")
+                .description("Redis 재고 journal에서 DB로 반영된 이력 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * journal이 빌 때까지 배치 단위로 반영합니다.
+     * 다른 인스턴스가 반영 중이면 이번 주기는 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${shopping.inventory.reservation.write-behind-interval-ms:1000}")
+    public void flush() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            int batchSize = reservationProperties.getWriteBehindBatchSize();
+            int flushed;
+            do {
+                flushed = flushBatch(batchSize);
+            } while (flushed == batchSize);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * journal 한 배치를 DB에 반영합니다.
+     *
+     * @return 처리한 이력 수
+     */
+    int flushBatch(int batchSize) {
+        List<InventoryJournalEntry> entries = inventoryRedisService.peekJournal(batchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> persist(entries));
+        inventoryRedisService.trimJournal(entries.size());
+        flushedCounter.increment(entries.size());
+
+        log.debug("Flushed {} inventory journal entries to DB", entries.size());
+        return entries.size();
+    }
+
+    private void persist(List<InventoryJournalEntry> entries) {
+        Set<Long> alreadyPersisted = new HashSet<>(stockMovementRepository.findExistingJournalSeqs(
+                entries.stream().map(InventoryJournalEntry::seq).toList()));
+
+        // 상품별 마지막 이력의 재고 값이 현재 Redis 값에 가장 가까움
+        Map<Long, InventoryJournalEntry> latestByProduct = new LinkedHashMap<>();
+        List<StockMovement> movements = new ArrayList<>(entries.size());
+        for (InventoryJournalEntry entry : entries) {
+            latestByProduct.put(entry.productId(), entry);
+            if (!alreadyPersisted.contains(entry.seq())) {
+                movements.add(toMovement(entry));
+            }
+        }
+
+        List<Inventory> inventories = inventoryRepository.findByProductIds(new ArrayList<>(latestByProduct.keySet()));
+        for (Inventory inventory : inventories) {
+            InventoryJournalEntry latest = latestByProduct.get(inventory.getProductId());
+            inventory.adjust(latest.afterAvailable(), latest.afterReserved());
+        }
+
+        stockMovementRepository.saveAll(movements);
+        productIndexOutboxRecorder.recordStockAll(latestByProduct.keySet());
+
+        if (movements.size() < entries.size()) {
+            log.info("Skipped {} already persisted inventory journal entries", entries.size() - movements.size());
+        }
+    }
+
+    private StockMovement toMovement(InventoryJournalEntry entry) {
+        return StockMovement.builder()
+                .inventoryId(entry.inventoryId())
+                .productId(entry.productId())
+                .movementType(entry.movementType())
+                .quantity(entry.quantity())
+                .previousAvailable(entry.previousAvailable())
+                .afterAvailable(entry.afterAvailable())
+                .previousReserved(entry.previousReserved())
+                .afterReserved(entry.afterReserved())
+                .referenceType(emptyToNull(entry.referenceType()))
+                .referenceId(emptyToNull(entry.referenceId()))
+                .reason(emptyToNull(entry.reason()))
+                .performedBy(emptyToNull(entry.performedBy()))
+                .journalSeq(entry.seq())
+                .build();
+    }
+
+    private String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
@@ -1,7 +1,5 @@
 package com.portal.universe.shoppingservice.inventory.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.universe.commonlibrary.exception.CustomBusinessException;
 import com.portal.universe.shoppingservice.common.exception.ShoppingErrorCode;
 import com.portal.universe.shoppingservice.inventory.domain.Inventory;
@@ -9,19 +7,18 @@ import com.portal.universe.shoppingservice.inventory.domain.MovementType;
 import com.portal.universe.shoppingservice.inventory.domain.StockMovement;
 import com.portal.universe.shoppingservice.inventory.dto.InventoryResponse;
 import com.portal.universe.shoppingservice.inventory.dto.StockMovementResponse;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryStockSnapshot;
 import com.portal.universe.shoppingservice.inventory.repository.InventoryRepository;
 import com.portal.universe.shoppingservice.inventory.repository.StockMovementRepository;
-import com.portal.universe.shoppingservice.inventory.stream.InventoryUpdate;
+import com.portal.universe.shoppingservice.inventory.stream.InventoryUpdatePublisher;
+import com.portal.universe.shoppingservice.search.outbox.ProductIndexOutboxRecorder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +28,7 @@ import java.util.stream.Collectors;
 /**
  * 재고 관리 서비스 구현체입니다.
  * 비관적 락(Pessimistic Lock)을 사용하여 동시성 문제를 해결합니다.
+ * Redis 엔진 관리 대상 상품은 {@link RedisInventoryEngine}으로 위임하여 행 락 없이 처리합니다.
  */
 @Slf4j
 @Service
@@ -40,21 +38,23 @@ public class InventoryServiceImpl implements InventoryService {
 
     private final InventoryRepository inventoryRepository;
     private final StockMovementRepository stockMovementRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final InventoryUpdatePublisher inventoryUpdatePublisher;
+    private final RedisInventoryEngine redisInventoryEngine;
+    private final StockMovementJournal stockMovementJournal;
+    private final ProductIndexOutboxRecorder productIndexOutboxRecorder;
 
     @Override
     public InventoryResponse getInventory(Long productId) {
         Inventory inventory = inventoryRepository.findByProductId(productId)
                 .orElseThrow(() -> new CustomBusinessException(ShoppingErrorCode.INVENTORY_NOT_FOUND));
-        return InventoryResponse.from(inventory);
+        return redisInventoryEngine.overlay(List.of(InventoryResponse.from(inventory))).get(0);
     }
 
     @Override
     public List<InventoryResponse> getInventories(List<Long> productIds) {
-        return inventoryRepository.findByProductIds(productIds).stream()
+        return redisInventoryEngine.overlay(inventoryRepository.findByProductIds(productIds).stream()
                 .map(InventoryResponse::from)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
@@ -83,6 +83,11 @@ public class InventoryServiceImpl implements InventoryService {
     @Override
     @Transactional
     public InventoryResponse reserveStock(Long productId, int quantity, String referenceType, String referenceId, String userId) {
+        if (redisInventoryEngine.isRedisManaged(productId)) {
+            return applyInRedis(MovementType.RESERVE, Map.of(productId, quantity),
+                    referenceType, referenceId, "Stock reserved for order", userId).get(0);
+        }
+
         Inventory inventory = inventoryRepository.findByProductIdWithLock(productId)
                 .orElseThrow(() -> new CustomBusinessException(ShoppingErrorCode.INVENTORY_NOT_FOUND));
 
@@ -109,6 +114,15 @@ public class InventoryServiceImpl implements InventoryService {
     public List<InventoryResponse> reserveStockBatch(Map<Long, Integer> quantities, String referenceType, String referenceId, String userId) {
         // 데드락 방지: 상품 ID 순서로 정렬
         Map<Long, Integer> sortedQuantities = new TreeMap<>(quantities);
+
+        // Redis 엔진 관리 상품은 행 락 없이 먼저 처리 (트랜잭션 롤백 시 보상)
+        List<InventoryResponse> responses = new ArrayList<>(applyInRedis(MovementType.RESERVE,
+                redisInventoryEngine.extractRedisManaged(sortedQuantities),
+                referenceType, referenceId, "Stock reserved for order (batch)", userId));
+        if (sortedQuantities.isEmpty()) {
+            return responses;
+        }
+
         List<Long> productIds = new ArrayList<>(sortedQuantities.keySet());
 
         // 정렬된 순서로 락 획득
@@ -118,8 +132,6 @@ public class InventoryServiceImpl implements InventoryService {
             throw new CustomBusinessException(ShoppingErrorCode.INVENTORY_NOT_FOUND);
         }
 
-        List<InventoryResponse> responses = new ArrayList<>();
-
         for (Inventory inventory : inventories) {
             int quantity = sortedQuantities.get(inventory.getProductId());
             int previousAvailable = inventory.getAvailableQuantity();
@@ -148,6 +160,11 @@ public class InventoryServiceImpl implements InventoryService {
     @Override
     @Transactional
     public InventoryResponse deductStock(Long productId, int quantity, String referenceType, String referenceId, String userId) {
+        if (redisInventoryEngine.isRedisManaged(productId)) {
+            return applyInRedis(MovementType.DEDUCT, Map.of(productId, quantity),
+                    referenceType, referenceId, "Stock deducted after payment", userId).get(0);
+        }
+
         Inventory inventory = inventoryRepository.findByProductIdWithLock(productId)
                 .orElseThrow(() -> new CustomBusinessException(ShoppingErrorCode.INVENTORY_NOT_FOUND));
 
@@ -173,6 +190,15 @@ public class InventoryServiceImpl implements InventoryService {
     @Transactional
     public List<InventoryResponse> deductStockBatch(Map<Long, Integer> quantities, String referenceType, String referenceId, String userId) {
         Map<Long, Integer> sortedQuantities = new TreeMap<>(quantities);
+
+        // Redis 엔진 관리 상품은 행 락 없이 먼저 처리 (트랜잭션 롤백 시 보상)
+        List<InventoryResponse> responses = new ArrayList<>(applyInRedis(MovementType.DEDUCT,
+                redisInventoryEngine.extractRedisManaged(sortedQuantities),
+                referenceType, referenceId, "Stock deducted after payment (batch)", userId));
+        if (sortedQuantities.isEmpty()) {
+            return responses;
+        }
+
         List<Long> productIds = new ArrayList<>(sortedQuantities.keySet());
 
         List<Inventory> inventories = inventoryRepository.findByProductIdsWithLock(productIds);
@@ -181,8 +207,6 @@ public class InventoryServiceImpl implements InventoryService {
             throw new CustomBusinessException(ShoppingErrorCode.INVENTORY_NOT_FOUND);
         }
 
-        List<InventoryResponse> responses = new ArrayList<>();
-
         for (Inventory inventory : inventories) {
             int quantity = sortedQuantities.get(inventory.getProductId());
             int previousAvailable = inventory.getAvailableQuantity();
@@ -210,6 +234,11 @@ public class InventoryServiceImpl implements InventoryService {
     @Override
     @Transactional
     public InventoryResponse releaseStock(Long productId, int quantity, String referenceType, String referenceId, String userId) {
+        if (redisInventoryEngine.isRedisManaged(productId)) {
+            return applyInRedis(MovementType.RELEASE, Map.of(productId, quantity),
+                    referenceType, referenceId, "Stock released due to cancellation", userId).get(0);
+        }
+
         Inventory inventory = inventoryRepository.findByProductIdWithLock(productId)
                 .orElseThrow(() -> new CustomBusinessException(ShoppingErrorCode.INVENTORY_NOT_FOUND));
 
@@ -235,6 +264,15 @@ public class InventoryServiceImpl implements InventoryService {
     @Transactional
     public List<InventoryResponse> releaseStockBatch(Map<Long, Integer> quantities, String referenceType, String referenceId, String userId) {
         Map<Long, Integer> sortedQuantities = new TreeMap<>(quantities);
+
+        // Redis 엔진 관리 상품은 행 락 없이 먼저 처리 (트랜잭션 롤백 시 보상)
+        List<InventoryResponse> responses = new ArrayList<>(applyInRedis(MovementType.RELEASE,
+                redisInventoryEngine.extractRedisManaged(sortedQuantities),
+                referenceType, referenceId, "Stock released due to cancellation (batch)", userId));
+        if (sortedQuantities.isEmpty()) {
+            return responses;
+        }
+
         List<Long> productIds = new ArrayList<>(sortedQuantities.keySet());
 
         List<Inventory> inventories = inventoryRepository.findByProductIdsWithLock(productIds);
@@ -243,8 +281,6 @@ public class InventoryServiceImpl implements InventoryService {
             throw new CustomBusinessException(ShoppingErrorCode.INVENTORY_NOT_FOUND);
         }
 
-        List<InventoryResponse> responses = new ArrayList<>();
-
         for (Inventory inventory : inventories) {
             int quantity = sortedQuantities.get(inventory.getProductId());
             int previousAvailable = inventory.getAvailableQuantity();
@@ -272,6 +308,11 @@ public class InventoryServiceImpl implements InventoryService {
     @Override
     @Transactional
     public InventoryResponse addStock(Long productId, int quantity, String reason, String userId) {
+        if (redisInventoryEngine.isRedisManaged(productId)) {
+            return applyInRedis(MovementType.INBOUND, Map.of(productId, quantity),
+                    "ADMIN", userId, reason, userId).get(0);
+        }
+
         Inventory inventory = inventoryRepository.findByProductIdWithLock(productId)
                 .orElseThrow(() -> new CustomBusinessException(ShoppingErrorCode.INVENTORY_NOT_FOUND));
 
@@ -301,6 +342,8 @@ public class InventoryServiceImpl implements InventoryService {
 
     /**
      * 재고 이동 이력을 기록합니다.
+     * 트랜잭션 내 이력은 {@link StockMovementJournal}이 모아 커밋 직전에 배치로 저장합니다.
+     * DB 재고 변경은 모두 이 메서드를 거치므로 검색 색인 outbox도 여기서 기록합니다.
      */
     private void recordMovement(Inventory inventory, MovementType movementType, int quantity,
                                 int previousAvailable, int afterAvailable,
@@ -321,28 +364,41 @@ public class InventoryServiceImpl implements InventoryService {
                 .performedBy(performedBy)
                 .build();
 
-        stockMovementRepository.save(movement);
+        stockMovementJournal.record(movement);
+        productIndexOutboxRecorder.recordStock(inventory.getProductId());
     }
 
     /**
-     * 재고 변동을 Redis Pub/Sub으로 발행합니다.
+     * Redis 엔진으로 재고를 변경하고 변경 결과를 발행합니다.
+     * 이동 이력과 inventory 행은 write-behind 워커가 DB에 반영합니다.
      */
-    private void publishInventoryUpdate(Inventory inventory) {
-        InventoryUpdate update = InventoryUpdate.builder()
-                .productId(inventory.getProductId())
-                .available(inventory.getAvailableQuantity())
-                .reserved(inventory.getReservedQuantity())
-                .timestamp(LocalDateTime.now())
-                .build();
+    private List<InventoryResponse> applyInRedis(MovementType movementType, Map<Long, Integer> quantities,
+                                                 String referenceType, String referenceId,
+                                                 String reason, String userId) {
+        List<InventoryStockSnapshot> snapshots = redisInventoryEngine.apply(
+                movementType, quantities, referenceType, referenceId, reason, userId);
 
-        String channel = "inventory:" + inventory.getProductId();
-        try {
-            String jsonPayload = objectMapper.writeValueAsString(update);
-            redisTemplate.convertAndSend(channel, jsonPayload);
-            log.debug("Published inventory update for product {}: available={}, reserved={}",
-                    inventory.getProductId(), update.getAvailable(), update.getReserved());
-        } catch (JsonProcessingException e) {
-            log.error("Failed to publish inventory update for product {}", inventory.getProductId(), e);
+        snapshots.forEach(snapshot -> publishInventoryUpdate(
+                snapshot.productId(), snapshot.availableQuantity(), snapshot.reservedQuantity()));
+
+        if (!snapshots.isEmpty()) {
+            log.info("{} {} products in Redis engine (ref: {})", movementType, snapshots.size(), referenceId);
         }
+        return snapshots.stream()
+                .map(InventoryResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 재고 변동을 발행합니다.
+     * {@link InventoryUpdatePublisher}가 상품별로 모아 샤드 채널에 배치로 Redis Pub/Sub 발행합니다.
+     */
+    private void publishInventoryUpdate(Inventory inventory) {
+        publishInventoryUpdate(inventory.getProductId(),
+                inventory.getAvailableQuantity(), inventory.getReservedQuantity());
+    }
+
+    private void publishInventoryUpdate(Long productId, int available, int reserved) {
+        inventoryUpdatePublisher.publish(productId, available, reserved);
     }
 }
@@ -0,0 +1,300 @@
+package com.portal.universe.shoppingservice.inventory.service;
+
+import com.portal.universe.commonlibrary.exception.CustomBusinessException;
+import com.portal.universe.shoppingservice.common.exception.ShoppingErrorCode;
+import com.portal.universe.shoppingservice.inventory.config.InventoryReservationProperties;
+import com.portal.universe.shoppingservice.inventory.domain.Inventory;
+import com.portal.universe.shoppingservice.inventory.domain.MovementType;
+import com.portal.universe.shoppingservice.inventory.dto.InventoryResponse;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryRedisService;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryRedisService.MutationResult;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryStockSnapshot;
+import com.portal.universe.shoppingservice.inventory.repository.InventoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 기반 재고 예약 엔진입니다.
+ *
+ * 가용/예약 재고를 Redis Hash로 관리하고 Lua 스크립트로 여러 상품을 원자적으로 변경하여
+ * 핫 SKU에 대한 inventory 행 락 경합을 제거합니다. 변경 이력은 journal에 적재되며
+ * {@link com.portal.universe.shoppingservice.inventory.scheduler.InventoryWriteBehindWorker}가 DB에 배치 반영합니다.
+ *
+ * 호출자의 트랜잭션이 롤백되면 Redis 변경분을 역방향 조정(ADJUSTMENT)으로 보상합니다.
+ * 보상에 실패하면(예: 롤백된 입고분이 이미 예약되어 가용 재고가 부족) 재시도 큐에 넣고
+ * {@link #retryCompensations()}가 주기적으로 다시 시도합니다. 재시도 큐는 인스턴스 메모리에 있으므로
+ * 장애 시 유실될 수 있으며, 실패/포기 건수는 메트릭으로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class RedisInventoryEngine {
+
+    private final InventoryReservationProperties reservationProperties;
+    private final InventoryRedisService inventoryRedisService;
+    private final InventoryRepository inventoryRepository;
+    private final Queue<PendingCompensation> pendingCompensations = new ConcurrentLinkedQueue<>();
+    private final Counter compensationFailedCounter;
+    private final Counter compensationAbandonedCounter;
+
+    public RedisInventoryEngine(InventoryReservationProperties reservationProperties,
+                                InventoryRedisService inventoryRedisService,
+                                InventoryRepository inventoryRepository,
+                                MeterRegistry meterRegistry) {
+        this.reservationProperties = reservationProperties;
+        this.inventoryRedisService = inventoryRedisService;
+        this.inventoryRepository = inventoryRepository;
+        this.compensationFailedCounter = Counter.builder("inventory.compensation.failed")
+                .description("롤백 보상이 실패해 재시도 큐에 들어간 건수")
+                .register(meterRegistry);
+        this.compensationAbandonedCounter = Counter.builder("inventory.compensation.abandoned")
+                .description("최대 재시도 횟수를 넘겨 보상을 포기한 건수")
+                .register(meterRegistry);
+        Gauge.builder("inventory.compensation.pending", pendingCompensations, Queue::size)
+                .description("재시도 대기 중인 롤백 보상 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상품이 Redis 엔진 관리 대상인지 확인합니다.
+     */
+    public boolean isRedisManaged(Long productId) {
+        return reservationProperties.isRedisManaged(productId);
+    }
+
+    /**
+     * 수량 맵에서 Redis 엔진 관리 대상 상품을 분리합니다.
+     * 분리된 상품은 원본 맵에서 제거됩니다.
+     *
+     * @param quantities 상품 ID → 수량 맵 (변경됨)
+     * @return Redis 엔진 관리 대상 상품 ID → 수량 맵 (상품 ID 순 정렬)
+     */
+    public Map<Long, Integer> extractRedisManaged(Map<Long, Integer> quantities) {
+        Map<Long, Integer> redisManaged = new TreeMap<>();
+        Iterator<Map.Entry<Long, Integer>> iterator = quantities.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Integer> entry = iterator.next();
+            if (isRedisManaged(entry.getKey())) {
+                redisManaged.put(entry.getKey(), entry.getValue());
+                iterator.remove();
+            }
+        }
+        return redisManaged;
+    }
+
+    /**
+     * Redis에서 재고를 원자적으로 변경합니다.
+     * 재고가 아직 Redis에 적재되지 않았다면 DB에서 적재한 뒤 한 번 재시도합니다.
+     *
+     * @param movementType RESERVE, DEDUCT, RELEASE, INBOUND 중 하나
+     * @param quantities 상품 ID → 수량 맵
+     * @return 변경 후 재고 (상품 ID 순)
+     */
+    public List<InventoryStockSnapshot> apply(MovementType movementType, Map<Long, Integer> quantities,
+                                              String referenceType, String referenceId,
+                                              String reason, String performedBy) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, int[]> deltas = new TreeMap<>();
+        quantities.forEach((productId, quantity) -> deltas.put(productId, toDelta(movementType, quantity)));
+
+        MutationResult result = inventoryRedisService.mutate(
+                movementType, deltas, referenceType, referenceId, reason, performedBy);
+
+        if (result.code() == InventoryRedisService.RESULT_NOT_LOADED) {
+            loadFromDatabase(deltas.keySet());
+            result = inventoryRedisService.mutate(
+                    movementType, deltas, referenceType, referenceId, reason, performedBy);
+        }
+
+        if (!result.isSuccess()) {
+            throw new CustomBusinessException(resolveErrorCode(movementType, result.code()));
+        }
+
+        registerCompensation(movementType, deltas, referenceType, referenceId, performedBy);
+        return result.snapshots();
+    }
+
+    /**
+     * DB에서 조회한 재고 응답을 Redis의 최신 값으로 덮어씁니다.
+     * write-behind 반영 전에도 Redis 엔진 상품의 조회 결과가 정확하도록 합니다.
+     */
+    public List<InventoryResponse> overlay(List<InventoryResponse> responses) {
+        List<Long> redisManagedIds = responses.stream()
+                .map(InventoryResponse::productId)
+                .filter(this::isRedisManaged)
+                .toList();
+        if (redisManagedIds.isEmpty()) {
+            return responses;
+        }
+
+        Map<Long, InventoryStockSnapshot> snapshots = inventoryRedisService.getStocks(redisManagedIds).stream()
+                .collect(Collectors.toMap(InventoryStockSnapshot::productId, Function.identity()));
+
+        return responses.stream()
+                .map(response -> {
+                    InventoryStockSnapshot snapshot = snapshots.get(response.productId());
+                    return snapshot != null ? response.withStock(snapshot) : response;
+                })
+                .toList();
+    }
+
+    /**
+     * 실패한 롤백 보상을 다시 시도합니다.
+     * 이번 주기에 큐에 있던 보상만 처리하며, 다시 실패하면 최대 재시도 횟수까지 큐에 되돌립니다.
+     */
+    @Scheduled(fixedDelayString = "${shopping.inventory.reservation.compensation-retry-interval-ms:5000}")
+    public void retryCompensations() {
+        int count = pendingCompensations.size();
+        for (int i = 0; i < count; i++) {
+            PendingCompensation pending = pendingCompensations.poll();
+            if (pending == null) {
+                return;
+            }
+            compensate(pending);
+        }
+    }
+
+    int getPendingCompensationCount() {
+        return pendingCompensations.size();
+    }
+
+    private void loadFromDatabase(Iterable<Long> productIds) {
+        List<Long> ids = new ArrayList<>();
+        productIds.forEach(ids::add);
+
+        List<Inventory> inventories = inventoryRepository.findByProductIds(ids);
+        if (inventories.size() != ids.size()) {
+            throw new CustomBusinessException(ShoppingErrorCode.INVENTORY_NOT_FOUND);
+        }
+        inventories.forEach(inventoryRedisService::loadStock);
+    }
+
+    /**
+     * 트랜잭션 롤백 시 Redis 변경분을 되돌리도록 등록합니다.
+     */
+    private void registerCompensation(MovementType movementType, Map<Long, int[]> deltas,
+                                      String referenceType, String referenceId, String performedBy) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        Map<Long, int[]> inverse = new LinkedHashMap<>();
+        deltas.forEach((productId, delta) -> inverse.put(productId, new int[]{delta[0], -delta[1], -delta[2]}));
+
+        PendingCompensation compensation = new PendingCompensation(
+                movementType, inverse, referenceType, referenceId, performedBy, 1);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    compensate(compensation);
+                }
+            }
+        });
+    }
+
+    /**
+     * 역방향 조정을 적용하고, 실패하면 재시도 큐에 넣습니다.
+     * 가용 재고 부족으로 거절된 경우 Lua 스크립트가 아무것도 변경하지 않으므로 재시도해도 중복 적용되지 않습니다.
+     */
+    private void compensate(PendingCompensation compensation) {
+        String failure;
+        try {
+            MutationResult result = inventoryRedisService.mutate(
+                    MovementType.ADJUSTMENT, compensation.inverse(), compensation.referenceType(),
+                    compensation.referenceId(), "Compensation for rolled back " + compensation.movementType(),
+                    compensation.performedBy());
+            if (result.isSuccess()) {
+                log.info("Compensated Redis inventory {} (ref: {}, attempt: {})",
+                        compensation.movementType(), compensation.referenceId(), compensation.attempt());
+                return;
+            }
+            failure = "productId: " + result.failedProductId() + ", code: " + result.code();
+        } catch (RuntimeException e) {
+            failure = e.toString();
+        }
+
+        compensationFailedCounter.increment();
+        if (compensation.attempt() >= reservationProperties.getCompensationMaxAttempts()) {
+            compensationAbandonedCounter.increment();
+            log.error("Giving up Redis inventory compensation {} after {} attempts (ref: {}, {}, inverse: {})",
+                    compensation.movementType(), compensation.attempt(), compensation.referenceId(), failure,
+                    describe(compensation.inverse()));
+            return;
+        }
+        log.warn("Failed to compensate Redis inventory {} (ref: {}, attempt: {}, {}), will retry",
+                compensation.movementType(), compensation.referenceId(), compensation.attempt(), failure);
+        pendingCompensations.offer(compensation.nextAttempt());
+    }
+
+    private String describe(Map<Long, int[]> deltas) {
+        return deltas.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + Arrays.toString(entry.getValue()))
+                .collect(Collectors.joining(", ", "{", "}"));
+    }
+
+    /**
+     * 이동 유형별 {이동 수량, 가용 재고 증감, 예약 재고 증감}을 계산합니다.
+     * 전체 재고는 항상 가용 + 예약으로 유지됩니다.
+     */
+    private int[] toDelta(MovementType movementType, int quantity) {
+        if (quantity <= 0) {
+            throw new CustomBusinessException(ShoppingErrorCode.INVALID_STOCK_QUANTITY);
+        }
+        return switch (movementType) {
+            case RESERVE -> new int[]{quantity, -quantity, quantity};
+            case DEDUCT -> new int[]{quantity, 0, -quantity};
+            case RELEASE -> new int[]{quantity, quantity, -quantity};
+            case INBOUND -> new int[]{quantity, quantity, 0};
+            default -> throw new IllegalArgumentException("Unsupported movement type for Redis engine: " + movementType);
+        };
+    }
+
+    /**
+     * 재시도 대기 중인 롤백 보상입니다.
+     *
+     * @param inverse 상품 ID → {이동 수량, 가용 재고 증감, 예약 재고 증감}의 역방향 값
+     * @param attempt 이번 시도가 몇 번째인지 (1부터 시작)
+     */
+    private record PendingCompensation(MovementType movementType, Map<Long, int[]> inverse,
+                                       String referenceType, String referenceId, String performedBy,
+                                       int attempt) {
+
+        private PendingCompensation nextAttempt() {
+            return new PendingCompensation(movementType, inverse, referenceType, referenceId, performedBy,
+                    attempt + 1);
+        }
+    }
+
+    private ShoppingErrorCode resolveErrorCode(MovementType movementType, int code) {
+        if (code != InventoryRedisService.RESULT_INSUFFICIENT) {
+            return ShoppingErrorCode.INVENTORY_NOT_FOUND;
+        }
+        return switch (movementType) {
+            case RESERVE -> ShoppingErrorCode.INSUFFICIENT_STOCK;
+            case DEDUCT -> ShoppingErrorCode.STOCK_DEDUCTION_FAILED;
+            case RELEASE -> ShoppingErrorCode.STOCK_RELEASE_FAILED;
+            default -> ShoppingErrorCode.STOCK_UPDATE_FAILED;
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.portal.universe.shoppingservice.inventory.service;
+
+import com.portal.universe.commonlibrary.journal.TransactionalBatchJournal;
+import com.portal.universe.shoppingservice.inventory.config.StockMovementJournalProperties;
+import com.portal.universe.shoppingservice.inventory.domain.StockMovement;
+import com.portal.universe.shoppingservice.inventory.repository.StockMovementRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 재고 이동 이력을 트랜잭션 단위로 모아 배치로 기록하는 컴포넌트입니다.
+ * 기록 방식은 {@link TransactionalBatchJournal}을 참고하세요.
+ */
+@Component
+public class StockMovementJournal extends TransactionalBatchJournal<StockMovement> {
+
+    public StockMovementJournal(StockMovementRepository stockMovementRepository,
+                                StockMovementJournalProperties properties,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        super(stockMovementRepository::saveAll, properties, transactionManager, meterRegistry,
+                "inventory.movement_journal");
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${shopping.inventory.movement-journal.drain-interval-ms:200}")
+    public void drain() {
+        super.drain();
+    }
+}
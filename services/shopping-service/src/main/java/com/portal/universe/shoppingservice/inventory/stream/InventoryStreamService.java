@@ -1,50 +1,77 @@
 package com.portal.universe.shoppingservice.inventory.stream;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.universe.shoppingservice.inventory.config.InventoryStreamProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Sinks;
 
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 재고 변경을 SSE 구독자에게 전달하는 서비스입니다.
+ *
+ * <p>인스턴스당 하나의 패턴 구독(inventory:updates:*)으로 모든 샤드 배치를 받아
+ * 로컬 구독자가 있는 상품에만 전달합니다. 상품 sink는 버퍼 없이 전달하고,
+ * 클라이언트별로 크기가 제한된 버퍼를 두어 느린 클라이언트는 오래된 이벤트부터 버립니다.</p>
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class InventoryStreamService {
 
     private final RedisMessageListenerContainer redisMessageListenerContainer;
     private final ObjectMapper objectMapper;
+    private final InventoryStreamProperties properties;
+    private final Counter droppedCounter;
 
     private final Map<Long, Sinks.Many<InventoryUpdate>> productSinks = new ConcurrentHashMap<>();
-    private final Map<Long, MessageListener> productListeners = new ConcurrentHashMap<>();
     private final Map<Long, AtomicInteger> subscriberCounts = new ConcurrentHashMap<>();
+    private final AtomicBoolean listenerRegistered = new AtomicBoolean(false);
+    private final MessageListener batchListener = this::onBatchMessage;
+
+    public InventoryStreamService(RedisMessageListenerContainer redisMessageListenerContainer,
+                                  ObjectMapper objectMapper,
+                                  InventoryStreamProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.droppedCounter = Counter.builder("inventory.stream.dropped")
+                .description("클라이언트 버퍼 초과로 버려진 재고 SSE 이벤트 수")
+                .register(meterRegistry);
+    }
 
     public Flux<InventoryUpdate> subscribe(List<Long> productIds) {
+        registerBatchListener();
+
         return Flux.merge(
-                productIds.stream()
-                        .map(this::subscribeToProduct)
-                        .toList()
-        );
+                        productIds.stream()
+                                .distinct()
+                                .map(this::subscribeToProduct)
+                                .toList()
+                )
+                .onBackpressureBuffer(properties.getClientBufferSize(),
+                        dropped -> droppedCounter.increment(),
+                        BufferOverflowStrategy.DROP_OLDEST);
     }
 
     private Flux<InventoryUpdate> subscribeToProduct(Long productId) {
         Sinks.Many<InventoryUpdate> sink = productSinks.computeIfAbsent(
                 productId,
-                id -> {
-                    Sinks.Many<InventoryUpdate> newSink = Sinks.many().multicast().onBackpressureBuffer();
-                    registerRedisListener(id, newSink);
-                    return newSink;
-                }
+                id -> Sinks.many().multicast().directBestEffort()
         );
 
         subscriberCounts.computeIfAbsent(productId, id -> new AtomicInteger(0)).incrementAndGet();
@@ -53,22 +80,22 @@ public class InventoryStreamService {
                 .doOnCancel(() -> handleClientDisconnect(productId));
     }
 
-    private void registerRedisListener(Long productId, Sinks.Many<InventoryUpdate> sink) {
-        String channel = "inventory:" + productId;
-
-        MessageListener listener = (Message message, byte[] pattern) -> {
-            try {
-                String body = new String(message.getBody());
-                InventoryUpdate update = objectMapper.readValue(body, InventoryUpdate.class);
-                sink.tryEmitNext(update);
-            } catch (Exception e) {
-                log.error("Failed to parse inventory update message for product {}", productId, e);
-            }
-        };
+    private void registerBatchListener() {
+        if (listenerRegistered.compareAndSet(false, true)) {
+            redisMessageListenerContainer.addMessageListener(batchListener,
+                    new PatternTopic(InventoryUpdatePublisher.CHANNEL_PATTERN));
+            log.debug("Registered Redis listener for inventory channel pattern: {}",
+                    InventoryUpdatePublisher.CHANNEL_PATTERN);
+        }
+    }
 
-        productListeners.put(productId, listener);
-        redisMessageListenerContainer.addMessageListener(listener, new ChannelTopic(channel));
-        log.debug("Registered Redis listener for inventory channel: {}", channel);
+    private void onBatchMessage(Message message, byte[] pattern) {
+        try {
+            InventoryUpdateBatch batch = objectMapper.readValue(message.getBody(), InventoryUpdateBatch.class);
+            batch.getUpdates().forEach(this::publishInventoryUpdate);
+        } catch (Exception e) {
+            log.error("Failed to parse inventory update batch from channel {}", new String(message.getChannel()), e);
+        }
     }
 
     private void handleClientDisconnect(Long productId) {
@@ -86,25 +113,26 @@ public class InventoryStreamService {
         if (sink != null) {
             sink.tryEmitComplete();
         }
-
-        MessageListener listener = productListeners.remove(productId);
-        if (listener != null) {
-            String channel = "inventory:" + productId;
-            redisMessageListenerContainer.removeMessageListener(listener, new ChannelTopic(channel));
-            log.debug("Removed Redis listener for inventory channel: {}", channel);
-        }
     }
 
     @PreDestroy
     public void shutdown() {
-        log.info("Shutting down InventoryStreamService: cleaning up {} sinks and listeners", productSinks.size());
+        log.info("Shutting down InventoryStreamService: cleaning up {} sinks", productSinks.size());
         productSinks.keySet().forEach(this::cleanupProduct);
+
+        if (listenerRegistered.compareAndSet(true, false)) {
+            redisMessageListenerContainer.removeMessageListener(batchListener,
+                    new PatternTopic(InventoryUpdatePublisher.CHANNEL_PATTERN));
+        }
     }
 
     public void publishInventoryUpdate(InventoryUpdate update) {
         Sinks.Many<InventoryUpdate> sink = productSinks.get(update.getProductId());
         if (sink != null) {
-            sink.tryEmitNext(update);
+            // 샤드 메시지는 리스너 컨테이너의 여러 스레드에서 동시에 전달될 수 있음
+            synchronized (sink) {
+                sink.tryEmitNext(update);
+            }
         }
     }
 }
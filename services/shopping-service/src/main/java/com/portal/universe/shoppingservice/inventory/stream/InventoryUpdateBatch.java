@@ -0,0 +1,17 @@
+package com.portal.universe.shoppingservice.inventory.stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 하나의 샤드 채널로 발행되는 재고 변경 묶음입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryUpdateBatch {
+    private List<InventoryUpdate> updates;
+}
@@ -0,0 +1,135 @@
+package com.portal.universe.shoppingservice.inventory.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.universe.shoppingservice.inventory.config.InventoryStreamProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 변경을 상품별로 모아 샤드 채널에 배치로 발행하는 컴포넌트입니다.
+ *
+ * <p>구간(coalesce window) 동안 같은 상품의 변경은 마지막 값만 남기고,
+ * 구간이 끝나면 상품 ID로 샤드를 나눠 샤드당 한 번씩 {@link InventoryUpdateBatch}를 발행합니다.
+ * DB 작업 위주의 @Scheduled 스레드에 밀리지 않도록 전용 스케줄러 스레드를 사용합니다.</p>
+ */
+@Slf4j
+@Component
+public class InventoryUpdatePublisher {
+
+    public static final String CHANNEL_PREFIX = "inventory:updates:";
+    public static final String CHANNEL_PATTERN = CHANNEL_PREFIX + "*";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final InventoryStreamProperties properties;
+    private final Map<Long, InventoryUpdate> pending = new ConcurrentHashMap<>();
+    private final Counter coalescedCounter;
+    private final Counter publishedCounter;
+    private ScheduledExecutorService scheduler;
+
+    public InventoryUpdatePublisher(StringRedisTemplate stringRedisTemplate,
+                                    ObjectMapper objectMapper,
+                                    InventoryStreamProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.coalescedCounter = Counter.builder("inventory.stream.coalesced")
+                .description("같은 구간의 이후 변경으로 대체되어 발행되지 않은 재고 변경 수")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("inventory.stream.published")
+                .description("샤드 채널로 발행된 재고 변경 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "inventory-update-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long window = properties.getCoalesceWindowMs();
+        scheduler.scheduleWithFixedDelay(this::flushSafely, window, window, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+        flushSafely();
+    }
+
+    /**
+     * 재고 변경을 발행 대기열에 넣습니다. 같은 상품의 대기 중인 변경은 대체됩니다.
+     */
+    public void publish(Long productId, int available, int reserved) {
+        InventoryUpdate update = InventoryUpdate.builder()
+                .productId(productId)
+                .available(available)
+                .reserved(reserved)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        if (pending.put(productId, update) != null) {
+            coalescedCounter.increment();
+        }
+    }
+
+    /**
+     * 대기 중인 변경을 샤드별 배치로 발행합니다.
+     */
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        int shardCount = properties.getShardCount();
+        Map<Integer, List<InventoryUpdate>> updatesByShard = new HashMap<>();
+        for (Long productId : pending.keySet()) {
+            // 제거 이후 들어온 변경은 다음 구간에 발행됨
+            InventoryUpdate update = pending.remove(productId);
+            if (update != null) {
+                updatesByShard.computeIfAbsent(shardOf(productId, shardCount), shard -> new ArrayList<>())
+                        .add(update);
+            }
+        }
+
+        updatesByShard.forEach((shard, updates) -> {
+            try {
+                String payload = objectMapper.writeValueAsString(new InventoryUpdateBatch(updates));
+                stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + shard, payload);
+                publishedCounter.increment(updates.size());
+            } catch (JsonProcessingException e) {
+                log.error("Failed to serialize inventory update batch for shard {}", shard, e);
+            }
+        });
+    }
+
+    static int shardOf(Long productId, int shardCount) {
+        return Math.floorMod(Long.hashCode(productId), shardCount);
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Failed to publish inventory updates", e);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.portal.universe.shoppingservice.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portal.universe.shoppingservice.product.config.ProductCatalogCacheProperties;
+import com.portal.universe.shoppingservice.product.dto.ProductResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 상세와 목록 페이지의 2단계 read-through 캐시입니다.
+ *
+ * <p>L1은 인스턴스 메모리(Caffeine, 크기 제한), L2는 Redis입니다. L1에 없으면 Caffeine이 키별로 한 번만 로더를 실행하고
+ * 같은 키의 다른 요청은 그 결과를 기다리므로(single-flight), 인기 상품의 캐시가 만료돼도 인스턴스당 L2 조회/DB 조회는 한 번입니다.
+ * L2 TTL에는 지터를 더해 여러 키가 한꺼번에 만료되지 않게 합니다.</p>
+ *
+ * <p>상품이 바뀌면 상세 L2 키를 지우고 카탈로그 버전을 올린 뒤 {@link #INVALIDATION_CHANNEL}로 알려 모든 인스턴스가 L1을 비웁니다.
+ * 목록 키에는 버전이 들어 있어 이전 페이지는 조회되지 않고 TTL로 만료됩니다. 알림 유실은 버전 주기 갱신과 L1 TTL로 보정합니다.</p>
+ *
+ * <p>상세 키에는 버전이 없으므로, 커밋 전 값을 읽은 요청이 무효화 뒤에 L1/L2를 다시 채울 수 있습니다.
+ * 그래서 무효화 후 {@code secondDeleteDelayMs} 뒤에 같은 상세를 한 번 더 지우고 알립니다.</p>
+ *
+ * <p>주문마다 일어나는 재고 변경은 바로 지우지 않고 {@code stockInvalidationWindowMs} 동안 상품별로 모았다가 한 번에 무효화합니다.
+ * 주문이 몰리는 인기 상품도 창마다 삭제/알림이 한 번뿐이라 그 사이에는 L1/L2에서 읽히고, 상세의 재고는 최대 창 길이만큼 늦게 반영됩니다.</p>
+ */
+@Slf4j
+@Component
+public class ProductCatalogCache {
+
+    public static final String INVALIDATION_CHANNEL = "product:catalog:invalidate";
+    static final String VERSION_KEY = "product:catalog:version";
+    static final String DETAIL_KEY_PREFIX = "product:detail:";
+    static final String PAGE_KEY_PREFIX = "product:page:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ProductCatalogCacheProperties properties;
+    private final Cache<String, Object> local;
+    private final Counter localHitCounter;
+    private final Counter remoteHitCounter;
+    private final Counter missCounter;
+    private final Set<Long> pendingStockIds = ConcurrentHashMap.newKeySet();
+
+    private volatile long version;
+    private ScheduledExecutorService invalidationScheduler;
+
+    /**
+     * Redis에 저장하는 목록 페이지 (PageImpl은 역직렬화할 수 없으므로 내용과 전체 건수만 보관)
+     */
+    record CachedPage(List<ProductResponse> content, long totalElements) {
+    }
+
+    public ProductCatalogCache(StringRedisTemplate stringRedisTemplate,
+                               ObjectMapper objectMapper,
+                               RedisMessageListenerContainer redisMessageListenerContainer,
+                               ProductCatalogCacheProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.properties = properties;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getLocalTtlMs()))
+                .build();
+        this.localHitCounter = Counter.builder("product.catalog_cache.lookups")
+                .description("상품 카탈로그 캐시 조회 수")
+                .tag("result", "local_hit")
+                .register(meterRegistry);
+        this.remoteHitCounter = Counter.builder("product.catalog_cache.lookups")
+                .description("상품 카탈로그 캐시 조회 수")
+                .tag("result", "redis_hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("product.catalog_cache.lookups")
+                .description("상품 카탈로그 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+        invalidationScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-catalog-invalidation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long window = properties.getStockInvalidationWindowMs();
+        invalidationScheduler.scheduleWithFixedDelay(this::flushStockInvalidations, window, window,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (invalidationScheduler != null) {
+            invalidationScheduler.shutdownNow();
+            flushStockInvalidations();
+        }
+    }
+
+    /**
+     * 상품 상세를 캐시에서 읽고, 없으면 loader로 읽어 채웁니다. loader의 예외(상품 없음 등)는 캐싱하지 않고 그대로 던집니다.
+     */
+    public ProductResponse getDetail(Long productId, Supplier<ProductResponse> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        return (ProductResponse) lookup(DETAIL_KEY_PREFIX + productId, ProductResponse.class,
+                loader::get, properties.getDetailTtlMs());
+    }
+
+    /**
+     * 목록 페이지를 캐시에서 읽고, 없으면 loader로 읽어 채웁니다. 캐시에 있으면 count 쿼리도 실행하지 않습니다.
+     *
+     * @param category 카테고리 (전체 목록이면 null)
+     */
+    public Page<ProductResponse> getPage(String category, Pageable pageable, Supplier<Page<ProductResponse>> loader) {
+        if (!properties.isEnabled() || pageable.isUnpaged() || pageable.getPageNumber() > properties.getMaxCachedPage()) {
+            return loader.get();
+        }
+        CachedPage cached = (CachedPage) lookup(pageKey(category, pageable), CachedPage.class, () -> {
+            Page<ProductResponse> page = loader.get();
+            return new CachedPage(page.getContent(), page.getTotalElements());
+        }, properties.getPageTtlMs());
+        return new PageImpl<>(cached.content(), pageable, cached.totalElements());
+    }
+
+    /**
+     * 상품 정보가 바뀐 상품의 상세와 모든 목록 페이지를 무효화합니다.
+     */
+    public void invalidate(Collection<Long> productIds) {
+        invalidate(productIds, true);
+    }
+
+    /**
+     * 리뷰 집계처럼 상세에만 보이는 값이 바뀐 상품의 상세만 무효화합니다.
+     */
+    public void invalidateDetails(Collection<Long> productIds) {
+        invalidate(productIds, false);
+    }
+
+    /**
+     * 재고만 바뀐 상품의 상세를 무효화 대상으로 모읍니다. 실제 삭제와 알림은 다음 무효화 창에서 상품별로 한 번만 합니다.
+     */
+    public void invalidateStock(Collection<Long> productIds) {
+        if (!properties.isEnabled() || productIds.isEmpty()) {
+            return;
+        }
+        if (invalidationScheduler == null) {
+            invalidate(productIds, false);
+            return;
+        }
+        pendingStockIds.addAll(productIds);
+    }
+
+    /**
+     * Redis의 카탈로그 버전을 다시 읽습니다. 무효화 알림을 놓친 인스턴스도 이 주기 안에 새 목록 키를 씁니다.
+     */
+    @Scheduled(fixedDelayString = "${shopping.product.cache.version-refresh-ms:1000}")
+    public void refreshVersion() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            String current = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+            if (current != null) {
+                advanceVersion(Long.parseLong(current));
+            }
+        } catch (DataAccessException e) {
+            log.debug("Failed to refresh product catalog version: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 무효화 알림({@code 버전:상품ID,상품ID...})을 이 인스턴스의 L1에 반영합니다.
+     */
+    void onInvalidation(String payload) {
+        int separator = payload.indexOf(':');
+        advanceVersion(Long.parseLong(payload.substring(0, separator)));
+        String ids = payload.substring(separator + 1);
+        if (!ids.isEmpty()) {
+            for (String id : ids.split(",")) {
+                local.invalidate(DETAIL_KEY_PREFIX + id);
+            }
+        }
+    }
+
+    private Object lookup(String key, Class<?> type, Supplier<Object> loader, long ttlMs) {
+        Object cached = local.getIfPresent(key);
+        if (cached != null) {
+            localHitCounter.increment();
+            return cached;
+        }
+        // 같은 키의 동시 요청은 Caffeine이 한 번만 로드하고 나머지는 결과를 기다림
+        return local.get(key, k -> {
+            Object remote = readRemote(k, type);
+            if (remote != null) {
+                remoteHitCounter.increment();
+                return remote;
+            }
+            missCounter.increment();
+            Object loaded = loader.get();
+            writeRemote(k, loaded, ttlMs);
+            return loaded;
+        });
+    }
+
+    private Object readRemote(String key, Class<?> type) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key);
+            return json != null ? objectMapper.readValue(json, type) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.debug("Product catalog cache lookup failed: key={}, error={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, Object value, long ttlMs) {
+        if (value == null) {
+            return;
+        }
+        long jitter = (long) (ttlMs * properties.getTtlJitterRatio() * ThreadLocalRandom.current().nextDouble());
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value),
+                    ttlMs + jitter, TimeUnit.MILLISECONDS);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.debug("Product catalog cache store failed: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private void invalidate(Collection<Long> productIds, boolean bumpVersion) {
+        if (!properties.isEnabled() || productIds.isEmpty()) {
+            return;
+        }
+        String ids = productIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            stringRedisTemplate.delete(productIds.stream().map(id -> DETAIL_KEY_PREFIX + id).toList());
+            long next = version;
+            if (bumpVersion) {
+                Long bumped = stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+                next = bumped != null ? bumped : next;
+                advanceVersion(next);
+            }
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, next + ":" + ids);
+        } catch (DataAccessException e) {
+            log.warn("Failed to invalidate product catalog cache for {}: {}", ids, e.getMessage());
+        }
+        // 알림이 늦게 오거나 실패해도 이 인스턴스에는 바로 반영
+        productIds.forEach(id -> local.invalidate(DETAIL_KEY_PREFIX + id));
+        scheduleSecondDelete(List.copyOf(productIds), ids);
+    }
+
+    /**
+     * 창 동안 모인 재고 변경 상품의 상세를 한 번에 무효화합니다.
+     */
+    void flushStockInvalidations() {
+        List<Long> productIds = new ArrayList<>();
+        for (Iterator<Long> it = pendingStockIds.iterator(); it.hasNext(); ) {
+            productIds.add(it.next());
+            it.remove();
+        }
+        if (productIds.isEmpty()) {
+            return;
+        }
+        try {
+            invalidate(productIds, false);
+        } catch (RuntimeException e) {
+            // 예외가 스케줄 밖으로 나가면 이후 창이 실행되지 않음
+            log.warn("Failed to flush stock invalidations for {}: {}", productIds, e.getMessage());
+        }
+    }
+
+    /**
+     * 무효화 직전에 커밋 전 값을 읽고 있던 요청이 다시 채운 상세를 지연 후 한 번 더 지웁니다.
+     */
+    private void scheduleSecondDelete(List<Long> productIds, String ids) {
+        if (invalidationScheduler == null || invalidationScheduler.isShutdown()) {
+            return;
+        }
+        try {
+            invalidationScheduler.schedule(() -> {
+                productIds.forEach(id -> local.invalidate(DETAIL_KEY_PREFIX + id));
+                try {
+                    stringRedisTemplate.delete(productIds.stream().map(id -> DETAIL_KEY_PREFIX + id).toList());
+                    stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, version + ":" + ids);
+                } catch (DataAccessException e) {
+                    log.warn("Failed to re-invalidate product catalog cache for {}: {}", ids, e.getMessage());
+                }
+            }, properties.getSecondDeleteDelayMs(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Product catalog second delete skipped during shutdown: {}", ids);
+        }
+    }
+
+    private synchronized void advanceVersion(long candidate) {
+        if (candidate > version) {
+            version = candidate;
+        }
+    }
+
+    private String pageKey(String category, Pageable pageable) {
+        String sort = pageable.getSort().isSorted() ? pageable.getSort().toString().replace(" ", "") : "";
+        return PAGE_KEY_PREFIX + version + ":" + (category != null ? category : "*") + ":"
+                + pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + sort;
+    }
+}
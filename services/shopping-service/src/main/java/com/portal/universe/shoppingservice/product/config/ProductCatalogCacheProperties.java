@@ -0,0 +1,70 @@
+package com.portal.universe.shoppingservice.product.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 카탈로그 조회 캐시 설정입니다.
+ * application.yml의 shopping.product.cache 속성과 바인딩됩니다.
+ *
+ * <p>상품 상세와 목록 페이지를 인스턴스 메모리(L1)와 Redis(L2)에 두 단계로 캐싱합니다.
+ * L1 TTL은 무효화 알림이 유실됐을 때의 최대 지연이고, L2 TTL에는 동시 만료를 피하도록 지터를 더합니다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "shopping.product.cache")
+public class ProductCatalogCacheProperties {
+
+    /**
+     * 카탈로그 캐시 사용 여부 (false면 매번 DB 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * L1(인스턴스 메모리) 최대 항목 수
+     */
+    private long localMaxSize = 10_000;
+
+    /**
+     * L1 항목 유지 시간 (ms)
+     */
+    private long localTtlMs = 10_000;
+
+    /**
+     * L2(Redis) 상품 상세 TTL (ms)
+     */
+    private long detailTtlMs = 300_000;
+
+    /**
+     * L2(Redis) 목록 페이지 TTL (ms)
+     */
+    private long pageTtlMs = 60_000;
+
+    /**
+     * L2 TTL에 더하는 최대 지터 비율 (0.1이면 TTL의 0~10%)
+     */
+    private double ttlJitterRatio = 0.1;
+
+    /**
+     * 캐싱하는 최대 페이지 번호 (그보다 깊은 페이지는 매번 조회)
+     */
+    private int maxCachedPage = 20;
+
+    /**
+     * Redis의 카탈로그 버전을 다시 읽는 주기 (ms, 무효화 알림 유실 보정)
+     */
+    private long versionRefreshMs = 1_000;
+
+    /**
+     * 무효화 후 상세를 한 번 더 지우기까지의 지연 (ms, 무효화 직전 시작된 DB 조회보다 길어야 함)
+     */
+    private long secondDeleteDelayMs = 1_000;
+
+    /**
+     * 재고 변경으로 인한 상세 무효화를 상품별로 모으는 창 (ms, 상세 재고의 최대 반영 지연)
+     */
+    private long stockInvalidationWindowMs = 500;
+}
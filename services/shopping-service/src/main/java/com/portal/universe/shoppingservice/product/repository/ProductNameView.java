@@ -0,0 +1,11 @@
+package com.portal.universe.shoppingservice.product.repository;
+
+/**
+ * 상품 ID와 이름만 읽는 projection입니다 (자동완성 인덱스 재구성용).
+ */
+public interface ProductNameView {
+
+    Long getId();
+
+    String getName();
+}
@@ -1,10 +1,12 @@
 package com.portal.universe.shoppingservice.product.repository;
 
 import com.portal.universe.shoppingservice.product.domain.Product;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,4 +29,20 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     Optional<Product> findByName(String name);
 
     Page<Product> findByCategory(String category, Pageable pageable);
+
+    /**
+     * id 기준 keyset 페이지 조회 (전체 재색인용)
+     * @param id 이전 페이지의 마지막 상품 ID
+     * @param limit 페이지 크기
+     * @return id 오름차순 상품 목록
+     */
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * id 기준 keyset 페이지로 상품 ID/이름만 조회 (자동완성 인덱스 재구성용)
+     * @param id 이전 페이지의 마지막 상품 ID
+     * @param limit 페이지 크기
+     * @return id 오름차순 상품 ID/이름 목록
+     */
+    List<ProductNameView> findNameViewsByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -0,0 +1,34 @@
+package com.portal.universe.shoppingservice.product.review;
+
+import com.portal.universe.event.blog.BlogTopics;
+import com.portal.universe.event.blog.ProductReviewChangedEvent;
+import com.portal.universe.shoppingservice.product.cache.ProductCatalogCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 블로그 상품 리뷰 이벤트로 리뷰 집계를 갱신하고 해당 상품의 상세 캐시를 무효화합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductReviewEventConsumer {
+
+    private final ProductReviewStatsStore reviewStatsStore;
+    private final ProductCatalogCache productCatalogCache;
+
+    @KafkaListener(topics = BlogTopics.PRODUCT_REVIEW_CHANGED,
+                   groupId = "${spring.kafka.consumer.group-id:shopping-group}")
+    public void handleProductReviewChanged(ProductReviewChangedEvent event) {
+        log.debug("Received product review event: postId={}, productId={}, deleted={}",
+                event.postId(), event.productId(), event.deleted());
+        // 숫자가 아닌 productId는 NumberFormatException(재시도 없이 DLQ)
+        Long productId = Long.valueOf(event.productId());
+        reviewStatsStore.apply(productId, event);
+        productCatalogCache.invalidateDetails(List.of(productId));
+    }
+}
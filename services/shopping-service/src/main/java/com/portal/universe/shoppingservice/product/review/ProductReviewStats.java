@@ -0,0 +1,12 @@
+package com.portal.universe.shoppingservice.product.review;
+
+/**
+ * 상품별 리뷰 집계입니다. 리뷰가 없으면 두 값 모두 null입니다.
+ *
+ * @param averageRating 평점 평균 (평점 있는 리뷰가 없으면 0.0)
+ * @param reviewCount   리뷰 수
+ */
+public record ProductReviewStats(Double averageRating, Integer reviewCount) {
+
+    public static final ProductReviewStats EMPTY = new ProductReviewStats(null, null);
+}
@@ -0,0 +1,62 @@
+package com.portal.universe.shoppingservice.product.review;
+
+import com.portal.universe.event.blog.ProductReviewChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 블로그 이벤트로 갱신되는 상품별 리뷰 집계 저장소입니다.
+ *
+ * <p>상품마다 Redis Hash({@code product:reviews:{productId}})에 리뷰 포스트 ID → 평점(없으면 빈 문자열)을 둡니다.
+ * 작성은 HSET, 삭제는 HDEL이라 같은 이벤트가 다시 와도 결과가 같습니다. 상세 조회 시 blog-service를 호출하지 않고 이 Hash로 집계합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductReviewStatsStore {
+
+    static final String KEY_PREFIX = "product:reviews:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 리뷰 작성/삭제 이벤트를 반영합니다.
+     */
+    public void apply(Long productId, ProductReviewChangedEvent event) {
+        String key = KEY_PREFIX + productId;
+        if (event.deleted()) {
+            stringRedisTemplate.opsForHash().delete(key, event.postId());
+        } else {
+            String rating = event.rating() != null ? String.valueOf(event.rating()) : "";
+            stringRedisTemplate.opsForHash().put(key, event.postId(), rating);
+        }
+    }
+
+    /**
+     * 상품의 리뷰 집계를 반환합니다. Redis 조회에 실패하면 집계 없이 응답합니다.
+     */
+    public ProductReviewStats get(Long productId) {
+        List<Object> ratings;
+        try {
+            ratings = stringRedisTemplate.opsForHash().values(KEY_PREFIX + productId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read review stats for productId={}: {}", productId, e.getMessage());
+            return ProductReviewStats.EMPTY;
+        }
+        if (ratings.isEmpty()) {
+            return ProductReviewStats.EMPTY;
+        }
+        double average = ratings.stream()
+                .map(Object::toString)
+                .filter(rating -> !rating.isEmpty())
+                .mapToInt(Integer::parseInt)
+                .average()
+                .orElse(0.0);
+        return new ProductReviewStats(average, ratings.size());
+    }
+}
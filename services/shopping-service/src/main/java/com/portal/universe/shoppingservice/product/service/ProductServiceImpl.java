@@ -1,6 +1,7 @@
 package com.portal.universe.shoppingservice.product.service;
 
 import com.portal.universe.commonlibrary.exception.CustomBusinessException;
+import com.portal.universe.shoppingservice.product.cache.ProductCatalogCache;
 import com.portal.universe.shoppingservice.product.domain.Product;
 import com.portal.universe.shoppingservice.product.dto.*;
 import com.portal.universe.shoppingservice.common.exception.ShoppingErrorCode;
@@ -8,39 +9,69 @@ import com.portal.universe.shoppingservice.feign.BlogServiceClient;
 import com.portal.universe.shoppingservice.feign.dto.BlogResponse;
 import com.portal.universe.shoppingservice.inventory.service.InventoryService;
 import com.portal.universe.shoppingservice.product.repository.ProductRepository;
-import lombok.RequiredArgsConstructor;
+import com.portal.universe.shoppingservice.product.review.ProductReviewStats;
+import com.portal.universe.shoppingservice.product.review.ProductReviewStatsStore;
+import com.portal.universe.shoppingservice.search.outbox.ProductIndexOutboxRecorder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
 /**
  * ProductService 인터페이스의 구현 클래스입니다.
  * 상품 관련 비즈니스 로직을 실제로 처리합니다.
+ * 상품 생성/수정/삭제는 같은 트랜잭션에서 검색 색인 outbox에 기록됩니다.
+ * 상품 상세/목록 조회는 {@link ProductCatalogCache}를 거치며, 캐시에 있으면 DB 커넥션을 잡지 않도록
+ * 트랜잭션 밖에서 조회하고 캐시 미스일 때만 읽기 전용 트랜잭션으로 읽습니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
     private final BlogServiceClient blogServiceClient;
     private final InventoryService inventoryService;
+    private final ProductIndexOutboxRecorder productIndexOutboxRecorder;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductReviewStatsStore reviewStatsStore;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ProductServiceImpl(ProductRepository productRepository,
+                              BlogServiceClient blogServiceClient,
+                              InventoryService inventoryService,
+                              ProductIndexOutboxRecorder productIndexOutboxRecorder,
+                              ProductCatalogCache productCatalogCache,
+                              ProductReviewStatsStore reviewStatsStore,
+                              PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.blogServiceClient = blogServiceClient;
+        this.inventoryService = inventoryService;
+        this.productIndexOutboxRecorder = productIndexOutboxRecorder;
+        this.productCatalogCache = productCatalogCache;
+        this.reviewStatsStore = reviewStatsStore;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<ProductResponse> getAllProducts(Pageable pageable) {
-        Page<Product> productPage = productRepository.findAll(pageable);
-        return productPage.map(this::convertToResponse);
+        return productCatalogCache.getPage(null, pageable, () -> readOnlyTransaction.execute(status ->
+                productRepository.findAll(pageable).map(this::convertToResponse)));
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<ProductResponse> getProductsByCategory(String category, Pageable pageable) {
-        Page<Product> productPage = productRepository.findByCategory(category, pageable);
-        return productPage.map(this::convertToResponse);
+        return productCatalogCache.getPage(category, pageable, () -> readOnlyTransaction.execute(status ->
+                productRepository.findByCategory(category, pageable).map(this::convertToResponse)));
     }
 
     @Override
@@ -54,33 +85,23 @@ public class ProductServiceImpl implements ProductService {
                 .build();
 
         Product savedProduct = productRepository.save(newProduct);
+        productIndexOutboxRecorder.record(savedProduct.getId());
 
         return convertToResponse(savedProduct);
     }
 
+    /**
+     * 상세 조회 시에만 리뷰 통계를 포함합니다. 리뷰 통계는 블로그 이벤트로 갱신되는 집계를 읽으므로 blog-service를 호출하지 않습니다.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProductResponse getProductById(Long id) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new CustomBusinessException(ShoppingErrorCode.PRODUCT_NOT_FOUND));
-
-        // 상세 조회 시에만 리뷰 통계 포함
-        Double averageRating = null;
-        Integer reviewCount = null;
-        try {
-            List<BlogResponse> reviews = blogServiceClient.getPostByProductId(String.valueOf(id));
-            if (reviews != null && !reviews.isEmpty()) {
-                reviewCount = reviews.size();
-                averageRating = reviews.stream()
-                        .filter(r -> r.rating() != null)
-                        .mapToInt(BlogResponse::rating)
-                        .average()
-                        .orElse(0.0);
-            }
-        } catch (Exception e) {
-            log.warn("Failed to fetch review stats for productId={}: {}", id, e.getMessage());
-        }
-
-        return convertToResponseWithReviewStats(product, averageRating, reviewCount);
+        return productCatalogCache.getDetail(id, () -> {
+            ProductResponse product = readOnlyTransaction.execute(status -> productRepository.findById(id)
+                    .map(this::convertToResponse)
+                    .orElseThrow(() -> new CustomBusinessException(ShoppingErrorCode.PRODUCT_NOT_FOUND)));
+            return withReviewStats(product, reviewStatsStore.get(id));
+        });
     }
 
     @Override
@@ -100,6 +121,8 @@ public class ProductServiceImpl implements ProductService {
                 product.getCategory()
         );
 
+        productIndexOutboxRecorder.record(productId);
+
         // 3. Dirty Checking으로 자동 저장 (save 호출 생략)
         return convertToResponse(product);
     }
@@ -112,6 +135,7 @@ public class ProductServiceImpl implements ProductService {
             throw new CustomBusinessException(ShoppingErrorCode.PRODUCT_NOT_FOUND);
         }
         productRepository.deleteById(productId);
+        productIndexOutboxRecorder.record(productId);
     }
 
     /**
@@ -170,6 +194,7 @@ public class ProductServiceImpl implements ProductService {
                 .build();
 
         Product savedProduct = productRepository.save(newProduct);
+        productIndexOutboxRecorder.record(savedProduct.getId());
 
         // 재고 시스템 자동 초기화
         if (request.stock() > 0) {
@@ -208,6 +233,8 @@ public class ProductServiceImpl implements ProductService {
                 request.category()
         );
 
+        productIndexOutboxRecorder.record(productId);
+
         // Dirty Checking으로 자동 저장 (save 호출 생략 가능하나 명시적으로 호출)
         return convertToResponse(product);
     }
@@ -228,6 +255,7 @@ public class ProductServiceImpl implements ProductService {
                 product.getImageUrl(),
                 product.getCategory()
         );
+        productIndexOutboxRecorder.record(productId);
 
         return convertToResponse(product);
     }
@@ -262,28 +290,22 @@ public class ProductServiceImpl implements ProductService {
         );
     }
 
-    private ProductResponse convertToResponseWithReviewStats(Product product, Double averageRating, Integer reviewCount) {
-        List<String> imageUrls = product.getImages() != null
-                ? product.getImages().stream()
-                    .map(com.portal.universe.shoppingservice.product.domain.ProductImage::getImageUrl)
-                    .toList()
-                : List.of();
-
+    private ProductResponse withReviewStats(ProductResponse product, ProductReviewStats stats) {
         return new ProductResponse(
-                product.getId(),
-                product.getName(),
-                product.getDescription(),
-                product.getPrice(),
-                product.getDiscountPrice(),
-                product.getStock(),
-                product.getImageUrl(),
-                product.getCategory(),
-                product.getFeatured(),
-                imageUrls,
-                averageRating,
-                reviewCount,
-                product.getCreatedAt(),
-                product.getUpdatedAt()
+                product.id(),
+                product.name(),
+                product.description(),
+                product.price(),
+                product.discountPrice(),
+                product.stock(),
+                product.imageUrl(),
+                product.category(),
+                product.featured(),
+                product.images(),
+                stats.averageRating(),
+                stats.reviewCount(),
+                product.createdAt(),
+                product.updatedAt()
         );
     }
 
@@ -0,0 +1,76 @@
+package com.portal.universe.shoppingservice.purchase.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 타임딜 구매/쿠폰 발급 기록 저장 방식 설정입니다.
+ * application.yml의 shopping.purchase.persistence 속성과 바인딩됩니다.
+ *
+ * <p>ASYNC 모드에서는 Redis Lua 스크립트가 성공한 요청을 Redis Stream에 적재하고 바로 응답하며,
+ * 워커가 consumer group으로 읽어 JDBC 배치로 저장합니다. 클라이언트는 요청 ID로 저장 상태를 조회합니다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "shopping.purchase.persistence")
+public class PurchasePersistenceProperties {
+
+    /**
+     * 저장 방식 (기본: 요청 스레드에서 동기 저장)
+     */
+    private PersistenceMode mode = PersistenceMode.SYNC;
+
+    /**
+     * 구매 요청이 적재되는 Redis Stream 키
+     */
+    private String streamKey = "purchase:stream";
+
+    /**
+     * 저장 워커의 consumer group 이름
+     */
+    private String consumerGroup = "purchase-persister";
+
+    /**
+     * 한 번에 읽어 저장할 최대 요청 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 새 요청이 없을 때 대기하는 시간 (ms)
+     */
+    private long pollTimeoutMs = 1000;
+
+    /**
+     * 이 시간 이상 ACK되지 않은 요청을 다른 워커가 가져가 재시도 (ms)
+     */
+    private long retryIdleMs = 30000;
+
+    /**
+     * 저장 최대 시도 횟수. 초과하면 Redis 재고를 되돌리고 FAILED로 표시
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * 요청 상태 보관 시간 (초)
+     */
+    private long statusTtlSeconds = 3600;
+
+    public boolean isAsync() {
+        return mode == PersistenceMode.ASYNC;
+    }
+
+    public enum PersistenceMode {
+        /**
+         * 요청 스레드에서 DB 저장 후 응답
+         */
+        SYNC,
+
+        /**
+         * Redis Stream 적재 후 응답, 워커가 배치 저장
+         */
+        ASYNC
+    }
+}
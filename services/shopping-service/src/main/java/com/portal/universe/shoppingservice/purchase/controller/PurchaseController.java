@@ -0,0 +1,32 @@
+package com.portal.universe.shoppingservice.purchase.controller;
+
+import com.portal.universe.commonlibrary.response.ApiResponse;
+import com.portal.universe.commonlibrary.security.context.AuthUser;
+import com.portal.universe.commonlibrary.security.context.CurrentUser;
+import com.portal.universe.shoppingservice.purchase.dto.PurchaseStatusResponse;
+import com.portal.universe.shoppingservice.purchase.service.PurchaseStatusService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 타임딜 구매/쿠폰 발급 요청의 저장 상태 조회 API를 제공하는 컨트롤러입니다.
+ */
+@RestController
+@RequestMapping("/purchases")
+@RequiredArgsConstructor
+public class PurchaseController {
+
+    private final PurchaseStatusService purchaseStatusService;
+
+    /**
+     * 구매 요청의 저장 상태를 조회합니다. 응답의 requestId로 COMPLETED 또는 FAILED가 될 때까지 조회합니다.
+     */
+    @GetMapping("/{requestId}")
+    public ApiResponse<PurchaseStatusResponse> getStatus(@PathVariable String requestId,
+                                                         @CurrentUser AuthUser user) {
+        return ApiResponse.success(purchaseStatusService.getStatus(requestId, user.uuid()));
+    }
+}
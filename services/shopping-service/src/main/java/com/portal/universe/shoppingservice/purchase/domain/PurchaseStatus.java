@@ -0,0 +1,21 @@
+package com.portal.universe.shoppingservice.purchase.domain;
+
+/**
+ * 구매 요청의 DB 저장 상태
+ */
+public enum PurchaseStatus {
+    /**
+     * Redis 처리 완료, DB 저장 대기 중
+     */
+    PENDING,
+
+    /**
+     * DB 저장 완료
+     */
+    COMPLETED,
+
+    /**
+     * DB 저장 실패 (Redis 재고 복원됨)
+     */
+    FAILED
+}
@@ -0,0 +1,9 @@
+package com.portal.universe.shoppingservice.purchase.domain;
+
+/**
+ * 비동기 저장 대상 구매 요청 종류
+ */
+public enum PurchaseType {
+    TIMEDEAL,
+    COUPON
+}
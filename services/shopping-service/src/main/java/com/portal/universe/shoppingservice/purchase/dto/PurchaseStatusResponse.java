@@ -0,0 +1,21 @@
+package com.portal.universe.shoppingservice.purchase.dto;
+
+import com.portal.universe.shoppingservice.purchase.domain.PurchaseStatus;
+import com.portal.universe.shoppingservice.purchase.domain.PurchaseType;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRedisService;
+
+/**
+ * 구매 요청의 DB 저장 상태 응답입니다.
+ *
+ * @param reason 저장 실패 사유 (FAILED일 때만)
+ */
+public record PurchaseStatusResponse(
+        String requestId,
+        PurchaseType type,
+        PurchaseStatus status,
+        String reason
+) {
+    public static PurchaseStatusResponse from(PurchaseRedisService.StatusEntry entry) {
+        return new PurchaseStatusResponse(entry.requestId(), entry.type(), entry.status(), entry.reason());
+    }
+}
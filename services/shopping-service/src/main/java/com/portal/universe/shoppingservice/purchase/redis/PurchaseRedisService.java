@@ -0,0 +1,177 @@
+package com.portal.universe.shoppingservice.purchase.redis;
+
+import com.portal.universe.shoppingservice.purchase.config.PurchasePersistenceProperties;
+import com.portal.universe.shoppingservice.purchase.domain.PurchaseStatus;
+import com.portal.universe.shoppingservice.purchase.domain.PurchaseType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 구매 저장 파이프라인의 Redis 접근을 담당합니다.
+ *
+ * <p>요청은 Redis Stream에 적재되고 consumer group으로 소비되며,
+ * 요청별 저장 상태는 purchase:status:{requestId} Hash에 보관합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PurchaseRedisService {
+
+    private static final String STATUS_KEY_PREFIX = "purchase:status:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PurchasePersistenceProperties properties;
+
+    /**
+     * 상태를 PENDING으로 기록하고 요청을 Stream에 적재합니다.
+     */
+    public void enqueue(PurchaseRequest request) {
+        String statusKey = STATUS_KEY_PREFIX + request.requestId();
+        stringRedisTemplate.opsForHash().putAll(statusKey, Map.of(
+                "type", request.type().name(),
+                "userId", request.userId(),
+                "status", PurchaseStatus.PENDING.name()));
+        stringRedisTemplate.expire(statusKey, properties.getStatusTtlSeconds(), TimeUnit.SECONDS);
+
+        stringRedisTemplate.opsForStream().add(
+                StreamRecords.mapBacked(request.toMap()).withStreamKey(properties.getStreamKey()));
+    }
+
+    /**
+     * consumer group이 없으면 생성합니다. Stream이 없으면 함께 생성됩니다.
+     */
+    public void ensureConsumerGroup() {
+        try {
+            stringRedisTemplate.opsForStream().createGroup(
+                    properties.getStreamKey(), ReadOffset.from("0"), properties.getConsumerGroup());
+        } catch (RedisSystemException e) {
+            // BUSYGROUP: 이미 존재
+            log.debug("Purchase consumer group already exists: {}", properties.getConsumerGroup());
+        }
+    }
+
+    /**
+     * 아직 어떤 워커에도 전달되지 않은 요청을 읽습니다.
+     */
+    public List<PurchaseStreamRecord> readNew(String consumerName) {
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+                Consumer.from(properties.getConsumerGroup(), consumerName),
+                StreamReadOptions.empty()
+                        .count(properties.getBatchSize())
+                        .block(Duration.ofMillis(properties.getPollTimeoutMs())),
+                StreamOffset.create(properties.getStreamKey(), ReadOffset.lastConsumed()));
+        return records == null ? List.of() : records.stream().map(PurchaseStreamRecord::from).toList();
+    }
+
+    /**
+     * 재시도 대기 시간 이상 ACK되지 않은 요청을 조회합니다.
+     */
+    public List<PendingMessage> findStalePending() {
+        Duration retryIdle = Duration.ofMillis(properties.getRetryIdleMs());
+        return stringRedisTemplate.opsForStream()
+                .pending(properties.getStreamKey(), properties.getConsumerGroup(),
+                        Range.unbounded(), properties.getBatchSize())
+                .stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(retryIdle) >= 0)
+                .toList();
+    }
+
+    /**
+     * 오래 처리되지 않은 요청을 이 워커로 가져옵니다.
+     */
+    public List<PurchaseStreamRecord> claim(String consumerName, List<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return List.of();
+        }
+        return stringRedisTemplate.opsForStream().claim(
+                        properties.getStreamKey(), properties.getConsumerGroup(), consumerName,
+                        Duration.ofMillis(properties.getRetryIdleMs()), recordIds.toArray(RecordId[]::new))
+                .stream()
+                .map(PurchaseStreamRecord::from)
+                .toList();
+    }
+
+    /**
+     * 처리 결과를 기록하고 요청을 ACK 후 Stream에서 제거합니다. 한 번의 파이프라인으로 처리합니다.
+     */
+    public void finish(Collection<PurchaseStreamRecord> records, PurchaseStatus status, String reason) {
+        if (records.isEmpty()) {
+            return;
+        }
+        String streamKey = properties.getStreamKey();
+        String group = properties.getConsumerGroup();
+        RecordId[] ids = records.stream().map(PurchaseStreamRecord::recordId).toArray(RecordId[]::new);
+
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (PurchaseStreamRecord record : records) {
+                    String statusKey = STATUS_KEY_PREFIX + record.request().requestId();
+                    operations.opsForHash().put(statusKey, "status", status.name());
+                    if (reason != null) {
+                        operations.opsForHash().put(statusKey, "reason", reason);
+                    }
+                }
+                operations.opsForStream().acknowledge(streamKey, group, ids);
+                operations.opsForStream().delete(streamKey, ids);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 요청의 저장 상태를 조회합니다.
+     */
+    public Optional<StatusEntry> getStatus(String requestId) {
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(STATUS_KEY_PREFIX + requestId);
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new StatusEntry(
+                requestId,
+                PurchaseType.valueOf((String) fields.get("type")),
+                (String) fields.get("userId"),
+                PurchaseStatus.valueOf((String) fields.get("status")),
+                (String) fields.get("reason")));
+    }
+
+    /**
+     * 저장 대기 중인 요청 수 (Stream 길이)
+     */
+    public long getBacklog() {
+        Long size = stringRedisTemplate.opsForStream().size(properties.getStreamKey());
+        return size != null ? size : 0;
+    }
+
+    public record StatusEntry(
+            String requestId,
+            PurchaseType type,
+            String userId,
+            PurchaseStatus status,
+            String reason
+    ) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.portal.universe.shoppingservice.purchase.redis;
+
+import com.portal.universe.shoppingservice.purchase.domain.PurchaseType;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Redis Stream에 적재되는 구매 요청입니다.
+ *
+ * <p>requestId가 저장의 멱등 키이며, 타임딜은 time_deal_purchases.request_id,
+ * 쿠폰은 user_coupons(user_id, coupon_id) 유니크 제약으로 중복 저장을 막습니다.</p>
+ *
+ * @param targetId 타임딜 상품 ID(TIMEDEAL) 또는 쿠폰 ID(COUPON)
+ * @param timeDealId 타임딜 ID (TIMEDEAL 전용, 재고 복원용)
+ * @param productId 상품 ID (TIMEDEAL 전용, 재고 복원용)
+ * @param price 구매 단가 (TIMEDEAL 전용)
+ */
+public record PurchaseRequest(
+        String requestId,
+        PurchaseType type,
+        String userId,
+        Long targetId,
+        Long timeDealId,
+        Long productId,
+        int quantity,
+        BigDecimal price,
+        long requestedAt
+) {
+
+    public static PurchaseRequest timeDeal(String requestId, String userId, Long timeDealProductId,
+                                           Long timeDealId, Long productId, int quantity, BigDecimal price) {
+        return new PurchaseRequest(requestId, PurchaseType.TIMEDEAL, userId, timeDealProductId,
+                timeDealId, productId, quantity, price, System.currentTimeMillis());
+    }
+
+    public static PurchaseRequest coupon(String requestId, String userId, Long couponId) {
+        return new PurchaseRequest(requestId, PurchaseType.COUPON, userId, couponId,
+                null, null, 1, null, System.currentTimeMillis());
+    }
+
+    public Map<String, String> toMap() {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("requestId", requestId);
+        fields.put("type", type.name());
+        fields.put("userId", userId);
+        fields.put("targetId", String.valueOf(targetId));
+        fields.put("quantity", String.valueOf(quantity));
+        fields.put("requestedAt", String.valueOf(requestedAt));
+        if (timeDealId != null) {
+            fields.put("timeDealId", String.valueOf(timeDealId));
+        }
+        if (productId != null) {
+            fields.put("productId", String.valueOf(productId));
+        }
+        if (price != null) {
+            fields.put("price", price.toPlainString());
+        }
+        return fields;
+    }
+
+    public static PurchaseRequest fromMap(Map<?, ?> fields) {
+        return new PurchaseRequest(
+                (String) fields.get("requestId"),
+                PurchaseType.valueOf((String) fields.get("type")),
+                (String) fields.get("userId"),
+                Long.valueOf((String) fields.get("targetId")),
+                parseLong(fields.get("timeDealId")),
+                parseLong(fields.get("productId")),
+                Integer.parseInt((String) fields.get("quantity")),
+                fields.get("price") == null ? null : new BigDecimal((String) fields.get("price")),
+                Long.parseLong((String) fields.get("requestedAt"))
+        );
+    }
+
+    private static Long parseLong(Object value) {
+        return value == null ? null : Long.valueOf((String) value);
+    }
+}
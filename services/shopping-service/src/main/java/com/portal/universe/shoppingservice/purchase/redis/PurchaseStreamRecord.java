@@ -0,0 +1,14 @@
+package com.portal.universe.shoppingservice.purchase.redis;
+
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+
+/**
+ * Stream에서 읽은 구매 요청과 Stream 레코드 ID
+ */
+public record PurchaseStreamRecord(RecordId recordId, PurchaseRequest request) {
+
+    public static PurchaseStreamRecord from(MapRecord<String, Object, Object> record) {
+        return new PurchaseStreamRecord(record.getId(), PurchaseRequest.fromMap(record.getValue()));
+    }
+}
@@ -0,0 +1,102 @@
+package com.portal.universe.shoppingservice.purchase.repository;
+
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비동기 구매 저장 워커의 JDBC 배치 저장소입니다.
+ *
+ * <p>Stream 재전달로 같은 요청이 다시 저장되어도 결과가 같도록 모든 INSERT는 ON CONFLICT DO NOTHING을 사용하며,
+ * 반환되는 행 수로 실제로 저장된 요청을 구분합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PurchaseBatchRepository {
+
+    private static final String INSERT_TIME_DEAL_PURCHASE = """
+            INSERT INTO time_deal_purchases
+                (user_id, time_deal_product_id, quantity, purchase_price, purchased_at, request_id)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (request_id) DO NOTHING
+            """;
+
+    private static final String INSERT_USER_COUPON = """
+            INSERT INTO user_coupons (user_id, coupon_id, status, issued_at, expires_at)
+            VALUES (?, ?, 'AVAILABLE', ?, ?)
+            ON CONFLICT (user_id, coupon_id) DO NOTHING
+            """;
+
+    private static final String SYNC_ISSUED_QUANTITIES = """
+            UPDATE coupons c
+            SET issued_quantity = issued.cnt,
+                status = CASE WHEN c.status = 'ACTIVE' AND issued.cnt >= c.total_quantity
+                              THEN 'EXHAUSTED' ELSE c.status END,
+                updated_at = CURRENT_TIMESTAMP
+            FROM (SELECT coupon_id, COUNT(*) AS cnt
+                  FROM user_coupons
+                  WHERE coupon_id IN (:couponIds)
+                  GROUP BY coupon_id) issued
+            WHERE c.id = issued.coupon_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 타임딜 구매 기록을 배치로 저장합니다.
+     *
+     * @return 요청별 저장 행 수 (이미 저장된 요청은 0)
+     */
+    public int[] insertTimeDealPurchases(List<PurchaseRequest> requests) {
+        return jdbcTemplate.batchUpdate(INSERT_TIME_DEAL_PURCHASE, requests, requests.size(), (ps, request) -> {
+            ps.setString(1, request.userId());
+            ps.setLong(2, request.targetId());
+            ps.setInt(3, request.quantity());
+            ps.setBigDecimal(4, request.price());
+            ps.setTimestamp(5, toTimestamp(request.requestedAt()));
+            ps.setString(6, request.requestId());
+        })[0];
+    }
+
+    /**
+     * 쿠폰 발급 기록을 배치로 저장합니다.
+     *
+     * @param expiresAtByCouponId 쿠폰별 만료 일시
+     * @return 요청별 저장 행 수 (이미 발급된 요청은 0)
+     */
+    public int[] insertUserCoupons(List<PurchaseRequest> requests, Map<Long, LocalDateTime> expiresAtByCouponId) {
+        return jdbcTemplate.batchUpdate(INSERT_USER_COUPON, requests, requests.size(), (ps, request) -> {
+            ps.setString(1, request.userId());
+            ps.setLong(2, request.targetId());
+            ps.setTimestamp(3, toTimestamp(request.requestedAt()));
+            ps.setTimestamp(4, Timestamp.valueOf(expiresAtByCouponId.get(request.targetId())));
+        })[0];
+    }
+
+    /**
+     * 쿠폰의 발급 수량을 발급 기록 수로 다시 계산하고, 모두 발급된 쿠폰은 소진 상태로 바꿉니다.
+     */
+    public void syncIssuedQuantities(Collection<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update(SYNC_ISSUED_QUANTITIES,
+                new MapSqlParameterSource("couponIds", couponIds));
+    }
+
+    private static Timestamp toTimestamp(long epochMillis) {
+        return Timestamp.valueOf(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()));
+    }
+}
@@ -0,0 +1,202 @@
+package com.portal.universe.shoppingservice.purchase.scheduler;
+
+import com.portal.universe.event.shopping.CouponIssuedEvent;
+import com.portal.universe.shoppingservice.event.ShoppingEventPublisher;
+import com.portal.universe.shoppingservice.purchase.config.PurchasePersistenceProperties;
+import com.portal.universe.shoppingservice.purchase.domain.PurchaseStatus;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRedisService;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseStreamRecord;
+import com.portal.universe.shoppingservice.purchase.service.PurchasePersistenceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * PurchasePersistenceWorker
+ * 비동기 구매 저장 워커
+ *
+ * <p>ASYNC 모드에서만 동작합니다. 전용 스레드에서 Redis Stream을 consumer group으로 읽어 요청 묶음을 한 트랜잭션으로 저장하고,
+ * 저장된 요청을 ACK합니다. 묶음 저장이 실패하면 요청별로 다시 저장해 실패한 요청만 남기며,
+ * 남은 요청은 retryIdleMs 이후 다시 가져와 재시도합니다. maxAttempts번 실패한 요청은 Redis 재고를 되돌리고 FAILED로 표시합니다.</p>
+ */
+@Slf4j
+@Component
+public class PurchasePersistenceWorker {
+
+    private final PurchaseRedisService purchaseRedisService;
+    private final PurchasePersistenceService purchasePersistenceService;
+    private final ShoppingEventPublisher eventPublisher;
+    private final PurchasePersistenceProperties properties;
+
+    private final String consumerName = "worker-" + UUID.randomUUID();
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    public PurchasePersistenceWorker(PurchaseRedisService purchaseRedisService,
+                                     PurchasePersistenceService purchasePersistenceService,
+                                     ShoppingEventPublisher eventPublisher,
+                                     PurchasePersistenceProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.purchaseRedisService = purchaseRedisService;
+        this.purchasePersistenceService = purchasePersistenceService;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.completedCounter = Counter.builder("purchase.persistence.completed")
+                .description("DB에 저장된 구매 요청 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("purchase.persistence.failed")
+                .description("저장에 실패해 재고를 되돌린 구매 요청 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("purchase.persistence.batch")
+                .description("구매 요청 묶음 하나의 저장 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isAsync()) {
+            return;
+        }
+        purchaseRedisService.ensureConsumerGroup();
+        running = true;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "purchase-persistence-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::run);
+        log.info("Purchase persistence worker started: consumer={}", consumerName);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(properties.getPollTimeoutMs() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        long nextRetryAt = System.currentTimeMillis() + properties.getRetryIdleMs();
+        while (running) {
+            try {
+                process(purchaseRedisService.readNew(consumerName), Map.of());
+
+                long now = System.currentTimeMillis();
+                if (now >= nextRetryAt) {
+                    retryStale();
+                    nextRetryAt = now + properties.getRetryIdleMs();
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                log.error("Purchase persistence worker loop failed", e);
+                sleepQuietly(properties.getPollTimeoutMs());
+            }
+        }
+    }
+
+    /**
+     * 오래 ACK되지 않은 요청을 이 워커로 가져와 다시 저장합니다.
+     */
+    void retryStale() {
+        List<PendingMessage> stale = purchaseRedisService.findStalePending();
+        if (stale.isEmpty()) {
+            return;
+        }
+        Map<String, Long> deliveries = stale.stream()
+                .collect(Collectors.toMap(PendingMessage::getIdAsString, PendingMessage::getTotalDeliveryCount));
+        List<PurchaseStreamRecord> claimed = purchaseRedisService.claim(consumerName,
+                stale.stream().map(PendingMessage::getId).toList());
+        log.info("Retrying {} stale purchase requests", claimed.size());
+        process(claimed, deliveries);
+    }
+
+    /**
+     * 요청 묶음을 저장합니다. 묶음 저장이 실패하면 요청별로 다시 저장합니다.
+     *
+     * @param previousDeliveries 요청별 이전 전달 횟수 (새로 읽은 요청은 비어 있음)
+     */
+    void process(List<PurchaseStreamRecord> records, Map<String, Long> previousDeliveries) {
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            persist(records);
+        } catch (Exception e) {
+            log.warn("Batch persist failed for {} purchase requests, retrying individually: {}",
+                    records.size(), e.getMessage());
+            for (PurchaseStreamRecord record : records) {
+                persistSingle(record, previousDeliveries.getOrDefault(record.recordId().getValue(), 0L) + 1);
+            }
+        }
+    }
+
+    private void persistSingle(PurchaseStreamRecord record, long attempt) {
+        try {
+            persist(List.of(record));
+        } catch (Exception e) {
+            if (attempt < properties.getMaxAttempts()) {
+                log.warn("Purchase persist failed, will retry: requestId={}, attempt={}, error={}",
+                        record.request().requestId(), attempt, e.getMessage());
+                return;
+            }
+            compensate(record, e);
+        }
+    }
+
+    private void persist(List<PurchaseStreamRecord> records) {
+        Timer.Sample sample = Timer.start();
+        List<CouponIssuedEvent> events = purchasePersistenceService.persist(
+                records.stream().map(PurchaseStreamRecord::request).toList());
+        sample.stop(batchTimer);
+
+        // 여기서부터 실패하면 커밋된 요청도 다시 저장되며, 재저장은 INSERT를 건너뛰고 같은 발급 이벤트를 돌려줌
+        purchaseRedisService.finish(records, PurchaseStatus.COMPLETED, null);
+        completedCounter.increment(records.size());
+        events.forEach(eventPublisher::publishCouponIssued);
+    }
+
+    private void compensate(PurchaseStreamRecord record, Exception cause) {
+        try {
+            purchasePersistenceService.compensate(record.request());
+            purchaseRedisService.finish(List.of(record), PurchaseStatus.FAILED, cause.getMessage());
+            failedCounter.increment();
+            log.error("Purchase persist gave up after {} attempts: requestId={}",
+                    properties.getMaxAttempts(), record.request().requestId(), cause);
+        } catch (Exception e) {
+            log.error("Failed to compensate purchase request: requestId={}", record.request().requestId(), e);
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.portal.universe.shoppingservice.purchase.service;
+
+import com.portal.universe.event.shopping.CouponIssuedEvent;
+import com.portal.universe.shoppingservice.coupon.domain.Coupon;
+import com.portal.universe.shoppingservice.coupon.redis.CouponRedisService;
+import com.portal.universe.shoppingservice.coupon.repository.CouponRepository;
+import com.portal.universe.shoppingservice.purchase.domain.PurchaseType;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRequest;
+import com.portal.universe.shoppingservice.purchase.repository.PurchaseBatchRepository;
+import com.portal.universe.shoppingservice.timedeal.redis.TimeDealRedisService;
+import com.portal.universe.shoppingservice.timedeal.repository.TimeDealProductRepository;
+import com.portal.universe.shoppingservice.timedeal.repository.TimeDealRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Stream에서 읽은 구매 요청을 DB에 저장하고, 끝내 저장하지 못한 요청의 Redis 재고를 되돌립니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PurchasePersistenceService {
+
+    private final PurchaseBatchRepository purchaseBatchRepository;
+    private final CouponRepository couponRepository;
+    private final TimeDealRedisService timeDealRedisService;
+    private final CouponRedisService couponRedisService;
+    private final TimeDealRepository timeDealRepository;
+    private final TimeDealProductRepository timeDealProductRepository;
+
+    /**
+     * 요청 묶음을 한 트랜잭션으로 저장합니다. 이미 저장된 요청은 건너뜁니다.
+     *
+     * @return 저장한 쿠폰 요청의 발급 이벤트 (커밋 후 발행). 이미 저장된 요청도 포함합니다.
+     *         커밋 후 상태 기록/발행이 실패해 같은 요청을 다시 저장하면 INSERT는 건너뛰지만 이벤트는 다시 만들어야 유실되지 않으며,
+     *         알림 서비스는 같은 쿠폰·사용자 알림을 한 번만 만듭니다.
+     */
+    @Transactional
+    public List<CouponIssuedEvent> persist(List<PurchaseRequest> requests) {
+        List<PurchaseRequest> timeDeals = requests.stream()
+                .filter(request -> request.type() == PurchaseType.TIMEDEAL)
+                .toList();
+        List<PurchaseRequest> coupons = requests.stream()
+                .filter(request -> request.type() == PurchaseType.COUPON)
+                .toList();
+
+        if (!timeDeals.isEmpty()) {
+            purchaseBatchRepository.insertTimeDealPurchases(timeDeals);
+            syncEndedDealSoldQuantities(timeDeals);
+        }
+        if (coupons.isEmpty()) {
+            return List.of();
+        }
+        return persistCoupons(coupons);
+    }
+
+    /**
+     * 종료된 타임딜은 스케줄러의 주기 집계 대상이 아니므로, 종료 후 Stream에서 늦게 저장된 구매가 있으면
+     * 판매 수량을 이 트랜잭션에서 다시 집계합니다. 종료 처리와 동시에 저장되는 경우도 놓치지 않도록
+     * 상태뿐 아니라 종료 시각으로도 판단합니다.
+     */
+    private void syncEndedDealSoldQuantities(List<PurchaseRequest> timeDeals) {
+        Set<Long> timeDealIds = timeDeals.stream().map(PurchaseRequest::timeDealId).collect(Collectors.toSet());
+        List<Long> endedIds = timeDealRepository.findEndedIds(timeDealIds, LocalDateTime.now());
+        if (!endedIds.isEmpty()) {
+            timeDealProductRepository.syncSoldQuantities(endedIds);
+            log.info("Re-synced sold quantity of ended time deals after late persistence: {}", endedIds);
+        }
+    }
+
+    private List<CouponIssuedEvent> persistCoupons(List<PurchaseRequest> requests) {
+        Set<Long> couponIds = requests.stream().map(PurchaseRequest::targetId).collect(Collectors.toSet());
+        Map<Long, Coupon> couponsById = couponRepository.findAllById(couponIds).stream()
+                .collect(Collectors.toMap(Coupon::getId, Function.identity()));
+        if (couponsById.size() != couponIds.size()) {
+            throw new IllegalStateException("Coupon not found for purchase requests: " + couponIds);
+        }
+
+        Map<Long, LocalDateTime> expiresAt = couponsById.values().stream()
+                .collect(Collectors.toMap(Coupon::getId, Coupon::getExpiresAt));
+        purchaseBatchRepository.insertUserCoupons(requests, expiresAt);
+        purchaseBatchRepository.syncIssuedQuantities(couponIds);
+
+        // ON CONFLICT로 건너뛴(이전 시도에서 이미 커밋된) 요청도 이벤트를 만듦
+        List<CouponIssuedEvent> events = new ArrayList<>();
+        for (PurchaseRequest request : requests) {
+            Coupon coupon = couponsById.get(request.targetId());
+            events.add(new CouponIssuedEvent(
+                    request.userId(),
+                    coupon.getCode(),
+                    coupon.getName(),
+                    coupon.getDiscountType().name(),
+                    coupon.getDiscountValue().intValue(),
+                    coupon.getExpiresAt()
+            ));
+        }
+        return events;
+    }
+
+    /**
+     * 저장에 실패한 요청이 차지한 Redis 재고와 구매 기록을 되돌립니다.
+     */
+    public void compensate(PurchaseRequest request) {
+        if (request.type() == PurchaseType.TIMEDEAL) {
+            timeDealRedisService.rollbackStock(
+                    request.timeDealId(), request.productId(), request.userId(), request.quantity());
+        } else {
+            couponRedisService.incrementStock(request.targetId());
+            couponRedisService.removeIssuedUser(request.targetId(), request.userId());
+        }
+        log.warn("Compensated unpersisted purchase: requestId={}, type={}, userId={}, targetId={}",
+                request.requestId(), request.type(), request.userId(), request.targetId());
+    }
+}
@@ -0,0 +1,28 @@
+package com.portal.universe.shoppingservice.purchase.service;
+
+import com.portal.universe.commonlibrary.exception.CustomBusinessException;
+import com.portal.universe.shoppingservice.common.exception.ShoppingErrorCode;
+import com.portal.universe.shoppingservice.purchase.dto.PurchaseStatusResponse;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRedisService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비동기로 저장되는 구매 요청의 상태를 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PurchaseStatusService {
+
+    private final PurchaseRedisService purchaseRedisService;
+
+    /**
+     * 본인의 구매 요청 상태를 조회합니다. 다른 사용자의 요청은 존재하지 않는 것으로 처리합니다.
+     */
+    public PurchaseStatusResponse getStatus(String requestId, String userId) {
+        return purchaseRedisService.getStatus(requestId)
+                .filter(entry -> entry.userId().equals(userId))
+                .map(PurchaseStatusResponse::from)
+                .orElseThrow(() -> new CustomBusinessException(ShoppingErrorCode.PURCHASE_REQUEST_NOT_FOUND));
+    }
+}
@@ -0,0 +1,27 @@
+package com.portal.universe.shoppingservice.queue.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 입장 슬롯 설정입니다.
+ * application.yml의 shopping.queue.admission 속성과 바인딩됩니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "shopping.queue.admission")
+public class QueueAdmissionProperties {
+
+    /**
+     * 입장 후 구매를 마치지 않아도 슬롯을 유지하는 시간 (초). 지나면 슬롯이 회수되고 엔트리는 EXPIRED가 됩니다.
+     */
+    private long enteredTtlSeconds = 600;
+
+    /**
+     * 입장 처리 한 번에 회수할 만료 슬롯 최대 수
+     */
+    private int evictLimit = 10000;
+}
@@ -0,0 +1,42 @@
+package com.portal.universe.shoppingservice.queue.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 순번 push 엔진 설정입니다.
+ * application.yml의 shopping.queue.position 속성과 바인딩됩니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "shopping.queue.position")
+public class QueuePositionProperties {
+
+    /**
+     * 입장 처리 알림이 없어도 구독 중인 대기열의 순번을 다시 계산하는 간격 (ms)
+     */
+    private long refreshIntervalMs = 3000;
+
+    /**
+     * 순번 계산 시 한 번의 ZRANGE로 읽을 대기자 수
+     */
+    private int rangeChunkSize = 10000;
+
+    /**
+     * 순번 오프셋이 유효해도 대기자 전체를 다시 훑는 최대 간격 (ms)
+     */
+    private long fullRescanIntervalMs = 60_000;
+
+    /**
+     * 오프셋이 없는 새 구독자를 ZRANK로 개별 조회하는 최대 수 (넘으면 전체를 훑음)
+     */
+    private int maxRankLookups = 1000;
+
+    /**
+     * SSE 전송 스레드 수 (토큰 해시로 분배되어 구독자별 전송 순서가 유지됨)
+     */
+    private int sendThreads = 4;
+}
@@ -0,0 +1,57 @@
+package com.portal.universe.shoppingservice.queue.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 입장 처리 스케줄러 설정입니다.
+ * application.yml의 shopping.queue.scheduler 속성과 바인딩됩니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "shopping.queue.scheduler")
+public class QueueSchedulerProperties {
+
+    /**
+     * 처리 시점이 된 대기열을 찾는 주기 (ms)
+     */
+    private long pollIntervalMs = 100;
+
+    /**
+     * 대기열별 최소 입장 처리 간격 (ms). entryIntervalSeconds가 0 이하이면 이 간격으로 처리합니다.
+     */
+    private long minTickIntervalMs = 100;
+
+    /**
+     * 대기열 처리 lease 최소 유지 시간 (ms). 처리 간격의 2배보다 짧으면 처리 간격의 2배를 사용합니다.
+     */
+    private long leaseTtlMs = 3000;
+
+    /**
+     * 살아 있는 스케줄러 인스턴스 목록에 자신을 갱신하는 주기 (ms)
+     */
+    private long instanceHeartbeatMs = 1000;
+
+    /**
+     * 이 시간 동안 갱신이 없으면 인스턴스가 종료된 것으로 보고 대기열 분배에서 제외 (ms)
+     */
+    private long instanceTtlMs = 5000;
+
+    /**
+     * 대기열을 병렬로 처리하는 스레드 수
+     */
+    private int workerThreads = 8;
+
+    /**
+     * 처리 대기 작업 최대 수 (초과 시 다음 주기로 미룸)
+     */
+    private int workerQueueCapacity = 1000;
+
+    /**
+     * 활성 대기열 정의 캐시를 DB에서 다시 읽는 주기 (ms). 활성화/비활성화 시에는 즉시 갱신됩니다.
+     */
+    private long definitionRefreshMs = 30000;
+}
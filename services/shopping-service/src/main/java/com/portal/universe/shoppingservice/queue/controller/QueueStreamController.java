@@ -4,7 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.universe.commonlibrary.response.SseEnvelope;
 import com.portal.universe.commonlibrary.security.context.AuthUser;
 import com.portal.universe.commonlibrary.security.context.CurrentUser;
+import com.portal.universe.shoppingservice.queue.domain.QueueStatus;
 import com.portal.universe.shoppingservice.queue.dto.QueueStatusResponse;
+import com.portal.universe.shoppingservice.queue.service.QueuePositionEngine;
 import com.portal.universe.shoppingservice.queue.service.QueueService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,15 +16,13 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import jakarta.annotation.PreDestroy;
-
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.*;
 
 /**
  * QueueStreamController
  * SSE 기반 실시간 대기열 상태 업데이트
+ *
+ * 연결 시 현재 상태를 한 번 전송하고, 이후 순번 변경은 {@link QueuePositionEngine}이 대기열 단위로 push 합니다.
  */
 @RestController
 @RequestMapping("/queue")
@@ -32,13 +32,9 @@ import java.util.concurrent.*;
 public class QueueStreamController {
 
     private final QueueService queueService;
+    private final QueuePositionEngine queuePositionEngine;
     private final ObjectMapper objectMapper;
 
-    // 활성 SSE 연결 관리
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<String, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
-
     @GetMapping(value = "/{eventType}/{eventId}/subscribe/{entryToken}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     @Operation(summary = "대기열 상태 구독", description = "SSE를 통해 실시간 대기열 상태를 받습니다")
     public SseEmitter subscribe(
@@ -49,19 +45,9 @@ public class QueueStreamController {
     ) {
         queueService.validateTokenOwnership(entryToken, user.uuid());
         SseEmitter emitter = new SseEmitter(300_000L); // 5분 타임아웃
-        String emitterKey = entryToken;
-
-        // 이전 연결 정리
-        SseEmitter oldEmitter = emitters.put(emitterKey, emitter);
-        if (oldEmitter != null) {
-            oldEmitter.complete();
-        }
 
         // 연결 완료/에러/타임아웃 시 정리
-        Runnable cleanup = () -> {
-            emitters.remove(emitterKey);
-            cancelScheduledTask(emitterKey);
-        };
+        Runnable cleanup = () -> queuePositionEngine.unregister(eventType, eventId, entryToken, emitter);
 
         emitter.onCompletion(() -> {
             cleanup.run();
@@ -79,21 +65,16 @@ public class QueueStreamController {
             log.debug("SSE connection timed out for token: {}", entryToken);
         });
 
-        // 초기 상태 전송
-        sendStatusUpdate(emitter, eventType, eventId, entryToken);
-
-        // 주기적 업데이트 스케줄링 (3초마다)
-        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(() -> {
-            if (emitters.containsKey(emitterKey)) {
-                sendStatusUpdate(emitter, eventType, eventId, entryToken);
-            }
-        }, 3, 3, TimeUnit.SECONDS);
-        scheduledTasks.put(emitterKey, future);
+        // 초기 상태 전송 후 대기 중이면 push 대상으로 등록
+        QueueStatusResponse status = sendInitialStatus(emitter, entryToken);
+        if (status != null && status.status() == QueueStatus.WAITING) {
+            queuePositionEngine.register(eventType, eventId, entryToken, emitter, status);
+        }
 
         return emitter;
     }
 
-    private void sendStatusUpdate(SseEmitter emitter, String eventType, Long eventId, String entryToken) {
+    private QueueStatusResponse sendInitialStatus(SseEmitter emitter, String entryToken) {
         try {
             QueueStatusResponse status = queueService.getQueueStatusByToken(entryToken);
             SseEnvelope<QueueStatusResponse> envelope = SseEnvelope.of("queue-status", status);
@@ -103,44 +84,24 @@ public class QueueStreamController {
                 .data(objectMapper.writeValueAsString(envelope)));
 
             // 입장 완료 또는 만료 시 연결 종료
-            if (status.status() != com.portal.universe.shoppingservice.queue.domain.QueueStatus.WAITING) {
+            if (status.status() != QueueStatus.WAITING) {
                 emitter.complete();
-                emitters.remove(entryToken);
             }
+            return status;
         } catch (IOException e) {
             log.debug("Failed to send SSE update for token: {}", entryToken);
             emitter.completeWithError(e);
-            emitters.remove(entryToken);
         } catch (Exception e) {
             log.error("Error processing queue status for token: {}", entryToken, e);
             emitter.completeWithError(e);
-            emitters.remove(entryToken);
-        }
-    }
-
-    private void cancelScheduledTask(String key) {
-        ScheduledFuture<?> future = scheduledTasks.remove(key);
-        if (future != null) {
-            future.cancel(false);
         }
+        return null;
     }
 
     /**
      * 특정 토큰에 대한 연결 상태 확인
      */
     public boolean isConnected(String entryToken) {
-        return emitters.containsKey(entryToken);
-    }
-
-    /**
-     * 모든 연결 종료 (서버 종료 시)
-     */
-    @PreDestroy
-    public void closeAllConnections() {
-        scheduledTasks.values().forEach(f -> f.cancel(false));
-        scheduledTasks.clear();
-        emitters.values().forEach(SseEmitter::complete);
-        emitters.clear();
-        scheduler.shutdown();
+        return queuePositionEngine.isConnected(entryToken);
     }
 }
@@ -4,10 +4,13 @@ import com.portal.universe.shoppingservice.queue.domain.QueueEntry;
 import com.portal.universe.shoppingservice.queue.domain.QueueStatus;
 import com.portal.universe.shoppingservice.queue.domain.WaitingQueue;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +22,8 @@ public interface QueueEntryRepository extends JpaRepository<QueueEntry, Long> {
 
     Optional<QueueEntry> findByEntryToken(String entryToken);
 
+    List<QueueEntry> findByEntryTokenIn(Collection<String> entryTokens);
+
     Optional<QueueEntry> findByQueueAndUserId(WaitingQueue queue, String userId);
 
     Optional<QueueEntry> findByQueueAndUserIdAndStatus(WaitingQueue queue, String userId, QueueStatus status);
@@ -27,10 +32,36 @@ public interface QueueEntryRepository extends JpaRepository<QueueEntry, Long> {
     Long countByQueueAndStatus(@Param("queue") WaitingQueue queue, @Param("status") QueueStatus status);
 
     @Query("SELECT COUNT(e) FROM QueueEntry e WHERE e.queue = :queue AND e.status = 'WAITING' AND e.joinedAt < :joinedAt")
-    Long countWaitingBefore(@Param("queue") WaitingQueue queue, @Param("joinedAt") java.time.LocalDateTime joinedAt);
+    Long countWaitingBefore(@Param("queue") WaitingQueue queue, @Param("joinedAt") LocalDateTime joinedAt);
 
     @Query("SELECT e FROM QueueEntry e WHERE e.queue = :queue AND e.status = 'WAITING' ORDER BY e.joinedAt ASC LIMIT :limit")
     List<QueueEntry> findTopWaiting(@Param("queue") WaitingQueue queue, @Param("limit") int limit);
 
     List<QueueEntry> findByQueueAndStatusOrderByJoinedAtAsc(WaitingQueue queue, QueueStatus status);
+
+    /**
+     * 대기 중인 엔트리를 한 번에 입장 상태로 변경합니다.
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE QueueEntry e SET e.status = :entered, e.enteredAt = :enteredAt " +
+           "WHERE e.entryToken IN :entryTokens AND e.status = :waiting")
+    int bulkEnter(@Param("entryTokens") Collection<String> entryTokens,
+                  @Param("enteredAt") LocalDateTime enteredAt,
+                  @Param("entered") QueueStatus entered,
+                  @Param("waiting") QueueStatus waiting);
+
+    /**
+     * 입장 슬롯이 만료된 엔트리를 한 번에 만료 상태로 변경합니다.
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE QueueEntry e SET e.status = :expired, e.expiredAt = :expiredAt " +
+           "WHERE e.entryToken IN :entryTokens AND e.status = :entered")
+    int bulkExpire(@Param("entryTokens") Collection<String> entryTokens,
+                   @Param("expiredAt") LocalDateTime expiredAt,
+                   @Param("expired") QueueStatus expired,
+                   @Param("entered") QueueStatus entered);
 }
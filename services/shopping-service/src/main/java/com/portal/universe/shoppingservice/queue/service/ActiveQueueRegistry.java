@@ -0,0 +1,66 @@
+package com.portal.universe.shoppingservice.queue.service;
+
+import com.portal.universe.shoppingservice.queue.domain.WaitingQueue;
+import com.portal.universe.shoppingservice.queue.repository.WaitingQueueRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 활성 대기열 정의 캐시입니다.
+ *
+ * <p>스케줄러가 처리 주기마다 DB를 조회하지 않도록 활성 대기열 목록을 메모리에 유지합니다.
+ * 대기열 활성화/비활성화 커밋 후 {@link #DEFINITIONS_CHANNEL}로 알림을 받아 모든 인스턴스가 즉시 다시 읽으며,
+ * 알림 유실에 대비해 스케줄러가 주기적으로도 다시 읽습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveQueueRegistry {
+
+    public static final String DEFINITIONS_CHANNEL = "queue:definitions:changed";
+
+    private final WaitingQueueRepository waitingQueueRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile List<WaitingQueue> activeQueues = List.of();
+
+    @PostConstruct
+    void start() {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> reloadSafely(),
+                new ChannelTopic(DEFINITIONS_CHANNEL));
+        reloadSafely();
+    }
+
+    public List<WaitingQueue> getActiveQueues() {
+        return activeQueues;
+    }
+
+    public Optional<WaitingQueue> find(String eventType, Long eventId) {
+        return activeQueues.stream()
+                .filter(queue -> queue.getEventType().equals(eventType) && queue.getEventId().equals(eventId))
+                .findFirst();
+    }
+
+    /**
+     * DB에서 활성 대기열 목록을 다시 읽습니다.
+     */
+    public void reload() {
+        activeQueues = List.copyOf(waitingQueueRepository.findByIsActiveTrue());
+        log.debug("Reloaded {} active queue definitions", activeQueues.size());
+    }
+
+    void reloadSafely() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("Failed to reload active queue definitions", e);
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package com.portal.universe.shoppingservice.queue.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.universe.commonlibrary.response.SseEnvelope;
+import com.portal.universe.shoppingservice.queue.config.QueuePositionProperties;
+import com.portal.universe.shoppingservice.queue.domain.QueueEntry;
+import com.portal.universe.shoppingservice.queue.domain.QueueStatus;
+import com.portal.universe.shoppingservice.queue.domain.WaitingQueue;
+import com.portal.universe.shoppingservice.queue.dto.QueueStatusResponse;
+import com.portal.universe.shoppingservice.queue.repository.QueueEntryRepository;
+import com.portal.universe.shoppingservice.queue.repository.WaitingQueueRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 대기열 순번을 구독자에게 push 하는 엔진입니다.
+ *
+ * <p>연결마다 주기적으로 상태를 조회하는 대신, 대기열 단위로 이 인스턴스에 연결된 구독자의 순번을 계산하고
+ * 순번이 바뀐 구독자에게만 전송합니다. 대기열은 진입 시각 순이고 입장은 항상 앞에서 빠지므로, 전체 조회 때 구독자별로
+ * head offset(그때까지 입장한 누적 인원 + 순번)을 저장해 두고 이후에는 {@link #OFFSETS_KEY_PREFIX} 해시의 누적 입장 인원과의
+ * 차이로 순번을 계산합니다. 중간 이탈이나 롤백 복원처럼 순서가 바뀌어 오프셋이 틀릴 수 있을 때(reordered 증가)와
+ * {@code fullRescanIntervalMs}마다만 대기자 전체를 ZRANGE로 다시 훑습니다. 오프셋이 없는 새 구독자는 ZRANK로 개별 조회합니다.
+ * 입장 처리 직후 {@link #TICK_CHANNEL}로 알림을 받아 즉시 다시 계산하며, 알림이 없어도 주기적으로 계산합니다.
+ * 대기 중인 구독자에 대해서는 DB를 조회하지 않고, 대기열에서 빠진 토큰만 한 번의 IN 조회로 상태를 확인합니다.
+ * 예상 대기 시간에 쓰는 입장 설정은 주기 계산마다 다시 읽어 관리자 변경을 반영합니다.</p>
+ */
+@Slf4j
+@Component
+public class QueuePositionEngine {
+
+    public static final String TICK_CHANNEL = "queue:position:tick";
+    /**
+     * 대기열별 순번 오프셋 해시 (admitted: 누적 입장 인원, reordered: 앞에서 빠지지 않은 변경 횟수)
+     */
+    public static final String OFFSETS_KEY_PREFIX = "queue:offsets:";
+    public static final String ADMITTED_FIELD = "admitted";
+    public static final String REORDERED_FIELD = "reordered";
+    private static final String QUEUE_KEY_PREFIX = "queue:waiting:";
+    private static final List<Object> OFFSET_FIELDS = List.of(ADMITTED_FIELD, REORDERED_FIELD);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final WaitingQueueRepository waitingQueueRepository;
+    private final QueueEntryRepository queueEntryRepository;
+    private final ObjectMapper objectMapper;
+    private final QueuePositionProperties properties;
+
+    private final Map<String, QueueGroup> groups = new ConcurrentHashMap<>();
+    private final Timer refreshTimer;
+    private final Counter pushedCounter;
+    private ScheduledExecutorService refreshScheduler;
+    private ExecutorService[] sendExecutors;
+
+    public QueuePositionEngine(StringRedisTemplate redisTemplate,
+                               RedisMessageListenerContainer redisMessageListenerContainer,
+                               WaitingQueueRepository waitingQueueRepository,
+                               QueueEntryRepository queueEntryRepository,
+                               ObjectMapper objectMapper,
+                               QueuePositionProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.waitingQueueRepository = waitingQueueRepository;
+        this.queueEntryRepository = queueEntryRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.refreshTimer = Timer.builder("queue.position.refresh")
+                .description("대기열 하나의 순번 계산 및 전송 예약 시간")
+                .register(meterRegistry);
+        this.pushedCounter = Counter.builder("queue.position.pushed")
+                .description("구독자에게 전송된 대기열 상태 수")
+                .register(meterRegistry);
+        Gauge.builder("queue.position.subscribers", groups,
+                        g -> g.values().stream().mapToInt(group -> group.subscribers.size()).sum())
+                .description("이 인스턴스에 연결된 대기열 SSE 구독자 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        refreshScheduler = Executors.newSingleThreadScheduledExecutor(daemon("queue-position-refresh"));
+        refreshScheduler.scheduleWithFixedDelay(this::refreshAllSafely,
+                properties.getRefreshIntervalMs(), properties.getRefreshIntervalMs(), TimeUnit.MILLISECONDS);
+
+        sendExecutors = new ExecutorService[properties.getSendThreads()];
+        for (int i = 0; i < sendExecutors.length; i++) {
+            sendExecutors[i] = Executors.newSingleThreadExecutor(daemon("queue-position-send-" + i));
+        }
+
+        redisMessageListenerContainer.addMessageListener(this::onTick, new ChannelTopic(TICK_CHANNEL));
+    }
+
+    @PreDestroy
+    void stop() {
+        refreshScheduler.shutdownNow();
+        for (ExecutorService executor : sendExecutors) {
+            executor.shutdownNow();
+        }
+        groups.values().forEach(group -> group.subscribers.values().forEach(SseEmitter::complete));
+        groups.clear();
+    }
+
+    /**
+     * 대기 중인 토큰의 SSE 연결을 등록합니다. 같은 토큰의 이전 연결은 종료합니다.
+     *
+     * @param initialStatus 연결 시 이미 전송한 상태 (같은 순번은 다시 보내지 않음)
+     */
+    public void register(String eventType, Long eventId, String entryToken, SseEmitter emitter,
+                         QueueStatusResponse initialStatus) {
+        SseEmitter[] previousHolder = new SseEmitter[1];
+        // 그룹 조회와 구독자 추가를 한 번에 처리해, 마지막 구독자 해제가 그 사이에 그룹을 지우지 못하게 함
+        groups.compute(groupKey(eventType, eventId), (key, existing) -> {
+            QueueGroup group = existing != null ? existing : loadGroup(eventType, eventId);
+            previousHolder[0] = group.subscribers.put(entryToken, emitter);
+            group.lastPositions.put(entryToken, initialStatus.position() - 1);
+            return group;
+        });
+        SseEmitter previous = previousHolder[0];
+        if (previous != null && previous != emitter) {
+            previous.complete();
+        }
+    }
+
+    /**
+     * SSE 연결을 해제합니다. 다른 연결로 교체된 경우에는 무시합니다.
+     */
+    public void unregister(String eventType, Long eventId, String entryToken, SseEmitter emitter) {
+        groups.computeIfPresent(groupKey(eventType, eventId), (key, group) -> {
+            if (group.subscribers.remove(entryToken, emitter)) {
+                group.lastPositions.remove(entryToken);
+                group.headOffsets.remove(entryToken);
+            }
+            return group.subscribers.isEmpty() ? null : group;
+        });
+    }
+
+    public boolean isConnected(String entryToken) {
+        return groups.values().stream().anyMatch(group -> group.subscribers.containsKey(entryToken));
+    }
+
+    /**
+     * 대기열 하나의 구독자 순번을 다시 계산하고 바뀐 구독자에게 전송합니다.
+     */
+    void refresh(String groupKey) {
+        QueueGroup group = groups.get(groupKey);
+        if (group == null || group.subscribers.isEmpty() || !group.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            String queueKey = QUEUE_KEY_PREFIX + group.key;
+            String offsetsKey = OFFSETS_KEY_PREFIX + group.key;
+            QueueOffsets offsets = readOffsets(offsetsKey);
+            Long zCard = redisTemplate.opsForZSet().zCard(queueKey);
+            long totalWaiting = zCard != null ? zCard : 0L;
+
+            long now = System.currentTimeMillis();
+            boolean offsetsValid = group.reordered == offsets.reordered()
+                    && now - group.lastFullScanAt < properties.getFullRescanIntervalMs();
+            if (!offsetsValid || !refreshByOffset(group, queueKey, offsetsKey, offsets, totalWaiting)) {
+                refreshByScan(group, queueKey, offsetsKey, offsets, totalWaiting, now);
+            }
+        } finally {
+            group.refreshing.set(false);
+            sample.stop(refreshTimer);
+        }
+    }
+
+    /**
+     * 저장된 head offset과 누적 입장 인원의 차이로 순번을 계산합니다. 오프셋이 없는 구독자만 ZRANK로 조회합니다.
+     *
+     * @return 개별 조회할 새 구독자가 너무 많아 전체 조회가 필요하면 false
+     */
+    private boolean refreshByOffset(QueueGroup group, String queueKey, String offsetsKey, QueueOffsets offsets,
+                                    long totalWaiting) {
+        Map<String, SseEmitter> subscribers = new HashMap<>(group.subscribers);
+        Map<String, Long> headOffsets = new HashMap<>();
+        List<String> unresolved = new ArrayList<>();
+        subscribers.forEach((token, emitter) -> {
+            Long headOffset = group.headOffsets.get(token);
+            if (headOffset != null) {
+                headOffsets.put(token, headOffset);
+            } else {
+                unresolved.add(token);
+            }
+        });
+        if (unresolved.size() > properties.getMaxRankLookups()) {
+            return false;
+        }
+
+        Map<String, Long> ranks = new HashMap<>();
+        for (String token : unresolved) {
+            ranks.put(token, redisTemplate.opsForZSet().rank(queueKey, token));
+        }
+        // 개별 조회 도중 입장/이탈이 있었으면 오프셋은 저장하지 않고 다음 계산에서 다시 조회
+        boolean stable = unresolved.isEmpty() || offsets.equals(readOffsets(offsetsKey));
+
+        Map<String, SseEmitter> departed = new HashMap<>();
+        subscribers.forEach((token, emitter) -> {
+            Long rank;
+            if (ranks.containsKey(token)) {
+                rank = ranks.get(token);
+                if (rank != null && stable) {
+                    group.headOffsets.put(token, offsets.admitted() + rank);
+                }
+            } else {
+                rank = headOffsets.get(token) - offsets.admitted();
+            }
+            if (rank == null || rank < 0) {
+                departed.put(token, emitter);
+            } else {
+                pushWaiting(group, token, emitter, rank, totalWaiting);
+            }
+        });
+
+        if (!departed.isEmpty()) {
+            resolveDeparted(group, departed);
+        }
+        return true;
+    }
+
+    /**
+     * 대기자 전체를 범위 단위로 훑어 순번을 계산하고 구독자별 head offset을 다시 저장합니다.
+     */
+    private void refreshByScan(QueueGroup group, String queueKey, String offsetsKey, QueueOffsets offsets,
+                               long totalWaiting, long now) {
+        Map<String, SseEmitter> remaining = new HashMap<>(group.subscribers);
+        Map<String, Long> scanned = new HashMap<>();
+        long offset = 0;
+        int chunkSize = properties.getRangeChunkSize();
+        while (!remaining.isEmpty() && offset < totalWaiting) {
+            Set<String> chunk = redisTemplate.opsForZSet().range(queueKey, offset, offset + chunkSize - 1);
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            long rank = offset;
+            for (String token : chunk) {
+                SseEmitter emitter = remaining.remove(token);
+                if (emitter != null) {
+                    scanned.put(token, rank);
+                    pushWaiting(group, token, emitter, rank, totalWaiting);
+                }
+                rank++;
+            }
+            offset += chunk.size();
+        }
+
+        if (!remaining.isEmpty()) {
+            resolveDeparted(group, remaining);
+        }
+
+        // 훑는 동안 입장/이탈이 있었으면 순번 일부가 어긋났으므로 오프셋을 버리고 다음 계산에서 다시 훑음
+        group.headOffsets.clear();
+        if (offsets.equals(readOffsets(offsetsKey))) {
+            scanned.forEach((token, rank) -> group.headOffsets.put(token, offsets.admitted() + rank));
+            group.reordered = offsets.reordered();
+            group.lastFullScanAt = now;
+        } else {
+            group.reordered = -1;
+        }
+    }
+
+    private QueueOffsets readOffsets(String offsetsKey) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(offsetsKey, OFFSET_FIELDS);
+        return new QueueOffsets(parseCount(values, 0), parseCount(values, 1));
+    }
+
+    private static long parseCount(List<Object> values, int index) {
+        Object value = values != null && values.size() > index ? values.get(index) : null;
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    private void pushWaiting(QueueGroup group, String token, SseEmitter emitter, long rank, long totalWaiting) {
+        Long lastPosition = group.lastPositions.put(token, rank);
+        if (lastPosition != null && lastPosition == rank) {
+            return;
+        }
+        long estimatedWaitSeconds = ((rank + 1) / group.entryBatchSize) * group.entryIntervalSeconds;
+        send(group, token, emitter, QueueStatusResponse.waiting(token, rank + 1, estimatedWaitSeconds, totalWaiting));
+    }
+
+    /**
+     * 대기열에서 빠진 토큰(입장/이탈/만료)의 상태를 한 번에 조회해 전송합니다.
+     * 순번 계산 도중 이동한 토큰은 아직 WAITING이므로 다음 계산으로 넘깁니다.
+     */
+    private void resolveDeparted(QueueGroup group, Map<String, SseEmitter> departed) {
+        Map<String, QueueStatus> statuses = new HashMap<>();
+        for (QueueEntry entry : queueEntryRepository.findByEntryTokenIn(departed.keySet())) {
+            statuses.put(entry.getEntryToken(), entry.getStatus());
+        }
+
+        departed.forEach((token, emitter) -> {
+            QueueStatus status = statuses.get(token);
+            if (status == QueueStatus.WAITING) {
+                return;
+            }
+            QueueStatusResponse response = switch (status == null ? QueueStatus.EXPIRED : status) {
+                case ENTERED -> QueueStatusResponse.entered(token);
+                case LEFT -> QueueStatusResponse.left(token);
+                default -> QueueStatusResponse.expired(token);
+            };
+            send(group, token, emitter, response);
+        });
+    }
+
+    private void send(QueueGroup group, String token, SseEmitter emitter, QueueStatusResponse status) {
+        sendExecutors[Math.floorMod(token.hashCode(), sendExecutors.length)].execute(() -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("queue-status")
+                        .data(objectMapper.writeValueAsString(SseEnvelope.of("queue-status", status))));
+                pushedCounter.increment();
+
+                // 입장 완료 또는 만료 시 연결 종료
+                if (status.status() != QueueStatus.WAITING) {
+                    emitter.complete();
+                    unregister(group.eventType, group.eventId, token, emitter);
+                }
+            } catch (IOException e) {
+                log.debug("Failed to send SSE update for token: {}", token);
+                emitter.completeWithError(e);
+                unregister(group.eventType, group.eventId, token, emitter);
+            } catch (Exception e) {
+                log.error("Error pushing queue status for token: {}", token, e);
+                emitter.completeWithError(e);
+                unregister(group.eventType, group.eventId, token, emitter);
+            }
+        });
+    }
+
+    private void onTick(Message message, byte[] pattern) {
+        String groupKey = new String(message.getBody());
+        if (groups.containsKey(groupKey)) {
+            refreshScheduler.execute(() -> refreshSafely(groupKey));
+        }
+    }
+
+    private void refreshAllSafely() {
+        reloadSettings();
+        List.copyOf(groups.keySet()).forEach(this::refreshSafely);
+    }
+
+    /**
+     * 구독 중인 대기열의 입장 설정(배치 크기, 간격)을 다시 읽습니다. 대기열이 삭제됐으면 이전 설정을 유지합니다.
+     */
+    void reloadSettings() {
+        for (QueueGroup group : List.copyOf(groups.values())) {
+            try {
+                waitingQueueRepository.findByEventTypeAndEventId(group.eventType, group.eventId)
+                        .ifPresent(queue -> group.updateSettings(queue.getEntryBatchSize(), queue.getEntryIntervalSeconds()));
+            } catch (Exception e) {
+                log.warn("Failed to reload queue settings for {}: {}", group.key, e.getMessage());
+            }
+        }
+    }
+
+    private void refreshSafely(String groupKey) {
+        try {
+            refresh(groupKey);
+        } catch (Exception e) {
+            log.error("Failed to refresh queue positions for {}", groupKey, e);
+        }
+    }
+
+    private QueueGroup loadGroup(String eventType, Long eventId) {
+        WaitingQueue queue = waitingQueueRepository.findByEventTypeAndEventId(eventType, eventId)
+                .orElseThrow(() -> new IllegalStateException("Queue not found: " + eventType + " " + eventId));
+        return new QueueGroup(eventType, eventId, queue.getEntryBatchSize(), queue.getEntryIntervalSeconds());
+    }
+
+    private static String groupKey(String eventType, Long eventId) {
+        return eventType + ":" + eventId;
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 대기열의 누적 입장 인원과 순서 변경 횟수입니다.
+     */
+    private record QueueOffsets(long admitted, long reordered) {
+    }
+
+    /**
+     * 이 인스턴스에 연결된 대기열 하나의 구독자 목록입니다.
+     */
+    private static final class QueueGroup {
+        private final String key;
+        private final String eventType;
+        private final Long eventId;
+        private volatile int entryBatchSize;
+        private volatile int entryIntervalSeconds;
+        private final Map<String, SseEmitter> subscribers = new ConcurrentHashMap<>();
+        private final Map<String, Long> lastPositions = new ConcurrentHashMap<>();
+        private final Map<String, Long> headOffsets = new ConcurrentHashMap<>();
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+        private volatile long reordered = -1;
+        private volatile long lastFullScanAt;
+
+        private QueueGroup(String eventType, Long eventId, int entryBatchSize, int entryIntervalSeconds) {
+            this.key = groupKey(eventType, eventId);
+            this.eventType = eventType;
+            this.eventId = eventId;
+            this.entryBatchSize = entryBatchSize;
+            this.entryIntervalSeconds = entryIntervalSeconds;
+        }
+
+        private void updateSettings(int entryBatchSize, int entryIntervalSeconds) {
+            this.entryBatchSize = entryBatchSize;
+            this.entryIntervalSeconds = entryIntervalSeconds;
+        }
+    }
+}
@@ -1,41 +1,284 @@
 package com.portal.universe.shoppingservice.queue.service;
 
+import com.portal.universe.shoppingservice.queue.config.QueueSchedulerProperties;
 import com.portal.universe.shoppingservice.queue.domain.WaitingQueue;
-import com.portal.universe.shoppingservice.queue.repository.WaitingQueueRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * QueueScheduler
  * 대기열 입장 처리 스케줄러
+ *
+ * <p>캐시된 활성 대기열 목록({@link ActiveQueueRegistry})을 짧은 주기로 확인해 처리 시점이 된 대기열만 처리합니다.
+ * 대기열마다 Redis lease를 선점한 인스턴스 하나만 처리하며, 처리 간격은 entryIntervalSeconds를 따르되
+ * 0 이하이면 최소 간격(기본 100ms)으로 처리합니다. 여러 대기열은 제한된 크기의 작업 스레드에서 병렬로 처리됩니다.</p>
+ *
+ * <p>각 인스턴스는 살아 있는 인스턴스 목록(Redis Sorted Set, score = 마지막 갱신 시각)에 주기적으로 자신을 기록하고,
+ * 대기열 키와 인스턴스 ID의 rendezvous 해시가 가장 큰 인스턴스만 lease를 잡습니다. 담당이 아닌 대기열의 lease는
+ * 반납하므로 인스턴스가 늘거나 줄면 대기열이 다시 고르게 나뉩니다. 목록을 아직 읽지 못했으면 먼저 잡은 인스턴스가 처리합니다.</p>
  */
-@Component
-@RequiredArgsConstructor
 @Slf4j
+@Component
 public class QueueScheduler {
 
-    private final WaitingQueueRepository waitingQueueRepository;
+    private static final String LEASE_KEY_PREFIX = "queue:lease:";
+    static final String INSTANCES_KEY = "queue:scheduler:instances";
+    private static final String RELEASE = "release";
+
+    private final ActiveQueueRegistry activeQueueRegistry;
     private final QueueService queueService;
+    private final StringRedisTemplate redisTemplate;
+    private final DefaultRedisScript<Long> queueLeaseScript;
+    private final QueueSchedulerProperties properties;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, Long> nextTickAt = new ConcurrentHashMap<>();
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final Set<String> ownedLeases = ConcurrentHashMap.newKeySet();
+    private volatile List<String> liveInstances = List.of();
+    private final Timer tickTimer;
+    private final DistributionSummary admittedSummary;
+    private ScheduledExecutorService dispatcher;
+    private ThreadPoolExecutor workers;
+
+    public QueueScheduler(ActiveQueueRegistry activeQueueRegistry,
+                          QueueService queueService,
+                          StringRedisTemplate redisTemplate,
+                          DefaultRedisScript<Long> queueLeaseScript,
+                          QueueSchedulerProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.activeQueueRegistry = activeQueueRegistry;
+        this.queueService = queueService;
+        this.redisTemplate = redisTemplate;
+        this.queueLeaseScript = queueLeaseScript;
+        this.properties = properties;
+        this.tickTimer = Timer.builder("queue.scheduler.tick")
+                .description("대기열 하나의 입장 처리 시간")
+                .register(meterRegistry);
+        this.admittedSummary = DistributionSummary.builder("queue.scheduler.admitted")
+                .description("입장 처리 한 번에 입장한 인원")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        int threads = properties.getWorkerThreads();
+        workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getWorkerQueueCapacity()), threadFactory("queue-scheduler-worker-"));
+
+        dispatcher = Executors.newSingleThreadScheduledExecutor(threadFactory("queue-scheduler-dispatch-"));
+        dispatcher.scheduleWithFixedDelay(this::dispatchSafely,
+                properties.getPollIntervalMs(), properties.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+        dispatcher.scheduleWithFixedDelay(activeQueueRegistry::reloadSafely,
+                properties.getDefinitionRefreshMs(), properties.getDefinitionRefreshMs(), TimeUnit.MILLISECONDS);
+        dispatcher.scheduleWithFixedDelay(this::heartbeatSafely,
+                properties.getInstanceHeartbeatMs(), properties.getInstanceHeartbeatMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        dispatcher.shutdownNow();
+        workers.shutdown();
+        // 다른 인스턴스가 갱신 만료를 기다리지 않고 담당을 다시 계산하도록 목록에서 빠짐 (lease는 TTL로 만료)
+        try {
+            redisTemplate.opsForZSet().remove(INSTANCES_KEY, instanceId);
+        } catch (Exception e) {
+            log.debug("Failed to leave queue scheduler membership: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 살아 있는 인스턴스 목록에 자신을 갱신하고, 갱신이 끊긴 인스턴스를 제거한 뒤 목록을 읽습니다.
+     */
+    void heartbeat() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(INSTANCES_KEY, instanceId, now);
+        redisTemplate.opsForZSet().removeRangeByScore(INSTANCES_KEY, 0, now - properties.getInstanceTtlMs());
+        Set<String> members = redisTemplate.opsForZSet().range(INSTANCES_KEY, 0, -1);
+        liveInstances = members == null ? List.of() : List.copyOf(members);
+    }
+
+    String getInstanceId() {
+        return instanceId;
+    }
 
     /**
-     * 활성 대기열에서 대기자를 입장 처리
-     * 5초마다 실행
+     * 처리 시점이 된 대기열 중 lease를 보유한 대기열을 작업 스레드에 넘깁니다.
      */
-    @Scheduled(fixedDelay = 5000)
-    public void processActiveQueues() {
-        List<WaitingQueue> activeQueues = waitingQueueRepository.findByIsActiveTrue();
+    void dispatch() {
+        long now = System.currentTimeMillis();
+        List<WaitingQueue> queues = activeQueueRegistry.getActiveQueues();
+
+        Set<String> activeKeys = new HashSet<>();
+        for (WaitingQueue queue : queues) {
+            String key = queue.getEventType() + ":" + queue.getEventId();
+            activeKeys.add(key);
+
+            // 담당이 바뀐 대기열은 처리 시점을 기다리지 않고 바로 lease를 넘김
+            if (!isPreferredOwner(key)) {
+                if (ownedLeases.remove(key)) {
+                    releaseLease(key);
+                    log.info("Handed over queue {} to another scheduler instance", key);
+                }
+                continue;
+            }
+
+            if (inFlight.contains(key) || now < nextTickAt.getOrDefault(key, 0L)) {
+                continue;
+            }
+
+            long interval = tickIntervalMs(queue);
+            nextTickAt.put(key, now + interval);
+            if (!acquireLease(key, interval)) {
+                ownedLeases.remove(key);
+                continue;
+            }
+            ownedLeases.add(key);
 
-        for (WaitingQueue queue : activeQueues) {
+            inFlight.add(key);
             try {
-                queueService.processEntries(queue.getEventType(), queue.getEventId());
-            } catch (Exception e) {
-                log.error("Failed to process queue entries for {} {}: {}",
-                    queue.getEventType(), queue.getEventId(), e.getMessage());
+                workers.execute(() -> tick(queue, key));
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(key);
+                log.warn("Queue scheduler workers saturated, deferring {}", key);
             }
         }
+
+        nextTickAt.keySet().retainAll(activeKeys);
+        ownedLeases.retainAll(activeKeys);
+    }
+
+    /**
+     * 살아 있는 인스턴스 중 이 인스턴스가 대기열의 담당인지 확인합니다.
+     * 목록이 비어 있거나(시작 직후, Redis 오류) 자신이 목록에 없으면 lease 선점 결과에 맡깁니다.
+     */
+    private boolean isPreferredOwner(String key) {
+        List<String> instances = liveInstances;
+        if (instances.isEmpty() || !instances.contains(instanceId)) {
+            return true;
+        }
+        return instanceId.equals(preferredOwner(key, instances));
+    }
+
+    /**
+     * rendezvous(HRW) 해시로 대기열 담당 인스턴스를 고릅니다.
+     * 인스턴스가 추가/제거되면 그 인스턴스가 얻거나 잃는 대기열만 담당이 바뀝니다.
+     */
+    static String preferredOwner(String key, Collection<String> instances) {
+        String owner = null;
+        long best = Long.MIN_VALUE;
+        for (String instance : instances) {
+            long weight = hash(key + "|" + instance);
+            if (owner == null || weight > best || (weight == best && instance.compareTo(owner) < 0)) {
+                owner = instance;
+                best = weight;
+            }
+        }
+        return owner;
+    }
+
+    /**
+     * FNV-1a 64비트 해시에 비트 혼합을 더해 짧은 문자열 차이도 고르게 퍼지도록 합니다.
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private void tick(WaitingQueue queue, String key) {
+        Timer.Sample sample = Timer.start();
+        try {
+            admittedSummary.record(queueService.processEntries(queue));
+        } catch (Exception e) {
+            log.error("Failed to process queue entries for {}: {}", key, e.getMessage());
+        } finally {
+            sample.stop(tickTimer);
+            inFlight.remove(key);
+        }
+    }
+
+    /**
+     * 대기열 처리 lease를 선점하거나 연장합니다. 처리 주기마다 연장되도록 처리 간격의 2배 이상 유지합니다.
+     */
+    private boolean acquireLease(String key, long interval) {
+        long ttl = Math.max(properties.getLeaseTtlMs(), interval * 2);
+        try {
+            Long result = redisTemplate.execute(queueLeaseScript, List.of(LEASE_KEY_PREFIX + key),
+                    instanceId, String.valueOf(ttl));
+            return result != null && result == 1L;
+        } catch (Exception e) {
+            log.warn("Failed to acquire queue lease for {}: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseLease(String key) {
+        try {
+            redisTemplate.execute(queueLeaseScript, List.of(LEASE_KEY_PREFIX + key), instanceId, "0", RELEASE);
+        } catch (Exception e) {
+            log.warn("Failed to release queue lease for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private long tickIntervalMs(WaitingQueue queue) {
+        Integer intervalSeconds = queue.getEntryIntervalSeconds();
+        long interval = intervalSeconds == null ? 0L : TimeUnit.SECONDS.toMillis(intervalSeconds);
+        return Math.max(properties.getMinTickIntervalMs(), interval);
+    }
+
+    private void heartbeatSafely() {
+        try {
+            heartbeat();
+        } catch (Exception e) {
+            log.warn("Queue scheduler heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    private void dispatchSafely() {
+        try {
+            dispatch();
+        } catch (Exception e) {
+            log.error("Queue scheduler dispatch failed", e);
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 }
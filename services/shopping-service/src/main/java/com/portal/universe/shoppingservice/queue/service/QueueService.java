@@ -1,5 +1,6 @@
 package com.portal.universe.shoppingservice.queue.service;
 
+import com.portal.universe.shoppingservice.queue.domain.WaitingQueue;
 import com.portal.universe.shoppingservice.queue.dto.QueueStatusResponse;
 
 /**
@@ -34,9 +35,23 @@ public interface QueueService {
     void leaveQueueByToken(String entryToken);
 
     /**
-     * 사용자 입장 처리 (스케줄러에서 호출)
+     * 사용자 입장 처리
+     *
+     * @return 이번 처리에서 입장한 인원
      */
-    void processEntries(String eventType, Long eventId);
+    int processEntries(String eventType, Long eventId);
+
+    /**
+     * 사용자 입장 처리 (스케줄러에서 캐시된 대기열 정의로 호출)
+     *
+     * @return 이번 처리에서 입장한 인원
+     */
+    int processEntries(WaitingQueue queue);
+
+    /**
+     * 입장 슬롯 반납 (구매 완료 시 호출). 대기열이 없거나 입장 상태가 아니면 무시합니다.
+     */
+    void releaseSlot(String eventType, Long eventId, String userId);
 
     /**
      * 입장 확인 (구매 시 호출)
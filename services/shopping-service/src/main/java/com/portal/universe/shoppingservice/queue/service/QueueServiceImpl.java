@@ -2,6 +2,7 @@ package com.portal.universe.shoppingservice.queue.service;
 
 import com.portal.universe.commonlibrary.exception.CustomBusinessException;
 import com.portal.universe.shoppingservice.common.exception.ShoppingErrorCode;
+import com.portal.universe.shoppingservice.queue.config.QueueAdmissionProperties;
 import com.portal.universe.shoppingservice.queue.domain.QueueEntry;
 import com.portal.universe.shoppingservice.queue.domain.QueueStatus;
 import com.portal.universe.shoppingservice.queue.domain.WaitingQueue;
@@ -10,15 +11,23 @@ import com.portal.universe.shoppingservice.queue.repository.QueueEntryRepository
 import com.portal.universe.shoppingservice.queue.repository.WaitingQueueRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
 
 /**
  * QueueServiceImpl
@@ -32,9 +41,15 @@ public class QueueServiceImpl implements QueueService {
     private final WaitingQueueRepository waitingQueueRepository;
     private final QueueEntryRepository queueEntryRepository;
     private final StringRedisTemplate redisTemplate;
+    private final ActiveQueueRegistry activeQueueRegistry;
+    private final QueueAdmissionProperties admissionProperties;
+
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> queueAdmitScript;
 
     private static final String QUEUE_KEY_PREFIX = "queue:waiting:";
     private static final String ENTERED_KEY_PREFIX = "queue:entered:";
+    private static final int ADMISSION_UPDATE_CHUNK_SIZE = 1000;
 
     private String getQueueKey(String eventType, Long eventId) {
         return QUEUE_KEY_PREFIX + eventType + ":" + eventId;
@@ -44,6 +59,17 @@ public class QueueServiceImpl implements QueueService {
         return ENTERED_KEY_PREFIX + eventType + ":" + eventId;
     }
 
+    private String getOffsetsKey(String eventType, Long eventId) {
+        return QueuePositionEngine.OFFSETS_KEY_PREFIX + eventType + ":" + eventId;
+    }
+
+    /**
+     * 대기열 앞이 아닌 곳이 바뀌었음을 알려 순번 push 엔진이 저장한 오프셋을 버리고 다시 훑게 합니다.
+     */
+    private void markReordered(String eventType, Long eventId) {
+        redisTemplate.opsForHash().increment(getOffsetsKey(eventType, eventId), QueuePositionEngine.REORDERED_FIELD, 1);
+    }
+
     @Override
     @Transactional
     public QueueStatusResponse enterQueue(String eventType, Long eventId, String userId) {
@@ -161,64 +187,159 @@ public class QueueServiceImpl implements QueueService {
         // Redis에서 제거
         String queueKey = getQueueKey(eventType, eventId);
         redisTemplate.opsForZSet().remove(queueKey, entry.getEntryToken());
+        markReordered(eventType, eventId);
 
         log.info("User {} left queue for {} {}", entry.getUserId(), eventType, eventId);
     }
 
     @Override
     @Transactional
-    public void processEntries(String eventType, Long eventId) {
-        Optional<WaitingQueue> queueOpt = waitingQueueRepository.findByEventTypeAndEventIdAndIsActiveTrue(eventType, eventId);
-        if (queueOpt.isEmpty()) {
-            return;
-        }
+    public int processEntries(String eventType, Long eventId) {
+        return waitingQueueRepository.findByEventTypeAndEventIdAndIsActiveTrue(eventType, eventId)
+            .map(this::processEntries)
+            .orElse(0);
+    }
 
-        WaitingQueue queue = queueOpt.get();
+    @Override
+    @Transactional
+    public int processEntries(WaitingQueue queue) {
+        String eventType = queue.getEventType();
+        Long eventId = queue.getEventId();
         String queueKey = getQueueKey(eventType, eventId);
         String enteredKey = getEnteredKey(eventType, eventId);
 
-        // 현재 입장한 인원 확인
-        Long enteredCount = redisTemplate.opsForSet().size(enteredKey);
-        if (enteredCount == null) {
-            enteredCount = 0L;
+        // 만료 슬롯 회수, 정원 확인, 대기열 pop, 입장 슬롯 추가를 Lua 스크립트 한 번으로 처리
+        long now = System.currentTimeMillis();
+        List<String> result = redisTemplate.execute(
+            queueAdmitScript,
+            List.of(queueKey, enteredKey, getOffsetsKey(eventType, eventId)),
+            String.valueOf(queue.getMaxCapacity()),
+            String.valueOf(queue.getEntryBatchSize()),
+            String.valueOf(now),
+            String.valueOf(now + TimeUnit.SECONDS.toMillis(admissionProperties.getEnteredTtlSeconds())),
+            String.valueOf(admissionProperties.getEvictLimit()));
+
+        if (result == null || result.isEmpty()) {
+            return 0;
         }
 
-        int availableSlots = queue.getMaxCapacity() - enteredCount.intValue();
-        if (availableSlots <= 0) {
-            log.debug("Queue full for {} {}, no slots available", eventType, eventId);
-            return;
+        int expiredCount = Integer.parseInt(result.get(0));
+        List<String> expiredTokens = result.subList(1, 1 + expiredCount);
+        Set<ZSetOperations.TypedTuple<String>> popped = new LinkedHashSet<>();
+        List<String> entryTokens = new ArrayList<>();
+        for (int i = 1 + expiredCount; i + 1 < result.size(); i += 2) {
+            entryTokens.add(result.get(i));
+            popped.add(new DefaultTypedTuple<>(result.get(i), Double.valueOf(result.get(i + 1))));
         }
 
-        int toProcess = Math.min(availableSlots, queue.getEntryBatchSize());
+        if (expiredTokens.isEmpty() && entryTokens.isEmpty()) {
+            log.debug("No entries admitted for {} {}", eventType, eventId);
+            return 0;
+        }
+        restoreOnRollback(eventType, eventId, popped, entryTokens, expiredTokens, now);
+
+        // DB 상태 변경은 IN 절 크기를 제한해 bulk UPDATE로 처리
+        LocalDateTime changedAt = LocalDateTime.now();
+        if (!expiredTokens.isEmpty()) {
+            int expired = updateInChunks(expiredTokens, chunk ->
+                queueEntryRepository.bulkExpire(chunk, changedAt, QueueStatus.EXPIRED, QueueStatus.ENTERED));
+            log.info("{} entered slots expired for {} {}", expired, eventType, eventId);
+        }
 
-        // 대기열이 비어있으면 popMin 호출 생략 (Redisson 3.27.0 빈 응답 디코딩 버그 우회)
-        Long queueSize = redisTemplate.opsForZSet().zCard(queueKey);
-        if (queueSize == null || queueSize == 0) {
-            return;
+        if (!entryTokens.isEmpty()) {
+            int updated = updateInChunks(entryTokens, chunk ->
+                queueEntryRepository.bulkEnter(chunk, changedAt, QueueStatus.ENTERED, QueueStatus.WAITING));
+            if (updated < entryTokens.size()) {
+                log.warn("Admitted {} tokens but only {} waiting entries updated for {} {}",
+                    entryTokens.size(), updated, eventType, eventId);
+            }
+            log.info("{} users entered from queue for {} {}", updated, eventType, eventId);
         }
 
-        // Redis에서 대기열 상위 N명 가져오기
-        Set<ZSetOperations.TypedTuple<String>> topEntries =
-            redisTemplate.opsForZSet().popMin(queueKey, toProcess);
+        publishAfterCommit(QueuePositionEngine.TICK_CHANNEL, eventType + ":" + eventId);
+        return entryTokens.size();
+    }
+
+    private int updateInChunks(List<String> entryTokens, ToIntFunction<List<String>> update) {
+        int updated = 0;
+        for (int from = 0; from < entryTokens.size(); from += ADMISSION_UPDATE_CHUNK_SIZE) {
+            updated += update.applyAsInt(entryTokens.subList(from, Math.min(from + ADMISSION_UPDATE_CHUNK_SIZE, entryTokens.size())));
+        }
+        return updated;
+    }
 
-        if (topEntries == null || topEntries.isEmpty()) {
+    /**
+     * DB 반영이 롤백되면 pop 했던 토큰을 원래 score로 대기열에 되돌리고 입장 슬롯에서 제거합니다.
+     * 회수했던 만료 슬롯은 이미 만료된 시각으로 다시 넣어 다음 처리에서 다시 회수되도록 합니다.
+     */
+    private void restoreOnRollback(String eventType, Long eventId, Set<ZSetOperations.TypedTuple<String>> popped,
+                                   List<String> entryTokens, List<String> expiredTokens, long now) {
+        String queueKey = getQueueKey(eventType, eventId);
+        String enteredKey = getEnteredKey(eventType, eventId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
             return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                if (!popped.isEmpty()) {
+                    redisTemplate.opsForZSet().add(queueKey, popped);
+                    redisTemplate.opsForZSet().remove(enteredKey, entryTokens.toArray());
+                    markReordered(eventType, eventId);
+                }
+                if (!expiredTokens.isEmpty()) {
+                    Set<ZSetOperations.TypedTuple<String>> expired = new LinkedHashSet<>();
+                    expiredTokens.forEach(token -> expired.add(new DefaultTypedTuple<>(token, (double) now)));
+                    redisTemplate.opsForZSet().add(enteredKey, expired);
+                }
+                log.warn("Restored {} admitted and {} expired tokens for {} after rollback",
+                    entryTokens.size(), expiredTokens.size(), queueKey);
+            }
+        });
+    }
 
-        for (ZSetOperations.TypedTuple<String> tuple : topEntries) {
-            String entryToken = tuple.getValue();
-            if (entryToken == null) continue;
+    @Override
+    @Transactional
+    public void releaseSlot(String eventType, Long eventId, String userId) {
+        // 대기열이 없는 이벤트는 DB 조회 없이 건너뜀
+        Optional<WaitingQueue> queueOpt = activeQueueRegistry.find(eventType, eventId);
+        if (queueOpt.isEmpty()) {
+            return;
+        }
 
-            queueEntryRepository.findByEntryToken(entryToken).ifPresent(entry -> {
-                entry.enter();
+        queueEntryRepository.findByQueueAndUserIdAndStatus(queueOpt.get(), userId, QueueStatus.ENTERED)
+            .ifPresent(entry -> {
+                entry.expire();
                 queueEntryRepository.save(entry);
 
-                // 입장 목록에 추가
-                redisTemplate.opsForSet().add(enteredKey, entryToken);
-
-                log.info("User {} entered from queue for {} {}", entry.getUserId(), eventType, eventId);
+                String enteredKey = getEnteredKey(eventType, eventId);
+                runAfterCommit(() -> redisTemplate.opsForZSet().remove(enteredKey, entry.getEntryToken()));
+                log.info("User {} released entered slot for {} {}", userId, eventType, eventId);
             });
+    }
+
+    /**
+     * 커밋 후 모든 인스턴스에 변경을 알립니다.
+     * 입장 처리 알림을 커밋 전에 보내면 빠져나간 토큰이 아직 WAITING으로 조회되므로 커밋 이후에 발행합니다.
+     */
+    private void publishAfterCommit(String channel, String message) {
+        runAfterCommit(() -> redisTemplate.convertAndSend(channel, message));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     @Override
@@ -250,6 +371,7 @@ public class QueueServiceImpl implements QueueService {
 
         queue.activate();
         waitingQueueRepository.save(queue);
+        publishAfterCommit(ActiveQueueRegistry.DEFINITIONS_CHANNEL, eventType + ":" + eventId);
 
         log.info("Queue activated for {} {}", eventType, eventId);
     }
@@ -278,6 +400,8 @@ public class QueueServiceImpl implements QueueService {
         String enteredKey = getEnteredKey(eventType, eventId);
         redisTemplate.delete(queueKey);
         redisTemplate.delete(enteredKey);
+        markReordered(eventType, eventId);
+        publishAfterCommit(ActiveQueueRegistry.DEFINITIONS_CHANNEL, eventType + ":" + eventId);
 
         log.info("Queue deactivated for {} {}", eventType, eventId);
     }
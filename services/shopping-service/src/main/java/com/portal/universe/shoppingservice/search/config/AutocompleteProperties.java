@@ -0,0 +1,60 @@
+package com.portal.universe.shoppingservice.search.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자동완성 인덱스 설정입니다.
+ * application.yml의 shopping.search.autocomplete 속성과 바인딩됩니다.
+ *
+ * <p>각 인스턴스가 상품명과 인기 검색어로 메모리 prefix 인덱스를 유지하고, 로컬에서 후보가 없을 때만
+ * Elasticsearch fuzzy completion으로 조회합니다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "shopping.search.autocomplete")
+public class AutocompleteProperties {
+
+    /**
+     * 메모리 자동완성 인덱스 사용 여부 (false면 항상 Elasticsearch 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 상품명/인기 검색어로 인덱스를 전체 재구성하는 주기 (ms, pub/sub 알림 유실 보정)
+     */
+    private long rebuildIntervalMs = 1_800_000;
+
+    /**
+     * 인기 검색어 상위 목록을 다시 읽어 반영하는 주기 (ms)
+     */
+    private long popularRefreshMs = 60_000;
+
+    /**
+     * 인덱스에 넣는 인기 검색어 수
+     */
+    private int popularLimit = 10_000;
+
+    /**
+     * 검색 시 바로 인덱스에 반영할 최소 검색 횟수 (인스턴스의 현재 인기 검색어 집계 구간 기준, 그보다 적으면 다음 인기 검색어 반영 때 판단)
+     */
+    private long popularMinScore = 3;
+
+    /**
+     * 인덱스에 합치기 전 대기하는 변경분 최대 수 (넘으면 새 인덱스로 합침)
+     */
+    private int maxPending = 5_000;
+
+    /**
+     * 재구성 시 상품명을 읽는 keyset 페이지 크기
+     */
+    private int productPageSize = 5_000;
+
+    /**
+     * 로컬 후보가 없을 때 Elasticsearch fuzzy completion 조회 여부
+     */
+    private boolean esFallbackEnabled = true;
+}
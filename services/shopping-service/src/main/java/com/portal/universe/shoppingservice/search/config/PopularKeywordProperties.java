@@ -0,0 +1,70 @@
+package com.portal.universe.shoppingservice.search.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 검색어 집계 설정입니다.
+ * application.yml의 shopping.search.popular 속성과 바인딩됩니다.
+ *
+ * <p>각 인스턴스가 검색어 빈도를 메모리 sketch로 세고 상위 후보만 시간 구간별 Redis ZSET에 배치로 더합니다.
+ * 인기 검색어는 최근 구간들을 반감기에 따라 감쇠한 가중 합으로 계산합니다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "shopping.search.popular")
+public class PopularKeywordProperties {
+
+    /**
+     * 로컬 집계를 Redis 구간 ZSET에 더하는 주기 (ms)
+     */
+    private long flushIntervalMs = 10_000;
+
+    /**
+     * Redis 구간 ZSET 하나가 담당하는 시간 (ms)
+     */
+    private long windowMs = 300_000;
+
+    /**
+     * 인기 검색어 계산에 합치는 최근 구간 수 (현재 구간 포함, 구간 키 TTL도 이 범위로 잡음)
+     */
+    private int windows = 12;
+
+    /**
+     * 구간 가중치가 절반이 되는 시간 (ms)
+     */
+    private long halfLifeMs = 1_800_000;
+
+    /**
+     * 최근 구간을 합쳐 인기 검색어를 다시 계산하는 주기 (ms)
+     */
+    private long refreshMs = 60_000;
+
+    /**
+     * 인기 검색어 결과에 남기는 검색어 수
+     */
+    private int resultSize = 10_000;
+
+    /**
+     * 인스턴스가 한 번의 flush 구간 동안 추적하는 상위 후보 수
+     */
+    private int topK = 1_000;
+
+    /**
+     * Count-Min sketch 행당 칸 수
+     */
+    private int sketchWidth = 4_096;
+
+    /**
+     * Count-Min sketch 행 수
+     */
+    private int sketchDepth = 4;
+
+    /**
+     * 집계하는 검색어 최대 길이 (정규화 후, 넘으면 무시)
+     */
+    private int maxKeywordLength = 50;
+}
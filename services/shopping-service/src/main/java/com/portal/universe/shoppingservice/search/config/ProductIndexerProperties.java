@@ -0,0 +1,65 @@
+package com.portal.universe.shoppingservice.search.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 검색 색인 설정입니다.
+ * application.yml의 shopping.search.indexer 속성과 바인딩됩니다.
+ *
+ * <p>상품/재고 변경은 product_index_outbox에 기록되고, 색인 워커가 상품별로 모아
+ * Elasticsearch _bulk 요청으로 반영합니다. 전체 재색인은 새 인덱스를 채운 뒤 alias를 원자적으로 교체합니다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "shopping.search.indexer")
+public class ProductIndexerProperties {
+
+    /**
+     * outbox 색인 워커 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * outbox를 읽는 주기 (ms)
+     */
+    private long intervalMs = 500;
+
+    /**
+     * 한 번에 읽는 outbox 행 수 (같은 상품의 행은 하나의 문서로 합쳐짐)
+     */
+    private int batchSize = 1000;
+
+    /**
+     * _bulk 요청 하나에 담는 최대 문서 수
+     */
+    private int bulkMaxDocuments = 500;
+
+    /**
+     * _bulk 요청 하나의 최대 본문 크기 (bytes, 추정치)
+     */
+    private long bulkMaxBytes = 5 * 1024 * 1024;
+
+    /**
+     * 요청 실패/429 응답 시 재시도 횟수
+     */
+    private int maxRetries = 3;
+
+    /**
+     * 첫 재시도 대기 시간 (ms, 재시도마다 2배)
+     */
+    private long initialBackoffMs = 200;
+
+    /**
+     * 전체 재색인에서 products를 읽는 keyset 페이지 크기
+     */
+    private int reindexPageSize = 1000;
+
+    /**
+     * 시작 시 전체 재색인 실행 여부 (인덱스를 새로 만든 경우에는 항상 실행)
+     */
+    private boolean reindexOnStartup = false;
+}
@@ -0,0 +1,46 @@
+package com.portal.universe.shoppingservice.search.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 검색 조회 설정입니다.
+ * application.yml의 shopping.search.query 속성과 바인딩됩니다.
+ *
+ * <p>같은 조건의 검색은 정규화한 키로 Redis에 짧게 캐싱하고, 키에 인덱스 버전을 넣어
+ * 색인 워커가 변경을 반영하면 이전 결과가 더 이상 조회되지 않게 합니다.
+ * 깊은 페이지는 from/size 대신 PIT + search_after 커서로 조회합니다.</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "shopping.search.query")
+public class ProductSearchProperties {
+
+    /**
+     * 검색 결과 캐시 사용 여부
+     */
+    private boolean resultCacheEnabled = true;
+
+    /**
+     * 검색 결과 캐시 TTL (ms)
+     */
+    private long resultCacheTtlMs = 10_000;
+
+    /**
+     * 인덱스 버전을 Redis에서 다시 읽는 주기 (ms)
+     */
+    private long versionRefreshMs = 1_000;
+
+    /**
+     * 전체 건수를 정확히 세는 상한 (넘으면 하한값으로 응답)
+     */
+    private int trackTotalHitsUpTo = 1_000;
+
+    /**
+     * 커서 조회용 PIT 유지 시간 (ES time unit 문자열)
+     */
+    private String pitKeepAlive = "1m";
+}
@@ -29,7 +29,11 @@ public class SearchController {
             @RequestParam(required = false) Double maxPrice,
             @RequestParam(required = false, defaultValue = "relevance") String sort,
             @RequestParam(required = false, defaultValue = "0") int page,
-            @RequestParam(required = false, defaultValue = "20") int size) {
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "false") boolean cursorPaging,
+            @RequestParam(required = false, defaultValue = "true") boolean highlight,
+            @RequestParam(required = false, defaultValue = "true") boolean trackTotalHits) {
 
         ProductSearchRequest request = ProductSearchRequest.builder()
                 .keyword(keyword)
@@ -38,6 +42,10 @@ public class SearchController {
                 .sort(sort)
                 .page(page)
                 .size(size)
+                .cursor(cursor)
+                .cursorPaging(cursorPaging)
+                .highlight(highlight)
+                .trackTotalHits(trackTotalHits)
                 .build();
 
         SearchResponse<ProductSearchResult> response = productSearchService.search(request);
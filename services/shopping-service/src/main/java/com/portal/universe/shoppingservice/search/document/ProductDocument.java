@@ -20,12 +20,19 @@ public class ProductDocument {
     private Integer stock;
 
     public static ProductDocument from(Product product) {
+        return from(product, product.getStock());
+    }
+
+    /**
+     * 재고 시스템의 가용 재고로 문서를 만듭니다.
+     */
+    public static ProductDocument from(Product product, Integer stock) {
         return ProductDocument.builder()
                 .id(product.getId())
                 .name(product.getName())
                 .description(product.getDescription())
                 .price(product.getPrice())
-                .stock(product.getStock())
+                .stock(stock)
                 .build();
     }
 }
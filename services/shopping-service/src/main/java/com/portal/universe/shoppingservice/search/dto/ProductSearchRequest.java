@@ -19,6 +19,18 @@ public class ProductSearchRequest {
     @Builder.Default
     private int size = 20;
 
+    // 이전 응답의 nextCursor (있으면 page 대신 search_after + PIT로 이어서 조회)
+    private String cursor;
+    // true면 PIT를 열어 커서 기반 조회를 시작 (첫 페이지)
+    @Builder.Default
+    private boolean cursorPaging = false;
+    // false면 하이라이트를 생략
+    @Builder.Default
+    private boolean highlight = true;
+    // false면 전체 건수를 세지 않음 (true여도 설정된 상한까지만 정확히 셈)
+    @Builder.Default
+    private boolean trackTotalHits = true;
+
     public static ProductSearchRequest of(String keyword, int page, int size) {
         return ProductSearchRequest.builder()
                 .keyword(keyword)
@@ -26,4 +38,8 @@ public class ProductSearchRequest {
                 .size(size)
                 .build();
     }
+
+    public boolean isCursorMode() {
+        return cursorPaging || (cursor != null && !cursor.isBlank());
+    }
 }
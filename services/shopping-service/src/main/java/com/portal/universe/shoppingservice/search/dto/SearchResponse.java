@@ -13,19 +13,32 @@ import java.util.List;
 @Builder
 public class SearchResponse<T> {
     private List<T> results;
+    // 전체 건수 (-1: 집계하지 않음)
     private long totalHits;
+    // false면 totalHits는 집계 상한까지 센 하한값
+    @Builder.Default
+    private boolean totalHitsExact = true;
     private int page;
     private int size;
     private int totalPages;
+    // 다음 페이지 커서 (커서 기반 조회에서 다음 결과가 있을 때만)
+    private String nextCursor;
 
     public static <T> SearchResponse<T> of(List<T> results, long totalHits, int page, int size) {
-        int totalPages = (int) Math.ceil((double) totalHits / size);
+        return of(results, totalHits, true, page, size, null);
+    }
+
+    public static <T> SearchResponse<T> of(List<T> results, long totalHits, boolean totalHitsExact,
+                                           int page, int size, String nextCursor) {
+        int totalPages = totalHits < 0 ? -1 : (int) Math.ceil((double) totalHits / size);
         return SearchResponse.<T>builder()
                 .results(results)
                 .totalHits(totalHits)
+                .totalHitsExact(totalHitsExact)
                 .page(page)
                 .size(size)
                 .totalPages(totalPages)
+                .nextCursor(nextCursor)
                 .build();
     }
 }
@@ -0,0 +1,35 @@
+package com.portal.universe.shoppingservice.search.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 대상 상품 변경 기록입니다.
+ * 행은 {@link ProductIndexOutboxRecorder}가 JDBC 배치로 쓰고, 색인 워커가 반영 후 삭제합니다.
+ *
+ * <p>애플리케이션 코드는 이 엔티티를 사용하지 않고 {@link ProductIndexOutboxRepository}로만 접근합니다.
+ * 엔티티는 스키마 매핑 용도로만 유지합니다. 운영에서는 ddl-auto=validate로 Flyway 마이그레이션(V6, V7)과 비교되고,
+ * Flyway를 끈 통합 테스트에서는 ddl-auto=create-drop이 이 매핑으로 테이블을 생성합니다.</p>
+ */
+@Entity
+@Table(name = "product_index_outbox")
+@Getter
+@NoArgsConstructor
+public class ProductIndexOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "catalog_changed", nullable = false)
+    private boolean catalogChanged;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,14 @@
+package com.portal.universe.shoppingservice.search.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * 색인 워커가 읽은 outbox 행입니다.
+ *
+ * @param id        outbox 행 ID
+ * @param productId 변경된 상품 ID
+ * @param catalogChanged 상품 정보 변경이면 true, 재고만 바뀌었으면 false
+ * @param createdAt 변경이 기록된 시각 (색인 지연 측정 기준)
+ */
+public record ProductIndexOutboxEntry(long id, long productId, boolean catalogChanged, LocalDateTime createdAt) {
+}
@@ -0,0 +1,122 @@
+package com.portal.universe.shoppingservice.search.outbox;
+
+import com.portal.universe.shoppingservice.product.cache.ProductCatalogCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 검색 색인이 필요한 상품 변경을 outbox에 기록합니다.
+ *
+ * <p>트랜잭션 동안 상품 ID를 모았다가 커밋 직전에 상품별 한 행씩 배치로 INSERT하므로,
+ * 상품/재고 변경과 outbox 기록이 함께 커밋되거나 함께 롤백됩니다.
+ * 한 트랜잭션에서 같은 상품이 여러 번 바뀌어도 한 행만 기록합니다.</p>
+ *
+ * <p>모든 상품/재고 변경이 이곳을 거치므로, 커밋 후 같은 상품 ID로 상품 카탈로그 캐시도 무효화합니다.
+ * 색인 워커를 기다리지 않으므로 재색인 중에도 캐시는 바로 갱신됩니다. 상품 정보 변경은 상세와 목록을 모두 무효화하고,
+ * 주문마다 일어나는 재고 변경은 상세만 무효화해 목록 캐시를 유지합니다 (목록의 재고는 목록 TTL만큼 늦게 반영).
+ * 재고 변경의 상세 무효화는 캐시가 상품별로 짧은 창 동안 모아 한 번에 처리합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductIndexOutboxRecorder {
+
+    private final ProductIndexOutboxRepository outboxRepository;
+    private final ProductCatalogCache productCatalogCache;
+
+    public void record(Long productId) {
+        recordAll(List.of(productId));
+    }
+
+    /**
+     * 상품 정보 변경을 기록합니다. 활성 트랜잭션이 없으면 즉시 저장합니다.
+     */
+    public void recordAll(Collection<Long> productIds) {
+        record(productIds, true);
+    }
+
+    public void recordStock(Long productId) {
+        recordStockAll(List.of(productId));
+    }
+
+    /**
+     * 재고만 바뀐 상품을 기록합니다. 활성 트랜잭션이 없으면 즉시 저장합니다.
+     */
+    public void recordStockAll(Collection<Long> productIds) {
+        record(productIds, false);
+    }
+
+    private void record(Collection<Long> productIds, boolean catalogChanged) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxRepository.append(productIds, catalogChanged, LocalDateTime.now());
+            if (catalogChanged) {
+                productCatalogCache.invalidate(productIds);
+            } else {
+                productCatalogCache.invalidateStock(productIds);
+            }
+            return;
+        }
+        TransactionBatch batch = currentBatch();
+        batch.productIds.addAll(productIds);
+        if (catalogChanged) {
+            batch.catalogProductIds.addAll(productIds);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션에 등록된 배치를 반환합니다.
+     */
+    private TransactionBatch currentBatch() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof TransactionBatch batch) {
+                return batch;
+            }
+        }
+        TransactionBatch batch = new TransactionBatch();
+        TransactionSynchronizationManager.registerSynchronization(batch);
+        return batch;
+    }
+
+    /**
+     * 트랜잭션 하나에서 변경된 상품 ID 묶음입니다.
+     */
+    private final class TransactionBatch implements TransactionSynchronization {
+
+        private final Set<Long> productIds = new LinkedHashSet<>();
+        private final Set<Long> catalogProductIds = new LinkedHashSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            LocalDateTime recordedAt = LocalDateTime.now();
+            if (!catalogProductIds.isEmpty()) {
+                outboxRepository.append(catalogProductIds, true, recordedAt);
+            }
+            Set<Long> stockOnly = stockOnlyProductIds();
+            if (!stockOnly.isEmpty()) {
+                outboxRepository.append(stockOnly, false, recordedAt);
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            productCatalogCache.invalidate(catalogProductIds);
+            productCatalogCache.invalidateStock(stockOnlyProductIds());
+        }
+
+        private Set<Long> stockOnlyProductIds() {
+            Set<Long> stockOnly = new LinkedHashSet<>(productIds);
+            stockOnly.removeAll(catalogProductIds);
+            return stockOnly;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.portal.universe.shoppingservice.search.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * product_index_outbox JDBC 저장소입니다.
+ *
+ * <p>처리한 행은 범위가 아닌 읽은 ID로 삭제합니다. IDENTITY 값은 커밋 순서와 다를 수 있어,
+ * 읽은 뒤 늦게 커밋된 작은 ID의 행을 범위 삭제로 지우면 그 변경이 색인되지 않기 때문입니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductIndexOutboxRepository {
+
+    private static final String INSERT = """
+            INSERT INTO product_index_outbox (product_id, catalog_changed, created_at) VALUES (?, ?, ?)
+            """;
+
+    private static final String FIND_OLDEST = """
+            SELECT id, product_id, catalog_changed, created_at FROM product_index_outbox ORDER BY id LIMIT ?
+            """;
+
+    private static final String DELETE_BY_IDS = """
+            DELETE FROM product_index_outbox WHERE id IN (:ids)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 상품별로 한 행씩 배치로 기록합니다. 호출한 트랜잭션에 참여합니다.
+     *
+     * @param catalogChanged 상품 정보 변경이면 true, 재고만 바뀌었으면 false
+     */
+    public void append(Collection<Long> productIds, boolean catalogChanged, LocalDateTime recordedAt) {
+        Timestamp timestamp = Timestamp.valueOf(recordedAt);
+        jdbcTemplate.batchUpdate(INSERT, productIds, productIds.size(), (ps, productId) -> {
+            ps.setLong(1, productId);
+            ps.setBoolean(2, catalogChanged);
+            ps.setTimestamp(3, timestamp);
+        });
+    }
+
+    /**
+     * 가장 오래된 행부터 읽습니다.
+     */
+    public List<ProductIndexOutboxEntry> findOldest(int limit) {
+        return jdbcTemplate.query(FIND_OLDEST, (rs, rowNum) -> new ProductIndexOutboxEntry(
+                rs.getLong("id"),
+                rs.getLong("product_id"),
+                rs.getBoolean("catalog_changed"),
+                rs.getTimestamp("created_at").toLocalDateTime()), limit);
+    }
+
+    /**
+     * 처리한 행을 삭제합니다.
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(DELETE_BY_IDS, new MapSqlParameterSource("ids", ids));
+    }
+}
@@ -0,0 +1,58 @@
+package com.portal.universe.shoppingservice.search.popular;
+
+/**
+ * 고정 메모리 빈도 추정 sketch입니다.
+ *
+ * <p>depth개의 행마다 키를 width개 칸 중 하나로 해싱해 더하고, 추정값은 행별 칸 중 최솟값입니다.
+ * 충돌 때문에 과대 추정만 하며 과소 추정은 하지 않습니다. 더할 때 최솟값보다 작은 칸만 올리는 conservative update로 과대 추정을 줄입니다.</p>
+ */
+class CountMinSketch {
+
+    private final int width;
+    private final long[][] counters;
+
+    CountMinSketch(int width, int depth) {
+        this.width = width;
+        this.counters = new long[depth][width];
+    }
+
+    /**
+     * 키의 빈도를 count만큼 올리고 새 추정값을 반환합니다.
+     */
+    long add(String key, long count) {
+        int h1 = mix(key.hashCode());
+        int h2 = mix(h1 ^ 0x9E3779B9);
+        int[] slots = new int[counters.length];
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < counters.length; row++) {
+            slots[row] = Math.floorMod(h1 + row * h2, width);
+            estimate = Math.min(estimate, counters[row][slots[row]]);
+        }
+        long updated = estimate + count;
+        for (int row = 0; row < counters.length; row++) {
+            if (counters[row][slots[row]] < updated) {
+                counters[row][slots[row]] = updated;
+            }
+        }
+        return updated;
+    }
+
+    long estimate(String key) {
+        int h1 = mix(key.hashCode());
+        int h2 = mix(h1 ^ 0x9E3779B9);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < counters.length; row++) {
+            estimate = Math.min(estimate, counters[row][Math.floorMod(h1 + row * h2, width)]);
+        }
+        return estimate;
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
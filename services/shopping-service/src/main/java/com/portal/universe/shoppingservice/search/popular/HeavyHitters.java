@@ -0,0 +1,71 @@
+package com.portal.universe.shoppingservice.search.popular;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 한 집계 구간의 빈도 상위 키를 고정 메모리로 추적합니다.
+ *
+ * <p>모든 키의 빈도는 {@link CountMinSketch}로 추정하고, 후보는 최대 capacity개만 보관합니다.
+ * 후보가 가득 찬 상태에서 새 키의 추정값이 후보 최솟값보다 크면 최솟값 후보를 내보내고 들어옵니다 (Space-Saving 방식의 교체).
+ * 후보는 빈도순 정렬 집합에도 함께 두어 최솟값 조회와 빈도 갱신이 모두 O(log capacity)입니다.
+ * 스레드 안전하지 않으므로 호출자가 동기화합니다.</p>
+ */
+class HeavyHitters {
+
+    private static final Comparator<Candidate> BY_COUNT =
+            Comparator.comparingLong(Candidate::count).thenComparing(Candidate::key);
+
+    private final CountMinSketch sketch;
+    private final int capacity;
+    private final Map<String, Long> candidates;
+    private final TreeSet<Candidate> byCount = new TreeSet<>(BY_COUNT);
+
+    private record Candidate(String key, long count) {
+    }
+
+    HeavyHitters(int capacity, int sketchWidth, int sketchDepth) {
+        this.sketch = new CountMinSketch(sketchWidth, sketchDepth);
+        this.capacity = capacity;
+        this.candidates = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 키를 한 번 기록하고 현재 추정 빈도를 반환합니다.
+     */
+    long add(String key) {
+        long estimate = sketch.add(key, 1);
+        Long previous = candidates.get(key);
+        if (previous != null) {
+            byCount.remove(new Candidate(key, previous));
+            put(key, estimate);
+        } else if (candidates.size() < capacity) {
+            put(key, estimate);
+        } else if (!byCount.isEmpty() && estimate > byCount.first().count()) {
+            Candidate min = byCount.pollFirst();
+            candidates.remove(min.key());
+            put(key, estimate);
+        }
+        return estimate;
+    }
+
+    /**
+     * 후보와 추정 빈도를 반환합니다.
+     */
+    List<Map.Entry<String, Long>> entries() {
+        return new ArrayList<>(candidates.entrySet());
+    }
+
+    boolean isEmpty() {
+        return candidates.isEmpty();
+    }
+
+    private void put(String key, long count) {
+        candidates.put(key, count);
+        byCount.add(new Candidate(key, count));
+    }
+}
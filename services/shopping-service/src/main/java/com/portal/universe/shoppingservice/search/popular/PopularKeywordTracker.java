@@ -0,0 +1,211 @@
+package com.portal.universe.shoppingservice.search.popular;
+
+import com.portal.universe.shoppingservice.search.config.PopularKeywordProperties;
+import com.portal.universe.shoppingservice.search.suggest.SuggestTerm;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 시간 구간별로 감쇠하는 인기 검색어 집계기입니다.
+ *
+ * <p>검색마다 Redis에 쓰지 않고 인스턴스 메모리의 {@link HeavyHitters}에 셉니다. flush 주기마다 상위 후보만
+ * 현재 시간 구간 ZSET({@code search:popular:w:{구간 번호}})에 한 번의 파이프라인으로 더하고 로컬 집계를 비웁니다.
+ * 인기 검색어({@link #POPULAR_NOW_KEY})는 한 인스턴스가 최근 구간들을 나이에 따라 반감기로 감쇠한 가중치로
+ * ZUNIONSTORE해 만들고 상위 {@code resultSize}개만 남깁니다. 구간 키는 집계 범위가 지나면 만료되므로 메모리가 늘지 않습니다.</p>
+ *
+ * <p>이전 버전이 쓰던 누적 ZSET({@link #LEGACY_POPULAR_KEY})이 남아 있으면 첫 합산 때 상위 {@code resultSize}개를
+ * 현재 구간에 더해 seed로 쓰고 키는 UNLINK로 지웁니다. 옮긴 점수는 다른 구간처럼 감쇠하다 구간 만료와 함께 사라집니다.</p>
+ */
+@Slf4j
+@Component
+public class PopularKeywordTracker {
+
+    public static final String POPULAR_NOW_KEY = "search:popular:now";
+    static final String WINDOW_KEY_PREFIX = "search:popular:w:";
+    static final String LOCK_KEY = "lock:scheduler:search:popular";
+    static final String LEGACY_POPULAR_KEY = "search:popular";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedissonClient redissonClient;
+    private final PopularKeywordProperties properties;
+    private final Counter flushedCounter;
+
+    private HeavyHitters current;
+    private volatile boolean legacySeeded;
+
+    public PopularKeywordTracker(StringRedisTemplate stringRedisTemplate,
+                                 RedissonClient redissonClient,
+                                 PopularKeywordProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+        this.current = newSketch();
+        this.flushedCounter = Counter.builder("search.popular.flushed")
+                .description("Redis 구간 ZSET에 더한 인기 검색어 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검색어를 로컬에 기록하고 현재 flush 구간의 추정 검색 횟수를 반환합니다. (집계 대상이 아니면 0)
+     */
+    public long record(String keyword) {
+        String key = SuggestTerm.normalize(keyword);
+        if (key.isEmpty() || key.length() > properties.getMaxKeywordLength()) {
+            return 0;
+        }
+        synchronized (this) {
+            return current.add(key);
+        }
+    }
+
+    /**
+     * 감쇠 합산된 인기 검색어 상위 size개를 반환합니다.
+     */
+    public List<String> topKeywords(int size) {
+        Set<String> keywords = stringRedisTemplate.opsForZSet().reverseRange(POPULAR_NOW_KEY, 0, size - 1);
+        return keywords == null ? List.of() : List.copyOf(keywords);
+    }
+
+    /**
+     * 감쇠 합산된 인기 검색어 상위 size개를 점수와 함께 반환합니다.
+     */
+    public Set<ZSetOperations.TypedTuple<String>> topWithScores(int size) {
+        Set<ZSetOperations.TypedTuple<String>> keywords =
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(POPULAR_NOW_KEY, 0, size - 1);
+        return keywords == null ? Set.of() : keywords;
+    }
+
+    @Scheduled(fixedDelayString = "${shopping.search.popular.flush-interval-ms:10000}")
+    public void flush() {
+        flush(System.currentTimeMillis());
+    }
+
+    /**
+     * 로컬 집계를 현재 시간 구간 ZSET에 더합니다. 실패하면 이번 구간 집계는 버립니다. (인기 검색어는 근사치이므로 재시도하지 않음)
+     */
+    void flush(long nowMs) {
+        HeavyHitters flushed;
+        synchronized (this) {
+            if (current.isEmpty()) {
+                return;
+            }
+            flushed = current;
+            current = newSketch();
+        }
+
+        List<Map.Entry<String, Long>> entries = flushed.entries();
+        try {
+            addToWindow(nowMs / properties.getWindowMs(), entries);
+            flushedCounter.increment(entries.size());
+        } catch (DataAccessException e) {
+            log.warn("Failed to flush {} popular keywords: {}", entries.size(), e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shopping.search.popular.refresh-ms:60000}")
+    public void refresh() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            refresh(System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("Failed to refresh popular keywords: {}", e.getMessage());
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 최근 구간들을 나이별 감쇠 가중치로 합쳐 인기 검색어를 다시 만듭니다.
+     */
+    void refresh(long nowMs) {
+        long window = nowMs / properties.getWindowMs();
+        if (!legacySeeded) {
+            seedFromLegacy(window);
+        }
+        int windows = properties.getWindows();
+        List<String> keys = new ArrayList<>(windows);
+        double[] weights = new double[windows];
+        for (int age = 0; age < windows; age++) {
+            keys.add(windowKey(window - age));
+            weights[age] = Math.pow(0.5, (double) age * properties.getWindowMs() / properties.getHalfLifeMs());
+        }
+
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+        zSet.unionAndStore(keys.get(0), keys.subList(1, keys.size()), POPULAR_NOW_KEY,
+                Aggregate.SUM, Weights.of(weights));
+        // 점수 오름차순이므로 앞쪽(하위)을 지워 상위 resultSize개만 남김
+        zSet.removeRange(POPULAR_NOW_KEY, 0, -(properties.getResultSize() + 1L));
+    }
+
+    /**
+     * 이전 버전의 누적 ZSET 상위 항목을 현재 구간에 한 번 더하고 누적 ZSET을 지웁니다.
+     */
+    private void seedFromLegacy(long window) {
+        Set<ZSetOperations.TypedTuple<String>> legacy = stringRedisTemplate.opsForZSet()
+                .reverseRangeWithScores(LEGACY_POPULAR_KEY, 0, properties.getResultSize() - 1L);
+        if (legacy != null && !legacy.isEmpty()) {
+            List<Map.Entry<String, Long>> entries = new ArrayList<>(legacy.size());
+            for (ZSetOperations.TypedTuple<String> tuple : legacy) {
+                if (tuple.getValue() != null && tuple.getScore() != null) {
+                    entries.add(Map.entry(tuple.getValue(), Math.round(tuple.getScore())));
+                }
+            }
+            addToWindow(window, entries);
+            // 제한 없이 커진 ZSET일 수 있으므로 DEL 대신 UNLINK로 백그라운드 해제
+            stringRedisTemplate.unlink(LEGACY_POPULAR_KEY);
+            log.info("Seeded {} popular keywords from legacy key {}", entries.size(), LEGACY_POPULAR_KEY);
+        }
+        legacySeeded = true;
+    }
+
+    /**
+     * 구간 ZSET에 항목별 횟수를 한 번의 파이프라인으로 더하고 만료 시간을 갱신합니다.
+     */
+    private void addToWindow(long window, List<Map.Entry<String, Long>> entries) {
+        String key = windowKey(window);
+        Duration ttl = Duration.ofMillis(properties.getWindowMs() * (properties.getWindows() + 1L));
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (Map.Entry<String, Long> entry : entries) {
+                    operations.opsForZSet().incrementScore(key, entry.getKey(), entry.getValue());
+                }
+                operations.expire(key, ttl);
+                return null;
+            }
+        });
+    }
+
+    static String windowKey(long window) {
+        return WINDOW_KEY_PREFIX + window;
+    }
+
+    private HeavyHitters newSketch() {
+        return new HeavyHitters(properties.getTopK(), properties.getSketchWidth(), properties.getSketchDepth());
+    }
+}
@@ -0,0 +1,169 @@
+package com.portal.universe.shoppingservice.search.scheduler;
+
+import com.portal.universe.shoppingservice.product.domain.Product;
+import com.portal.universe.shoppingservice.product.repository.ProductRepository;
+import com.portal.universe.shoppingservice.search.config.ProductIndexerProperties;
+import com.portal.universe.shoppingservice.search.document.ProductDocument;
+import com.portal.universe.shoppingservice.search.outbox.ProductIndexOutboxEntry;
+import com.portal.universe.shoppingservice.search.outbox.ProductIndexOutboxRepository;
+import com.portal.universe.shoppingservice.search.service.IndexInitializationService;
+import com.portal.universe.shoppingservice.search.service.ProductBulkIndexer;
+import com.portal.universe.shoppingservice.search.service.ProductDocumentAssembler;
+import com.portal.universe.shoppingservice.search.service.SearchIndexVersion;
+import com.portal.universe.shoppingservice.search.suggest.AutocompleteIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * product_index_outbox를 읽어 검색 인덱스에 반영하는 워커입니다.
+ *
+ * <p>outbox 행을 상품별로 합쳐 현재 DB 상태로 문서를 만들고(없는 상품은 삭제), _bulk 요청으로 반영한 뒤
+ * 반영된 상품의 행만 삭제합니다. 재시도 후에도 실패한 상품의 행은 남겨 다음 주기에 다시 처리합니다.
+ * 검색 결과 캐시 버전은 상품 정보 변경이 반영된 배치에서만 올리고, 이때는 _bulk를 refresh=wait_for로 보내
+ * 버전이 오른 뒤의 검색이 반영 전 결과를 새 버전으로 캐싱하지 않도록 합니다.
+ * 주문마다 생기는 재고 변경은 버전을 올리지 않으므로 캐시된 결과의 재고는 캐시 TTL만큼 늦게 반영됩니다.
+ * 전체 재색인과 같은 분산 락을 사용하므로 재색인 중에는 outbox가 쌓였다가 alias 교체 후 새 인덱스에 반영됩니다.</p>
+ */
+@Slf4j
+@Component
+public class ProductIndexOutboxWorker {
+
+    /**
+     * 워커와 전체 재색인이 공유하는 분산 락 키
+     */
+    public static final String LOCK_KEY = "lock:scheduler:search:product-indexer";
+
+    private final ProductIndexOutboxRepository outboxRepository;
+    private final ProductRepository productRepository;
+    private final ProductDocumentAssembler documentAssembler;
+    private final ProductBulkIndexer bulkIndexer;
+    private final SearchIndexVersion indexVersion;
+    private final AutocompleteIndex autocompleteIndex;
+    private final ProductIndexerProperties properties;
+    private final RedissonClient redissonClient;
+    private final Timer lagTimer;
+
+    public ProductIndexOutboxWorker(ProductIndexOutboxRepository outboxRepository,
+                                    ProductRepository productRepository,
+                                    ProductDocumentAssembler documentAssembler,
+                                    ProductBulkIndexer bulkIndexer,
+                                    SearchIndexVersion indexVersion,
+                                    AutocompleteIndex autocompleteIndex,
+                                    ProductIndexerProperties properties,
+                                    RedissonClient redissonClient,
+                                    MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.productRepository = productRepository;
+        this.documentAssembler = documentAssembler;
+        this.bulkIndexer = bulkIndexer;
+        this.indexVersion = indexVersion;
+        this.autocompleteIndex = autocompleteIndex;
+        this.properties = properties;
+        this.redissonClient = redissonClient;
+        this.lagTimer = Timer.builder("search.indexer.lag")
+                .description("상품 변경이 outbox에 기록된 뒤 검색 인덱스에 반영되기까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * outbox가 빌 때까지 배치 단위로 반영합니다.
+     * 다른 인스턴스가 반영 중이거나 재색인 중이면 이번 주기는 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${shopping.search.indexer.interval-ms:500}")
+    public void drain() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            int batchSize = properties.getBatchSize();
+            int drained;
+            do {
+                drained = drainBatch(batchSize);
+            } while (drained == batchSize);
+        } catch (Exception e) {
+            log.error("Product index outbox drain failed, will retry on next cycle", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * outbox 한 배치를 반영합니다.
+     *
+     * @return 반영 후 삭제한 outbox 행 수 (실패한 상품이 있으면 배치 크기보다 작음)
+     */
+    int drainBatch(int batchSize) {
+        List<ProductIndexOutboxEntry> entries = outboxRepository.findOldest(batchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        // 상품별로 합치고 가장 오래된 기록 시각을 지연 측정 기준으로 사용
+        Map<Long, LocalDateTime> oldestByProduct = new LinkedHashMap<>();
+        for (ProductIndexOutboxEntry entry : entries) {
+            oldestByProduct.putIfAbsent(entry.productId(), entry.createdAt());
+        }
+
+        List<Product> products = productRepository.findAllById(oldestByProduct.keySet());
+        List<ProductDocument> documents = documentAssembler.toDocuments(products);
+        Set<Long> deletedIds = new HashSet<>(oldestByProduct.keySet());
+        products.forEach(product -> deletedIds.remove(product.getId()));
+
+        boolean catalogChanged = entries.stream().anyMatch(ProductIndexOutboxEntry::catalogChanged);
+        Set<Long> failed = bulkIndexer.apply(IndexInitializationService.PRODUCTS_ALIAS, documents, deletedIds,
+                catalogChanged);
+
+        List<Long> processedIds = new ArrayList<>(entries.size());
+        for (ProductIndexOutboxEntry entry : entries) {
+            if (!failed.contains(entry.productId())) {
+                processedIds.add(entry.id());
+            }
+        }
+        outboxRepository.deleteByIds(processedIds);
+        boolean catalogIndexed = entries.stream()
+                .anyMatch(entry -> entry.catalogChanged() && !failed.contains(entry.productId()));
+        if (catalogIndexed) {
+            // 반영된 변경이 검색에 보이는 시점(refresh 이후)에 올려 검색 결과 캐시가 이전 결과를 내주지 않도록 함
+            indexVersion.bump();
+        }
+        autocompleteIndex.publishProductNames(products.stream()
+                .filter(product -> !failed.contains(product.getId()))
+                .map(Product::getName)
+                .toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        oldestByProduct.forEach((productId, recordedAt) -> {
+            if (!failed.contains(productId)) {
+                lagTimer.record(Duration.between(recordedAt, now));
+            }
+        });
+
+        if (!failed.isEmpty()) {
+            log.warn("Failed to index {} products, leaving their outbox entries for retry", failed.size());
+        }
+        log.debug("Indexed {} products from {} outbox entries", oldestByProduct.size() - failed.size(), entries.size());
+        return processedIds.size();
+    }
+}
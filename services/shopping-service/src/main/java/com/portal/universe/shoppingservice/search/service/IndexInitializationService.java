@@ -3,6 +3,7 @@ package com.portal.universe.shoppingservice.search.service;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
 import co.elastic.clients.elasticsearch.indices.ExistsRequest;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
@@ -13,29 +14,104 @@ import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
+/**
+ * 상품 검색 인덱스를 관리합니다.
+ *
+ * <p>검색/색인은 alias({@value #PRODUCTS_ALIAS})를 통해 버전이 붙은 실제 인덱스(products_yyyyMMddHHmmssSSS)를 사용합니다.
+ * 전체 재색인은 새 인덱스를 채운 뒤 {@link #swapAlias(String)}로 alias를 한 번의 요청에서 옮깁니다.
+ * 이전 버전에서 alias 이름으로 직접 만든 인덱스가 있으면 교체 시 함께 제거합니다.</p>
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class IndexInitializationService {
 
-    private static final String INDEX_NAME = "products";
+    public static final String PRODUCTS_ALIAS = "products";
     private static final String MAPPING_FILE = "elasticsearch/products-mapping.json";
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
 
     private final ElasticsearchClient esClient;
     private final ObjectMapper objectMapper;
 
+    // 시작 시 인덱스를 새로 만들었는지 (기존 상품을 채우는 재색인 필요)
+    private volatile boolean createdOnStartup;
+
     @PostConstruct
     public void initializeIndices() {
         try {
-            if (!indexExists(INDEX_NAME)) {
-                createIndex(INDEX_NAME, MAPPING_FILE);
+            if (!indexExists(PRODUCTS_ALIAS)) {
+                String index = createVersionedIndex();
+                esClient.indices().updateAliases(u -> u.actions(a -> a.add(add -> add.index(index).alias(PRODUCTS_ALIAS))));
+                createdOnStartup = true;
+                log.info("Created Elasticsearch index {} with alias {}", index, PRODUCTS_ALIAS);
             }
         } catch (IOException e) {
             log.error("Failed to initialize Elasticsearch indices", e);
         }
     }
 
+    public boolean isCreatedOnStartup() {
+        return createdOnStartup;
+    }
+
+    /**
+     * 매핑 파일로 버전이 붙은 새 인덱스를 만듭니다.
+     *
+     * @return 생성된 인덱스 이름
+     */
+    public String createVersionedIndex() throws IOException {
+        String indexName = PRODUCTS_ALIAS + "_" + LocalDateTime.now().format(VERSION_FORMAT);
+        createIndex(indexName, MAPPING_FILE);
+        return indexName;
+    }
+
+    /**
+     * alias를 새 인덱스로 원자적으로 옮기고 이전 인덱스를 삭제합니다.
+     */
+    public void swapAlias(String newIndex) throws IOException {
+        Set<String> previousIndices = Set.of();
+        boolean legacyConcreteIndex = false;
+        if (esClient.indices().existsAlias(e -> e.name(PRODUCTS_ALIAS)).value()) {
+            previousIndices = esClient.indices().getAlias(g -> g.name(PRODUCTS_ALIAS)).result().keySet();
+        } else {
+            legacyConcreteIndex = indexExists(PRODUCTS_ALIAS);
+        }
+
+        List<Action> actions = new ArrayList<>();
+        actions.add(Action.of(a -> a.add(add -> add.index(newIndex).alias(PRODUCTS_ALIAS))));
+        for (String previous : previousIndices) {
+            if (!previous.equals(newIndex)) {
+                actions.add(Action.of(a -> a.remove(remove -> remove.index(previous).alias(PRODUCTS_ALIAS))));
+            }
+        }
+        if (legacyConcreteIndex) {
+            actions.add(Action.of(a -> a.removeIndex(remove -> remove.index(PRODUCTS_ALIAS))));
+        }
+        esClient.indices().updateAliases(u -> u.actions(actions));
+        log.info("Alias {} now points to {} (previous: {})", PRODUCTS_ALIAS, newIndex,
+                legacyConcreteIndex ? PRODUCTS_ALIAS : previousIndices);
+
+        for (String previous : previousIndices) {
+            if (!previous.equals(newIndex)) {
+                deleteIndexQuietly(previous);
+            }
+        }
+    }
+
+    public void deleteIndexQuietly(String indexName) {
+        try {
+            esClient.indices().delete(d -> d.index(indexName));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to delete Elasticsearch index {}: {}", indexName, e.getMessage());
+        }
+    }
+
     private boolean indexExists(String indexName) throws IOException {
         return esClient.indices().exists(ExistsRequest.of(e -> e.index(indexName))).value();
     }
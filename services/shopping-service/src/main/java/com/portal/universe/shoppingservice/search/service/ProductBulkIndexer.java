@@ -0,0 +1,236 @@
+package com.portal.universe.shoppingservice.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.universe.shoppingservice.search.config.ProductIndexerProperties;
+import com.portal.universe.shoppingservice.search.document.ProductDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 문서 색인/삭제를 Elasticsearch _bulk 요청으로 보냅니다.
+ *
+ * <p>요청은 문서 수({@code bulkMaxDocuments})와 추정 본문 크기({@code bulkMaxBytes}) 중 먼저 닿는 기준으로 나눕니다.
+ * 요청 자체가 실패하거나 항목이 429/5xx로 거절되면 해당 항목만 지수 백오프로 재시도하고,
+ * 재시도 후에도 남은 항목의 상품 ID를 호출자에게 돌려줘 다음 주기에 다시 처리하게 합니다.
+ * 매핑 오류 같은 4xx 거절은 재시도해도 결과가 같으므로 기록만 하고 처리된 것으로 봅니다.</p>
+ */
+@Slf4j
+@Component
+public class ProductBulkIndexer {
+
+    // _bulk 액션 줄({"index":{"_id":...}})과 줄바꿈의 추정 크기
+    private static final int ACTION_LINE_BYTES = 64;
+
+    private final ElasticsearchClient esClient;
+    private final ObjectMapper objectMapper;
+    private final ProductIndexerProperties properties;
+
+    private final Counter indexedCounter;
+    private final Counter deletedCounter;
+    private final Counter rejectedCounter;
+    private final Counter retryCounter;
+    private final Timer bulkTimer;
+
+    public ProductBulkIndexer(ElasticsearchClient esClient,
+                              ObjectMapper objectMapper,
+                              ProductIndexerProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.esClient = esClient;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.indexedCounter = documentCounter(meterRegistry, "index");
+        this.deletedCounter = documentCounter(meterRegistry, "delete");
+        this.rejectedCounter = Counter.builder("search.indexer.rejected")
+                .description("재시도 없이 거절된 색인 항목 수 (매핑 오류 등)")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("search.indexer.retries")
+                .description("_bulk 요청 재시도 횟수")
+                .register(meterRegistry);
+        this.bulkTimer = Timer.builder("search.indexer.bulk")
+                .description("_bulk 요청 하나의 처리 시간")
+                .register(meterRegistry);
+    }
+
+    private static Counter documentCounter(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder("search.indexer.documents")
+                .description("Elasticsearch에 반영된 상품 문서 수")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 문서를 색인하고 삭제된 상품을 인덱스에서 제거합니다.
+     *
+     * @param index      대상 인덱스 또는 alias
+     * @param documents  색인할 문서
+     * @param deletedIds 인덱스에서 제거할 상품 ID
+     * @return 재시도 후에도 반영하지 못한 상품 ID
+     */
+    public Set<Long> apply(String index, List<ProductDocument> documents, Collection<Long> deletedIds) {
+        return apply(index, documents, deletedIds, false);
+    }
+
+    /**
+     * 문서를 색인하고 삭제된 상품을 인덱스에서 제거합니다.
+     *
+     * @param waitForRefresh true면 refresh=wait_for로 보내 반영된 문서가 검색에 보일 때까지 기다림
+     * @return 재시도 후에도 반영하지 못한 상품 ID
+     */
+    public Set<Long> apply(String index, List<ProductDocument> documents, Collection<Long> deletedIds,
+                           boolean waitForRefresh) {
+        List<Operation> operations = new ArrayList<>(documents.size() + deletedIds.size());
+        for (ProductDocument document : documents) {
+            operations.add(new Operation(document.getId(),
+                    BulkOperation.of(op -> op.index(i -> i.id(String.valueOf(document.getId())).document(document))),
+                    estimateBytes(document)));
+        }
+        for (Long productId : deletedIds) {
+            operations.add(new Operation(productId,
+                    BulkOperation.of(op -> op.delete(d -> d.id(String.valueOf(productId)))),
+                    ACTION_LINE_BYTES));
+        }
+
+        Set<Long> failed = new HashSet<>();
+        List<Operation> chunk = new ArrayList<>();
+        long chunkBytes = 0;
+        for (Operation operation : operations) {
+            if (!chunk.isEmpty() && (chunk.size() >= properties.getBulkMaxDocuments()
+                    || chunkBytes + operation.estimatedBytes() > properties.getBulkMaxBytes())) {
+                failed.addAll(send(index, chunk, waitForRefresh));
+                chunk = new ArrayList<>();
+                chunkBytes = 0;
+            }
+            chunk.add(operation);
+            chunkBytes += operation.estimatedBytes();
+        }
+        if (!chunk.isEmpty()) {
+            failed.addAll(send(index, chunk, waitForRefresh));
+        }
+        return failed;
+    }
+
+    /**
+     * _bulk 요청 하나를 보내고, 재시도 가능한 항목만 모아 다시 보냅니다.
+     *
+     * @return 재시도 후에도 반영하지 못한 상품 ID
+     */
+    private Set<Long> send(String index, List<Operation> operations, boolean waitForRefresh) {
+        List<Operation> pending = operations;
+        for (int attempt = 0; attempt <= properties.getMaxRetries(); attempt++) {
+            if (attempt > 0) {
+                retryCounter.increment();
+                if (!backoff(attempt)) {
+                    break;
+                }
+            }
+            try {
+                pending = sendOnce(index, pending, waitForRefresh);
+            } catch (ElasticsearchException e) {
+                if (!isRetryable(e.status())) {
+                    log.error("Bulk request to {} rejected: status={}, reason={}", index, e.status(), e.getMessage());
+                    rejectedCounter.increment(pending.size());
+                    return Set.of();
+                }
+                log.warn("Bulk request to {} failed (attempt {}): {}", index, attempt + 1, e.getMessage());
+            } catch (IOException e) {
+                log.warn("Bulk request to {} failed (attempt {}): {}", index, attempt + 1, e.getMessage());
+            }
+            if (pending.isEmpty()) {
+                return Set.of();
+            }
+        }
+        log.error("Giving up on {} bulk operations for {} after {} retries",
+                pending.size(), index, properties.getMaxRetries());
+        return pending.stream().map(Operation::productId).collect(Collectors.toSet());
+    }
+
+    /**
+     * @return 429/5xx로 거절되어 다시 보내야 하는 항목
+     */
+    private List<Operation> sendOnce(String index, List<Operation> operations, boolean waitForRefresh)
+            throws IOException {
+        BulkRequest request = BulkRequest.of(b -> {
+            b.index(index).operations(operations.stream().map(Operation::operation).toList());
+            if (waitForRefresh) {
+                b.refresh(Refresh.WaitFor);
+            }
+            return b;
+        });
+        Timer.Sample sample = Timer.start();
+        BulkResponse response;
+        try {
+            response = esClient.bulk(request);
+        } finally {
+            sample.stop(bulkTimer);
+        }
+
+        Map<String, Operation> byId = operations.stream()
+                .collect(Collectors.toMap(o -> String.valueOf(o.productId()), Function.identity(), (a, b) -> b));
+        List<Operation> retry = new ArrayList<>();
+        for (BulkResponseItem item : response.items()) {
+            int status = item.status();
+            boolean delete = item.operationType() == OperationType.Delete;
+            if (status < 300 || (delete && status == 404)) {
+                (delete ? deletedCounter : indexedCounter).increment();
+            } else if (isRetryable(status)) {
+                retry.add(byId.get(item.id()));
+            } else {
+                rejectedCounter.increment();
+                log.error("Bulk item rejected: index={}, id={}, status={}, reason={}", index, item.id(), status,
+                        item.error() != null ? item.error().reason() : null);
+            }
+        }
+        return retry;
+    }
+
+    private boolean backoff(int attempt) {
+        long delay = properties.getInitialBackoffMs() << (attempt - 1);
+        if (delay <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean isRetryable(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    private long estimateBytes(ProductDocument document) {
+        try {
+            return ACTION_LINE_BYTES + objectMapper.writeValueAsBytes(document).length;
+        } catch (JsonProcessingException e) {
+            return ACTION_LINE_BYTES + 1024;
+        }
+    }
+
+    private record Operation(long productId, BulkOperation operation, long estimatedBytes) {
+    }
+}
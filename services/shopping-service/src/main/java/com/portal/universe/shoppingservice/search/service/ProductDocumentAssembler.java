@@ -0,0 +1,37 @@
+package com.portal.universe.shoppingservice.search.service;
+
+import com.portal.universe.shoppingservice.inventory.domain.Inventory;
+import com.portal.universe.shoppingservice.inventory.repository.InventoryRepository;
+import com.portal.universe.shoppingservice.product.domain.Product;
+import com.portal.universe.shoppingservice.search.document.ProductDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 묶음을 검색 문서로 변환합니다.
+ * 재고는 재고 시스템(inventory)의 가용 수량을 한 번의 IN 조회로 읽고, 재고 행이 없는 상품은 상품의 재고 값을 씁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductDocumentAssembler {
+
+    private final InventoryRepository inventoryRepository;
+
+    public List<ProductDocument> toDocuments(List<Product> products) {
+        if (products.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> availableByProduct = inventoryRepository
+                .findByProductIds(products.stream().map(Product::getId).toList()).stream()
+                .collect(Collectors.toMap(Inventory::getProductId, Inventory::getAvailableQuantity));
+
+        return products.stream()
+                .map(product -> ProductDocument.from(product,
+                        availableByProduct.getOrDefault(product.getId(), product.getStock())))
+                .toList();
+    }
+}
@@ -0,0 +1,136 @@
+package com.portal.universe.shoppingservice.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.portal.universe.shoppingservice.product.domain.Product;
+import com.portal.universe.shoppingservice.product.repository.ProductRepository;
+import com.portal.universe.shoppingservice.search.config.ProductIndexerProperties;
+import com.portal.universe.shoppingservice.search.scheduler.ProductIndexOutboxWorker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 전체 재색인을 수행합니다.
+ *
+ * <p>새 버전 인덱스를 만들고(refresh 비활성화) products 테이블을 id keyset 페이지로 읽어 _bulk로 채운 뒤,
+ * alias를 원자적으로 새 인덱스로 옮깁니다. 실행 중에는 outbox 워커와 같은 분산 락을 잡아 증분 색인을 멈추고,
+ * 그동안 쌓인 outbox는 alias 교체 후 워커가 새 인덱스에 반영합니다. 실패하면 새 인덱스를 지우고 기존 alias를 유지합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductReindexService {
+
+    private static final long LOCK_WAIT_SECONDS = 30;
+
+    private final ElasticsearchClient esClient;
+    private final IndexInitializationService indexInitializationService;
+    private final ProductRepository productRepository;
+    private final ProductDocumentAssembler documentAssembler;
+    private final ProductBulkIndexer bulkIndexer;
+    private final SearchIndexVersion indexVersion;
+    private final ProductIndexerProperties properties;
+    private final RedissonClient redissonClient;
+
+    /**
+     * 인덱스를 새로 만들었거나 설정으로 요청된 경우 시작 후 백그라운드에서 재색인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexOnStartup() {
+        if (!properties.isEnabled()
+                || !(properties.isReindexOnStartup() || indexInitializationService.isCreatedOnStartup())) {
+            return;
+        }
+        Thread thread = new Thread(this::reindex, "product-reindex");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 전체 재색인을 실행합니다.
+     *
+     * @return alias 교체까지 완료했으면 true
+     */
+    public boolean reindex() {
+        RLock lock = redissonClient.getLock(ProductIndexOutboxWorker.LOCK_KEY);
+        try {
+            if (!lock.tryLock(LOCK_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Skipping product reindex: indexer lock is held by another instance");
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        String newIndex = null;
+        try {
+            newIndex = indexInitializationService.createVersionedIndex();
+            String index = newIndex;
+            long startedAt = System.nanoTime();
+            setRefreshInterval(index, "-1");
+
+            long indexed = load(index);
+
+            setRefreshInterval(index, "1s");
+            esClient.indices().refresh(r -> r.index(index));
+            indexInitializationService.swapAlias(index);
+            indexVersion.bump();
+
+            long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            log.info("Reindexed {} products into {} in {} ms ({} docs/sec)",
+                    indexed, newIndex, elapsedMillis, indexed * 1000 / elapsedMillis);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("Product reindex failed, keeping current alias", e);
+            if (newIndex != null) {
+                indexInitializationService.deleteIndexQuietly(newIndex);
+            }
+            return false;
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * products를 id keyset 페이지로 읽어 새 인덱스에 색인합니다.
+     *
+     * @return 색인한 문서 수
+     */
+    private long load(String index) {
+        long indexed = 0;
+        long lastId = 0;
+        List<Product> page;
+        do {
+            page = productRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(properties.getReindexPageSize()));
+            if (page.isEmpty()) {
+                break;
+            }
+            Set<Long> failed = bulkIndexer.apply(index, documentAssembler.toDocuments(page), List.of());
+            if (!failed.isEmpty()) {
+                throw new IllegalStateException("Failed to index " + failed.size() + " products into " + index);
+            }
+            indexed += page.size();
+            lastId = page.get(page.size() - 1).getId();
+        } while (page.size() == properties.getReindexPageSize());
+        return indexed;
+    }
+
+    private void setRefreshInterval(String index, String interval) throws IOException {
+        esClient.indices().putSettings(p -> p
+                .index(index)
+                .settings(s -> s.refreshInterval(t -> t.time(interval))));
+    }
+}
@@ -1,12 +1,20 @@
 package com.portal.universe.shoppingservice.search.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch.core.IndexResponse;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.universe.commonlibrary.exception.CustomBusinessException;
+import com.portal.universe.shoppingservice.common.exception.ShoppingErrorCode;
 import com.portal.universe.shoppingservice.product.domain.Product;
+import com.portal.universe.shoppingservice.search.config.ProductSearchProperties;
 import com.portal.universe.shoppingservice.search.document.ProductDocument;
 import com.portal.universe.shoppingservice.search.dto.ProductSearchRequest;
 import com.portal.universe.shoppingservice.search.dto.ProductSearchResult;
@@ -21,6 +29,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -29,6 +38,9 @@ public class ProductSearchService {
 
     private static final String INDEX_NAME = "products";
     private final ElasticsearchClient esClient;
+    private final SearchResultCache searchResultCache;
+    private final ProductSearchProperties properties;
+    private final ObjectMapper objectMapper;
 
     public void indexProduct(Product product) {
         try {
@@ -75,49 +87,154 @@ public class ProductSearchService {
     }
 
     public SearchResponse<ProductSearchResult> search(ProductSearchRequest request) {
+        if (request.isCursorMode()) {
+            return searchWithCursor(request);
+        }
+
+        boolean cacheable = properties.isResultCacheEnabled();
+        if (cacheable) {
+            Optional<SearchResponse<ProductSearchResult>> cached = searchResultCache.get(request);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
         try {
-            SearchRequest searchRequest = buildSearchRequest(request);
+            SearchRequest searchRequest = buildSearchRequest(request, null, null);
             var response = esClient.search(searchRequest, ProductDocument.class);
+            SearchResponse<ProductSearchResult> result = toSearchResponse(request, response, null);
+            if (cacheable) {
+                searchResultCache.put(request, result);
+            }
+            return result;
 
-            List<ProductSearchResult> results = new ArrayList<>();
-            for (Hit<ProductDocument> hit : response.hits().hits()) {
-                ProductDocument doc = hit.source();
-                if (doc != null) {
-                    ProductSearchResult result = mapToSearchResult(doc, hit);
-                    results.add(result);
-                }
+        } catch (IOException e) {
+            log.error("Search failed for keyword: {}", request.getKeyword(), e);
+            return SearchResponse.of(List.of(), 0, request.getPage(), request.getSize());
+        }
+    }
+
+    /**
+     * PIT + search_after로 조회합니다. 커서가 없으면 PIT를 열어 첫 페이지를 읽고,
+     * 페이지가 가득 차면 마지막 hit의 sort 값을 다음 커서로 돌려줍니다. 마지막 페이지에서는 PIT를 닫습니다.
+     */
+    private SearchResponse<ProductSearchResult> searchWithCursor(ProductSearchRequest request) {
+        SearchCursor cursor = null;
+        if (StringUtils.hasText(request.getCursor())) {
+            try {
+                cursor = SearchCursor.decode(request.getCursor(), objectMapper);
+            } catch (IllegalArgumentException e) {
+                throw new CustomBusinessException(ShoppingErrorCode.INVALID_SEARCH_QUERY);
+            }
+        }
+
+        try {
+            String pitId = cursor != null ? cursor.pitId() : openPointInTime();
+            var response = esClient.search(buildSearchRequest(request, pitId, cursor), ProductDocument.class);
+            if (response.pitId() != null) {
+                pitId = response.pitId();
             }
 
-            long totalHits = response.hits().total() != null ? response.hits().total().value() : 0;
-            return SearchResponse.of(results, totalHits, request.getPage(), request.getSize());
+            List<Hit<ProductDocument>> hits = response.hits().hits();
+            String nextCursor = null;
+            if (hits.size() == request.getSize() && !hits.isEmpty()) {
+                nextCursor = SearchCursor.of(pitId, hits.get(hits.size() - 1).sort()).encode(objectMapper);
+            } else {
+                closePointInTimeQuietly(pitId);
+            }
+            return toSearchResponse(request, response, nextCursor);
 
+        } catch (ElasticsearchException e) {
+            if (cursor != null && e.status() == 404) {
+                throw new CustomBusinessException(ShoppingErrorCode.SEARCH_CURSOR_EXPIRED);
+            }
+            throw e;
         } catch (IOException e) {
-            log.error("Search failed for keyword: {}", request.getKeyword(), e);
+            log.error("Cursor search failed for keyword: {}", request.getKeyword(), e);
             return SearchResponse.of(List.of(), 0, request.getPage(), request.getSize());
         }
     }
 
-    private SearchRequest buildSearchRequest(ProductSearchRequest request) {
-        return SearchRequest.of(s -> s
+    private String openPointInTime() throws IOException {
+        return esClient.openPointInTime(o -> o
                 .index(INDEX_NAME)
-                .query(q -> q.bool(buildBoolQuery(request)))
-                .highlight(h -> h
+                .keepAlive(t -> t.time(properties.getPitKeepAlive()))
+        ).id();
+    }
+
+    private void closePointInTimeQuietly(String pitId) {
+        try {
+            esClient.closePointInTime(c -> c.id(pitId));
+        } catch (IOException | ElasticsearchException e) {
+            log.debug("Failed to close point in time: {}", e.getMessage());
+        }
+    }
+
+    private SearchResponse<ProductSearchResult> toSearchResponse(
+            ProductSearchRequest request,
+            co.elastic.clients.elasticsearch.core.SearchResponse<ProductDocument> response,
+            String nextCursor) {
+        List<ProductSearchResult> results = new ArrayList<>();
+        for (Hit<ProductDocument> hit : response.hits().hits()) {
+            ProductDocument doc = hit.source();
+            if (doc != null) {
+                ProductSearchResult result = mapToSearchResult(doc, hit);
+                results.add(result);
+            }
+        }
+
+        TotalHits total = response.hits().total();
+        long totalHits = total != null ? total.value() : -1;
+        boolean exact = total != null && total.relation() != TotalHitsRelation.Gte;
+        return SearchResponse.of(results, totalHits, exact, request.getPage(), request.getSize(), nextCursor);
+    }
+
+    /**
+     * @param pitId  커서 조회면 PIT id, 아니면 null (인덱스 + from/size)
+     * @param cursor 이어 읽을 위치 (첫 페이지면 null)
+     */
+    private SearchRequest buildSearchRequest(ProductSearchRequest request, String pitId, SearchCursor cursor) {
+        return SearchRequest.of(s -> {
+            s.query(q -> q.bool(buildBoolQuery(request)))
+                    .size(request.getSize());
+
+            if (pitId != null) {
+                s.pit(p -> p.id(pitId).keepAlive(t -> t.time(properties.getPitKeepAlive())))
+                        .sort(buildCursorSort(request.getSort()));
+                if (cursor != null) {
+                    s.searchAfter(cursor.sortValues());
+                }
+            } else {
+                s.index(INDEX_NAME)
+                        .from(request.getPage() * request.getSize())
+                        .sort(buildSort(request.getSort()));
+            }
+
+            // 이어지는 커서 페이지는 첫 페이지에서 센 건수를 다시 세지 않음
+            if (request.isTrackTotalHits() && cursor == null) {
+                s.trackTotalHits(t -> t.count(properties.getTrackTotalHitsUpTo()));
+            } else {
+                s.trackTotalHits(t -> t.enabled(false));
+            }
+
+            if (request.isHighlight()) {
+                s.highlight(h -> h
                         .fields("name", f -> f.preTags("<em>").postTags("</em>"))
                         .fields("description", f -> f.preTags("<em>").postTags("</em>"))
-                )
-                .from(request.getPage() * request.getSize())
-                .size(request.getSize())
-                .sort(buildSort(request.getSort()))
-        );
+                );
+            }
+            return s;
+        });
     }
 
     private BoolQuery buildBoolQuery(ProductSearchRequest request) {
+        String keyword = SearchResultCache.normalizeKeyword(request.getKeyword());
         return BoolQuery.of(b -> {
             // Keyword search (multi-match with fuzzy)
-            if (StringUtils.hasText(request.getKeyword())) {
+            if (!keyword.isEmpty()) {
                 b.must(m -> m
                         .multiMatch(mm -> mm
-                                .query(request.getKeyword())
+                                .query(keyword)
                                 .fields("name^3", "description")
                                 .fuzziness("AUTO")
                         )
@@ -125,6 +242,7 @@ public class ProductSearchService {
             }
 
             // Price range filter (ES 8.18.x API)
+            // filter context라 점수 계산 없이 노드 query cache에 재사용됨 (키워드가 없으면 filter만 남음)
             if (request.getMinPrice() != null || request.getMaxPrice() != null) {
                 b.filter(f -> f
                         .range(r -> r
@@ -146,25 +264,18 @@ public class ProductSearchService {
         });
     }
 
-    private List<co.elastic.clients.elasticsearch._types.SortOptions> buildSort(String sort) {
-        List<co.elastic.clients.elasticsearch._types.SortOptions> sortOptions = new ArrayList<>();
+    private List<SortOptions> buildSort(String sort) {
+        List<SortOptions> sortOptions = new ArrayList<>();
 
-        if (sort == null) {
-            return sortOptions;
-        }
-
-        switch (sort) {
+        switch (SearchResultCache.normalizeSort(sort)) {
             case "price_asc":
-                sortOptions.add(co.elastic.clients.elasticsearch._types.SortOptions.of(
-                        so -> so.field(f -> f.field("price").order(SortOrder.Asc))));
+                sortOptions.add(SortOptions.of(so -> so.field(f -> f.field("price").order(SortOrder.Asc))));
                 break;
             case "price_desc":
-                sortOptions.add(co.elastic.clients.elasticsearch._types.SortOptions.of(
-                        so -> so.field(f -> f.field("price").order(SortOrder.Desc))));
+                sortOptions.add(SortOptions.of(so -> so.field(f -> f.field("price").order(SortOrder.Desc))));
                 break;
             case "newest":
-                sortOptions.add(co.elastic.clients.elasticsearch._types.SortOptions.of(
-                        so -> so.field(f -> f.field("createdAt").order(SortOrder.Desc))));
+                sortOptions.add(SortOptions.of(so -> so.field(f -> f.field("createdAt").order(SortOrder.Desc))));
                 break;
             default:
                 // relevance - use default scoring
@@ -174,6 +285,18 @@ public class ProductSearchService {
         return sortOptions;
     }
 
+    /**
+     * search_after는 sort 값으로 위치를 찾으므로 관련도 정렬도 _score를 명시하고, 동점은 _shard_doc으로 끊습니다.
+     */
+    private List<SortOptions> buildCursorSort(String sort) {
+        List<SortOptions> sortOptions = buildSort(sort);
+        if (sortOptions.isEmpty()) {
+            sortOptions.add(SortOptions.of(so -> so.score(sc -> sc.order(SortOrder.Desc))));
+        }
+        sortOptions.add(SortOptions.of(so -> so.field(f -> f.field("_shard_doc").order(SortOrder.Asc))));
+        return sortOptions;
+    }
+
     private ProductSearchResult mapToSearchResult(ProductDocument doc, Hit<ProductDocument> hit) {
         ProductSearchResult result = ProductSearchResult.builder()
                 .id(doc.getId())
@@ -0,0 +1,65 @@
+package com.portal.universe.shoppingservice.search.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서 기반 검색의 이어 읽기 위치입니다.
+ * PIT id와 마지막 hit의 sort 값을 JSON으로 묶어 URL-safe Base64로 주고받습니다.
+ *
+ * @param pitId       point-in-time id
+ * @param searchAfter 마지막 hit의 sort 값 (_shard_doc tiebreaker 포함)
+ */
+record SearchCursor(String pitId, List<Object> searchAfter) {
+
+    String encode(ObjectMapper objectMapper) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(this));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode search cursor", e);
+        }
+    }
+
+    static SearchCursor decode(String cursor, ObjectMapper objectMapper) {
+        try {
+            SearchCursor decoded = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), SearchCursor.class);
+            if (decoded.pitId() == null || decoded.searchAfter() == null) {
+                throw new IllegalArgumentException("Incomplete search cursor");
+            }
+            return decoded;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed search cursor", e);
+        }
+    }
+
+    static SearchCursor of(String pitId, List<FieldValue> sortValues) {
+        List<Object> values = new ArrayList<>(sortValues.size());
+        for (FieldValue value : sortValues) {
+            values.add(value.isNull() ? null : value._get());
+        }
+        return new SearchCursor(pitId, values);
+    }
+
+    List<FieldValue> sortValues() {
+        List<FieldValue> values = new ArrayList<>(searchAfter.size());
+        for (Object value : searchAfter) {
+            if (value == null) {
+                values.add(FieldValue.NULL);
+            } else if (value instanceof Integer || value instanceof Long) {
+                values.add(FieldValue.of(((Number) value).longValue()));
+            } else if (value instanceof Number number) {
+                values.add(FieldValue.of(number.doubleValue()));
+            } else if (value instanceof Boolean bool) {
+                values.add(FieldValue.of(bool));
+            } else {
+                values.add(FieldValue.of(value.toString()));
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,59 @@
+package com.portal.universe.shoppingservice.search.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 검색 인덱스의 버전 스탬프입니다.
+ *
+ * <p>색인 워커와 재색인이 인덱스를 바꿀 때마다 Redis 카운터를 올리고, 검색 결과 캐시는 이 값을 키에 넣습니다.
+ * 조회마다 Redis를 읽지 않도록 로컬 값을 주기적으로 갱신하므로 다른 인스턴스의 변경은 갱신 주기만큼 늦게 보입니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexVersion {
+
+    static final String VERSION_KEY = "search:index:version";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private volatile long current;
+
+    /**
+     * 로컬에 캐싱된 현재 버전을 반환합니다.
+     */
+    public long current() {
+        return current;
+    }
+
+    /**
+     * 인덱스가 바뀌었음을 기록합니다.
+     */
+    public void bump() {
+        try {
+            Long version = stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+            if (version != null) {
+                current = version;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to bump search index version: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shopping.search.query.version-refresh-ms:1000}")
+    public void refresh() {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+            if (version != null) {
+                current = Long.parseLong(version);
+            }
+        } catch (DataAccessException e) {
+            log.debug("Failed to refresh search index version: {}", e.getMessage());
+        }
+    }
+}
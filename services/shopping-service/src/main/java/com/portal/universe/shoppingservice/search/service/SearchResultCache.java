@@ -0,0 +1,122 @@
+package com.portal.universe.shoppingservice.search.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.universe.shoppingservice.search.config.ProductSearchProperties;
+import com.portal.universe.shoppingservice.search.dto.ProductSearchRequest;
+import com.portal.universe.shoppingservice.search.dto.ProductSearchResult;
+import com.portal.universe.shoppingservice.search.dto.SearchResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 상품 검색 결과 캐시입니다.
+ *
+ * <p>검색 조건을 정규화한 문자열(키워드 공백/대소문자, 가격 표기, 정렬 기본값)을 인덱스 버전과 함께 해시해 Redis 키로 사용합니다.
+ * 인덱스가 바뀌면 버전이 올라가 이전 키는 조회되지 않고 TTL로 만료됩니다.
+ * 커서 조회는 PIT에 묶여 있어 캐싱하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class SearchResultCache {
+
+    private static final String KEY_PREFIX = "search:result:";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Set<String> SORTS = Set.of("relevance", "price_asc", "price_desc", "newest");
+    private static final TypeReference<SearchResponse<ProductSearchResult>> RESPONSE_TYPE = new TypeReference<>() {};
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SearchIndexVersion indexVersion;
+    private final ProductSearchProperties properties;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public SearchResultCache(StringRedisTemplate stringRedisTemplate,
+                             ObjectMapper objectMapper,
+                             SearchIndexVersion indexVersion,
+                             ProductSearchProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.indexVersion = indexVersion;
+        this.properties = properties;
+        this.hitCounter = Counter.builder("search.result_cache.lookups")
+                .description("검색 결과 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("search.result_cache.lookups")
+                .description("검색 결과 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public Optional<SearchResponse<ProductSearchResult>> get(ProductSearchRequest request) {
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(keyOf(request));
+            if (cached != null) {
+                hitCounter.increment();
+                return Optional.of(objectMapper.readValue(cached, RESPONSE_TYPE));
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.debug("Search result cache lookup failed: {}", e.getMessage());
+        }
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    public void put(ProductSearchRequest request, SearchResponse<ProductSearchResult> response) {
+        try {
+            stringRedisTemplate.opsForValue().set(keyOf(request), objectMapper.writeValueAsString(response),
+                    properties.getResultCacheTtlMs(), TimeUnit.MILLISECONDS);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.debug("Search result cache store failed: {}", e.getMessage());
+        }
+    }
+
+    String keyOf(ProductSearchRequest request) {
+        String normalized = String.join("|",
+                normalizeKeyword(request.getKeyword()),
+                normalizePrice(request.getMinPrice()),
+                normalizePrice(request.getMaxPrice()),
+                normalizeSort(request.getSort()),
+                String.valueOf(request.getPage()),
+                String.valueOf(request.getSize()),
+                String.valueOf(request.isHighlight()),
+                String.valueOf(request.isTrackTotalHits()));
+        return KEY_PREFIX + indexVersion.current() + ":"
+                + DigestUtils.md5DigestAsHex(normalized.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 키워드를 앞뒤 공백 제거, 소문자, 연속 공백 하나로 정규화합니다. (분석기도 소문자화하므로 결과는 같음)
+     */
+    static String normalizeKeyword(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(keyword.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    static String normalizeSort(String sort) {
+        return sort != null && SORTS.contains(sort) ? sort : "relevance";
+    }
+
+    private static String normalizePrice(Double price) {
+        return price == null ? "" : BigDecimal.valueOf(price).stripTrailingZeros().toPlainString();
+    }
+}
@@ -3,33 +3,78 @@ package com.portal.universe.shoppingservice.search.service;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.search.CompletionSuggestOption;
-import lombok.RequiredArgsConstructor;
+import com.portal.universe.shoppingservice.search.config.AutocompleteProperties;
+import com.portal.universe.shoppingservice.search.popular.PopularKeywordTracker;
+import com.portal.universe.shoppingservice.search.suggest.AutocompleteIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SuggestService {
 
     private static final String INDEX_NAME = "products";
-    private static final String POPULAR_KEY = "search:popular";
     private static final String RECENT_KEY_PREFIX = "search:recent:";
 
     private final ElasticsearchClient esClient;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final AutocompleteIndex autocompleteIndex;
+    private final PopularKeywordTracker popularKeywordTracker;
+    private final AutocompleteProperties properties;
+    private final Counter localCounter;
+    private final Counter elasticsearchCounter;
+
+    public SuggestService(ElasticsearchClient esClient,
+                          RedisTemplate<String, Object> redisTemplate,
+                          AutocompleteIndex autocompleteIndex,
+                          PopularKeywordTracker popularKeywordTracker,
+                          AutocompleteProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.esClient = esClient;
+        this.redisTemplate = redisTemplate;
+        this.autocompleteIndex = autocompleteIndex;
+        this.popularKeywordTracker = popularKeywordTracker;
+        this.properties = properties;
+        this.localCounter = Counter.builder("search.suggest.requests")
+                .description("자동완성 응답 출처별 요청 수")
+                .tag("source", "local")
+                .register(meterRegistry);
+        this.elasticsearchCounter = Counter.builder("search.suggest.requests")
+                .description("자동완성 응답 출처별 요청 수")
+                .tag("source", "elasticsearch")
+                .register(meterRegistry);
+    }
 
+    /**
+     * 메모리 prefix 인덱스에서 먼저 찾고, 후보가 없을 때만(오타 등) Elasticsearch fuzzy completion으로 조회합니다.
+     */
     public List<String> suggest(String keyword, int size) {
         if (keyword == null || keyword.length() < 2) {
             return List.of();
         }
 
+        if (properties.isEnabled() && autocompleteIndex.isReady()) {
+            List<String> local = autocompleteIndex.suggest(keyword, size);
+            if (!local.isEmpty() || !properties.isEsFallbackEnabled()) {
+                localCounter.increment();
+                return local;
+            }
+        }
+        elasticsearchCounter.increment();
+        return suggestFromElasticsearch(keyword, size);
+    }
+
+    private List<String> suggestFromElasticsearch(String keyword, int size) {
         try {
             SearchRequest request = SearchRequest.of(s -> s
                     .index(INDEX_NAME)
@@ -67,18 +112,18 @@ public class SuggestService {
         }
     }
 
+    /**
+     * 최근 검색 구간을 감쇠 합산한 인기 검색어를 반환합니다.
+     */
     public List<String> getPopularKeywords(int size) {
-        Set<Object> keywords = redisTemplate.opsForZSet().reverseRange(POPULAR_KEY, 0, size - 1);
-        if (keywords == null) {
-            return List.of();
-        }
-        return keywords.stream()
-                .map(Object::toString)
-                .toList();
+        return popularKeywordTracker.topKeywords(size);
     }
 
+    /**
+     * 검색 횟수는 로컬에 세고 주기적으로 Redis에 배치 반영하므로 검색마다 Redis에 쓰지 않습니다.
+     */
     public void incrementSearchCount(String keyword) {
-        redisTemplate.opsForZSet().incrementScore(POPULAR_KEY, keyword, 1);
+        autocompleteIndex.recordSearch(keyword, popularKeywordTracker.record(keyword));
     }
 
     public List<String> getRecentKeywords(String userId, int size) {
@@ -92,16 +137,21 @@ public class SuggestService {
                 .toList();
     }
 
+    /**
+     * 최근 검색어 갱신(중복 제거 → 맨 앞 추가 → 20개 유지)을 한 번의 파이프라인으로 보내고 검색 횟수를 셉니다.
+     */
     public void addRecentKeyword(String userId, String keyword) {
         String key = RECENT_KEY_PREFIX + userId;
-        // Remove existing duplicate
-        redisTemplate.opsForList().remove(key, 0, keyword);
-        // Add to front
-        redisTemplate.opsForList().leftPush(key, keyword);
-        // Keep only last 20
-        redisTemplate.opsForList().trim(key, 0, 19);
-
-        // Also increment popular count
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForList().remove(key, 0, keyword);
+                operations.opsForList().leftPush(key, keyword);
+                operations.opsForList().trim(key, 0, 19);
+                return null;
+            }
+        });
         incrementSearchCount(keyword);
     }
 
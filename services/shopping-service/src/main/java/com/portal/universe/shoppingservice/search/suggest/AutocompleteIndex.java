@@ -0,0 +1,259 @@
+package com.portal.universe.shoppingservice.search.suggest;
+
+import com.portal.universe.shoppingservice.product.repository.ProductNameView;
+import com.portal.universe.shoppingservice.product.repository.ProductRepository;
+import com.portal.universe.shoppingservice.search.config.AutocompleteProperties;
+import com.portal.universe.shoppingservice.search.popular.PopularKeywordTracker;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인스턴스별 메모리 자동완성 인덱스입니다.
+ *
+ * <p>상품명과 인기 검색어 상위 목록으로 {@link PrefixIndex}를 만들어 두고, 이후 변경은 정렬된 대기 맵에 쌓았다가
+ * 일정 수를 넘으면 새 인덱스로 합칩니다. 조회는 현재 인덱스와 대기 맵을 함께 보므로 락 없이 최신 변경까지 반영됩니다.
+ * 색인 워커가 반영한 상품명은 {@link #PRODUCTS_CHANNEL}로 모든 인스턴스에 전달되고, 알림 유실과 이름 변경/삭제는
+ * 주기적인 전체 재구성으로 보정합니다.</p>
+ */
+@Slf4j
+@Component
+public class AutocompleteIndex {
+
+    public static final String PRODUCTS_CHANNEL = "search:suggest:products";
+
+    static final long PRODUCT_WEIGHT = 0;
+
+    private final ProductRepository productRepository;
+    private final PopularKeywordTracker popularKeywordTracker;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final AutocompleteProperties properties;
+
+    private volatile State state = new State(PrefixIndex.EMPTY, new ConcurrentSkipListMap<>());
+    private volatile boolean ready;
+
+    /**
+     * 조회 시점의 인덱스와 아직 합치지 않은 변경분
+     */
+    private record State(PrefixIndex index, ConcurrentSkipListMap<String, SuggestTerm> pending) {
+    }
+
+    public AutocompleteIndex(ProductRepository productRepository,
+                             PopularKeywordTracker popularKeywordTracker,
+                             StringRedisTemplate stringRedisTemplate,
+                             RedisMessageListenerContainer redisMessageListenerContainer,
+                             AutocompleteProperties properties) {
+        this.productRepository = productRepository;
+        this.popularKeywordTracker = popularKeywordTracker;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onProductNames(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(PRODUCTS_CHANNEL));
+    }
+
+    /**
+     * 시작 후 백그라운드에서 인덱스를 만듭니다. 준비 전까지 자동완성은 Elasticsearch로 조회합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Thread thread = new Thread(this::rebuildSafely, "autocomplete-index-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * prefix로 시작하는 후보를 가중치 순으로 반환합니다.
+     */
+    public List<String> suggest(String prefix, int size) {
+        String key = SuggestTerm.normalize(prefix);
+        if (key.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        State current = state;
+        List<SuggestTerm> top = current.index().top(key, size);
+        NavigableMap<String, SuggestTerm> pending =
+                current.pending().subMap(key, true, key + Character.MAX_VALUE, false);
+        if (pending.isEmpty()) {
+            return top.stream().map(SuggestTerm::text).toList();
+        }
+
+        Map<String, SuggestTerm> candidates = new LinkedHashMap<>();
+        top.forEach(term -> candidates.put(term.key(), term));
+        pending.values().forEach(term -> candidates.merge(term.key(), term, SuggestTerm::stronger));
+        return candidates.values().stream()
+                .sorted(Comparator.comparingLong(SuggestTerm::weight).reversed().thenComparing(SuggestTerm::key))
+                .limit(size)
+                .map(SuggestTerm::text)
+                .toList();
+    }
+
+    /**
+     * 후보를 추가하거나 가중치를 올립니다. 대기 변경분이 많으면 새 인덱스로 합칩니다.
+     */
+    public synchronized void upsertAll(Collection<SuggestTerm> terms) {
+        ConcurrentSkipListMap<String, SuggestTerm> pending = state.pending();
+        for (SuggestTerm term : terms) {
+            if (!term.key().isEmpty()) {
+                pending.merge(term.key(), term, SuggestTerm::stronger);
+            }
+        }
+        if (pending.size() > properties.getMaxPending()) {
+            fold();
+        }
+    }
+
+    /**
+     * 검색 횟수가 갱신된 키워드를 반영합니다. 아직 드문 키워드는 다음 인기 검색어 반영 때 판단합니다.
+     *
+     * @param count 이 인스턴스의 현재 집계 구간 추정 검색 횟수
+     */
+    public void recordSearch(String keyword, long count) {
+        if (properties.isEnabled() && count >= properties.getPopularMinScore()) {
+            upsertAll(List.of(SuggestTerm.of(keyword, count)));
+        }
+    }
+
+    /**
+     * 색인된 상품명을 모든 인스턴스의 인덱스에 전달합니다.
+     */
+    public void publishProductNames(Collection<String> names) {
+        if (!properties.isEnabled() || names.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(PRODUCTS_CHANNEL, String.join("\n", names));
+        } catch (Exception e) {
+            log.warn("Failed to publish product names for autocomplete: {}", e.getMessage());
+        }
+    }
+
+    void onProductNames(String payload) {
+        List<SuggestTerm> terms = new ArrayList<>();
+        for (String name : payload.split("\n")) {
+            if (!name.isBlank()) {
+                terms.add(SuggestTerm.of(name, PRODUCT_WEIGHT));
+            }
+        }
+        upsertAll(terms);
+    }
+
+    /**
+     * 인기 검색어 상위 목록을 다시 읽어 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${shopping.search.autocomplete.popular-refresh-ms:60000}",
+            initialDelayString = "${shopping.search.autocomplete.popular-refresh-ms:60000}")
+    public void refreshPopular() {
+        if (!properties.isEnabled() || !ready) {
+            return;
+        }
+        try {
+            upsertAll(loadPopular());
+        } catch (Exception e) {
+            log.warn("Failed to refresh popular keywords for autocomplete: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 상품명과 인기 검색어로 인덱스를 새로 만듭니다.
+     * 이름이 바뀌거나 삭제된 상품, 인기 목록에서 밀려난 검색어는 이때 빠집니다.
+     */
+    @Scheduled(fixedDelayString = "${shopping.search.autocomplete.rebuild-interval-ms:1800000}",
+            initialDelayString = "${shopping.search.autocomplete.rebuild-interval-ms:1800000}")
+    public void rebuildSafely() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Failed to rebuild autocomplete index", e);
+        }
+    }
+
+    void rebuild() {
+        long startedAt = System.nanoTime();
+        List<SuggestTerm> terms = new ArrayList<>(loadProductNames());
+        terms.addAll(loadPopular());
+        PrefixIndex built = PrefixIndex.build(terms);
+
+        synchronized (this) {
+            // 재구성 중 들어온 변경분도 합쳐서 유실되지 않게 함 (같은 키는 가중치 큰 쪽이 남음)
+            state = new State(built.merge(state.pending().values()), new ConcurrentSkipListMap<>());
+        }
+        ready = true;
+        log.info("Built autocomplete index with {} terms in {} ms",
+                state.index().size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private synchronized void fold() {
+        State current = state;
+        state = new State(current.index().merge(current.pending().values()), new ConcurrentSkipListMap<>());
+    }
+
+    private List<SuggestTerm> loadProductNames() {
+        List<SuggestTerm> terms = new ArrayList<>();
+        int pageSize = properties.getProductPageSize();
+        long lastId = 0;
+        List<ProductNameView> page;
+        do {
+            page = productRepository.findNameViewsByIdGreaterThanOrderByIdAsc(lastId, Limit.of(pageSize));
+            for (ProductNameView product : page) {
+                terms.add(SuggestTerm.of(product.getName(), PRODUCT_WEIGHT));
+            }
+            if (!page.isEmpty()) {
+                lastId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == pageSize);
+        return terms;
+    }
+
+    private List<SuggestTerm> loadPopular() {
+        Set<ZSetOperations.TypedTuple<String>> popular = popularKeywordTracker.topWithScores(properties.getPopularLimit());
+        List<SuggestTerm> terms = new ArrayList<>(popular.size());
+        for (ZSetOperations.TypedTuple<String> tuple : popular) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                // 감쇠 점수는 소수이므로 반올림해 가중치로 씀
+                terms.add(SuggestTerm.of(tuple.getValue(), Math.round(tuple.getScore())));
+            }
+        }
+        return terms;
+    }
+}
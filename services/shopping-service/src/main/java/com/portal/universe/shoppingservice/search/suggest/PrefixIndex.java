@@ -0,0 +1,181 @@
+package com.portal.universe.shoppingservice.search.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 자동완성용 불변 prefix 인덱스입니다.
+ *
+ * <p>정규화한 키를 정렬된 배열로 두면 같은 prefix를 가진 키는 연속 구간이 되므로 이진 탐색 두 번으로 구간을 찾습니다.
+ * 구간 안 가중치 상위 K개는 가중치 최대값 세그먼트 트리에서 구간 최대 원소를 꺼내고 남은 좌우 구간을 힙에 넣어 구하므로,
+ * prefix가 짧아 구간이 커도 O(K log n)입니다. 노드 객체로 이루어진 trie 대신 배열 몇 개만 쓰므로 메모리와 GC 부담이 작습니다.</p>
+ */
+public final class PrefixIndex {
+
+    public static final PrefixIndex EMPTY = new PrefixIndex(new SuggestTerm[0]);
+
+    private final SuggestTerm[] terms;
+    private final long[] weights;
+    // tree[n + i] = i, tree[p] = 자식 중 가중치가 큰 원소의 위치
+    private final int[] tree;
+    private final int n;
+
+    private PrefixIndex(SuggestTerm[] sortedTerms) {
+        this.terms = sortedTerms;
+        this.n = sortedTerms.length;
+        this.weights = new long[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = sortedTerms[i].weight();
+        }
+        this.tree = new int[Math.max(2 * n, 1)];
+        for (int i = 0; i < n; i++) {
+            tree[n + i] = i;
+        }
+        for (int p = n - 1; p > 0; p--) {
+            tree[p] = better(tree[2 * p], tree[2 * p + 1]);
+        }
+    }
+
+    /**
+     * 후보들로 인덱스를 만듭니다. 같은 키는 가중치가 큰 후보만 남깁니다.
+     */
+    public static PrefixIndex build(Collection<SuggestTerm> candidates) {
+        SuggestTerm[] sorted = candidates.stream()
+                .filter(term -> !term.key().isEmpty())
+                .sorted(Comparator.comparing(SuggestTerm::key))
+                .toArray(SuggestTerm[]::new);
+        return new PrefixIndex(dedupe(sorted, sorted.length));
+    }
+
+    /**
+     * 기존 인덱스에 변경분을 합친 새 인덱스를 만듭니다. 같은 키는 가중치가 큰 후보를 남깁니다.
+     *
+     * @param updates 키 오름차순으로 정렬된 변경분
+     */
+    public PrefixIndex merge(Collection<SuggestTerm> updates) {
+        if (updates.isEmpty()) {
+            return this;
+        }
+        SuggestTerm[] merged = new SuggestTerm[n + updates.size()];
+        int size = 0;
+        int i = 0;
+        for (SuggestTerm update : updates) {
+            while (i < n && terms[i].key().compareTo(update.key()) < 0) {
+                merged[size++] = terms[i++];
+            }
+            if (i < n && terms[i].key().equals(update.key())) {
+                merged[size++] = SuggestTerm.stronger(terms[i++], update);
+            } else {
+                merged[size++] = update;
+            }
+        }
+        while (i < n) {
+            merged[size++] = terms[i++];
+        }
+        return new PrefixIndex(dedupe(merged, size));
+    }
+
+    /**
+     * prefix로 시작하는 후보 중 가중치 상위 limit개를 반환합니다. (동점은 키 오름차순)
+     *
+     * @param prefix 정규화된 prefix
+     */
+    public List<SuggestTerm> top(String prefix, int limit) {
+        int from = lowerBound(prefix);
+        int to = prefixEnd(prefix, from);
+        if (from >= to || limit <= 0) {
+            return List.of();
+        }
+
+        List<SuggestTerm> result = new ArrayList<>(Math.min(limit, to - from));
+        // {from, to, 구간 최대 원소}
+        PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> a[2] == b[2] ? 0 : better(a[2], b[2]) == a[2] ? -1 : 1);
+        ranges.add(new int[]{from, to, argMax(from, to)});
+        while (!ranges.isEmpty() && result.size() < limit) {
+            int[] range = ranges.poll();
+            int best = range[2];
+            result.add(terms[best]);
+            if (range[0] < best) {
+                ranges.add(new int[]{range[0], best, argMax(range[0], best)});
+            }
+            if (best + 1 < range[1]) {
+                ranges.add(new int[]{best + 1, range[1], argMax(best + 1, range[1])});
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    private int lowerBound(String prefix) {
+        int lo = 0;
+        int hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (terms[mid].key().compareTo(prefix) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * from부터 prefix로 시작하는 연속 구간의 끝(exclusive)을 찾습니다.
+     */
+    private int prefixEnd(String prefix, int from) {
+        int lo = from;
+        int hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (terms[mid].key().startsWith(prefix)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * [from, to) 구간에서 가중치가 가장 큰 원소의 위치를 반환합니다.
+     */
+    private int argMax(int from, int to) {
+        int best = from;
+        for (int l = from + n, r = to + n; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                best = better(best, tree[l++]);
+            }
+            if ((r & 1) == 1) {
+                best = better(best, tree[--r]);
+            }
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        if (weights[a] != weights[b]) {
+            return weights[a] > weights[b] ? a : b;
+        }
+        return Math.min(a, b);
+    }
+
+    private static SuggestTerm[] dedupe(SuggestTerm[] sorted, int length) {
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            if (size > 0 && sorted[size - 1].key().equals(sorted[i].key())) {
+                sorted[size - 1] = SuggestTerm.stronger(sorted[size - 1], sorted[i]);
+            } else {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+}
@@ -0,0 +1,37 @@
+package com.portal.universe.shoppingservice.search.suggest;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 자동완성 후보 하나입니다.
+ *
+ * @param key    prefix 비교에 쓰는 정규화된 키
+ * @param text   응답으로 돌려줄 원래 표기
+ * @param weight 정렬 가중치 (클수록 먼저)
+ */
+public record SuggestTerm(String key, String text, long weight) {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public static SuggestTerm of(String text, long weight) {
+        return new SuggestTerm(normalize(text), text.trim(), weight);
+    }
+
+    /**
+     * 앞뒤 공백 제거, 소문자, 연속 공백 하나로 정규화합니다.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(text.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    /**
+     * 같은 키의 두 후보 중 가중치가 큰 쪽을 남깁니다.
+     */
+    static SuggestTerm stronger(SuggestTerm a, SuggestTerm b) {
+        return b.weight() > a.weight() ? b : a;
+    }
+}
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "time_deal_purchases",
         indexes = {
-                @Index(name = "idx_tdp_user_product", columnList = "user_id, time_deal_product_id")
+                @Index(name = "idx_tdp_user_product", columnList = "user_id, time_deal_product_id"),
+                @Index(name = "idx_tdp_product_user", columnList = "time_deal_product_id, user_id")
         })
 @Getter
 @NoArgsConstructor
@@ -37,17 +38,21 @@ public class TimeDealPurchase {
     @Column(name = "order_id")
     private Long orderId;
 
+    @Column(name = "request_id", length = 36, unique = true)
+    private String requestId;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime purchasedAt = LocalDateTime.now();
 
     @Builder
     public TimeDealPurchase(String userId, TimeDealProduct timeDealProduct, Integer quantity,
-                            BigDecimal purchasePrice, Long orderId) {
+                            BigDecimal purchasePrice, Long orderId, String requestId) {
         this.userId = userId;
         this.timeDealProduct = timeDealProduct;
         this.quantity = quantity;
         this.purchasePrice = purchasePrice;
         this.orderId = orderId;
+        this.requestId = requestId;
         this.purchasedAt = LocalDateTime.now();
     }
 }
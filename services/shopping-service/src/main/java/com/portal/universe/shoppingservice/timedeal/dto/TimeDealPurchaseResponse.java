@@ -1,5 +1,7 @@
 package com.portal.universe.shoppingservice.timedeal.dto;
 
+import com.portal.universe.shoppingservice.purchase.domain.PurchaseStatus;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRequest;
 import com.portal.universe.shoppingservice.timedeal.domain.TimeDealPurchase;
 import lombok.Builder;
 
@@ -14,17 +16,44 @@ public record TimeDealPurchaseResponse(
         Integer quantity,
         BigDecimal purchasePrice,
         BigDecimal totalPrice,
-        LocalDateTime purchasedAt
+        LocalDateTime purchasedAt,
+        String requestId,
+        PurchaseStatus persistenceStatus
 ) {
     public static TimeDealPurchaseResponse from(TimeDealPurchase purchase) {
+        return of(purchase, purchase.getTimeDealProduct().getProduct().getName());
+    }
+
+    /**
+     * 상품명을 이미 알고 있을 때 타임딜 상품을 다시 조회하지 않고 응답을 만듭니다.
+     */
+    public static TimeDealPurchaseResponse of(TimeDealPurchase purchase, String productName) {
         return TimeDealPurchaseResponse.builder()
                 .id(purchase.getId())
                 .timeDealProductId(purchase.getTimeDealProduct().getId())
-                .productName(purchase.getTimeDealProduct().getProduct().getName())
+                .productName(productName)
                 .quantity(purchase.getQuantity())
                 .purchasePrice(purchase.getPurchasePrice())
                 .totalPrice(purchase.getPurchasePrice().multiply(BigDecimal.valueOf(purchase.getQuantity())))
                 .purchasedAt(purchase.getPurchasedAt())
+                .requestId(purchase.getRequestId())
+                .persistenceStatus(PurchaseStatus.COMPLETED)
+                .build();
+    }
+
+    /**
+     * 구매가 확정되었지만 아직 DB에 저장되지 않은 요청의 응답을 만듭니다. id는 저장 후 부여됩니다.
+     */
+    public static TimeDealPurchaseResponse pending(PurchaseRequest request, String productName) {
+        return TimeDealPurchaseResponse.builder()
+                .timeDealProductId(request.targetId())
+                .productName(productName)
+                .quantity(request.quantity())
+                .purchasePrice(request.price())
+                .totalPrice(request.price().multiply(BigDecimal.valueOf(request.quantity())))
+                .purchasedAt(LocalDateTime.now())
+                .requestId(request.requestId())
+                .persistenceStatus(PurchaseStatus.PENDING)
                 .build();
     }
 }
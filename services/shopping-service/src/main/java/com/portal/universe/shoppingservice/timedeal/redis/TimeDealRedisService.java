@@ -2,11 +2,17 @@ package com.portal.universe.shoppingservice.timedeal.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -16,6 +22,11 @@ public class TimeDealRedisService {
 
     private static final String TIMEDEAL_STOCK_KEY = "timedeal:stock:";
     private static final String TIMEDEAL_PURCHASED_KEY = "timedeal:purchased:";
+    private static final String TIMEDEAL_WARMUP_KEY = "timedeal:warmup:";
+
+    public static final long PURCHASE_LIMIT_EXCEEDED = -1L;
+    public static final long PURCHASE_SOLD_OUT = -2L;
+    public static final long PURCHASE_INSUFFICIENT_STOCK = -3L;
 
     private final StringRedisTemplate stringRedisTemplate;
     private final DefaultRedisScript<Long> timeDealPurchaseScript;
@@ -33,7 +44,7 @@ public class TimeDealRedisService {
     /**
      * Lua Script를 사용하여 원자적으로 타임딜 상품을 구매합니다.
      *
-     * @return > 0: 구매 성공 (남은 재고), 0: 재고 소진, -1: 구매 제한 초과
+     * @return >= 0: 구매 성공 (남은 재고), -1: 구매 제한 초과, -2: 재고 소진
      */
     public Long purchaseProduct(Long timeDealId, Long productId, String userId,
                                  int requestedQuantity, int maxPerUser) {
@@ -90,12 +101,65 @@ public class TimeDealRedisService {
                 timeDealId, productId, userId, quantity);
     }
 
+    /**
+     * 타임딜 상품별 warm-up 버전 스탬프를 한 번의 MGET으로 조회합니다. 스탬프가 없으면 값이 null입니다.
+     */
+    public Map<Long, String> getWarmupStamps(Long timeDealId, List<Long> productIds) {
+        Map<Long, String> stamps = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return stamps;
+        }
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(
+                productIds.stream().map(productId -> buildWarmupKey(timeDealId, productId)).toList());
+        for (int i = 0; i < productIds.size(); i++) {
+            stamps.put(productIds.get(i), values == null ? null : values.get(i));
+        }
+        return stamps;
+    }
+
+    /**
+     * 사용자별 구매 수량을 파이프라인으로 복원합니다 (warm-up 용).
+     * 이미 있는 키는 진행 중인 구매가 반영된 값이므로 덮어쓰지 않습니다.
+     */
+    public void restorePurchasedQuantities(Long timeDealId, Long productId, Map<String, Integer> quantitiesByUser) {
+        if (quantitiesByUser.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                quantitiesByUser.forEach((userId, quantity) -> operations.opsForValue().setIfAbsent(
+                        buildPurchasedKey(timeDealId, productId, userId), String.valueOf(quantity)));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 재고 키가 없을 때만 재고를 복원하고 warm-up 버전 스탬프를 기록합니다 (warm-up 용).
+     * 재고 키가 이미 있으면 다른 인스턴스가 판매 중인 값이므로 덮어쓰지 않습니다.
+     */
+    public void restoreStock(Long timeDealId, Long productId, int remainingQuantity, String stamp) {
+        String stockKey = buildStockKey(timeDealId, productId);
+        String warmupKey = buildWarmupKey(timeDealId, productId);
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForValue().setIfAbsent(stockKey, String.valueOf(remainingQuantity));
+                operations.opsForValue().set(warmupKey, stamp);
+                return null;
+            }
+        });
+    }
+
     /**
      * 타임딜 캐시를 삭제합니다.
      */
     public void deleteTimeDealCache(Long timeDealId, Long productId) {
-        String pattern = TIMEDEAL_STOCK_KEY + timeDealId + ":" + productId;
-        stringRedisTemplate.delete(pattern);
+        stringRedisTemplate.delete(Arrays.asList(
+                buildStockKey(timeDealId, productId), buildWarmupKey(timeDealId, productId)));
         log.info("Deleted timedeal cache: dealId={}, productId={}", timeDealId, productId);
     }
 
@@ -105,6 +169,7 @@ public class TimeDealRedisService {
     public void setExpiration(Long timeDealId, Long productId, long timeout, TimeUnit unit) {
         String stockKey = buildStockKey(timeDealId, productId);
         stringRedisTemplate.expire(stockKey, timeout, unit);
+        stringRedisTemplate.expire(buildWarmupKey(timeDealId, productId), timeout, unit);
     }
 
     private String buildStockKey(Long timeDealId, Long productId) {
@@ -114,4 +179,8 @@ public class TimeDealRedisService {
     private String buildPurchasedKey(Long timeDealId, Long productId, String userId) {
         return TIMEDEAL_PURCHASED_KEY + timeDealId + ":" + productId + ":" + userId;
     }
+
+    private String buildWarmupKey(Long timeDealId, Long productId) {
+        return TIMEDEAL_WARMUP_KEY + timeDealId + ":" + productId;
+    }
 }
@@ -2,9 +2,11 @@ package com.portal.universe.shoppingservice.timedeal.repository;
 
 import com.portal.universe.shoppingservice.timedeal.domain.TimeDealProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +24,15 @@ public interface TimeDealProductRepository extends JpaRepository<TimeDealProduct
     Optional<TimeDealProduct> findByIdWithProductAndDeal(@Param("id") Long id);
 
     boolean existsByTimeDealIdAndProductId(Long timeDealId, Long productId);
+
+    /**
+     * 구매 기록 합계로 판매 수량을 한 번에 갱신합니다.
+     * 구매마다 같은 행을 갱신하지 않도록 스케줄러가 주기적으로 호출합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TimeDealProduct tdp SET tdp.soldQuantity = " +
+           "(SELECT CAST(COALESCE(SUM(p.quantity), 0) AS Integer) FROM TimeDealPurchase p " +
+           "WHERE p.timeDealProduct.id = tdp.id) " +
+           "WHERE tdp.timeDeal.id IN :timeDealIds")
+    int syncSoldQuantities(@Param("timeDealIds") Collection<Long> timeDealIds);
 }
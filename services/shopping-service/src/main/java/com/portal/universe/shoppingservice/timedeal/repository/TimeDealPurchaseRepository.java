@@ -1,6 +1,7 @@
 package com.portal.universe.shoppingservice.timedeal.repository;
 
 import com.portal.universe.shoppingservice.timedeal.domain.TimeDealPurchase;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,4 +22,20 @@ public interface TimeDealPurchaseRepository extends JpaRepository<TimeDealPurcha
            "JOIN FETCH tdp.product " +
            "WHERE p.userId = :userId")
     List<TimeDealPurchase> findByUserIdWithProduct(@Param("userId") String userId);
+
+    /**
+     * 타임딜 상품의 사용자별 구매 수량을 사용자 ID 순으로 afterUserId 다음부터 조회합니다 (keyset pagination).
+     */
+    @Query("SELECT p.userId AS userId, SUM(p.quantity) AS quantity FROM TimeDealPurchase p " +
+           "WHERE p.timeDealProduct.id = :timeDealProductId AND p.userId > :afterUserId " +
+           "GROUP BY p.userId ORDER BY p.userId")
+    List<UserPurchasedQuantity> findPurchasedQuantitiesAfter(@Param("timeDealProductId") Long timeDealProductId,
+                                                             @Param("afterUserId") String afterUserId,
+                                                             Pageable pageable);
+
+    interface UserPurchasedQuantity {
+        String getUserId();
+
+        Long getQuantity();
+    }
 }
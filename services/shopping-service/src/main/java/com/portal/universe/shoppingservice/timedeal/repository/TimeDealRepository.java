@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface TimeDealRepository extends JpaRepository<TimeDeal, Long> {
@@ -26,7 +27,20 @@ public interface TimeDealRepository extends JpaRepository<TimeDeal, Long> {
            "AND td.endsAt <= :now")
     List<TimeDeal> findDealsToEnd(@Param("now") LocalDateTime now);
 
+    /**
+     * 주기 판매 수량 집계에서 빠졌거나 곧 빠질(종료 처리됐거나 종료 시각이 지난) 타임딜 ID를 조회합니다.
+     */
+    @Query("SELECT td.id FROM TimeDeal td WHERE td.id IN :ids " +
+           "AND (td.status <> 'ACTIVE' OR td.endsAt <= :now)")
+    List<Long> findEndedIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
     @Query("SELECT td FROM TimeDeal td LEFT JOIN FETCH td.products " +
            "WHERE td.id = :id")
     TimeDeal findByIdWithProducts(@Param("id") Long id);
+
+    @Query("SELECT DISTINCT td FROM TimeDeal td " +
+           "LEFT JOIN FETCH td.products tdp " +
+           "LEFT JOIN FETCH tdp.product " +
+           "WHERE td.status = :status")
+    List<TimeDeal> findByStatusWithProducts(@Param("status") TimeDealStatus status);
 }
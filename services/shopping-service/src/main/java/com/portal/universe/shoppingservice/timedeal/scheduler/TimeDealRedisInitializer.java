@@ -1,55 +1,157 @@
 package com.portal.universe.shoppingservice.timedeal.scheduler;
 
+import com.portal.universe.shoppingservice.common.config.RedisWarmupProperties;
+import com.portal.universe.shoppingservice.common.health.RedisWarmupHealthIndicator;
 import com.portal.universe.shoppingservice.timedeal.domain.TimeDeal;
+import com.portal.universe.shoppingservice.timedeal.domain.TimeDealProduct;
 import com.portal.universe.shoppingservice.timedeal.domain.TimeDealStatus;
 import com.portal.universe.shoppingservice.timedeal.redis.TimeDealRedisService;
+import com.portal.universe.shoppingservice.timedeal.repository.TimeDealProductRepository;
+import com.portal.universe.shoppingservice.timedeal.repository.TimeDealPurchaseRepository;
 import com.portal.universe.shoppingservice.timedeal.repository.TimeDealRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * 서비스 시작 시 ACTIVE 타임딜의 Redis 재고를 복원합니다.
+ * 서비스 시작 시 ACTIVE 타임딜의 Redis 재고와 사용자별 구매 수량을 복원합니다.
+ *
+ * <p>별도 스레드에서 실행하며 완료 전까지 {@link RedisWarmupHealthIndicator}가 readiness를 OUT_OF_SERVICE로 보고합니다.
+ * 타임딜 상품은 한 번의 조회로 읽고, 사용자별 구매 수량은 keyset pagination으로 읽어 파이프라인으로 씁니다.
+ * Redis의 버전 스탬프가 DB 판매 수량과 같은 상품은 건너뛰며, 이미 있는 키는 덮어쓰지 않습니다.</p>
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TimeDealRedisInitializer {
 
+    private static final String WARMUP_TASK = "timeDeals";
+
     private final TimeDealRepository timeDealRepository;
+    private final TimeDealProductRepository timeDealProductRepository;
+    private final TimeDealPurchaseRepository timeDealPurchaseRepository;
     private final TimeDealRedisService timeDealRedisService;
+    private final RedisWarmupProperties warmupProperties;
+    private final RedisWarmupHealthIndicator warmupHealthIndicator;
+    private final TransactionTemplate transactionTemplate;
+
+    private RedisWarmupHealthIndicator.Progress progress;
+
+    @PostConstruct
+    void registerWarmup() {
+        progress = warmupHealthIndicator.register(WARMUP_TASK);
+    }
 
     @EventListener(ApplicationReadyEvent.class)
-    @Transactional(readOnly = true)
     public void initializeActiveDeals() {
-        List<TimeDeal> activeDeals = timeDealRepository.findByStatus(TimeDealStatus.ACTIVE);
-
-        for (TimeDeal deal : activeDeals) {
-            TimeDeal dealWithProducts = timeDealRepository.findByIdWithProducts(deal.getId());
-            if (dealWithProducts == null || dealWithProducts.getProducts() == null) continue;
-
-            dealWithProducts.getProducts().forEach(product -> {
-                int remainingQuantity = product.getDealQuantity() - product.getSoldQuantity();
-                if (remainingQuantity > 0) {
-                    timeDealRedisService.initializeStock(
-                            deal.getId(),
-                            product.getProduct().getId(),
-                            remainingQuantity
-                    );
-                }
-            });
-
-            log.info("Restored Redis stock for active time deal: id={}, name={}",
-                    deal.getId(), deal.getName());
+        Thread thread = new Thread(this::warmUp, "timedeal-redis-initializer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void warmUp() {
+        try {
+            List<Long> activeDealIds = timeDealRepository.findByStatus(TimeDealStatus.ACTIVE).stream()
+                    .map(TimeDeal::getId)
+                    .toList();
+            if (activeDealIds.isEmpty()) {
+                progress.start(0);
+                progress.complete();
+                return;
+            }
+
+            // 판매 수량은 주기적으로 집계되므로 남은 재고 계산 전에 구매 기록으로 먼저 맞춤
+            transactionTemplate.executeWithoutResult(
+                    status -> timeDealProductRepository.syncSoldQuantities(activeDealIds));
+
+            List<TimeDeal> activeDeals = timeDealRepository.findByStatusWithProducts(TimeDealStatus.ACTIVE);
+            progress.start(activeDeals.stream().mapToInt(deal -> deal.getProducts().size()).sum());
+
+            int restored = 0;
+            for (TimeDeal deal : activeDeals) {
+                restored += restoreDeal(deal);
+            }
+
+            progress.complete();
+            log.info("Initialized Redis stock for {} active time deals ({} products restored)",
+                    activeDeals.size(), restored);
+        } catch (Exception e) {
+            progress.fail(e);
+            log.error("TimeDeal Redis warm-up failed", e);
         }
+    }
 
-        if (!activeDeals.isEmpty()) {
-            log.info("Initialized Redis stock for {} active time deals", activeDeals.size());
+    private int restoreDeal(TimeDeal deal) {
+        Map<Long, String> stamps = timeDealRedisService.getWarmupStamps(deal.getId(),
+                deal.getProducts().stream().map(product -> product.getProduct().getId()).toList());
+
+        int restored = 0;
+        for (TimeDealProduct product : deal.getProducts()) {
+            Long productId = product.getProduct().getId();
+            if (stampOf(product).equals(stamps.get(productId))) {
+                progress.skip(1);
+                continue;
+            }
+            try {
+                long purchasedUsers = loadPurchasedQuantities(deal.getId(), product);
+                timeDealRedisService.restoreStock(deal.getId(), productId,
+                        Math.max(product.getDealQuantity() - product.getSoldQuantity(), 0), stampOf(product));
+                progress.advance(purchasedUsers + 1);
+                restored++;
+            } catch (Exception e) {
+                progress.failOne();
+                log.error("Failed to restore time deal product to Redis: dealId={}, timeDealProductId={}",
+                        deal.getId(), product.getId(), e);
+            }
+        }
+
+        log.info("Restored Redis stock for active time deal: id={}, name={}", deal.getId(), deal.getName());
+        return restored;
+    }
+
+    /**
+     * 사용자별 구매 수량을 사용자 ID 순으로 페이지 단위로 읽어 Redis에 씁니다.
+     */
+    private long loadPurchasedQuantities(Long timeDealId, TimeDealProduct product) {
+        int pageSize = warmupProperties.getPageSize();
+        String afterUserId = "";
+        long loaded = 0;
+
+        while (true) {
+            List<TimeDealPurchaseRepository.UserPurchasedQuantity> page =
+                    timeDealPurchaseRepository.findPurchasedQuantitiesAfter(
+                            product.getId(), afterUserId, PageRequest.ofSize(pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            Map<String, Integer> quantitiesByUser = new LinkedHashMap<>();
+            page.forEach(row -> quantitiesByUser.put(row.getUserId(), row.getQuantity().intValue()));
+            timeDealRedisService.restorePurchasedQuantities(
+                    timeDealId, product.getProduct().getId(), quantitiesByUser);
+
+            loaded += page.size();
+            afterUserId = page.get(page.size() - 1).getUserId();
+            if (page.size() < pageSize) {
+                break;
+            }
         }
+        return loaded;
+    }
+
+    /**
+     * DB 판매 상태의 버전 스탬프. 판매 수량이 바뀌면 다음 시작 시 다시 복원합니다.
+     */
+    static String stampOf(TimeDealProduct product) {
+        return product.getDealQuantity() + ":" + product.getSoldQuantity();
     }
 }
@@ -2,8 +2,11 @@ package com.portal.universe.shoppingservice.timedeal.scheduler;
 
 import com.portal.universe.shoppingservice.common.annotation.DistributedLock;
 import com.portal.universe.shoppingservice.timedeal.domain.TimeDeal;
+import com.portal.universe.shoppingservice.timedeal.domain.TimeDealStatus;
 import com.portal.universe.shoppingservice.timedeal.redis.TimeDealRedisService;
+import com.portal.universe.shoppingservice.timedeal.repository.TimeDealProductRepository;
 import com.portal.universe.shoppingservice.timedeal.repository.TimeDealRepository;
+import com.portal.universe.shoppingservice.timedeal.service.ActiveTimeDealCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -19,7 +22,9 @@ import java.util.List;
 public class TimeDealScheduler {
 
     private final TimeDealRepository timeDealRepository;
+    private final TimeDealProductRepository timeDealProductRepository;
     private final TimeDealRedisService timeDealRedisService;
+    private final ActiveTimeDealCache activeTimeDealCache;
 
     /**
      * 1분마다 타임딜 상태를 체크하여 업데이트합니다.
@@ -36,6 +41,35 @@ public class TimeDealScheduler {
         endActiveDeals(now);
     }
 
+    /**
+     * 인스턴스마다 진행 중인 타임딜 캐시를 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${shopping.timedeal.cache-refresh-interval-ms:5000}")
+    public void refreshActiveDealCache() {
+        try {
+            activeTimeDealCache.refresh();
+        } catch (Exception e) {
+            log.warn("Failed to refresh active time deal cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 진행 중인 타임딜의 판매 수량을 구매 기록 합계로 갱신합니다.
+     * 구매 요청은 판매 수량 행을 갱신하지 않으므로 조회용 수치는 이 주기만큼 늦게 반영됩니다.
+     */
+    @Scheduled(fixedDelayString = "${shopping.timedeal.sold-quantity-sync-interval-ms:10000}")
+    @DistributedLock(key = "'scheduler:timedeal:sold-quantity'", waitTime = 0, leaseTime = 30)
+    @Transactional
+    public void syncSoldQuantities() {
+        List<Long> activeDealIds = timeDealRepository.findByStatus(TimeDealStatus.ACTIVE).stream()
+                .map(TimeDeal::getId)
+                .toList();
+        if (activeDealIds.isEmpty()) return;
+
+        int updated = timeDealProductRepository.syncSoldQuantities(activeDealIds);
+        log.debug("Synced sold quantity of {} time deal products", updated);
+    }
+
     private void activateScheduledDeals(LocalDateTime now) {
         List<TimeDeal> dealsToStart = timeDealRepository.findDealsToStart(now);
         if (dealsToStart.isEmpty()) return;
@@ -65,6 +99,9 @@ public class TimeDealScheduler {
         dealsToEnd.forEach(TimeDeal::end);
         timeDealRepository.saveAll(dealsToEnd);
 
+        // 종료 이후에는 주기 집계 대상이 아니므로 최종 판매 수량을 반영 (이후 Stream에서 늦게 저장되는 구매는 PurchasePersistenceService가 다시 집계)
+        timeDealProductRepository.syncSoldQuantities(dealsToEnd.stream().map(TimeDeal::getId).toList());
+
         // Redis 캐시 정리 (DB 저장 이후)
         for (TimeDeal deal : dealsToEnd) {
             deal.getProducts().forEach(product ->
@@ -0,0 +1,133 @@
+package com.portal.universe.shoppingservice.timedeal.service;
+
+import com.portal.universe.shoppingservice.timedeal.domain.TimeDeal;
+import com.portal.universe.shoppingservice.timedeal.domain.TimeDealProduct;
+import com.portal.universe.shoppingservice.timedeal.domain.TimeDealStatus;
+import com.portal.universe.shoppingservice.timedeal.redis.TimeDealRedisService;
+import com.portal.universe.shoppingservice.timedeal.repository.TimeDealProductRepository;
+import com.portal.universe.shoppingservice.timedeal.repository.TimeDealRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 진행 중인 타임딜 상품 정보의 인스턴스 로컬 캐시입니다.
+ *
+ * <p>구매 요청마다 타임딜/상품 조인 조회를 하지 않도록 구매 검증에 필요한 값만 메모리에 유지합니다.
+ * {@code TimeDealScheduler}가 주기적으로 ACTIVE 타임딜 전체를 다시 읽어 교체하며,
+ * 캐시에 없는 상품은 처음 요청 시 DB에서 읽어 채웁니다.</p>
+ *
+ * <p>재고가 0이 된 상품은 매진 플래그를 세워 이후 요청을 Redis 호출 없이 거절합니다.
+ * 취소 등으로 재고가 복원되면 다음 갱신 시 Redis 재고를 확인해 플래그를 해제합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveTimeDealCache {
+
+    private final TimeDealRepository timeDealRepository;
+    private final TimeDealProductRepository timeDealProductRepository;
+    private final TimeDealRedisService timeDealRedisService;
+
+    private volatile Map<Long, DealProduct> products = Map.of();
+    private final Map<Long, DealProduct> loaded = new ConcurrentHashMap<>();
+    private final Set<Long> soldOut = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 타임딜 상품 정보를 조회합니다. 캐시에 없으면 DB에서 읽어 다음 갱신 전까지 보관합니다.
+     */
+    public Optional<DealProduct> get(Long timeDealProductId) {
+        DealProduct cached = products.get(timeDealProductId);
+        if (cached == null) {
+            cached = loaded.get(timeDealProductId);
+        }
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<DealProduct> found = timeDealProductRepository.findByIdWithProductAndDeal(timeDealProductId)
+                .map(DealProduct::from);
+        found.ifPresent(product -> loaded.put(timeDealProductId, product));
+        return found;
+    }
+
+    public boolean isSoldOut(Long timeDealProductId) {
+        return soldOut.contains(timeDealProductId);
+    }
+
+    public void markSoldOut(Long timeDealProductId) {
+        if (soldOut.add(timeDealProductId)) {
+            log.info("TimeDeal product sold out, short-circuiting further requests: timeDealProductId={}",
+                    timeDealProductId);
+        }
+    }
+
+    /**
+     * 취소된 타임딜의 상품을 이 인스턴스의 캐시에서 즉시 제거합니다.
+     * 다른 인스턴스는 다음 갱신 전까지 Redis 재고 키가 없어 매진으로 처리됩니다.
+     */
+    public void evictDeal(Long timeDealId) {
+        products = products.values().stream()
+                .filter(product -> !product.timeDealId().equals(timeDealId))
+                .collect(Collectors.toUnmodifiableMap(DealProduct::timeDealProductId, Function.identity()));
+        loaded.values().removeIf(product -> product.timeDealId().equals(timeDealId));
+    }
+
+    /**
+     * ACTIVE 타임딜 전체를 다시 읽어 캐시를 교체하고, 재고가 복원된 상품의 매진 플래그를 해제합니다.
+     */
+    public void refresh() {
+        Map<Long, DealProduct> refreshed = new HashMap<>();
+        for (TimeDeal deal : timeDealRepository.findByStatusWithProducts(TimeDealStatus.ACTIVE)) {
+            deal.getProducts().forEach(product -> refreshed.put(product.getId(), DealProduct.from(product)));
+        }
+        products = Map.copyOf(refreshed);
+        loaded.clear();
+
+        soldOut.removeIf(id -> {
+            DealProduct product = refreshed.get(id);
+            return product == null || timeDealRedisService.getStock(product.timeDealId(), product.productId()) > 0;
+        });
+        log.debug("Refreshed active time deal cache: {} products, {} sold out", refreshed.size(), soldOut.size());
+    }
+
+    /**
+     * 구매 검증에 필요한 타임딜 상품 정보 스냅샷
+     */
+    public record DealProduct(
+            Long timeDealProductId,
+            Long timeDealId,
+            Long productId,
+            String productName,
+            BigDecimal dealPrice,
+            int maxPerUser,
+            TimeDealStatus status,
+            LocalDateTime startsAt,
+            LocalDateTime endsAt
+    ) {
+        static DealProduct from(TimeDealProduct product) {
+            TimeDeal deal = product.getTimeDeal();
+            return new DealProduct(
+                    product.getId(),
+                    deal.getId(),
+                    product.getProduct().getId(),
+                    product.getProduct().getName(),
+                    product.getDealPrice(),
+                    product.getMaxPerUser(),
+                    deal.getStatus(),
+                    deal.getStartsAt(),
+                    deal.getEndsAt()
+            );
+        }
+    }
+}
@@ -4,6 +4,10 @@ import com.portal.universe.commonlibrary.exception.CustomBusinessException;
 import com.portal.universe.shoppingservice.common.exception.ShoppingErrorCode;
 import com.portal.universe.shoppingservice.product.domain.Product;
 import com.portal.universe.shoppingservice.product.repository.ProductRepository;
+import com.portal.universe.shoppingservice.purchase.config.PurchasePersistenceProperties;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRedisService;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRequest;
+import com.portal.universe.shoppingservice.queue.service.QueueService;
 import com.portal.universe.shoppingservice.timedeal.domain.TimeDeal;
 import com.portal.universe.shoppingservice.timedeal.domain.TimeDealProduct;
 import com.portal.universe.shoppingservice.timedeal.domain.TimeDealPurchase;
@@ -25,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -37,6 +42,12 @@ public class TimeDealServiceImpl implements TimeDealService {
     private final TimeDealPurchaseRepository timeDealPurchaseRepository;
     private final ProductRepository productRepository;
     private final TimeDealRedisService timeDealRedisService;
+    private final QueueService queueService;
+    private final ActiveTimeDealCache activeTimeDealCache;
+    private final PurchasePersistenceProperties purchasePersistenceProperties;
+    private final PurchaseRedisService purchaseRedisService;
+
+    private static final String QUEUE_EVENT_TYPE = "TIMEDEAL";
 
     @Override
     public Page<TimeDealResponse> getAllTimeDeals(Pageable pageable) {
@@ -105,57 +116,97 @@ public class TimeDealServiceImpl implements TimeDealService {
     @Override
     @Transactional
     public TimeDealPurchaseResponse purchaseTimeDeal(String userId, TimeDealPurchaseRequest request) {
-        TimeDealProduct timeDealProduct = timeDealProductRepository
-                .findByIdWithProductAndDeal(request.timeDealProductId())
-                .orElseThrow(() -> new CustomBusinessException(ShoppingErrorCode.TIMEDEAL_PRODUCT_NOT_FOUND));
+        Long timeDealProductId = request.timeDealProductId();
 
-        TimeDeal timeDeal = timeDealProduct.getTimeDeal();
+        // 매진된 상품은 DB/Redis를 거치지 않고 바로 거절
+        if (activeTimeDealCache.isSoldOut(timeDealProductId)) {
+            throw new CustomBusinessException(ShoppingErrorCode.TIMEDEAL_SOLD_OUT);
+        }
 
-        validateTimeDealForPurchase(timeDeal);
+        ActiveTimeDealCache.DealProduct dealProduct = activeTimeDealCache.get(timeDealProductId)
+                .orElseThrow(() -> new CustomBusinessException(ShoppingErrorCode.TIMEDEAL_PRODUCT_NOT_FOUND));
+
+        validateTimeDealForPurchase(dealProduct);
 
         // Lua Script를 통한 원자적 구매 처리
         Long result = timeDealRedisService.purchaseProduct(
-                timeDeal.getId(),
-                timeDealProduct.getProduct().getId(),
+                dealProduct.timeDealId(),
+                dealProduct.productId(),
                 userId,
                 request.quantity(),
-                timeDealProduct.getMaxPerUser()
+                dealProduct.maxPerUser()
         );
 
-        if (result == -1) {
+        if (result == TimeDealRedisService.PURCHASE_LIMIT_EXCEEDED) {
             throw new CustomBusinessException(ShoppingErrorCode.TIMEDEAL_PURCHASE_LIMIT_EXCEEDED);
         }
-        if (result == 0) {
+        if (result == TimeDealRedisService.PURCHASE_SOLD_OUT) {
+            activeTimeDealCache.markSoldOut(timeDealProductId);
             throw new CustomBusinessException(ShoppingErrorCode.TIMEDEAL_SOLD_OUT);
         }
+        if (result == TimeDealRedisService.PURCHASE_INSUFFICIENT_STOCK) {
+            // 남은 재고보다 많이 요청한 경우라 매진으로 표시하지 않음 (더 적은 수량 구매는 가능)
+            throw new CustomBusinessException(ShoppingErrorCode.TIMEDEAL_INSUFFICIENT_STOCK);
+        }
+        if (result == 0) {
+            activeTimeDealCache.markSoldOut(timeDealProductId);
+        }
+
+        String requestId = UUID.randomUUID().toString();
+        if (purchasePersistenceProperties.isAsync()) {
+            return enqueuePurchase(userId, requestId, dealProduct, request.quantity());
+        }
 
-        // DB에 구매 기록 저장
+        // DB에 구매 기록 저장 (판매 수량은 TimeDealScheduler가 구매 기록을 주기적으로 집계해 반영)
         TimeDealPurchase purchase = TimeDealPurchase.builder()
                 .userId(userId)
-                .timeDealProduct(timeDealProduct)
+                .timeDealProduct(timeDealProductRepository.getReferenceById(timeDealProductId))
                 .quantity(request.quantity())
-                .purchasePrice(timeDealProduct.getDealPrice())
+                .purchasePrice(dealProduct.dealPrice())
+                .requestId(requestId)
                 .build();
 
         TimeDealPurchase savedPurchase = timeDealPurchaseRepository.save(purchase);
 
-        // 판매 수량 업데이트
-        timeDealProduct.incrementSoldQuantity(request.quantity());
-        timeDealProductRepository.save(timeDealProduct);
+        // 구매를 마친 사용자의 입장 슬롯을 반납해 다음 대기자가 입장할 수 있도록 함
+        queueService.releaseSlot(QUEUE_EVENT_TYPE, dealProduct.timeDealId(), userId);
 
         log.info("TimeDeal purchase completed: userId={}, dealId={}, productId={}, quantity={}",
-                userId, timeDeal.getId(), timeDealProduct.getProduct().getId(), request.quantity());
+                userId, dealProduct.timeDealId(), dealProduct.productId(), request.quantity());
+
+        return TimeDealPurchaseResponse.of(savedPurchase, dealProduct.productName());
+    }
+
+    /**
+     * 구매 기록 저장을 Redis Stream에 맡기고 바로 응답합니다. 적재에 실패하면 차감한 Redis 재고를 되돌립니다.
+     */
+    private TimeDealPurchaseResponse enqueuePurchase(String userId, String requestId,
+                                                     ActiveTimeDealCache.DealProduct dealProduct, int quantity) {
+        PurchaseRequest purchaseRequest = PurchaseRequest.timeDeal(requestId, userId,
+                dealProduct.timeDealProductId(), dealProduct.timeDealId(), dealProduct.productId(),
+                quantity, dealProduct.dealPrice());
+        try {
+            purchaseRedisService.enqueue(purchaseRequest);
+        } catch (RuntimeException e) {
+            timeDealRedisService.rollbackStock(dealProduct.timeDealId(), dealProduct.productId(), userId, quantity);
+            throw e;
+        }
+
+        queueService.releaseSlot(QUEUE_EVENT_TYPE, dealProduct.timeDealId(), userId);
+
+        log.info("TimeDeal purchase accepted: requestId={}, userId={}, dealId={}, productId={}, quantity={}",
+                requestId, userId, dealProduct.timeDealId(), dealProduct.productId(), quantity);
 
-        return TimeDealPurchaseResponse.from(savedPurchase);
+        return TimeDealPurchaseResponse.pending(purchaseRequest, dealProduct.productName());
     }
 
-    private void validateTimeDealForPurchase(TimeDeal timeDeal) {
-        if (timeDeal.getStatus() != TimeDealStatus.ACTIVE) {
+    private void validateTimeDealForPurchase(ActiveTimeDealCache.DealProduct dealProduct) {
+        if (dealProduct.status() != TimeDealStatus.ACTIVE) {
             throw new CustomBusinessException(ShoppingErrorCode.TIMEDEAL_NOT_ACTIVE);
         }
 
         LocalDateTime now = LocalDateTime.now();
-        if (now.isBefore(timeDeal.getStartsAt()) || now.isAfter(timeDeal.getEndsAt())) {
+        if (now.isBefore(dealProduct.startsAt()) || now.isAfter(dealProduct.endsAt())) {
             throw new CustomBusinessException(ShoppingErrorCode.TIMEDEAL_EXPIRED);
         }
     }
@@ -176,6 +227,7 @@ public class TimeDealServiceImpl implements TimeDealService {
 
         timeDeal.cancel();
         timeDealRepository.save(timeDeal);
+        activeTimeDealCache.evictDeal(timeDeal.getId());
 
         // Redis 캐시 정리
         timeDeal.getProducts().forEach(product ->
@@ -0,0 +1,8 @@
+-- ===================================================================
+-- Redis 재고 엔진 write-behind 지원
+-- stock_movements.journal_seq: Redis journal 시퀀스 (중복 반영 방지)
+-- ===================================================================
+
+ALTER TABLE stock_movements ADD COLUMN journal_seq BIGINT DEFAULT NULL;
+
+CREATE UNIQUE INDEX uk_stock_movement_journal_seq ON stock_movements (journal_seq);
@@ -0,0 +1,8 @@
+-- ===================================================================
+-- 비동기 구매 저장 파이프라인 지원
+-- time_deal_purchases.request_id: 구매 요청 ID (Stream 재전달 시 중복 저장 방지)
+-- ===================================================================
+
+ALTER TABLE time_deal_purchases ADD COLUMN request_id VARCHAR(36) DEFAULT NULL;
+
+CREATE UNIQUE INDEX uk_time_deal_purchase_request_id ON time_deal_purchases (request_id);
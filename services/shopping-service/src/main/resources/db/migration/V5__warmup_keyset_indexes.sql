@@ -0,0 +1,9 @@
+-- ===================================================================
+-- 시작 시 Redis warm-up keyset 조회용 인덱스
+-- ===================================================================
+
+-- 쿠폰별 발급 사용자 (coupon_id, id > ?) 순차 조회
+CREATE INDEX IF NOT EXISTS idx_user_coupons_coupon_id_id ON user_coupons (coupon_id, id);
+
+-- 타임딜 상품별 사용자 구매 수량 (time_deal_product_id, user_id > ?) 집계
+CREATE INDEX IF NOT EXISTS idx_tdp_product_user ON time_deal_purchases (time_deal_product_id, user_id);
@@ -0,0 +1,14 @@
+-- ===================================================================
+-- 상품 검색 색인 outbox
+-- 상품/재고 변경과 같은 트랜잭션에서 상품 ID를 기록하고,
+-- 색인 워커가 상품별로 모아 Elasticsearch _bulk로 반영한 뒤 삭제합니다.
+-- ===================================================================
+
+CREATE TABLE IF NOT EXISTS product_index_outbox (
+    id          BIGINT NOT NULL GENERATED ALWAYS AS IDENTITY,
+    product_id  BIGINT NOT NULL,
+    created_at  TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id)
+);
+
+-- 워커는 ORDER BY id로 읽고 읽은 id로 삭제하므로 기본 키 외 인덱스는 두지 않습니다.
@@ -0,0 +1,7 @@
+-- ===================================================================
+-- 상품 검색 색인 outbox 변경 종류
+-- catalog_changed: 상품 정보 변경이면 TRUE, 주문 등으로 재고만 바뀌었으면 FALSE
+-- (재고만 바뀐 배치는 검색 결과 캐시 버전을 올리지 않음)
+-- ===================================================================
+
+ALTER TABLE product_index_outbox ADD COLUMN catalog_changed BOOLEAN NOT NULL DEFAULT TRUE;
@@ -0,0 +1,27 @@
+-- Inventory Load Lua Script
+-- KEYS[1] = inventory:stock:{productId} (상품별 재고 Hash)
+-- KEYS[2] = inventory:managed (Redis 엔진이 관리 중인 상품 ID Set)
+-- ARGV[1] = productId
+-- ARGV[2] = inventoryId
+-- ARGV[3] = 가용 재고
+-- ARGV[4] = 예약 재고
+
+-- Return values:
+-- 1: 적재 성공
+-- 0: 이미 적재됨 (Redis 값이 기준이므로 덮어쓰지 않음)
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+local available = tonumber(ARGV[3])
+local reserved = tonumber(ARGV[4])
+redis.call('HSET', KEYS[1],
+        'productId', ARGV[1],
+        'inventoryId', ARGV[2],
+        'available', available,
+        'reserved', reserved,
+        'total', available + reserved)
+redis.call('SADD', KEYS[2], ARGV[1])
+
+return 1
@@ -0,0 +1,79 @@
+-- Inventory Mutate Lua Script (multi-SKU, all-or-nothing)
+-- KEYS[1..n] = inventory:stock:{productId} (상품별 재고 Hash: productId, inventoryId, available, reserved, total)
+-- KEYS[n+1]  = inventory:journal (DB write-behind 대기 이력 List)
+-- KEYS[n+2]  = inventory:journal:seq (이력 시퀀스)
+-- ARGV[1] = movementType
+-- ARGV[2] = referenceType
+-- ARGV[3] = referenceId
+-- ARGV[4] = reason
+-- ARGV[5] = performedBy
+-- ARGV[6 + (i-1)*3], ARGV[7 + (i-1)*3], ARGV[8 + (i-1)*3] = KEYS[i]의 이동 수량, 가용 재고 증감, 예약 재고 증감
+
+-- Return values:
+-- {1, inventoryId1, available1, reserved1, total1, ...}: 성공 (KEYS 순서대로 변경 후 재고)
+-- {-1, i}: KEYS[i] 재고가 Redis에 적재되지 않음
+-- {-2, i}: KEYS[i] 변경 후 재고가 음수 (재고 부족)
+
+local n = #KEYS - 2
+local journalKey = KEYS[n + 1]
+local seqKey = KEYS[n + 2]
+local states = {}
+
+-- 1단계: 모든 상품을 먼저 검증 (하나라도 실패하면 아무것도 변경하지 않음)
+for i = 1, n do
+    local values = redis.call('HMGET', KEYS[i], 'productId', 'inventoryId', 'available', 'reserved')
+    if not values[3] then
+        return {-1, i}
+    end
+
+    local base = 6 + (i - 1) * 3
+    local previousAvailable = tonumber(values[3])
+    local previousReserved = tonumber(values[4])
+    local afterAvailable = previousAvailable + tonumber(ARGV[base + 1])
+    local afterReserved = previousReserved + tonumber(ARGV[base + 2])
+    if afterAvailable < 0 or afterReserved < 0 then
+        return {-2, i}
+    end
+
+    states[i] = {
+        productId = tonumber(values[1]),
+        inventoryId = tonumber(values[2]),
+        quantity = tonumber(ARGV[base]),
+        previousAvailable = previousAvailable,
+        previousReserved = previousReserved,
+        afterAvailable = afterAvailable,
+        afterReserved = afterReserved
+    }
+end
+
+-- 2단계: 재고 반영 및 write-behind 이력 적재
+local result = {1}
+for i = 1, n do
+    local s = states[i]
+    local total = s.afterAvailable + s.afterReserved
+    redis.call('HSET', KEYS[i], 'available', s.afterAvailable, 'reserved', s.afterReserved, 'total', total)
+
+    local seq = redis.call('INCR', seqKey)
+    redis.call('RPUSH', journalKey, cjson.encode({
+        seq = seq,
+        productId = s.productId,
+        inventoryId = s.inventoryId,
+        movementType = ARGV[1],
+        quantity = s.quantity,
+        previousAvailable = s.previousAvailable,
+        afterAvailable = s.afterAvailable,
+        previousReserved = s.previousReserved,
+        afterReserved = s.afterReserved,
+        referenceType = ARGV[2],
+        referenceId = ARGV[3],
+        reason = ARGV[4],
+        performedBy = ARGV[5]
+    }))
+
+    table.insert(result, s.inventoryId)
+    table.insert(result, s.afterAvailable)
+    table.insert(result, s.afterReserved)
+    table.insert(result, total)
+end
+
+return result
@@ -0,0 +1,80 @@
+-- Queue Admit Lua Script (만료 슬롯 회수 + 정원 확인 + 대기열 pop + 입장 슬롯 추가를 한 번에)
+-- KEYS[1] = queue:waiting:{eventType}:{eventId} (대기열 Sorted Set, score = 진입 시각)
+-- KEYS[2] = queue:entered:{eventType}:{eventId} (입장 슬롯 Sorted Set, score = 슬롯 만료 시각 ms)
+--           이전 버전이 만든 Set이면 먼저 Sorted Set으로 전환 (기존 입장 토큰은 ARGV[4] 만료 시각으로 이관)
+-- KEYS[3] = queue:offsets:{eventType}:{eventId} (순번 오프셋 Hash, admitted = 누적 입장 인원, 생략 가능)
+-- ARGV[1] = 최대 동시 입장 인원 (maxCapacity)
+-- ARGV[2] = 이번 처리에서 입장시킬 최대 인원 (entryBatchSize)
+-- ARGV[3] = 현재 시각 (ms)
+-- ARGV[4] = 이번에 입장한 슬롯의 만료 시각 (ms)
+-- ARGV[5] = 한 번에 회수할 만료 슬롯 최대 수
+
+-- Return values:
+-- {n, expired1, ..., expiredN, token1, score1, token2, score2, ...}
+--   n: 이번에 회수한 만료 슬롯 수, 이어서 만료된 토큰 n개, 이후 입장 처리된 토큰과 원래 대기열 score (순번 순)
+
+local waitingKey = KEYS[1]
+local enteredKey = KEYS[2]
+local offsetsKey = KEYS[3]
+local maxCapacity = tonumber(ARGV[1])
+local batchSize = tonumber(ARGV[2])
+local now = ARGV[3]
+local expiresAt = ARGV[4]
+local evictLimit = tonumber(ARGV[5])
+
+-- unpack 인자 수 제한을 피하기 위해 나눠서 ZADD (members: score, member 순서의 평탄화 목록)
+local function zaddChunked(key, members)
+    for i = 1, #members, 2000 do
+        redis.call('ZADD', key, unpack(members, i, math.min(i + 1999, #members)))
+    end
+end
+
+-- 0단계: 배포 전 Set으로 저장된 입장 슬롯을 Sorted Set으로 전환 (WRONGTYPE으로 입장이 멈추지 않도록)
+if redis.call('TYPE', enteredKey)['ok'] == 'set' then
+    local legacy = redis.call('SMEMBERS', enteredKey)
+    redis.call('DEL', enteredKey)
+    local members = {}
+    for i = 1, #legacy do
+        members[#members + 1] = expiresAt
+        members[#members + 1] = legacy[i]
+    end
+    zaddChunked(enteredKey, members)
+end
+
+-- 1단계: 만료된 입장 슬롯 회수
+local expired = redis.call('ZRANGEBYSCORE', enteredKey, '-inf', now, 'LIMIT', 0, evictLimit)
+for i = 1, #expired, 1000 do
+    redis.call('ZREM', enteredKey, unpack(expired, i, math.min(i + 999, #expired)))
+end
+
+local result = {tostring(#expired)}
+for i = 1, #expired do
+    result[#result + 1] = expired[i]
+end
+
+-- 2단계: 남은 자리만큼 입장 처리
+local availableSlots = maxCapacity - redis.call('ZCARD', enteredKey)
+local toAdmit = math.min(availableSlots, batchSize)
+if toAdmit <= 0 then
+    return result
+end
+
+local popped = redis.call('ZPOPMIN', waitingKey, toAdmit)
+if #popped == 0 then
+    return result
+end
+
+local admitted = {}
+for i = 1, #popped, 2 do
+    admitted[#admitted + 1] = expiresAt
+    admitted[#admitted + 1] = popped[i]
+    result[#result + 1] = popped[i]
+    result[#result + 1] = popped[i + 1]
+end
+zaddChunked(enteredKey, admitted)
+-- 순번 push 엔진이 전체 대기열을 훑지 않고 누적 입장 인원 차이로 순번을 계산하도록 함께 증가
+if offsetsKey then
+    redis.call('HINCRBY', offsetsKey, 'admitted', #popped / 2)
+end
+
+return result
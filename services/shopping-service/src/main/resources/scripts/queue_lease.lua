@@ -0,0 +1,30 @@
+-- Queue Lease Lua Script (대기열 처리 담당 인스턴스 선점/연장/반납)
+-- KEYS[1] = queue:lease:{eventType}:{eventId}
+-- ARGV[1] = 인스턴스 ID
+-- ARGV[2] = lease 유지 시간 (ms)
+-- ARGV[3] = 'release'이면 이 인스턴스가 보유한 lease를 반납 (생략 시 선점/연장)
+
+-- Return values:
+-- 1: 이 인스턴스가 lease 보유 (신규 선점 또는 연장)
+-- 0: 다른 인스턴스가 보유 중, 또는 반납 처리됨
+
+local owner = redis.call('GET', KEYS[1])
+
+if ARGV[3] == 'release' then
+    if owner == ARGV[1] then
+        redis.call('DEL', KEYS[1])
+    end
+    return 0
+end
+
+if owner == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return 1
+end
+
+if not owner then
+    redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+    return 1
+end
+
+return 0
@@ -5,9 +5,10 @@
 -- ARGV[2] = 1인당 최대 구매 수량
 
 -- Return values:
--- > 0: 구매 성공 (남은 재고 수량)
--- 0: 재고 소진
+-- >= 0: 구매 성공 (남은 재고 수량, 0이면 이번 구매로 매진)
 -- -1: 1인당 구매 제한 초과
+-- -2: 재고 소진
+-- -3: 재고는 남았지만 요청 수량보다 적음
 
 local stockKey = KEYS[1]
 local purchasedKey = KEYS[2]
@@ -22,8 +23,11 @@ end
 
 -- 현재 재고 확인
 local currentStock = tonumber(redis.call('GET', stockKey) or 0)
+if currentStock <= 0 then
+    return -2
+end
 if currentStock < requestedQuantity then
-    return 0
+    return -3
 end
 
 -- 원자적으로 재고 감소
@@ -31,7 +35,7 @@ local newStock = redis.call('DECRBY', stockKey, requestedQuantity)
 if newStock < 0 then
     -- 롤백: 재고가 음수가 되면 다시 증가
     redis.call('INCRBY', stockKey, requestedQuantity)
-    return 0
+    return -2
 end
 
 -- 사용자 구매 수량 증가
@@ -0,0 +1,151 @@
+package com.portal.universe.shoppingservice.coupon.bootstrap;
+
+import com.portal.universe.shoppingservice.common.config.RedisWarmupProperties;
+import com.portal.universe.shoppingservice.common.health.RedisWarmupHealthIndicator;
+import com.portal.universe.shoppingservice.coupon.domain.Coupon;
+import com.portal.universe.shoppingservice.coupon.domain.CouponStatus;
+import com.portal.universe.shoppingservice.coupon.domain.DiscountType;
+import com.portal.universe.shoppingservice.coupon.redis.CouponRedisService;
+import com.portal.universe.shoppingservice.coupon.repository.CouponRepository;
+import com.portal.universe.shoppingservice.coupon.repository.UserCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponRedisBootstrapTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    @Mock
+    private CouponRedisService couponRedisService;
+
+    private RedisWarmupHealthIndicator healthIndicator;
+    private CouponRedisBootstrap bootstrap;
+
+    @BeforeEach
+    void setUp() {
+        RedisWarmupProperties properties = new RedisWarmupProperties();
+        properties.setPageSize(2);
+        properties.setParallelism(2);
+        healthIndicator = new RedisWarmupHealthIndicator();
+        bootstrap = new CouponRedisBootstrap(couponRepository, userCouponRepository, couponRedisService,
+                properties, healthIndicator);
+        bootstrap.registerWarmup();
+    }
+
+    private Coupon createCoupon(Long id, int totalQuantity) {
+        Coupon coupon = Coupon.builder()
+                .code("COUPON-" + id)
+                .name("테스트 쿠폰")
+                .discountType(DiscountType.FIXED)
+                .discountValue(new BigDecimal("1000"))
+                .totalQuantity(totalQuantity)
+                .startsAt(LocalDateTime.now().minusDays(1))
+                .expiresAt(LocalDateTime.now().plusDays(30))
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", id);
+        return coupon;
+    }
+
+    private UserCouponRepository.IssuedUser issuedUser(Long id, String userId) {
+        return new UserCouponRepository.IssuedUser() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getUserId() {
+                return userId;
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("syncCouponStockToRedis")
+    class SyncCouponStockToRedis {
+
+        @Test
+        @DisplayName("should_loadIssuedUsersByKeyset_when_couponIsStale")
+        void should_loadIssuedUsersByKeyset_when_couponIsStale() {
+            // given
+            Coupon coupon = createCoupon(1L, 100);
+            when(couponRepository.findByStatus(CouponStatus.ACTIVE)).thenReturn(List.of(coupon));
+            when(couponRedisService.getWarmupStamps(List.of(1L))).thenReturn(Map.of());
+            when(userCouponRepository.findIssuedUsersAfter(eq(1L), eq(0L), any(Pageable.class)))
+                    .thenReturn(List.of(issuedUser(3L, "user-a"), issuedUser(7L, "user-b")));
+            when(userCouponRepository.findIssuedUsersAfter(eq(1L), eq(7L), any(Pageable.class)))
+                    .thenReturn(List.of(issuedUser(9L, "user-c")));
+
+            // when
+            bootstrap.syncCouponStockToRedis();
+
+            // then
+            verify(couponRedisService).addIssuedUsers(1L, List.of("user-a", "user-b"));
+            verify(couponRedisService).addIssuedUsers(1L, List.of("user-c"));
+            verify(couponRedisService).restoreStock(1L, 100, "100:0");
+            assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        }
+
+        @Test
+        @DisplayName("should_skipCoupon_when_warmupStampMatches")
+        void should_skipCoupon_when_warmupStampMatches() {
+            // given
+            Coupon coupon = createCoupon(1L, 100);
+            when(couponRepository.findByStatus(CouponStatus.ACTIVE)).thenReturn(List.of(coupon));
+            when(couponRedisService.getWarmupStamps(List.of(1L))).thenReturn(Map.of(1L, "100:0"));
+
+            // when
+            bootstrap.syncCouponStockToRedis();
+
+            // then
+            verifyNoInteractions(userCouponRepository);
+            verify(couponRedisService, never()).restoreStock(any(), anyInt(), anyString());
+            assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        }
+
+        @Test
+        @DisplayName("should_reportOutOfService_when_warmupNotFinished")
+        void should_reportOutOfService_when_warmupNotFinished() {
+            // when & then
+            assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        }
+
+        @Test
+        @DisplayName("should_reportDown_when_couponLookupFails")
+        void should_reportDown_when_couponLookupFails() {
+            // given
+            when(couponRepository.findByStatus(CouponStatus.ACTIVE)).thenThrow(new IllegalStateException("db down"));
+
+            // when
+            bootstrap.syncCouponStockToRedis();
+
+            // then
+            assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.DOWN);
+        }
+    }
+}
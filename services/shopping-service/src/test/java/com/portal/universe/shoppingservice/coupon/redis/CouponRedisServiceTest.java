@@ -191,6 +191,6 @@ class CouponRedisServiceTest {
         couponRedisService.deleteCouponCache(couponId);
 
         // then
-        verify(stringRedisTemplate).delete(Arrays.asList("coupon:stock:1", "coupon:issued:1"));
+        verify(stringRedisTemplate).delete(Arrays.asList("coupon:stock:1", "coupon:issued:1", "coupon:warmup:1"));
     }
 }
@@ -9,12 +9,19 @@ import com.portal.universe.shoppingservice.coupon.redis.CouponRedisService;
 import com.portal.universe.shoppingservice.coupon.repository.CouponRepository;
 import com.portal.universe.shoppingservice.coupon.repository.UserCouponRepository;
 import com.portal.universe.shoppingservice.event.ShoppingEventPublisher;
+import com.portal.universe.shoppingservice.purchase.config.PurchasePersistenceProperties;
+import com.portal.universe.shoppingservice.purchase.domain.PurchaseStatus;
+import com.portal.universe.shoppingservice.purchase.domain.PurchaseType;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRedisService;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -49,6 +56,12 @@ class CouponServiceImplTest {
     @Mock
     private ShoppingEventPublisher eventPublisher;
 
+    @Spy
+    private PurchasePersistenceProperties purchasePersistenceProperties = new PurchasePersistenceProperties();
+
+    @Mock
+    private PurchaseRedisService purchaseRedisService;
+
     @InjectMocks
     private CouponServiceImpl couponService;
 
@@ -227,7 +240,49 @@ class CouponServiceImplTest {
 
             // then
             assertThat(result).isNotNull();
+            assertThat(result.persistenceStatus()).isEqualTo(PurchaseStatus.COMPLETED);
             verify(eventPublisher).publishCouponIssued(any());
+            verify(purchaseRedisService, never()).enqueue(any());
+        }
+
+        @Test
+        @DisplayName("should_enqueueIssue_when_asyncPersistence")
+        void should_enqueueIssue_when_asyncPersistence() {
+            // given
+            purchasePersistenceProperties.setMode(PurchasePersistenceProperties.PersistenceMode.ASYNC);
+            Coupon coupon = createCoupon(1L, "SAVE10", CouponStatus.ACTIVE, 100, 0);
+            when(couponRepository.findById(1L)).thenReturn(Optional.of(coupon));
+            when(couponRedisService.issueCoupon(1L, "1", 100)).thenReturn(1L);
+
+            // when
+            UserCouponResponse result = couponService.issueCoupon(1L, "1");
+
+            // then
+            ArgumentCaptor<PurchaseRequest> captor = ArgumentCaptor.forClass(PurchaseRequest.class);
+            verify(purchaseRedisService).enqueue(captor.capture());
+            assertThat(captor.getValue().type()).isEqualTo(PurchaseType.COUPON);
+            assertThat(captor.getValue().targetId()).isEqualTo(1L);
+            assertThat(result.requestId()).isEqualTo(captor.getValue().requestId());
+            assertThat(result.persistenceStatus()).isEqualTo(PurchaseStatus.PENDING);
+            verify(userCouponRepository, never()).save(any(UserCoupon.class));
+            verify(eventPublisher, never()).publishCouponIssued(any());
+        }
+
+        @Test
+        @DisplayName("should_restoreRedisIssue_when_enqueueFails")
+        void should_restoreRedisIssue_when_enqueueFails() {
+            // given
+            purchasePersistenceProperties.setMode(PurchasePersistenceProperties.PersistenceMode.ASYNC);
+            Coupon coupon = createCoupon(1L, "SAVE10", CouponStatus.ACTIVE, 100, 0);
+            when(couponRepository.findById(1L)).thenReturn(Optional.of(coupon));
+            when(couponRedisService.issueCoupon(1L, "1", 100)).thenReturn(1L);
+            doThrow(new IllegalStateException("redis down")).when(purchaseRedisService).enqueue(any());
+
+            // when & then
+            assertThatThrownBy(() -> couponService.issueCoupon(1L, "1"))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(couponRedisService).incrementStock(1L);
+            verify(couponRedisService).removeIssuedUser(1L, "1");
         }
 
         @Test
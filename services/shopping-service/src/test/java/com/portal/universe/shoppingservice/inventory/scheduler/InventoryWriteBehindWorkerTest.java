@@ -0,0 +1,117 @@
+package com.portal.universe.shoppingservice.inventory.scheduler;
+
+import com.portal.universe.shoppingservice.inventory.config.InventoryReservationProperties;
+import com.portal.universe.shoppingservice.inventory.domain.Inventory;
+import com.portal.universe.shoppingservice.inventory.domain.MovementType;
+import com.portal.universe.shoppingservice.inventory.domain.StockMovement;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryJournalEntry;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryRedisService;
+import com.portal.universe.shoppingservice.inventory.repository.InventoryRepository;
+import com.portal.universe.shoppingservice.inventory.repository.StockMovementRepository;
+import com.portal.universe.shoppingservice.search.outbox.ProductIndexOutboxRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryWriteBehindWorkerTest {
+
+    @Mock
+    private InventoryRedisService inventoryRedisService;
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private StockMovementRepository stockMovementRepository;
+
+    @Mock
+    private ProductIndexOutboxRecorder productIndexOutboxRecorder;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private InventoryWriteBehindWorker worker;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        worker = new InventoryWriteBehindWorker(inventoryRedisService, inventoryRepository, stockMovementRepository,
+                productIndexOutboxRecorder, new InventoryReservationProperties(), redissonClient, transactionTemplate, new SimpleMeterRegistry());
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private InventoryJournalEntry entry(long seq, String referenceId, int afterAvailable, int afterReserved) {
+        return new InventoryJournalEntry(seq, 100L, 1L, MovementType.RESERVE, 1,
+                afterAvailable + 1, afterAvailable, afterReserved - 1, afterReserved,
+                "ORDER", referenceId, "", "user1");
+    }
+
+    @Test
+    @DisplayName("should_applyLatestValues_and_skipPersistedEntries_when_flushing")
+    @SuppressWarnings("unchecked")
+    void should_applyLatestValues_and_skipPersistedEntries_when_flushing() {
+        // given
+        Inventory inventory = Inventory.builder().productId(100L).initialQuantity(50).build();
+        ReflectionTestUtils.setField(inventory, "id", 1L);
+        when(inventoryRedisService.peekJournal(10)).thenReturn(List.of(
+                entry(1L, "ORD-1", 49, 1),
+                entry(2L, "ORD-2", 48, 2),
+                entry(3L, "ORD-3", 47, 3)));
+        when(stockMovementRepository.findExistingJournalSeqs(anyList())).thenReturn(List.of(1L));
+        when(inventoryRepository.findByProductIds(List.of(100L))).thenReturn(List.of(inventory));
+
+        // when
+        int flushed = worker.flushBatch(10);
+
+        // then
+        assertThat(flushed).isEqualTo(3);
+        assertThat(inventory.getAvailableQuantity()).isEqualTo(47);
+        assertThat(inventory.getReservedQuantity()).isEqualTo(3);
+
+        ArgumentCaptor<List<StockMovement>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockMovementRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(StockMovement::getJournalSeq).containsExactly(2L, 3L);
+        assertThat(captor.getValue()).extracting(StockMovement::getReason).containsOnlyNulls();
+        verify(inventoryRedisService).trimJournal(3);
+        verify(productIndexOutboxRecorder).recordStockAll(Set.of(100L));
+    }
+
+    @Test
+    @DisplayName("should_doNothing_when_journalIsEmpty")
+    void should_doNothing_when_journalIsEmpty() {
+        // given
+        when(inventoryRedisService.peekJournal(10)).thenReturn(List.of());
+
+        // when
+        int flushed = worker.flushBatch(10);
+
+        // then
+        assertThat(flushed).isZero();
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+        verify(inventoryRedisService, never()).trimJournal(anyInt());
+    }
+}
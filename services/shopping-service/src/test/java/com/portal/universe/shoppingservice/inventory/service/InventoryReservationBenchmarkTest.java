@@ -0,0 +1,110 @@
+package com.portal.universe.shoppingservice.inventory.service;
+
+import com.portal.universe.shoppingservice.IntegrationTest;
+import com.portal.universe.shoppingservice.inventory.config.InventoryReservationProperties;
+import com.portal.universe.shoppingservice.inventory.dto.InventoryResponse;
+import com.portal.universe.shoppingservice.inventory.scheduler.InventoryWriteBehindWorker;
+import com.redis.testcontainers.RedisContainer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단일 핫 SKU에 대한 재고 예약 처리량 벤치마크입니다.
+ * 기존 비관적 락(DB) 경로와 Redis 엔진(Lua + write-behind) 경로의 reservations/sec를 비교합니다.
+ */
+@Slf4j
+@Disabled("벤치마크 - Docker/Testcontainers 환경 필요, 수동 실행")
+class InventoryReservationBenchmarkTest extends IntegrationTest {
+
+    private static final int THREADS = 32;
+    private static final int RESERVATIONS = 5_000;
+    private static final int INITIAL_STOCK = 1_000_000;
+
+    private static final RedisContainer redisContainer =
+            new RedisContainer(DockerImageName.parse("redis:7-alpine"));
+
+    static {
+        redisContainer.start();
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redisContainer::getHost);
+        registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379));
+    }
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryReservationProperties reservationProperties;
+
+    @Autowired
+    private InventoryWriteBehindWorker writeBehindWorker;
+
+    @Test
+    @DisplayName("핫 SKU 예약 처리량: DB 비관적 락 vs Redis 엔진")
+    void compareHotSkuReservationThroughput() throws InterruptedException {
+        Long dbProductId = 9001L;
+        Long redisProductId = 9002L;
+        inventoryService.initializeInventory(dbProductId, INITIAL_STOCK, "benchmark");
+        inventoryService.initializeInventory(redisProductId, INITIAL_STOCK, "benchmark");
+        reservationProperties.getRedisProductIds().add(redisProductId);
+
+        double dbThroughput = measure(dbProductId, "DB");
+        double redisThroughput = measure(redisProductId, "REDIS");
+
+        log.info("Hot SKU reservations/sec - DB lock: {}, Redis engine: {} ({}x)",
+                String.format("%.0f", dbThroughput), String.format("%.0f", redisThroughput),
+                String.format("%.1f", redisThroughput / dbThroughput));
+
+        // write-behind 반영 후 DB 값이 Redis 값과 일치해야 함
+        writeBehindWorker.flush();
+        InventoryResponse redisView = inventoryService.getInventory(redisProductId);
+        reservationProperties.getRedisProductIds().remove(redisProductId);
+        InventoryResponse dbView = inventoryService.getInventory(redisProductId);
+
+        assertThat(redisView.reservedQuantity()).isEqualTo(RESERVATIONS);
+        assertThat(dbView.reservedQuantity()).isEqualTo(RESERVATIONS);
+        assertThat(dbView.availableQuantity()).isEqualTo(INITIAL_STOCK - RESERVATIONS);
+    }
+
+    private double measure(Long productId, String label) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch latch = new CountDownLatch(RESERVATIONS);
+        AtomicInteger failures = new AtomicInteger();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < RESERVATIONS; i++) {
+            final String referenceId = label + "-ORD-" + i;
+            executor.submit(() -> {
+                try {
+                    inventoryService.reserveStock(productId, 1, "ORDER", referenceId, "benchmark");
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+
+        assertThat(failures.get()).isZero();
+        return RESERVATIONS / (elapsedNanos / 1_000_000_000.0);
+    }
+}
@@ -1,14 +1,17 @@
 package com.portal.universe.shoppingservice.inventory.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.universe.commonlibrary.exception.CustomBusinessException;
 import com.portal.universe.shoppingservice.inventory.domain.Inventory;
+import com.portal.universe.shoppingservice.inventory.domain.MovementType;
 import com.portal.universe.shoppingservice.inventory.domain.StockMovement;
 import com.portal.universe.shoppingservice.inventory.dto.InventoryResponse;
 import com.portal.universe.shoppingservice.inventory.dto.StockMovementResponse;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryStockSnapshot;
 import com.portal.universe.shoppingservice.inventory.repository.InventoryRepository;
 import com.portal.universe.shoppingservice.inventory.repository.StockMovementRepository;
+import com.portal.universe.shoppingservice.inventory.stream.InventoryUpdatePublisher;
+import com.portal.universe.shoppingservice.search.outbox.ProductIndexOutboxRecorder;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -20,16 +23,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -43,14 +48,26 @@ class InventoryServiceImplTest {
     private StockMovementRepository stockMovementRepository;
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private InventoryUpdatePublisher inventoryUpdatePublisher;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private RedisInventoryEngine redisInventoryEngine;
+
+    @Mock
+    private StockMovementJournal stockMovementJournal;
+
+    @Mock
+    private ProductIndexOutboxRecorder productIndexOutboxRecorder;
 
     @InjectMocks
     private InventoryServiceImpl inventoryService;
 
+    @BeforeEach
+    void setUp() {
+        // 기본적으로 모든 상품은 DB 엔진으로 처리됨
+        lenient().when(redisInventoryEngine.overlay(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
     private Inventory createInventory(Long id, Long productId, int available, int reserved) {
         Inventory inventory = Inventory.builder()
                 .productId(productId)
@@ -125,7 +142,6 @@ class InventoryServiceImplTest {
             when(inventoryRepository.existsByProductId(100L)).thenReturn(false);
             Inventory inventory = createInventory(1L, 100L, 50, 0);
             when(inventoryRepository.save(any(Inventory.class))).thenReturn(inventory);
-            when(stockMovementRepository.save(any(StockMovement.class))).thenReturn(mock(StockMovement.class));
 
             // when
             InventoryResponse result = inventoryService.initializeInventory(100L, 50, "admin1");
@@ -133,7 +149,7 @@ class InventoryServiceImplTest {
             // then
             assertThat(result).isNotNull();
             verify(inventoryRepository).save(any(Inventory.class));
-            verify(stockMovementRepository).save(any(StockMovement.class));
+            verify(stockMovementJournal).record(any(StockMovement.class));
         }
 
         @Test
@@ -154,13 +170,11 @@ class InventoryServiceImplTest {
 
         @Test
         @DisplayName("should_reserveStock_when_sufficient")
-        void should_reserveStock_when_sufficient() throws JsonProcessingException {
+        void should_reserveStock_when_sufficient() {
             // given
             Inventory inventory = createInventory(1L, 100L, 50, 0);
             when(inventoryRepository.findByProductIdWithLock(100L)).thenReturn(Optional.of(inventory));
             when(inventoryRepository.save(any(Inventory.class))).thenReturn(inventory);
-            when(stockMovementRepository.save(any(StockMovement.class))).thenReturn(mock(StockMovement.class));
-            when(objectMapper.writeValueAsString(any())).thenReturn("{}");
 
             // when
             InventoryResponse result = inventoryService.reserveStock(100L, 10, "ORDER", "ORD-001", "user1");
@@ -172,19 +186,18 @@ class InventoryServiceImplTest {
 
         @Test
         @DisplayName("should_recordMovement_when_reserveStock")
-        void should_recordMovement_when_reserveStock() throws JsonProcessingException {
+        void should_recordMovement_when_reserveStock() {
             // given
             Inventory inventory = createInventory(1L, 100L, 50, 0);
             when(inventoryRepository.findByProductIdWithLock(100L)).thenReturn(Optional.of(inventory));
             when(inventoryRepository.save(any(Inventory.class))).thenReturn(inventory);
-            when(stockMovementRepository.save(any(StockMovement.class))).thenReturn(mock(StockMovement.class));
-            when(objectMapper.writeValueAsString(any())).thenReturn("{}");
 
             // when
             inventoryService.reserveStock(100L, 10, "ORDER", "ORD-001", "user1");
 
             // then
-            verify(stockMovementRepository).save(any(StockMovement.class));
+            verify(stockMovementJournal).record(any(StockMovement.class));
+            verify(productIndexOutboxRecorder).recordStock(100L);
         }
     }
 
@@ -194,13 +207,11 @@ class InventoryServiceImplTest {
 
         @Test
         @DisplayName("should_reserveStockBatch_when_valid")
-        void should_reserveStockBatch_when_valid() throws JsonProcessingException {
+        void should_reserveStockBatch_when_valid() {
             // given
             Inventory inv1 = createInventory(1L, 100L, 50, 0);
             Inventory inv2 = createInventory(2L, 200L, 30, 0);
             when(inventoryRepository.findByProductIdsWithLock(any())).thenReturn(List.of(inv1, inv2));
-            when(stockMovementRepository.save(any(StockMovement.class))).thenReturn(mock(StockMovement.class));
-            when(objectMapper.writeValueAsString(any())).thenReturn("{}");
 
             Map<Long, Integer> quantities = Map.of(100L, 5, 200L, 3);
 
@@ -219,13 +230,11 @@ class InventoryServiceImplTest {
 
         @Test
         @DisplayName("should_deductStock_when_valid")
-        void should_deductStock_when_valid() throws JsonProcessingException {
+        void should_deductStock_when_valid() {
             // given
             Inventory inventory = createInventory(1L, 100L, 40, 10);
             when(inventoryRepository.findByProductIdWithLock(100L)).thenReturn(Optional.of(inventory));
             when(inventoryRepository.save(any(Inventory.class))).thenReturn(inventory);
-            when(stockMovementRepository.save(any(StockMovement.class))).thenReturn(mock(StockMovement.class));
-            when(objectMapper.writeValueAsString(any())).thenReturn("{}");
 
             // when
             InventoryResponse result = inventoryService.deductStock(100L, 5, "ORDER", "ORD-001", "user1");
@@ -241,13 +250,11 @@ class InventoryServiceImplTest {
 
         @Test
         @DisplayName("should_deductStockBatch_when_valid")
-        void should_deductStockBatch_when_valid() throws JsonProcessingException {
+        void should_deductStockBatch_when_valid() {
             // given
             Inventory inv1 = createInventory(1L, 100L, 40, 10);
             Inventory inv2 = createInventory(2L, 200L, 25, 5);
             when(inventoryRepository.findByProductIdsWithLock(any())).thenReturn(List.of(inv1, inv2));
-            when(stockMovementRepository.save(any(StockMovement.class))).thenReturn(mock(StockMovement.class));
-            when(objectMapper.writeValueAsString(any())).thenReturn("{}");
 
             Map<Long, Integer> quantities = Map.of(100L, 5, 200L, 3);
 
@@ -265,13 +272,11 @@ class InventoryServiceImplTest {
 
         @Test
         @DisplayName("should_releaseStock_when_valid")
-        void should_releaseStock_when_valid() throws JsonProcessingException {
+        void should_releaseStock_when_valid() {
             // given
             Inventory inventory = createInventory(1L, 100L, 40, 10);
             when(inventoryRepository.findByProductIdWithLock(100L)).thenReturn(Optional.of(inventory));
             when(inventoryRepository.save(any(Inventory.class))).thenReturn(inventory);
-            when(stockMovementRepository.save(any(StockMovement.class))).thenReturn(mock(StockMovement.class));
-            when(objectMapper.writeValueAsString(any())).thenReturn("{}");
 
             // when
             InventoryResponse result = inventoryService.releaseStock(100L, 5, "ORDER_CANCEL", "ORD-001", "user1");
@@ -287,13 +292,11 @@ class InventoryServiceImplTest {
 
         @Test
         @DisplayName("should_releaseStockBatch_when_valid")
-        void should_releaseStockBatch_when_valid() throws JsonProcessingException {
+        void should_releaseStockBatch_when_valid() {
             // given
             Inventory inv1 = createInventory(1L, 100L, 40, 10);
             Inventory inv2 = createInventory(2L, 200L, 25, 5);
             when(inventoryRepository.findByProductIdsWithLock(any())).thenReturn(List.of(inv1, inv2));
-            when(stockMovementRepository.save(any(StockMovement.class))).thenReturn(mock(StockMovement.class));
-            when(objectMapper.writeValueAsString(any())).thenReturn("{}");
 
             Map<Long, Integer> quantities = Map.of(100L, 5, 200L, 3);
 
@@ -311,13 +314,11 @@ class InventoryServiceImplTest {
 
         @Test
         @DisplayName("should_addStock_when_valid")
-        void should_addStock_when_valid() throws JsonProcessingException {
+        void should_addStock_when_valid() {
             // given
             Inventory inventory = createInventory(1L, 100L, 50, 0);
             when(inventoryRepository.findByProductIdWithLock(100L)).thenReturn(Optional.of(inventory));
             when(inventoryRepository.save(any(Inventory.class))).thenReturn(inventory);
-            when(stockMovementRepository.save(any(StockMovement.class))).thenReturn(mock(StockMovement.class));
-            when(objectMapper.writeValueAsString(any())).thenReturn("{}");
 
             // when
             InventoryResponse result = inventoryService.addStock(100L, 20, "Restocking", "admin1");
@@ -329,19 +330,17 @@ class InventoryServiceImplTest {
 
         @Test
         @DisplayName("should_recordMovement_when_addStock")
-        void should_recordMovement_when_addStock() throws JsonProcessingException {
+        void should_recordMovement_when_addStock() {
             // given
             Inventory inventory = createInventory(1L, 100L, 50, 0);
             when(inventoryRepository.findByProductIdWithLock(100L)).thenReturn(Optional.of(inventory));
             when(inventoryRepository.save(any(Inventory.class))).thenReturn(inventory);
-            when(stockMovementRepository.save(any(StockMovement.class))).thenReturn(mock(StockMovement.class));
-            when(objectMapper.writeValueAsString(any())).thenReturn("{}");
 
             // when
             inventoryService.addStock(100L, 20, "Restocking", "admin1");
 
             // then
-            verify(stockMovementRepository).save(any(StockMovement.class));
+            verify(stockMovementJournal).record(any(StockMovement.class));
         }
     }
 
@@ -372,19 +371,67 @@ class InventoryServiceImplTest {
 
         @Test
         @DisplayName("should_publishUpdate_when_inventoryChanged")
-        void should_publishUpdate_when_inventoryChanged() throws JsonProcessingException {
+        void should_publishUpdate_when_inventoryChanged() {
             // given
             Inventory inventory = createInventory(1L, 100L, 50, 0);
             when(inventoryRepository.findByProductIdWithLock(100L)).thenReturn(Optional.of(inventory));
             when(inventoryRepository.save(any(Inventory.class))).thenReturn(inventory);
-            when(stockMovementRepository.save(any(StockMovement.class))).thenReturn(mock(StockMovement.class));
-            when(objectMapper.writeValueAsString(any())).thenReturn("{\"productId\":100}");
 
             // when
             inventoryService.reserveStock(100L, 5, "ORDER", "ORD-001", "user1");
 
             // then
-            verify(redisTemplate).convertAndSend(eq("inventory:100"), anyString());
+            verify(inventoryUpdatePublisher).publish(100L, 45, 5);
+        }
+    }
+
+    @Nested
+    @DisplayName("redisEngine")
+    class RedisEngine {
+
+        @Test
+        @DisplayName("should_delegateToRedisEngine_without_rowLock_when_redisManaged")
+        void should_delegateToRedisEngine_without_rowLock_when_redisManaged() {
+            // given
+            when(redisInventoryEngine.isRedisManaged(100L)).thenReturn(true);
+            when(redisInventoryEngine.apply(eq(MovementType.RESERVE), eq(Map.of(100L, 5)),
+                    eq("ORDER"), eq("ORD-001"), anyString(), eq("user1")))
+                    .thenReturn(List.of(new InventoryStockSnapshot(100L, 1L, 45, 5, 50)));
+
+            // when
+            InventoryResponse result = inventoryService.reserveStock(100L, 5, "ORDER", "ORD-001", "user1");
+
+            // then
+            assertThat(result.availableQuantity()).isEqualTo(45);
+            assertThat(result.reservedQuantity()).isEqualTo(5);
+            verify(inventoryRepository, never()).findByProductIdWithLock(any());
+            verify(stockMovementJournal, never()).record(any(StockMovement.class));
+            verify(inventoryUpdatePublisher).publish(100L, 45, 5);
+        }
+
+        @Test
+        @DisplayName("should_lockOnlyDbManagedProducts_when_batchIsMixed")
+        void should_lockOnlyDbManagedProducts_when_batchIsMixed() {
+            // given
+            when(redisInventoryEngine.extractRedisManaged(anyMap())).thenAnswer(invocation -> {
+                Map<Long, Integer> quantities = invocation.getArgument(0);
+                Integer quantity = quantities.remove(100L);
+                return new TreeMap<>(Map.of(100L, quantity));
+            });
+            when(redisInventoryEngine.apply(eq(MovementType.RESERVE), eq(Map.of(100L, 5)),
+                    anyString(), anyString(), anyString(), anyString()))
+                    .thenReturn(List.of(new InventoryStockSnapshot(100L, 1L, 45, 5, 50)));
+            Inventory inv2 = createInventory(2L, 200L, 30, 0);
+            when(inventoryRepository.findByProductIdsWithLock(List.of(200L))).thenReturn(List.of(inv2));
+
+            // when
+            List<InventoryResponse> result = inventoryService.reserveStockBatch(
+                    Map.of(100L, 5, 200L, 3), "ORDER", "ORD-001", "user1");
+
+            // then
+            assertThat(result).hasSize(2);
+            verify(inventoryRepository).findByProductIdsWithLock(List.of(200L));
+            assertThat(inv2.getReservedQuantity()).isEqualTo(3);
         }
     }
 }
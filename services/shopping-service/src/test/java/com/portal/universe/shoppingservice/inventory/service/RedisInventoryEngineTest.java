@@ -0,0 +1,252 @@
+package com.portal.universe.shoppingservice.inventory.service;
+
+import com.portal.universe.commonlibrary.exception.CustomBusinessException;
+import com.portal.universe.shoppingservice.common.exception.ShoppingErrorCode;
+import com.portal.universe.shoppingservice.inventory.config.InventoryReservationProperties;
+import com.portal.universe.shoppingservice.inventory.domain.Inventory;
+import com.portal.universe.shoppingservice.inventory.domain.MovementType;
+import com.portal.universe.shoppingservice.inventory.dto.InventoryResponse;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryRedisService;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryRedisService.MutationResult;
+import com.portal.universe.shoppingservice.inventory.redis.InventoryStockSnapshot;
+import com.portal.universe.shoppingservice.inventory.repository.InventoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisInventoryEngineTest {
+
+    @Mock
+    private InventoryRedisService inventoryRedisService;
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    private InventoryReservationProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private RedisInventoryEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        properties = new InventoryReservationProperties();
+        properties.setRedisProductIds(Set.of(100L));
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new RedisInventoryEngine(properties, inventoryRedisService, inventoryRepository, meterRegistry);
+    }
+
+    private MutationResult success(InventoryStockSnapshot... snapshots) {
+        return new MutationResult(InventoryRedisService.RESULT_SUCCESS, null, List.of(snapshots));
+    }
+
+    @Nested
+    @DisplayName("isRedisManaged")
+    class IsRedisManaged {
+
+        @Test
+        @DisplayName("should_selectRedisEngine_when_productIsHotSku")
+        void should_selectRedisEngine_when_productIsHotSku() {
+            assertThat(engine.isRedisManaged(100L)).isTrue();
+            assertThat(engine.isRedisManaged(200L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should_selectRedisEngine_for_allProducts_when_globalModeIsRedis")
+        void should_selectRedisEngine_for_allProducts_when_globalModeIsRedis() {
+            properties.setMode(InventoryReservationProperties.ReservationMode.REDIS);
+
+            assertThat(engine.isRedisManaged(200L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should_removeRedisManagedProducts_from_quantities")
+        void should_removeRedisManagedProducts_from_quantities() {
+            Map<Long, Integer> quantities = new HashMap<>(Map.of(100L, 1, 200L, 2));
+
+            Map<Long, Integer> redisManaged = engine.extractRedisManaged(quantities);
+
+            assertThat(redisManaged).containsExactly(Map.entry(100L, 1));
+            assertThat(quantities).containsOnlyKeys(200L);
+        }
+    }
+
+    @Nested
+    @DisplayName("apply")
+    class Apply {
+
+        @Test
+        @DisplayName("should_moveAvailableToReserved_when_reserve")
+        @SuppressWarnings("unchecked")
+        void should_moveAvailableToReserved_when_reserve() {
+            // given
+            when(inventoryRedisService.mutate(eq(MovementType.RESERVE), anyMap(), any(), any(), any(), any()))
+                    .thenReturn(success(new InventoryStockSnapshot(100L, 1L, 45, 5, 50)));
+
+            // when
+            List<InventoryStockSnapshot> result = engine.apply(MovementType.RESERVE, Map.of(100L, 5),
+                    "ORDER", "ORD-001", "reason", "user1");
+
+            // then
+            ArgumentCaptor<Map<Long, int[]>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(inventoryRedisService).mutate(eq(MovementType.RESERVE), captor.capture(),
+                    eq("ORDER"), eq("ORD-001"), eq("reason"), eq("user1"));
+            assertThat(captor.getValue().get(100L)).containsExactly(5, -5, 5);
+            assertThat(result).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("should_loadFromDatabase_and_retry_when_notLoaded")
+        void should_loadFromDatabase_and_retry_when_notLoaded() {
+            // given
+            Inventory inventory = Inventory.builder().productId(100L).initialQuantity(50).build();
+            ReflectionTestUtils.setField(inventory, "id", 1L);
+            when(inventoryRedisService.mutate(eq(MovementType.RESERVE), anyMap(), any(), any(), any(), any()))
+                    .thenReturn(new MutationResult(InventoryRedisService.RESULT_NOT_LOADED, 100L, List.of()))
+                    .thenReturn(success(new InventoryStockSnapshot(100L, 1L, 45, 5, 50)));
+            when(inventoryRepository.findByProductIds(List.of(100L))).thenReturn(List.of(inventory));
+
+            // when
+            List<InventoryStockSnapshot> result = engine.apply(MovementType.RESERVE, Map.of(100L, 5),
+                    "ORDER", "ORD-001", "reason", "user1");
+
+            // then
+            verify(inventoryRedisService).loadStock(inventory);
+            verify(inventoryRedisService, times(2)).mutate(any(), anyMap(), any(), any(), any(), any());
+            assertThat(result.get(0).availableQuantity()).isEqualTo(45);
+        }
+
+        @Test
+        @DisplayName("should_throwInsufficientStock_when_reserveRejected")
+        void should_throwInsufficientStock_when_reserveRejected() {
+            // given
+            when(inventoryRedisService.mutate(eq(MovementType.RESERVE), anyMap(), any(), any(), any(), any()))
+                    .thenReturn(new MutationResult(InventoryRedisService.RESULT_INSUFFICIENT, 100L, List.of()));
+
+            // when & then
+            assertThatThrownBy(() -> engine.apply(MovementType.RESERVE, Map.of(100L, 500),
+                    "ORDER", "ORD-001", "reason", "user1"))
+                    .isInstanceOf(CustomBusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ShoppingErrorCode.INSUFFICIENT_STOCK);
+        }
+
+        @Test
+        @DisplayName("should_throwInvalidQuantity_when_quantityIsNotPositive")
+        void should_throwInvalidQuantity_when_quantityIsNotPositive() {
+            assertThatThrownBy(() -> engine.apply(MovementType.RESERVE, Map.of(100L, 0),
+                    "ORDER", "ORD-001", "reason", "user1"))
+                    .isInstanceOf(CustomBusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ShoppingErrorCode.INVALID_STOCK_QUANTITY);
+            verify(inventoryRedisService, never()).mutate(any(), anyMap(), anyString(), anyString(), anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("compensation")
+    class Compensation {
+
+        private final MutationResult insufficient =
+                new MutationResult(InventoryRedisService.RESULT_INSUFFICIENT, 100L, List.of());
+
+        private void applyInboundAndRollback() {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                engine.apply(MovementType.INBOUND, Map.of(100L, 10), "ADMIN", "IN-001", "inbound", "admin");
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("should_retryCompensation_when_rolledBackInboundCannotBeReverted")
+        void should_retryCompensation_when_rolledBackInboundCannotBeReverted() {
+            // given
+            when(inventoryRedisService.mutate(eq(MovementType.INBOUND), anyMap(), any(), any(), any(), any()))
+                    .thenReturn(success(new InventoryStockSnapshot(100L, 1L, 60, 0, 60)));
+            when(inventoryRedisService.mutate(eq(MovementType.ADJUSTMENT), anyMap(), any(), any(), any(), any()))
+                    .thenReturn(insufficient)
+                    .thenReturn(success(new InventoryStockSnapshot(100L, 1L, 50, 0, 50)));
+
+            // when
+            applyInboundAndRollback();
+
+            // then
+            assertThat(engine.getPendingCompensationCount()).isEqualTo(1);
+            assertThat(meterRegistry.counter("inventory.compensation.failed").count()).isEqualTo(1.0);
+
+            engine.retryCompensations();
+
+            assertThat(engine.getPendingCompensationCount()).isZero();
+            verify(inventoryRedisService, times(2)).mutate(eq(MovementType.ADJUSTMENT), anyMap(),
+                    eq("ADMIN"), eq("IN-001"), anyString(), eq("admin"));
+        }
+
+        @Test
+        @DisplayName("should_abandonCompensation_when_maxAttemptsExceeded")
+        void should_abandonCompensation_when_maxAttemptsExceeded() {
+            // given
+            properties.setCompensationMaxAttempts(2);
+            when(inventoryRedisService.mutate(eq(MovementType.INBOUND), anyMap(), any(), any(), any(), any()))
+                    .thenReturn(success(new InventoryStockSnapshot(100L, 1L, 60, 0, 60)));
+            when(inventoryRedisService.mutate(eq(MovementType.ADJUSTMENT), anyMap(), any(), any(), any(), any()))
+                    .thenReturn(insufficient);
+
+            // when
+            applyInboundAndRollback();
+            engine.retryCompensations();
+
+            // then
+            assertThat(engine.getPendingCompensationCount()).isZero();
+            assertThat(meterRegistry.counter("inventory.compensation.failed").count()).isEqualTo(2.0);
+            assertThat(meterRegistry.counter("inventory.compensation.abandoned").count()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("overlay")
+    class Overlay {
+
+        @Test
+        @DisplayName("should_replaceQuantities_with_redisValues_for_redisManagedProducts")
+        void should_replaceQuantities_with_redisValues_for_redisManagedProducts() {
+            // given
+            InventoryResponse hot = new InventoryResponse(1L, 100L, 50, 0, 50, null, null);
+            InventoryResponse normal = new InventoryResponse(2L, 200L, 30, 0, 30, null, null);
+            when(inventoryRedisService.getStocks(List.of(100L)))
+                    .thenReturn(List.of(new InventoryStockSnapshot(100L, 1L, 40, 10, 50)));
+
+            // when
+            List<InventoryResponse> result = engine.overlay(List.of(hot, normal));
+
+            // then
+            assertThat(result.get(0).availableQuantity()).isEqualTo(40);
+            assertThat(result.get(0).reservedQuantity()).isEqualTo(10);
+            assertThat(result.get(1)).isEqualTo(normal);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.portal.universe.shoppingservice.inventory.service;
+
+import com.portal.universe.commonlibrary.journal.BatchJournalProperties.JournalMode;
+import com.portal.universe.shoppingservice.IntegrationTest;
+import com.portal.universe.shoppingservice.inventory.config.StockMovementJournalProperties;
+import com.portal.universe.shoppingservice.inventory.domain.MovementType;
+import com.portal.universe.shoppingservice.inventory.domain.StockMovement;
+import com.portal.universe.shoppingservice.inventory.repository.StockMovementRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 이동 이력 기록 방식별 벤치마크입니다.
+ * 행 단위 INSERT 대비 배치 기록의 rows/sec와, 20개 상품 reserveStockBatch의 트랜잭션(락 보유) 시간을 비교합니다.
+ */
+@Slf4j
+@Disabled("벤치마크 - Docker/Testcontainers 환경 필요, 수동 실행")
+class StockMovementJournalBenchmarkTest extends IntegrationTest {
+
+    private static final int BATCH_ITEMS = 20;
+    private static final int ROUNDS = 200;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private StockMovementJournal stockMovementJournal;
+
+    @Autowired
+    private StockMovementJournalProperties journalProperties;
+
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("이력 rows/sec: 행 단위 INSERT vs 배치 기록")
+    void compareMovementInsertThroughput() {
+        long rows = (long) BATCH_ITEMS * ROUNDS;
+
+        long perRowNanos = time(() -> transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < BATCH_ITEMS; i++) {
+                stockMovementRepository.save(movement(i));
+                entityManager.flush();
+            }
+        }));
+
+        long batchedNanos = time(() -> transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < BATCH_ITEMS; i++) {
+                stockMovementJournal.record(movement(i));
+            }
+        }));
+
+        log.info("Stock movement rows/sec - per-row: {}, batched: {}",
+                String.format("%.0f", rows / (perRowNanos / 1_000_000_000.0)),
+                String.format("%.0f", rows / (batchedNanos / 1_000_000_000.0)));
+        assertThat(stockMovementRepository.count()).isGreaterThanOrEqualTo(rows * 2);
+    }
+
+    @Test
+    @DisplayName("20개 상품 reserveStockBatch 락 보유 시간: SYNC vs ASYNC")
+    void compareReserveBatchLockHoldTime() {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (long productId = 7001; productId < 7001 + BATCH_ITEMS; productId++) {
+            inventoryService.initializeInventory(productId, ROUNDS * 4, "benchmark");
+            quantities.put(productId, 1);
+        }
+
+        journalProperties.setMode(JournalMode.SYNC);
+        long syncNanos = time(() -> inventoryService.reserveStockBatch(quantities, "ORDER", "BENCH-SYNC", "benchmark"));
+
+        journalProperties.setMode(JournalMode.ASYNC);
+        long asyncNanos = time(() -> inventoryService.reserveStockBatch(quantities, "ORDER", "BENCH-ASYNC", "benchmark"));
+        stockMovementJournal.drain();
+        journalProperties.setMode(JournalMode.SYNC);
+
+        log.info("reserveStockBatch({} items) avg lock hold - SYNC batch: {} ms, ASYNC buffer: {} ms",
+                BATCH_ITEMS,
+                String.format("%.2f", syncNanos / 1_000_000.0 / ROUNDS),
+                String.format("%.2f", asyncNanos / 1_000_000.0 / ROUNDS));
+        assertThat(inventoryService.getInventory(7001L).reservedQuantity()).isEqualTo(ROUNDS * 2);
+    }
+
+    private long time(Runnable round) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            round.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private StockMovement movement(int index) {
+        return StockMovement.builder()
+                .inventoryId(1L)
+                .productId(1L)
+                .movementType(MovementType.ADJUSTMENT)
+                .quantity(index)
+                .previousAvailable(0)
+                .afterAvailable(0)
+                .previousReserved(0)
+                .afterReserved(0)
+                .referenceType("BENCHMARK")
+                .build();
+    }
+}
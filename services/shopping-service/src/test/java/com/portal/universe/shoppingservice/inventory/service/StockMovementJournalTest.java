@@ -0,0 +1,203 @@
+package com.portal.universe.shoppingservice.inventory.service;
+
+import com.portal.universe.commonlibrary.journal.BatchJournalProperties.JournalMode;
+import com.portal.universe.shoppingservice.inventory.config.StockMovementJournalProperties;
+import com.portal.universe.shoppingservice.inventory.domain.MovementType;
+import com.portal.universe.shoppingservice.inventory.domain.StockMovement;
+import com.portal.universe.shoppingservice.inventory.repository.StockMovementRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockMovementJournalTest {
+
+    @Mock
+    private StockMovementRepository stockMovementRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StockMovementJournalProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StockMovementJournalProperties();
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private StockMovementJournal createJournal() {
+        return new StockMovementJournal(stockMovementRepository, properties, transactionManager, new SimpleMeterRegistry());
+    }
+
+    private StockMovement movement(long productId) {
+        return StockMovement.builder()
+                .inventoryId(productId)
+                .productId(productId)
+                .movementType(MovementType.RESERVE)
+                .quantity(1)
+                .previousAvailable(10)
+                .afterAvailable(9)
+                .previousReserved(0)
+                .afterReserved(1)
+                .build();
+    }
+
+    private static List<StockMovement> listOfSize(int size) {
+        return argThat(list -> list.size() == size);
+    }
+
+    private void completeTransaction(boolean commit) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (commit) {
+            synchronizations.forEach(s -> s.beforeCommit(false));
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+        if (commit) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+    }
+
+    @Nested
+    @DisplayName("SYNC")
+    class Sync {
+
+        @Test
+        @DisplayName("should_writeAllMovements_in_singleBatch_when_transactionCommits")
+        @SuppressWarnings("unchecked")
+        void should_writeAllMovements_in_singleBatch_when_transactionCommits() {
+            // given
+            StockMovementJournal journal = createJournal();
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            for (long productId = 1; productId <= 20; productId++) {
+                journal.record(movement(productId));
+            }
+            verify(stockMovementRepository, never()).saveAll(anyList());
+            completeTransaction(true);
+
+            // then
+            ArgumentCaptor<List<StockMovement>> captor = ArgumentCaptor.forClass(List.class);
+            verify(stockMovementRepository, times(1)).saveAll(captor.capture());
+            assertThat(captor.getValue()).hasSize(20);
+        }
+
+        @Test
+        @DisplayName("should_notWrite_when_transactionRollsBack")
+        void should_notWrite_when_transactionRollsBack() {
+            // given
+            StockMovementJournal journal = createJournal();
+            TransactionSynchronizationManager.initSynchronization();
+            journal.record(movement(1L));
+
+            // when
+            completeTransaction(false);
+
+            // then
+            verify(stockMovementRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("should_writeImmediately_when_noTransaction")
+        void should_writeImmediately_when_noTransaction() {
+            // given
+            StockMovementJournal journal = createJournal();
+
+            // when
+            journal.record(movement(1L));
+
+            // then
+            verify(stockMovementRepository).saveAll(listOfSize(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("ASYNC")
+    class Async {
+
+        @Test
+        @DisplayName("should_bufferAfterCommit_and_writeOnDrain")
+        void should_bufferAfterCommit_and_writeOnDrain() {
+            // given
+            properties.setMode(JournalMode.ASYNC);
+            StockMovementJournal journal = createJournal();
+            TransactionSynchronizationManager.initSynchronization();
+            journal.record(movement(1L));
+            journal.record(movement(2L));
+
+            // when
+            completeTransaction(true);
+
+            // then
+            verify(stockMovementRepository, never()).saveAll(anyList());
+            assertThat(journal.getBufferedCount()).isEqualTo(2);
+
+            journal.drain();
+            verify(stockMovementRepository).saveAll(listOfSize(2));
+            assertThat(journal.getBufferedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should_writeSynchronously_when_bufferIsFull")
+        void should_writeSynchronously_when_bufferIsFull() {
+            // given
+            properties.setMode(JournalMode.ASYNC);
+            properties.setBufferCapacity(1);
+            StockMovementJournal journal = createJournal();
+            TransactionSynchronizationManager.initSynchronization();
+            journal.record(movement(1L));
+            journal.record(movement(2L));
+
+            // when
+            completeTransaction(true);
+
+            // then
+            assertThat(journal.getBufferedCount()).isEqualTo(1);
+            verify(stockMovementRepository).saveAll(listOfSize(1));
+        }
+
+        @Test
+        @DisplayName("should_keepMovementsBuffered_when_drainFails")
+        void should_keepMovementsBuffered_when_drainFails() {
+            // given
+            properties.setMode(JournalMode.ASYNC);
+            StockMovementJournal journal = createJournal();
+            TransactionSynchronizationManager.initSynchronization();
+            journal.record(movement(1L));
+            completeTransaction(true);
+            when(stockMovementRepository.saveAll(anyList())).thenThrow(new IllegalStateException("db down"));
+
+            // when
+            journal.drain();
+
+            // then
+            assertThat(journal.getBufferedCount()).isEqualTo(1);
+        }
+    }
+}
@@ -1,18 +1,24 @@
 package com.portal.universe.shoppingservice.inventory.stream;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.portal.universe.shoppingservice.inventory.config.InventoryStreamProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.test.util.ReflectionTestUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -29,51 +35,78 @@ class InventoryStreamServiceTest {
     @Mock
     private RedisMessageListenerContainer redisMessageListenerContainer;
 
-    @Mock
-    private ObjectMapper objectMapper;
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
 
+    private InventoryStreamProperties properties;
     private InventoryStreamService inventoryStreamService;
 
     @BeforeEach
     void setUp() {
-        inventoryStreamService = new InventoryStreamService(redisMessageListenerContainer, objectMapper);
+        properties = new InventoryStreamProperties();
+        inventoryStreamService = new InventoryStreamService(
+                redisMessageListenerContainer, objectMapper, properties, new SimpleMeterRegistry());
+    }
+
+    private InventoryUpdate update(Long productId, int available) {
+        return InventoryUpdate.builder()
+                .productId(productId)
+                .available(available)
+                .reserved(0)
+                .timestamp(LocalDateTime.now())
+                .build();
     }
 
     @Test
-    @DisplayName("should subscribe to product inventory updates")
+    @DisplayName("should register a single pattern listener for all products")
     void should_subscribe_to_products() {
-        Flux<InventoryUpdate> flux = inventoryStreamService.subscribe(List.of(1L, 2L));
+        inventoryStreamService.subscribe(List.of(1L, 2L));
+        inventoryStreamService.subscribe(List.of(3L));
 
-        assertThat(flux).isNotNull();
-        verify(redisMessageListenerContainer, times(2))
-                .addMessageListener(any(MessageListener.class), any(ChannelTopic.class));
+        verify(redisMessageListenerContainer, times(1))
+                .addMessageListener(any(MessageListener.class), eq(new PatternTopic("inventory:updates:*")));
     }
 
     @Test
-    @DisplayName("should publish inventory update to existing sink")
-    void should_publish_update() {
-        // Subscribe first to create the sink
-        inventoryStreamService.subscribe(List.of(1L));
-
-        InventoryUpdate update = InventoryUpdate.builder()
-                .productId(1L)
-                .available(50)
-                .reserved(10)
-                .timestamp(LocalDateTime.now())
-                .build();
+    @DisplayName("should dispatch batched message only to subscribed products")
+    void should_dispatch_batch_to_subscribers() throws Exception {
+        Flux<InventoryUpdate> flux = inventoryStreamService.subscribe(List.of(1L));
+        ArgumentCaptor<MessageListener> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(redisMessageListenerContainer).addMessageListener(listenerCaptor.capture(), any(PatternTopic.class));
+
+        byte[] body = objectMapper.writeValueAsBytes(new InventoryUpdateBatch(List.of(update(1L, 40), update(2L, 10))));
+
+        StepVerifier.create(flux)
+                .then(() -> listenerCaptor.getValue().onMessage(
+                        new DefaultMessage("inventory:updates:1".getBytes(), body), "inventory:updates:*".getBytes()))
+                .assertNext(update -> {
+                    assertThat(update.getProductId()).isEqualTo(1L);
+                    assertThat(update.getAvailable()).isEqualTo(40);
+                })
+                .thenCancel()
+                .verify();
+    }
 
-        inventoryStreamService.publishInventoryUpdate(update);
+    @Test
+    @DisplayName("should drop oldest updates when client buffer is full")
+    void should_drop_oldest_when_client_is_slow() {
+        properties.setClientBufferSize(2);
+        Flux<InventoryUpdate> flux = inventoryStreamService.subscribe(List.of(1L));
 
-        // Verify sink exists by checking internal state
-        @SuppressWarnings("unchecked")
-        Map<Long, Sinks.Many<InventoryUpdate>> sinks =
-                (Map<Long, Sinks.Many<InventoryUpdate>>) ReflectionTestUtils.getField(
-                        inventoryStreamService, "productSinks");
-        assertThat(sinks).containsKey(1L);
+        StepVerifier.create(flux, 0)
+                .then(() -> {
+                    for (int available = 1; available <= 5; available++) {
+                        inventoryStreamService.publishInventoryUpdate(update(1L, available));
+                    }
+                })
+                .thenRequest(2)
+                .assertNext(update -> assertThat(update.getAvailable()).isEqualTo(4))
+                .assertNext(update -> assertThat(update.getAvailable()).isEqualTo(5))
+                .thenCancel()
+                .verify();
     }
 
     @Test
-    @DisplayName("should handle disconnect and cleanup when last subscriber leaves")
+    @DisplayName("should track subscriber count per product")
     void should_handle_disconnect() {
         @SuppressWarnings("unchecked")
         Map<Long, Sinks.Many<InventoryUpdate>> sinks =
@@ -85,17 +118,15 @@ class InventoryStreamServiceTest {
                 (Map<Long, AtomicInteger>) ReflectionTestUtils.getField(
                         inventoryStreamService, "subscriberCounts");
 
-        // Subscribe to create sink
-        Flux<InventoryUpdate> flux = inventoryStreamService.subscribe(List.of(1L));
+        inventoryStreamService.subscribe(List.of(1L)).subscribe().dispose();
 
-        assertThat(sinks).containsKey(1L);
-        assertThat(subscriberCounts.get(1L).get()).isEqualTo(1);
+        assertThat(sinks).doesNotContainKey(1L);
+        assertThat(subscriberCounts).doesNotContainKey(1L);
     }
 
     @Test
-    @DisplayName("should cleanup all sinks and listeners on shutdown")
+    @DisplayName("should cleanup all sinks and the pattern listener on shutdown")
     void should_shutdown_cleanly() {
-        // Subscribe to create sinks
         inventoryStreamService.subscribe(List.of(1L, 2L));
 
         inventoryStreamService.shutdown();
@@ -106,8 +137,8 @@ class InventoryStreamServiceTest {
                         inventoryStreamService, "productSinks");
         assertThat(sinks).isEmpty();
 
-        verify(redisMessageListenerContainer, times(2))
-                .removeMessageListener(any(MessageListener.class), any(ChannelTopic.class));
+        verify(redisMessageListenerContainer, times(1))
+                .removeMessageListener(any(MessageListener.class), any(PatternTopic.class));
     }
 
     @Test
@@ -116,10 +147,6 @@ class InventoryStreamServiceTest {
         inventoryStreamService.subscribe(List.of(1L));
         inventoryStreamService.subscribe(List.of(1L));
 
-        // Should only register listener once for the same product
-        verify(redisMessageListenerContainer, times(1))
-                .addMessageListener(any(MessageListener.class), any(ChannelTopic.class));
-
         @SuppressWarnings("unchecked")
         Map<Long, AtomicInteger> subscriberCounts =
                 (Map<Long, AtomicInteger>) ReflectionTestUtils.getField(
@@ -0,0 +1,79 @@
+package com.portal.universe.shoppingservice.inventory.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.portal.universe.shoppingservice.inventory.config.InventoryStreamProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryUpdatePublisherTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private InventoryStreamProperties properties;
+    private InventoryUpdatePublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new InventoryStreamProperties();
+        properties.setShardCount(4);
+        publisher = new InventoryUpdatePublisher(stringRedisTemplate, objectMapper, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("should_publishOnlyLatestValue_when_productUpdatedWithinWindow")
+    void should_publishOnlyLatestValue_when_productUpdatedWithinWindow() throws Exception {
+        // given
+        for (int available = 100; available > 90; available--) {
+            publisher.publish(1L, available, 100 - available);
+        }
+
+        // when
+        publisher.flush();
+
+        // then
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate, times(1)).convertAndSend(eq("inventory:updates:1"), payload.capture());
+        InventoryUpdateBatch batch = objectMapper.readValue(payload.getValue(), InventoryUpdateBatch.class);
+        assertThat(batch.getUpdates()).singleElement()
+                .satisfies(update -> assertThat(update.getAvailable()).isEqualTo(91));
+    }
+
+    @Test
+    @DisplayName("should_publishOneMessagePerShard_when_manyProductsUpdated")
+    void should_publishOneMessagePerShard_when_manyProductsUpdated() {
+        // given
+        for (long productId = 1; productId <= 100; productId++) {
+            publisher.publish(productId, 10, 0);
+        }
+
+        // when
+        publisher.flush();
+
+        // then
+        verify(stringRedisTemplate, times(4)).convertAndSend(startsWith("inventory:updates:"), anyString());
+    }
+
+    @Test
+    @DisplayName("should_notPublish_when_nothingPending")
+    void should_notPublish_when_nothingPending() {
+        publisher.flush();
+
+        verifyNoInteractions(stringRedisTemplate);
+    }
+}
@@ -0,0 +1,278 @@
+package com.portal.universe.shoppingservice.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.portal.universe.shoppingservice.product.config.ProductCatalogCacheProperties;
+import com.portal.universe.shoppingservice.product.dto.ProductResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private ObjectMapper objectMapper;
+    private ProductCatalogCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ProductCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        properties = new ProductCatalogCacheProperties();
+        cache = new ProductCatalogCache(stringRedisTemplate, objectMapper, redisMessageListenerContainer,
+                properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.stop();
+    }
+
+    private static ProductResponse product(long id, String name) {
+        return new ProductResponse(id, name, "desc", BigDecimal.valueOf(1000), null, 10, null, "Electronics",
+                false, List.of(), null, null, LocalDateTime.of(2026, 1, 1, 0, 0), null);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("product.catalog_cache.lookups").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("should_loadOnce_when_concurrentRequestsMissSameKey")
+    void should_loadOnce_when_concurrentRequestsMissSameKey() throws Exception {
+        // given: 만료 직후 같은 상품에 요청 32개가 동시에 몰림
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+
+        // when
+        List<Future<ProductResponse>> results = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.getDetail(1L, () -> {
+                    loads.incrementAndGet();
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return product(1L, "노트북");
+                });
+            }));
+        }
+        start.countDown();
+        for (Future<ProductResponse> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).name()).isEqualTo("노트북");
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(loads).hasValue(1);
+        verify(valueOperations, times(1)).get("product:detail:1");
+        verify(valueOperations, times(1)).set(eq("product:detail:1"), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("should_serveFromRedis_when_localMiss")
+    void should_serveFromRedis_when_localMiss() throws Exception {
+        // given
+        when(valueOperations.get("product:detail:1")).thenReturn(objectMapper.writeValueAsString(product(1L, "노트북")));
+
+        // when
+        ProductResponse first = cache.getDetail(1L, () -> {
+            throw new AssertionError("should not load");
+        });
+        ProductResponse second = cache.getDetail(1L, () -> {
+            throw new AssertionError("should not load");
+        });
+
+        // then
+        assertThat(first).isEqualTo(product(1L, "노트북"));
+        assertThat(second).isSameAs(first);
+        assertThat(lookups("redis_hit")).isEqualTo(1);
+        assertThat(lookups("local_hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should_skipLoaderAndCount_when_pageCached")
+    void should_skipLoaderAndCount_when_pageCached() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 2);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        Page<ProductResponse> first = cache.getPage("Electronics", pageable, () -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(product(1L, "a"), product(2L, "b")), pageable, 7);
+        });
+        Page<ProductResponse> second = cache.getPage("Electronics", pageable, () -> {
+            loads.incrementAndGet();
+            return Page.empty();
+        });
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(second.getTotalElements()).isEqualTo(7);
+        assertThat(second.getTotalPages()).isEqualTo(4);
+        assertThat(second.getContent()).isEqualTo(first.getContent());
+        verify(valueOperations).get("product:page:0:Electronics:0:2:");
+    }
+
+    @Test
+    @DisplayName("should_deleteDetailAndMoveToNewPageVersion_when_productInvalidated")
+    @SuppressWarnings("unchecked")
+    void should_deleteDetailAndMoveToNewPageVersion_when_productInvalidated() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 2);
+        AtomicInteger loads = new AtomicInteger();
+        cache.getPage(null, pageable, () -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(product(1L, "a")), pageable, 1);
+        });
+        when(valueOperations.increment("product:catalog:version")).thenReturn(5L);
+
+        // when
+        cache.invalidate(List.of(1L, 2L));
+        cache.getPage(null, pageable, () -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(product(1L, "a2")), pageable, 1);
+        });
+
+        // then
+        verify(stringRedisTemplate).delete(List.of("product:detail:1", "product:detail:2"));
+        verify(stringRedisTemplate).convertAndSend(ProductCatalogCache.INVALIDATION_CHANNEL, "5:1,2");
+        verify(valueOperations).get("product:page:5:*:0:2:");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should_keepPageVersion_when_onlyReviewStatsChanged")
+    void should_keepPageVersion_when_onlyReviewStatsChanged() {
+        // when
+        cache.invalidateDetails(List.of(3L));
+
+        // then
+        verify(valueOperations, never()).increment(anyString());
+        verify(stringRedisTemplate).convertAndSend(ProductCatalogCache.INVALIDATION_CHANNEL, "0:3");
+    }
+
+    @Test
+    @DisplayName("should_evictLocalDetail_when_otherInstanceInvalidates")
+    void should_evictLocalDetail_when_otherInstanceInvalidates() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        cache.getDetail(1L, () -> {
+            loads.incrementAndGet();
+            return product(1L, "노트북");
+        });
+
+        // when
+        cache.onInvalidation("3:1");
+        ProductResponse reloaded = cache.getDetail(1L, () -> {
+            loads.incrementAndGet();
+            return product(1L, "노트북 프로");
+        });
+
+        // then
+        assertThat(reloaded.name()).isEqualTo("노트북 프로");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should_deleteDetailAgain_when_staleReadRefilledAfterInvalidation")
+    void should_deleteDetailAgain_when_staleReadRefilledAfterInvalidation() {
+        // given
+        properties.setSecondDeleteDelayMs(50);
+        cache.start();
+        AtomicInteger loads = new AtomicInteger();
+
+        // when: 무효화 직전에 커밋 전 값을 읽은 요청이 무효화 뒤에 캐시를 다시 채움
+        cache.invalidateDetails(List.of(3L));
+        cache.getDetail(3L, () -> {
+            loads.incrementAndGet();
+            return product(3L, "이전 이름");
+        });
+
+        // then: 지연 후 L2 상세를 다시 지우고 모든 인스턴스에 알림
+        verify(stringRedisTemplate, timeout(2000).times(2)).delete(List.of("product:detail:3"));
+        verify(stringRedisTemplate, timeout(2000).times(2))
+                .convertAndSend(ProductCatalogCache.INVALIDATION_CHANNEL, "0:3");
+        ProductResponse reloaded = cache.getDetail(3L, () -> {
+            loads.incrementAndGet();
+            return product(3L, "새 이름");
+        });
+        assertThat(reloaded.name()).isEqualTo("새 이름");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should_coalesceDetailInvalidation_when_stockChangesRepeatedly")
+    void should_coalesceDetailInvalidation_when_stockChangesRepeatedly() {
+        // given
+        properties.setStockInvalidationWindowMs(50);
+        properties.setSecondDeleteDelayMs(60_000);
+        cache.start();
+        AtomicInteger loads = new AtomicInteger();
+        cache.getDetail(3L, () -> {
+            loads.incrementAndGet();
+            return product(3L, "노트북");
+        });
+
+        // when: 같은 상품에 주문이 연달아 들어와 재고가 여러 번 바뀜
+        for (int i = 0; i < 100; i++) {
+            cache.invalidateStock(List.of(3L));
+        }
+        cache.getDetail(3L, () -> {
+            loads.incrementAndGet();
+            return product(3L, "노트북");
+        });
+
+        // then: 창 안에서는 캐시에서 읽고, 창이 끝나면 상세 삭제/알림은 한 번뿐
+        assertThat(loads).hasValue(1);
+        verify(stringRedisTemplate, timeout(2000)).delete(List.of("product:detail:3"));
+        verify(stringRedisTemplate, after(300).times(1)).delete(List.of("product:detail:3"));
+        verify(stringRedisTemplate, times(1)).convertAndSend(ProductCatalogCache.INVALIDATION_CHANNEL, "0:3");
+    }
+}
@@ -0,0 +1,84 @@
+package com.portal.universe.shoppingservice.product.review;
+
+import com.portal.universe.event.blog.ProductReviewChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductReviewStatsStoreTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @InjectMocks
+    private ProductReviewStatsStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("should_putReviewIdempotently_when_reviewCreated")
+    void should_putReviewIdempotently_when_reviewCreated() {
+        // given
+        ProductReviewChangedEvent event = new ProductReviewChangedEvent("post-1", "42", 5, false, LocalDateTime.now());
+
+        // when: 같은 이벤트가 재전달돼도 같은 필드를 덮어씀
+        store.apply(42L, event);
+        store.apply(42L, event);
+
+        // then
+        verify(hashOperations, times(2)).put("product:reviews:42", "post-1", "5");
+    }
+
+    @Test
+    @DisplayName("should_removeReview_when_reviewDeleted")
+    void should_removeReview_when_reviewDeleted() {
+        // when
+        store.apply(42L, new ProductReviewChangedEvent("post-1", "42", null, true, LocalDateTime.now()));
+
+        // then
+        verify(hashOperations).delete("product:reviews:42", "post-1");
+    }
+
+    @Test
+    @DisplayName("should_averageRatedReviewsAndCountAll_when_statsRequested")
+    void should_averageRatedReviewsAndCountAll_when_statsRequested() {
+        // given: 평점 없는 리뷰는 건수에만 포함
+        when(hashOperations.values("product:reviews:42")).thenReturn(List.of("5", "4", ""));
+
+        // when
+        ProductReviewStats stats = store.get(42L);
+
+        // then
+        assertThat(stats.reviewCount()).isEqualTo(3);
+        assertThat(stats.averageRating()).isEqualTo(4.5);
+    }
+
+    @Test
+    @DisplayName("should_returnEmptyStats_when_noReviews")
+    void should_returnEmptyStats_when_noReviews() {
+        // given
+        when(hashOperations.values("product:reviews:7")).thenReturn(List.of());
+
+        // when & then
+        assertThat(store.get(7L)).isEqualTo(ProductReviewStats.EMPTY);
+    }
+}
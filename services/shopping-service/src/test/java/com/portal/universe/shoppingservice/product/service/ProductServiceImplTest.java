@@ -4,9 +4,13 @@ import com.portal.universe.commonlibrary.exception.CustomBusinessException;
 import com.portal.universe.shoppingservice.feign.BlogServiceClient;
 import com.portal.universe.shoppingservice.feign.dto.BlogResponse;
 import com.portal.universe.shoppingservice.inventory.service.InventoryService;
+import com.portal.universe.shoppingservice.product.cache.ProductCatalogCache;
 import com.portal.universe.shoppingservice.product.domain.Product;
 import com.portal.universe.shoppingservice.product.dto.*;
 import com.portal.universe.shoppingservice.product.repository.ProductRepository;
+import com.portal.universe.shoppingservice.product.review.ProductReviewStats;
+import com.portal.universe.shoppingservice.product.review.ProductReviewStatsStore;
+import com.portal.universe.shoppingservice.search.outbox.ProductIndexOutboxRecorder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,14 +23,18 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +49,18 @@ class ProductServiceImplTest {
     @Mock
     private InventoryService inventoryService;
 
+    @Mock
+    private ProductIndexOutboxRecorder productIndexOutboxRecorder;
+
+    @Mock
+    private ProductCatalogCache productCatalogCache;
+
+    @Mock
+    private ProductReviewStatsStore reviewStatsStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -57,18 +77,27 @@ class ProductServiceImplTest {
         return product;
     }
 
+    @SuppressWarnings("unchecked")
+    private void givenDetailCacheMiss(Long productId) {
+        when(productCatalogCache.getDetail(eq(productId), any()))
+                .thenAnswer(invocation -> ((Supplier<ProductResponse>) invocation.getArgument(1)).get());
+    }
+
     @Nested
     @DisplayName("getAllProducts")
     class GetAllProducts {
 
         @Test
         @DisplayName("should_returnPagedProducts_when_called")
+        @SuppressWarnings("unchecked")
         void should_returnPagedProducts_when_called() {
             // given
             Pageable pageable = PageRequest.of(0, 10);
             Product product = createProduct(1L, "Product1", BigDecimal.valueOf(1000), 10);
             Page<Product> productPage = new PageImpl<>(List.of(product), pageable, 1);
             when(productRepository.findAll(pageable)).thenReturn(productPage);
+            when(productCatalogCache.getPage(isNull(), eq(pageable), any()))
+                    .thenAnswer(invocation -> ((Supplier<Page<ProductResponse>>) invocation.getArgument(2)).get());
 
             // when
             Page<ProductResponse> result = productService.getAllProducts(pageable);
@@ -101,6 +130,7 @@ class ProductServiceImplTest {
             assertThat(result.name()).isEqualTo("New Product");
             assertThat(result.price()).isEqualByComparingTo(BigDecimal.valueOf(5000));
             verify(productRepository).save(any(Product.class));
+            verify(productIndexOutboxRecorder).record(1L);
         }
     }
 
@@ -113,7 +143,9 @@ class ProductServiceImplTest {
         void should_returnProduct_when_found() {
             // given
             Product product = createProduct(1L, "Product1", BigDecimal.valueOf(1000), 10);
+            givenDetailCacheMiss(1L);
             when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+            when(reviewStatsStore.get(1L)).thenReturn(new ProductReviewStats(4.5, 2));
 
             // when
             ProductResponse result = productService.getProductById(1L);
@@ -122,13 +154,33 @@ class ProductServiceImplTest {
             assertThat(result).isNotNull();
             assertThat(result.id()).isEqualTo(1L);
             assertThat(result.name()).isEqualTo("Product1");
+            assertThat(result.averageRating()).isEqualTo(4.5);
+            assertThat(result.reviewCount()).isEqualTo(2);
             verify(productRepository).findById(1L);
+            verifyNoInteractions(blogServiceClient);
+        }
+
+        @Test
+        @DisplayName("should_skipDatabase_when_cached")
+        void should_skipDatabase_when_cached() {
+            // given
+            ProductResponse cached = new ProductResponse(1L, "Product1", "desc", BigDecimal.valueOf(1000), null, 10,
+                    null, "Electronics", false, List.of(), null, null, null, null);
+            when(productCatalogCache.getDetail(eq(1L), any())).thenReturn(cached);
+
+            // when
+            ProductResponse result = productService.getProductById(1L);
+
+            // then
+            assertThat(result).isSameAs(cached);
+            verifyNoInteractions(productRepository, reviewStatsStore, transactionManager);
         }
 
         @Test
         @DisplayName("should_throwException_when_notFound")
         void should_throwException_when_notFound() {
             // given
+            givenDetailCacheMiss(999L);
             when(productRepository.findById(999L)).thenReturn(Optional.empty());
 
             // when & then
@@ -189,6 +241,7 @@ class ProductServiceImplTest {
 
             // then
             verify(productRepository).deleteById(1L);
+            verify(productIndexOutboxRecorder).record(1L);
         }
 
         @Test
@@ -0,0 +1,129 @@
+package com.portal.universe.shoppingservice.purchase.scheduler;
+
+import com.portal.universe.event.shopping.CouponIssuedEvent;
+import com.portal.universe.shoppingservice.event.ShoppingEventPublisher;
+import com.portal.universe.shoppingservice.purchase.config.PurchasePersistenceProperties;
+import com.portal.universe.shoppingservice.purchase.domain.PurchaseStatus;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRedisService;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRequest;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseStreamRecord;
+import com.portal.universe.shoppingservice.purchase.service.PurchasePersistenceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.RecordId;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PurchasePersistenceWorkerTest {
+
+    @Mock
+    private PurchaseRedisService purchaseRedisService;
+
+    @Mock
+    private PurchasePersistenceService purchasePersistenceService;
+
+    @Mock
+    private ShoppingEventPublisher eventPublisher;
+
+    private PurchasePersistenceWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new PurchasePersistenceWorker(purchaseRedisService, purchasePersistenceService, eventPublisher,
+                new PurchasePersistenceProperties(), new SimpleMeterRegistry());
+    }
+
+    private PurchaseStreamRecord timeDealRecord(String recordId, String requestId) {
+        return new PurchaseStreamRecord(RecordId.of(recordId), PurchaseRequest.timeDeal(
+                requestId, "user-" + requestId, 10L, 1L, 100L, 1, new BigDecimal("5000")));
+    }
+
+    @Test
+    @DisplayName("should_finishCompleted_and_publishEvents_when_batchPersisted")
+    void should_finishCompleted_and_publishEvents_when_batchPersisted() {
+        // given
+        List<PurchaseStreamRecord> records = List.of(timeDealRecord("1-0", "r1"), timeDealRecord("1-1", "r2"));
+        CouponIssuedEvent event = new CouponIssuedEvent("user-1", "SAVE10", "쿠폰", "FIXED", 1000,
+                LocalDateTime.now().plusDays(30));
+        when(purchasePersistenceService.persist(any())).thenReturn(List.of(event));
+
+        // when
+        worker.process(records, Map.of());
+
+        // then
+        verify(purchasePersistenceService).persist(List.of(records.get(0).request(), records.get(1).request()));
+        verify(purchaseRedisService).finish(records, PurchaseStatus.COMPLETED, null);
+        verify(eventPublisher).publishCouponIssued(event);
+    }
+
+    @Test
+    @DisplayName("should_publishIssuedEvent_when_finishFailsAfterCommit")
+    void should_publishIssuedEvent_when_finishFailsAfterCommit() {
+        // given: 첫 저장은 커밋됐지만 상태 기록이 실패, 재저장은 ON CONFLICT로 건너뛰어도 이벤트를 다시 돌려줌
+        PurchaseStreamRecord record = new PurchaseStreamRecord(RecordId.of("1-0"),
+                PurchaseRequest.coupon("r1", "user-1", 1L));
+        CouponIssuedEvent event = new CouponIssuedEvent("user-1", "SAVE10", "쿠폰", "FIXED", 1000,
+                LocalDateTime.now().plusDays(30));
+        when(purchasePersistenceService.persist(List.of(record.request()))).thenReturn(List.of(event));
+        doThrow(new IllegalStateException("redis down"))
+                .doNothing()
+                .when(purchaseRedisService).finish(List.of(record), PurchaseStatus.COMPLETED, null);
+
+        // when
+        worker.process(List.of(record), Map.of());
+
+        // then
+        verify(purchasePersistenceService, times(2)).persist(List.of(record.request()));
+        verify(eventPublisher, times(1)).publishCouponIssued(event);
+        verify(purchasePersistenceService, never()).compensate(any());
+    }
+
+    @Test
+    @DisplayName("should_leaveOnlyFailedRequestPending_when_batchFails")
+    void should_leaveOnlyFailedRequestPending_when_batchFails() {
+        // given
+        PurchaseStreamRecord ok = timeDealRecord("1-0", "r1");
+        PurchaseStreamRecord broken = timeDealRecord("1-1", "r2");
+        when(purchasePersistenceService.persist(List.of(ok.request(), broken.request())))
+                .thenThrow(new IllegalStateException("constraint violation"));
+        when(purchasePersistenceService.persist(List.of(ok.request()))).thenReturn(List.of());
+        when(purchasePersistenceService.persist(List.of(broken.request())))
+                .thenThrow(new IllegalStateException("constraint violation"));
+
+        // when
+        worker.process(List.of(ok, broken), Map.of());
+
+        // then
+        verify(purchaseRedisService).finish(List.of(ok), PurchaseStatus.COMPLETED, null);
+        verify(purchaseRedisService, never()).finish(eq(List.of(broken)), any(), any());
+        verify(purchasePersistenceService, never()).compensate(any());
+    }
+
+    @Test
+    @DisplayName("should_compensate_and_markFailed_when_maxAttemptsReached")
+    void should_compensate_and_markFailed_when_maxAttemptsReached() {
+        // given
+        PurchaseStreamRecord broken = timeDealRecord("1-1", "r2");
+        when(purchasePersistenceService.persist(any())).thenThrow(new IllegalStateException("constraint violation"));
+
+        // when: 이전에 4번 전달된 요청의 5번째 시도
+        worker.process(List.of(broken), Map.of("1-1", 4L));
+
+        // then
+        verify(purchasePersistenceService).compensate(broken.request());
+        verify(purchaseRedisService).finish(eq(List.of(broken)), eq(PurchaseStatus.FAILED), anyString());
+    }
+}
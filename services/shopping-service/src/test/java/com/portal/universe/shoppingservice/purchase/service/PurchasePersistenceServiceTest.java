@@ -0,0 +1,118 @@
+package com.portal.universe.shoppingservice.purchase.service;
+
+import com.portal.universe.event.shopping.CouponIssuedEvent;
+import com.portal.universe.shoppingservice.coupon.domain.Coupon;
+import com.portal.universe.shoppingservice.coupon.domain.DiscountType;
+import com.portal.universe.shoppingservice.coupon.redis.CouponRedisService;
+import com.portal.universe.shoppingservice.coupon.repository.CouponRepository;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRequest;
+import com.portal.universe.shoppingservice.purchase.repository.PurchaseBatchRepository;
+import com.portal.universe.shoppingservice.timedeal.redis.TimeDealRedisService;
+import com.portal.universe.shoppingservice.timedeal.repository.TimeDealProductRepository;
+import com.portal.universe.shoppingservice.timedeal.repository.TimeDealRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PurchasePersistenceServiceTest {
+
+    @Mock
+    private PurchaseBatchRepository purchaseBatchRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private TimeDealRedisService timeDealRedisService;
+
+    @Mock
+    private CouponRedisService couponRedisService;
+
+    @Mock
+    private TimeDealRepository timeDealRepository;
+
+    @Mock
+    private TimeDealProductRepository timeDealProductRepository;
+
+    @InjectMocks
+    private PurchasePersistenceService purchasePersistenceService;
+
+    private Coupon createCoupon(Long id) {
+        Coupon coupon = Coupon.builder()
+                .code("SAVE10")
+                .name("10% 할인")
+                .discountType(DiscountType.PERCENTAGE)
+                .discountValue(BigDecimal.TEN)
+                .totalQuantity(100)
+                .startsAt(LocalDateTime.now().minusDays(1))
+                .expiresAt(LocalDateTime.now().plusDays(30))
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", id);
+        return coupon;
+    }
+
+    @Test
+    @DisplayName("should_emitIssuedEvent_when_couponAlreadyPersistedByPreviousAttempt")
+    void should_emitIssuedEvent_when_couponAlreadyPersistedByPreviousAttempt() {
+        // given: 이전 시도가 커밋된 뒤 재시도라 ON CONFLICT로 저장 행 수가 0
+        PurchaseRequest first = PurchaseRequest.coupon("r1", "user-1", 1L);
+        PurchaseRequest retried = PurchaseRequest.coupon("r2", "user-2", 1L);
+        when(couponRepository.findAllById(Set.of(1L))).thenReturn(List.of(createCoupon(1L)));
+        when(purchaseBatchRepository.insertUserCoupons(eq(List.of(first, retried)), anyMap()))
+                .thenReturn(new int[]{1, 0});
+
+        // when
+        List<CouponIssuedEvent> events = purchasePersistenceService.persist(List.of(first, retried));
+
+        // then
+        assertThat(events).extracting(CouponIssuedEvent::userId).containsExactly("user-1", "user-2");
+        assertThat(events).extracting(CouponIssuedEvent::couponCode).containsOnly("SAVE10");
+        verify(purchaseBatchRepository).syncIssuedQuantities(Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("should_resyncSoldQuantity_when_purchasePersistedAfterDealEnded")
+    void should_resyncSoldQuantity_when_purchasePersistedAfterDealEnded() {
+        // given: 최종 집계 이후 Stream에 남아 있던 구매가 저장됨
+        PurchaseRequest request = PurchaseRequest.timeDeal("r1", "user-1", 5L, 10L, 100L, 2, BigDecimal.TEN);
+        when(timeDealRepository.findEndedIds(eq(Set.of(10L)), any(LocalDateTime.class))).thenReturn(List.of(10L));
+
+        // when
+        purchasePersistenceService.persist(List.of(request));
+
+        // then
+        verify(purchaseBatchRepository).insertTimeDealPurchases(List.of(request));
+        verify(timeDealProductRepository).syncSoldQuantities(List.of(10L));
+    }
+
+    @Test
+    @DisplayName("should_leaveSoldQuantityToScheduler_when_dealStillActive")
+    void should_leaveSoldQuantityToScheduler_when_dealStillActive() {
+        // given
+        PurchaseRequest request = PurchaseRequest.timeDeal("r1", "user-1", 5L, 10L, 100L, 2, BigDecimal.TEN);
+        when(timeDealRepository.findEndedIds(eq(Set.of(10L)), any(LocalDateTime.class))).thenReturn(List.of());
+
+        // when
+        purchasePersistenceService.persist(List.of(request));
+
+        // then
+        verify(timeDealProductRepository, never()).syncSoldQuantities(anyCollection());
+    }
+}
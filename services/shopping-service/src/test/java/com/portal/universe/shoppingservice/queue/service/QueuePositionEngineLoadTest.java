@@ -0,0 +1,135 @@
+package com.portal.universe.shoppingservice.queue.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.universe.shoppingservice.queue.config.QueuePositionProperties;
+import com.portal.universe.shoppingservice.queue.domain.WaitingQueue;
+import com.portal.universe.shoppingservice.queue.dto.QueueStatusResponse;
+import com.portal.universe.shoppingservice.queue.repository.QueueEntryRepository;
+import com.portal.universe.shoppingservice.queue.repository.WaitingQueueRepository;
+import com.redis.testcontainers.RedisContainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * 대기열 순번 push 엔진 부하 하네스입니다.
+ * 로컬 Redis(Testcontainers)에 10만 명의 대기자와 10만 개의 SSE 구독자를 만들고,
+ * 입장 처리 한 번 후 전체 순번 계산 및 전송 시간을 측정합니다. 대기 중 구독자에 대한 DB 조회는 없어야 합니다.
+ */
+@Slf4j
+@Disabled("부하 테스트 - Docker/Testcontainers 환경 필요, 수동 실행")
+class QueuePositionEngineLoadTest {
+
+    private static final int SUBSCRIBERS = 100_000;
+    private static final int ADMITTED_PER_TICK = 1_000;
+    private static final String QUEUE_KEY = "queue:waiting:TIMEDEAL:1";
+
+    private static final RedisContainer redisContainer =
+            new RedisContainer(DockerImageName.parse("redis:7-alpine"));
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() {
+        redisContainer.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisContainer.stop();
+    }
+
+    @Test
+    @DisplayName("10만 구독자 대기열 순번 push")
+    void pushPositionsTo100kSubscribers() {
+        // given
+        WaitingQueueRepository waitingQueueRepository = mock(WaitingQueueRepository.class);
+        QueueEntryRepository queueEntryRepository = mock(QueueEntryRepository.class);
+        when(waitingQueueRepository.findByEventTypeAndEventId("TIMEDEAL", 1L)).thenReturn(Optional.of(
+                WaitingQueue.builder().eventType("TIMEDEAL").eventId(1L)
+                        .maxCapacity(SUBSCRIBERS).entryBatchSize(ADMITTED_PER_TICK).entryIntervalSeconds(1).build()));
+
+        QueuePositionProperties properties = new QueuePositionProperties();
+        properties.setRefreshIntervalMs(60_000); // 주기 갱신 대신 수동 tick만 측정
+        QueuePositionEngine engine = new QueuePositionEngine(redisTemplate, mock(RedisMessageListenerContainer.class),
+                waitingQueueRepository, queueEntryRepository, new ObjectMapper(), properties, new SimpleMeterRegistry());
+        engine.start();
+
+        AtomicLong sent = new AtomicLong();
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            tuples.add(new DefaultTypedTuple<>("token-" + i, (double) i));
+        }
+        redisTemplate.delete(QUEUE_KEY);
+        redisTemplate.opsForZSet().add(QUEUE_KEY, tuples);
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            String token = "token-" + i;
+            engine.register("TIMEDEAL", 1L, token, new CountingEmitter(sent),
+                    QueueStatusResponse.waiting(token, (long) i + 1, 0L, (long) SUBSCRIBERS));
+        }
+
+        // when: 입장 처리로 앞쪽 1,000명이 빠진 뒤 tick
+        redisTemplate.opsForZSet().popMin(QUEUE_KEY, ADMITTED_PER_TICK);
+        long start = System.nanoTime();
+        engine.refresh("TIMEDEAL:1");
+        long computeMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // 남은 대기자의 순번 변경 + 빠져나간 1,000명의 종료 상태
+        long expectedPushes = SUBSCRIBERS;
+        await().until(() -> sent.get() >= expectedPushes);
+        long totalMillis = (System.nanoTime() - start) / 1_000_000;
+
+        log.info("Queue position tick for {} subscribers: compute {} ms, push complete {} ms ({} pushes/sec)",
+                SUBSCRIBERS, computeMillis, totalMillis, expectedPushes * 1000 / Math.max(totalMillis, 1));
+
+        // then: 대기 중인 구독자 계산에는 DB를 사용하지 않음 (빠져나간 1,000명만 한 번의 IN 조회)
+        assertThat(sent.get()).isEqualTo(expectedPushes);
+        verify(queueEntryRepository, times(1)).findByEntryTokenIn(anyCollection());
+
+        engine.stop();
+    }
+
+    /**
+     * 네트워크 전송 대신 전송 횟수만 세는 SSE emitter
+     */
+    private static final class CountingEmitter extends SseEmitter {
+        private final AtomicLong sent;
+
+        private CountingEmitter(AtomicLong sent) {
+            this.sent = sent;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.portal.universe.shoppingservice.queue.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.universe.shoppingservice.queue.config.QueuePositionProperties;
+import com.portal.universe.shoppingservice.queue.domain.QueueEntry;
+import com.portal.universe.shoppingservice.queue.domain.QueueStatus;
+import com.portal.universe.shoppingservice.queue.domain.WaitingQueue;
+import com.portal.universe.shoppingservice.queue.dto.QueueStatusResponse;
+import com.portal.universe.shoppingservice.queue.repository.QueueEntryRepository;
+import com.portal.universe.shoppingservice.queue.repository.WaitingQueueRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueuePositionEngineTest {
+
+    private static final String QUEUE_KEY = "queue:waiting:TIMEDEAL:100";
+    private static final String OFFSETS_KEY = "queue:offsets:TIMEDEAL:100";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private WaitingQueueRepository waitingQueueRepository;
+
+    @Mock
+    private QueueEntryRepository queueEntryRepository;
+
+    private QueuePositionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        WaitingQueue queue = WaitingQueue.builder()
+                .eventType("TIMEDEAL")
+                .eventId(100L)
+                .maxCapacity(100)
+                .entryBatchSize(10)
+                .entryIntervalSeconds(5)
+                .build();
+        when(waitingQueueRepository.findByEventTypeAndEventId("TIMEDEAL", 100L)).thenReturn(Optional.of(queue));
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        engine = new QueuePositionEngine(redisTemplate, redisMessageListenerContainer, waitingQueueRepository,
+                queueEntryRepository, new ObjectMapper(), new QueuePositionProperties(), new SimpleMeterRegistry());
+        engine.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.stop();
+    }
+
+    private void stubWaiting(String... tokens) {
+        when(zSetOperations.zCard(QUEUE_KEY)).thenReturn((long) tokens.length);
+        when(zSetOperations.range(eq(QUEUE_KEY), eq(0L), anyLong())).thenReturn(new LinkedHashSet<>(List.of(tokens)));
+    }
+
+    private static List<Object> offsets(long admitted, long reordered) {
+        return List.of(String.valueOf(admitted), String.valueOf(reordered));
+    }
+
+    private static String sentData(SseEmitter emitter) throws Exception {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, timeout(1000)).send(captor.capture());
+        return captor.getValue().build().stream()
+                .map(data -> data.getData().toString())
+                .reduce("", String::concat);
+    }
+
+    @Test
+    @DisplayName("should_pushOnlyChangedPositions_when_refreshed")
+    void should_pushOnlyChangedPositions_when_refreshed() throws Exception {
+        // given
+        SseEmitter first = mock(SseEmitter.class);
+        SseEmitter second = mock(SseEmitter.class);
+        engine.register("TIMEDEAL", 100L, "token-1", first, QueueStatusResponse.waiting("token-1", 1L, 0L, 2L));
+        engine.register("TIMEDEAL", 100L, "token-2", second, QueueStatusResponse.waiting("token-2", 3L, 0L, 3L));
+        stubWaiting("token-1", "token-2");
+
+        // when
+        engine.refresh("TIMEDEAL:100");
+        engine.refresh("TIMEDEAL:100");
+
+        // then
+        verify(second, timeout(1000).times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(first, after(200).never()).send(any(SseEmitter.SseEventBuilder.class));
+        verify(queueEntryRepository, never()).findByEntryTokenIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("should_pushEnteredStatus_and_complete_when_tokenLeftWaitingSet")
+    void should_pushEnteredStatus_and_complete_when_tokenLeftWaitingSet() throws Exception {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        engine.register("TIMEDEAL", 100L, "token-1", emitter, QueueStatusResponse.waiting("token-1", 1L, 0L, 1L));
+        stubWaiting("token-2");
+
+        QueueEntry entry = mock(QueueEntry.class);
+        when(entry.getEntryToken()).thenReturn("token-1");
+        when(entry.getStatus()).thenReturn(QueueStatus.ENTERED);
+        when(queueEntryRepository.findByEntryTokenIn(anyCollection())).thenReturn(List.of(entry));
+
+        // when
+        engine.refresh("TIMEDEAL:100");
+
+        // then
+        verify(emitter, timeout(1000)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter, timeout(1000)).complete();
+        verify(queueEntryRepository, times(1)).findByEntryTokenIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("should_completePreviousEmitter_when_sameTokenReconnects")
+    void should_completePreviousEmitter_when_sameTokenReconnects() {
+        // given
+        SseEmitter previous = mock(SseEmitter.class);
+        SseEmitter current = mock(SseEmitter.class);
+        QueueStatusResponse status = QueueStatusResponse.waiting("token-1", 1L, 0L, 1L);
+
+        // when
+        engine.register("TIMEDEAL", 100L, "token-1", previous, status);
+        engine.register("TIMEDEAL", 100L, "token-1", current, status);
+        engine.unregister("TIMEDEAL", 100L, "token-1", previous);
+
+        // then
+        verify(previous).complete();
+        assertThat(engine.isConnected("token-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("should_dropQueueGroup_when_lastSubscriberLeaves")
+    void should_dropQueueGroup_when_lastSubscriberLeaves() {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        engine.register("TIMEDEAL", 100L, "token-1", emitter, QueueStatusResponse.waiting("token-1", 1L, 0L, 1L));
+
+        // when
+        engine.unregister("TIMEDEAL", 100L, "token-1", emitter);
+
+        // then
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(engine, "groups")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should_useUpdatedEntrySettings_when_queueChangedByAdmin")
+    void should_useUpdatedEntrySettings_when_queueChangedByAdmin() throws Exception {
+        // given: 배치 10명/5초로 구독한 뒤 관리자가 1명/60초로 변경
+        SseEmitter emitter = mock(SseEmitter.class);
+        engine.register("TIMEDEAL", 100L, "token-1", emitter, QueueStatusResponse.waiting("token-1", 5L, 0L, 5L));
+        WaitingQueue updated = WaitingQueue.builder()
+                .eventType("TIMEDEAL")
+                .eventId(100L)
+                .maxCapacity(100)
+                .entryBatchSize(1)
+                .entryIntervalSeconds(60)
+                .build();
+        when(waitingQueueRepository.findByEventTypeAndEventId("TIMEDEAL", 100L)).thenReturn(Optional.of(updated));
+        stubWaiting("token-a", "token-b", "token-1");
+
+        // when
+        engine.reloadSettings();
+        engine.refresh("TIMEDEAL:100");
+
+        // then: 3번째 순번 → (3 / 1) * 60초
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, timeout(1000)).send(captor.capture());
+        assertThat(captor.getValue().build())
+                .anySatisfy(data -> assertThat(data.getData().toString()).contains("\"estimatedWaitSeconds\":180"));
+    }
+
+    @Test
+    @DisplayName("should_computePositionFromAdmittedCount_when_offsetsValid")
+    void should_computePositionFromAdmittedCount_when_offsetsValid() throws Exception {
+        // given: 전체 조회로 3번째 순번의 head offset을 저장한 뒤 2명이 입장
+        SseEmitter emitter = mock(SseEmitter.class);
+        engine.register("TIMEDEAL", 100L, "token-1", emitter, QueueStatusResponse.waiting("token-1", 3L, 0L, 3L));
+        stubWaiting("token-a", "token-b", "token-1");
+        when(hashOperations.multiGet(eq(OFFSETS_KEY), anyCollection()))
+                .thenReturn(offsets(0, 0), offsets(0, 0), offsets(2, 0));
+        engine.refresh("TIMEDEAL:100");
+
+        // when
+        engine.refresh("TIMEDEAL:100");
+
+        // then: 대기열을 다시 훑지 않고 1번째 순번을 전송
+        assertThat(sentData(emitter)).contains("\"position\":1");
+        verify(zSetOperations, times(1)).range(eq(QUEUE_KEY), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("should_rescanQueue_when_waitingOrderChanged")
+    void should_rescanQueue_when_waitingOrderChanged() {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        engine.register("TIMEDEAL", 100L, "token-1", emitter, QueueStatusResponse.waiting("token-1", 2L, 0L, 2L));
+        stubWaiting("token-a", "token-1");
+        when(hashOperations.multiGet(eq(OFFSETS_KEY), anyCollection()))
+                .thenReturn(offsets(0, 0), offsets(0, 0), offsets(0, 1));
+        engine.refresh("TIMEDEAL:100");
+
+        // when: 중간 이탈로 reordered가 증가
+        engine.refresh("TIMEDEAL:100");
+
+        // then
+        verify(zSetOperations, times(2)).range(eq(QUEUE_KEY), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("should_lookupRankOnlyForNewSubscriber_when_offsetsValid")
+    void should_lookupRankOnlyForNewSubscriber_when_offsetsValid() throws Exception {
+        // given
+        SseEmitter first = mock(SseEmitter.class);
+        SseEmitter second = mock(SseEmitter.class);
+        engine.register("TIMEDEAL", 100L, "token-1", first, QueueStatusResponse.waiting("token-1", 1L, 0L, 1L));
+        stubWaiting("token-1");
+        engine.refresh("TIMEDEAL:100");
+        engine.register("TIMEDEAL", 100L, "token-2", second, QueueStatusResponse.waiting("token-2", 1L, 0L, 1L));
+        when(zSetOperations.rank(QUEUE_KEY, "token-2")).thenReturn(5L);
+
+        // when
+        engine.refresh("TIMEDEAL:100");
+
+        // then
+        assertThat(sentData(second)).contains("\"position\":6");
+        verify(zSetOperations, never()).rank(QUEUE_KEY, "token-1");
+        verify(zSetOperations, times(1)).range(eq(QUEUE_KEY), anyLong(), anyLong());
+    }
+}
@@ -1,31 +1,83 @@
 package com.portal.universe.shoppingservice.queue.service;
 
+import com.portal.universe.shoppingservice.queue.config.QueueSchedulerProperties;
 import com.portal.universe.shoppingservice.queue.domain.WaitingQueue;
-import com.portal.universe.shoppingservice.queue.repository.WaitingQueueRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class QueueSchedulerTest {
 
     @Mock
-    private WaitingQueueRepository waitingQueueRepository;
+    private ActiveQueueRegistry activeQueueRegistry;
 
     @Mock
     private QueueService queueService;
 
-    @InjectMocks
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private DefaultRedisScript<Long> queueLeaseScript;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private QueueSchedulerProperties properties;
+    private SimpleMeterRegistry meterRegistry;
     private QueueScheduler queueScheduler;
 
+    @BeforeEach
+    void setUp() {
+        properties = new QueueSchedulerProperties();
+        // 백그라운드 dispatch가 테스트 중에 끼어들지 않도록 주기를 길게 설정
+        properties.setPollIntervalMs(60_000);
+        properties.setDefinitionRefreshMs(60_000);
+        properties.setInstanceHeartbeatMs(60_000);
+        meterRegistry = new SimpleMeterRegistry();
+        queueScheduler = createScheduler();
+    }
+
+    @AfterEach
+    void tearDown() {
+        queueScheduler.stop();
+    }
+
+    private QueueScheduler createScheduler() {
+        QueueScheduler scheduler = new QueueScheduler(activeQueueRegistry, queueService, redisTemplate,
+                queueLeaseScript, properties, meterRegistry);
+        scheduler.start();
+        return scheduler;
+    }
+
+    private void stubLiveInstances(QueueScheduler... schedulers) {
+        Set<String> instanceIds = new LinkedHashSet<>();
+        for (QueueScheduler scheduler : schedulers) {
+            instanceIds.add(scheduler.getInstanceId());
+        }
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.range(QueueScheduler.INSTANCES_KEY, 0, -1)).thenReturn(instanceIds);
+    }
+
     private WaitingQueue createActiveQueue(String eventType, Long eventId) {
         WaitingQueue queue = WaitingQueue.builder()
                 .eventType(eventType)
@@ -38,18 +90,54 @@ class QueueSchedulerTest {
         return queue;
     }
 
+    private void stubLease(String key, long result) {
+        when(redisTemplate.execute(eq(queueLeaseScript), eq(List.of("queue:lease:" + key)), anyString(), anyString()))
+                .thenReturn(result);
+    }
+
     @Test
     @DisplayName("should process all active queues")
     void should_process_active_queues() {
         WaitingQueue queue1 = createActiveQueue("TIMEDEAL", 1L);
         WaitingQueue queue2 = createActiveQueue("FLASH_SALE", 2L);
-        when(waitingQueueRepository.findByIsActiveTrue()).thenReturn(List.of(queue1, queue2));
+        when(activeQueueRegistry.getActiveQueues()).thenReturn(List.of(queue1, queue2));
+        stubLease("TIMEDEAL:1", 1L);
+        stubLease("FLASH_SALE:2", 1L);
+        when(queueService.processEntries(any(WaitingQueue.class))).thenReturn(10);
 
-        queueScheduler.processActiveQueues();
+        queueScheduler.dispatch();
 
-        verify(queueService).processEntries("TIMEDEAL", 1L);
-        verify(queueService).processEntries("FLASH_SALE", 2L);
-        verify(queueService, times(2)).processEntries(anyString(), anyLong());
+        verify(queueService, timeout(1000)).processEntries(queue1);
+        verify(queueService, timeout(1000)).processEntries(queue2);
+        verify(queueService, after(200).times(2)).processEntries(any(WaitingQueue.class));
+        assertThat(meterRegistry.get("queue.scheduler.admitted").summary().totalAmount()).isEqualTo(20.0);
+    }
+
+    @Test
+    @DisplayName("should skip queue when lease is held by another instance")
+    void should_skip_when_lease_not_acquired() {
+        WaitingQueue queue = createActiveQueue("TIMEDEAL", 1L);
+        when(activeQueueRegistry.getActiveQueues()).thenReturn(List.of(queue));
+        stubLease("TIMEDEAL:1", 0L);
+
+        queueScheduler.dispatch();
+
+        verify(queueService, after(200).never()).processEntries(any(WaitingQueue.class));
+    }
+
+    @Test
+    @DisplayName("should not process queue again before its interval elapses")
+    void should_respect_entry_interval() {
+        WaitingQueue queue = createActiveQueue("TIMEDEAL", 1L);
+        when(activeQueueRegistry.getActiveQueues()).thenReturn(List.of(queue));
+        stubLease("TIMEDEAL:1", 1L);
+
+        queueScheduler.dispatch();
+        verify(queueService, timeout(1000)).processEntries(queue);
+        queueScheduler.dispatch();
+
+        verify(queueService, after(200).times(1)).processEntries(any(WaitingQueue.class));
+        verify(redisTemplate, times(1)).execute(eq(queueLeaseScript), anyList(), anyString(), anyString());
     }
 
     @Test
@@ -57,22 +145,106 @@ class QueueSchedulerTest {
     void should_continue_on_exception() {
         WaitingQueue queue1 = createActiveQueue("TIMEDEAL", 1L);
         WaitingQueue queue2 = createActiveQueue("FLASH_SALE", 2L);
-        when(waitingQueueRepository.findByIsActiveTrue()).thenReturn(List.of(queue1, queue2));
-        doThrow(new RuntimeException("처리 실패")).when(queueService).processEntries("TIMEDEAL", 1L);
+        when(activeQueueRegistry.getActiveQueues()).thenReturn(List.of(queue1, queue2));
+        stubLease("TIMEDEAL:1", 1L);
+        stubLease("FLASH_SALE:2", 1L);
+        when(queueService.processEntries(queue1)).thenThrow(new RuntimeException("처리 실패"));
+
+        queueScheduler.dispatch();
+
+        verify(queueService, timeout(1000)).processEntries(queue1);
+        verify(queueService, timeout(1000)).processEntries(queue2);
+    }
+
+    @Test
+    @DisplayName("should split queues between two instances by rendezvous hash")
+    void should_split_queues_between_instances() {
+        List<WaitingQueue> queues = IntStream.rangeClosed(1, 20)
+                .mapToObj(id -> createActiveQueue("TIMEDEAL", (long) id))
+                .toList();
+        when(activeQueueRegistry.getActiveQueues()).thenReturn(queues);
+        when(redisTemplate.execute(eq(queueLeaseScript), anyList(), anyString(), anyString())).thenReturn(1L);
+        QueueScheduler other = createScheduler();
+        try {
+            stubLiveInstances(queueScheduler, other);
+            queueScheduler.heartbeat();
+            other.heartbeat();
+            List<String> instanceIds = List.of(queueScheduler.getInstanceId(), other.getInstanceId());
+
+            queueScheduler.dispatch();
+            other.dispatch();
+
+            // 각 대기열은 담당 인스턴스 한 곳에서만 lease를 잡고 처리됨
+            verify(queueService, timeout(1000).times(queues.size())).processEntries(any(WaitingQueue.class));
+            for (WaitingQueue queue : queues) {
+                String key = "TIMEDEAL:" + queue.getEventId();
+                String owner = QueueScheduler.preferredOwner(key, instanceIds);
+                verify(redisTemplate).execute(eq(queueLeaseScript), eq(List.of("queue:lease:" + key)),
+                        eq(owner), anyString());
+            }
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("should release lease when another live instance is the preferred owner")
+    void should_release_lease_when_instance_joins() {
+        QueueScheduler other = createScheduler();
+        try {
+            List<String> instanceIds = List.of(queueScheduler.getInstanceId(), other.getInstanceId());
+            // 새로 합류한 인스턴스가 담당이 되는 대기열
+            long eventId = IntStream.rangeClosed(1, 100)
+                    .filter(id -> other.getInstanceId().equals(
+                            QueueScheduler.preferredOwner("TIMEDEAL:" + id, instanceIds)))
+                    .findFirst()
+                    .orElseThrow();
+            WaitingQueue queue = createActiveQueue("TIMEDEAL", eventId);
+            when(activeQueueRegistry.getActiveQueues()).thenReturn(List.of(queue));
+            stubLease("TIMEDEAL:" + eventId, 1L);
+            when(redisTemplate.execute(eq(queueLeaseScript), anyList(), anyString(), anyString(), eq("release")))
+                    .thenReturn(0L);
+
+            // 혼자일 때 lease를 잡아 처리
+            queueScheduler.dispatch();
+            verify(queueService, timeout(1000)).processEntries(queue);
+
+            // 다른 인스턴스가 합류하면 처리 간격을 기다리지 않고 lease를 반납
+            stubLiveInstances(queueScheduler, other);
+            queueScheduler.heartbeat();
+            queueScheduler.dispatch();
+
+            verify(redisTemplate).execute(eq(queueLeaseScript),
+                    eq(List.of("queue:lease:TIMEDEAL:" + eventId)), eq(queueScheduler.getInstanceId()), eq("0"),
+                    eq("release"));
+            verify(queueService, after(200).times(1)).processEntries(any(WaitingQueue.class));
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("should spread keys evenly between instances")
+    void should_spread_keys_evenly_between_instances() {
+        List<String> instanceIds = List.of("instance-a", "instance-b");
 
-        queueScheduler.processActiveQueues();
+        long ownedByA = IntStream.rangeClosed(1, 1000)
+                .filter(id -> "instance-a".equals(QueueScheduler.preferredOwner("TIMEDEAL:" + id, instanceIds)))
+                .count();
 
-        verify(queueService).processEntries("TIMEDEAL", 1L);
-        verify(queueService).processEntries("FLASH_SALE", 2L);
+        assertThat(ownedByA).isBetween(400L, 600L);
+        assertThat(QueueScheduler.preferredOwner("TIMEDEAL:1", List.of("instance-b", "instance-a")))
+                .isEqualTo(QueueScheduler.preferredOwner("TIMEDEAL:1", instanceIds));
     }
 
     @Test
     @DisplayName("should do nothing when no active queues exist")
     void should_do_nothing_when_empty() {
-        when(waitingQueueRepository.findByIsActiveTrue()).thenReturn(Collections.emptyList());
+        when(activeQueueRegistry.getActiveQueues()).thenReturn(Collections.emptyList());
 
-        queueScheduler.processActiveQueues();
+        queueScheduler.dispatch();
 
-        verify(queueService, never()).processEntries(anyString(), anyLong());
+        verify(queueService, after(200).never()).processEntries(any(WaitingQueue.class));
+        verifyNoInteractions(redisTemplate);
     }
 }
@@ -1,6 +1,7 @@
 package com.portal.universe.shoppingservice.queue.service;
 
 import com.portal.universe.commonlibrary.exception.CustomBusinessException;
+import com.portal.universe.shoppingservice.queue.config.QueueAdmissionProperties;
 import com.portal.universe.shoppingservice.queue.domain.QueueEntry;
 import com.portal.universe.shoppingservice.queue.domain.QueueStatus;
 import com.portal.universe.shoppingservice.queue.domain.WaitingQueue;
@@ -13,15 +14,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -44,7 +48,17 @@ class QueueServiceImplTest {
     private ZSetOperations<String, String> zSetOperations;
 
     @Mock
-    private SetOperations<String, String> setOperations;
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    @SuppressWarnings("rawtypes")
+    private DefaultRedisScript<List> queueAdmitScript;
+
+    @Mock
+    private ActiveQueueRegistry activeQueueRegistry;
+
+    @Spy
+    private QueueAdmissionProperties admissionProperties = new QueueAdmissionProperties();
 
     @InjectMocks
     private QueueServiceImpl queueService;
@@ -239,6 +253,7 @@ class QueueServiceImplTest {
             when(queueEntryRepository.findByQueueAndUserId(queue, "user1"))
                     .thenReturn(Optional.of(entry));
             when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+            when(redisTemplate.opsForHash()).thenReturn(hashOperations);
 
             // when
             queueService.leaveQueue("TIMEDEAL", 100L, "user1");
@@ -246,6 +261,7 @@ class QueueServiceImplTest {
             // then
             verify(queueEntryRepository).save(any(QueueEntry.class));
             verify(zSetOperations).remove(anyString(), anyString());
+            verify(hashOperations).increment("queue:offsets:TIMEDEAL:100", QueuePositionEngine.REORDERED_FIELD, 1);
         }
     }
 
@@ -262,6 +278,7 @@ class QueueServiceImplTest {
 
             when(queueEntryRepository.findByEntryToken("test-token")).thenReturn(Optional.of(entry));
             when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+            when(redisTemplate.opsForHash()).thenReturn(hashOperations);
 
             // when
             queueService.leaveQueueByToken("test-token");
@@ -291,29 +308,96 @@ class QueueServiceImplTest {
         void should_processEntries_when_slotsAvailable() {
             // given
             WaitingQueue queue = createWaitingQueue(1L, "TIMEDEAL", 100L, 50, 10, 30, true);
-            QueueEntry entry = createQueueEntry(1L, queue, "user1", QueueStatus.WAITING);
 
             when(waitingQueueRepository.findByEventTypeAndEventIdAndIsActiveTrue("TIMEDEAL", 100L))
                     .thenReturn(Optional.of(queue));
-            when(redisTemplate.opsForSet()).thenReturn(setOperations);
-            when(setOperations.size(anyString())).thenReturn(5L);
-            when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
-            when(zSetOperations.zCard(anyString())).thenReturn(1L);
+            when(redisTemplate.execute(eq(queueAdmitScript),
+                    eq(List.of("queue:waiting:TIMEDEAL:100", "queue:entered:TIMEDEAL:100",
+                            "queue:offsets:TIMEDEAL:100")),
+                    eq("50"), eq("10"), anyString(), anyString(), eq("10000")))
+                    .thenReturn(List.of("0", "token-1", "1000", "token-2", "1001"));
+            when(queueEntryRepository.bulkEnter(anyCollection(), any(LocalDateTime.class),
+                    eq(QueueStatus.ENTERED), eq(QueueStatus.WAITING))).thenReturn(2);
+
+            // when
+            int admitted = queueService.processEntries("TIMEDEAL", 100L);
 
-            @SuppressWarnings("unchecked")
-            ZSetOperations.TypedTuple<String> tuple = mock(ZSetOperations.TypedTuple.class);
-            when(tuple.getValue()).thenReturn(entry.getEntryToken());
-            when(zSetOperations.popMin(anyString(), anyLong())).thenReturn(Set.of(tuple));
+            // then
+            assertThat(admitted).isEqualTo(2);
+            verify(queueEntryRepository).bulkEnter(eq(List.of("token-1", "token-2")), any(LocalDateTime.class),
+                    eq(QueueStatus.ENTERED), eq(QueueStatus.WAITING));
+            verify(queueEntryRepository, never()).findByEntryToken(anyString());
+            verify(redisTemplate).convertAndSend(QueuePositionEngine.TICK_CHANNEL, "TIMEDEAL:100");
+        }
 
-            when(queueEntryRepository.findByEntryToken(entry.getEntryToken()))
-                    .thenReturn(Optional.of(entry));
+        @Test
+        @DisplayName("should_splitBulkUpdate_when_admittedMoreThanChunkSize")
+        void should_splitBulkUpdate_when_admittedMoreThanChunkSize() {
+            // given
+            WaitingQueue queue = createWaitingQueue(1L, "TIMEDEAL", 100L, 5000, 2500, 1, true);
+            List<String> admitted = new ArrayList<>(List.of("0"));
+            for (int i = 0; i < 2500; i++) {
+                admitted.add("token-" + i);
+                admitted.add(String.valueOf(i));
+            }
+
+            when(waitingQueueRepository.findByEventTypeAndEventIdAndIsActiveTrue("TIMEDEAL", 100L))
+                    .thenReturn(Optional.of(queue));
+            when(redisTemplate.execute(eq(queueAdmitScript), anyList(), any(), any(), any(), any(), any()))
+                    .thenReturn(admitted);
+            when(queueEntryRepository.bulkEnter(anyCollection(), any(LocalDateTime.class), any(), any()))
+                    .thenReturn(1000, 1000, 500);
 
             // when
             queueService.processEntries("TIMEDEAL", 100L);
 
             // then
-            verify(queueEntryRepository).save(any(QueueEntry.class));
-            verify(setOperations).add(anyString(), anyString());
+            verify(queueEntryRepository, times(3)).bulkEnter(anyCollection(), any(LocalDateTime.class), any(), any());
+        }
+
+        @Test
+        @DisplayName("should_skipDbUpdate_when_noSlotsOrNoWaiters")
+        void should_skipDbUpdate_when_noSlotsOrNoWaiters() {
+            // given
+            WaitingQueue queue = createWaitingQueue(1L, "TIMEDEAL", 100L, 50, 10, 30, true);
+
+            when(waitingQueueRepository.findByEventTypeAndEventIdAndIsActiveTrue("TIMEDEAL", 100L))
+                    .thenReturn(Optional.of(queue));
+            when(redisTemplate.execute(eq(queueAdmitScript), anyList(), any(), any(), any(), any(), any()))
+                    .thenReturn(List.of("0"));
+
+            // when
+            queueService.processEntries("TIMEDEAL", 100L);
+
+            // then
+            verify(queueEntryRepository, never()).bulkEnter(anyCollection(), any(), any(), any());
+            verify(queueEntryRepository, never()).bulkExpire(anyCollection(), any(), any(), any());
+            verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("should_expireEntries_when_enteredSlotsEvicted")
+        void should_expireEntries_when_enteredSlotsEvicted() {
+            // given
+            WaitingQueue queue = createWaitingQueue(1L, "TIMEDEAL", 100L, 50, 10, 30, true);
+
+            when(waitingQueueRepository.findByEventTypeAndEventIdAndIsActiveTrue("TIMEDEAL", 100L))
+                    .thenReturn(Optional.of(queue));
+            when(redisTemplate.execute(eq(queueAdmitScript), anyList(), any(), any(), any(), any(), any()))
+                    .thenReturn(List.of("2", "old-1", "old-2", "token-1", "1000"));
+            when(queueEntryRepository.bulkExpire(anyCollection(), any(LocalDateTime.class),
+                    eq(QueueStatus.EXPIRED), eq(QueueStatus.ENTERED))).thenReturn(2);
+            when(queueEntryRepository.bulkEnter(anyCollection(), any(LocalDateTime.class), any(), any())).thenReturn(1);
+
+            // when
+            int admitted = queueService.processEntries("TIMEDEAL", 100L);
+
+            // then
+            assertThat(admitted).isEqualTo(1);
+            verify(queueEntryRepository).bulkExpire(eq(List.of("old-1", "old-2")), any(LocalDateTime.class),
+                    eq(QueueStatus.EXPIRED), eq(QueueStatus.ENTERED));
+            verify(queueEntryRepository).bulkEnter(eq(List.of("token-1")), any(LocalDateTime.class),
+                    eq(QueueStatus.ENTERED), eq(QueueStatus.WAITING));
         }
 
         @Test
@@ -331,6 +415,44 @@ class QueueServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("releaseSlot")
+    class ReleaseSlot {
+
+        @Test
+        @DisplayName("should_expireEntryAndFreeSlot_when_userEntered")
+        void should_expireEntryAndFreeSlot_when_userEntered() {
+            // given
+            WaitingQueue queue = createWaitingQueue(1L, "TIMEDEAL", 100L, 50, 10, 30, true);
+            QueueEntry entry = createQueueEntry(1L, queue, "user1", QueueStatus.ENTERED);
+
+            when(activeQueueRegistry.find("TIMEDEAL", 100L)).thenReturn(Optional.of(queue));
+            when(queueEntryRepository.findByQueueAndUserIdAndStatus(queue, "user1", QueueStatus.ENTERED))
+                    .thenReturn(Optional.of(entry));
+            when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+            // when
+            queueService.releaseSlot("TIMEDEAL", 100L, "user1");
+
+            // then
+            assertThat(entry.getStatus()).isEqualTo(QueueStatus.EXPIRED);
+            verify(zSetOperations).remove("queue:entered:TIMEDEAL:100", entry.getEntryToken());
+        }
+
+        @Test
+        @DisplayName("should_skip_when_noActiveQueue")
+        void should_skip_when_noActiveQueue() {
+            // given
+            when(activeQueueRegistry.find("TIMEDEAL", 100L)).thenReturn(Optional.empty());
+
+            // when
+            queueService.releaseSlot("TIMEDEAL", 100L, "user1");
+
+            // then
+            verifyNoInteractions(queueEntryRepository);
+        }
+    }
+
     @Nested
     @DisplayName("validateEntry")
     class ValidateEntry {
@@ -405,6 +527,7 @@ class QueueServiceImplTest {
 
             // then
             verify(waitingQueueRepository).save(any(WaitingQueue.class));
+            verify(redisTemplate).convertAndSend(ActiveQueueRegistry.DEFINITIONS_CHANNEL, "TIMEDEAL:100");
         }
 
         @Test
@@ -436,6 +559,7 @@ class QueueServiceImplTest {
             when(waitingQueueRepository.findByEventTypeAndEventId("TIMEDEAL", 100L))
                     .thenReturn(Optional.of(queue));
             when(waitingQueueRepository.save(any(WaitingQueue.class))).thenReturn(queue);
+            when(redisTemplate.opsForHash()).thenReturn(hashOperations);
 
             // when
             queueService.deactivateQueue("TIMEDEAL", 100L);
@@ -444,6 +568,7 @@ class QueueServiceImplTest {
             verify(waitingQueueRepository).save(any(WaitingQueue.class));
             verify(redisTemplate).delete("queue:waiting:TIMEDEAL:100");
             verify(redisTemplate).delete("queue:entered:TIMEDEAL:100");
+            verify(redisTemplate).convertAndSend(ActiveQueueRegistry.DEFINITIONS_CHANNEL, "TIMEDEAL:100");
         }
 
         @Test
@@ -0,0 +1,93 @@
+package com.portal.universe.shoppingservice.search.popular;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeavyHittersTest {
+
+    @Test
+    @DisplayName("should_neverUnderestimate_when_keysCollide")
+    void should_neverUnderestimate_when_keysCollide() {
+        // given: 칸이 좁아 충돌이 많은 sketch
+        CountMinSketch sketch = new CountMinSketch(16, 4);
+        for (int i = 0; i < 200; i++) {
+            sketch.add("key-" + i, i % 5 + 1);
+        }
+
+        // when & then
+        for (int i = 0; i < 200; i++) {
+            assertThat(sketch.estimate("key-" + i)).isGreaterThanOrEqualTo(i % 5 + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("should_keepFrequentKeys_when_longTailExceedsCapacity")
+    void should_keepFrequentKeys_when_longTailExceedsCapacity() {
+        // given: 상위 5개 키 사이에 한 번씩만 나오는 키 10,000개
+        HeavyHitters heavyHitters = new HeavyHitters(20, 1024, 4);
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            heavyHitters.add("tail-" + i);
+            if (random.nextInt(4) == 0) {
+                heavyHitters.add("hot-" + random.nextInt(5));
+            }
+        }
+
+        // when
+        Map<String, Long> entries = heavyHitters.entries().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        // then
+        assertThat(entries).hasSizeLessThanOrEqualTo(20);
+        assertThat(entries).containsKeys("hot-0", "hot-1", "hot-2", "hot-3", "hot-4");
+        assertThat(entries.get("hot-0")).isGreaterThan(400);
+    }
+
+    @Test
+    @DisplayName("should_returnEstimate_when_keyAdded")
+    void should_returnEstimate_when_keyAdded() {
+        // given
+        HeavyHitters heavyHitters = new HeavyHitters(10, 1024, 4);
+
+        // when
+        heavyHitters.add("laptop");
+        heavyHitters.add("phone");
+        long count = heavyHitters.add("laptop");
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(heavyHitters.isEmpty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should_evictLowestCandidate_when_newKeyOvertakesIt")
+    void should_evictLowestCandidate_when_newKeyOvertakesIt() {
+        // given: 후보 2개가 가득 찬 상태 (a=3, b=2)
+        HeavyHitters heavyHitters = new HeavyHitters(2, 1024, 4);
+        for (int i = 0; i < 3; i++) {
+            heavyHitters.add("a");
+        }
+        heavyHitters.add("b");
+        heavyHitters.add("b");
+
+        // when: c가 최솟값 b와 같을 때까지는 들어오지 못하고, 넘어서면 b를 내보냄
+        heavyHitters.add("c");
+        heavyHitters.add("c");
+        Map<String, Long> beforeOvertake = heavyHitters.entries().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        heavyHitters.add("c");
+        Map<String, Long> afterOvertake = heavyHitters.entries().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        // then
+        assertThat(beforeOvertake).containsOnlyKeys("a", "b");
+        assertThat(afterOvertake).containsOnlyKeys("a", "c");
+        assertThat(afterOvertake.get("c")).isEqualTo(3);
+    }
+}
@@ -0,0 +1,147 @@
+package com.portal.universe.shoppingservice.search.popular;
+
+import com.portal.universe.shoppingservice.search.config.PopularKeywordProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopularKeywordTrackerTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    private PopularKeywordProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private PopularKeywordTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PopularKeywordProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new PopularKeywordTracker(stringRedisTemplate, redissonClient, properties, meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPipelineRunsOnTemplate() {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            SessionCallback<Object> callback = invocation.getArgument(0);
+            callback.execute(stringRedisTemplate);
+            return List.of();
+        });
+    }
+
+    @Test
+    @DisplayName("should_countNormalizedKeywordLocally_when_recorded")
+    void should_countNormalizedKeywordLocally_when_recorded() {
+        // when
+        tracker.record("Laptop");
+        long count = tracker.record("  laptop ");
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(tracker.record(" ")).isZero();
+        assertThat(tracker.record("x".repeat(properties.getMaxKeywordLength() + 1))).isZero();
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("should_addLocalCountsToCurrentWindowInOnePipeline_when_flushed")
+    void should_addLocalCountsToCurrentWindowInOnePipeline_when_flushed() {
+        // given
+        givenPipelineRunsOnTemplate();
+        tracker.record("laptop");
+        tracker.record("laptop");
+        tracker.record("phone");
+        long now = 3 * properties.getWindowMs() + 1_000;
+
+        // when
+        tracker.flush(now);
+        tracker.flush(now);
+
+        // then: 두 번째 flush는 비어 있어 Redis에 가지 않음
+        String key = PopularKeywordTracker.windowKey(3);
+        verify(stringRedisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(zSetOperations).incrementScore(key, "laptop", 2);
+        verify(zSetOperations).incrementScore(key, "phone", 1);
+        verify(stringRedisTemplate).expire(key,
+                Duration.ofMillis(properties.getWindowMs() * (properties.getWindows() + 1L)));
+        assertThat(meterRegistry.get("search.popular.flushed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should_unionRecentWindowsWithDecayingWeights_when_refreshed")
+    void should_unionRecentWindowsWithDecayingWeights_when_refreshed() {
+        // given: 구간 5분, 반감기 10분, 최근 3개 구간
+        properties.setWindows(3);
+        properties.setHalfLifeMs(600_000);
+        properties.setResultSize(100);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        long now = 10 * properties.getWindowMs();
+
+        // when
+        tracker.refresh(now);
+
+        // then
+        ArgumentCaptor<Weights> weights = ArgumentCaptor.forClass(Weights.class);
+        verify(zSetOperations).unionAndStore(eq(PopularKeywordTracker.windowKey(10)),
+                eq(List.of(PopularKeywordTracker.windowKey(9), PopularKeywordTracker.windowKey(8))),
+                eq(PopularKeywordTracker.POPULAR_NOW_KEY), eq(Aggregate.SUM), weights.capture());
+        assertThat(weights.getValue().toArray()).containsExactly(1.0, Math.pow(0.5, 0.5), 0.5);
+        verify(zSetOperations).removeRange(PopularKeywordTracker.POPULAR_NOW_KEY, 0, -101);
+    }
+
+    @Test
+    @DisplayName("should_seedCurrentWindowOnceAndUnlinkLegacyKey_when_legacyPopularSetExists")
+    void should_seedCurrentWindowOnceAndUnlinkLegacyKey_when_legacyPopularSetExists() {
+        // given: 이전 버전이 남긴 누적 ZSET
+        givenPipelineRunsOnTemplate();
+        Set<ZSetOperations.TypedTuple<String>> legacy = new LinkedHashSet<>(List.of(
+                new DefaultTypedTuple<>("laptop", 120.0),
+                new DefaultTypedTuple<>("phone", 45.0)));
+        when(zSetOperations.reverseRangeWithScores("search:popular", 0, properties.getResultSize() - 1L))
+                .thenReturn(legacy);
+        long now = 4 * properties.getWindowMs();
+
+        // when
+        tracker.refresh(now);
+        tracker.refresh(now);
+
+        // then: 첫 합산 때만 현재 구간에 더하고 누적 키를 지움
+        String key = PopularKeywordTracker.windowKey(4);
+        verify(zSetOperations, times(1)).reverseRangeWithScores("search:popular", 0, properties.getResultSize() - 1L);
+        verify(zSetOperations).incrementScore(key, "laptop", 120);
+        verify(zSetOperations).incrementScore(key, "phone", 45);
+        verify(stringRedisTemplate).unlink("search:popular");
+        verify(zSetOperations, times(2)).unionAndStore(eq(key), anyList(),
+                eq(PopularKeywordTracker.POPULAR_NOW_KEY), eq(Aggregate.SUM), any(Weights.class));
+    }
+}
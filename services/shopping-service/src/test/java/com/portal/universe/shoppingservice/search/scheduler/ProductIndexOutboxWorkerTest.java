@@ -0,0 +1,173 @@
+package com.portal.universe.shoppingservice.search.scheduler;
+
+import com.portal.universe.shoppingservice.product.domain.Product;
+import com.portal.universe.shoppingservice.product.repository.ProductRepository;
+import com.portal.universe.shoppingservice.search.config.ProductIndexerProperties;
+import com.portal.universe.shoppingservice.search.document.ProductDocument;
+import com.portal.universe.shoppingservice.search.outbox.ProductIndexOutboxEntry;
+import com.portal.universe.shoppingservice.search.outbox.ProductIndexOutboxRepository;
+import com.portal.universe.shoppingservice.search.service.ProductBulkIndexer;
+import com.portal.universe.shoppingservice.search.service.ProductDocumentAssembler;
+import com.portal.universe.shoppingservice.search.service.SearchIndexVersion;
+import com.portal.universe.shoppingservice.search.suggest.AutocompleteIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductIndexOutboxWorkerTest {
+
+    @Mock
+    private ProductIndexOutboxRepository outboxRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductDocumentAssembler documentAssembler;
+
+    @Mock
+    private ProductBulkIndexer bulkIndexer;
+
+    @Mock
+    private SearchIndexVersion indexVersion;
+
+    @Mock
+    private AutocompleteIndex autocompleteIndex;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    private ProductIndexerProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ProductIndexOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ProductIndexerProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new ProductIndexOutboxWorker(outboxRepository, productRepository, documentAssembler, bulkIndexer,
+                indexVersion, autocompleteIndex, properties, redissonClient, meterRegistry);
+    }
+
+    private static Product product(long id) {
+        Product product = Product.builder().name("Product " + id).price(BigDecimal.valueOf(1000)).stock(10).build();
+        ReflectionTestUtils.setField(product, "id", id);
+        return product;
+    }
+
+    private static ProductIndexOutboxEntry entry(long id, long productId) {
+        return new ProductIndexOutboxEntry(id, productId, true, LocalDateTime.now().minusSeconds(1));
+    }
+
+    private static ProductIndexOutboxEntry stockEntry(long id, long productId) {
+        return new ProductIndexOutboxEntry(id, productId, false, LocalDateTime.now().minusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("should_coalesceByProduct_and_deleteMissingProducts_when_draining")
+    void should_coalesceByProduct_and_deleteMissingProducts_when_draining() {
+        // given: 상품 1은 두 번 변경, 상품 2는 삭제됨
+        when(outboxRepository.findOldest(10)).thenReturn(List.of(entry(1L, 1L), entry(2L, 2L), entry(3L, 1L)));
+        Product product = product(1L);
+        when(productRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(product));
+        List<ProductDocument> documents = List.of(ProductDocument.from(product));
+        when(documentAssembler.toDocuments(List.of(product))).thenReturn(documents);
+        when(bulkIndexer.apply("products", documents, Set.of(2L), true)).thenReturn(Set.of());
+
+        // when
+        int drained = worker.drainBatch(10);
+
+        // then
+        assertThat(drained).isEqualTo(3);
+        verify(outboxRepository).deleteByIds(List.of(1L, 2L, 3L));
+        verify(indexVersion).bump();
+        verify(autocompleteIndex).publishProductNames(List.of("Product 1"));
+        assertThat(meterRegistry.get("search.indexer.lag").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should_keepOutboxEntries_when_productFailsToIndex")
+    void should_keepOutboxEntries_when_productFailsToIndex() {
+        // given
+        when(outboxRepository.findOldest(10)).thenReturn(List.of(entry(1L, 1L), entry(2L, 2L), entry(3L, 1L)));
+        when(productRepository.findAllById(anyCollection())).thenReturn(List.of(product(1L), product(2L)));
+        when(documentAssembler.toDocuments(anyList())).thenReturn(List.of());
+        when(bulkIndexer.apply(eq("products"), anyList(), anyCollection(), anyBoolean())).thenReturn(Set.of(1L));
+
+        // when
+        int drained = worker.drainBatch(10);
+
+        // then
+        assertThat(drained).isEqualTo(1);
+        verify(outboxRepository).deleteByIds(List.of(2L));
+        verify(autocompleteIndex).publishProductNames(List.of("Product 2"));
+    }
+
+    @Test
+    @DisplayName("should_notBumpVersion_when_onlyStockChanged")
+    void should_notBumpVersion_when_onlyStockChanged() {
+        // given: 주문으로 재고만 바뀐 상품
+        when(outboxRepository.findOldest(10)).thenReturn(List.of(stockEntry(1L, 1L), stockEntry(2L, 1L)));
+        Product product = product(1L);
+        when(productRepository.findAllById(Set.of(1L))).thenReturn(List.of(product));
+        List<ProductDocument> documents = List.of(ProductDocument.from(product));
+        when(documentAssembler.toDocuments(List.of(product))).thenReturn(documents);
+        when(bulkIndexer.apply("products", documents, Set.of(), false)).thenReturn(Set.of());
+
+        // when
+        int drained = worker.drainBatch(10);
+
+        // then
+        assertThat(drained).isEqualTo(2);
+        verify(outboxRepository).deleteByIds(List.of(1L, 2L));
+        verify(indexVersion, never()).bump();
+    }
+
+    @Test
+    @DisplayName("should_doNothing_when_outboxIsEmpty")
+    void should_doNothing_when_outboxIsEmpty() {
+        // given
+        when(outboxRepository.findOldest(10)).thenReturn(List.of());
+
+        // when
+        int drained = worker.drainBatch(10);
+
+        // then
+        assertThat(drained).isZero();
+        verifyNoInteractions(productRepository, bulkIndexer);
+        verify(outboxRepository, never()).deleteByIds(anyCollection());
+        verify(indexVersion, never()).bump();
+    }
+
+    @Test
+    @DisplayName("should_skipCycle_when_lockHeldByReindex")
+    void should_skipCycle_when_lockHeldByReindex() {
+        // given
+        RLock lock = mock(RLock.class);
+        when(redissonClient.getLock(ProductIndexOutboxWorker.LOCK_KEY)).thenReturn(lock);
+        when(lock.tryLock()).thenReturn(false);
+
+        // when
+        worker.drain();
+
+        // then
+        verifyNoInteractions(outboxRepository);
+    }
+}
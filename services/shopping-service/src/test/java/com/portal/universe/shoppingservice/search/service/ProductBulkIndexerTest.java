@@ -0,0 +1,199 @@
+package com.portal.universe.shoppingservice.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.universe.shoppingservice.search.config.ProductIndexerProperties;
+import com.portal.universe.shoppingservice.search.document.ProductDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductBulkIndexerTest {
+
+    private static final String INDEX = "products";
+
+    @Mock
+    private ElasticsearchClient esClient;
+
+    private ProductIndexerProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ProductBulkIndexer bulkIndexer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ProductIndexerProperties();
+        properties.setInitialBackoffMs(0);
+        meterRegistry = new SimpleMeterRegistry();
+        bulkIndexer = new ProductBulkIndexer(esClient, new ObjectMapper(), properties, meterRegistry);
+    }
+
+    private static ProductDocument document(long id) {
+        return ProductDocument.builder()
+                .id(id)
+                .name("Product " + id)
+                .description("desc")
+                .price(BigDecimal.valueOf(1000))
+                .stock(10)
+                .build();
+    }
+
+    private static BulkResponseItem item(OperationType type, long id, int status) {
+        return BulkResponseItem.of(i -> i.operationType(type).index(INDEX).id(String.valueOf(id)).status(status));
+    }
+
+    private static BulkResponse response(BulkResponseItem... items) {
+        return BulkResponse.of(b -> b.errors(false).took(1).items(List.of(items)));
+    }
+
+    private double documents(String operation) {
+        return meterRegistry.get("search.indexer.documents").tag("operation", operation).counter().count();
+    }
+
+    @Test
+    @DisplayName("should_sendIndexAndDeleteInOneBulk_when_withinLimits")
+    void should_sendIndexAndDeleteInOneBulk_when_withinLimits() throws IOException {
+        // given
+        when(esClient.bulk(any(BulkRequest.class))).thenReturn(response(
+                item(OperationType.Index, 1L, 201),
+                item(OperationType.Delete, 2L, 404)));
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+
+        // when
+        Set<Long> failed = bulkIndexer.apply(INDEX, List.of(document(1L)), List.of(2L));
+
+        // then
+        assertThat(failed).isEmpty();
+        verify(esClient).bulk(captor.capture());
+        assertThat(captor.getValue().operations()).hasSize(2);
+        assertThat(documents("index")).isEqualTo(1);
+        assertThat(documents("delete")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should_waitForRefresh_only_when_requested")
+    void should_waitForRefresh_only_when_requested() throws IOException {
+        // given
+        when(esClient.bulk(any(BulkRequest.class))).thenReturn(response(item(OperationType.Index, 1L, 201)));
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+
+        // when
+        bulkIndexer.apply(INDEX, List.of(document(1L)), List.of(), true);
+        bulkIndexer.apply(INDEX, List.of(document(1L)), List.of());
+
+        // then
+        verify(esClient, times(2)).bulk(captor.capture());
+        assertThat(captor.getAllValues().get(0).refresh()).isEqualTo(Refresh.WaitFor);
+        assertThat(captor.getAllValues().get(1).refresh()).isNull();
+    }
+
+    @Test
+    @DisplayName("should_splitRequests_when_documentLimitReached")
+    void should_splitRequests_when_documentLimitReached() throws IOException {
+        // given
+        properties.setBulkMaxDocuments(2);
+        when(esClient.bulk(any(BulkRequest.class))).thenAnswer(invocation -> {
+            BulkRequest request = invocation.getArgument(0);
+            return response(request.operations().stream()
+                    .map(op -> item(OperationType.Index, Long.parseLong(op.index().id()), 201))
+                    .toArray(BulkResponseItem[]::new));
+        });
+
+        // when
+        Set<Long> failed = bulkIndexer.apply(INDEX,
+                IntStream.rangeClosed(1, 5).mapToObj(ProductBulkIndexerTest::document).toList(), List.of());
+
+        // then
+        assertThat(failed).isEmpty();
+        verify(esClient, times(3)).bulk(any(BulkRequest.class));
+        assertThat(documents("index")).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("should_splitRequests_when_byteLimitReached")
+    void should_splitRequests_when_byteLimitReached() throws IOException {
+        // given: 문서 하나만 들어가는 크기
+        properties.setBulkMaxBytes(200);
+        when(esClient.bulk(any(BulkRequest.class))).thenAnswer(invocation -> {
+            BulkRequest request = invocation.getArgument(0);
+            return response(request.operations().stream()
+                    .map(op -> item(OperationType.Index, Long.parseLong(op.index().id()), 201))
+                    .toArray(BulkResponseItem[]::new));
+        });
+
+        // when
+        bulkIndexer.apply(INDEX, List.of(document(1L), document(2L)), List.of());
+
+        // then
+        verify(esClient, times(2)).bulk(any(BulkRequest.class));
+    }
+
+    @Test
+    @DisplayName("should_retryOnlyThrottledItems_when_bulkPartiallyFails")
+    void should_retryOnlyThrottledItems_when_bulkPartiallyFails() throws IOException {
+        // given
+        when(esClient.bulk(any(BulkRequest.class)))
+                .thenReturn(response(item(OperationType.Index, 1L, 201), item(OperationType.Index, 2L, 429)))
+                .thenReturn(response(item(OperationType.Index, 2L, 201)));
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+
+        // when
+        Set<Long> failed = bulkIndexer.apply(INDEX, List.of(document(1L), document(2L)), List.of());
+
+        // then
+        assertThat(failed).isEmpty();
+        verify(esClient, times(2)).bulk(captor.capture());
+        assertThat(captor.getAllValues().get(1).operations()).hasSize(1);
+        assertThat(captor.getAllValues().get(1).operations().get(0).index().id()).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("should_returnFailedIds_when_retriesExhausted")
+    void should_returnFailedIds_when_retriesExhausted() throws IOException {
+        // given
+        properties.setMaxRetries(2);
+        when(esClient.bulk(any(BulkRequest.class))).thenThrow(new IOException("connection refused"));
+
+        // when
+        Set<Long> failed = bulkIndexer.apply(INDEX, List.of(document(1L)), List.of(2L));
+
+        // then
+        assertThat(failed).containsExactlyInAnyOrder(1L, 2L);
+        verify(esClient, times(3)).bulk(any(BulkRequest.class));
+    }
+
+    @Test
+    @DisplayName("should_notRetry_when_itemRejectedWithClientError")
+    void should_notRetry_when_itemRejectedWithClientError() throws IOException {
+        // given
+        when(esClient.bulk(any(BulkRequest.class))).thenReturn(response(item(OperationType.Index, 1L, 400)));
+
+        // when
+        Set<Long> failed = bulkIndexer.apply(INDEX, List.of(document(1L)), List.of());
+
+        // then
+        assertThat(failed).isEmpty();
+        verify(esClient, times(1)).bulk(any(BulkRequest.class));
+        assertThat(meterRegistry.get("search.indexer.rejected").counter().count()).isEqualTo(1);
+    }
+}
@@ -1,21 +1,31 @@
 package com.portal.universe.shoppingservice.search.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorResponse;
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch.core.DeleteResponse;
 import co.elastic.clients.elasticsearch.core.IndexResponse;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.UpdateResponse;
 import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
 import co.elastic.clients.elasticsearch.core.search.TotalHits;
 import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.universe.commonlibrary.exception.CustomBusinessException;
+import com.portal.universe.shoppingservice.common.exception.ShoppingErrorCode;
 import com.portal.universe.shoppingservice.product.domain.Product;
+import com.portal.universe.shoppingservice.search.config.ProductSearchProperties;
 import com.portal.universe.shoppingservice.search.document.ProductDocument;
 import com.portal.universe.shoppingservice.search.dto.ProductSearchRequest;
 import com.portal.universe.shoppingservice.search.dto.ProductSearchResult;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -23,8 +33,10 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -34,9 +46,18 @@ class ProductSearchServiceTest {
     @Mock
     private ElasticsearchClient esClient;
 
-    @InjectMocks
+    @Mock
+    private SearchResultCache searchResultCache;
+
+    private ProductSearchProperties properties;
     private ProductSearchService productSearchService;
 
+    @BeforeEach
+    void setUp() {
+        properties = new ProductSearchProperties();
+        productSearchService = new ProductSearchService(esClient, searchResultCache, properties, new ObjectMapper());
+    }
+
     @Test
     @DisplayName("should_indexProduct_when_called")
     @SuppressWarnings("unchecked")
@@ -203,4 +224,191 @@ class ProductSearchServiceTest {
         assertThat(result.getResults()).isEmpty();
         verify(esClient).search(any(co.elastic.clients.elasticsearch.core.SearchRequest.class), eq(ProductDocument.class));
     }
+
+    @SuppressWarnings("unchecked")
+    private static Hit<ProductDocument> hit(long id, FieldValue... sortValues) {
+        Hit<ProductDocument> hit = mock(Hit.class);
+        lenient().when(hit.source()).thenReturn(ProductDocument.builder()
+                .id(id)
+                .name("Product " + id)
+                .price(BigDecimal.valueOf(1000))
+                .stock(10)
+                .build());
+        lenient().when(hit.sort()).thenReturn(List.of(sortValues));
+        return hit;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SearchResponse<ProductDocument> esResponse(List<Hit<ProductDocument>> hits, String pitId) {
+        HitsMetadata<ProductDocument> hitsMetadata = mock(HitsMetadata.class);
+        when(hitsMetadata.hits()).thenReturn(hits);
+        SearchResponse<ProductDocument> searchResponse = mock(SearchResponse.class);
+        when(searchResponse.hits()).thenReturn(hitsMetadata);
+        lenient().when(searchResponse.pitId()).thenReturn(pitId);
+        return searchResponse;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPointInTime(String pitId) throws IOException {
+        OpenPointInTimeResponse openResponse = mock(OpenPointInTimeResponse.class);
+        when(openResponse.id()).thenReturn(pitId);
+        when(esClient.openPointInTime(any(java.util.function.Function.class))).thenReturn(openResponse);
+    }
+
+    @Test
+    @DisplayName("should_returnCachedResponse_when_cacheHit")
+    void should_returnCachedResponse_when_cacheHit() {
+        // given
+        ProductSearchRequest request = ProductSearchRequest.of("laptop", 0, 20);
+        com.portal.universe.shoppingservice.search.dto.SearchResponse<ProductSearchResult> cached =
+                com.portal.universe.shoppingservice.search.dto.SearchResponse.of(List.of(), 3, 0, 20);
+        when(searchResultCache.get(request)).thenReturn(Optional.of(cached));
+
+        // when
+        var result = productSearchService.search(request);
+
+        // then
+        assertThat(result).isSameAs(cached);
+        verifyNoInteractions(esClient);
+    }
+
+    @Test
+    @DisplayName("should_cacheResponse_when_searchSucceeds")
+    void should_cacheResponse_when_searchSucceeds() throws IOException {
+        // given
+        ProductSearchRequest request = ProductSearchRequest.of("laptop", 0, 20);
+        SearchResponse<ProductDocument> searchResponse = esResponse(List.of(hit(1L)), null);
+        when(esClient.search(any(SearchRequest.class), eq(ProductDocument.class))).thenReturn(searchResponse);
+
+        // when
+        var result = productSearchService.search(request);
+
+        // then
+        verify(searchResultCache).put(request, result);
+    }
+
+    @Test
+    @DisplayName("should_notCache_when_searchFails")
+    void should_notCache_when_searchFails() throws IOException {
+        // given
+        ProductSearchRequest request = ProductSearchRequest.of("laptop", 0, 20);
+        when(esClient.search(any(SearchRequest.class), eq(ProductDocument.class)))
+                .thenThrow(new IOException("Connection refused"));
+
+        // when
+        productSearchService.search(request);
+
+        // then
+        verify(searchResultCache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("should_boundTotalHitsAndHighlight_when_defaults")
+    void should_boundTotalHitsAndHighlight_when_defaults() throws IOException {
+        // given
+        ProductSearchRequest request = ProductSearchRequest.of("laptop", 2, 20);
+        SearchResponse<ProductDocument> searchResponse = esResponse(List.of(), null);
+        when(esClient.search(any(SearchRequest.class), eq(ProductDocument.class))).thenReturn(searchResponse);
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+
+        // when
+        productSearchService.search(request);
+
+        // then
+        verify(esClient).search(captor.capture(), eq(ProductDocument.class));
+        SearchRequest sent = captor.getValue();
+        assertThat(sent.from()).isEqualTo(40);
+        assertThat(sent.trackTotalHits().count()).isEqualTo(1000);
+        assertThat(sent.highlight()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should_skipHighlightAndTotalHits_when_disabled")
+    void should_skipHighlightAndTotalHits_when_disabled() throws IOException {
+        // given
+        ProductSearchRequest request = ProductSearchRequest.builder()
+                .keyword("laptop")
+                .highlight(false)
+                .trackTotalHits(false)
+                .build();
+        SearchResponse<ProductDocument> searchResponse = esResponse(List.of(hit(1L)), null);
+        when(esClient.search(any(SearchRequest.class), eq(ProductDocument.class))).thenReturn(searchResponse);
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+
+        // when
+        var result = productSearchService.search(request);
+
+        // then
+        verify(esClient).search(captor.capture(), eq(ProductDocument.class));
+        assertThat(captor.getValue().highlight()).isNull();
+        assertThat(captor.getValue().trackTotalHits().enabled()).isFalse();
+        assertThat(result.getTotalHits()).isEqualTo(-1L);
+        assertThat(result.isTotalHitsExact()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should_openPitAndContinueWithSearchAfter_when_cursorPaging")
+    @SuppressWarnings("unchecked")
+    void should_openPitAndContinueWithSearchAfter_when_cursorPaging() throws IOException {
+        // given
+        givenPointInTime("pit-1");
+        SearchResponse<ProductDocument> firstPage = esResponse(
+                List.of(hit(1L, FieldValue.of(3.5), FieldValue.of(10L)), hit(2L, FieldValue.of(2.5), FieldValue.of(11L))),
+                "pit-2");
+        SearchResponse<ProductDocument> lastPage = esResponse(List.of(hit(3L, FieldValue.of(1.5), FieldValue.of(12L))), "pit-3");
+        when(esClient.search(any(SearchRequest.class), eq(ProductDocument.class)))
+                .thenReturn(firstPage)
+                .thenReturn(lastPage);
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+
+        // when
+        var first = productSearchService.search(ProductSearchRequest.builder()
+                .keyword("laptop").size(2).cursorPaging(true).build());
+        var second = productSearchService.search(ProductSearchRequest.builder()
+                .keyword("laptop").size(2).cursor(first.getNextCursor()).build());
+
+        // then
+        verify(esClient, times(2)).search(captor.capture(), eq(ProductDocument.class));
+        SearchRequest firstRequest = captor.getAllValues().get(0);
+        SearchRequest secondRequest = captor.getAllValues().get(1);
+        assertThat(firstRequest.pit().id()).isEqualTo("pit-1");
+        assertThat(firstRequest.searchAfter()).isEmpty();
+        assertThat(firstRequest.sort()).hasSize(2);
+        assertThat(secondRequest.pit().id()).isEqualTo("pit-2");
+        assertThat(secondRequest.searchAfter()).extracting(FieldValue::_get).containsExactly(2.5, 11L);
+        assertThat(secondRequest.trackTotalHits().enabled()).isFalse();
+
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(second.getNextCursor()).isNull();
+        verify(esClient).closePointInTime(any(java.util.function.Function.class));
+        verifyNoInteractions(searchResultCache);
+    }
+
+    @Test
+    @DisplayName("should_throwCursorExpired_when_pitMissing")
+    void should_throwCursorExpired_when_pitMissing() throws IOException {
+        // given
+        String cursor = SearchCursor.of("pit-1", List.of(FieldValue.of(1.0), FieldValue.of(5L))).encode(new ObjectMapper());
+        when(esClient.search(any(SearchRequest.class), eq(ProductDocument.class)))
+                .thenThrow(new ElasticsearchException("search", ErrorResponse.of(e -> e
+                        .status(404)
+                        .error(c -> c.type("search_context_missing_exception").reason("No search context found")))));
+
+        // when & then
+        assertThatThrownBy(() -> productSearchService.search(ProductSearchRequest.builder().cursor(cursor).build()))
+                .isInstanceOf(CustomBusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ShoppingErrorCode.SEARCH_CURSOR_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("should_throwInvalidQuery_when_cursorMalformed")
+    void should_throwInvalidQuery_when_cursorMalformed() {
+        // when & then
+        assertThatThrownBy(() -> productSearchService.search(ProductSearchRequest.builder().cursor("not-a-cursor").build()))
+                .isInstanceOf(CustomBusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ShoppingErrorCode.INVALID_SEARCH_QUERY);
+        verifyNoInteractions(esClient);
+    }
 }
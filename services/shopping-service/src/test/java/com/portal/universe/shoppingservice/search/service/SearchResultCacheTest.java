@@ -0,0 +1,120 @@
+package com.portal.universe.shoppingservice.search.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.universe.shoppingservice.search.config.ProductSearchProperties;
+import com.portal.universe.shoppingservice.search.dto.ProductSearchRequest;
+import com.portal.universe.shoppingservice.search.dto.ProductSearchResult;
+import com.portal.universe.shoppingservice.search.dto.SearchResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchResultCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SearchIndexVersion indexVersion;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SearchResultCache(stringRedisTemplate, new ObjectMapper(), indexVersion,
+                new ProductSearchProperties(), meterRegistry);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("search.result_cache.lookups").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("should_useSameKey_when_requestsDifferOnlyInFormatting")
+    void should_useSameKey_when_requestsDifferOnlyInFormatting() {
+        // given
+        ProductSearchRequest a = ProductSearchRequest.builder()
+                .keyword("  Gaming   Laptop ").minPrice(1000.0).sort(null).build();
+        ProductSearchRequest b = ProductSearchRequest.builder()
+                .keyword("gaming laptop").minPrice(1000.00).sort("relevance").build();
+        ProductSearchRequest other = ProductSearchRequest.builder()
+                .keyword("gaming laptop").minPrice(1000.0).highlight(false).build();
+
+        // when & then
+        assertThat(cache.keyOf(a)).isEqualTo(cache.keyOf(b));
+        assertThat(cache.keyOf(a)).isNotEqualTo(cache.keyOf(other));
+    }
+
+    @Test
+    @DisplayName("should_changeKey_when_indexVersionBumped")
+    void should_changeKey_when_indexVersionBumped() {
+        // given
+        ProductSearchRequest request = ProductSearchRequest.of("laptop", 0, 20);
+        when(indexVersion.current()).thenReturn(1L, 2L);
+
+        // when & then
+        assertThat(cache.keyOf(request)).isNotEqualTo(cache.keyOf(request));
+    }
+
+    @Test
+    @DisplayName("should_roundTripResponse_when_storedAndRead")
+    void should_roundTripResponse_when_storedAndRead() {
+        // given
+        ProductSearchRequest request = ProductSearchRequest.of("laptop", 0, 20);
+        ProductSearchResult result = ProductSearchResult.builder()
+                .id(1L).name("Laptop").price(BigDecimal.valueOf(1500)).stock(3).highlightedName("<em>Laptop</em>").build();
+        SearchResponse<ProductSearchResult> response = SearchResponse.of(List.of(result), 1000, false, 0, 20, null);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+
+        // when
+        cache.put(request, response);
+        verify(valueOperations).set(anyString(), json.capture(), eq(10_000L), eq(TimeUnit.MILLISECONDS));
+        when(valueOperations.get(anyString())).thenReturn(json.getValue());
+        Optional<SearchResponse<ProductSearchResult>> cached = cache.get(request);
+
+        // then
+        assertThat(cached).isPresent();
+        assertThat(cached.get().getTotalHits()).isEqualTo(1000);
+        assertThat(cached.get().isTotalHitsExact()).isFalse();
+        assertThat(cached.get().getResults().get(0).getHighlightedName()).isEqualTo("<em>Laptop</em>");
+        assertThat(lookups("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should_countMiss_when_keyAbsent")
+    void should_countMiss_when_keyAbsent() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        Optional<SearchResponse<ProductSearchResult>> cached = cache.get(ProductSearchRequest.of("laptop", 0, 20));
+
+        // then
+        assertThat(cached).isEmpty();
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+}
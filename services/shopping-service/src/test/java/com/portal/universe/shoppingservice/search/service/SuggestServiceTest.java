@@ -2,21 +2,22 @@ package com.portal.universe.shoppingservice.search.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import com.portal.universe.shoppingservice.search.config.AutocompleteProperties;
+import com.portal.universe.shoppingservice.search.popular.PopularKeywordTracker;
+import com.portal.universe.shoppingservice.search.suggest.AutocompleteIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.ListOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.SessionCallback;
 
 import java.io.IOException;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -32,18 +33,60 @@ class SuggestServiceTest {
     private RedisTemplate<String, Object> redisTemplate;
 
     @Mock
-    private ZSetOperations<String, Object> zSetOperations;
+    private ListOperations<String, Object> listOperations;
 
     @Mock
-    private ListOperations<String, Object> listOperations;
+    private AutocompleteIndex autocompleteIndex;
+
+    @Mock
+    private PopularKeywordTracker popularKeywordTracker;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private SuggestService suggestService;
 
     @BeforeEach
     void setUp() {
-        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
         lenient().when(redisTemplate.opsForList()).thenReturn(listOperations);
+        meterRegistry = new SimpleMeterRegistry();
+        suggestService = new SuggestService(esClient, redisTemplate, autocompleteIndex, popularKeywordTracker,
+                new AutocompleteProperties(), meterRegistry);
+    }
+
+    private double requests(String source) {
+        return meterRegistry.get("search.suggest.requests").tag("source", source).counter().count();
+    }
+
+    @Test
+    @DisplayName("should_answerFromLocalIndex_when_prefixMatches")
+    void should_answerFromLocalIndex_when_prefixMatches() {
+        // given
+        when(autocompleteIndex.isReady()).thenReturn(true);
+        when(autocompleteIndex.suggest("lap", 5)).thenReturn(List.of("laptop", "laptop stand"));
+
+        // when
+        List<String> result = suggestService.suggest("lap", 5);
+
+        // then
+        assertThat(result).containsExactly("laptop", "laptop stand");
+        verifyNoInteractions(esClient);
+        assertThat(requests("local")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should_fallBackToElasticsearch_when_localIndexHasNoMatch")
+    void should_fallBackToElasticsearch_when_localIndexHasNoMatch() throws IOException {
+        // given: 오타라 prefix가 맞지 않음
+        when(autocompleteIndex.isReady()).thenReturn(true);
+        when(autocompleteIndex.suggest("lpatop", 5)).thenReturn(List.of());
+        when(esClient.search(any(co.elastic.clients.elasticsearch.core.SearchRequest.class), eq(Void.class)))
+                .thenThrow(new IOException("Connection refused"));
+
+        // when
+        suggestService.suggest("lpatop", 5);
+
+        // then
+        verify(esClient).search(any(co.elastic.clients.elasticsearch.core.SearchRequest.class), eq(Void.class));
+        assertThat(requests("elasticsearch")).isEqualTo(1);
     }
 
     @Test
@@ -86,11 +129,7 @@ class SuggestServiceTest {
     @DisplayName("should_returnPopularKeywords_when_exists")
     void should_returnPopularKeywords_when_exists() {
         // given
-        Set<Object> keywords = new LinkedHashSet<>();
-        keywords.add("laptop");
-        keywords.add("phone");
-        keywords.add("tablet");
-        when(zSetOperations.reverseRange("search:popular", 0, 9)).thenReturn(keywords);
+        when(popularKeywordTracker.topKeywords(10)).thenReturn(List.of("laptop", "phone", "tablet"));
 
         // when
         List<String> result = suggestService.getPopularKeywords(10);
@@ -100,13 +139,17 @@ class SuggestServiceTest {
     }
 
     @Test
-    @DisplayName("should_incrementSearchCount_when_called")
-    void should_incrementSearchCount_when_called() {
+    @DisplayName("should_countLocallyWithoutRedisWrite_when_incrementSearchCount")
+    void should_countLocallyWithoutRedisWrite_when_incrementSearchCount() {
+        // given
+        when(popularKeywordTracker.record("laptop")).thenReturn(4L);
+
         // when
         suggestService.incrementSearchCount("laptop");
 
         // then
-        verify(zSetOperations).incrementScore("search:popular", "laptop", 1);
+        verify(autocompleteIndex).recordSearch("laptop", 4L);
+        verifyNoInteractions(redisTemplate);
     }
 
     @Test
@@ -125,7 +168,16 @@ class SuggestServiceTest {
 
     @Test
     @DisplayName("should_addRecentKeyword_when_called")
+    @SuppressWarnings("unchecked")
     void should_addRecentKeyword_when_called() {
+        // given: 파이프라인 콜백을 템플릿 mock에 실행
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            SessionCallback<Object> callback = invocation.getArgument(0);
+            callback.execute(redisTemplate);
+            return List.of(0L, 1L);
+        });
+        when(popularKeywordTracker.record("laptop")).thenReturn(5L);
+
         // when
         suggestService.addRecentKeyword("user-1", "laptop");
 
@@ -134,7 +186,9 @@ class SuggestServiceTest {
         verify(listOperations).remove(key, 0, "laptop");
         verify(listOperations).leftPush(key, "laptop");
         verify(listOperations).trim(key, 0, 19);
-        verify(zSetOperations).incrementScore("search:popular", "laptop", 1);
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+        verify(redisTemplate, never()).opsForZSet();
+        verify(autocompleteIndex).recordSearch("laptop", 5L);
     }
 
     @Test
@@ -0,0 +1,139 @@
+package com.portal.universe.shoppingservice.search.suggest;
+
+import com.portal.universe.shoppingservice.product.repository.ProductNameView;
+import com.portal.universe.shoppingservice.product.repository.ProductRepository;
+import com.portal.universe.shoppingservice.search.config.AutocompleteProperties;
+import com.portal.universe.shoppingservice.search.popular.PopularKeywordTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutocompleteIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PopularKeywordTracker popularKeywordTracker;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private AutocompleteProperties properties;
+    private AutocompleteIndex autocompleteIndex;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AutocompleteProperties();
+        autocompleteIndex = new AutocompleteIndex(productRepository, popularKeywordTracker, stringRedisTemplate,
+                redisMessageListenerContainer, properties);
+    }
+
+    private static ProductNameView product(long id, String name) {
+        return new ProductNameView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+
+    private void givenCatalog() {
+        when(productRepository.findNameViewsByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(product(1L, "노트북 가방"), product(2L, "게이밍 노트북"), product(3L, "모니터")));
+        Set<ZSetOperations.TypedTuple<String>> popular = new LinkedHashSet<>();
+        popular.add(ZSetOperations.TypedTuple.of("노트북", 41.6));
+        when(popularKeywordTracker.topWithScores(properties.getPopularLimit())).thenReturn(popular);
+    }
+
+    @Test
+    @DisplayName("should_rankPopularKeywordsFirst_when_builtFromCatalogAndPopular")
+    void should_rankPopularKeywordsFirst_when_builtFromCatalogAndPopular() {
+        // given
+        givenCatalog();
+
+        // when
+        autocompleteIndex.rebuild();
+
+        // then
+        assertThat(autocompleteIndex.isReady()).isTrue();
+        assertThat(autocompleteIndex.suggest("노트", 5)).containsExactly("노트북", "노트북 가방");
+        assertThat(autocompleteIndex.suggest("게이밍", 5)).containsExactly("게이밍 노트북");
+    }
+
+    @Test
+    @DisplayName("should_serveUpdatesImmediately_when_productNamesPublished")
+    void should_serveUpdatesImmediately_when_productNamesPublished() {
+        // given
+        givenCatalog();
+        autocompleteIndex.rebuild();
+
+        // when
+        autocompleteIndex.onProductNames("노트북 거치대\n무선 마우스");
+
+        // then
+        assertThat(autocompleteIndex.suggest("노트북 ", 5)).containsExactly("노트북 가방", "노트북 거치대");
+        assertThat(autocompleteIndex.suggest("무선", 5)).containsExactly("무선 마우스");
+    }
+
+    @Test
+    @DisplayName("should_keepResults_when_pendingFoldedIntoIndex")
+    void should_keepResults_when_pendingFoldedIntoIndex() {
+        // given
+        properties.setMaxPending(1);
+
+        // when
+        autocompleteIndex.upsertAll(List.of(SuggestTerm.of("laptop", 1), SuggestTerm.of("lamp", 2)));
+        autocompleteIndex.upsertAll(List.of(SuggestTerm.of("laptop", 7)));
+
+        // then
+        assertThat(autocompleteIndex.suggest("la", 5)).containsExactly("laptop", "lamp");
+    }
+
+    @Test
+    @DisplayName("should_ignoreRareKeyword_when_belowMinScore")
+    void should_ignoreRareKeyword_when_belowMinScore() {
+        // when
+        autocompleteIndex.recordSearch("asdfgh", 1L);
+        autocompleteIndex.recordSearch("keyboard", 3L);
+
+        // then
+        assertThat(autocompleteIndex.suggest("asd", 5)).isEmpty();
+        assertThat(autocompleteIndex.suggest("key", 5)).containsExactly("keyboard");
+    }
+
+    @Test
+    @DisplayName("should_publishJoinedNames_when_productsIndexed")
+    void should_publishJoinedNames_when_productsIndexed() {
+        // when
+        autocompleteIndex.publishProductNames(List.of("노트북", "마우스"));
+        autocompleteIndex.publishProductNames(List.of());
+
+        // then
+        verify(stringRedisTemplate, times(1)).convertAndSend(AutocompleteIndex.PRODUCTS_CHANNEL, "노트북\n마우스");
+    }
+}
@@ -0,0 +1,71 @@
+package com.portal.universe.shoppingservice.search.suggest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 100만 개 후보에서 prefix 상위 10개 조회 비용을 측정합니다.
+ * prefix 길이별(짧을수록 매칭 구간이 큼) 평균 조회 시간과 인덱스 구성 시간을 기록합니다.
+ */
+@Slf4j
+@Disabled("벤치마크 - 수동 실행")
+class PrefixIndexBenchmarkTest {
+
+    private static final int TERMS = 1_000_000;
+    private static final int WARMUP = 200_000;
+    private static final int LOOKUPS = 1_000_000;
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하노트북모니터키보드마우스";
+
+    @Test
+    @DisplayName("100만 후보 prefix 조회 ns/op")
+    void measurePrefixLookup() {
+        Random random = new Random(42);
+        List<SuggestTerm> terms = new ArrayList<>(TERMS);
+        for (int i = 0; i < TERMS; i++) {
+            // 인기 검색어 분포처럼 소수 후보에 큰 가중치
+            terms.add(SuggestTerm.of(randomWord(random, 2 + random.nextInt(8)), (long) (1000 / (1 + random.nextInt(1000)))));
+        }
+
+        long buildStarted = System.nanoTime();
+        PrefixIndex index = PrefixIndex.build(terms);
+        log.info("Built {} unique terms in {} ms", index.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - buildStarted));
+
+        for (int prefixLength = 1; prefixLength <= 4; prefixLength++) {
+            String[] prefixes = new String[1024];
+            for (int i = 0; i < prefixes.length; i++) {
+                prefixes[i] = SuggestTerm.normalize(randomWord(random, prefixLength));
+            }
+
+            long sink = 0;
+            for (int i = 0; i < WARMUP; i++) {
+                sink += index.top(prefixes[i & 1023], 10).size();
+            }
+            long started = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                sink += index.top(prefixes[i & 1023], 10).size();
+            }
+            long elapsed = System.nanoTime() - started;
+
+            assertThat(sink).isPositive();
+            log.info("prefix length {}: {} ns/op", prefixLength, elapsed / LOOKUPS);
+        }
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return word.toString();
+    }
+}
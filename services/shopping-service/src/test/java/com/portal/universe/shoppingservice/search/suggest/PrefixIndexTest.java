@@ -0,0 +1,100 @@
+package com.portal.universe.shoppingservice.search.suggest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixIndexTest {
+
+    private static List<String> texts(List<SuggestTerm> terms) {
+        return terms.stream().map(SuggestTerm::text).toList();
+    }
+
+    @Test
+    @DisplayName("should_returnTopWeightedMatches_when_prefixGiven")
+    void should_returnTopWeightedMatches_when_prefixGiven() {
+        // given
+        PrefixIndex index = PrefixIndex.build(List.of(
+                SuggestTerm.of("노트북", 50),
+                SuggestTerm.of("노트북 가방", 10),
+                SuggestTerm.of("노트", 10),
+                SuggestTerm.of("노트북 거치대", 30),
+                SuggestTerm.of("모니터", 100)));
+
+        // when & then
+        assertThat(texts(index.top("노트", 3))).containsExactly("노트북", "노트북 거치대", "노트");
+        assertThat(texts(index.top("노트북 ", 5))).containsExactly("노트북 거치대", "노트북 가방");
+        assertThat(index.top("키보드", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should_matchCaseAndSpacingInsensitively_when_normalized")
+    void should_matchCaseAndSpacingInsensitively_when_normalized() {
+        // given
+        PrefixIndex index = PrefixIndex.build(List.of(SuggestTerm.of("  Gaming   Laptop ", 1)));
+
+        // when & then
+        assertThat(texts(index.top(SuggestTerm.normalize("gaming l"), 5))).containsExactly("Gaming   Laptop");
+    }
+
+    @Test
+    @DisplayName("should_keepHeavierTerm_when_mergingSameKey")
+    void should_keepHeavierTerm_when_mergingSameKey() {
+        // given
+        PrefixIndex index = PrefixIndex.build(List.of(SuggestTerm.of("laptop", 0), SuggestTerm.of("lamp", 5)));
+
+        // when
+        PrefixIndex merged = index.merge(List.of(SuggestTerm.of("laptop", 9), SuggestTerm.of("lazy", 1)));
+
+        // then
+        assertThat(merged.size()).isEqualTo(3);
+        assertThat(texts(merged.top("la", 3))).containsExactly("laptop", "lamp", "lazy");
+        assertThat(texts(index.top("la", 3))).containsExactly("lamp", "laptop");
+    }
+
+    @Test
+    @DisplayName("should_matchBruteForce_when_randomTerms")
+    void should_matchBruteForce_when_randomTerms() {
+        // given
+        Random random = new Random(7);
+        List<SuggestTerm> initial = new ArrayList<>();
+        TreeMap<String, SuggestTerm> updates = new TreeMap<>();
+        Map<String, SuggestTerm> expected = new HashMap<>();
+        for (int i = 0; i < 4000; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = 1 + random.nextInt(5);
+            for (int j = 0; j < length; j++) {
+                text.append((char) ('a' + random.nextInt(4)));
+            }
+            SuggestTerm term = SuggestTerm.of(text.toString(), random.nextInt(30));
+            if (i % 2 == 0) {
+                initial.add(term);
+            } else {
+                updates.merge(term.key(), term, SuggestTerm::stronger);
+            }
+            expected.merge(term.key(), term, SuggestTerm::stronger);
+        }
+
+        // when
+        PrefixIndex index = PrefixIndex.build(initial).merge(updates.values());
+
+        // then
+        for (String prefix : List.of("a", "b", "ab", "cd", "abc", "dddd")) {
+            List<SuggestTerm> bruteForce = expected.values().stream()
+                    .filter(term -> term.key().startsWith(prefix))
+                    .sorted(Comparator.comparingLong(SuggestTerm::weight).reversed().thenComparing(SuggestTerm::key))
+                    .limit(10)
+                    .toList();
+            assertThat(index.top(prefix, 10)).as("prefix %s", prefix).isEqualTo(bruteForce);
+        }
+    }
+}
@@ -80,17 +80,31 @@ class TimeDealRedisServiceTest {
     }
 
     @Test
-    @DisplayName("should_returnZero_when_productSoldOut")
-    void should_returnZero_when_productSoldOut() {
+    @DisplayName("should_returnSoldOut_when_productSoldOut")
+    void should_returnSoldOut_when_productSoldOut() {
         // given
         when(stringRedisTemplate.execute(eq(timeDealPurchaseScript), anyList(), any(), any()))
-                .thenReturn(0L);
+                .thenReturn(-2L);
 
         // when
         Long result = timeDealRedisService.purchaseProduct(1L, 10L, "user-1", 1, 5);
 
         // then
-        assertThat(result).isEqualTo(0L);
+        assertThat(result).isEqualTo(TimeDealRedisService.PURCHASE_SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("should_returnInsufficientStock_when_quantityExceedsRemainingStock")
+    void should_returnInsufficientStock_when_quantityExceedsRemainingStock() {
+        // given
+        when(stringRedisTemplate.execute(eq(timeDealPurchaseScript), anyList(), any(), any()))
+                .thenReturn(-3L);
+
+        // when
+        Long result = timeDealRedisService.purchaseProduct(1L, 10L, "user-1", 2, 5);
+
+        // then
+        assertThat(result).isEqualTo(TimeDealRedisService.PURCHASE_INSUFFICIENT_STOCK);
     }
 
     @Test
@@ -147,7 +161,7 @@ class TimeDealRedisServiceTest {
         timeDealRedisService.deleteTimeDealCache(timeDealId, productId);
 
         // then
-        verify(stringRedisTemplate).delete("timedeal:stock:1:10");
+        verify(stringRedisTemplate).delete(Arrays.asList("timedeal:stock:1:10", "timedeal:warmup:1:10"));
     }
 
     @Test
@@ -164,5 +178,6 @@ class TimeDealRedisServiceTest {
 
         // then
         verify(stringRedisTemplate).expire("timedeal:stock:1:10", timeout, unit);
+        verify(stringRedisTemplate).expire("timedeal:warmup:1:10", timeout, unit);
     }
 }
@@ -3,8 +3,11 @@ package com.portal.universe.shoppingservice.timedeal.scheduler;
 import com.portal.universe.shoppingservice.product.domain.Product;
 import com.portal.universe.shoppingservice.timedeal.domain.TimeDeal;
 import com.portal.universe.shoppingservice.timedeal.domain.TimeDealProduct;
+import com.portal.universe.shoppingservice.timedeal.domain.TimeDealStatus;
 import com.portal.universe.shoppingservice.timedeal.redis.TimeDealRedisService;
+import com.portal.universe.shoppingservice.timedeal.repository.TimeDealProductRepository;
 import com.portal.universe.shoppingservice.timedeal.repository.TimeDealRepository;
+import com.portal.universe.shoppingservice.timedeal.service.ActiveTimeDealCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,9 +30,15 @@ class TimeDealSchedulerTest {
     @Mock
     private TimeDealRepository timeDealRepository;
 
+    @Mock
+    private TimeDealProductRepository timeDealProductRepository;
+
     @Mock
     private TimeDealRedisService timeDealRedisService;
 
+    @Mock
+    private ActiveTimeDealCache activeTimeDealCache;
+
     @InjectMocks
     private TimeDealScheduler timeDealScheduler;
 
@@ -88,9 +97,42 @@ class TimeDealSchedulerTest {
         timeDealScheduler.updateTimeDealStatus();
 
         verify(timeDealRepository).saveAll(List.of(deal));
+        verify(timeDealProductRepository).syncSoldQuantities(List.of(1L));
         verify(timeDealRedisService).deleteTimeDealCache(1L, 10L);
     }
 
+    @Test
+    @DisplayName("should sync sold quantity of active deals from purchases")
+    void should_sync_sold_quantities() {
+        TimeDeal deal = createTimeDealWithProduct();
+        deal.activate();
+        when(timeDealRepository.findByStatus(TimeDealStatus.ACTIVE)).thenReturn(List.of(deal));
+
+        timeDealScheduler.syncSoldQuantities();
+
+        verify(timeDealProductRepository).syncSoldQuantities(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("should skip sold quantity sync when no deal is active")
+    void should_skip_sync_when_no_active_deals() {
+        when(timeDealRepository.findByStatus(TimeDealStatus.ACTIVE)).thenReturn(Collections.emptyList());
+
+        timeDealScheduler.syncSoldQuantities();
+
+        verify(timeDealProductRepository, never()).syncSoldQuantities(anyCollection());
+    }
+
+    @Test
+    @DisplayName("should keep running when cache refresh fails")
+    void should_swallow_cache_refresh_failure() {
+        doThrow(new RuntimeException("db down")).when(activeTimeDealCache).refresh();
+
+        timeDealScheduler.refreshActiveDealCache();
+
+        verify(activeTimeDealCache).refresh();
+    }
+
     @Test
     @DisplayName("should handle empty lists gracefully")
     void should_handle_empty_lists() {
@@ -0,0 +1,190 @@
+package com.portal.universe.shoppingservice.timedeal.service;
+
+import com.portal.universe.commonlibrary.exception.CustomBusinessException;
+import com.portal.universe.shoppingservice.product.domain.Product;
+import com.portal.universe.shoppingservice.product.repository.ProductRepository;
+import com.portal.universe.shoppingservice.purchase.config.PurchasePersistenceProperties;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRedisService;
+import com.portal.universe.shoppingservice.queue.service.QueueService;
+import com.portal.universe.shoppingservice.timedeal.domain.TimeDeal;
+import com.portal.universe.shoppingservice.timedeal.domain.TimeDealProduct;
+import com.portal.universe.shoppingservice.timedeal.domain.TimeDealPurchase;
+import com.portal.universe.shoppingservice.timedeal.domain.TimeDealStatus;
+import com.portal.universe.shoppingservice.timedeal.dto.TimeDealPurchaseRequest;
+import com.portal.universe.shoppingservice.timedeal.redis.TimeDealRedisService;
+import com.portal.universe.shoppingservice.timedeal.repository.TimeDealProductRepository;
+import com.portal.universe.shoppingservice.timedeal.repository.TimeDealPurchaseRepository;
+import com.portal.universe.shoppingservice.timedeal.repository.TimeDealRepository;
+import com.redis.testcontainers.RedisContainer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단일 타임딜 상품 구매 처리량 부하 하네스입니다.
+ * 로컬 Redis(Testcontainers)의 실제 구매 Lua 스크립트와 로컬 캐시를 사용하고 DB 저장소는 mock으로 대체해,
+ * 한 상품에 구매가 몰릴 때의 초당 구매 수와 매진 이후 요청이 Redis 없이 거절되는 속도를 측정합니다.
+ */
+@Slf4j
+@Disabled("부하 테스트 - Docker/Testcontainers 환경 필요, 수동 실행")
+class TimeDealPurchaseLoadTest {
+
+    private static final int STOCK = 20_000;
+    private static final int BUYERS = 30_000;
+    private static final int THREADS = 64;
+    private static final long TIME_DEAL_PRODUCT_ID = 10L;
+
+    private static final RedisContainer redisContainer =
+            new RedisContainer(DockerImageName.parse("redis:7-alpine"));
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() {
+        redisContainer.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisContainer.stop();
+    }
+
+    @Test
+    @DisplayName("단일 타임딜 상품 구매 처리량")
+    void purchasesPerSecondOnOneDealProduct() throws InterruptedException {
+        // given
+        DefaultRedisScript<Long> purchaseScript = new DefaultRedisScript<>();
+        purchaseScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/timedeal_purchase.lua")));
+        purchaseScript.setResultType(Long.class);
+        TimeDealRedisService redisService = new TimeDealRedisService(redisTemplate, purchaseScript);
+
+        TimeDealProduct dealProduct = createDealProduct();
+        TimeDealRepository timeDealRepository = mock(TimeDealRepository.class);
+        TimeDealProductRepository timeDealProductRepository = mock(TimeDealProductRepository.class);
+        TimeDealPurchaseRepository timeDealPurchaseRepository = mock(TimeDealPurchaseRepository.class);
+        when(timeDealRepository.findByStatusWithProducts(TimeDealStatus.ACTIVE))
+                .thenReturn(List.of(dealProduct.getTimeDeal()));
+        when(timeDealProductRepository.findByIdWithProductAndDeal(TIME_DEAL_PRODUCT_ID))
+                .thenReturn(Optional.of(dealProduct));
+        when(timeDealProductRepository.getReferenceById(TIME_DEAL_PRODUCT_ID)).thenReturn(dealProduct);
+        when(timeDealPurchaseRepository.save(any(TimeDealPurchase.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        ActiveTimeDealCache cache = new ActiveTimeDealCache(timeDealRepository, timeDealProductRepository, redisService);
+        cache.refresh();
+        TimeDealServiceImpl service = new TimeDealServiceImpl(timeDealRepository, timeDealProductRepository,
+                timeDealPurchaseRepository, mock(ProductRepository.class), redisService, mock(QueueService.class), cache,
+                new PurchasePersistenceProperties(), mock(PurchaseRedisService.class));
+
+        redisService.initializeStock(1L, 1L, STOCK);
+
+        TimeDealPurchaseRequest request = TimeDealPurchaseRequest.builder()
+                .timeDealProductId(TIME_DEAL_PRODUCT_ID)
+                .quantity(1)
+                .build();
+        AtomicInteger purchased = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger buyerSequence = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(BUYERS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < BUYERS; i++) {
+            executor.submit(() -> {
+                try {
+                    service.purchaseTimeDeal("user-" + buyerSequence.getAndIncrement(), request);
+                    purchased.incrementAndGet();
+                } catch (CustomBusinessException e) {
+                    rejected.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await(5, TimeUnit.MINUTES);
+        long elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        executor.shutdown();
+
+        // 매진 이후 요청은 로컬 플래그로 거절되어야 함
+        long soldOutStart = System.nanoTime();
+        int soldOutRequests = 100_000;
+        for (int i = 0; i < soldOutRequests; i++) {
+            try {
+                service.purchaseTimeDeal("late-" + i, request);
+            } catch (CustomBusinessException ignored) {
+                // 매진
+            }
+        }
+        long soldOutMillis = Math.max((System.nanoTime() - soldOutStart) / 1_000_000, 1);
+
+        log.info("TimeDeal purchase on one product: {} purchased, {} rejected in {} ms ({} purchases/sec, {} threads)",
+                purchased.get(), rejected.get(), elapsedMillis, purchased.get() * 1000L / elapsedMillis, THREADS);
+        log.info("Sold-out short-circuit: {} requests in {} ms ({} rejections/sec)",
+                soldOutRequests, soldOutMillis, soldOutRequests * 1000L / soldOutMillis);
+
+        // then: 초과 판매 없음, 판매 수량 행은 구매마다 갱신되지 않음
+        assertThat(purchased.get()).isEqualTo(STOCK);
+        assertThat(rejected.get()).isEqualTo(BUYERS - STOCK);
+        assertThat(redisService.getStock(1L, 1L)).isZero();
+        assertThat(cache.isSoldOut(TIME_DEAL_PRODUCT_ID)).isTrue();
+        verify(timeDealProductRepository, never()).save(any(TimeDealProduct.class));
+    }
+
+    private TimeDealProduct createDealProduct() {
+        TimeDeal deal = TimeDeal.builder()
+                .name("부하 테스트 타임딜")
+                .startsAt(LocalDateTime.now().minusHours(1))
+                .endsAt(LocalDateTime.now().plusHours(1))
+                .build();
+        ReflectionTestUtils.setField(deal, "id", 1L);
+        deal.activate();
+
+        Product product = Product.builder()
+                .name("부하 테스트 상품")
+                .price(new BigDecimal("10000"))
+                .stock(STOCK)
+                .build();
+        ReflectionTestUtils.setField(product, "id", 1L);
+
+        TimeDealProduct dealProduct = TimeDealProduct.builder()
+                .product(product)
+                .dealPrice(new BigDecimal("5000"))
+                .dealQuantity(STOCK)
+                .maxPerUser(1)
+                .build();
+        ReflectionTestUtils.setField(dealProduct, "id", TIME_DEAL_PRODUCT_ID);
+        deal.addProduct(dealProduct);
+        return dealProduct;
+    }
+}
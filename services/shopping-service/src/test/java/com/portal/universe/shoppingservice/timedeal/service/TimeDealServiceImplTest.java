@@ -1,8 +1,14 @@
 package com.portal.universe.shoppingservice.timedeal.service;
 
 import com.portal.universe.commonlibrary.exception.CustomBusinessException;
+import com.portal.universe.shoppingservice.common.exception.ShoppingErrorCode;
 import com.portal.universe.shoppingservice.product.domain.Product;
 import com.portal.universe.shoppingservice.product.repository.ProductRepository;
+import com.portal.universe.shoppingservice.purchase.config.PurchasePersistenceProperties;
+import com.portal.universe.shoppingservice.purchase.domain.PurchaseStatus;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRedisService;
+import com.portal.universe.shoppingservice.purchase.redis.PurchaseRequest;
+import com.portal.universe.shoppingservice.queue.service.QueueService;
 import com.portal.universe.shoppingservice.timedeal.domain.*;
 import com.portal.universe.shoppingservice.timedeal.dto.TimeDealCreateRequest;
 import com.portal.universe.shoppingservice.timedeal.dto.TimeDealPurchaseRequest;
@@ -16,8 +22,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -33,6 +41,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,6 +62,18 @@ class TimeDealServiceImplTest {
     @Mock
     private TimeDealRedisService timeDealRedisService;
 
+    @Mock
+    private QueueService queueService;
+
+    @Mock
+    private ActiveTimeDealCache activeTimeDealCache;
+
+    @Spy
+    private PurchasePersistenceProperties purchasePersistenceProperties = new PurchasePersistenceProperties();
+
+    @Mock
+    private PurchaseRedisService purchaseRedisService;
+
     @InjectMocks
     private TimeDealServiceImpl timeDealService;
 
@@ -283,13 +304,12 @@ class TimeDealServiceImplTest {
             TimeDealProduct tdp = createTimeDealProduct(10L, timeDeal, product,
                     BigDecimal.valueOf(5000), 50, 0, 2);
 
-            when(timeDealProductRepository.findByIdWithProductAndDeal(10L))
-                    .thenReturn(Optional.of(tdp));
+            when(activeTimeDealCache.get(10L)).thenReturn(Optional.of(ActiveTimeDealCache.DealProduct.from(tdp)));
             when(timeDealRedisService.purchaseProduct(1L, 1L, "user1", 1, 2)).thenReturn(49L);
 
+            when(timeDealProductRepository.getReferenceById(10L)).thenReturn(tdp);
             TimeDealPurchase purchase = createTimeDealPurchase(1L, "user1", tdp, 1);
             when(timeDealPurchaseRepository.save(any(TimeDealPurchase.class))).thenReturn(purchase);
-            when(timeDealProductRepository.save(any(TimeDealProduct.class))).thenReturn(tdp);
 
             TimeDealPurchaseRequest request = TimeDealPurchaseRequest.builder()
                     .timeDealProductId(10L)
@@ -301,7 +321,123 @@ class TimeDealServiceImplTest {
 
             // then
             assertThat(result).isNotNull();
+            assertThat(result.productName()).isEqualTo("Product A");
             verify(timeDealPurchaseRepository).save(any(TimeDealPurchase.class));
+            verify(timeDealProductRepository, never()).save(any(TimeDealProduct.class));
+            verify(activeTimeDealCache, never()).markSoldOut(anyLong());
+            verify(queueService).releaseSlot("TIMEDEAL", 1L, "user1");
+            verify(purchaseRedisService, never()).enqueue(any());
+        }
+
+        @Test
+        @DisplayName("should_enqueuePurchase_when_asyncPersistence")
+        void should_enqueuePurchase_when_asyncPersistence() {
+            // given
+            purchasePersistenceProperties.setMode(PurchasePersistenceProperties.PersistenceMode.ASYNC);
+            Product product = createProduct(1L, "Product A", BigDecimal.valueOf(10000));
+            TimeDeal timeDeal = createTimeDeal(1L, "Flash Sale", TimeDealStatus.ACTIVE,
+                    LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(5));
+            TimeDealProduct tdp = createTimeDealProduct(10L, timeDeal, product,
+                    BigDecimal.valueOf(5000), 50, 0, 2);
+
+            when(activeTimeDealCache.get(10L)).thenReturn(Optional.of(ActiveTimeDealCache.DealProduct.from(tdp)));
+            when(timeDealRedisService.purchaseProduct(1L, 1L, "user1", 2, 2)).thenReturn(48L);
+
+            TimeDealPurchaseRequest request = TimeDealPurchaseRequest.builder()
+                    .timeDealProductId(10L)
+                    .quantity(2)
+                    .build();
+
+            // when
+            TimeDealPurchaseResponse result = timeDealService.purchaseTimeDeal("user1", request);
+
+            // then
+            ArgumentCaptor<PurchaseRequest> captor = ArgumentCaptor.forClass(PurchaseRequest.class);
+            verify(purchaseRedisService).enqueue(captor.capture());
+            PurchaseRequest enqueued = captor.getValue();
+            assertThat(enqueued.targetId()).isEqualTo(10L);
+            assertThat(enqueued.timeDealId()).isEqualTo(1L);
+            assertThat(enqueued.productId()).isEqualTo(1L);
+            assertThat(enqueued.quantity()).isEqualTo(2);
+            assertThat(result.requestId()).isEqualTo(enqueued.requestId());
+            assertThat(result.persistenceStatus()).isEqualTo(PurchaseStatus.PENDING);
+            assertThat(result.totalPrice()).isEqualByComparingTo("10000");
+            verify(timeDealPurchaseRepository, never()).save(any(TimeDealPurchase.class));
+            verify(queueService).releaseSlot("TIMEDEAL", 1L, "user1");
+        }
+
+        @Test
+        @DisplayName("should_rollbackRedisStock_when_enqueueFails")
+        void should_rollbackRedisStock_when_enqueueFails() {
+            // given
+            purchasePersistenceProperties.setMode(PurchasePersistenceProperties.PersistenceMode.ASYNC);
+            Product product = createProduct(1L, "Product A", BigDecimal.valueOf(10000));
+            TimeDeal timeDeal = createTimeDeal(1L, "Flash Sale", TimeDealStatus.ACTIVE,
+                    LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(5));
+            TimeDealProduct tdp = createTimeDealProduct(10L, timeDeal, product,
+                    BigDecimal.valueOf(5000), 50, 0, 2);
+
+            when(activeTimeDealCache.get(10L)).thenReturn(Optional.of(ActiveTimeDealCache.DealProduct.from(tdp)));
+            when(timeDealRedisService.purchaseProduct(1L, 1L, "user1", 1, 2)).thenReturn(49L);
+            doThrow(new IllegalStateException("redis down")).when(purchaseRedisService).enqueue(any());
+
+            TimeDealPurchaseRequest request = TimeDealPurchaseRequest.builder()
+                    .timeDealProductId(10L)
+                    .quantity(1)
+                    .build();
+
+            // when & then
+            assertThatThrownBy(() -> timeDealService.purchaseTimeDeal("user1", request))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(timeDealRedisService).rollbackStock(1L, 1L, "user1", 1);
+            verify(queueService, never()).releaseSlot(any(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("should_markSoldOut_when_lastStockPurchased")
+        void should_markSoldOut_when_lastStockPurchased() {
+            // given
+            Product product = createProduct(1L, "Product A", BigDecimal.valueOf(10000));
+            TimeDeal timeDeal = createTimeDeal(1L, "Flash Sale", TimeDealStatus.ACTIVE,
+                    LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(5));
+            TimeDealProduct tdp = createTimeDealProduct(10L, timeDeal, product,
+                    BigDecimal.valueOf(5000), 50, 49, 2);
+
+            when(activeTimeDealCache.get(10L)).thenReturn(Optional.of(ActiveTimeDealCache.DealProduct.from(tdp)));
+            when(timeDealRedisService.purchaseProduct(1L, 1L, "user1", 1, 2)).thenReturn(0L);
+            when(timeDealProductRepository.getReferenceById(10L)).thenReturn(tdp);
+            when(timeDealPurchaseRepository.save(any(TimeDealPurchase.class)))
+                    .thenReturn(createTimeDealPurchase(1L, "user1", tdp, 1));
+
+            TimeDealPurchaseRequest request = TimeDealPurchaseRequest.builder()
+                    .timeDealProductId(10L)
+                    .quantity(1)
+                    .build();
+
+            // when
+            TimeDealPurchaseResponse result = timeDealService.purchaseTimeDeal("user1", request);
+
+            // then
+            assertThat(result).isNotNull();
+            verify(activeTimeDealCache).markSoldOut(10L);
+        }
+
+        @Test
+        @DisplayName("should_rejectWithoutRedis_when_productFlaggedSoldOut")
+        void should_rejectWithoutRedis_when_productFlaggedSoldOut() {
+            // given
+            when(activeTimeDealCache.isSoldOut(10L)).thenReturn(true);
+
+            TimeDealPurchaseRequest request = TimeDealPurchaseRequest.builder()
+                    .timeDealProductId(10L)
+                    .quantity(1)
+                    .build();
+
+            // when & then
+            assertThatThrownBy(() -> timeDealService.purchaseTimeDeal("user1", request))
+                    .isInstanceOf(CustomBusinessException.class);
+            verify(activeTimeDealCache, never()).get(anyLong());
+            verifyNoInteractions(timeDealRedisService, timeDealPurchaseRepository);
         }
 
         @Test
@@ -314,8 +450,7 @@ class TimeDealServiceImplTest {
             TimeDealProduct tdp = createTimeDealProduct(10L, timeDeal, product,
                     BigDecimal.valueOf(5000), 50, 0, 2);
 
-            when(timeDealProductRepository.findByIdWithProductAndDeal(10L))
-                    .thenReturn(Optional.of(tdp));
+            when(activeTimeDealCache.get(10L)).thenReturn(Optional.of(ActiveTimeDealCache.DealProduct.from(tdp)));
 
             TimeDealPurchaseRequest request = TimeDealPurchaseRequest.builder()
                     .timeDealProductId(10L)
@@ -337,9 +472,8 @@ class TimeDealServiceImplTest {
             TimeDealProduct tdp = createTimeDealProduct(10L, timeDeal, product,
                     BigDecimal.valueOf(5000), 50, 0, 2);
 
-            when(timeDealProductRepository.findByIdWithProductAndDeal(10L))
-                    .thenReturn(Optional.of(tdp));
-            when(timeDealRedisService.purchaseProduct(1L, 1L, "user1", 1, 2)).thenReturn(0L);
+            when(activeTimeDealCache.get(10L)).thenReturn(Optional.of(ActiveTimeDealCache.DealProduct.from(tdp)));
+            when(timeDealRedisService.purchaseProduct(1L, 1L, "user1", 1, 2)).thenReturn(TimeDealRedisService.PURCHASE_SOLD_OUT);
 
             TimeDealPurchaseRequest request = TimeDealPurchaseRequest.builder()
                     .timeDealProductId(10L)
@@ -349,6 +483,33 @@ class TimeDealServiceImplTest {
             // when & then
             assertThatThrownBy(() -> timeDealService.purchaseTimeDeal("user1", request))
                     .isInstanceOf(CustomBusinessException.class);
+            verify(activeTimeDealCache).markSoldOut(10L);
+        }
+
+        @Test
+        @DisplayName("should_notMarkSoldOut_when_quantityExceedsRemainingStock")
+        void should_notMarkSoldOut_when_quantityExceedsRemainingStock() {
+            // given: 남은 재고 1개에 2개 요청
+            Product product = createProduct(1L, "Product A", BigDecimal.valueOf(10000));
+            TimeDeal timeDeal = createTimeDeal(1L, "Flash Sale", TimeDealStatus.ACTIVE,
+                    LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(5));
+            TimeDealProduct tdp = createTimeDealProduct(10L, timeDeal, product,
+                    BigDecimal.valueOf(5000), 50, 49, 2);
+
+            when(activeTimeDealCache.get(10L)).thenReturn(Optional.of(ActiveTimeDealCache.DealProduct.from(tdp)));
+            when(timeDealRedisService.purchaseProduct(1L, 1L, "user1", 2, 2))
+                    .thenReturn(TimeDealRedisService.PURCHASE_INSUFFICIENT_STOCK);
+
+            TimeDealPurchaseRequest request = TimeDealPurchaseRequest.builder()
+                    .timeDealProductId(10L)
+                    .quantity(2)
+                    .build();
+
+            // when & then
+            assertThatThrownBy(() -> timeDealService.purchaseTimeDeal("user1", request))
+                    .isInstanceOf(CustomBusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ShoppingErrorCode.TIMEDEAL_INSUFFICIENT_STOCK);
+            verify(activeTimeDealCache, never()).markSoldOut(anyLong());
         }
 
         @Test
@@ -361,8 +522,7 @@ class TimeDealServiceImplTest {
             TimeDealProduct tdp = createTimeDealProduct(10L, timeDeal, product,
                     BigDecimal.valueOf(5000), 50, 0, 2);
 
-            when(timeDealProductRepository.findByIdWithProductAndDeal(10L))
-                    .thenReturn(Optional.of(tdp));
+            when(activeTimeDealCache.get(10L)).thenReturn(Optional.of(ActiveTimeDealCache.DealProduct.from(tdp)));
             when(timeDealRedisService.purchaseProduct(1L, 1L, "user1", 1, 2)).thenReturn(-1L);
 
             TimeDealPurchaseRequest request = TimeDealPurchaseRequest.builder()
@@ -385,8 +545,7 @@ class TimeDealServiceImplTest {
             TimeDealProduct tdp = createTimeDealProduct(10L, timeDeal, product,
                     BigDecimal.valueOf(5000), 50, 0, 2);
 
-            when(timeDealProductRepository.findByIdWithProductAndDeal(10L))
-                    .thenReturn(Optional.of(tdp));
+            when(activeTimeDealCache.get(10L)).thenReturn(Optional.of(ActiveTimeDealCache.DealProduct.from(tdp)));
 
             TimeDealPurchaseRequest request = TimeDealPurchaseRequest.builder()
                     .timeDealProductId(10L)
@@ -448,6 +607,7 @@ class TimeDealServiceImplTest {
 
             // then
             verify(timeDealRepository).save(any(TimeDeal.class));
+            verify(activeTimeDealCache).evictDeal(1L);
             verify(timeDealRedisService).deleteTimeDealCache(1L, 1L);
         }
 